@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.github.tommyettinger.colorful.oklab.ColorBuffer;
+import com.github.tommyettinger.colorful.oklab.ColorPipeline;
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a four-step edit to 65536 packed Oklab colors, either one packed float at a time with {@link ColorTools} or
+ * with a {@link ColorPipeline}, or to a {@link ColorBuffer} that is unpacked and packed again around the edits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ColorBufferBenchmark {
+    public static final int SIZE = 1 << 16;
+
+    public float[] original;
+    public float[] colors;
+    public ColorBuffer buffer;
+    public ColorPipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0xC010FA1L);
+        original = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            original[i] = ColorTools.fromRGBA8888(random.nextInt() | 255);
+        }
+        colors = new float[SIZE];
+        buffer = new ColorBuffer(SIZE);
+        pipeline = new ColorPipeline().lighten(0.1f).raiseA(0.05f).fade(0.1f).limitToGamut();
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(original, 0, colors, 0, SIZE);
+    }
+
+    @Benchmark
+    public float[] chained() {
+        for (int i = 0; i < SIZE; i++) {
+            colors[i] = ColorTools.limitToGamut(ColorTools.fade(ColorTools.raiseA(ColorTools.lighten(colors[i],
+                    0.1f), 0.05f), 0.1f));
+        }
+        return colors;
+    }
+
+    @Benchmark
+    public float[] pipeline() {
+        return pipeline.apply(colors);
+    }
+
+    @Benchmark
+    public float[] bufferOperations() {
+        buffer.unpack(colors, 0, SIZE);
+        buffer.lerp(1f, 0.5f, 0.5f, 1f, 0.1f);
+        buffer.offset(0f, 0.05f, 0f, 0f).scale(1f, 1f, 1f, 0.9f);
+        return buffer.limitToGamut().pack(colors, 0);
+    }
+
+    @Benchmark
+    public float[] bufferPipeline() {
+        buffer.unpack(colors, 0, SIZE);
+        return pipeline.apply(buffer).pack(colors, 0);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the analytic {@code fromRGBA8888()} conversions against each kind of {@code ColorLut},
+ * for Oklab, IPT_HQ, and CIELAB. Each invocation converts {@link #SIZE} colors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ColorLutBenchmark {
+    public static final int SIZE = 4096;
+
+    public int[] rgba;
+    public float[] out;
+
+    public com.github.tommyettinger.colorful.oklab.ColorLut oklab33, oklab65, oklab666;
+    public com.github.tommyettinger.colorful.ipt_hq.ColorLut iptHQ33, iptHQ65, iptHQ666;
+    public com.github.tommyettinger.colorful.cielab.ColorLut cielab33, cielab65, cielab666;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0xC010FA1L);
+        rgba = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            rgba[i] = random.nextInt() | 0xFF;
+        }
+        out = new float[SIZE];
+        oklab33 = com.github.tommyettinger.colorful.oklab.ColorLut.getTrilinear33();
+        oklab65 = com.github.tommyettinger.colorful.oklab.ColorLut.getTrilinear65();
+        oklab666 = com.github.tommyettinger.colorful.oklab.ColorLut.getDirect666();
+        iptHQ33 = com.github.tommyettinger.colorful.ipt_hq.ColorLut.getTrilinear33();
+        iptHQ65 = com.github.tommyettinger.colorful.ipt_hq.ColorLut.getTrilinear65();
+        iptHQ666 = com.github.tommyettinger.colorful.ipt_hq.ColorLut.getDirect666();
+        cielab33 = com.github.tommyettinger.colorful.cielab.ColorLut.getTrilinear33();
+        cielab65 = com.github.tommyettinger.colorful.cielab.ColorLut.getTrilinear65();
+        cielab666 = com.github.tommyettinger.colorful.cielab.ColorLut.getDirect666();
+    }
+
+    @Benchmark
+    public float[] oklabAnalytic() {
+        for (int i = 0; i < SIZE; i++) out[i] = com.github.tommyettinger.colorful.oklab.ColorTools.fromRGBA8888(rgba[i]);
+        return out;
+    }
+
+    @Benchmark
+    public float[] oklabTrilinear33() {
+        return oklab33.fromRGBA8888(rgba, 0, out, 0, SIZE);
+    }
+
+    @Benchmark
+    public float[] oklabTrilinear65() {
+        return oklab65.fromRGBA8888(rgba, 0, out, 0, SIZE);
+    }
+
+    @Benchmark
+    public float[] oklabDirect666() {
+        return oklab666.fromRGBA8888(rgba, 0, out, 0, SIZE);
+    }
+
+    @Benchmark
+    public float[] iptHQAnalytic() {
+        for (int i = 0; i < SIZE; i++) out[i] = com.github.tommyettinger.colorful.ipt_hq.ColorTools.fromRGBA8888(rgba[i]);
+        return out;
+    }
+
+    @Benchmark
+    public float[] iptHQTrilinear33() {
+        return iptHQ33.fromRGBA8888(rgba, 0, out, 0, SIZE);
+    }
+
+    @Benchmark
+    public float[] iptHQTrilinear65() {
+        return iptHQ65.fromRGBA8888(rgba, 0, out, 0, SIZE);
+    }
+
+    @Benchmark
+    public float[] iptHQDirect666() {
+        return iptHQ666.fromRGBA8888(rgba, 0, out, 0, SIZE);
+    }
+
+    @Benchmark
+    public float[] cielabAnalytic() {
+        for (int i = 0; i < SIZE; i++) out[i] = com.github.tommyettinger.colorful.cielab.ColorTools.fromRGBA8888(rgba[i]);
+        return out;
+    }
+
+    @Benchmark
+    public float[] cielabTrilinear33() {
+        return cielab33.fromRGBA8888(rgba, 0, out, 0, SIZE);
+    }
+
+    @Benchmark
+    public float[] cielabTrilinear65() {
+        return cielab65.fromRGBA8888(rgba, 0, out, 0, SIZE);
+    }
+
+    @Benchmark
+    public float[] cielabDirect666() {
+        return cielab666.fromRGBA8888(rgba, 0, out, 0, SIZE);
+    }
+}
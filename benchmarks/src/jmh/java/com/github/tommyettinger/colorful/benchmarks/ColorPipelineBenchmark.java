@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.github.tommyettinger.colorful.oklab.ColorPipeline;
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a six-step edit to 65536 packed Oklab colors, either by calling the {@link ColorTools} methods one after
+ * another for each color, or with one {@link ColorPipeline}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ColorPipelineBenchmark {
+    public static final int SIZE = 1 << 16;
+
+    public float[] original;
+    public float[] colors;
+    public ColorPipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0xC010FA1L);
+        original = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            original[i] = ColorTools.fromRGBA8888(random.nextInt() | 255);
+        }
+        colors = new float[SIZE];
+        pipeline = new ColorPipeline().lighten(0.1f).raiseA(0.05f).dullen(0.2f).enrich(0.3f).fade(0.1f)
+                .limitToGamut();
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(original, 0, colors, 0, SIZE);
+    }
+
+    @Benchmark
+    public float[] chained() {
+        for (int i = 0; i < SIZE; i++) {
+            colors[i] = ColorTools.limitToGamut(ColorTools.fade(ColorTools.enrich(ColorTools.dullen(
+                    ColorTools.raiseA(ColorTools.lighten(colors[i], 0.1f), 0.05f), 0.2f), 0.3f), 0.1f));
+        }
+        return colors;
+    }
+
+    @Benchmark
+    public float[] pipeline() {
+        return pipeline.apply(colors);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared state for the per-color-space ColorTools benchmarks, such as {@link OklabToolsBenchmark} and
+ * {@link PureOklabToolsBenchmark}. Each subclass measures the same hot paths of one ColorTools class, each invocation
+ * processes {@link #size} colors, and every subclass gets the same inputs from the same seed, so their results can be
+ * compared to choose a color space by throughput.
+ * <br>
+ * The inputs are {@link #rgba}, random opaque RGBA8888 colors; {@link #packed} and {@link #targets}, those colors (and a
+ * second set) converted to the measured color space; and {@link #raw}, random packed floats with opaque alpha that are
+ * often out of gamut, for {@code inGamut()} and {@code limitToGamut()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class ColorToolsBenchmark {
+    @Param({"4096"})
+    public int size;
+
+    public int[] rgba;
+    public float[] packed;
+    public float[] targets;
+    public float[] raw;
+    public float[] floatOut;
+    public int[] intOut;
+    public boolean[] boolOut;
+
+    /**
+     * Converts an RGBA8888 int to a packed float in the color space this benchmarks; only used during setup.
+     * @param rgba an RGBA8888 color
+     * @return a packed float color in the benchmarked color space
+     */
+    protected abstract float convert(int rgba);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0xC010FA1L);
+        rgba = new int[size];
+        packed = new float[size];
+        targets = new float[size];
+        raw = new float[size];
+        floatOut = new float[size];
+        intOut = new int[size];
+        boolOut = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            rgba[i] = random.nextInt() | 0xFF;
+            packed[i] = convert(rgba[i]);
+            targets[i] = convert(random.nextInt() | 0xFF);
+            raw[i] = Float.intBitsToFloat(random.nextInt() | 0xFE000000);
+        }
+    }
+}
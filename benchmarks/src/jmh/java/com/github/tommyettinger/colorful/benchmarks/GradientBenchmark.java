@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.utils.FloatArray;
+import com.github.tommyettinger.colorful.oklab.Gradient;
+import com.github.tommyettinger.colorful.oklab.GradientTools;
+import com.github.tommyettinger.colorful.oklab.Palette;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Colors 100000 heatmap cells from a five-color Oklab gradient, either by building a 256-step FloatArray with
+ * {@link GradientTools} each time and indexing into it, or with a {@link Gradient}, calculated or baked.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GradientBenchmark {
+    public static final int SIZE = 100000;
+    public static final float[] STOPS = {Palette.BLACK, Palette.PURPLE, Palette.RED, Palette.YELLOW, Palette.WHITE};
+
+    public float[] ts;
+    public float[] out;
+    public Gradient calculated, baked;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0xC010FA1L);
+        ts = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ts[i] = random.nextFloat();
+        }
+        out = new float[SIZE];
+        calculated = new Gradient(Interpolation.smooth, STOPS);
+        baked = new Gradient(Interpolation.smooth, STOPS).bake(256);
+    }
+
+    @Benchmark
+    public float[] gradientTools() {
+        final FloatArray gradient = GradientTools.appendGradientChain(new FloatArray(256), 256, Interpolation.smooth,
+                STOPS);
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = gradient.get((int) (ts[i] * 255 + 0.5f));
+        }
+        return out;
+    }
+
+    @Benchmark
+    public float[] calculated() {
+        return calculated.sample(ts, out);
+    }
+
+    @Benchmark
+    public float[] baked() {
+        return baked.sample(ts, out);
+    }
+}
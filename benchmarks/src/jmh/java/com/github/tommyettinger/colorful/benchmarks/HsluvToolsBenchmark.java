@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.github.tommyettinger.colorful.hsluv.ColorTools;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Measures the hot paths of HSLuv's {@link ColorTools} in colorful. See {@link ColorToolsBenchmark} for the inputs.
+ */
+public class HsluvToolsBenchmark extends ColorToolsBenchmark {
+    @Override
+    protected float convert(int rgba) {
+        return ColorTools.fromRGBA8888(rgba);
+    }
+
+    @Benchmark
+    public float[] fromRGBA8888() {
+        final int[] src = rgba;
+        final float[] dst = floatOut;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.fromRGBA8888(src[i]);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public int[] toRGBA8888() {
+        final float[] src = packed;
+        final int[] dst = intOut;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.toRGBA8888(src[i]);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public boolean[] inGamut() {
+        final float[] src = raw;
+        final boolean[] dst = boolOut;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.inGamut(src[i]);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public float[] limitToGamut() {
+        final float[] src = raw;
+        final float[] dst = floatOut;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.limitToGamut(src[i]);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public float[] toEditedFloat() {
+        final float[] src = packed;
+        final float[] dst = floatOut;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.toEditedFloat(src[i], 0.25f, 0.1f, -0.1f, 0f);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public float[] lerpFloatColors() {
+        final float[] src = packed, end = targets;
+        final float[] dst = floatOut;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.lerpFloatColors(src[i], end[i], 0.375f);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public float[] randomEdit() {
+        final float[] src = packed;
+        final float[] dst = floatOut;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.randomEdit(src[i], i + 1L, 0.1f);
+        }
+        return dst;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.github.tommyettinger.colorful.TabulatedInterpolation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link Interpolation#circle} to 100000 tween positions, either directly or through a
+ * {@link TabulatedInterpolation} with the default number of samples.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class InterpolationBenchmark {
+    public static final int SIZE = 100000;
+
+    public float[] ts;
+    public float[] out;
+    public TabulatedInterpolation tabulated;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0xC010FA1L);
+        ts = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ts[i] = random.nextFloat();
+        }
+        out = new float[SIZE];
+        tabulated = new TabulatedInterpolation(Interpolation.circle);
+    }
+
+    @Benchmark
+    public float[] direct() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = Interpolation.circle.apply(ts[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public float[] tabulated() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = tabulated.apply(ts[i]);
+        }
+        return out;
+    }
+}
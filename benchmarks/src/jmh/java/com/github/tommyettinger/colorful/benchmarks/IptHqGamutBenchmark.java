@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.badlogic.gdx.utils.NumberUtils;
+import com.github.tommyettinger.colorful.ipt_hq.ColorTools;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the table-driven {@link ColorTools#limitToGamut(float)} and {@link ColorTools#randomEdit(float, long, float)}
+ * in IPT_HQ with copies of the iterative versions they replaced. Every input color is out-of-gamut, which is where the
+ * iterative versions do the most work. Each invocation processes {@link #size} colors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IptHqGamutBenchmark {
+    @Param({"4096"})
+    public int size;
+
+    public float[] colors;
+    public float[] out;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0x1B7A11L);
+        colors = new float[size];
+        out = new float[size];
+        for (int i = 0; i < size; i++) {
+            float color;
+            do {
+                color = NumberUtils.intBitsToFloat(random.nextInt() | 0xFE000000);
+            } while (ColorTools.inGamut(color));
+            colors[i] = color;
+        }
+    }
+
+    @Benchmark
+    public float[] limitToGamutTable() {
+        final float[] src = colors, dst = out;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.limitToGamut(src[i]);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public float[] limitToGamutIterative() {
+        final float[] src = colors, dst = out;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = iterativeLimitToGamut(src[i]);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public float[] randomEditTable() {
+        final float[] src = colors, dst = out;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.randomEdit(src[i], i + 1L, 0.2f);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public float[] randomEditIterative() {
+        final float[] src = colors, dst = out;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = iterativeRandomEdit(src[i], i + 1L, 0.2f);
+        }
+        return dst;
+    }
+
+    private static float reverseTransform(final float component) {
+        return Math.copySign((float)Math.pow(Math.abs(component), 2.3256f), component);
+    }
+
+    /**
+     * The previous {@link ColorTools#limitToGamut(float)}, which stepped toward gray up to 32 times.
+     */
+    public static float iterativeLimitToGamut(final float packed) {
+        final int decoded = NumberUtils.floatToRawIntBits(packed);
+        final float i = (decoded & 0xff) / 255f;
+        final float p = ((decoded >>> 8 & 0xff) - 127.5f) / 127.5f;
+        final float t = ((decoded >>> 16 & 0xff) - 127.5f) / 127.5f;
+        float p2 = p, t2 = t;
+        for (int attempt = 31; attempt >= 0; attempt--) {
+            final float l = reverseTransform(i + 0.097569f * p2 + 0.205226f * t2);
+            final float m = reverseTransform(i + -0.11388f * p2 + 0.133217f * t2);
+            final float s = reverseTransform(i + 0.032615f * p2 + -0.67689f * t2);
+
+            final float r = 5.432622f * l + -4.67910f * m + 0.246257f * s;
+            final float g = -1.10517f * l + 2.311198f * m + -0.20588f * s;
+            final float b = 0.028104f * l + -0.19466f * m + 1.166325f * s;
+            if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
+                break;
+            final float progress = attempt * 0x1p-5f;
+            p2 = p * progress;
+            t2 = t * progress;
+        }
+        return ColorTools.ipt(i, p2 * 0.5f + 0.5f, t2 * 0.5f + 0.5f, (decoded >>> 25) / 127f);
+    }
+
+    /**
+     * The previous {@link ColorTools#randomEdit(float, long, float)}, which did a full gamut check on each candidate.
+     */
+    public static float iterativeRandomEdit(final float color, long seed, final float variance) {
+        final int decoded = NumberUtils.floatToRawIntBits(color);
+        final float i = (decoded & 0xff) / 255f;
+        final float p = ((decoded >>> 8 & 0xff) - 127.5f) / 127.5f;
+        final float t = ((decoded >>> 16 & 0xff) - 127.5f) / 127.5f;
+        final float limit = variance * variance;
+        float dist, x, y, z;
+        for (int j = 0; j < 50; j++) {
+            x = (((seed * 0xD1B54A32D192ED03L >>> 41) - 0x7FFFFFp-1f) * 0x1p-22f) * variance;
+            y = (((seed * 0xABC98388FB8FAC03L >>> 41) - 0x7FFFFFp-1f) * 0x1p-22f) * variance;
+            z = (((seed * 0x8CB92BA72F3D8DD7L >>> 41) - 0x7FFFFFp-1f) * 0x1p-22f) * variance;
+            seed += 0x9E3779B97F4A7C15L;
+            dist = x * x + y * y + z * z;
+            if(dist <= limit && ColorTools.inGamut(x += i, y = (p + y) * 0.5f + 0.5f, z = (t + z) * 0.5f + 0.5f))
+                return NumberUtils.intBitsToFloat((decoded & 0xFE000000) | ((int)(z * 255.5f) << 16 & 0xFF0000)
+                        | ((int)(y * 255.5f) << 8 & 0xFF00) | (int)(x * 255.5f));
+        }
+        return color;
+    }
+}
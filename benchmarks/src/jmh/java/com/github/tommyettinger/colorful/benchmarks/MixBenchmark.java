@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.github.tommyettinger.colorful.ColorAccumulator;
+import com.github.tommyettinger.colorful.FloatColors;
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Averages 4096 packed colors, either by folding them together with
+ * {@link FloatColors#lerpFloatColors(float, float, float)} as mixing used to, or with a reused
+ * {@link ColorAccumulator}, one color at a time or all at once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MixBenchmark {
+    public static final int SIZE = 4096;
+
+    public float[] colors;
+    public ColorAccumulator accumulator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0xC010FA1L);
+        colors = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            colors[i] = ColorTools.fromRGBA8888(random.nextInt());
+        }
+        accumulator = new ColorAccumulator();
+    }
+
+    @Benchmark
+    public float lerpFold() {
+        float result = colors[0];
+        for (int i = 1; i < SIZE; i++) {
+            result = FloatColors.lerpFloatColors(result, colors[i], 1f / (i + 1f));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public float accumulatorAdd() {
+        accumulator.reset();
+        for (int i = 0; i < SIZE; i++) {
+            accumulator.add(colors[i]);
+        }
+        return accumulator.mean();
+    }
+
+    @Benchmark
+    public float accumulatorAddAll() {
+        return accumulator.reset().addAll(colors, 0, SIZE).mean();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bulk array conversions in {@link ColorTools} with a plain loop over the single-color conversions.
+ * Each invocation converts {@link #size} colors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OklabBulkBenchmark {
+    @Param({"4096", "262144"})
+    public int size;
+
+    public int[] rgba;
+    public float[] oklab;
+    public int[] oklabBits;
+    public float[] floatOut;
+    public int[] intOut;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0xC010FA1L);
+        rgba = new int[size];
+        for (int i = 0; i < size; i++) {
+            rgba[i] = random.nextInt() | 0xFF;
+        }
+        oklab = ColorTools.fromRGBA8888(rgba, 0, new float[size], 0, size);
+        oklabBits = ColorTools.fromRGBA8888(rgba, 0, new int[size], 0, size);
+        floatOut = new float[size];
+        intOut = new int[size];
+    }
+
+    @Benchmark
+    public float[] fromRGBA8888Scalar() {
+        final int[] src = rgba;
+        final float[] dst = floatOut;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.fromRGBA8888(src[i]);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public float[] fromRGBA8888Bulk() {
+        return ColorTools.fromRGBA8888(rgba, 0, floatOut, 0, size);
+    }
+
+    @Benchmark
+    public int[] fromRGBA8888BulkBits() {
+        return ColorTools.fromRGBA8888(rgba, 0, intOut, 0, size);
+    }
+
+    @Benchmark
+    public int[] toRGBA8888Scalar() {
+        final float[] src = oklab;
+        final int[] dst = intOut;
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = ColorTools.toRGBA8888(src[i]);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public int[] toRGBA8888Bulk() {
+        return ColorTools.toRGBA8888(oklab, 0, intOut, 0, size);
+    }
+
+    @Benchmark
+    public int[] toRGBA8888BulkBits() {
+        return ColorTools.toRGBA8888(oklabBits, 0, intOut, 0, size);
+    }
+}
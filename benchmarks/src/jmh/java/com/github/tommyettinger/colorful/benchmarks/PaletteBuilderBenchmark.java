@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import com.github.tommyettinger.colorful.oklab.PaletteBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates palettes of maximally distinct colors. {@link #linearScan()} is the approach the old palette generators
+ * used, trying random candidates and checking each one against every color chosen so far on one thread; the others
+ * use a {@link PaletteBuilder}, which finds nearest colors with a grid, on the common pool or on a single thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PaletteBuilderBenchmark {
+    @Param({"64", "256", "1024"})
+    public int count;
+
+    public ForkJoinPool single;
+    public PaletteBuilder parallel, sequential;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        single = new ForkJoinPool(1);
+        parallel = new PaletteBuilder(123L);
+        sequential = new PaletteBuilder(123L, single);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        single.shutdown();
+    }
+
+    @Benchmark
+    public FloatArray linearScan() {
+        final Random random = new Random(123L);
+        final FloatArray palette = new FloatArray(count);
+        final float[] colors = palette.items;
+        for (int c = 0; c < count; c++) {
+            float bestColor = 0f, bestDistance = -1f;
+            for (int k = 0; k < PaletteBuilder.DEFAULT_CANDIDATES; k++) {
+                float candidate;
+                do {
+                    candidate = ColorTools.oklab(random.nextFloat(), random.nextFloat(), random.nextFloat(), 1f);
+                } while (!ColorTools.inGamut(candidate));
+                float nearest = Float.POSITIVE_INFINITY;
+                for (int i = 0; i < c; i++) {
+                    nearest = Math.min(nearest, ColorTools.distanceSquared(candidate, colors[i]));
+                }
+                if (nearest > bestDistance) {
+                    bestDistance = nearest;
+                    bestColor = candidate;
+                }
+            }
+            palette.add(bestColor);
+        }
+        return palette;
+    }
+
+    @Benchmark
+    public FloatArray builderParallel() {
+        return parallel.build(count);
+    }
+
+    @Benchmark
+    public FloatArray builderSequential() {
+        return sequential.build(count);
+    }
+}
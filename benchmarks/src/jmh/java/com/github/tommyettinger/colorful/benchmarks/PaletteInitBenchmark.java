@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to load and initialize each Palette class, which is what an app pays the first time it
+ * touches a Palette. Every invocation uses a new ClassLoader that loads the library's classes again, so each Palette
+ * is initialized from scratch; the matching ColorTools class is loaded and initialized before timing starts, so only
+ * the Palette itself is measured. The {@link #palette} names a package under {@code com.github.tommyettinger.colorful},
+ * such as "oklab" or "pure.oklab".
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaletteInitBenchmark {
+    @Param({"oklab", "rgb", "cielab", "hsluv", "ipt", "ipt_hq", "ycwcm",
+            "pure.oklab", "pure.rgb", "pure.cielab", "pure.hsluv", "pure.ipt", "pure.ipt_hq", "pure.ycwcm"})
+    public String palette;
+
+    private final HashMap<String, byte[]> classBytes = new HashMap<>();
+    private ClassLoader loader;
+
+    /**
+     * Loads the library's classes on its own instead of asking its parent, so they are initialized again in each
+     * FreshLoader. The bytes of each class file are read once and shared, so reading files isn't measured.
+     */
+    private final class FreshLoader extends ClassLoader {
+        FreshLoader() {
+            super(PaletteInitBenchmark.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith("com.github.tommyettinger.colorful.")
+                    || name.startsWith("com.github.tommyettinger.colorful.benchmarks."))
+                return super.loadClass(name, resolve);
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (c == null) {
+                    final byte[] bytes = bytesOf(name);
+                    if (bytes == null) throw new ClassNotFoundException(name);
+                    c = defineClass(name, bytes, 0, bytes.length);
+                }
+                if (resolve) resolveClass(c);
+                return c;
+            }
+        }
+    }
+
+    private byte[] bytesOf(String name) {
+        byte[] bytes = classBytes.get(name);
+        if (bytes == null) {
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) return null;
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                for (int n; (n = in.read(buffer)) > 0; ) {
+                    out.write(buffer, 0, n);
+                }
+                bytes = out.toByteArray();
+            } catch (IOException e) {
+                return null;
+            }
+            classBytes.put(name, bytes);
+        }
+        return bytes;
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() throws ClassNotFoundException {
+        loader = new FreshLoader();
+        Class.forName("com.github.tommyettinger.colorful." + palette + ".ColorTools", true, loader);
+    }
+
+    @Benchmark
+    public Class<?> initialize() throws ClassNotFoundException {
+        return Class.forName("com.github.tommyettinger.colorful." + palette + ".Palette", true, loader);
+    }
+}
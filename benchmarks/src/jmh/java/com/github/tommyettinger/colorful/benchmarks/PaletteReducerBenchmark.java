@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import com.github.tommyettinger.colorful.oklab.Palette;
+import com.github.tommyettinger.colorful.oklab.PaletteReducer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reduces a 1024x1024 image to {@link Palette#LIST}. {@link #linearScan()} is the old way, converting each pixel to
+ * Oklab and checking its distance to every palette color; the others use a {@link PaletteReducer}, and
+ * {@link #construct()} measures building one, which is mostly building its RGB555 table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PaletteReducerBenchmark {
+    public static final int SIZE = 1024;
+
+    public int[] original;
+    public int[] pixels;
+    public PaletteReducer reducer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0xC010FA1L);
+        original = new int[SIZE * SIZE];
+        // smooth gradients with some noise, more like art than pure noise is
+        for (int y = 0, i = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++, i++) {
+                original[i] = (x >>> 2) << 24 | (y >>> 2) << 16 | (x + y >>> 3) + random.nextInt(32) << 8 | 255;
+            }
+        }
+        pixels = new int[SIZE * SIZE];
+        reducer = new PaletteReducer(Palette.LIST);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(original, 0, pixels, 0, pixels.length);
+    }
+
+    @Benchmark
+    public int[] linearScan() {
+        final float[] colors = Palette.LIST.items;
+        final int count = Palette.LIST.size;
+        for (int i = 0; i < pixels.length; i++) {
+            final float oklab = ColorTools.fromRGBA8888(pixels[i]);
+            float best = Float.POSITIVE_INFINITY, bestColor = 0f;
+            for (int c = 1; c < count; c++) {
+                final float d = ColorTools.distanceSquared(oklab, colors[c]);
+                if (d < best) {
+                    best = d;
+                    bestColor = colors[c];
+                }
+            }
+            pixels[i] = ColorTools.toRGBA8888(bestColor);
+        }
+        return pixels;
+    }
+
+    @Benchmark
+    public int[] solid() {
+        return reducer.reduceSolid(pixels, SIZE, SIZE);
+    }
+
+    @Benchmark
+    public int[] ordered() {
+        return reducer.reduceOrdered(pixels, SIZE, SIZE);
+    }
+
+    @Benchmark
+    public int[] diffusion() {
+        return reducer.reduceDiffusion(pixels, SIZE, SIZE);
+    }
+
+    @Benchmark
+    public PaletteReducer construct() {
+        return new PaletteReducer(Palette.LIST);
+    }
+}
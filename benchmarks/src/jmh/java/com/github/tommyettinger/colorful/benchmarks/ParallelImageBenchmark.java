@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.benchmarks;
+
+import com.github.tommyettinger.colorful.ParallelImageProcessor;
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link ParallelImageProcessor} scales with the number of threads, recoloring a 4096x4096 image with
+ * {@link ColorTools#toEditedFloat(float, float, float, float, float)} followed by {@link ColorTools#limitToGamut(float)}.
+ * The {@code parallelism} of 1 is the single-threaded baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParallelImageBenchmark {
+    public static final int SIZE = 4096;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int parallelism;
+
+    public int[] original;
+    public int[] pixels;
+    public ForkJoinPool pool;
+    public ParallelImageProcessor processor;
+    public ParallelImageProcessor.PixelTransform transform;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0xC010FA1L);
+        original = new int[SIZE * SIZE];
+        for (int i = 0; i < original.length; i++) {
+            original[i] = random.nextInt() | 0xFF;
+        }
+        pixels = new int[SIZE * SIZE];
+        pool = new ForkJoinPool(parallelism);
+        processor = new ParallelImageProcessor(pool, ParallelImageProcessor.DEFAULT_THRESHOLD);
+        transform = (x, y, rgba) -> ColorTools.toRGBA8888(ColorTools.limitToGamut(
+                ColorTools.toEditedFloat(ColorTools.fromRGBA8888(rgba), 0.1f, 0.2f, -0.05f, 0f)));
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(original, 0, pixels, 0, pixels.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] recolor() {
+        return processor.apply(pixels, SIZE, SIZE, transform);
+    }
+}
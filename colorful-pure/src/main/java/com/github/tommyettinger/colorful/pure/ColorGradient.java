@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.pure;
+
+import com.github.tommyettinger.digital.BitConversion;
+import com.github.tommyettinger.digital.Interpolations.InterpolationFunction;
+
+/**
+ * A gradient through several packed float colors, which can be sampled at any point from 0 to 1 without storing every
+ * step of the gradient. This stores only the colors it passes through, called stops, which are evenly spaced, and an
+ * InterpolationFunction that is applied to each point before it is sampled. Sampling at a point gives the same color
+ * that the {@code GradientTools.appendGradientChain()} method in the same color space would produce at that point.
+ * Like that method, this gives exactly the last stop only at 1, and blends just short of it anywhere else, even where
+ * the InterpolationFunction reaches or passes its end early.
+ * <br>
+ * Sampling takes constant time no matter how many stops there are. It can be made cheaper by calling
+ * {@link #bake(int)}, which stores a table of evenly spaced samples and makes {@link #sample(float)} return the
+ * nearest one; this skips the InterpolationFunction and the blending entirely, at the cost of some precision. Neither
+ * way allocates anything, and {@link #sample(float[], int, float[], int, int)} samples many points at once.
+ * <br>
+ * A gradient can also be written into a 1D ramp of pixels with {@link #toRGBA8888(int[], int, int)} or
+ * {@link #toPackedPixels(int[], int, int)}, such as to upload as a texture that a shader looks colors up in.
+ * <br>
+ * Each color space has its own {@code Gradient} subclass, such as
+ * {@link com.github.tommyettinger.colorful.pure.oklab.Gradient}, which knows how to blend its colors and keep them in
+ * gamut. Sampling doesn't change a gradient, so one can be sampled from multiple threads.
+ */
+public abstract class ColorGradient {
+    protected final float[] stops;
+    protected final InterpolationFunction interpolation;
+    protected float[] table;
+
+    /**
+     * Creates a gradient through the given stops, using the given InterpolationFunction to adjust each point.
+     * @param interpolation an InterpolationFunction applied to each point before sampling; must not be null
+     * @param stops packed float colors, in this gradient's color space, to pass through in order; must not be empty
+     */
+    protected ColorGradient(InterpolationFunction interpolation, float[] stops) {
+        if (interpolation == null)
+            throw new IllegalArgumentException("interpolation must not be null");
+        if (stops == null || stops.length == 0)
+            throw new IllegalArgumentException("stops must contain at least one color");
+        this.interpolation = interpolation;
+        this.stops = stops.clone();
+    }
+
+    /**
+     * Blends two packed float colors the way this color space's GradientTools does, including any gamut limiting.
+     * @param start the color to blend from
+     * @param end the color to blend toward
+     * @param change how far to go from start toward end, from 0 to 1
+     * @return the blended packed float color
+     */
+    protected abstract float blend(float start, float end, float change);
+
+    /**
+     * Converts a packed float color in this gradient's color space to an RGBA8888 int, using that space's ColorTools.
+     * @param color a packed float color in this gradient's color space
+     * @return an RGBA8888 int color
+     */
+    protected abstract int toRGBA8888(float color);
+
+    /**
+     * Gets how many stops this gradient passes through.
+     * @return the number of stops
+     */
+    public int stopCount() {
+        return stops.length;
+    }
+
+    /**
+     * Gets the stop at the given index.
+     * @param index which stop to get, from 0 to {@link #stopCount()} - 1
+     * @return the stop, as a packed float color
+     */
+    public float getStop(int index) {
+        return stops[index];
+    }
+
+    /**
+     * Gets the InterpolationFunction this applies to each point before sampling.
+     * @return the InterpolationFunction this uses
+     */
+    public InterpolationFunction getInterpolation() {
+        return interpolation;
+    }
+
+    /**
+     * Gets how many samples {@link #bake(int)} stored, or 0 if this gradient isn't baked.
+     * @return the number of baked samples, or 0
+     */
+    public int getResolution() {
+        return table == null ? 0 : table.length;
+    }
+
+    /**
+     * Stores {@code resolution} evenly spaced samples of this gradient, from 0 to 1 inclusive, so that
+     * {@link #sample(float)} can return the nearest one instead of calculating a new sample. This is usually worth it
+     * when the gradient will be sampled many more times than its resolution. A resolution of 256 is often enough for
+     * gradients that are drawn across a screen, since each channel only has 256 possible values anyway. Calling this
+     * with a resolution of 0 removes the table, so every sample is calculated again.
+     * @param resolution how many samples to store; must be 0 or at least 2
+     * @return this, for chaining
+     */
+    public ColorGradient bake(int resolution) {
+        if (resolution == 0) {
+            table = null;
+            return this;
+        }
+        if (resolution < 2)
+            throw new IllegalArgumentException("resolution must be 0 or at least 2");
+        final float[] baked = new float[resolution];
+        final float last = resolution - 1;
+        for (int i = 0; i < resolution; i++) {
+            baked[i] = calculate(i / last);
+        }
+        table = baked;
+        return this;
+    }
+
+    /**
+     * Gets the color of this gradient at {@code t}, calculating it even if this gradient is baked.
+     * @param t the point to sample, from 0 to 1; will be clamped if outside that range, and NaN is treated as 0
+     * @return the packed float color at t
+     */
+    public float calculate(float t) {
+        final int splits = stops.length - 1;
+        if (splits == 0 || t >= 1f)
+            return stops[splits];
+        // this clamps the same way appendGradientChain() does, so results that land near the last stop still match
+        final float splint = Math.min(Math.max(interpolation.apply(t > 0f ? t : 0f) * splits, 0f),
+                splits - 0.000001f);
+        final int idx = (int) splint;
+        return blend(stops[idx], stops[idx + 1], splint - idx);
+    }
+
+    /**
+     * Gets the color of this gradient at {@code t}. If this gradient is baked, this returns the nearest baked sample;
+     * otherwise, it is the same as {@link #calculate(float)}.
+     * @param t the point to sample, from 0 to 1; will be clamped if outside that range, and NaN is treated as 0
+     * @return the packed float color at t
+     */
+    public float sample(float t) {
+        final float[] table = this.table;
+        if (table == null)
+            return calculate(t);
+        return table[(int) ((t < 0f ? 0f : t > 1f ? 1f : t) * (table.length - 1) + 0.5f)];
+    }
+
+    /**
+     * Samples this gradient at {@code count} points from {@code ts}, starting at {@code tOffset}, and writes the colors
+     * into {@code out}, starting at {@code outOffset}. This is the same as calling {@link #sample(float)} for each
+     * point, but checks whether this is baked only once.
+     * @param ts points to sample, each from 0 to 1
+     * @param tOffset the first index in ts to read
+     * @param out an array that will receive packed float colors
+     * @param outOffset the first index in out to write
+     * @param count how many points to sample
+     * @return out, after modifications
+     */
+    public float[] sample(float[] ts, int tOffset, float[] out, int outOffset, int count) {
+        if (count < 0 || tOffset < 0 || outOffset < 0 || tOffset + count > ts.length || outOffset + count > out.length)
+            throw new IllegalArgumentException("tOffset, outOffset, and count must be within ts and out");
+        final float[] table = this.table;
+        if (table == null) {
+            for (int i = 0; i < count; i++) {
+                out[outOffset + i] = calculate(ts[tOffset + i]);
+            }
+        } else {
+            final float scale = table.length - 1;
+            for (int i = 0; i < count; i++) {
+                final float t = ts[tOffset + i];
+                out[outOffset + i] = table[(int) ((t < 0f ? 0f : t > 1f ? 1f : t) * scale + 0.5f)];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Samples this gradient at every point in {@code ts} and writes the colors into {@code out}, which must be at least
+     * as long as ts.
+     * @param ts points to sample, each from 0 to 1
+     * @param out an array that will receive packed float colors
+     * @return out, after modifications
+     */
+    public float[] sample(float[] ts, float[] out) {
+        return sample(ts, 0, out, 0, ts.length);
+    }
+
+    /**
+     * Samples this gradient at {@code width} evenly spaced points, from 0 to 1 inclusive, and writes each color into
+     * {@code pixels} as an RGBA8888 int, starting at {@code offset}. The first and last pixels are the first and last
+     * stops. If this gradient is baked, this uses the nearest baked samples, as {@link #sample(float)} does.
+     * @param pixels an int array that will receive {@code width} RGBA8888 colors
+     * @param offset the first index in pixels to write
+     * @param width how many pixels to write; must be at least 1
+     * @return pixels, after modifications
+     */
+    public int[] toRGBA8888(int[] pixels, int offset, int width) {
+        checkRamp(pixels, offset, width);
+        final float last = Math.max(width - 1, 1);
+        for (int i = 0; i < width; i++) {
+            pixels[offset + i] = toRGBA8888(sample(i / last));
+        }
+        return pixels;
+    }
+
+    /**
+     * Samples this gradient at {@code width} evenly spaced points, from 0 to 1 inclusive, and writes each color into
+     * {@code pixels} without converting it to RGB. Each int holds the channels of the packed float in RGBA8888 order,
+     * with the first channel in the most significant byte and alpha in the least significant byte, so a texture made
+     * from these pixels gives a shader colors in this gradient's color space.
+     * @param pixels an int array that will receive {@code width} pixels
+     * @param offset the first index in pixels to write
+     * @param width how many pixels to write; must be at least 1
+     * @return pixels, after modifications
+     */
+    public int[] toPackedPixels(int[] pixels, int offset, int width) {
+        checkRamp(pixels, offset, width);
+        final float last = Math.max(width - 1, 1);
+        for (int i = 0; i < width; i++) {
+            final int bits = BitConversion.floatToRawIntBits(sample(i / last));
+            // alpha only has 7 bits, so its lowest bit copies its highest to reach the full 0 to 255 range
+            pixels[offset + i] = Integer.reverseBytes(bits) | bits >>> 31;
+        }
+        return pixels;
+    }
+
+    private static void checkRamp(int[] pixels, int offset, int width) {
+        if (width < 1)
+            throw new IllegalArgumentException("width must be at least 1");
+        if (pixels == null || offset < 0 || offset + width > pixels.length)
+            throw new IllegalArgumentException("pixels doesn't have room for width pixels after offset");
+    }
+}
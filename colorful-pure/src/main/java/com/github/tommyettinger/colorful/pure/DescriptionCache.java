@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.pure;
+
+import java.util.Arrays;
+
+/**
+ * A size-bounded cache of parsed color descriptions, which can be put in front of any {@code parseDescription()} method
+ * to avoid parsing, mixing, and adjusting the same description repeatedly. It is meant for when a few thousand
+ * descriptions are used over and over, such as in UI markup or item definitions. You give it a {@link Parser} when you
+ * construct it, usually a method reference like {@code SimplePalette::parseDescription} (using any SimplePalette, such
+ * as {@link com.github.tommyettinger.colorful.pure.oklab.SimplePalette}), then call
+ * {@link #parseDescription(CharSequence, int, int)} on this instead of on the palette. When the cache is full, the
+ * least-recently-used description is evicted.
+ * <br>
+ * Lookups hash and compare the requested region of a CharSequence directly, so no String is created when a
+ * description is already cached, even for a window into a larger text or a StringBuilder. A String key is only created
+ * when a new description is stored. {@link #getHits()} and {@link #getMisses()} count how often the cache was useful,
+ * which can help choose a capacity.
+ * <br>
+ * This can be used from multiple threads at once. The entries are split into segments that are each locked separately,
+ * so threads using different descriptions rarely wait on each other, and parsing on a miss happens without holding a
+ * lock. Descriptions are case-sensitive here, because color names are.
+ */
+public class DescriptionCache {
+    /**
+     * Parses a color description; usually this is a method reference to some {@code parseDescription()} method, like
+     * {@code SimplePalette::parseDescription}. Implementations must be safe to call from multiple threads at once.
+     */
+    public interface Parser {
+        /**
+         * Parses the description in {@code description}, reading {@code length} chars starting at {@code start}.
+         * @param description the text containing a color description
+         * @param start the first char index to read
+         * @param length how many chars to read
+         * @return the packed float color described
+         */
+        float parse(CharSequence description, int start, int length);
+    }
+
+    protected final Parser parser;
+    protected final int capacity;
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    /**
+     * Creates a DescriptionCache that can hold up to {@code capacity} descriptions (rounded up to a multiple of the
+     * number of segments), parsing new ones with {@code parser}.
+     * @param capacity how many descriptions this can hold before it evicts the least-recently-used one; at least 1
+     * @param parser usually a method reference to a {@code parseDescription(CharSequence, int, int)} method
+     */
+    public DescriptionCache(int capacity, Parser parser) {
+        if (parser == null)
+            throw new IllegalArgumentException("parser cannot be null");
+        this.parser = parser;
+        capacity = Math.max(capacity, 1);
+        int count = 1, shift = 32;
+        while (count < 16 && count * 64 <= capacity) {
+            count <<= 1;
+            shift--;
+        }
+        final int perSegment = (capacity + count - 1) / count;
+        this.capacity = perSegment * count;
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        segmentShift = shift;
+    }
+
+    /**
+     * Gets the packed float color for the whole of {@code description}, from the cache if possible.
+     * @param description a color description
+     * @return the packed float color described, as the {@link Parser} would return it
+     */
+    public float parseDescription(final CharSequence description) {
+        return parseDescription(description, 0, description.length());
+    }
+
+    /**
+     * Gets the packed float color for the region of {@code description} that starts at {@code start} and has the given
+     * {@code length}, from the cache if possible. If {@code length} is negative, this reads the rest of description.
+     * @param description the text containing a color description
+     * @param start the first char index to read
+     * @param length how many chars to read; if negative, this reads until the end
+     * @return the packed float color described, as the {@link Parser} would return it
+     */
+    public float parseDescription(final CharSequence description, final int start, final int length) {
+        final int end = length < 0 ? description.length() : Math.min(description.length(), start + length);
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + description.charAt(i);
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x9E3779B9;
+        final Segment segment = segments[segmentShift == 32 ? 0 : hash >>> segmentShift];
+        synchronized (segment) {
+            final int slot = segment.find(description, start, end, hash);
+            if (slot >= 0) {
+                segment.hits++;
+                segment.touch(slot);
+                return segment.values[slot];
+            }
+            segment.misses++;
+        }
+        final float color = parser.parse(description, start, end - start);
+        final String key = description.subSequence(start, end).toString();
+        synchronized (segment) {
+            if (segment.find(key, 0, key.length(), hash) < 0)
+                segment.insert(key, hash, color);
+        }
+        return color;
+    }
+
+    /**
+     * Gets how many times a description was found in the cache since this was created or {@link #resetStatistics()}
+     * was called.
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        long total = 0L;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                total += segment.hits;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Gets how many times a description had to be parsed because it wasn't in the cache, since this was created or
+     * {@link #resetStatistics()} was called.
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        long total = 0L;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                total += segment.misses;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Sets the hit and miss counts to 0, without removing any cached descriptions.
+     */
+    public void resetStatistics() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.hits = 0L;
+                segment.misses = 0L;
+            }
+        }
+    }
+
+    /**
+     * Gets how many descriptions are currently cached.
+     * @return the number of cached descriptions
+     */
+    public int size() {
+        int total = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                total += segment.size;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Gets the most descriptions this can hold at once.
+     * @return the capacity of this cache
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Removes every cached description. This does not change the hit and miss counts.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Holds part of the cache in parallel arrays, with chained hash buckets to find a slot and a doubly-linked list of
+     * slots from newest to oldest use. Nothing is allocated after construction, other than the keys given to it.
+     */
+    private static final class Segment {
+        final String[] keys;
+        final int[] hashes;
+        final float[] values;
+        final int[] newer, older, chain, buckets;
+        final int mask;
+        int size, newest = -1, oldest = -1;
+        long hits, misses;
+
+        Segment(int capacity) {
+            keys = new String[capacity];
+            hashes = new int[capacity];
+            values = new float[capacity];
+            newer = new int[capacity];
+            older = new int[capacity];
+            chain = new int[capacity];
+            int bucketCount = 2;
+            while (bucketCount < capacity) bucketCount <<= 1;
+            buckets = new int[bucketCount];
+            mask = bucketCount - 1;
+            clear();
+        }
+
+        void clear() {
+            Arrays.fill(buckets, -1);
+            Arrays.fill(keys, null);
+            size = 0;
+            newest = oldest = -1;
+        }
+
+        int find(final CharSequence text, final int start, final int end, final int hash) {
+            final int len = end - start;
+            for (int slot = buckets[hash & mask]; slot >= 0; slot = chain[slot]) {
+                if (hashes[slot] != hash) continue;
+                final String key = keys[slot];
+                if (key.length() != len) continue;
+                int i = 0;
+                while (i < len && key.charAt(i) == text.charAt(start + i)) i++;
+                if (i == len) return slot;
+            }
+            return -1;
+        }
+
+        void touch(final int slot) {
+            if (slot == newest) return;
+            unlinkUse(slot);
+            linkNewest(slot);
+        }
+
+        void insert(final String key, final int hash, final float value) {
+            final int slot;
+            if (size < keys.length) {
+                slot = size++;
+            } else {
+                slot = oldest;
+                unlinkUse(slot);
+                final int bucket = hashes[slot] & mask;
+                if (buckets[bucket] == slot) {
+                    buckets[bucket] = chain[slot];
+                } else {
+                    int prev = buckets[bucket];
+                    while (chain[prev] != slot) prev = chain[prev];
+                    chain[prev] = chain[slot];
+                }
+            }
+            keys[slot] = key;
+            hashes[slot] = hash;
+            values[slot] = value;
+            chain[slot] = buckets[hash & mask];
+            buckets[hash & mask] = slot;
+            linkNewest(slot);
+        }
+
+        private void unlinkUse(final int slot) {
+            final int n = newer[slot], o = older[slot];
+            if (n >= 0) older[n] = o;
+            else newest = o;
+            if (o >= 0) newer[o] = n;
+            else oldest = n;
+        }
+
+        private void linkNewest(final int slot) {
+            newer[slot] = -1;
+            older[slot] = newest;
+            if (newest >= 0) newer[newest] = slot;
+            else oldest = slot;
+            newest = slot;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.github.tommyettinger.colorful.pure;
 import com.github.tommyettinger.colorful.pure.ycwcm.ColorTools;
 import com.github.tommyettinger.digital.BitConversion;
 import com.github.tommyettinger.digital.MathTools;
+import com.github.tommyettinger.ds.FloatList;
 /**
  * Various utility methods for working with colors encoded as packed floats in any of the formats this can use.
  * <br>
@@ -235,11 +236,7 @@ public class FloatColors {
     public static float mix(float... colors) {
         if(colors == null || colors.length == 0)
             return 0f; // transparent, usually
-        float result = colors[0];
-        for (int i = 1; i < colors.length; i++) {
-            result = lerpFloatColors(result, colors[i], 1f / (i + 1f));
-        }
-        return result;
+        return mix(colors, 0, colors.length);
     }
 
     /**
@@ -247,6 +244,9 @@ public class FloatColors {
      * If {@code colors} is null or has no items, this returns 0f (usually transparent in most color spaces).
      * This is mostly useful in conjunction with {@link com.github.tommyettinger.ds.FloatList}, using its {@code items}
      * for colors, typically 0 for offset, and its {@code size} for size.
+     * <br>
+     * Each color is decoded once and each channel is rounded once, as {@link ColorAccumulator} does, without
+     * allocating.
      * @param colors an array of packed float colors; all should use the same color space
      * @param offset the index of the first item in {@code colors} to use
      * @param size how many items from {@code colors} to use
@@ -256,11 +256,19 @@ public class FloatColors {
         final int end = offset + size;
         if(colors == null || colors.length < end || offset < 0 || size <= 0)
             return 0f; // transparent, usually
-        float result = colors[offset];
-        for (int i = offset + 1, denom = 2; i < end; i++, denom++) {
-            result = lerpFloatColors(result, colors[i], 1f / denom);
-        }
-        return result;
+        return ColorAccumulator.meanOf(colors, offset, size);
+    }
+
+    /**
+     * Given a {@link FloatList} of colors, this gets an even mix of all colors in equal measure.
+     * If {@code colors} is null or empty, this returns 0f (usually transparent in most color spaces).
+     * @param colors a FloatList of packed float colors; all should use the same color space
+     * @return an even mix of all colors given, as a packed float color
+     */
+    public static float mix(FloatList colors) {
+        if(colors == null)
+            return 0f; // transparent, usually
+        return mix(colors.items, 0, colors.size());
     }
 
     /**
@@ -281,7 +289,10 @@ public class FloatColors {
      * colors and weights, as with {@code color, weight, color, weight...}, starting at {@code offset} in the array and
      * continuing for {@code size} indices in the array. The {@code size} should be an even number 2 or greater,
      * otherwise it will be reduced by 1. The weights can be any non-negative finite float values; this method handles
-     * normalizing them internally.
+     * normalizing them internally. If the weights add up to 0, this returns the first color.
+     * <br>
+     * Each color is decoded once and each channel is rounded once, as {@link ColorAccumulator} does, without
+     * allocating.
      * @param colors starting at {@code offset}, this should contain alternating {@code color, weight, color, weight...} floats
      * @param offset where to start reading from in {@code colors}
      * @param size how many indices to read from {@code colors}; must be an even number
@@ -292,18 +303,19 @@ public class FloatColors {
         final int end = offset + size;
         if(colors == null || colors.length < end || offset < 0 || size <= 0)
             return 0f; // transparent, usually
-        float result = colors[offset];
-        float current = colors[offset + 1], total = current;
-        for (int i = offset+3; i < end; i += 2) {
-            total += colors[i];
-        }
-        total = 1f / total;
-        current *= total;
-        for (int i = offset+3; i < end; i += 2) {
-            float mixColor = colors[i-1], weight = colors[i] * total;
-            result = lerpFloatColors(result, mixColor, weight / (current += weight));
-        }
-        return result;
+        return ColorAccumulator.weightedMeanOf(colors, offset, size);
     }
 
+    /**
+     * Mixes any number of colors with arbitrary weights per-color. Takes a {@link FloatList} of alternating floats
+     * representing colors and weights, as with {@code color, weight, color, weight...}.
+     * If {@code colors} is null or empty, this returns 0f (usually transparent in most color spaces).
+     * @param colors a FloatList that should contain alternating {@code color, weight, color, weight...} floats
+     * @return a mix of all colors given respecting their weights, as a packed float color
+     */
+    public static float unevenMix(FloatList colors) {
+        if(colors == null)
+            return 0f; // transparent, usually
+        return unevenMix(colors.items, 0, colors.size());
+    }
 }
@@ -146,6 +146,24 @@ public class ColorTools {
         return (t < 0.20689655f) ? 0.1284185f * (t - 0.139731f) : t * t * t;
     }
 
+    /**
+     * {@link #forwardGamma(float)} of each possible 8-bit RGB channel value, scaled to the 0 to 1 range the same way
+     * {@link #fromRGBA8888(int)} scales it.
+     */
+    private static final float[] FORWARD_GAMMA = new float[256];
+    /**
+     * The Y component in XYZ for each possible 8-bit L channel value of a packed CIELAB color; this is
+     * {@link #reverseXYZ(float)} of the adjusted L that {@link #toRGBA8888(float)} computes from that channel.
+     */
+    private static final float[] REVERSE_XYZ_L = new float[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            FORWARD_GAMMA[i] = forwardGamma(i * 0x1.010101010101p-8f);
+            REVERSE_XYZ_L[i] = reverseXYZ((1f/1.16f)*(i / 255f + 0.16f));
+        }
+    }
+
     /**
      * Converts a packed float color in the format produced by {@link #cielab(float, float, float, float)} to an RGBA8888 int.
      * This format of int can be used with Pixmap and in some other places in libGDX.
@@ -159,7 +177,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) * (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         final int r = (int)(reverseGamma(Math.min(Math.max(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z, 0f), 1f)) * 255.999f);
         final int g = (int)(reverseGamma(Math.min(Math.max(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z, 0f), 1f)) * 255.999f);
@@ -181,7 +199,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) * (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         final int r = (int)(reverseGamma(Math.min(Math.max(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z, 0f), 1f)) * 255.999f);
         final int g = (int)(reverseGamma(Math.min(Math.max(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z, 0f), 1f)) * 255.999f);
@@ -195,9 +213,9 @@ public class ColorTools {
      * @return a packed float as CIELAB, which this class can use
      */
     public static float fromRGBA8888(final int rgba) {
-        final float r = forwardGamma((rgba >>> 24) * 0x1.010101010101p-8f);
-        final float g = forwardGamma((rgba >>> 16 & 0xFF) * 0x1.010101010101p-8f);
-        final float b = forwardGamma((rgba >>> 8 & 0xFF) * 0x1.010101010101p-8f);
+        final float r = FORWARD_GAMMA[rgba >>> 24];
+        final float g = FORWARD_GAMMA[rgba >>> 16 & 0xFF];
+        final float b = FORWARD_GAMMA[rgba >>> 8 & 0xFF];
 
         final float x = forwardXYZ(0.4124564f * r  + 0.3575761f * g + 0.1804375f * b);
         final float y = forwardXYZ(0.2126729f * r  + 0.7151522f * g + 0.0721750f * b);
@@ -217,9 +235,9 @@ public class ColorTools {
      */
     public static float fromRGBA(final float packed) {
         final int abgr = BitConversion.floatToRawIntBits(packed);
-        final float r = forwardGamma((abgr & 0xFF) * 0x1.010101010101p-8f);
-        final float g = forwardGamma((abgr >>> 8 & 0xFF) * 0x1.010101010101p-8f);
-        final float b = forwardGamma((abgr >>> 16 & 0xFF) * 0x1.010101010101p-8f);
+        final float r = FORWARD_GAMMA[abgr & 0xFF];
+        final float g = FORWARD_GAMMA[abgr >>> 8 & 0xFF];
+        final float b = FORWARD_GAMMA[abgr >>> 16 & 0xFF];
 
         final float x = forwardXYZ(0.4124564f * r + 0.3575761f * g + 0.1804375f * b);
         final float y = forwardXYZ(0.2126729f * r + 0.7151522f * g + 0.0721750f * b);
@@ -266,7 +284,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         return (int)(reverseGamma(Math.min(Math.max(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z, 0f), 1f)) * 255.999f);
 	}
@@ -283,7 +301,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         return (int)(reverseGamma(Math.min(Math.max(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z, 0f), 1f)) * 255.999f);
 	}
@@ -300,7 +318,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         return (int)(reverseGamma(Math.min(Math.max(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z, 0f), 1f)) * 255.999f);
 	}
@@ -327,7 +345,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         return reverseGamma(Math.min(Math.max(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z, 0f), 1f));
     }
@@ -344,7 +362,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         return reverseGamma(Math.min(Math.max(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z, 0f), 1f));
     }
@@ -361,7 +379,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         return reverseGamma(Math.min(Math.max(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z, 0f), 1f));
     }
@@ -396,65 +414,93 @@ public class ColorTools {
         return (float) Math.sqrt(a * a + b * b);
     }
     /**
-     * Given a hue and lightness, this gets the (very approximate) maximum chroma possible for that hue-lightness
+     * Given a hue and lightness, this gets the (approximate) maximum chroma possible for that hue-lightness
      * combination, using CIELAB's versions of lightness and hue (not HSL). This is useful to know the bounds of
-     * {@link #chroma(float)}. This should be no greater than 1.26365817f . Note that this version of chromaLimit() is
-     * much slower than Oklab's version, because this has to go to much greater lengths to become accurate.
+     * {@link #chroma(float)}. Like Oklab's version, this looks up the chroma limit in a table; the table has one entry
+     * for each combination of L byte and hue byte, and each entry is rounded down so that the chroma it gives is
+     * in-gamut for every hue in its range. For the lightest L bytes, gray itself is out of gamut, so this is the edge
+     * of the gamut furthest from gray; it is 0 only if no color with that L and hue is in gamut.
      * @param hue the hue, typically between 0.0f and 1.0f, to look up
      * @param lightness the lightness, clamped between 0.0f and 1.0f, to look up
-     * @return the maximum possible chroma for the given hue and lightness, between 0.0f and 1.26365817f
+     * @return the maximum possible chroma for the given hue and lightness, between 0.0f and about 0.56f
      */
     public static float chromaLimit(final float hue, final float lightness) {
-        final float h = hue - MathTools.floor(hue);
-        final float L = (1f/1.16f)*(lightness + 0.16f);
-        final float A = TrigTools.cosTurns(h) * (1.26365817f);
-        final float B = TrigTools.sinTurns(h) * (1.26365817f);
-        final float y = reverseXYZ(L);
-        float A2 = A, B2 = B;
-        for (int attempt = 127; attempt >= 0; attempt--) {
-            final float x = reverseXYZ(L + A2);
-            final float z = reverseXYZ(L - B2);
-            final float r = reverseGamma(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z);
-            final float g = reverseGamma(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z);
-            final float b = reverseGamma(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z);
-            if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
-                break;
-            final float progress = attempt * 0x1p-7f;
-            A2 = (A * progress);
-            B2 = (B * progress);
+        final int idx = (int) (Math.min(Math.max(lightness, 0f), 1f) * 255.999f) << 8
+                | ((int) (256f * (hue - MathTools.floor(hue))) & 255);
+        return gamutChroma(idx);
+    }
+    /**
+     * Gets the maximum in-gamut chroma stored in the gamut table, with the same scale {@link #chromaLimit(float, float)}
+     * uses. Each byte in the table is a multiple of {@code 0x1.2p-9f}, so the largest chroma it can hold is about 0.56.
+     * @param index must be between 0 and 65535; the upper 8 bits are lightness and the lower 8 are hue angle
+     * @return the maximum chroma for the given lightness and hue
+     */
+    private static float gamutChroma(final int index) {
+        return (Gamut.GAMUT_DATA[index] & 255) * 0x1.2p-9f;
+    }
+    /**
+     * Converts a distance from gray on the A or B axis, measured in channel units, to the channel value that is closest
+     * to that distance without being further from gray, clamped between 0 and 255. Rounding toward gray keeps a color
+     * that was placed on the edge of the gamut from being pushed just outside of it.
+     * @param offset the distance from gray, in channel units, which can be negative
+     * @return the channel value, from 0 to 255
+     */
+    private static int towardGray(final float offset) {
+        return offset >= 0f
+                ? Math.min((int) (offset + 127.5f), 255)
+                : Math.max(255 - (int) (127.5f - offset), 0);
+    }
+    /**
+     * Places a color with the L and alpha of {@code decoded} on the given hue, as far from gray as the gamut table
+     * allows but no further than {@code chroma}, and makes sure the result is in-gamut. If the table's chroma rounds to
+     * a color just outside the gamut, this steps toward gray one table unit at a time. For the lightest L values, gray
+     * itself can be out of gamut, and some hues have no in-gamut color close enough to gray; then this lowers L one
+     * step at a time until it finds an in-gamut color, keeping the A and B no further from gray.
+     * @param decoded the bits of a packed CIELAB color, used for its L and alpha
+     * @param hue the hue to place the color on, as from {@link TrigTools#atan2Turns(float, float)}
+     * @param chroma the largest chroma the result may have; may be infinite to use the table's chroma
+     * @return an in-gamut packed float color
+     */
+    private static float placeInGamut(final int decoded, final float hue, final float chroma) {
+        final float sin = TrigTools.sinTurns(hue) * (127.5f / 0.5f), cos = TrigTools.cosTurns(hue) * (127.5f / 0.2f);
+        final int h = (int) (256f * hue) & 255, alpha = decoded & 0xFE000000;
+        for (int L = decoded & 0xFF; L >= 0; L--) {
+            float dist = Math.min(chroma, gamutChroma(L << 8 | h));
+            for (int units = (int) (dist / 0x1.2p-9f) + 1; ; dist = --units * 0x1.2p-9f) {
+                final float placed = BitConversion.intBitsToFloat(alpha | L |
+                        towardGray(sin * dist) << 16 | towardGray(cos * dist) << 8);
+                if (inGamut(placed))
+                    return placed;
+                if (units <= 0)
+                    break;
+            }
         }
-        return (float) Math.sqrt(A2 * A2 + B2 * B2);
+        return BitConversion.intBitsToFloat(alpha | 0x7F7F00);
     }
     /**
      * Gets the color with the same L as the CIELAB color stored in the given packed float, but the furthest A
      * B from gray possible for that lightness while keeping the same hue as the given color. This is very
-     * similar to calling {@link #enrich(float, float)} with a very large {@code change} value.
+     * similar to calling {@link #enrich(float, float)} with a very large {@code change} value. The result is always
+     * in-gamut; for the lightest L values, where some hues have no in-gamut color at all, this lowers L as little as
+     * it can instead.
      * @param packed a packed float color in CIELAB format; does not need to be in-gamut
      * @return the color that is as far from grayscale as this can get while keeping the L and hue of packed
      * @see #limitToGamut(float) You can use limitToGamut() if you only want max saturation for out-of-gamut colors.
      */
     public static float maximizeSaturation(final float packed) {
         final int decoded = BitConversion.floatToRawIntBits(packed);
-        final float lightness = (decoded & 255) / 255f;
-        final float h = TrigTools.atan2TurnsFinite(((decoded >>> 16 & 0xff) - 127.5f), ((decoded >>> 8 & 0xff) - 127.5f));
-        final float L = (1f/1.16f)*(lightness + 0.16f);
-        final float A = TrigTools.cosTurns(h) * 1.26365817f * 0.2f;
-        final float B = TrigTools.sinTurns(h) * 1.26365817f * 0.5f;
-        final float y = reverseXYZ(L);
-        float A2 = A, B2 = B;
-        for (int attempt = 127; attempt >= 0; attempt--) {
-            final float x = reverseXYZ(L + A2);
-            final float z = reverseXYZ(L - B2);
-            final float r = reverseGamma(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z);
-            final float g = reverseGamma(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z);
-            final float b = reverseGamma(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z);
-            if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
-                break;
-            final float progress = attempt * 0x1p-7f;
-            A2 = (A * progress);
-            B2 = (B * progress);
-        }
-        return cielab(lightness, A2 * 0.5f + 0.5f, B2 * 0.5f + 0.5f, (decoded >>> 25) / 127f);
+        final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
+        final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
+        final float hue = TrigTools.atan2TurnsFinite(B, A);
+        final float placed = placeInGamut(decoded, hue, Float.POSITIVE_INFINITY);
+        final int p = BitConversion.floatToRawIntBits(placed);
+        final float pA = ((p >>> 8 & 0xff) - 127.5f) * (0.2f / 127.5f);
+        final float pB = ((p >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
+        // the table is conservative, so an in-gamut color on a thin sliver of the gamut can be further from gray than
+        // the table's chroma, or have no table chroma at all; that color is already as saturated as this can make it
+        if ((((p ^ decoded) & 0xFF) != 0 || pA * pA + pB * pB < A * A + B * B) && inGamut(packed))
+            return packed;
+        return placed;
     }
     /**
      * Gets the color with the same L as the CIELAB color stored in the given packed float, but the furthest A
@@ -473,25 +519,7 @@ public class ColorTools {
         A = Math.min(Math.max(A, 0f), 1f);
         B = Math.min(Math.max(B, 0f), 1f);
         alpha = Math.min(Math.max(alpha, 0f), 1f);
-        final float h = TrigTools.atan2TurnsFinite(B - 0.5f, A - 0.5f);
-        final float L0 = (1f/1.16f)*(L + 0.16f);
-        final float A0 = TrigTools.cosTurns(h) * 1.26365817f;
-        final float B0 = TrigTools.sinTurns(h) * 1.26365817f;
-        final float y = reverseXYZ(L0);
-        float A2 = A0, B2 = B0;
-        for (int attempt = 127; attempt >= 0; attempt--) {
-            final float x = reverseXYZ(L0 + A2);
-            final float z = reverseXYZ(L0 - B2);
-            final float r = reverseGamma(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z);
-            final float g = reverseGamma(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z);
-            final float b = reverseGamma(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z);
-            if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
-                break;
-            final float progress = attempt * 0x1p-7f;
-            A2 = (A0 * progress);
-            B2 = (B0 * progress);
-        }
-        return cielab(L, A2, B2, alpha);
+        return maximizeSaturation(cielab(L, A, B, alpha));
     }
 
     /**
@@ -519,29 +547,11 @@ public class ColorTools {
      */
     public static float cielabSaturation(final float packed) {
         final int decoded = BitConversion.floatToRawIntBits(packed);
-        final float L = (1f/1.16f)*(((decoded & 0xff) / 255f) + 0.16f);
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
-        final float h = TrigTools.atan2TurnsFinite(B, A);
-        final float L0 = (1f/1.16f)*(L + 0.16f);
-        final float A0 = TrigTools.cosTurns(h) * 1.26365817f;
-        final float B0 = TrigTools.sinTurns(h) * 1.26365817f;
-        final float y = reverseXYZ(L0);
-        float A2 = A0, B2 = B0;
-        for (int attempt = 127; attempt >= 0; attempt--) {
-            final float x = reverseXYZ(L + A2);
-            final float z = reverseXYZ(L - B2);
-            final float r = reverseGamma(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z);
-            final float g = reverseGamma(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z);
-            final float b = reverseGamma(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z);
-            if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
-                break;
-            final float progress = attempt * 0x1p-7f;
-            A2 = (A0 * progress);
-            B2 = (B0 * progress);
-        }
-        final float dist = (float) Math.sqrt(A2 * A2 + B2 * B2);
-        return (float) Math.sqrt(A * A + B * B) / dist;
+        final float hue = TrigTools.atan2TurnsFinite(B, A);
+        final float dist = gamutChroma((decoded & 0xff) << 8 | ((int) (256f * hue) & 255));
+        return dist <= 0f ? 0f : (float) Math.sqrt(A * A + B * B) / dist;
     }
     /**
      * Gets the lightness of the given CIELAB float color, but as CIELAB understands lightness rather than how HSL does.
@@ -570,8 +580,8 @@ public class ColorTools {
      * {@link #channelL(float)}, but the saturation here refers to what fraction the chroma should be of the maximum
      * chroma for the given hue and lightness. You can use {@link #cielabHue(float)}, {@link #cielabSaturation(float)},
      * and {@link #cielabLightness(float)} to get the hue, saturation, and lightness values from an existing color that
-     * this will understand ({@link #alpha(float)} too). This method is likely to be significantly slower than
-     * {@link #cielabByHCL(float, float, float, float)} because this needs to calculate the gamut.
+     * this will understand ({@link #alpha(float)} too). This method is a little slower than
+     * {@link #cielabByHCL(float, float, float, float)} because this needs to look up the gamut.
      * @param hue between 0 and 1, usually, but this will automatically wrap if too high or too low
      * @param saturation will be clamped between 0 and 1
      * @param lightness will be clamped between 0 and 1
@@ -583,31 +593,13 @@ public class ColorTools {
         saturation = Math.min(Math.max(saturation, 0f), 1f);
         hue -= MathTools.floor(hue);
         alpha = Math.min(Math.max(alpha, 0f), 1f);
-        final float L = (1f/1.16f)*(lightness + 0.16f);
-        final float L0 = (1f/1.16f)*(L + 0.16f);
         final float cos = TrigTools.cosTurns(hue);
         final float sin = TrigTools.sinTurns(hue);
-        final float A0 = cos * 1.26365817f * 0.2f;
-        final float B0 = sin * 1.26365817f * 0.5f;
-        final float y = reverseXYZ(L0);
-        float A2 = A0, B2 = B0;
-        for (int attempt = 127; attempt >= 0; attempt--) {
-            final float x = reverseXYZ(L + A2);
-            final float z = reverseXYZ(L - B2);
-            final float r = reverseGamma(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z);
-            final float g = reverseGamma(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z);
-            final float b = reverseGamma(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z);
-            if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
-                break;
-            final float progress = attempt * 0x1p-7f;
-            A2 = (A0 * progress);
-            B2 = (B0 * progress);
-        }
-        final float dist = (float) Math.sqrt(A2 * A2 + B2 * B2) * saturation;
+        final float dist = chromaLimit(hue, lightness) * saturation;
         return BitConversion.intBitsToFloat(
                 (int) (alpha * 127.999f) << 25 |
-                        Math.min(Math.max((int) (sin * dist + 127.5f), 0), 255) << 16 |
-                        Math.min(Math.max((int) (cos * dist + 127.5f), 0), 255) << 8 |
+                        towardGray(sin * dist * (127.5f / 0.5f)) << 16 |
+                        towardGray(cos * dist * (127.5f / 0.2f)) << 8 |
                         (int) (lightness * 255.999f));
     }
 
@@ -681,7 +673,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         final float r = reverseGamma(Math.min(Math.max(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z, 0f), 1f));
         final float g = reverseGamma(Math.min(Math.max(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z, 0f), 1f));
@@ -718,7 +710,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         final float r = reverseGamma(Math.min(Math.max(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z, 0f), 1f));
         final float g = reverseGamma(Math.min(Math.max(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z, 0f), 1f));
@@ -757,7 +749,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         final float r = reverseGamma(Math.min(Math.max(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z, 0f), 1f));
         final float g = reverseGamma(Math.min(Math.max(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z, 0f), 1f));
@@ -1205,7 +1197,7 @@ public class ColorTools {
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
         final float x = reverseXYZ(L + A);
-        final float y = reverseXYZ(L);
+        final float y = REVERSE_XYZ_L[decoded & 0xff];
         final float z = reverseXYZ(L - B);
         final float r = +3.2404542f * x + -1.5371385f * y + -0.4985314f * z;
         if(r <= -0x1p-8f || r >= 0x1.01p0f) return false;
@@ -1260,82 +1252,59 @@ public class ColorTools {
     }
 
     /**
-     * Iteratively checks whether the given CIELAB color is in-gamut, and either brings the color closer to grayscale if
-     * it isn't in-gamut, or returns it as soon as it is in-gamut. Maintains the L of the color, only bringing A and B
-     * closer to grayscale. Note that this version of limitToGamut() is much slower than Oklab's version, because Oklab
-     * stores its entire gamut as a large constant, while this has to calculate it.
+     * Checks whether the given CIELAB color is in-gamut, and either brings the color closer to grayscale if it isn't
+     * in-gamut, or returns it as-is if it is in-gamut. Maintains the L and hue of the color, only bringing A and B
+     * closer to grayscale. Like Oklab's version, this looks up the edge of the gamut in a table instead of searching
+     * for it, and only uses the table when the color isn't already in-gamut. The result is always in-gamut. For the
+     * lightest L values, gray itself can be out of gamut; if no color between the given one and gray is in-gamut
+     * there, this lowers L as little as it can, still keeping A and B no further from gray.
      * @param packed a packed float color in CIELAB format; often this color is not in-gamut
-     * @return the first color this finds that is between the given CIELAB color and grayscale, and is in-gamut
+     * @return the color that is between the given CIELAB color and grayscale, and is as far from grayscale as possible
+     * while staying in-gamut
      * @see #inGamut(float) You can use inGamut() if you just want to check whether a color is in-gamut.
      */
     public static float limitToGamut(final float packed) {
+        if (inGamut(packed))
+            return packed;
         final int decoded = BitConversion.floatToRawIntBits(packed);
-        final float L = (1f/1.16f)*((decoded & 0xff) / 255f + 0.16f);
         final float A = ((decoded >>> 8 & 0xff) - 127.5f) *  (0.2f / 127.5f);
         final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
-        final float y = reverseXYZ(L);
-        float A2 = A, B2 = B;
-        for (int attempt = 127; attempt >= 0; attempt--) {
-            final float x = reverseXYZ(L + A2);
-            final float z = reverseXYZ(L - B2);
-            final float r = reverseGamma(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z);
-            final float g = reverseGamma(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z);
-            final float b = reverseGamma(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z);
-            if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
-                break;
-            final float progress = attempt * 0x1p-7f;
-            A2 = (A * progress);
-            B2 = (B * progress);
-        }
-        return cielab(L, A2 * 0.5f + 0.5f, B2 * 0.5f + 0.5f, (decoded >>> 25) / 127f);
+        final float hue = TrigTools.atan2TurnsFinite(B, A);
+        return placeInGamut(decoded, hue, (float) Math.sqrt(A * A + B * B));
     }
 
     /**
-     * Iteratively checks whether the given CIELAB color is in-gamut, and either brings the color closer to grayscale if it
-     * isn't in-gamut, or returns it as soon as it is in-gamut. Maintains the L of the color, only bringing A and B
+     * Checks whether the given CIELAB color is in-gamut, and either brings the color closer to grayscale if it isn't
+     * in-gamut, or returns it as-is if it is in-gamut. Maintains the L and hue of the color, only bringing A and B
      * closer to grayscale. This always produces an opaque color.
      * @param L lightness; will be clamped between 0 and 1 if it isn't already
      * @param A cyan-to-red chroma; will be clamped between 0 and 1 if it isn't already
      * @param B blue-to-yellow chroma; will be clamped between 0 and 1 if it isn't already
-     * @return the first color this finds that is between the given CIELAB color and grayscale, and is in-gamut
+     * @return the color that is between the given CIELAB color and grayscale, and is as far from grayscale as possible
+     * while staying in-gamut
      * @see #inGamut(float, float, float)  You can use inGamut() if you just want to check whether a color is in-gamut.
      */
     public static float limitToGamut(float L, float A, float B) {
         return limitToGamut(L, A, B, 1f);
     }
     /**
-     * Iteratively checks whether the given CIELAB color is in-gamut, and either brings the color closer to grayscale if it
-     * isn't in-gamut, or returns it as soon as it is in-gamut. Note that this version of limitToGamut() is much slower
-     * than Oklab's version, because Oklab stores its entire gamut as a large constant, while this has to calculate it.
+     * Checks whether the given CIELAB color is in-gamut, and either brings the color closer to grayscale if it isn't
+     * in-gamut, or returns it as-is if it is in-gamut. Maintains the L and hue of the color, only bringing A and B
+     * closer to grayscale. This is the same as {@link #limitToGamut(float)} on the packed color the channels describe.
      * @param L lightness; will be clamped between 0 and 1 if it isn't already
      * @param A cyan-to-red chroma; will be clamped between 0 and 1 if it isn't already
      * @param B blue-to-yellow chroma; will be clamped between 0 and 1 if it isn't already
      * @param alpha opacity; will be clamped between 0 and 1 if it isn't already
-     * @return the first color this finds that is between the given CIELAB color and grayscale, and is in-gamut
+     * @return the color that is between the given CIELAB color and grayscale, and is as far from grayscale as possible
+     * while staying in-gamut
      * @see #inGamut(float, float, float)  You can use inGamut() if you just want to check whether a color is in-gamut.
      */
     public static float limitToGamut(float L, float A, float B, float alpha) {
-
-        L = (1f/1.16f)*(Math.min(Math.max(L, 0f), 1f) + 0.16f);
-        A = (Math.min(Math.max(A, 0f), 1f) - 0.5f) * 0.4f;
-        B = (Math.min(Math.max(B, 0f), 1f) - 0.5f);
+        L = Math.min(Math.max(L, 0f), 1f);
+        A = Math.min(Math.max(A, 0f), 1f);
+        B = Math.min(Math.max(B, 0f), 1f);
         alpha = Math.min(Math.max(alpha, 0f), 1f);
-
-        final float y = reverseXYZ(L);
-        float A2 = A, B2 = B;
-        for (int attempt = 127; attempt >= 0; attempt--) {
-            final float x = reverseXYZ(L + A2);
-            final float z = reverseXYZ(L - B2);
-            final float r = reverseGamma(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z);
-            final float g = reverseGamma(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z);
-            final float b = reverseGamma(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z);
-            if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
-                break;
-            final float progress = attempt * 0x1p-7f;
-            A2 = (A * progress);
-            B2 = (B * progress);
-        }
-        return cielab(L, A2 * 0.5f + 0.5f, B2 * 0.5f + 0.5f, alpha);
+        return limitToGamut(cielab(L, A, B, alpha));
     }
 
     /**
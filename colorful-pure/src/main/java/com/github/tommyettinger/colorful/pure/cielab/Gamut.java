@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.pure.cielab;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Generated by {@code cielab.internal.GamutWriter} in the tests; each byte is the maximum chroma for an L byte
+ * and hue byte, indexed by {@code L << 8 | hue}, in units of {@code 0x1.2p-9f}.
+ */
+final class Gamut {
+    private Gamut(){}
+    static byte[] GAMUT_DATA;
+    static {
+        try {
+            //noinspection StringBufferReplaceableByString,CharsetObjectCanBeUsed
+            GAMUT_DATA = new StringBuilder().append("\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\002\002\002\003\004\006\005\004\003\003\003\002\002\002\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\002\002\002\002\002\002\002\002\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\002\002\002\002\002\002\002\003\003\003\004\004\005\006\010\012\017\025\021\016\014\012\011\010\010\007\006\006\006\005\005\005\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\004\004\004\005\005\006\006\007\011\012\015\021\031$\035\030\024\022\020\016\015\014\013\012\012\011\011\010\010\007\007\007\006\006\006\006\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\004\004\004\004\004\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\004\004\004\004\005\005\005\006\006\007\007\010\011\013\014\017\022\030 +)\"\035\032\027\024\023\021\020\017\016\015\014\014\013\012\012\012\011\011\010\010\010\010\007\007\007\007\007\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\006\006\006\006\005\005\005\005\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\005\005\005\005\006\006\006\007\007\010\011\012\013\014\016\020\023\027\035%/8-&!\036\033\030\026\025\023\022\021\020\017\016\016\015\014\014\013\013\013\012\012\012\011\011\011\011\011\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\011\011\011\011\011\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\007\007\006\006\006\006\005\005\005\005\005\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\005\005\005\005\005\006\006\006\007\007\007\010\011\011\012\013\014\015\017\021\024\027\034\"*3<:0)%!\036\033\031\030\026\025\024\022\022\021\020\017\017\016\016\015\015\014\014\014\013\013\013\013\012\012\012\012\012\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\014\014\014\014\014\014\013\013\013\013\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\010\010\007\007\007\006\006\006\006\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\006\006\006\006\007\007\007\010\010\010\011\012\012\013\014\015\016\020\022\024\027\033 &-5>H;2,'$!\036\034\032\031\027\026\025\024\023\022\022\021\020\020\017\017\016\016\016\015\015\015\014\014\014\014\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\014\015\015\015\015\016\016\016\016\016\015\015\015\015\014\014\014\014\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\012\012\012\012\013\012\011\011\011\010\010\007\007\007\007\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005\006\006\006\006\006\007\007\007\007\010\010\010\011\011\012\012\013\014\015\016\017\021\022\024\027\032\036#)07@IG;4.*&#!\036\035\033\032\030\027\026\025\024\024\023\022\022\021\021\020\020\017\017\017\016\016\016\015\015\015\015\015\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\017\017\017\017\020\020\020\020\017\017\017\016\016\016\015\015\015\015\015\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\013\013\012\012\011\011\011\010\010\010\007\007\007\007\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\007\007\007\007\007\010\010\010\011\011\012\012\013\013\014\015\016\017\020\021\022\024\027\031\035!&+29BJPF<50,(%#!\037\035\034\032\031\030\027\026\025\025\024\023\023\022\022\021\021\021\020\020\020\017\017\017\017\016\016\016\016\016\015\015\015\015\015\015\015\015\015\014\014\014\014\014\014\014\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\017\020\020\020\020\021\021\021\022\022\022\022\021\021\020\020\020\017\017\017\017\016\016\016\016\016\015\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\015\015\015\014\014\013\012\012\012\011\011\011\010\010\010\010\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\010\010\010\010\011\011\011\012\012\013\013\014\015\015\016\017\020\021\023\024\026\031\034\037#(.4;CKWK@93/,)'%#!\037\036\034\033\032\031\030\027\027\026\025\025\024\024\023\023\022\022\021\021\021\021\020\020\020\020\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\021\021\021\022\022\022\023\023\023\024\023\023\022\022\021\021\021\020\020\020\020\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\016\016\016\017\017\017\016\016\015\014\014\013\013\012\012\012\011\011\011\010\010\010\010\010\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\010\010\010\010\011\011\011\011\012\012\012\013\013\014\015\015\016\016\017\020\022\023\025\026\031\033\036!%*/6<DLXUH?94/,)&$\"!\037\036\034\033\032\031\030\030\027\026\026\025\024\024\024\023\023\022\022\022\021\021\021\021\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\016\016\016\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\022\022\022\022\023\023\023\024\024\024\025\025\026\025\025\024\024\023\023\022\022\022\021\021\021\021\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\020\017\016\015\015\014\014\013\013\012\012\012\011\011\011\011\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\011\011\011\011\012\012\012\013\013\014\014\015\015\015\016\017\020\021\022\023\025\026\030\032\035 #',17>EPX^OF>940-*(%#\" \037\036\035\034\033\032\031\030\030\027\026\026\025\025\024\024\024\023\023\023\022\022\022\022\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\022\023\023\023\023\023\024\024\024\025\025\026\026\026\027\027\027\026\026\025\025\025\024\024\023\023\023\022\022\022\022\022\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\021\022\022\021\020\017\017\016\015\015\014\014\013\013\013\012\012\012\012\011\011\011\011\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\011\011\011\011\011\012\012\012\013\013\013\014\014\014\015\015\016\017\017\020\021\022\023\025\026\030\032\034\037\"%).38?FPYdVKC=840-*(&$#! \037\036\035\034\033\032\031\031\030\027\027\026\026\026\025\025\024\024\024\024\023\023\023\023\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\023\024\024\024\024\024\025\025\025\026\026\026\027\027\030\030\031\031\030\030\027\027\026\026\025\025\025\024\024\024\023\023\023\023\023\022\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\022\022\023\023\023\023\023\023\022\021\020\017\016\016\015\015\014\014\014\013\013\013\012\012\012\012\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\012\012\012\012\012\013\013\013\014\014\014\015\015\016\016\017\020\021\022\023\024\025\026\030\031\033\036 #'+/4:@IQZe[PGA;730-+('%#\"!\037\036\035\034\034\033\032\032\031\030\030\027\027\026\026\026\025\025\025\024\024\024\024\024\023\023\023\023\023\023\023\022\022\022\022\022\022\022\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\025\025\025\025\026\026\026\026\027\027\030\030\031\031\032\032\033\032\031\031\030\030\027\027\027\026\026\026\025\025\025\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\025\025\024\023\022\021\020\020\017\016\016\015\015\014\014\014\013\013\013\013\012\012\012\012\012\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\012\012\012\012\012\013\013\013\013\014\014\014\015\015\016\016\017\020\020\021\022\023\024\025\026\030\031\033\035\037\"%(,05;@JR[f`TKD>:62/-*('%$\"! \037\036\035\034\034\033\032\032\031\031\030\030\027\027\026\026\026\026\025\025\025\025\024\024\024\024\024\024\023\023\023\023\023\023\023\023\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\026\026\026\027\027\027\030\030\030\031\031\032\032\033\033\034\034\033\033\032\032\031\031\030\030\027\027\027\026\026\026\026\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\026\026\026\026\025\024\023\022\021\021\020\017\017\016\016\015\015\015\014\014\014\013\013\013\013\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\013\013\013\013\014\014\014\015\015\015\016\016\017\017\020\021\021\022\023\024\025\026\027\031\032\034\036!#&)-16;DKS\\heXNGA<841/,*('%$\"! \037\036\035\035\034\033\033\032\032\031\031\030\030\027\027\027\026\026\026\026\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\027\027\027\027\030\030\030\031\031\032\032\033\033\034\034\035\036\035\034\034\033\033\032\032\031\031\031\030\030\030\027\027\027\027\026\026\026\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\026\027\027\027\027\030\030\027\026\024\023\023\022\021\020\020\017\017\016\016\015\015\015\014\014\014\014\013\013\013\013\013\012\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\012\013\013\013\013\014\014\014\014\015\015\015\016\016\017\017\020\020\021\022\022\023\024\025\026\027\030\032\034\035\037\"$'+.27?ELT^ii[QIC>:630.,*(&%$\"! \037\037\036\035\034\034\033\033\032\032\031\031\030\030\030\027\027\027\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\026\027\027\027\027\030\030\030\030\031\031\032\032\032\033\034\034\035\035\036\037\037\036\036\035\034\034\033\033\033\032\032\031\031\031\031\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\031\031\031\030\027\026\025\024\023\022\021\021\020\020\017\017\016\016\016\015\015\015\014\014\014\014\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\014\014\014\014\015\015\015\015\016\016\017\017\017\020\021\021\022\022\023\024\025\026\027\030\032\033\035\037!#&(,/3;@FMU_kl^TLE@<852/-+)(&%#\"! \037\037\036\035\035\034\033\033\032\032\031\031\031\030\030\030\027\027\027\027\026\026\026\026\026\026\026\026\025\025\025\025\025\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\030\030\030\030\031\031\031\032\032\033\033\034\034\035\036\036\037 ! \037\037\036\036\035\035\034\034\033\033\033\032\032\032\032\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\032\032\032\032\033\032\030\027\026\025\024\023\022\022\021\021\020\020\017\017\016\016\016\015\015\015\015\014\014\014\014\014\013\013\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\013\014\014\014\014\014\015\015\015\015\016\016\017\017\017\020\020\021\021\022\023\023\024\025\026\027\030\031\033\034\036 \"$')-07;AGNV`lo`VNGB=9631.,*)'&$#\"! \037\037\036\035\035\034\034\033\033\032\032\031\031\031\030\030\030\030\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\027\030\030\030\030\030\031\031\031\032\032\032\033\033\034\034\035\036\036\037  !\"!! \037\037\036\036\035\035\034\034\034\033\033\033\033\032\032\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\032\033\033\033\033\034\034\034\033\032\030\027\026\025\024\023\023\022\022\021\020\020\020\017\017\016\016\016\016\015\015\015\015\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\015\015\015\015\016\016\016\016\017\017\020\020\021\021\022\022\023\023\024\025\026\027\030\031\032\034\035\037!#%(*.48<BHOXbnqbXOIC?;742/-+)('%$#\"! \037\037\036\035\035\034\034\033\033\032\032\031\031\031\031\030\030\030\030\027\027\027\027\027\027\027\027\026\026\026\026\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\032\032\032\033\033\033\034\034\035\035\036\036\037\037 !\"#$$#\"!!  \037\037\036\036\035\035\035\034\034\034\034\033\033\033\033\033\033\033\033\032\032\032\032\032\032\032\032\032\033\033\033\033\033\033\033\034\034\034\034\035\035\035\035\033\032\031\027\026\025\025\024\023\022\022\021\021\020\020\017\017\017\016\016\016\015\015\015\015\015\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\015\015\015\015\015\016\016\016\017\017\017\020\020\021\021\022\022\023\024\024\025\026\027\030\031\032\034\035\037!#%'*037<BHOXboyi]UMHC>;8520.,*)(&%$#\"!! \037\036\036\035\035\034\034\033\033\033\032\032\032\032\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\031\031\032\032\032\032\033\033\033\034\034\035\035\036\036\037\037 !!\"#$%%$#\"\"!!  \037\037\037\036\036\036\035\035\035\035\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\036\036\036\037\037\035\033\032\031\030\027\026\025\024\023\023\022\022\021\021\020\020\017\017\017\016\016\016\016\015\015\015\015\015\015\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\014\014\014\015\015\015\015\015\016\016\016\016\017\017\017\020\020\020\021\021\022\022\023\024\024\025\026\027\030\031\032\033\034\036 !#&*-048=CIQYdp{k_VOID?<8631/-+*('&%$#\"!  \037\036\036\035\035\034\034\034\033\033\033\032\032\032\032\031\031\031\031\031\031\030\030\030\030\030\030\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\033\033\033\034\034\034\035\035\036\036\037\037 !!\"#$%&&&%$##\"\"!!   \037\037\037\036\036\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\037\037\037\037   \036\034\033\032\031\030\027\026\025\024\024\023\022\022\021\021\020\020\020\017\017\017\017\016\016\016\016\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\016\016\016\016\017\017\017\017\020\020\021\021\021\022\022\023\024\024\025\026\027\027\030\031\033\034\035\037 \"&(+.159>DJR[er}l`WPJE@=9642/.,*)(&%$#\"\"! \037\037\036\036\035\035\034\034\034\033\033\033\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\033\033\033\033\034\034\034\035\035\036\036\037\037  !\"##$%&(''&%$$##\"\"!!!    \037\037\037\037\037\037\037\036\036\036\036\036\036\036\036\036\037\037\037\037\037\037\037    !!!!\037\036\034\033\032\030\027\027\026\025\024\024\023\023\022\022\021\021\020\020\020\017\017\017\017\016\016\016\016\015\015\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\015\015\016\016\016\016\016\017\017\017\017\020\020\020\021\021\022\022\022\023\024\024\025\026\026\027\030\031\032\033\034\036 #%'),/26:?EKS\\gt\177nbYQKFA>:7520.-+*('&%$#\"!! \037\037\036\036\035\035\034\034\034\033\033\033\033\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\032\032\032\033\033\033\033\034\034\034\035\035\036\036\037\037  !\"\"#$%&'()(''&%%$$###\"\"\"!!!!                   !!!!\"\"\"##\" \037\035\034\033\031\030\027\027\026\025\024\024\023\023\022\022\021\021\021\020\020\020\017\017\017\017\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\017\017\017\017\020\020\020\020\021\021\022\022\022\023\023\024\025\025\026\027\030\031\031\033\035\037 \"#%'*,/37;@FMT^iv\201pdZRLGB?;8531/-,*)(&%$$#\"!  \037\037\036\036\035\035\035\034\034\034\033\033\033\033\032\032\032\032\032\032\032\031\031\031\031\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\034\034\034\035\035\035\036\036\037\037  !!\"#$%&'()**)(('&&%%$$$###\"\"\"\"!!!!!!!!!!!!!!!!!\"\"\"\"###$$$$\" \036\035\033\032\031\030\027\027\026\025\025\024\023\023\022\022\022\021\021\020\020\020\020\017\017\017\017\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\017\017\017\017\017\020\020\020\021\021\021\022\022\022\023\023\024\024\025\026\026\027\031\032\033\034\036\037 \"$&(*-047<AGNV_jx\203re[TMHC@<96420.,+)('&%$#\"\"!  \037\037\036\036\035\035\035\034\034\034\033\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\033\034\034\034\034\035\035\035\036\036\037\037  !!\"##$%&'(*+,+*))(''&&%%%$$$#####\"\"\"\"\"\"\"\"\"\"\"\"\"#####$$$%%%&%#!\037\036\034\033\032\031\030\027\026\026\025\025\024\023\023\023\022\022\021\021\021\020\020\020\020\017\017\017\017\017\016\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\016\017\017\017\017\017\020\020\020\020\021\021\021\022\022\022\023\023\024\025\026\027\027\030\031\032\033\034\035\036\037!#$&)+.148=BHOW`ly\205sg]UOID@=:7520/-+*)('&%$#\"!!  \037\037\036\036\035\035\035\034\034\034\034\033\033\033\033\033\033\032\032\032\032\032\032\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\035\035\035\036\036\037\037\037 !!\"\"#$%&'()*,-,,+*))((''&&&%%%$$$$$$$$######$$$$$$$%%%&&&''&$\" \036\035\034\033\032\031\030\027\026\026\025\025\024\023\023\022\022\022\021\021\021\020\020\020\020\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\016\016\015\015\015\015\015\015\016\016\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\020\020\020\020\021\021\022\023\023\023\024\024\025\025\026\026\027\030\031\031\032\033\034\035\037 !#%'),.259>CIPXbm{\207uh^VPJEA>;8531/.,+)('&%$##\"!!  \037\037\036\036\035\035\035\035\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\035\035\035\035\036\036\037\037\037  !\"\"#$%%&'(*+,..-,,+**))(('''&&&&%%%%%%%%%%%%%%%%%&&&&&''((('$#!\037\036\035\033\032\031\031\030\027\026\026\025\024\024\023\023\023\022\022\021\021\021\021\020\020\020\020\017\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\020\020\020\020\021\021\021\021\022\022\022\022\023\023\024\024\025\025\026\026\027\027\030\031\032\033\034\035\036\037 \"$%'*,/26:?DJQZco}\211wj`WQKGB?<96420.-+*)('&%$#\"\"!!  \037\037\036\036\036\035\035\035\034\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\034\034\035\035\035\035\036\036\036\037\037\037  !\"\"#$$%&'()*+-.0/.--,++**))(((''''&&&&&&&&&&&&&&&''''(((())*(%#\" \036\035\034\033\032\031\030\030\027\026\025\025\024\024\023\023\023\022\022\022\021\021\021\020\020\020\020\020\017\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\021\021\021\021\022\022\022\022\023\023\023\024\024\025\025\026\026\027\030\030\031\032\033\034\035\036 !\"$&(*-037;?EKR[eq\177\213xkaYRLHC@<:7531/-,+)('&%$$#\"\"!!  \037\037\036\036\036\035\035\035\035\034\034\034\034\034\034\034\033\033\033\033\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\036\036\036\037\037\037  !!\"##$%&''(*+,-/110/.--,,++**)))((((('''''''''''((((())))**++(&$\"!\037\036\035\034\033\032\031\030\027\026\026\025\025\024\024\023\023\023\022\022\022\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\020\021\021\021\021\022\022\022\022\023\023\023\024\024\025\025\026\026\027\027\030\031\032\032\033\034\035\037 !#%')+.047<@FLT\\fr\200\215zmbZSMIDA=:85310.-+*)('&%$##\"\"!!  \037\037\036\036\036\036\035\035\035\035\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\035\036\036\036\036\037\037   !!\"##$%%&'()*+-.012100/..-,,+++***)))))))(((((()))))))***++,,,)'%#! \036\035\034\033\032\031\030\030\027\026\026\025\025\025\024\024\024\023\023\023\022\022\022\022\021\021\021\021\021\020\020\020\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\020\020\020\021\021\021\021\022\022\022\022\023\023\023\024\024\024\025\025\026\026\027\030\030\031\032\033\034\035\036\037 \"#%'),.148<AGMU]ht\202\217|nd[TOJEA>;96420/-,+)('&&%$##\"!!   \037\037\037\036\036\036\035\035\035\035\035\035\034\034\034\034\034\034\034\034\034\035\035\035\035\035\035\035\035\035\036\036\036\036\037\037\037   !!\"\"#$$%&'()*+,-/02432100/..--,,,+++******************+++,,,---*'%#\" \037\036\034\034\033\032\032\031\030\030\027\027\026\025\025\025\024\024\023\023\023\022\022\022\022\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\017\017\017\017\017\017\017\017\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\022\022\022\022\023\023\023\024\024\024\025\025\026\026\027\027\030\031\032\032\033\034\035\036 !\"$&(*,/259=BHNV_iu\204\221~pe]VPKFB?<97531/.,+*)('&%$$##\"!!   \037\037\037\036\036\036\036\035\035\035\035\035\035\035\035\035\034\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\037\037\037   !!\"\"##$%&&'()*+-./1354332100//..---,,,,++++++++++++++,,,,---../-*(&$#\"  \036\035\034\033\032\031\031\030\027\027\026\026\025\025\024\024\024\023\023\023\022\022\022\022\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\022\022\022\022\023\023\023\023\024\024\025\025\026\026\027\027\030\030\031\032\033\034\035\036\037 !#$&(*-/26:>CIOW`kw\206\223\177qf^WQLGC@=:85320.-,+)(''&%$$#\"\"!!   \037\037\037\036\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\036\037\037\037\037   !!\"\"##$%%&'()*+,-/0245654332110///...----,,,,,,,,,,,,-----...//0.+)(&$#! \037\035\034\034\033\032\031\030\030\027\027\026\026\025\025\024\024\024\023\023\023\022\022\022\022\021\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\022\022\022\022\023\023\023\023\024\024\024\025\025\026\026\027\027\030\031\031\032\033\034\035\036\037 \"#%')+-037;?DJPXaly\210\225\201sh_XRMHDA>;86421/.,+*)('&%%$##\"\"!!!  \037\037\037\037\036\036\036\036\036\036\036\035\035\035\035\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037   !!!\"\"##$$%&''()*+-./1246876543321100///.....----------.....///00110-+)'%#\" \037\036\035\034\033\032\031\031\030\027\027\026\026\025\025\025\024\024\024\023\023\023\022\022\022\022\022\021\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\021\022\022\022\022\022\023\023\023\024\024\024\025\025\026\026\027\027\030\030\031\032\033\033\034\035\036 !\"$%')+.147;@EKRYcmz\211\227\203ti`YSNIEB><975310.-,+*)('&%%$##\"\"!!!   \037\037\037\037\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037\037\037   !!!\"\"##$$%&&'()*+,-.013579876554332211000//////......//////000111221.+)'%$\"!\037\036\035\034\033\033\032\031\030\030\027\027\026\026\025\025\024\024\024\023\023\023\023\022\022\022\022\022\021\021\021\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\021\021\021\022\022\022\022\022\023\023\023\024\024\024\025\025\025\026\026\027\027\030\031\031\032\033\034\035\036\037 !#$&(*,/158<AFLS[do|\213\231\204vkbZTOJFB?<:86420/.,+*)(''&%$$##\"\"!!!   \037\037\037\037\037\037\036\036\036\036\036\036\036\036\036\036\037\037\037\037\037\037\037\037    !!!\"\"##$$%%&'(()*+-./12468::98765543322211100000000000000000111223341.,*'&$\"! \037\036\035\034\033\032\031\031\030\030\027\026\026\026\025\025\024\024\024\023\023\023\023\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\023\023\023\023\024\024\024\025\025\025\026\026\027\027\030\030\031\032\032\033\034\035\036\037 \"#%&(*-/259=AGMT\\ep}\215\233\206wlc[UPKGC@=;86431/.-,+*)('&&%$$##\"\"!!!    \037\037\037\037\037\037\037\037\036\036\037\037\037\037\037\037\037\037\037\037    !!!!\"\"##$$%%&''()*+,-.013468;;:9877655443332221111111111111112223334452/,*(&$#! \037\036\035\034\033\032\032\031\030\030\027\027\026\026\025\025\025\024\024\024\023\023\023\023\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\023\023\023\023\024\024\024\024\025\025\026\026\026\027\030\030\031\031\032\033\034\035\035\036 !\"$%')+-036:>BHNU]fr\177\217\235\210ymd]VQLHDA>;975320/-,+*)(('&%%$$##\"\"!!!!    \037\037\037\037\037\037\037\037\037\037\037\037\037\037\037      !!!\"\"\"##$$%%&&'()**+-./023579;=<;:98776655443333222222222222233334455662/-*('%#\"!\037\036\035\034\034\033\032\031\031\030\030\027\027\026\026\025\025\025\024\024\024\023\023\023\023\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\023\023\023\023\023\024\024\024\025\025\025\026\026\027\027\030\030\031\032\032\033\034\035\036\037 !#$&')+.037:>CIOV^hs\201\221\237\211zoe^WRMIEB?<:86421/.-,+*)(''&%%$$##\"\"\"!!!      \037\037\037\037\037           !!!!\"\"\"###$$%&&'(()*+,-.012468:<>=<;:99877665554444333333333334444555667630-+)'%$\"! \037\036\035\034\033\032\032\031\030\030\027\027\026\026\026\025\025\024\024\024\024\023\023\023\023\023\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\022\022\023\023\023\023\023\024\024\024\025\025\025\026\026\027\027\030\030\031\031\032\033\033\034\035\036\037 \"#$&(*,.147;?DIPW_iu\202\222¡\213|pg_XSNJFC@=;865310/-,+*))('&&%%$$##\"\"\"!!!!                  !!!!!\"\"\"###$$%%&''()*+,-./023568;=?>=<<;:998877665555544444444445555666778730.+)'&$#! \037\036\035\034\033\033\032\031\031\030\030\027\027\026\026\025\025\025\024\024\024\024\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\024\024\024\025\025\025\026\026\026\027\027\030\030\031\032\032\033\034\035\036\037 !\"#%'(*-/258<@EJQX`jv\204\224£\215}qh`YTOKGC@>;975320/.-,+*)(''&&%$$$##\"\"\"\"!!!!!           !!!!!!!\"\"\"\"##$$$%%&&'())*+,-./124579;>@@?>=<;;:9988777666665555555566667778899741.,*(&%#\"!\037\036\036\035\034\033\032\032\031\030\030\027\027\027\026\026\025\025\025\024\024\024\024\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\024\024\024\025\025\025\025\026\026\027\027\030\030\031\031\032\033\033\034\035\036\037 !\"$%')+-/259<AFKRYblw\205\226¤\217\177siaZUPKHDA><:864310.-,+**)(''&%%$$$###\"\"\"!!!!!!!!  !!!!!!!!!!\"\"\"\"###$$$%%&&'(()*+,-./013468:<>AA@?>==<;;:999888777776666667777788899::841/,*('%$\"! \037\036\035\034\033\033\032\031\031\030\030\027\027\026\026\026\025\025\025\024\024\024\024\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\024\024\024\024\025\025\025\026\026\027\027\027\030\030\031\032\032\033\034\035\035\036\037 \"#$&()+.0369=BFLSZcmy\207\230¦\220\200tjb\\VQLHEB?=:865320/.-,+*)(('&&%%$$$###\"\"\"\"!!!!!!!!!!!!!!!\"\"\"\"\"\"###$$$%%&&''()**+,-./123578:=?BCBA@?>=<<;;::9998888888888888888999::;;852/-+)'%$#! \037\036\035\034\034\033\032\032\031\031\030\030\027\027\026\026\026\025\025\025\024\024\024\024\023\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\024\024\024\024\024\025\025\025\026\026\026\027\027\030\030\031\031\032\033\033\034\035\036\037 !\"#%&(*,.137:>BGMT[dnz\211\232¨\222\202vlc]WRMIFC@=;9754210.-,++*)(('&&%%$$$####\"\"\"\"\"!!!!!\"\"\"\"\"\"\"\"\"\"\"####$$$%%&&''())*+,-./0134679;=@CDCBA@?>>=<<;;;:::99999999999999:::;;;<<9520-+)'&$#\"! \037\036\035\034\033\033\032\031\031\030\030\027\027\026\026\026\025\025\025\025\024\024\024\024\023\023\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\023\023\024\024\024\024\024\025\025\025\026\026\026\027\027\030\030\031\031\032\032\033\034\034\035\036\037 !\"$%'(*,/147;?CHNU\\eo|\212\233ª\224\203wme^XSNJGDA><:864310/.-,+*))(''&&%%$$$####\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"####$$$$%%&&''(()*++,-./023568:<>ACFECBAA@?>>==<<;;;::::::::::::::;;;<<===9630.,*(&%#\"! \037\036\035\034\034\033\032\032\031\031\030\030\027\027\026\026\026\025\025\025\025\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\022\022\022\022\022\022\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\025\025\025\026\026\026\027\027\027\030\030\031\031\032\033\033\034\035\036\036\037 \"#$&')+-/258;?DIOV]fq}\214\235¬\225\205xnf_YTOKHDA?=:8753210.-,,+*)((''&&%%%$$$#####\"\"\"\"\"\"\"\"\"\"\"#######$$$%%%&&''(()**+,-./0124579:=?ADGFEDCBA@@?>>==<<<;;;;;;;;;;;;;;<<<==>>>:741.,*('%$#! \037\036\035\035\034\033\033\032\031\031\030\030\027\027\027\026\026\026\025\025\025\025\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\025\025\025\025\026\026\026\027\027\030\030\031\031\032\032\033\034\034\035\036\037 !\"#%&()+-0258<@EJPW^gr\177\215\237®\227\206zog`ZUPLHEB@=;9764310/.-,+**)((''&&%%%$$$#######\"\"\"##########$$$$%%%&&''(())*++,-./0234679;=@BEHGFEDCBAA@??>>>===<<<<<<<<<<<<<===>>??>;741/-+)'&$#\"! \037\036\035\034\034\033\032\032\031\031\030\030\027\027\027\026\026\026\025\025\025\025\024\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\025\025\025\025\026\026\026\027\027\027\030\030\031\031\032\033\033\034\035\035\036\037 !\"$%&(*,.0369=AEKQX_is\200\217¡°\231\210{qha[VQMIFC@><:865321/.--,+*))((''&&%%%$$$$###############$$$$$$%%%&&'''())**+,-./0123568:<>@CFIIHFEDDCBAA@@??>>>============>>>>??@@?;842/-+)(&%#\"! \037\036\035\035\034\033\033\032\031\031\030\030\030\027\027\026\026\026\026\025\025\025\025\024\024\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\024\025\025\025\025\026\026\026\027\027\027\030\030\031\031\032\032\033\033\034\035\036\037 !\"#$%')*,.136:=BFLRYaju\201\221£²\233\212|rib\\VRNJGDA?<:9754210/.-,++*))((''&&%%%%$$$$$#####$$$$$$$$$$$%%%%&&'''(()**+,,-./0134579;<?ADFJJIHGFEDCBBAA@@???>>>>>>>>>>>>????@@AA@<8520.,*('%$#! \037\037\036\035\034\033\033\032\032\031\031\030\030\027\027\027\026\026\026\026\025\025\025\025\024\024\024\024\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\024\024\025\025\025\025\025\026\026\026\027\027\027\030\030\030\031\031\032\033\033\034\034\035\036\037 !\"#$&')+-/147:>BGLRYbkv\203\222¤´\234\213~sjc]WSOKGDB?=;9764321/..-,+**))('''&&&%%%$$$$$$$$$$$$$$$$$$%%%%&&&'''(())*++,-./01235689;=?BDGJLJIHGFEDDCBBAA@@@@???????????@@@@AABB@<9630.,*)'%$#\"! \037\036\035\034\034\033\033\032\031\031\031\030\030\027\027\027\026\026\026\026\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\026\026\026\026\027\027\027\030\030\031\031\032\032\033\033\034\035\036\036\037 !\"$%&()+-/258;?CHMSZclw\204\224¦¶\236\215\177tld^XTOLHEB@><:8654210/.-,,+**)(('''&&&%%%%%$$$$$$$$$$$%%%%%%%&&&'''(())**+,--./0134578:<>@BEHKMLJIHGFFEDCCBBBAAA@@@@@@@@@@@AAAABBCCA=:631/-+)'&%#\"! \037\036\036\035\034\033\033\032\032\031\031\030\030\030\027\027\027\026\026\026\026\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\026\026\026\026\027\027\027\030\030\031\031\031\032\033\033\034\034\035\036\037 !\"#$%'(*,.0258<?DINT[dmy\206\225¨¸ \216\201vme_YUPLIFCA><:9754321//.-,++*))(('''&&&&%%%%%%$$$%%%%%%%%%%&&&&'''(())**+,,-./01234679;<?ACFILNMLJIHHGFEEDCCCBBBAAAAAAAAAAABBBBCCDDB>:741/-+)(&%$#!  \037\036\035\034\034\033\033\032\032\031\031\030\030\027\027\027\027\026\026\026\026\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\026\026\026\026\027\027\027\030\030\030\031\031\032\032\033\033\034\035\035\036\037 !\"#$&')*,.1369<@DIOU\\enz\207\227ªº¡\220\202wnf`ZUQMJGDA?=;98653210/.-,,+**))(('''&&&&%%%%%%%%%%%%%%%&&&&&''''(())**++,-../01245689;=?ADGJMPNMLKJIHGFFEEDDCCCBBBBBBBBBBBCCCCDDEEB>;7520.,*('%$#\"! \037\036\035\035\034\033\033\032\032\031\031\030\030\030\027\027\027\026\026\026\026\026\025\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\025\025\026\026\026\026\027\027\027\030\030\030\031\031\032\032\033\033\034\034\035\036\037\037 !\"#%&')+-/1469=AEJPV]fp{\211\231¬¼£\221\203xoga[VRNKGEB@><:87543210/.-,,+**))((('''&&&&&%%%%%&&&&&&&&&&&'''((())**++,--./01234578:<>@BEGJNQPNMLKJIHGGFFEEDDDCCCCCCCCCCCDDDDEEFFC?;8530.,*)'&$#\"! \037\036\036\035\034\034\033\033\032\032\031\031\030\030\030\027\027\027\026\026\026\026\026\025\025\025\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\025\025\025\026\026\026\026\026\027\027\027\027\030\030\030\031\031\032\032\033\033\034\035\035\036\037 !\"#$%&(*+-/247:>AFKQW^gq|\212\232­¾¥\223\205zpib\\WSOKHEC@><:97643210/.--,++**))((('''&&&&&&&&&&&&&&&&&&''''((())**++,,-.//01235679;<>@CEHKNRQPNMLKJIIHGGFFEEEDDDDDDDDDDDDEEEFFGGD@<9631/-+)(&%$#!! \037\036\035\035\034\033\033\032\032\031\031\031\030\030\030\027\027\027\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\027\027\027\027\030\030\030\031\031\032\032\033\033\034\034\035\036\036\037 !\"#$%'(*,.0258;>BGLQX_hr~\213\234¯À§\224\206{qjc]XTPLIFCA?=;986543210/.-,,++**))((('''''&&&&&&&&&&&&''''''((())***+,,--./01234578:;=?ACFILOSRQONMLKJJIHHGGFFFEEEEEEEEEEEEFFFGGHHD@<9641/-+)('%$#\"! \037\036\036\035\034\034\033\033\032\032\031\031\030\030\030\027\027\027\027\026\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\027\027\027\027\030\030\030\031\031\031\032\032\033\033\034\035\035\036\037  !\"#%&')*,.0358;?CGLRY`is\177\215\235±Â¨\226\207|skd^YUQMJGDB@><:87643210/..-,,++**))((((''''''&&&''''''''''(((())***++,--./001235679:<>@BDGJMPTSRQPNMLLKJIIHHGGGFFFFFFFFFFFFGGGHHIIEA=:742/-,*('&$#\"! \037\037\036\035\035\034\033\033\032\032\032\031\031\030\030\030\027\027\027\027\026\026\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\027\027\027\027\030\030\030\031\031\031\032\032\033\033\034\034\035\036\036\037 !\"#$%&()+-/1369<?DHMSZajt\200\216\237³Äª\227\211}tle_ZUQNJHEB@><;976543210/.--,,+***)))((('''''''''''''''((((()))***++,,-../012345689;<>@BEGJMQUUSRQPNNMLKJJIIHHHGGGGGGGGGGGGHHHIIJJFA>:7520.,*)'&%$#\"! \037\036\036\035\034\034\033\033\032\032\031\031\031\030\030\030\027\027\027\027\027\026\026\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\026\026\027\027\027\027\030\030\030\030\031\031\032\032\032\033\033\034\035\035\036\037\037 !\"#$%'(*+-/1469<@DINT[bkv\202\220 µÆ¬\231\212\177umf`[VROKHFCA?=;:87543210//.--,++***)))(((((''''''''(((((((()))***++,,--./001234678:;=?ACFHKNRVVUSRQPONMLKKJJIIIHHHHHHHHHHHHHIIJJKKFB>;8530.-+)(&%$#\"! \037\037\036\035\035\034\033\033\032\032\032\031\031\031\030\030\030\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\025\025\025\025\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\030\030\030\030\031\031\031\032\032\033\033\034\034\035\035\036\037  !\"#%&'(*,.0247:=AEJOU\\clw\203\221¢¶È­\232\214\200vnga\\WSOLIFDA?=<:976543210/..-,,++***))))((((((('((((((((())))***++,,--.//012345679:<>@BDFILOSVWVTSRQPONMLLKKJJIIIIIIHHHIIIIIJJJKKLGC?<8631/-+*('%$#\"!  \037\036\035\035\034\034\033\033\032\032\031\031\031\030\030\030\030\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\030\030\030\031\031\031\032\032\032\033\033\034\035\035\036\036\037 !\"#$%&')*,.0257:>AFJPV\\dmx\204\223¤¸Ê¯\234\215\201wohb]XTPMJGDB@><;986543210//.--,,++***)))))(((((((((((()))))****++,,--../0112345789;=>@BDGJMPSWYWVTSRQPONMMLLKKJJJJJIIIIIJJJJJKKLLLGC?<9641/-,*)'&%$#\"! \037\036\036\035\035\034\033\033\033\032\032\031\031\031\030\030\030\030\027\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\030\030\030\031\031\031\032\032\032\033\033\034\034\035\035\036\037\037 !\"#$%&()+-.0358;>BFKPV]eny\205\224¥ºÌ±\235\216\202xpic^YUQMJHECA?=;:876543210//.--,,+++***)))))((((").append("))))))))))***+++,,--../0012345679:;=?ACEHJMQTXZXWUTSRQPONNMMLLKKKKJJJJJJJKKKKLLMMMHD@=:7420.,*)(&%$#\"! \037\037\036\035\035\034\034\033\033\032\032\032\031\031\031\030\030\030\030\027\027\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\030\030\030\030\030\031\031\031\032\032\033\033\033\034\035\035\036\036\037 !!\"#$&'(*+-/1368<?CGLQW^foz\207\225§¼Î²\237\220\204zqjd^ZURNKHFCA?><:9865432100/..--,,+++***))))))))))))))))****+++,,,--.//0122345789:<>?ADFHKNQUY[YXWUTSRQPOONNMMLLLKKKKKKKKKLLLMMMNNIEA=:7520.,+)('%$#\"!! \037\036\036\035\035\034\034\033\033\032\032\032\031\031\031\030\030\030\030\027\027\027\027\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\027\027\030\030\030\030\030\031\031\031\032\032\032\033\033\034\034\035\035\036\037\037 !\"#$%&')*,-/1469<@CHLRX_gq{\210\227¨¾Ð´ \221\205{rke_[VROLIFDB@><;9876543210//..--,,+++*****)))))))))*******+++,,,--../0012345678:;=>@BDFILORVZ\\[YXVUTSRQPPONNNMMMLLLLLLLLLLMMMNNOOJEA>;8531/-+*('&%$#\"! \037\037\036\035\035\034\034\033\033\032\032\032\031\031\031\031\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\031\031\031\032\032\032\033\033\034\034\035\035\036\036\037  !\"#$%&()*,.0247:=@DHMSY`hr}\211\230ª¿Ò¶¢\222\206|slf`[WSPMJGECA?=;:9765432110//.---,,++++*******)*********++++,,,--../00122345689:<=?ACEGJLPSW[^\\ZYWVUTSRQQPOONNNMMMMMMMMMMMNNNOOPOJFB>;8631/-,*)'&%$#\"!  \037\036\036\035\035\034\034\033\033\032\032\032\031\031\031\031\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\031\031\031\031\032\032\033\033\033\034\034\035\035\036\037\037 !\"\"#$%'()+-.0257:=AEINSZais~\213\232¬ÁÔ¸£\224\207}umga\\XTPMJHECA?><:98765432100/..---,,++++*************+++++,,,---..//01123456789;<>?ACEHJMPTW\\_][ZYWVUTSRRQPPOOONNNNNNNNNNNNOOOPPPKGC?<96420.,*)(&%$#\"!! \037\037\036\035\035\034\034\033\033\033\032\032\032\031\031\031\031\030\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\030\031\031\031\031\032\032\032\033\033\034\034\035\035\036\036\037  !\"#$%&'(*+-/1358;>AEJOT[bjt\177\214\233­ÃÖ¹¥\225\211~vnhb]YUQNKHFDB@>=;:8765432210//..---,,,+++++****++++++++++,,,---..//00123345679:;=>@BDFHKNQTX\\`^][ZXWVUTSSRQQPPOOOOONNNNOOOOOPPQQQLGC@<97420.,+)('&%$#\"! \037\037\036\036\035\035\034\034\033\033\032\032\032\032\031\031\031\031\030\030\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\030\030\031\031\031\031\032\032\032\033\033\033\034\034\035\035\036\036\037 !!\"#$%&')*,-/1368;>BFJOU[cku\200\215\235¯ÅØ»¦\227\212\177woic^ZVROLIGDB@?=<:98755432110//..---,,,,+++++++++++++++,,,,---..//001223456789:<=?ABEGILORUY]a_^\\[YXWVUTSSRRQQPPPOOOOOOOOPPPQQQRQLHD@=:7530/-+*('&%$#\"!! \037\036\036\035\035\034\034\034\033\033\032\032\032\032\031\031\031\031\030\030\030\030\030\030\030\030\030\027\027\027\027\027\027\027\027\030\030\030\030\030\030\030\030\030\031\031\031\031\032\032\032\033\033\033\034\034\035\035\036\036\037\037 !\"\"#$%'()+,.02469<?CGKPV\\dlv\201\216\236°ÇÚ½¨\230\213\201xpjd_ZVSOMJGECA?><;987654322100//..---,,,,,+++++++++,,,,,,,---..//001123445678:;<>?ACEGJLOSVZ^b`_]\\ZYXWVUTTSRRQQQPPPPPPPPPPQQQRSTRMHDA=:8531/-,*)(&%$#\"\"! \037\037\036\036\035\035\034\034\033\033\033\032\032\032\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\032\032\032\032\033\033\034\034\034\035\035\036\036\037  !\"#$%&'()+,.02479<@CGLQW]emw\202\220\237²ÈÜ¾©\231\214\202yqke`[WSPMJHFDB@>=;:986554321100//..----,,,,,,++,,,,,,,,,----..///011223456789:;=>@BDFHJMPSW[_db`^][ZYXWVUTTSSRRRQQQQQQQQQQRRSSTTSNIEA>;8631/.,+)('&%$#\"!  \037\036\036\035\035\034\034\034\033\033\033\032\032\032\031\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\032\032\032\032\033\033\033\034\034\035\035\036\036\037\037 !!\"#$%&')*+-/0257:=@DHLRW^enx\204\221¡´ÊÞÀ«\233\216\203zrlfa\\XTQNKIFDB@?=<:9876543321100//...---,,,,,,,,,,,,,-----...///0012234456789;<=?ABDFIKNQTX[`eca_^\\[ZYXWVUUTTSSRRRRRRRRRRSSSTTUUSNJFB?<96420.,+*('&%$#\"!! \037\037\036\036\035\035\034\034\033\033\033\032\032\032\032\031\031\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\031\032\032\032\032\033\033\033\034\034\034\035\035\036\036\037  !\"##$%&()*,-/1358:=ADHMRX_foy\205\222¢µÌàÂ¬\234\217\204{smga]YUROLIGECA?><;:976654322110///...-----,,,,----------...///0011233456789:;=>@ACEGILOQUX\\afdb`_]\\[ZYXWVVUTTSSSSRRSSSSSSTTTUUVTOJFC?<97420/-+*)'&%$#\"\"!  \037\036\036\035\035\035\034\034\033\033\033\032\032\032\032\032\031\031\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\031\031\032\032\032\032\033\033\033\034\034\034\035\035\036\036\037\037 !!\"#$%&'()+,./1368;>AEINSY`gpz\206\224¤·ÎâÄ®\235\220\205|tmhb^YVROLJHECB@>=;:9876544322100///....---------------....///00112234556789:<=?@BDFHJLORUY]bfeca`^]\\[ZYXWVVUUTTTTTTTTTTTTTUUVVWUPKGC@=:7531/-,*)('&%$#\"!! \037\037\036\036\035\035\034\034\034\033\033\033\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\033\033\033\033\034\034\035\035\035\036\036\037  !\"\"#$%&'(*+,.02469;>BFJNTZ`hq{\207\225¥¸ÐãÅ°\237\221\206}unhc^ZWSPMKHFDB@?=<;:8766543321100///.....----------.....////00112234456789:;<>?ABDFHKMPSVZ^bgfdba_^]\\ZZYXWVVUUUUUUUUUUUUUUUVVWWVPLGD@=:8531/.,+)('&%$#\"\"!  \037\036\036\035\035\035\034\034\034\033\033\033\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\033\033\033\033\034\034\034\035\035\036\036\037\037  !\"##$%&')*+-.02479<?BFJOTZair|\210\226§ºÑåÇ± \223\210~void_[WTQNKIGECA?>=;:987654432211000///......--.........////001122334556789:;=>@ACEGIKNQTW[_chgecb`_^\\[ZYYXWWWWVVVUUUUUUUVVVWWXXVQLHDA>;86420.,+*('&%$##\"!  \037\037\036\036\035\035\034\034\034\033\033\033\033\032\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\032\033\033\033\034\034\034\035\035\035\036\036\037  !!\"#$%&'()*,-/1357:<@CGKPU[bjs}\211\227¨¼ÓçÉ³¢\224\211\177wpje`\\XUQNLIGECB@>=<;9876654332211000///............./////0001122334456789:;<=?@BCEGJLNQTX[`dihfdca`^]\\[ZYYXXXWWWVVVVVVVVVWWWXXYWRMIEA>;96420.-+*)('&%$#\"!!  \037\036\036\036\035\035\034\034\034\033\033\033\033\032\032\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\032\033\033\033\033\034\034\034\034\035\035\036\036\037\037  !\"\"#$%&'()+,./1358:=@DGLPV\\ckt~\213\231©½ÕéÊ´£\225\212\200xqkfa]YUROMJHFDB@?><;:9876554332211000/////....//////////00011122344566789:;=>?ABDFHJMORUX\\`ejigedba_^]\\[ZZZYXXXWWWWWWWWWWWXXYYZXSNIEB?<97421/-,*)('&%$#\"\"!  \037\037\036\036\035\035\035\034\034\034\033\033\033\033\032\032\032\032\032\032\032\032\031\031\031\031\031\031\031\031\031\032\032\032\032\032\032\032\032\033\033\033\033\033\034\034\034\035\035\036\036\036\037\037 !!\"#$$%&')*+,.02368;=ADHLQW]dlu\200\214\232«¿×ëÌ¶¤\227\213\202yrlgb]ZVSPMKHFDCA@>=<:987765443322110000///////////////000011122334556789:;<=>@ACEGIKMPSVY]afkjhfecb`_^]\\\\[ZZYYXXXXWWWWXXXXXYYZZYSNJFB?<:7531/.,+)('&%$##\"!!  \037\036\036\036\035\035\034\034\034\034\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\034\034\034\035\035\035\036\036\037\037  !\"\"#$%&'()*+-.02468;>AEIMRW^emv\201\215\233¬ÀÙíÎ·¦\230\214\203zsmgc^ZWSQNKIGECB@?=<;:987655443222110000///////////000001111223344567789:;<>?@BCEGIKNPSVZ^bglkigfdba`_^^]\\[[ZZYYYXXXXXXXYYYZZ[[YTOKGC@=:85310.,+*)(&&%$#\"\"!  \037\037\036\036\035\035\035\034\034\034\034\033\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\034\034\034\035\035\035\036\036\036\037\037 !!\"##$%&'()*,-/02479<>BEINSX^enw\202\216\235®ÂÚïÏ¹§\231\215\204{tnhc_[WTQNLJHFDBA?>=;:987765543322211100000///0000000001112223344566789:;<=>?ABDFHJLNQTW[_cgmljhgecba`_^]]\\[[ZZZYYYYYYYYYZZZ[[\\ZUPKGD@=;86420.-+*)('&%$##\"!!  \037\037\036\036\035\035\035\034\034\034\034\033\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\033\034\034\034\034\035\035\035\036\036\037\037  !!\"#$$%&'(*+,./13579<?BFJNSY_fnx\203\217\236¯ÄÜñÑº¨\232\217\205|uoid`\\XUROMJHFDCA@>=<;:987665443322211100000000000000111122233445567789:;<=?@ACEFHJMORUX[_dhnnkigfdcba`_^]]\\[[[ZZZZZZZZZZZ[[[\\][UPLHDA>;96420/-,+)('&%$$#\"!!  \037\037\036\036\036\035\035\035\034\034\034\034\033\033\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\033\033\034\034\034\034\035\035\035\036\036\037\037\037 !!\"\"#$%&'()*+-.01357:=@CFJOTZ`goy\204\220\237±ÅÞóÓ¼ª\234\220\206}vpjea]YVSPMKIGECB@?><;:98876554433222111110000111111111122233445566789:;<=>?@BCEGIKMPRUY\\`diooljhgedcba`_^]]\\\\[[[[ZZZZZ[[[[\\\\]]\\VQLHEA><97531/.,+*)'&&%$#\"\"!!  \037\037\036\036\035\035\035\035\034\034\034\034\033\033\033\033\033\033\033\033\033\032\032\032\032\032\032\033\033\033\033\033\033\033\033\033\034\034\034\034\035\035\035\036\036\036\037\037  !!\"##$%&'()*+-.02468:=@CGKPUZahpz\205\222¡²ÇàõÕ½«\235\221\207~wqkfa]ZVSPNLIGEDBA?>=<;:9877655443322221111111111111112222334445667889:;<=>@ABDFGILNPSVY]aejopmkiggedcba`_^^]\\\\\\[[[[[[[[[\\\\]]^^\\WRMIEB?<975310.-+*)('&%$##\"!!  \037\037\036\036\036\035\035\035\034\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\035\035\035\035\036\036\037\037\037 !!\"\"#$%%&'()+,-/02468;>ADHLPU[aiq{\206\223¢³Èâ÷Ö¿­\236\222\210\177xrlgb^ZWTQNLJHFDCA@?=<;:988766554433222211111111111222223334445567789:;;=>?@ACEFHJLNQTWZ^bfkpqnljihfedba``_^^]]\\\\\\\\\\\\\\\\\\\\\\]]^^_]WRNJFB?<:85320.-,*)('&%$$#\"\"!!  \037\037\036\036\036\035\035\035\034\034\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\035\035\035\035\036\036\036\037\037  !!\"##$%&'()*+,./13479;>ADHLQV\\bjr|\207\224£µÊãùØÀ®\237\223\211\200yrmhc_[XUROMKHGECB@?>=<;:98776654443332222211122222222233344455667889:;<=>?ABCEGIKMORTW[^bglqqomkjhgfdcba``_^^^]]]]]]]]]]]^^^_`^XSNJFC@=:86420/-,+)('&&%$##\"!!  \037\037\037\036\036\036\035\035\035\034\034\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\034\035\035\035\035\036\036\036\037\037  !!\"\"#$$%&'()*+-./13579<?BEIMQW\\cjs}\210\225¤¶ÌåûÚÂ¯¡\224\212\202zsnhd`\\XURPMKIGEDBA@>=<;:9987765544433322222222222222333344455667789:;;<=?@ABDFGIKMPRUX[_chmrrpnmkihfedcba``__^^^]]]]]]]^^^__``_YTOKGC@=;86421/.,+*)('&%$$#\"\"!!  \037\037\036\036\036\035\035\035\035\034\034\034\034\034\034\034\034\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\034\034\035\035\035\035\036\036\036\037\037\037  !!\"\"#$%%&'()*,-.02357:<?BFIMRW]dkt~\211\226¦¸ÍçýÛÃ±¢\226\213\203{tnid`\\YVSPNLJHFDCA@?>=<;:988766554443333222222223333333444556677899:;<=>?@BCEFHJLNPSVY\\`dhmssqpnljigfedcba``___^^^^^^^^^___`aa_YTPKGDA>;97531/.-+*)('&%%$#\"\"!!  \037\037\037\036\036\036\035\035\035\035\035\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\036\036\036\036\037\037  !!\"\"##$%&''(*+,-/02468:=@CFJNSX^elu\177\212\227§¹ÏéÿÝÅ²£\227\214\204|uojea]ZWTQOLJHGECBA?>=<;:99877665544443333332333333334444556677889:;;<=>@ABDEGHJLOQTVZ]aeinttrqomkihgfddcbaa``___________``aab`ZUPLHDA><975310.-,*)('&&%$##\"\"!!  \037\037\037\036\036\036\035\035\035\035\035\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\036\036\036\037\037\037  !!\"\"#$$%&'()*+,./12468;=@CGJOSY_emv\200\213\231¨»ÐêþßÆ³¤\230\215\205}vpkfb^ZWTROMKIGEDBA@?>=<;:9887766555444333333333334444455566678899:;<=>?@ACDFGIKMORTWZ^aejouutqomljigfedccbaa`````___````aaabca[VQLIEB?<:85420/-,+*)('&%$$#\"\"!!   \037\037\036\036\036\036\035\035\035\035\035\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\035\036\036\036\037\037\037  !!\"\"##$%%&'()*+-./13579;>ADGKOTY_fnw\201\214\232ª¼ÒìüáÈµ¦\231\217\206~wqlgc_[XURPMKIHFDCB@?>=<;::98877665554444433344444444455566677899:;;<=>?ABCEFHJKNPRUX[^bfkpvwurpnmkjhgfedccbbaaa```````aaabbccb\\VQMIFB?=:86421/.,+*)('&%%$##\"\"!!  \037\037\037\036\036\036\036\035\035\035\035\035\035\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\035\035\036\036\036\036\037\037   !!\"\"#$$%&''()+,-.013579<>ADHLPUZ`gox\202\215\233«½ÔîûâÉ¶§\232\220\207\177xrlhc_\\YVSPNLJHFECBA@?>=<;:9988776655544444444444444555566677889::;<=>?@ABDEGHJLNPSVX\\_cglqwxvsqomljihgfedccbbbaaaaaaaaabbbcddb\\WRNJFC@=;86431/.-+*)('&&%$$#\"\"!!   \037\037\037\036\036\036\036\035\035\035\035\035\035\035\035\034\034\034\034\034\034\034\034\035\035\035\035\035\035\035\035\036\036\036\036\037\037\037  !!\"\"##$%%&'()*+,-/02357:<?BEHLPU[ahpx\203\216\234¬¿ÕðùäË¸¨\233\221\210\200ysmhd`\\YVTQOMKIGEDCA@?>=<;;:998776665555444444445555555666778899:;<<=>?@BCDFGIKMOQSVY\\`dhlrwyvtrpnmkjihgfeddccbbbbbbbbbbbccddec]WSNJGC@>;975310.-,+*)('&%%$##\"\"!!  \037\037\037\037\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\037\037\037   !!\"\"##$%&&'()*+,./12468:<?BEIMQV[bhpy\204\220\235­À×ò÷æÌ¹©\235\222\211\201ztniea]ZWTROMKIHFDCBA?>==<;::9887766665555554555555556666778899:;;<=>?@ABCEFHIKMORTWZ]`dimrxzwusqomlkihgffeddccccbbbbbccccddefd^XSOKGDA><975320/-,+*)('&%%$##\"\"!!   \037\037\037\037\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\037\037\037   !!\"\"##$$%&''()*+-./12468:=@CFIMRW\\biqz\205\221\236¯ÂØóöçÎº«\236\223\212\202{tojfb^[XURPNLJHFEDBA@?>=<;;:998877766655555555555566667778899::;<<=>?@ACDEGHJLNPRUWZ^aeinsy{xvtrpnmkjihgffeeddccccccccdddeeffd^YTOKHDA?<:86420/.,+*)(''&%$$##\"\"!!   \037\037\037\036\036\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\037\037\037\037   !!\"\"##$%%&'()*+,-.013579;=@CFJNRW]cjr{\206\222 °ÃÚóôéÏ¼¬\237\224\213\203{upkfb_[XUSPNLJIGEDCB@?>==<;::9988777666665556666666667778889::;;<=>?@ABCDFGIJLNPSUX[^bfjotz|ywtrqonlkjihgffeeedddddddddeeefgge_YTPLHEB?<:86421/.-,+))('&%%$##\"\"!!!   \037\037\037\036\036\036\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\036\037\037\037\037   !!\"\"##$$%&&'()*+,-/023579;>ACGJNSX]dks|\207\223¡±ÅÜòóëÑ½­ \225\214\204|vqlgc_\\YVSQOMKIHFECBA@?>=<<;::998877766666666666666777788899:;;<==>?@ABCEFHIKMOQSVY\\_cgkpu{}zwusqpnmlkjihggffeeeeeeeeeeeffgghf`ZUQLIEB?=;864310.-,+*)('&&%$$##\"\"!!   \037\037\037\037\037\036\036\036\036\036\036\036\036\036\035\035\035\035\036\036\036\036\036\036\036\036\036\037\037\037\037   !!!\"\"##$%%&''()*+,./024579<>ADGKOSY^dlt}\210\224¢³ÆÝðñíÒ¾®¡\226\215\204}wqlhd`]YWTROMKJHGEDCA@?>>=<;;:99988777766666666677777788899::;<<=>?@ABCDEGHJLMORTWY\\`cglpv|~{xvtrqonmkjiihggfffeeeeeeffffgghig`[VQMIFC@=;975320/-,+*)(''&%%$##\"\"!!!   \037\037\037\037\037\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037    !!\"\"##$$%%&'()*+,-./12468:<?ADHKPTY_elu~\211\225£´ÈßîðîÔÀ°¢\227\216\205~xrmida]ZWURPNLJIGFDCBA@?>=<<;::999888777776677777777888899::;;<==>?@ABCDFGIJLNPRUWZ]`dhlqw}~|ywusqpomlkjiihhggfffffffffgghhiiga[VRNJFC@>;975420/.-+*))('&%%$$##\"\"!!!   \037\037\037\037\037\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037\037    !!!\"\"##$$%&&'()*+,-.013468:=?BEHLPUZ_fmu\177\212\226¤µÉàíîðÖÁ±¤\230\217\206\177ysniea^[XUSQNMKIHFECBA@?>>=<;;::9998887777777777778888999::;;<<=>?@@ACDEFHIKMOQSUX[^aeimrx~\177}zxvtrqonmlkjiihhggggggggggghhiijhb\\WRNJGDA><:86421/.-,+*)('&&%$$##\"\"\"!!    \037\037\037\037\037\037\036\036\036\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037\037\037   !!!\"\"##$$%%&'(()*+,-/013579;=@BEIMQUZ`gnv\200\213\227¦¶Êâëíî×Ã²¥\231\220\207\200ztojfb_[YVSQOMKJHGEDCBA@?>==<;;::99988887777888888888999::;;<<=>>?@ABCDEGHJKMOQSVX[^bejnsx\177\200}{ywusrponmlkjjiihhhhggghhhhiijjkib]XSOKGDA?<:864310.-,+*)(''&%%$$##\"\"!!!    \037\037\037\037\037\037\037\036\036\036\036\036\036\036\036\036\036\037\037\037\037\037\037\037   !!!\"\"\"##$$%&&'()**+-./023579;=@CFIMQV[agow\201\213\230§¸ÌäêëíÙÄ³¦\233\221\210\201zuokgc_\\YVTRPNLJIGFDCBA@?>>=<<;;::999888888888888889999::;;;<==>?@@ABDEFGIJLNPRTVY\\_bfjoty\177\201~|zwvtrqpnmmlkjjiiihhhhhhhiiijjkljc]XSOKHEB?=:865310/.,+*))('&&%$$##\"\"\"!!!    \037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037     !!!\"\"##$$%%&''()*+,-./124579<>@CFJNRW\\bhox\201\214\231¨¹ÍåèêëÚÅµ§\234\222\211\202{uplgc`]ZWURPNLKIHFEDCBA@?>==<<;;::9999888888888999999::;;;<<=>>?@ABCDEFHIKLNPRUWZ]`cgkpuz\200\202\177}zxvusrponmllkkjjiiiiiiiiijjkklljd^YTPLHEB@=;975320/.-,+*)(''&%%$$##\"\"!!!!    \037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037     !!!\"\"\"##$$%&&'(()*+,-.013468:<>ADGJNRW\\bipy\202\215\232©ºÏæçèéÜÇ¶¨\235\223\212\203|vqlhda]ZXUSQOMKJHGEDCBA@??>==<;;;:::999998899999999:::;;;<<==>?@@ABCDFGHJKMOQSUXZ]`dhlpu{\201\203\200~{ywutrqponmllkkjjjjjjjjjjjkkllmke_YUPLIFC@=;975421/.-,+*)(('&%%$$##\"\"\"!!!!     \037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037     !!!\"\"\"##$$%%&&'())*+,./013568:<?ADGKOSX]cjqz\203\216\233ª¼ÐäåçèÝÈ·©\236\224\213\204}wrmiea^[XVSQOMLJIGFEDCBA@?>>=<<;;;:::999999999999::::;;;<<==>??@ABCDEFGIJLNOQSVX[^aehlqv|\202\204\201~|zxvusrqponmmllkkkjjjjjkkkllmmnle_ZUQMIFC@><9864310.-,+*))('&&%%$$##\"\"\"!!!!      \037\037\037\037\037\037\037\037\037\037\037\037      !!!!\"\"\"##$$%%&''()*+,-./023579;=?BEHKOTX^djrz\204\217\234«½ÒãäåæßÉ¹«\237\225\214\205~xsnifb_\\YVTRPNLKIHFEDCBA@??>==<<;;;::::9999:::::::::;;;<<==>>?@AABCDEGHIKLNPRTVY\\_beimrw}\203\205\202\177}{ywvtsrqponmmlllkkkkkkklllmmnomf`[VQMJGDA><:864310/.-,+*)(''&%%$$###\"\"\"!!!!       \037\037\037\037\037\037\037        !!!!\"\"\"##$$%%&&'(()*+,-./124579;=@BEHLPTY^dks{\205\220\235­¾ÓáâãåàËº¬ \226\215\205\177ysojfc_\\ZWURPNMKJHGFECBBA@?>>==<<;;;::::::::::::::;;;;<<==>>??@ABCDEFGHJKMOPRUWY\\_bfjnsx}\204\206\203\200~|zxvutrqpoonmmmlllllllllmmnnoomga[VRNJGDA?<:865320/.-,+*)(('&&%%$$##\"\"\"!!!!!                    !!!!\"\"\"###$$%%&''())*+,-.0124679;>@CFILPUZ_els|\206\221\236®¿ÔàáâãâÌ»­¡\227\216\206\200ztokgc`]ZXUSQOMLJIGFEDCBA@@?>>==<<;;;;::::::::::;;;;;<<===>??@AABCDEFHIJLMOQSUXZ]`cgjosy~\205\207\204\201\177|{ywvtsrqpoonnmmmmmmmmmmmnnoopnga\\WSOKHEB?=;975421/.-,+*))(''&%%$$###\"\"\"!!!!!                  !!!!\"\"\"\"##$$%%&&''()*+,-./013468:<>ACFIMQUZ`flt}\207\222 ¯ÁÖÞßàâãÎ¼®¢\230\217\207\200zuplhda^[XVTQPNLKIHGEDCBBA@??>>==<<<;;;;;::;;;;;;;;<<<===>>?@@ABCDEFGHIKLNPRTVX[]`dgkoty\177\206\207\205\202\177}{zxvutsrqpponnnmmmmmmnnnooppqohb\\XSOKHEB@=;9754210/-,++*)(''&&%%$$###\"\"\"!!!!!!              !!!!!\"\"\"\"###$$%%&&'(()*+,-./023568:<>ADGJMQV[`fmu~\210\223¡°Â×ÝÞßàâÏ¾¯£\231\220\210\201{vqlhea^[YVTRPNMKJHGFEDCBA@@??>===<<<;;;;;;;;;;;;<<<<===>>??@AABCDEFGIJKMNPRTVY[^adhlpuz\200\207\210\205\203\200~|zywvutsrqppoonnnnnnnnoooppqrpic]XTPLHEC@>;9864310/.-,+*)(('&&%%$$$##\"\"\"\"!!!!!!!          !!!!!!\"\"\"\"###$$%%&&''()**+,-./123578:=?ADGJNRV[agnv\177\211\224¢±ÃÙÛÜÝßàÐ¿°¤\232\221\211\202|wrmieb_\\YWUSQOMLJIHFEDCBBA@@?>>===<<<<;;;;<<<<<<<<<===>>??@@ABCDEFGHIJLMOQSUWY\\_beimqv{\201\207\211\206\204\201\177}{zxwutsrrqpppooooooooopppqrrpic^YTPLIFC@><:865320/.-,+*))(''&&%%$$###\"\"\"\"!!!!!!!!!!  !!!!!!!!!\"\"\"\"###$$$%%&&'(()*+,,-/0124579;=?BEHKOSW\\ahov\177\212\225£²ÅÙÚÛÜÝßÒÀ²¥\233\222\212\203}wrnjfc_]ZWUSQONLKIHGFEDCBAA@??>>===<<<<<<<<<<<<<<====>>??@@ABBCDEFGHIKLNOQSUWZ]_bfimrv|\202\210\212\207\204\202\200~|zywvutsrrqqppppoooppppqqrrsqjd^YUQMIFCA><:8753210.-,++*)(('&&%%$$$###\"\"\"\"!!!!!!!!!!!!!!!!!!!\"\"\"\"\"###$$%%&&''())*+,-./0134679;=@BEHKOSX]bhow\200\213\226¤´Æ×ØÙÚÜÝÓÁ³¦\234\223\213\204~xsojgc`]ZXVTRPNMKJHGFEDCBBA@@??>>====<<<<<<<<<<=====>>??@@AABCDDEFHIJKMNPRTVXZ]`cfjnrw}\203\211\213\210\205\203\201\177}{zxwvutsrrqqqpppppppqqqrsstrke_ZUQMJGDA?=;9754210/.-,+*))(''&&%%$$####\"\"\"\"\"!!!!!!!!!!!!!!!!\"\"\"\"\"###$$$%%&&''()**+,-./023468:<>@CEILPTX]cipx\201\213\227¥µÇÖ×ØÙÚÛÔÃ´¨\235\224\214\205~ytokgda^[YVTRPOMLJIHGFEDCBAA@@??>>>====<<<========>>>???@@ABBCDEFGHIJLMOQRTVY[^adgkosx}\203\212\214\211\206\204\201\177~|zyxwvutssrrqqqqqqqqqrrssturke`ZVRNJGDB?=;9764310/.-,+*))(''&&%%$$$####\"\"\"\"\"!!!!!!!!!!!!!\"\"\"\"\"\"###$$$%%&&''(()*++,-./123568:<>ACFILPTY^cjqy\202\214\230¦¶ÉÔÕÖ×ÙÚÖÄµ©\236\225\215\206\177zuplhea^\\YWUSQONLKIHGFEDCCBAA@@??>>>============>>>>???@@ABBCDDEFGHJKLNOQSUWY\\^adhkoty~\204\213\215\212\207\205\202\200~}{zywvuutssrrrrrrrrrrrsstuuslf`[VRNKHEB@=;9864320/.-,++*)((''&&%%$$$####\"\"\"\"\"\"\"!!!!!!!!\"\"\"\"\"\"\"####$$$%%&&''())*+,-./0124578:<?ADFIMQUY^djrz\203\215\231§·ÊÓÔÕÖ×Ø×Å¶ª\237\226\216\206\200zuqlieb_\\ZWUSQPNMKJIHGFEDCBBA@@???>>>>=======>>>>>>???@@AABCCDEFGHIJKMNPRSUWZ\\_behlpuz\177\205\214\216\213\210\205\203\201\177~|{yxwvuuttsssrrrrrsssttuuvtmfa\\WSOKHEC@><:8653210/--,+*))(''&&%%%$$$####\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"####$$$%%&&''(()**+,-./0134679;=?ADGJMQUZ_ekrz\204\216\232¨¸ËÑÒÓÔÕ×ØÆ·« \227\217\207\201{vqmifc`]ZXVTRPOMLJIHGFEDCCBAA@@???>>>>>>=>>>>>>>????@@AABBCDEEFGHIKLMOPRTVXZ]`bfimquz\200\206\215\217\214\211\206\204\202\200~}{zyxwvuutttssssssstttuvvwunga\\WSOLIFCA><:8754210/.-,+**)((''&&%%$$$#####\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"####$$$%%%&&''())*++,-./0234679;=?BDGJNRVZ`els{\204\217\233©¹ÌÐÑÒÓÔÕ×È¹¬¡\230\217\210\202|wrnjfc`][YVTRQONLKJIGFFEDCBBAA@@????>>>>>>>>>>?????@@AABBCCDEFGHIJKLNOQSTVY[]`cfjmrv{\201\207\216\220\214\212\207\205\203\201\177~|{zyxwvvuutttttttttuuvvwxunhb]XTPLIFCA?=;9754310/.-,++*)((''&&%%%$$$#####\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"#####$$$$%%&&''(())*+,-./0123568:;>@BEHKNRV[`flt|\205\220\234ª»ÎÎÏÐÑÒÔÕÉº­¢\231\220\211\203}xsokgda^[YWUSQPNMKJIHGFEDDCBBAA@@@????>>>????????@@@AAABCCDEEFGHIJLMNPQSUWY[^adgjnrw|\201\210\217\221\215\213\210\206\204\202\200~}|zyxxwvvuuuuuuuuuuuvvwxxvohc]YTPMJGDA?=;9764321/.-,,+*))((''&&%%%$$$######\"\"\"\"\"\"\"\"\"\"\"\"#####$$$$%%%&&''(()**+,-./0124578:<>@CEHKOSW\\agmt}\206\221\235«¼ÌÍÎÏÐÑÒÔÊ»®£\232\221\212\203~xtokhda_\\ZWUTRPOMLKIHGFFEDCCBBAA@@@????????????@@@@AAABBCDDEFGHIJKLMOPRTVXZ\\_adhkosx}\202\211\217\221\216\213\211\206\204\202\201\177~|{zyxxwwvvvuuuuuvvvwwxxywpic^YUQMJGDB?=;98653210/.-,+**)((''&&%%%$$$$########\"\"\"\"\"\"#######$$$$%%%&&''(())*++,-./0134579:<>ACFILOSW\\agnu~\207\222\236¬½ËËÌÍÎÏÑÒË¼¯¤\233\222\213\204~ytplheb_]ZXVTRQONLKJIHGFEDDCCBBAA@@@@???????@@@@@@AAABBCCDEEFGHIJKMNOQRTVXZ]_behlptx}\203\211\220\222\217\214\212\207\205\203\201\200~}|{zyxxwwwvvvvvvvwwwxxyzxpjd_ZUQNJGEB@><:8654210/.-,++*))((''&&%%%$$$$###################$$$$%%%%&&''(()**+,--./0234679;=?ACFILPTX]bhnv~\210\223\237­¾ÉÊËÌÍÎÏÑÍ½°¥\233\223\214\205\177zuqmifc`][YVUSQPNMLJIHGFFEDDCBBAAA@@@@@@?@@@@@@@AAAABBCCDDEFGHHIKLMNPQSUWY[]`cfilpty~\204\212\221\223\220\215\213\210\206\204\202\201\177~}|{zyyxxwwwwwwwwwxxyyz{xqjd_ZVRNKHEC@><:8754310/.-,,+**)((''&&&%%%$$$$$################$$$$$%%%&&'''())**+,-./01235689;=?ADGJMPTY]ciow\177\211\224 ¯¿ÈÈÉÊËÌÎÏÎ¾±¦\234\224\214\206\200{vqmjfc`^[YWUSRPOMLKJIHGFEEDCCBBAAAA@@@@@@@@@@AAAAABBCCDDEFFGHIJKLMOPRSUWY[^`cfimquz\177\205\213\222\224\221\216\213\211\207\205\203\201\200\177~|{{zyyxxxxwwwxxxxyyz{|yrke`[VROKHFCA><;97643210/.-,+**))((''&&%%%%$$$$$##############$$$$$%%%&&&''(())*++,-./0124568:;=?BDGJMQUY^cipw\200\211\224¡°ÀÆÇÈÈÊËÌÍÏÀ²§\235\225\215\207\201{vrnjgda^\\ZXVTRQONLKJIHGFFEDDCCBBBAAAA@@@AAAAAAAABBBCCDDEEFGHHIJKMNOQRTVXZ\\^adgjnrv{\200\206\214\223\225\222\217\214\212\210\206\204\202\201\177~}|{{zyyyxxxxxxxyyzz{{|zrlf`[WSOLIFCA?=;97653210/.-,++*))((''&&&%%%%$$$$$$##########$$$$$$%%%%&&'''())**+,--./0134578:<>@BEGJNQUZ^djqx\201\212\225¢±ÂÅÅÆÇÈÉËÌÎÁ³¨\236\226\216\207\201|wsokhdb_\\ZXVTSQPNMLKJIHGFEEDDCCBBBAAAAAAAAAAAAABBBCCCDDEFFGHIJKLMNPQSTVXZ]_bdgknrw{\201\206\215\224\226\223\220\215\213\210\206\205\203\202\200\177~}|{{zzyyyyyyyyyzz{{|}{slfa\\WSPLIFDA?=;98654210/.-,,+**))((''&&&%%%%$$$$$$$$$$$$$$$$$$$$%%%%&&&''(())*++,-./01234679:<>@CEHKNRVZ_djqy\201\213\226£²ÃÃÄÅÅÇÈÉÊÌÂµ©\237\227\217\210\202}xsolheb`][YWUSRPOMLKJIHGGFEEDDCCBBBBAAAAAAAABBBBBCCCDDEEFGHHIJKLNOPRSUWY[]`behkosw|\201\207\216\225\227\224\221\216\213\211\207\205\204\202\201\200\177~}||{{zzzzzzzzz{{||}~{tmga\\XTPMJGDB@=<:8754310/..-,++*))(('''&&&%%%%$$$$$$$$$$$$$$$$$$%%%%&&&'''(()**+,,-./01234679;<>ACFHKORV[`ekrz\202\214\227¤³ÁÂÂÃÄÅÆÇÉÊÃ¶ª \230\220\211\203~ytplifc`^[YWUTRQONMLJJIHGFFEDDDCCBBBBBAA").append("BBBBBBBCCCCDDEEFGGHIJKLMNOQRTUWY[^`cfilptx}\202\210\216\226\230\224\221\217\214\212\210\206\205\203\202\201\177\177~}||{{{zzzzz{{{||}~\177|tnhb]YTQMJGEB@><:97643210/.-,++**)(((''&&&%%%%%$$$$$$$$$$$$$$$%%%%%&&&'''(())**+,--./01245689;=?ACFILOSW[`flsz\203\215\230¥´ÀÀÁÂÂÃÅÆÇÉÄ·«¡\231\221\212\204~yuqmifca^\\ZXVTSQPNMLKJIHGGFEEDDDCCCBBBBBBBBBBCCCCCDDEEFFGHHIJKLMOPQSTVXZ\\^acfimpty~\203\211\217\227\231\225\222\220\215\213\211\207\205\204\203\201\200\177~~}|||{{{{{{{|||}~~\177}unhc^YUQNKHEC@><;97653210/.-,,+**))(('''&&&%%%%%%$$$$$$$$$$$$%%%%%&&&&''((())*++,-../0134578:;=?ADFILPSW\\afls{\204\216\231¦µ¾¿¿ÀÁÂÃÄÆÇÅ¸¬¢\231\222\213\205\177zvqnjgda_\\ZXVUSQPONLKJIIHGFFEEDDDCCCCBBBCCCCCCCCDDDEEFFGGHIJKLMNOPRSUVXZ\\_adgjmquy~\204\212\220\227\232\226\223\220\216\214\212\210\206\205\203\202\201\200\177~~}}|||||||||}}~~\177\200~voic^ZURNKHECA?=;98654210/..-,++*))((('''&&&%%%%%%%$$$$$$$$%%%%%%&&&&'''(())**+,,-./01234578:<>@BDGJMPTX\\agmt|\205\216\232§¶½½¾¿¿ÀÂÃÄÆÇ¹­£\232\223\214\205\200{vrnkheb_][YWUSRQONMLKJIHHGFFEEDDDCCCCCCCCCCCCCDDDEEFFGGHIIJKLMNOQRTUWY[]_bdgknrvz\177\204\212\221\230\232\227\224\221\217\215\213\211\207\205\204\203\202\201\200\177~~}}}}}}}}}}}~\177\177\200\201~wpid_ZVROKIFCA?=;:86543210/.-,,+**))(('''&&&&%%%%%%%%%%%%%%%%%%%&&&&'''((())*++,--./01234679:<>@BEGJMQTX]bgnu|\205\217\233¨·»¼¼½¾¿ÀÁÃÄÆº®¤\233\223\214\206\201|wsokheb`][YWVTRQPNMLKJIIHGGFFEEDDDDCCCCCCCCDDDDDEEEFFGHHIJKLMNOPQSTVXY[^`behkorv{\200\205\213\222\231\233\230\225\222\220\215\213\211\210\206\205\204\203\202\201\200\177\177~~~}}}}}~~~\177\177\200\201\202\177wpjd_[VSOLIFDA?=<:87543210/.--,++*))((('''&&&&%%%%%%%%%%%%%%%%%&&&&&'''(())**++,-../01245679;<>@CEHJNQUY]bhnu}\206\220\234©¸ºº»¼¼½¿ÀÁÃÄ»¯¥\234\224\215\207\201|xsplifc`^\\ZXVTSRPONMLKJIHHGGFFEEDDDDDCCDDDDDDDDEEEFFGGHIIJKLMNOPRSUVXZ\\^`cfilosw|\201\206\214\223\232\234\231\226\223\220\216\214\212\211\207\206\204\203\202\201\201\200\177\177\177~~~~~~~\177\177\177\200\201\201\202\200xqke`[WSPLIGDB@><:97643210/..-,++**))((('''&&&&&%%%%%%%%%%%%%%&&&&&'''((())**+,,-./012345689;=?ACEHKNQUY^ciov~\207\221\235ª¸¸¹¹º»¼½¾ÀÁÃ¼°¦\235\225\216\210\202}xtpmifda_\\ZXWUSRQONMLKJJIHGGFFFEEEDDDDDDDDDDDEEEEFFGGHHIJKKLMNPQRTUWYZ\\_adfilptx|\201\207\215\224\233\235\232\227\224\221\217\215\213\211\210\206\205\204\203\202\201\201\200\200\177\177\177\177\177\177\177\177\177\200\200\201\201\202\203\200yrkf`\\WTPMJGEB@><;97654210//.-,,+**)))((''''&&&&&&%%%%%%%%%%&&&&&&'''((())**++,--./01234578:;=?ACFHKORVZ_dipw\177\210\222\235«¶··¸¹¹º¼½¾ÀÁ½±§\236\226\217\211\203~yuqmjgdb_][YWUTRQPONMLKJIIHGGFFFEEEEDDDEEEEEEEEFFFGGHHIJJKLMNOPQSTVWY[]_bdgjmqtx}\202\210\216\224\234\236\233\227\225\222\220\216\214\212\211\207\206\205\204\203\202\201\201\200\200\200\200\177\177\177\200\200\200\200\201\201\202\203\204\201yrlfa\\XTPMJGEC@>=;986543210/.--,++**))(((''''&&&&&&&&%%%%&&&&&&&&''''(()))**+,,-../01234678:<=?ADFILORVZ_djpw\177\210\223\236¬µµ¶¶·¸¹º»½¾À¾²¨\237\227\220\211\204~zuqnkheb`][YXVTSRPONMLKJJIHHGGFFFEEEEEEEEEEEEEFFFGGHHIIJKKLMNOQRSUVXZ[^`begjnquy~\203\210\216\225\234\237\233\230\226\223\221\217\215\213\211\210\207\206\205\204\203\202\202\201\201\200\200\200\200\200\200\200\201\201\202\202\203\204\205\202zslga]XUQNKHECA?=;:87543210/..-,,+**)))(((''''&&&&&&&&&&&&&&&&&&''''((())**++,,-./001245679:<>@BDGILOSW[`ejqx\200\211\224\237­³´´µ¶¶·¸º»¼¾¿³© \230\221\212\204\177zvrokhec`^\\ZXVUSRQPNMMLKJIIHHGGFFFEEEEEEEEEFFFFFGGGHHIJJKLMNOPQRTUWXZ\\^`cehknquy}\202\207\214\223\232 \234\231\226\224\222\217\215\214\212\211\207\206\205\204\204\203\202\202\201\201\201\201\201\201\201\201\202\202\202\203\204\204\205\203{tmgb]YUQNKHFCA?=<:87643210//.-,,++**))((('''''&&&&&&&&&&&&&&&&''''((()))**++,--./012345689;<>@BEGJMPSW[`ekry\201\212\224 ®²²³³´µ¶·¸¹»¼¾´ª¡\231\221\213\205\200{wsolifca_\\ZYWUTSQPONMLKJJIIHHGGFFFFFEEFFFFFFFFGGGHHIIJKLLMNOPQSTUWXZ\\]_bdgilpsw{\200\205\212\221\230 \235\232\227\225\222\220\216\215\213\212\210\207\206\205\204\204\203\203\202\202\202\202\202\202\202\202\202\203\203\204\204\205\206\203{tnhc^YUROLIFDB@><:976543210/.--,++**)))((('''''&&&&&&&&&&&&&'''''(((())**++,,-../012345789;=?@CEGJMPTX\\aflry\202\213\225¡¯°±±²³³´µ·¸¹»½µ«¢\231\222\214\206\201|wsplifda_][YWVTSRPONMLLKJJIHHHGGGFFFFFFFFFFFGGGGHHIIJJKKLMNOOPRSTUWYZ\\^`cehknquy~\203\210\217\225\235\236\233\230\225\223\221\217\215\214\212\211\210\207\206\205\204\204\203\203\203\202\202\202\202\202\203\203\203\204\204\205\206\207\204|unhc^ZVROLIGDB@><;986543210/..-,,++**)))(((''''''&&&&&&&&&''''''(((()))**++,--.//01234678:;=?ACEHKNQTX\\aflsz\202\214\226¢¯¯¯°°±²³´µ¶¸¹»¶¬¢\232\223\214\207\201|xtpmjgdb`][ZXVUSRQPONMLKKJIIHHHGGGFFFFFFFFFFFGGGGGHHIIJJKLMMNOQRSTVWY[]_adfilptx|\201\206\214\223\233\237\234\231\226\224\222\220\216\214\213\212\211\210\207\206\205\205\204\204\203\203\203\203\203\203\203\204\204\205\205\206\207\210\205}uoid_ZVSOLJGEB@>=;987543210//.--,++***))(((('''''''''''''''''''(((()))**++,,--./012345679:<=?ACFHKNQUY]bgms{\203\214\227£­®®®¯°°±²´µ¶¸¹·­£\233\224\215\207\202}yuqnjheb`^\\ZXWUTSQPONMMLKJJIIHHHGGGGGGFEEEEEEFFFFGGGHHIIJKLLMNOQRSUVXZ\\^`behknrvz\177\204\212\221\230 \235\232\227\225\223\221\217\215\214\213\211\210\207\207\206\205\205\204\204\204\204\204\204\204\204\204\205\205\206\207\207\210\206}vpjd_[WSPMJGECA?=;:876432110/.--,,++**)))(((('''''''''''''''''(((()))***++,,-../012345689:<>@BDFIKNRUY^bhnt{\204\215\230¤¬¬¬­®®¯°±²³µ¶¸¸®¤\234\225\216\210\203~yurnkheca^\\[YWVTSRQPONMLKKJJIIHHGGFFFFEEDDDDEEEEEFFFGGHHIJKKLMNOQRSUWXZ\\_acfimptx}\202\210\217\226\236\236\233\230\226\223\221\220\216\215\213\212\211\210\207\207\206\206\205\205\205\205\205\205\205\205\205\206\206\207\207\210\211\206~wpje`[WTPMJHECA?=<:976543210/..-,,++***)))(((((''''''''''''''((((()))**++,,--.//012345789;<>@BDFILORVZ^chnu|\204\216\231¥ª«««¬­­®¯±²³µ¶¸¯¥\235\225\217\211\203\177zvrolifda_][YXVUTRQPONMLKJJIHHGGFFEEEEDDDDDDDDDDDEEEFFGGHIIJKLMNPQRTUWY[]`behkorw{\200\206\215\224\234\236\233\231\226\224\222\220\217\215\214\213\212\211\210\207\207\206\206\206\205\205\205\205\205\206\206\206\207\207\210\211\212\207\177wqke`\\XTQNKHFCA?><:986543210//.--,,++**))))((((('''''''''''(((((()))***++,,-../011234678:;=>@BEGILOSVZ_ciou}\205\217\231¦©©ªª««¬­®¯°²³µ¶°¦\236\226\220\212\204\177{wsoligdb`^\\ZXWUSRQONMLKJIIHGGFFEEEDDDCCCCCCCCCCCDDDEEFFGHHIJKLMNPQSTVXZ\\^acfimquy\177\204\212\221\231\237\234\232\227\225\223\221\220\216\215\214\213\212\211\210\207\207\207\206\206\206\206\206\206\206\207\207\210\210\211\212\213\210\200xqkfa\\XUQNKIFDB@><;9875432100/..-,,++***))))(((((('''''''((((((()))***++,,--.//012345678:;=?ACEGJMPSW[_diov}\206\217\232§§¨¨©©ª««¬­¯°²³µ±§\237\227\220\212\205\200{wtpmjgeb`^\\YWVTRQPNMLKJIHHGFFEEDDDCCCBBBBBBBBBBBCCCDDEEFGGHIJKLMOPQSUVX[]_behkosx}\202\210\217\227 \235\232\230\226\224\222\220\217\216\214\213\212\212\211\210\210\207\207\207\207\207\207\207\207\207\210\210\211\212\212\213\211\200yrlfa]YURNLIFDB@>=;:876532210/..--,,++***))))(((((((((((((((((())))***++,,--.//012345679:<=?ACEHJMPSW[`djpw~\207\220\233¦¦¦§§¨¨©ª«¬­¯°²³²¨\237\230\221\213\206\201|xtqmjheb_]ZXVUSQPNMLKJIHGGFEEDDCCCBBBAAAAAAAAAABBBCCCDDEFFGHIJKLMOPRSUWY[^`cfjmqv{\200\206\215\225\235\236\233\231\227\225\223\221\220\216\215\214\213\212\212\211\210\210\210\210\207\207\207\210\210\210\210\211\212\212\213\214\211\201ysmgb]YVROLIGEB@?=;:876543210//.--,,+++***))))(((((((((((((((())))***++,,--../0112345689:<>?ACFHKMQTX\\`ejqw\177\207\221\234¤¥¥¥¦¦§¨¨©ª¬­®°²²© \231\222\214\206\201}yuqnjfca^[YWUSRPOMLKJIHGFFEDDCCCBBBAA@@@@@@@@@@AAABBBCCDEEFGHIJKLNOQRTVXZ\\_behlpty~\204\213\222\233\237\234\232\227\225\224\222\220\217\216\215\214\213\212\212\211\211\210\210\210\210\210\210\211\211\211\212\212\213\214\215\212\202zsmhc^ZVSOLJGECA?=<:9765432100/..--,,++***)))))((((((((((((()))))***+++,,--.//0123346789;<>@BDFHKNQTX\\afkqx\200\210\222\235£££¤¤¥¥¦§¨©ª«­®°²ª¡\232\223\215\207\202}yuplheb_]ZXVTRQONLKJIHGFEEDCCBBBAAA@@?????????@@@@AAABCCDDEFGHIJKMNOQSUWY[^`cgjnrw|\202\210\220\230 \235\233\230\226\224\223\221\220\217\216\215\214\213\212\212\212\211\211\211\211\211\211\211\212\212\212\213\214\215\216\213\202{tnhc^ZVSPMJHECA?><:9875432210//.--,,+++***))))))(((((((((()))))****++,,--../0012345678:;=>@BDFIKNQUY]aflry\200\211\223\235¡¢¢¢££¤¥¥¦§©ª«­®°«¢\232\224\215\210\203}xsokgda^[YWUSQPNMKJIHGFEEDCCBBAA@@@@?>>>>>>>>>????@@AABBCCDEFGHIJKMNPQSUWZ\\_behlpuz\200\206\215\226\237\236\233\231\227\225\224\222\221\217\216\215\214\214\213\213\212\212\212\212\212\212\212\212\212\213\213\214\215\215\216\214\203{tnid_[WSPMJHFCA@><;9876543210//..--,,+++***))))))))((())))))))****+++,,--../0112345679:;=?@BDGILORUY]bglry\201\212\223\236   ¡¡¢¢£¤¥¦§¨ª«­¯¬£\233\224\216\211\202|vrmifb_]ZXVTRPNMLJIHGFEDDCBBAA@@????>========>>>>>??@@AABCCDEFGHIJLMOPRTVX[]`cgkosx~\204\213\223\234\237\234\232\230\226\224\223\221\220\217\216\215\215\214\213\213\213\212\212\212\212\213\213\213\213\214\215\215\216\217\214\204|uoid_[WTQNKHFDB@>=;:8765432100/..--,,+++****)))))))))))))))))****+++,,,-..//0122345689:<=?ACEGJLORVZ^bgmsz\202\212\224\236\237\237\237\237  ¡¢¢£¤¦§¨ª«­¬¤\234\225\216\207\200zuplhda^[YWTRQOMLKIHGFEDCCBAA@@???>>>>=<<<<<<=====>>>??@@ABBCDEFGHIKLMOQSUWY\\_beimqv|\202\211\221\232 \235\233\231\227\225\224\222\221\220\217\216\215\215\214\214\213\213\213\213\213\213\213\214\214\215\215\216\217\220\215\204}voje`\\XTQNKIFDB@?=;:9765432110//..--,,+++****)))))))))))))))*****+++,,--../00123456789;<>?ACEHJMPSVZ^chmtz\202\213\225\235\235\235\235\236\236\237\237 ¡¢£¤¥§¨ª¬­¥\235\225\214\205~xsnjfc`]ZXUSQPNLKJHGFEDCBBA@@??>>>====<<<<<<<<<<<<===>>??@AABCDEFGHIKLNPQSVX[]`dgkotz\200\207\216\227 \236\234\231\230\226\224\223\222\221\220\217\216\215\215\214\214\214\214\214\214\214\214\214\215\215\216\217\220\221\216\205}vpje`\\XUQNLIGECA?=<:98754332100/..--,,,+++*****))))))))))))*****+++,,---.//0112345678:;<>@ACFHJMPSWZ_chnt{\203\214\226\234\234\234\234\234\235\235\236\237\237 ¡£¤¥§¨ª¬¥\235\223\212\203|wrmieb^\\YVTRPNMKJIGFEDCBBA@??>>===<<<<;;;;;;;;;;;<<<<==>>?@@ABCDEFGHJKMNPRTWY\\_bfinrx~\204\214\224\236\237\234\232\230\227\225\224\222\221\220\217\217\216\216\215\215\215\215\215\215\215\215\215\216\216\217\220\220\221\217\206~wqkfa]YUROLIGECA?><;98765432100//.---,,++++******))))))))******+++,,,--..//0122345679:;=>@BDFHKMPTW[_dinu|\204\214\226\232\232\232\233\233\233\234\234\235\236\237 ¡¢¤¥§¨ª¦\233\221\210\201{upkgd`]ZXUSQOMLJIGFEDCBAA@??>===<<<;;;:::::::::::;;;<<<==>??@ABCDEFGHJKMOQSUXZ]`dhlqv{\202\211\222\234\237\235\233\231\227\226\224\223\222\221\220\217\217\216\216\216\215\215\215\215\215\216\216\216\217\220\220\221\222\217\206\177xqkfa]YVROLJGECA@><;:8765432110//..--,,,++++******************++++,,---../00123345689:<=?@BDFIKNQTX[`diou|\204\215\227\231\231\231\231\231\232\232\233\234\234\235\236\237¡¢£¥§©¤\231\217\207\177ysnjfb_\\YVTRPNLKIHFEDCBA@@?>>==<<;;;:::9999999999::::;;;<<=>>?@ABCDEFGIJLNPRTVY\\_bfjoty\200\207\217\231 \236\234\232\230\227\225\224\223\222\221\220\220\217\217\216\216\216\216\216\216\216\217\217\220\220\221\222\223\220\207\177xrlgb^ZVSPMJHFDB@>=;:97654332100/..---,,,++++****************++++,,,--..//01123456789:<=?ACEGILNQTX\\`ejpv}\205\216\227\227\227\227\230\230\230\231\231\232\233\234\235\236\237 ¢£¥§¢\226\215\205}wrmhda]ZXUSQOMKJHGEDCBA@??>==<<;;::::9988888888889999::;;<<==>?@ABCDEFHIKLNPSUWZ]adhmrw~\205\215\226¡\237\235\233\231\227\226\225\224\223\222\221\220\220\217\217\217\217\217\217\217\217\217\220\220\221\222\223\224\221\210\200yrmgb^ZWSPMKHFDB@>=;:98765432110//..--,,,+++++**************++++,,,---../001223456789;<>?ACEGILORUX\\aejpw~\206\217\226\226\226\226\226\227\227\227\230\231\231\232\233\234\236\237 ¢¤¥\237\224\213\203|upkgc_\\YVTRONLJHGFDCBA@??>=<<;;:::999987777777778888999::;;<<=>?@ABCDEFHJKMOQTVY\\_cgkpu{\202\212\223\236 \235\234\232\230\227\225\224\223\222\222\221\221\220\220\220\217\217\217\220\220\220\221\221\222\222\223\224\221\211\201ysmhc_[WTPNKIFDB@?=<:987654321100/..---,,,++++++**********+++++,,,,--..//00123345678:;<>@ACEGJLORUY]afkqw~\206\217\224\224\224\225\225\225\225\226\227\227\230\231\232\233\234\235\237 ¢¤\235\222\211\201ztnjea^[XUSPNLKIGFECBA@?>>=<<;:::9988888766666667777788899::;;<=>?@ABCDEGHJLNPRUWZ]aeinsy\200\210\221\233 \236\234\233\231\230\226\225\224\223\222\222\221\221\221\220\220\220\220\220\221\221\221\222\222\223\224\225\222\211\201ztnhd_[WTQNKIGECA?><;987654332100//..---,,,+++++++******++++++,,,,---..//01123456789:;=>@BDFHJMORVY]bflqx\177\207\220\223\223\223\223\223\224\224\225\225\226\227\227\230\231\233\234\235\237 ¢\232\220\207\177xrmhd`]YWTQOMKIHFEDBA@?>==<;;::99888777766666666666677778899:;;<=>?@ABCDFGIKLOQSVY\\_cglqw~\205\216\230¡\237\235\233\232\230\227\226\225\224\223\223\222\222\221\221\221\221\221\221\221\222\222\223\223\224\225\226\223\212\202{tnid`\\XTQNLIGECA?><;:97654432110//...--,,,,+++++++++++++++++,,,,---..//001223456789:<=?@BDFHKMPSVZ^bglrx\200\210\221\222\222\222\222\222\222\223\223\224\224\225\226\227\230\231\232\234\235\237¡\230\215\204}vpkfb_[XUSPNLJHGEDCA@?>==<;::99887776666555555555555666777889::;<=>>@ABCEFHIKMORTWZ^afjou{\203\213\225¡ \236\234\232\231\230\227\226\225\224\223\223\222\222\222\222\222\222\222\222\222\223\223\224\225\226\227\224\213\203{uoie`\\XUROLJGECA@>=;:987654322100//..---,,,,+++++++++++++++,,,,,--...//011233456789;<=?ABDFHKMPSWZ^cgmry\200\210\220\220\220\220\220\220\221\221\222\222\223\224\224\225\226\230\231\232\234\235\237\226\213\202{tojea]ZWTQOMKIGFDCB@?>=<<;:998877766655544444444444555566778899:;<==>@ABCEFHJLNPSVY\\`dhmsy\200\211\222\236¡\237\235\233\232\230\227\226\225\225\224\223\223\223\222\222\222\222\223\223\223\224\224\225\225\226\227\224\213\203|uojea\\YUROMJHFDB@>=<:987654332100//...---,,,,,++++++++++++,,,,,---..//001123445678:;<>?ACEGIKNQTW[_chmsz\201\211\217\217\217\217\217\217\217\220\220\221\221\222\223\224\225\226\227\231\232\234\235\223\211\200ysmhc_\\XUSPNLJHFECBA?>=<;;:99877666555544333333333344445556677889:;<<=?@ABDEGIKMORTWZ^bfkqw~\206\220\233¡\237\236\234\233\231\230\227\226\225\225\224\224\223\223\223\223\223\223\223\224\224\225\225\226\227\230\225\214\204}vpjfa]YVSPMJHFDB@?=<;9876544321100//..----,,,,,+++++++++,,,,,,---...//001223456789:;=>@ACEGILNQTX[_dhntz\202\212\215\215\215\215\215\216\216\216\217\217\220\221\221\222\223\224\226\227\230\232\234\221\207~wqkfb^ZWTQOMKIGEDBA@>=<;;:9887766554444332222222223333344455667789:;;<=?@ACDFGIKNPSVY\\`eiou|\204\215\230¢ \236\235\233\232\231\230\227\226\225\225\224\224\224\224\224\224\224\224\225\225\226\226\227\230\231\226\215\205}vpkfb]ZVSPMKHFDBA?><;:976554322100//...----,,,,,,,,,,,,,,,,,,----..//0011233456789:;=>@BCEGJLOQUX\\`dint{\202\212\214\214\214\214\214\214\214\215\215\216\216\217\220\221\222\223\224\225\227\230\232\216\205|uoje`\\YVSPNKIGFDCA@?=<;::987766554443333321111111222223334445567789::;<>?@ACEFHJLOQTW[^cgmsy\201\212\225¢¡\237\236\234\233\232\231\230\227\226\226\225\225\225\225\225\225\225\225\225\226\226\227\230\231\232\227\215\205~wqlgb^ZWSPNKIGECA?>=;:9876543321100//...----,,,,,,,,,,,,,,,,----...//0011234456789:<=?@BDFHJLORUX\\`eiou{\203\212\212\212\212\212\212\213\213\213\214\214\215\216\216\217\220\221\223\224\225\227\230\214\203zsmhc_[WTQOLJHFECA@?><;::987765544433322221111111111111222333445667899:;<>?@BCEGIKMPSVY]aekpw\177\207\222\236¢ \236\235\234\232\231\230\230\227\226\226\226\225\225\225\225\225\226\226\226\227\230\230\231\232\227\216\206~xrlgb^ZWTQNLIGECA@>=;:9876544321100//...-----,,,,,,,,,,,,,,----...//0011223456678:;<=?@BDFHJMORUY]aejou|\203\211\211\211\211\211\211\211\212\212\212\213\213\214\215\216\217\220\221\222\224\225\225\212\200xrkfa]ZVSPNKIGECB@?>=;::98766544333222111100000000000011112233445567889:;=>?ABDFHJLNQTW[_dinu|\205\217\233£¡\237\236\234\233\232\231\230\230\227\227\226\226\226\226\226\226\226\227\227\230\230\231\232\233\230\217\206\177xrmhc_[WTQNLJGECB@?=<;98765543221100//...-----,,,,,,,,,,,-----...///0011233456789:;<>?ABDFHKMPSVY]afjpv}\204\210\207\207\207\207\210\210\210\210\211\211\212\213\213\214\215\216\220\221\222\224\223\210~vpje`\\XUROLJHFDBA?>=<;99876554433221111000///////////0000111223344567789:<=>?ACDFHKMPSVY]bglrz\202\214\230£¢ \236\235\234\233\232\231\230\230\227\227\227\227\227\227\227\227\227\230\230\231\232\233\234\231\217\207\200ysmhc_[XUROLJHFDB@?=<;:9876543321100///...------,,,,,,,-------...//00012234456789:;=>@ACEGIKNPSVZ]bfkpw}\205\206\206\206\206\206\206\206\207\207\207\210\211\211\212\213\214\215\216\217\221\222\220\205|tnhc^ZWSPNKIGECA@>=<;:987655433221110000//........../////0001122344566789:<=>@ACEGILNQTX\\`ejpw\177\211\224¢¢¡\237\236\235\234\233\232\231\231\230\230\230\227\227\230\230\230\230\231\231\232\233\234\235\232\220\210\200ysnid`\\XUROMJHFDBA?><;:98765443221100//....------------------...///00112234556789:<=>@ACEGIKNQSWZ^bgkqw~\205\205\205\205\205\205\205\205\205\206\206\206\207\210\211\211\212\213\215\216\217\221\216\203zslfa]YUROLJHEDB@?=<;:9876544322111000////..-------......///000112334566789;<=?@BDFHJMPSVZ^chnu}\206\221\237£¡ \237\235\234\233\233\232\231\231\231\230\230\230\230\230\231\231\231\232\233\233\234\235\232\221\210\201ztnid`\\YURPMKHFDCA?>=;:98765543221100///....----------------...///00012233456778:;<=?@BCEGILNQTW[^bglrx~\204\203\203\203\203\203\203\203\204\204\205\205\206\206\207\210\211\212\213\214\216\217\213\201xqje`[WTQNKIFDBA?><;:98765433221100///.....-------------....//0011223455678:;<=?ABDGIKNQTX\\aflrz\203\216\233¤¢¡\237\236\235\234\233\233\232\232\231\231\231\231\231\231\231\232\232\233\233\234\235\236\233\222\211\201{tojea]YVSPMKIGECA@>=<:987665433221100///....-------------.....///00112234456789:;<>?@BDFHJLOQTW[_chmrx\177\202\202\202\202\202\202\202\202\202\203\203\204\204\205\206\206\207\210\211\213\214\215\211~vohc^ZVROLJGECA@>=;:9876543321100///...----,,,,,,,,,,,,,---...//001123445678:;<>?ACEGJMPSVZ_djpx\201\213\230¥£¡ \237\236\235\234\233\233\232\232\232\232\232\232\232\232\232\233\233\234\235\236\237\234\222\212\202{uojea]ZVSPNKIGECB@?=<;:98765443221100////.....----------.....///000112334556789:;=>?ABDFHJLORUX[_chmsy\200\201\200\200\200\200\200\200\201\201\201\202\202\203\203\204\205\206\207\210\211\212\214\206|tmga\\XTQNKHFDB@?=<:987654322100//...----,,,+++++++++++,,,,,---..//01123345679:;=>@BDFHKNQUY]bgnu~\210\224¤¤¢¡ \237\236\235\234\234\233\233\233\232\232\232\233\233\233\234\234\235\236\237 \235\223\212\203|upkfb^ZWTQNLIGEDB@?><;:987655433211100////......-----.......///0001122334566789:<=>@ACDFHKMORUX\\`dhnsy\200\177\177\177\177\177\177\177\177\177\200\200\201\201\202\203\203\204\205\206\210\211\212\204zrke_[WSOLJGECA?=<:987654321100//..---,,,,++**********+++++,,,---../00123345689:<=?ACEGJLPSW[`eks{\205\221 ¥£¢ \237\236\235\235\234\234\233\233\233\233\233\233\233\234\234\235\236\236\237 \235\224\213\203|vpkfb^ZWTQNLJHFDBA?>=;:9876654332211000///.................////000112234456789:;<=>@ACEGIKMPSVY\\`dintz~~~}}}}~~~~\177\177\200\200\201\202\203\204\205\206\207\211\201xpic^YUQNKHFDB@><;98765432110//..--,,,+++++***))))))******++++,,--..//0122345689:<>?ACFHKNQUY^cipx\202\216\234¥¤¢¡ \237\236\236\235\235\234\234\234\234\234\234\234\235\235\236\236\237 ¡\236\224\214\204}wqlgb^[WTQOLJHFDCA?>=<:9877654432211100/////..............////0001122334556789:;<=?@BCEGIKNPSVY]aeiot{}||||||||}}}~~\177\200\200\201\202\203\205\206\207\177vnga\\XTPMJGEB@?=;:8765432100/..--,,,+++*****)))))))))))))****+++,,--../0112345789;<>@BDGILPSW\\agnv\177\212\230¦¥£¢¡ \237\236\236\235\235\235\235\235\235\235\235\235\236\236\237 ¡¢\237\225\214\205}wqlgc_[XUROMJHFECA@>=<;:9876554332211000/////............////00011122344566789:;<>?@BDEGILNQSVZ]aejou{{{{{{{{{{{{||}}~\177\200\201\202\203\204\206}sle_ZVRNKHFCA?=<:9765432100/..--,,++****))))(((((((((((()))))**+++,,-../001234678:;=?ACEHKNRVZ_eks|\207\225¦¥¤£¢¡ \237\236\236\236\235\235\235\235\235\236\236\237\237 ¡¢£\237\226\215\205~xrmhc_\\XURPMKIGECB@?=<;:98766544322111000//////........//////00011223344567789:<=>?ABDFHJLNQTWZ^afjpuzzzyyyyyyyzzz{{|}}~\177\200\201\203\204zqjc^YTPMJGEB@><;986543210//.--,,++***))))((('''''''''''((((()))**+++,--./001234678:<=?BDFILPTX]cipy\204\221¢¦¥£¢¡  \237\237\236\236\236\236\236\236\236\237\237 ¡¡¢£ \226\216\206\177xrmhd`\\YVSPMKIGECB@?><;:987765443322110000//////////////////00011122334556789:;<=>@ACDFHJLOQTWZ^bfkpvyxxxxxxxxxxyyyz{{|}~\177\200\201\202xoha\\WSOLIFCA?=;:87543210//.-,,++***)))(((((''&&&&&&&&''''''(((())**++,,-.//01235679:<>@BEHKNRV[`gnw\201\216\236§¥¤£¢¡  \237\237\237\237\237\237\237\237\237 ¡¡¢£¤¡\227\216\206\177ysnid`]YVSPNLIGFDBA?>=<:9987655433221110000////////////////000111223344566789:;<=?@ACEFHJMORTX[^bgkqvwwwvvvvvvwwwxxxyz{{|}~\200\200umf_ZUQMJGDB@><:87643210/..-,,++**))(((('''''&&&&&&&&&&&&&&''''((())**++,-../01245689;=?ADFILPTY^dkt~\212\232¨¦¥¤£¢¡¡   \237\237    ¡¡¢£¤¥¢\230\217\207\200ysniea]YVSQNLJHFDBA@>=<;:9876654433221110000/////////////00000111223345567789:;<>?@BCEGIKMORUX[_cglqvvvuuuuuuuuuvvwwxxyz{|}~}skd^XTPLIFCA><;97653210/.--,++**))(((''''&&&&%%%%%%%%%%%%%&&&&'''((())*++,--./0124568:;=@BEHKNRW\\biq{\207\226¨§¦¥¤£¢¡¡¡     ¡¡¡¢£¤¥¦¢\231\220\210\200ztojea]ZWTQOLJHFDCA@?=<;:987765443322211100000//////////000001112233445567899:;=>?@BDEGIKMPRUX\\_chlrutttttsstttttuuvvwxxyz{}{qib\\WRNJGDB?=;98654210/.--,++*))((('''&&&&%%%$$$$$$$$$$$$%%%%%&&&''(())**+,--./0134578:<>ACFIMQUZ`fnx\203\222¤¨¦¥¤££¢¢¡¡¡¡¡¡¡¢¢££¤¥¦£\231\220\210\201ztojfb^ZWTQOMJHFECB@?><;:98876554433221110000000//////0000001112223344566789:;<=>?ABDFGIKNPSVY\\`dhmrsssrrrrrrrrsssttuuvwxyz{xog`ZUPMIFCA><:8754210/.-,,+**))((''&&&%%%%%$$$########$$$$$$$%%%&&&''(())*+,,-./0134679;=?BDGKOSX]dlu\200\216 ¨§¦¥¤££¢¢¢¢¢¢¢¢¢£¤¤¥¦§¤\232\221\211\202{upkfb^[XUROMKIGECB@?>=<;:98766544332221110000000000000000011112233445567789:;<=>@ACDFHJLNPSVY]`dimrrrqqqqqqqqqqqrrsstuuvwxyvld^XSOKHDB?=;9764310/.-,,+*))((''&&&%%%$$$$$$###############$$$$%%&&&''())*++,-./023468:<>@CFIMQV[bir}\212\233©¨§¦¥¤¤£££¢¢¢£££¤¤¥¦§¨¥\233\222\211\202|vpkgb_[XURPMKIGEDBA?>=<;:98776554433222111000000000000000111122233445567889:;<=?@ACDFHJLNQTVZ]aeinqqpppooooooopppqqrrstuvwxsjb\\VQMIFC@><:864320/.-,++*))(''&&&%%$$$$#####\"\"\"\"\"\"\"\"\"\"\"\"\"#####$$$%%&&''(()**+,-./123568:<?ADGKOTY_foy\206\227ª©§¦¦¥¤¤££££££¤¤¤¥¦§¨©¥\233\222\212\203|vqlgc_\\XUSPNKIGFDBA@>=<;:9887655443322211111000000000000111122233345566789::;=>?@BCEFHJLOQTWZ]aejnpoonnnnnnnnnnoooppqrrstuvqh`ZTPLHEB?=:875321/.-,++*)((''&&%%$$$#####\"\"\"!!!!!!!!!!!!\"\"\"\"\"###$$$%%&&''()**+,-./124579;=@CFIMRW]dlv\203\223¨©¨§¦¦¥¥¤¤¤¤¤¤¤¥¥¦¦§¨©¦\234\223\213\203}wqlhc_\\YVSPNLJHFDCA@?=<;:9987665544332221111100000000011111122233445567789:;<=>?ABCEGIKMORTWZ^afjonnmmmmllllmmmmmnnoppqrstune^XSNJFC@>;9754210.-,+**)(''&&%%$$$###\"\"\"\"\"!!!        !!!!!!!\"\"\"\"###$$%%&''())*+,-.012468:<>ADHKPU[ais\177\216£ª©¨§¦¦¥¥¥¥¥¥¥¥¥¦¦§¨©ª§\235\224\213\204}wrmhd`\\YVSQNLJHFECB@?>=<;:987765544333222111111100001111111222333445667889:;<=>@ABDEGIKMORUX[^bfjmmlllkkkkkkkkklllmmnoppqrslc\\VQLHEB?<:864310/-,+**)(''&%%$$$##\"\"\"\"!!!!!!               !!!!\"\"\"##$$%%&&'(()*+,-/013468:=@BFJNSX_fp{\212\236«ª©¨§¦¦¦¥¥¥¥¥¦¦§§¨©ª«¨\235\224\214\204~xrmhd`]YVTQOLJHGECBA?>=<;:988766544433222211111111111111112223334455667899:;<=?@ACDFGIKMPRUX[_bfklkkjjjjjjjjjjjjkkklmmnopqriaZTOKGC@>;975320/.,+*))('&&%%$$##\"\"\"!!!!     \037\037\037\037\037\037\037\037\037\037\037\037\037     !!!\"\"\"##$$%%&''()*+,-/023579;>ADHLQV\\dmx\206\231¬ª©©¨§§¦¦¦¦¦¦¦§§¨©ª«¬¨\236\225\215\205~xsniea]ZWTQOMKIGEDBA@>=<;:99876655443332222111111111111112222334445567789:;<=>?@ACDFHJLNPSUX\\_cgkjjiiiihhhhhhhiiijjkklmmnopg_XRMIEB?<:86420/.-+*))('&&%$$##\"\"\"!!!     \037\037\037\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037\037\037    !!!\"\"##$$%&''()*+,./02468:<?BFJNTZaju\202\224¬«ª©©¨§§§§§§§§¨¨©©ª«¬©\237\225\215\206\177ysniea^ZWTROMKIGFDBA@?=<;::9877655444333222211111111111222223334455667889:;<=>?@BCEFHJLNQSVY\\_cgiihhhggggggggggghhiijjklmnnd]VPLGD@=;86431/.-,*))('&%%$$#\"\"\"!!!   \037\037\037\037\037\037\036\036\036\036\036\035\035\035\036\036\036\036\036\036\036\036\036\037\037\037\037   !!\"\"\"#$$%&&'()*+,./12468;>ADHLQW^gq~\220¨¬«ª©©¨¨¨¨¨¨¨¨¨©©ª«¬­ª\237\226\216\206\177ytnjfb^[XURPMKIHFDCA@?>=<;:9887665544333222222111111112222233344455677899:;<=>?ABCEGHJLNQSVY\\`dhhgggffffeeeeeffffgghhijjklkbZTNJFB?<975310.-,+)(('&%$$##\"\"!!   \037\037\037\037\036\036\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\037\037\037   !!\"\"##$%%&'()*+-./13579<?BFJOU\\dn{\213£­¬«ª©©©¨¨¨¨¨©©ªª«¬­®« \227\216\207\200ztojfb^[XUSPNLJHFECB@?>=<;:988766554443332222222222222222233334455667789::;<=>@ABDEGIKMOQTWZ]`dggffeeedddddddddeeeffgghijki`XRMHD@=;86420/-,+*(('&%$$#\"\"!!   \037\037\037\036\036\036\036\036\035\035\035\035").append("\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\036\036\036\036\037\037\037  !!\"\"#$$%&'()*+-.02368:=ADHMSYakw\207\235­¬¬«ªª©©©©©©©ªª«¬­®¯«¡\227\217\207\201zuokfb_[XVSPNLJHFECBA?>=<;::98776655444333222222222222222333344455667889:;<=>?@ACDFGIKMORTWZ]aefeeddcccccccccccccddeefgghif]VPKFB?<97531/.,+*)('&%$##\"\"!!  \037\037\037\036\036\036\035\035\035\035\035\035\034\034\034\033\033\033\033\033\033\033\033\033\034\034\034\034\034\034\034\035\035\035\035\036\036\036\037\037\037  !\"\"#$$%&'()*,-/02469<?BFKPW^gs\202\227®­¬¬«ªªªªªªªªª«¬¬­®¯¬¢\230\220\210\201{upkgc_\\YVSQNLJHGEDBA@?=<;;:98876655444333322222222222223333444556677899:;<=>?@ACDFHIKMPRTWZ^aeddccbbbaaaaaaaabbbbccddefghd[TNIEA=:85310.,+*)('&%$##\"!!  \037\037\036\036\036\035\035\035\035\034\034\034\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\035\035\035\036\036\036\037\037  !!\"##$%&'()*,-/1357:=ADINT[do~\222¯®­¬¬«««ªªª«««¬¬­®¯°­¢\231\220\211\202{vplgc`\\YVTQOMKIGEDCA@?>=<;:9987766554443333322222222223333344455667789::;<=>?@BCEFHJLNPRUX[^bdcbbaaa```````````aaabbcddefaYRLGC?<96420.-+*)('&%$#\"\"!  \037\037\036\036\036\035\035\035\034\034\034\034\034\033\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\034\034\034\034\035\035\035\036\036\037\037  !\"\"#$%&'()+,./1368;?BGLRYalz\215©¯®­¬¬¬«««««¬¬¬­®¯°±®£\231\221\211\202|vqlhd`]ZWTQOMKIGFDCA@?>=<;:9987766555444333333222222333333444556677889:;;<=>@ABCEFHJLNPSUX[^bbaa``____^^^^^^____```abbcde^VPJEA>:8531/-,*)('&%$#\"!!  \037\037\036\036\035\035\035\034\034\034\033\033\033\033\033\033\032\032\032\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\032\032\033\033\033\033\034\034\034\035\035\035\036\036\037  !!\"#$%&'()+,.0247:=AEJOV^hv\210¢¯®®­­¬¬¬¬¬¬¬­­®¯¯±²®¤\232\221\212\203|wqmhd`]ZWTROMKIHFECB@?>=<;;:988776655444433333333333333334445556677899:;<=>?@ABDEGHJLNQSVX[_aa`__^^^]]]]]]]]]]^^^__``aabc\\TNHC?<9641/.,*)('&%$#\"!! \037\037\036\036\035\035\035\034\034\034\033\033\033\033\032\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\033\033\033\034\034\034\035\035\036\036\037\037 !!\"#$%&'(*+-/1358;?CGMS[er\203\234°¯®®­­­­­­­­­®¯¯°±²¯¤\233\222\212\203}wrmiea]ZWURPNLJHFECBA@>==<;:99877665554444333333333333334444556667889::;<=>?@ACDEGIKMOQSVY\\_`__^]]]\\\\\\\\\\\\\\\\\\\\\\\\\\]]^^__`abYRKFB>:7520.,+)('&%$#\"!  \037\036\036\035\035\035\034\034\033\033\033\033\032\032\032\032\031\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\032\032\032\032\033\033\033\034\034\035\035\036\036\037  !\"#$%&'(*,-/1469=AEJQXbn~\226±°¯¯®®­­­­­®®¯¯°±²³°¥\233\223\213\204}xrmiea^[XURPNLJHGEDBA@?>=<;:99887766555444433333333333344445556677889:;;<=>?@BCDFGIKMOQTVY\\_^^]]\\\\[[[ZZZZZZZZZ[[[\\\\]]^__`WOID@<9631/-+*('&%$#\"! \037\037\036\036\035\035\034\034\033\033\033\032\032\032\032\031\031\031\031\031\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\030\030\031\031\031\031\032\032\032\033\033\033\034\034\035\035\036\037\037 !\"#$%&')*,.0258;?CHNU^jy\217²±°¯¯®®®®®®®¯¯°±²³´°¦\234\223\213\204~xsnjeb^[XUSPNLJIGEDCA@?>=<;::9887766555444444333333334444455566677899:;<<=>@ABCEFHIKMORTWZ]^]\\\\[[ZZYYYYYYYYYYYYZZZ[[\\\\]^]TMGB>:742/-,*('&%$#\"! \037\037\036\035\035\034\034\033\033\033\032\032\032\031\031\031\031\030\030\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\031\031\031\032\032\032\033\033\034\034\035\035\036\036\037 !\"#$%&')+,.1369=AFKR[fu\212¬±±°°¯¯¯¯¯¯¯°°±²²³µ±¦\235\224\214\205~ysnjfb_[XVSQOMKIGFDCB@?>=<<;:998776665554444444444444444455556677889::;<=>?@ABCEFHJLNPRTWZ]\\[[ZZYYXXXXWWWWWWWXXXXYYZZ[\\\\ZRKE@<9630.,*)'&%$#\"! \037\036\036\035\035\034\033\033\033\032\032\031\031\031\031\030\030\030\030\027\027\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\030\030\030\030\031\031\031\032\032\033\033\034\034\035\036\036\037 !\"#$%&()+-/147;?CIPXbp\204£²±±°°°°°°°°°±±²³´µ²§\235\225\215\205\177ytojfc_\\YVTQOMKIHFECBA@?>=<;::98877666555444444444444444555566677899:;;<=>?@ABDEGHJLNPRUWZ\\[ZYYXXWWWVVVVVVVVVVVWWWXXYYZ[XOIC>:741/-+)(&%$#\"! \037\036\035\035\034\034\033\033\032\032\031\031\031\030\030\030\030\027\027\027\027\027\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\026\027\027\027\027\030\030\030\031\031\031\032\032\033\033\034\035\035\036\037 !\"#$%&(*+.0259=AFMU_l~\234³²±±±°°°°°±±²²³´µ¶³¨\236\225\215\206\200ztokgc_\\YVTQOMKJHFECBA@?>=<;::99877766555544444444444445555666778899:;<<=>?@ACDEGIJLNPSUX[ZYYXWWVVVUUUUUUUUUUUUUVVVWWXYYUMFA=9520-+*(&%$#!! \037\036\035\035\034\033\033\032\032\031\031\031\030\030\030\027\027\027\027\026\026\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\027\027\027\030\030\030\031\031\032\032\033\033\034\034\035\036\037\037 !#$%'(*,.147;?DJR[hy\224´³²²±±±±±±±²²³´µ¶·³¨\237\226\216\207\200zupkgc`]ZWTRPNLJHGEDBA@?>=<;;:9988776665555544444444445555566677889::;<=>>?ABCDFGIKLNQSUXYYXWVVUUUTTTSSSSSSSSSTTTUUUVWWXRJD?;741.,*('%$#! \037\037\036\035\034\034\033\033\032\032\031\031\030\030\030\027\027\027\026\026\026\026\026\025\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\026\026\026\026\027\027\027\030\030\031\031\032\032\033\033\034\035\036\036\037 !#$%')+-/258=BGOXct\215´´³²²²²²²²²³³´´µ¶¸´©\237\226\216\207\201{uplhd`]ZWURPNLJHGEDCA@?>==<;::988777666555554444444555555666778899:;;<=>?@ABCEFHIKMOQSVXXWVVUTTTSSRRRRRRRRRRRRRSSTTUUVVOHB=952/-+)'%$#\" \037\036\036\035\034\033\033\032\032\031\031\030\030\027\027\027\026\026\026\026\025\025\025\025\025\025\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\024\025\025\025\025\025\026\026\026\027\027\027\030\030\031\031\032\032\033\034\035\035\036\037 !#$&')+-036:?ELT_o\206±´´³³³²²²³³³´´µ¶·¸µª \227\217\210\201{vqlhda]ZXUSPNLJIGFDCBA@?>=<;::998877666655555555555555556667778899:;;<=>?@ABDEFHIKMOQTVWVVUTTSSRRQQQQPPPPPPPQQQQRRSSTTUMF@;730.+)'&$#\" \037\036\035\035\034\033\033\032\031\031\030\030\027\027\027\026\026\026\025\025\025\025\025\024\024\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\025\025\025\026\026\026\027\027\027\030\030\031\032\032\033\034\034\035\036\037 !#$&(*,.148=BIQ[j\200§µ´´´³³³³³´´µµ¶·¸¹¶«¡\230\220\210\202|vqmhea^[XUSQNMKIGFECBA@?>=<;;:99887776666555555555555556666778899::;<==>?@ACDEGHJLMORTVVUTSSRRQQPPPOOOOOOOOOOOPPPQQRRSSJC>952/,*(&$#\" \037\036\035\034\034\033\032\032\031\031\030\030\027\027\026\026\026\025\025\025\024\024\024\024\024\023\023\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\024\024\024\024\025\025\025\026\026\027\027\030\030\031\031\032\033\033\034\035\036\037 \"#$&(*-/26:@FNXey\234¶µµ´´´´´´´µµ¶·¸¹º¶«¡\230\220\211\202|wrmiea^[XVSQOMKIHFEDBA@?>=<<;::9988777666655555555555566667778899:;;<=>??ABCDEGHJLNPRTUTSSRQQPPOOONNNNNNNNNNNNNOOOPPQQPGA;730-+('%#\" \037\036\035\034\034\033\032\031\031\030\030\027\027\026\026\025\025\025\025\024\024\024\024\023\023\023\023\023\023\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\022\022\023\023\023\023\023\024\024\024\025\025\025\026\026\027\027\030\030\031\032\032\033\034\035\036\037 \"#%')+.148=CJTas\223·¶µµµµµµµµµ¶··¸¹»·¬¢\231\221\211\203}wrmieb^[YVTQOMKJHGEDCA@?>>=<;;:998877766666555555555666667778899::;;<=>?@ABCDFGIJLNPRUTSRQQPOONNMMMMLLLLLLLLLMMMMNNOOPME>951.,)'%#\"!\037\036\035\034\033\033\032\031\030\030\027\027\026\026\025\025\025\024\024\024\024\023\023\023\023\022\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\023\023\023\024\024\024\025\025\025\026\026\027\027\030\031\031\032\033\034\035\036\037 \"#%'),/26;@GP\\n\212··¶¶µµµµµ¶¶··¸¹º»¸­£\231\221\212\203}xsnjfb_\\YVTROMLJHGEDCBA@?>=<;;::99887776666665555566666677778899::;<<=>?@ABCEFGIKLNPSSRQQPONNMMLLLKKKKKKKKKKKKKLLLMMNNJB<730-*(&$\"!\037\036\035\034\033\032\032\031\030\030\027\026\026\025\025\025\024\024\024\023\023\023\023\022\022\022\022\022\021\021\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\022\022\022\022\022\023\023\023\024\024\025\025\025\026\026\027\030\030\031\032\033\034\035\036\037 \"$%(*-048=DMXh\202¸··¶¶¶¶¶¶¶··¸¹º»¼¹­£\232\222\212\204~xsnjfc_\\YWTRPNLJIGFDCBA@?>=<<;::99888777666666666666666677788999:;;<=>>?@ABDEFHIKMOQSRQPONNMLLKKKJJJJJIIIIIJJJJJKKKLLMG@:51.+(&$\"!\037\036\035\034\033\032\031\031\030\027\027\026\026\025\025\024\024\024\023\023\023\022\022\022\022\021\021\021\021\021\021\021\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\020\020\020\021\021\021\021\021\022\022\022\023\023\023\024\024\025\025\026\026\027\027\030\031\032\033\033\035\036\037 \"$&(+.16;AITc{®¸¸·······¸¸¹º»¼½¹®¤\233\222\213\204~ysokgc`]ZWURPNLKIGFECBA@?>==<;;:9998877776666666666666677788899::;<<=>?@ABCDEGHJKMOQQPONNMLLKJJJIIIHHHHHHHHHHHIIIJJJKKD=73/,)'%#! \036\035\034\033\032\031\030\030\027\026\026\025\025\024\024\023\023\023\022\022\022\022\021\021\021\021\021\020\020\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\021\021\021\021\022\022\022\022\023\023\024\024\025\025\026\026\027\030\031\031\032\033\034\036\037!\"$&),/38>EO]s\237¹¸¸¸¸¸¸¸¸¸¹ºº»¼¾º¯¤\233\223\214\205\177ytokgc`]ZWUSPNMKIHFEDBA@??>=<;;::998887777666666666667777788999:;;<<=>?@ABCDEGHJLMOQPONMLKKJJIIHHHGGGGGGGGGGGGGHHHIIIJA:51-*'%#! \036\035\034\033\032\031\030\027\027\026\025\025\024\024\023\023\023\022\022\022\021\021\021\021\020\020\020\020\020\020\017\017\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\017\020\020\020\020\020\021\021\021\022\022\022\023\023\024\024\025\025\026\027\027\030\031\032\033\034\036\037!#%'*-15;BKXl\223º¹¹¸¸¸¸¸¹¹ºº»¼½¾»¯¥\234\224\214\205\177ztpkgd`]ZXUSQOMKIHGEDCBA@?>=<<;::99988877777666666667777788899::;;<==>?@ABCDFGIJLNPONMLKKJIIHHGGFFFFFEEEEEEEEFFFFGGHHF>83/+(&$\" \036\035\034\033\032\031\030\027\026\026\025\024\024\023\023\023\022\022\022\021\021\021\020\020\020\020\020\017\017\017\017\017\017\017\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\020\020\020\020\021\021\021\022\022\022\023\023\024\024\025\026\026\027\030\031\032\033\034\036\037!#%(+.38?GTf\206ºº¹¹¹¹¹¹¹ºº»¼½¾¿¼°¦\235\224\215\206\200zuplhda^[XVSQOMKJHGEDCBA@?>==<;;::9988887777777777777777888999::;<<=>??@ABDEFGIJLNOMLLKJIHHGGFFEEEEDDDDDDDDDDDDEEEFFGC;51-)'$\" \036\035\034\033\031\030\030\027\026\025\025\024\024\023\023\022\022\021\021\021\020\020\020\020\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\017\017\017\017\020\020\020\020\021\021\022\022\022\023\023\024\025\025\026\027\030\031\032\033\034\036\037!#&),05;DO_}»ºººººººº»»¼½¾¿À¼±¦\235\225\215\206\200{uqlhea^[XVTQOMLJIGFDCBA@?>>=<<;::999888777777777777777888899::;;<<=>?@ABCDEFHIKLNMLKJIHHGFFEEDDDCCCCCCBBBCCCCCCDDDEE@93.+'%\" \037\035\034\032\031\030\027\026\026\025\024\024\023\023\022\022\021\021\021\020\020\020\017\017\017\017\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\015\015\015\016\016\016\016\016\017\017\017\020\020\020\021\021\021\022\022\023\024\024\025\026\027\027\030\032\033\034\036 \"$'*.28@JYsº»»»ººº»»»¼½½¾¿Á½±§\236\225\216\207\201{vqmieb^[YVTRPNLJIGFEDBA@??>=<<;;::99988877777777777778888999::;;<==>?@ABCDEGHIKMLKJIHHGFEEDDCCCBBBBAAAAAAAAAABBBCCCD=60,)&#!\037\035\034\032\031\030\027\026\025\025\024\023\023\022\022\021\021\020\020\020\017\017\017\017\016\016\016\016\016\015\015\015\015\015\015\015\015\014\014\014\014\014\014\014\014\013\013\013\013\013\013\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\016\016\016\016\016\017\017\017\020\020\021\021\022\022\023\023\024\025\025\026\027\030\031\033\034\036 \"%(+05<FTk¬¼¼»»»»»¼¼½½¾¿ÀÁ¾²¨\236\226\216\207\201{vqmieb_\\YWTRPNLKIHFEDCBA@?>==<;;::9998888877777777778888999::;;<<=>>?@ABCDFGHJKLKJIHGFEEDCCBBBAAA@@@@@@@@@@@@@AAAABB93.*&$!\037\035\034\032\031\030\027\026\025\024\024\023\022\022\021\021\020\020\020\017\017\017\016\016\016\016\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\014\015\015\015\015\015\016\016\016\017\017\017\020\020\021\021\022\022\023\023\024\025\026\027\030\031\033\034\036 #%)-29ANc\223½¼¼¼¼¼¼¼½½¾¿ÀÁÂ¾³¨\237\227\217\210\202|wrnifb_\\YWURPNMKIHGEDCBA@?>>=<<;;::999888888777777888888999::;;<==>??@ABCEFGIJLJIHGFEEDCCBAAA@@?????>>>>>>>?????@@@>60,($\"\037\036\034\032\031\030\027\026\025\024\023\023\022\021\021\020\020\020\017\017\016\016\016\016\015\015\015\015\015\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\015\015\015\015\016\016\016\017\017\020\020\021\021\022\022\023\024\025\026\027\030\031\033\034\036!#&*/5=I[\204½½½½½½½½½¾¿ÀÁÂÃ¿´© \227\217\211\202|wrnjfc_]ZWUSQOMKJHGFDCBA@??>=<<;;:::9998888888888888888999::;;<<==>?@ABCDEFGIJJIHGFEDCBBAA@@??>>>>===========>>>>??;3.)%\" \036\034\032\031\030\026\025\024\024\023\022\022\021\020\020\017\017\017\016\016\016\015\015\015\015\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\014\014\014\014\014\015\015\015\016\016\016\017\017\020\020\021\021\022\023\023\024\025\026\030\031\033\034\037!$(,29DTt¾¾½½½½¾¾¾¿¿ÀÁÂÄÀ´ª \230\220\211\203}xsnjgc`]ZXUSQOMLJHGFECBA@@?>==<<;;::999988888888888888999:::;;<<=>>?@ABCDEFHIJHGFEDCBBA@@??>>===<<<<<<<<<<<<<<<===>70+'# \036\034\032\031\027\026\025\024\023\022\022\021\021\020\017\017\017\016\016\015\015\015\015\014\014\014\014\013\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\012\013\013\013\013\013\014\014\014\014\015\015\015\016\016\017\017\020\020\021\021\022\023\024\025\026\027\031\033\035\037\"%).5?Mj¿¾¾¾¾¾¾¿¿ÀÀÁÂÃÄÁµª¡\230\221\212\203}xsokgc`]ZXVSQOMLJIGFEDCBA@?>>=<<;;:::99998888888888889999::;;;<==>??@ABCDEGHIHGFDCCBA@??>>==<<<;;;;:::::::::;;;;;<<3-($!\036\034\032\031\027\026\025\024\023\022\021\021\020\020\017\017\016\016\015\015\015\014\014\014\014\013\013\013\013\013\012\012\012\012\012\012\012\012\012\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\013\013\013\013\014\014\014\014\015\015\016\016\017\017\020\020\021\022\023\024\025\026\027\031\033\035\037\"&+1:G]À¿¿¿¿¿¿¿ÀÀÁÂÃÄÅÁ¶«¡\231\221\212\204~ytokgda^[XVTRPNLKIHFEDCBA@??>==<<;;:::999988888888899999:::;;<<==>?@@ABCDFGHHFEDCBA@??>==<<;;::::9999999999999::::90*&\"\037\034\032\031\027\026\024\023\023\022\021\020\020\017\016\016\016\015\015\014\014\014\014\013\013\013\013\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\012\012\012\012\012\013\013\013\014\014\014\015\015\016\016\017\017\020\021\021\022\023\024\026\027\031\033\035 #(-5AVºÀÀÀÀÀÀÀÀÁÂÃÄÅÆÂ¶¬¢\231\222\213\204~ytplhda^[YVTRPNLKIHGEDCBA@@?>==<<;;:::99999998888999999:::;;;<<=>>?@ABCDEFGGFECBA@??>=<<;;::99988888887778888888994-'# \035\032\030\027\025\024\023\022\021\020\020\017\016\016\015\015\015\014\014\014\013\013\013\012\012\012\012\012\011\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\012\012\012\012\013\013\013\014\014\014\015\015\016\017\017\020\021\022\023\024\025\027\031\033\035!%*1;M~ÁÀÀÀÀÀÁÁÂÂÃÄÅÇÁ·¬£\232\222\213\205\177yuplhea^\\YWTRPNMKJHGFECBAA@?>>=<<;;;:::999999999999999::::;;<<==>??@ABCDEFGEDCBA@?>=<<;::99888777766666666666777780)$ \035\033\031\027\025\024\023\022\021\020\017\017\016\015\015\014\014\014\013\013\013\012\012\012\012\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\011\011\011\011\011\012\012\012\012\013\013\013\014\014\015\015\016\017\017\020\021\022\024\025\027\031\033\036!&-6BfÁÁÁÁÁÁÁÂÂÃÄÅÆÅº°§ \230\222\214\205\177zuplieb_\\YWURQOMKJHGFEDCBA@??>==<<;;;:::9999999999999::::;;;<<=>>?@@ABCDEFEDBA@?>=<<;:9988777666555555555555555666,&!\036\033\030\027\025\023\022\021\020\017\017\016\015\015\014\014\013\013\013\012\012\012\012\011\011\011\011\011\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\011\011\011\011\012\012\012\013\013\014\014\015\015\016\017\020\021\022\023\025\026\030\033\036#(0=XÂÂÂÂÂÂÂÃÃÄÅÆÇ½²©¡\231\222\214\207\201}xtqmieb_\\ZWUSQOMLJIGFEDCBA@@?>>=<<<;;:::::9999999999::::;;;<<==>>?@AABCDFECBA@>=<<;:998776665554444433333334444441(\"\036\033\031\026\025\023\022\021\020\017\016\015\015\014\014\013\013\012\012\012\011\011\011\011\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\010\010\010\010\011\011\011\011\012\012\013\013\014\014\015\015\016\017\020\021\023\024\026\030\033\037$+7JÃÃÂÂÂÃÃÃÄÅÅÇÀµ«¢\232\223\214\206\201|xsplifca^\\ZWUSQONLJIHFEDCBAA@?>>==<<;;;:::::9999999::::::;;;<<==>??@ABCDEDCB@?>=<;:9887765554433332222222222222333,$\037\034\031\026\024\023\021\020\017\016\015\015\014\014\013\013\012\012\011\011\011\011\010\010\010\010\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\010\010\010\010\011\011\011\012\012\013\013\014\015\015\016\017\021\022\024\026\030\034 &0BÄÃÃÃÃÃÄÄÅÅÆÅ¹®¤\233\224\215\206\201|wsokheb_]ZXVTSQONMLJIHGFDCBBA@??>==<<<;;;::::::::::::::::;;;<<==>>?@@ABCDDCA@?=<;:988766544433222211111111111111111'!\034\031\026\024\022\021\020\016\016\015\014\013\013\012\012\011\011\011\010\010\010\010\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\007\007\007\007\007\010\010\010\011\011\012\012\013\013\014\015\016\017\020\021\023\026\030\034\"(8ÄÄÄÄÄÄÄÅÅÆÇ½±¦\235\225\215\207\201{vrnjfc`^[YVTRQONLKIHGFEDDCBAA@@??>>==<<;;;;::::::::::::::;;;<<<==>>?@AABCDBA?>=<;:98765544332211100000/////////0000+\"\035\031\026\024\022\020\017\016\015\014\013\013\012\012\011\011\010\010\010\007\007\007\007\007\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005\006\006\006\006\006\007\007\007\010\010\010\011\011\012\012\013\014\015\016\017\021\023\025\030\035\"-¾ÅÅÅÅÅÅÆÆÇÂµ©\237\226\216\207\201{vqmieb_\\YWUSQOMLJIGFEDCBAA@??>===<<;;;;;:::::::::::::::::;;;;<<==>>??@ABBCB@?><;:9876554332211000////............../%\036\031\026\023\021\017\016\015\014\013\012\012\011\011\010\010\010\007\007\007\006\006\006\006\006\006\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\006\006\006\006\007\007\007\010\010\011\011\012\013\014\015\016\020\022\025\030\035':ÅÅÅÅÆÆÆÇÈº­¢\230\220\210\201{vqlhda^[XUSQOMKJHGFDCBA@?>>=<<;;::9999888888888888888999:::;;<<<==>>?@@ABCB@?=<:98765543221100//....----------------* \031\025\022\020\017\015\014\013\012\012\011\010\010\007\007\007\006\006\006\006\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\005\005\005\005\006\006\006\006\007\007\010\010\011\012\013\014\015\017\021\024\031\037/ÆÆÆÆÆÇÇÈÀ²¥\233\222\211\202|vplgc`\\YWTROMKJHFEDBA@?>=<<;::998877766665555555555566667778899:;;<=>>?AABB@>=;:987654321100//..---,,,,,+++++++++++,,#\032\025\022\017\015\014\013\012\011\010\010\007\007\007\006\006\006\005\005\005\005\005\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\005\005\005\005\006\006\007\007\010\010\011\012\014\016\020\023\031#ÇÇÇÇÇÇÈÇ·ª\236\224\213\203|vpkgc_[XUSPNLJHFECBA?>=<;::98876665544443333333333333334444556677899:;<=>?@@><;98765432110//..--,,,++++**************(\033\025\021\016\014\013\012\011\010\007\007\006\006\005\005\005\005\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\004\004\004\004\005\005\005\006\006\007\010\011\012\013\013\020\032ÈÈÈÈÈÈÈ¾¯¢\227\215\205}vpkfb^ZWTQOLJHFECA@?><;:998766544333222111110000000011111122233445567789:;<=><:9865432110/..--,,+++***))))))))(((())))\035\024\017\015\013\011\010\007\006\006\005\005\005\004\004\004\004\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\004\004\005\005\006\007\010\010\014\021ÈÈÈÈÈÉÇµ§\232\220\206~wqkfa]YVSPMKIGECA@>=<;9887654432211100/////.............////0001122334556789:;:876532110/.--,,++**))))((((('''''''''''$\023\015\012\010\007\006\005\005\004\004\004\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\002\002\002\002\002\003\003\003\004\004\004\010ÉÉÉÉÉÉ½­\237\223\211\200xqkfa]YUROLJGECA@>=;:987654322100///..----,,,,,,,,,,,,,,,,----...//00112344567886543210/.--,++**))(((''''&&&&&&&&&&&&&&\021\012\007\005\004\004\003\003\002\002\002\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000ÊÊÊÊÊÇ´¤\227\213\202yrkfa\\XTQNKHFDB@><;98765432110//.---,,++++******************++++,,,--../00123445653210/.-,,+**))(('''&&&%%%%%%%$$$$$$$%\006\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000ÊÊÊË½«\234\217\204{slf`\\WSPLJGDB@><;986543210//.--,,++**))))((((((''''''''(((((())))**+++,--../01234310/.-,,+*))((''&&&%%%$$$$$###########\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000ÈËËËÉ³¢\224\210}umf`[WROKHFCA?=;98653210/..-,++**))((('''&&&&&%%%%%%%%%%%%&&&&&''''(())**++,--./0110.-,++*)((''&&%%$$$#####\"\"\"\"\"\"\"\"\"\"\"\"\037\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000ÈÌÌÌ¾ª\231\213\200vnga[VRNJGDB?=;9764321/..-,+**)((''&&&%%%$$$$$##############$$$$$%%%&&&''(()**+,,-./.-,+*)(''&&%%$$###\"\"\"\"!!!!!!        \000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000ÉÍÍÌ³ \220\204ypha[VQMIFC@><9864310/.-,+*))(''&&%%$$####\"\"\"\"\"!!!!!!!!!!!!!!\"\"\"\"\"####$$%%%&''(()*+,-,+*)(''&%%$$##\"\"\"!!!     \037\037\037\037\037\037\037\037\037\037\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000ËÍÍÀ©\227\210|rib[UQLHEB?<:864310.-,+*)(''&%%$$##\"\"\"!!!      \037\037\037\037\037\037\037\037\037\037\037\037\037\037\037     !!!\"\"\"##$$%%&''()**)('&&%$$##\"\"!!   \037\037\037\037\037\036\036\036\036\036\036\036\036\036\036\036\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000ËÎÎµ\237\216\200tjb[UPKGDA>;96431/.-+*)('&&%$$#\"\"!!!  \037\037\037\037\036\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\037\037\037\037  !!!\"\"#$$%&&'('&%%$##\"!!!  \037\037\037\036\036\036\036\035\035\035\035\035\035\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000ÍÏÄ©\225\205wmd\\UPKGC?<97531/.,+*('&&%$#\"\"!!  \037\037\036\036\036\035\035\035\035\034\034\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\034\035\035\035\035\036\036\036\037\037  !!\"\"#$%&%$$#\"\"!  \037\037\037\036\036\035\035\035\035\034\034\034\034\034\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000ÏÐ¸\236\213|oe]VOJFB>;8531/-,*)('&%$#\"!! \037\037\036\036\035\035\035\034\034\034\033\033\033\033\032\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\032\033\033\033\033\034\034\034\035\035\035\036\036\037\037 !!\"###\"!  \037\037\036\036\035\035\035\034\034\034\033\033\033\033\033\032\032\032\032\032\032\032\032\032\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000Ë«\223\201sg^VOJEA=9742/-,*)'&%$#\"!  \037\036\036\035\035\034\034\033\033\032\032\032\032\031\031\031\031\030\030\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\030\030\030\031\031\031\031\032\032\032\033\033\033\034\034\035\035\036\036\037  !! \037\037\036\036\035\035\034\034\034\033\033\033\032\032\032\032\031\031\031\031\031\031\031\030\030\030\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000¸\237\210wj_WOID?;8520.,*('%$#\"! \037\036\036\035\034\034\033\033\032\032\031\031\031\030\030\030\030\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\025\025\025\025\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\030\030\030\030\031\031\032\032\032\033\033\034\035\035\036\037\037\036\036\035\035\034\034\033\033\032\032\032\031\031\031\031\030\030\030\030\030\027\027\027\027\027\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000®\221}naXPIC>:731.,*(&%$\"! \037\036\035\035\034\033\033\032\032\031\031\030\030\027\027\027\026\026\026\026\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\026\026\026\026\027\027\027\030\030\031\031\032\032\033\033\034\035\035\034\033\033\032\032\032\031\031\030\030\030\030\027\027\027\027\027\026\026\026\026\026\026\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\206qcYPIB=952/,*(&$#\" \037\036\035\034\033\033\032\031\031\030\030\027\027\026\026\026\025\025\025\024\024\024\024\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\024\024\024\024\025\025\025\026\026\026\027\027\030\030\031\032\032\033\032\032\031\031\030\030\030\027\027\027\026\026\026\026\025\025\025\025\025\025\025\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000[QHB<730-*(&$\"! \036\035\034\033\032\032\031\030\027\027\026\026\025\025\025\024\024\023\023\023\023\022\022\022\022\021\021\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\021\022\022\022\022\022\023\023\023\024\024\024\025\025\025\026\026\027\030\030\031\030\030\027\027\026\026\026\025\025\025\025\024\024\024\024\024\024\024\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000H?:62.+(&$\" \037\035\034\033\032\031\030\030\027\026\026\025\024\024\024\023\023\022\022\022\021\021\021\021\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\021\021\021\021\022\022\022\023\023\024\024\025\025\026\026\026\026\026\025\025\025\024\024\024\023\023\023\023\023\023\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000/*)&$! \036\034\033\032\031\030\027\026\025\025\024\024\023\023\022\022\021\021\021\020\020\020\017\017\017\017\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\017\017\017\017\020\020\020\021\021\021\022\022\023\023\024\024\024\024\024\023\023\023\022\022\022\022\022\022\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\034\034\000\030\027\026\024\024\023\023\022\022\021\021\020\020\017\017\017\016\016\016\016\015\015\015\015\015\014\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\014\014\015\015\015\015\015\016\016\016\016\017\017\017\020\020\021\021\022\022\022\022\022\021\021\021\021\021\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\012\012\012\012\012\012\011\011\000\000\000\000\000\000\000\000\000\000\011\011\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\000\000\014\014\014\014\014\015\015\015\015\016\016\017\017\020\020\020\020\020\020\020\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000").toString()
+                    .getBytes("ISO-8859-1");
+        } catch (UnsupportedEncodingException ignored) {
+            System.out.println("You may ask yourself, 'How did I get here?' Well, there's an encoding problem.");
+            GAMUT_DATA = new byte[65536];
+        }
+    }
+}
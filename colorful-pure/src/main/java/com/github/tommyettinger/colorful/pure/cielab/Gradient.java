@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.pure.cielab;
+
+import com.github.tommyettinger.colorful.pure.ColorGradient;
+import com.github.tommyettinger.colorful.pure.FloatColors;
+import com.github.tommyettinger.digital.Interpolations;
+import com.github.tommyettinger.digital.Interpolations.InterpolationFunction;
+import com.github.tommyettinger.ds.FloatList;
+
+/**
+ * A {@link ColorGradient} through packed float CIELAB colors, which samples the same colors as
+ * {@link GradientTools#appendGradientChain(FloatList, int, InterpolationFunction, float...)} without storing every
+ * step. Each sample is limited to the CIELAB gamut, as GradientTools does.
+ */
+public class Gradient extends ColorGradient {
+    /**
+     * Creates a gradient that moves linearly through the given stops.
+     * @param stops packed float CIELAB colors to pass through in order; must not be empty
+     */
+    public Gradient(float... stops) {
+        super(Interpolations.linear, stops);
+    }
+
+    /**
+     * Creates a gradient through the given stops, using the given InterpolationFunction to adjust each point before
+     * sampling.
+     * @param interpolation applied to each point before sampling; must not be null
+     * @param stops packed float CIELAB colors to pass through in order; must not be empty
+     */
+    public Gradient(InterpolationFunction interpolation, float... stops) {
+        super(interpolation, stops);
+    }
+
+    /**
+     * Creates a gradient through the colors in a FloatList, using the given InterpolationFunction to adjust each point
+     * before sampling.
+     * @param interpolation applied to each point before sampling; must not be null
+     * @param stops a FloatList of packed float CIELAB colors to pass through in order; must not be empty
+     */
+    public Gradient(InterpolationFunction interpolation, FloatList stops) {
+        super(interpolation, stops == null ? null : stops.toArray());
+    }
+
+    @Override
+    protected float blend(float start, float end, float change) {
+        return ColorTools.limitToGamut(FloatColors.lerpFloatColors(start, end, change));
+    }
+
+    @Override
+    protected int toRGBA8888(float color) {
+        return ColorTools.toRGBA8888(color);
+    }
+
+    @Override
+    public Gradient bake(int resolution) {
+        super.bake(resolution);
+        return this;
+    }
+}
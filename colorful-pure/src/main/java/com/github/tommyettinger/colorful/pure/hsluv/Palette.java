@@ -16,8 +16,11 @@
 
 package com.github.tommyettinger.colorful.pure.hsluv;
 
+import com.github.tommyettinger.colorful.pure.ColorNameTable;
+import com.github.tommyettinger.colorful.pure.NamedColorTree;
 import com.github.tommyettinger.ds.FloatList;
 import com.github.tommyettinger.ds.ObjectFloatOrderedMap;
+import com.github.tommyettinger.ds.ObjectIntMap;
 import com.github.tommyettinger.ds.ObjectList;
 
 import static com.github.tommyettinger.colorful.pure.hsluv.ColorTools.*;
@@ -48,7 +51,6 @@ public class Palette {
      * </pre>
      */
     public static final float TRANSPARENT = 0x0.0p0F;
-    static { NAMED.put("Transparent", 0x0.0p0F); LIST.add(0x0.0p0F); }
 
     /**
      * This color constant "Black" has RGBA8888 code {@code 000000FF}, H 0.0, S 0.0, L 0.0, alpha 1.0, and chroma 0.0.
@@ -60,7 +62,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACK = -0x1.0p125F;
-    static { NAMED.put("Black", -0x1.0p125F); LIST.add(-0x1.0p125F); }
 
     /**
      * This color constant "Coal Black" has RGBA8888 code {@code 131313FF}, H 0.16078432, S 0.0, L 0.05882353, alpha 1.0, and chroma 0.0.
@@ -72,7 +73,6 @@ public class Palette {
      * </pre>
      */
     public static final float COAL_BLACK = -0x1.1e0052p125F;
-    static { NAMED.put("Coal Black", -0x1.1e0052p125F); LIST.add(-0x1.1e0052p125F); }
 
     /**
      * This color constant "Shadow" has RGBA8888 code {@code 252525FF}, H 0.16078432, S 0.0, L 0.13725491, alpha 1.0, and chroma 0.0.
@@ -84,7 +84,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHADOW = -0x1.460052p125F;
-    static { NAMED.put("Shadow", -0x1.460052p125F); LIST.add(-0x1.460052p125F); }
 
     /**
      * This color constant "Graphite" has RGBA8888 code {@code 373737FF}, H 0.16078432, S 0.0, L 0.21176471, alpha 1.0, and chroma 0.0.
@@ -96,7 +95,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPHITE = -0x1.6c0052p125F;
-    static { NAMED.put("Graphite", -0x1.6c0052p125F); LIST.add(-0x1.6c0052p125F); }
 
     /**
      * This color constant "Dark Gray" has RGBA8888 code {@code 494949FF}, H 0.16078432, S 0.0, L 0.28627452, alpha 1.0, and chroma 0.0.
@@ -108,7 +106,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_GRAY = -0x1.920052p125F;
-    static { NAMED.put("Dark Gray", -0x1.920052p125F); LIST.add(-0x1.920052p125F); }
 
     /**
      * This color constant "Lead" has RGBA8888 code {@code 5B5B5BFF}, H 0.16078432, S 0.0, L 0.35686275, alpha 1.0, and chroma 0.0.
@@ -120,7 +117,6 @@ public class Palette {
      * </pre>
      */
     public static final float LEAD = -0x1.b60052p125F;
-    static { NAMED.put("Lead", -0x1.b60052p125F); LIST.add(-0x1.b60052p125F); }
 
     /**
      * This color constant "Iron" has RGBA8888 code {@code 6E6E6EFF}, H 0.16078432, S 0.0, L 0.43137255, alpha 1.0, and chroma 0.0.
@@ -132,7 +128,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRON = -0x1.dc0052p125F;
-    static { NAMED.put("Iron", -0x1.dc0052p125F); LIST.add(-0x1.dc0052p125F); }
 
     /**
      * This color constant "Gray" has RGBA8888 code {@code 808080FF}, H 0.16078432, S 0.0, L 0.5019608, alpha 1.0, and chroma 0.0.
@@ -144,7 +139,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY = -0x1.000052p126F;
-    static { NAMED.put("Gray", -0x1.000052p126F); LIST.add(-0x1.000052p126F); }
 
     /**
      * This color constant "Chinchilla" has RGBA8888 code {@code 929292FF}, H 0.16078432, S 0.0, L 0.5686275, alpha 1.0, and chroma 0.0.
@@ -156,7 +150,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHINCHILLA = -0x1.220052p126F;
-    static { NAMED.put("Chinchilla", -0x1.220052p126F); LIST.add(-0x1.220052p126F); }
 
     /**
      * This color constant "Greyhound" has RGBA8888 code {@code A4A4A4FF}, H 0.16078432, S 0.0, L 0.6392157, alpha 1.0, and chroma 0.0.
@@ -168,7 +161,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREYHOUND = -0x1.460052p126F;
-    static { NAMED.put("Greyhound", -0x1.460052p126F); LIST.add(-0x1.460052p126F); }
 
     /**
      * This color constant "Silver" has RGBA8888 code {@code B6B6B6FF}, H 0.16078432, S 0.0, L 0.70980394, alpha 1.0, and chroma 0.0.
@@ -180,7 +172,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER = -0x1.6a0052p126F;
-    static { NAMED.put("Silver", -0x1.6a0052p126F); LIST.add(-0x1.6a0052p126F); }
 
     /**
      * This color constant "Light Gray" has RGBA8888 code {@code C9C9C9FF}, H 0.16078432, S 0.0, L 0.78431374, alpha 1.0, and chroma 0.0.
@@ -192,7 +183,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_GRAY = -0x1.900052p126F;
-    static { NAMED.put("Light Gray", -0x1.900052p126F); LIST.add(-0x1.900052p126F); }
 
     /**
      * This color constant "Platinum" has RGBA8888 code {@code DBDBDBFF}, H 0.16078432, S 0.0, L 0.85882354, alpha 1.0, and chroma 0.0.
@@ -204,7 +194,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLATINUM = -0x1.b60052p126F;
-    static { NAMED.put("Platinum", -0x1.b60052p126F); LIST.add(-0x1.b60052p126F); }
 
     /**
      * This color constant "Cloud" has RGBA8888 code {@code EDEDEDFF}, H 0.16078432, S 0.0, L 0.92941177, alpha 1.0, and chroma 0.0.
@@ -216,7 +205,6 @@ public class Palette {
      * </pre>
      */
     public static final float CLOUD = -0x1.da0052p126F;
-    static { NAMED.put("Cloud", -0x1.da0052p126F); LIST.add(-0x1.da0052p126F); }
 
     /**
      * This color constant "White" has RGBA8888 code {@code FFFFFFFF}, H 0.16078432, S 0.0, L 1.0, alpha 1.0, and chroma 0.0.
@@ -228,7 +216,6 @@ public class Palette {
      * </pre>
      */
     public static final float WHITE = -0x1.fe0052p126F;
-    static { NAMED.put("White", -0x1.fe0052p126F); LIST.add(-0x1.fe0052p126F); }
 
     /**
      * This color constant "Seawater" has RGBA8888 code {@code 007F7FFF}, H 0.53333336, S 1.0, L 0.44313726, alpha 1.0, and chroma 0.37768868.
@@ -240,7 +227,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAWATER = -0x1.e3ff1p125F;
-    static { NAMED.put("Seawater", -0x1.e3ff1p125F); LIST.add(-0x1.e3ff1p125F); }
 
     /**
      * This color constant "Hospital Green" has RGBA8888 code {@code 3FBFBFFF}, H 0.53333336, S 0.92941177, L 0.6784314, alpha 1.0, and chroma 0.52232397.
@@ -252,7 +238,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOSPITAL_GREEN = -0x1.5bdb1p126F;
-    static { NAMED.put("Hospital Green", -0x1.5bdb1p126F); LIST.add(-0x1.5bdb1p126F); }
 
     /**
      * This color constant "Cyan" has RGBA8888 code {@code 00FFFFFF}, H 0.53333336, S 1.0, L 0.8980392, alpha 1.0, and chroma 0.716028.
@@ -264,7 +249,6 @@ public class Palette {
      * </pre>
      */
     public static final float CYAN = -0x1.cbff1p126F;
-    static { NAMED.put("Cyan", -0x1.cbff1p126F); LIST.add(-0x1.cbff1p126F); }
 
     /**
      * This color constant "Bubble" has RGBA8888 code {@code BFFFFFFF}, H 0.53333336, S 0.85882354, L 0.9529412, alpha 1.0, and chroma 0.27500474.
@@ -276,7 +260,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE = -0x1.e7b71p126F;
-    static { NAMED.put("Bubble", -0x1.e7b71p126F); LIST.add(-0x1.e7b71p126F); }
 
     /**
      * This color constant "Periwinkle" has RGBA8888 code {@code 8181FFFF}, H 0.7411765, S 0.92941177, L 0.56078434, alpha 1.0, and chroma 0.96443456.
@@ -288,7 +271,6 @@ public class Palette {
      * </pre>
      */
     public static final float PERIWINKLE = -0x1.1fdb7ap126F;
-    static { NAMED.put("Periwinkle", -0x1.1fdb7ap126F); LIST.add(-0x1.1fdb7ap126F); }
 
     /**
      * This color constant "Blue" has RGBA8888 code {@code 0000FFFF}, H 0.7411765, S 1.0, L 0.29803923, alpha 1.0, and chroma 1.2761624.
@@ -300,7 +282,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE = -0x1.99ff7ap125F;
-    static { NAMED.put("Blue", -0x1.99ff7ap125F); LIST.add(-0x1.99ff7ap125F); }
 
     /**
      * This color constant "Faded Blue" has RGBA8888 code {@code 3F3FBFFF}, H 0.7411765, S 0.7294118, L 0.31764707, alpha 1.0, and chroma 0.96686596.
@@ -312,7 +293,6 @@ public class Palette {
      * </pre>
      */
     public static final float FADED_BLUE = -0x1.a3757ap125F;
-    static { NAMED.put("Faded Blue", -0x1.a3757ap125F); LIST.add(-0x1.a3757ap125F); }
 
     /**
      * This color constant "Ocean Blue" has RGBA8888 code {@code 00007FFF}, H 0.7411765, S 1.0, L 0.12156863, alpha 1.0, and chroma 0.49350464.
@@ -324,7 +304,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCEAN_BLUE = -0x1.3fff7ap125F;
-    static { NAMED.put("Ocean Blue", -0x1.3fff7ap125F); LIST.add(-0x1.3fff7ap125F); }
 
     /**
      * This color constant "Stygian Blue" has RGBA8888 code {@code 0F0F50FF}, H 0.7411765, S 0.7647059, L 0.09019608, alpha 1.0, and chroma 0.26737815.
@@ -336,7 +315,6 @@ public class Palette {
      * </pre>
      */
     public static final float STYGIAN_BLUE = -0x1.2f877ap125F;
-    static { NAMED.put("Stygian Blue", -0x1.2f877ap125F); LIST.add(-0x1.2f877ap125F); }
 
     /**
      * This color constant "Deep Purple" has RGBA8888 code {@code 7F007FFF}, H 0.85490197, S 1.0, L 0.27058825, alpha 1.0, and chroma 0.66826016.
@@ -348,7 +326,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_PURPLE = -0x1.8bffb4p125F;
-    static { NAMED.put("Deep Purple", -0x1.8bffb4p125F); LIST.add(-0x1.8bffb4p125F); }
 
     /**
      * This color constant "Tyrian Purple" has RGBA8888 code {@code BF3FBFFF}, H 0.85490197, S 0.85490197, L 0.4627451, alpha 1.0, and chroma 0.9681067.
@@ -360,7 +337,6 @@ public class Palette {
      * </pre>
      */
     public static final float TYRIAN_PURPLE = -0x1.edb5b4p125F;
-    static { NAMED.put("Tyrian Purple", -0x1.edb5b4p125F); LIST.add(-0x1.edb5b4p125F); }
 
     /**
      * This color constant "Magenta" has RGBA8888 code {@code F500F5FF}, H 0.85490197, S 1.0, L 0.54509807, alpha 1.0, and chroma 1.3216946.
@@ -372,7 +348,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAGENTA = -0x1.17ffb4p126F;
-    static { NAMED.put("Magenta", -0x1.17ffb4p126F); LIST.add(-0x1.17ffb4p126F); }
 
     /**
      * This color constant "Bubblegum Pink" has RGBA8888 code {@code FD81FFFF}, H 0.85490197, S 0.9019608, L 0.6901961, alpha 1.0, and chroma 0.88142353.
@@ -384,7 +359,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLEGUM_PINK = -0x1.61cdb4p126F;
-    static { NAMED.put("Bubblegum Pink", -0x1.61cdb4p126F); LIST.add(-0x1.61cdb4p126F); }
 
     /**
      * This color constant "Pork Chop" has RGBA8888 code {@code FFC0CBFF}, H 0.0, S 0.8627451, L 0.8156863, alpha 1.0, and chroma 0.32774895.
@@ -396,7 +370,6 @@ public class Palette {
      * </pre>
      */
     public static final float PORK_CHOP = -0x1.a1b8p126F;
-    static { NAMED.put("Pork Chop", -0x1.a1b8p126F); LIST.add(-0x1.a1b8p126F); }
 
     /**
      * This color constant "Raw Meat" has RGBA8888 code {@code FF8181FF}, H 0.03137255, S 0.8627451, L 0.6509804, alpha 1.0, and chroma 0.795601.
@@ -408,7 +381,6 @@ public class Palette {
      * </pre>
      */
     public static final float RAW_MEAT = -0x1.4db81p126F;
-    static { NAMED.put("Raw Meat", -0x1.4db81p126F); LIST.add(-0x1.4db81p126F); }
 
     /**
      * This color constant "Red" has RGBA8888 code {@code FF0000FF}, H 0.03137255, S 1.0, L 0.49803922, alpha 1.0, and chroma 1.7587819.
@@ -420,7 +392,6 @@ public class Palette {
      * </pre>
      */
     public static final float RED = -0x1.fffe1p125F;
-    static { NAMED.put("Red", -0x1.fffe1p125F); LIST.add(-0x1.fffe1p125F); }
 
     /**
      * This color constant "Putty" has RGBA8888 code {@code BF3F3FFF}, H 0.03137255, S 0.69803923, L 0.42352942, alpha 1.0, and chroma 1.0534018.
@@ -432,7 +403,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUTTY = -0x1.d9641p125F;
-    static { NAMED.put("Putty", -0x1.d9641p125F); LIST.add(-0x1.d9641p125F); }
 
     /**
      * This color constant "Sienna" has RGBA8888 code {@code 7F0000FF}, H 0.03137255, S 1.0, L 0.23137255, alpha 1.0, and chroma 0.82602906.
@@ -444,7 +414,6 @@ public class Palette {
      * </pre>
      */
     public static final float SIENNA = -0x1.77fe1p125F;
-    static { NAMED.put("Sienna", -0x1.77fe1p125F); LIST.add(-0x1.77fe1p125F); }
 
     /**
      * This color constant "Seal Brown" has RGBA8888 code {@code 551414FF}, H 0.03137255, S 0.7411765, L 0.16470589, alpha 1.0, and chroma 0.42797858.
@@ -456,7 +425,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAL_BROWN = -0x1.557a1p125F;
-    static { NAMED.put("Seal Brown", -0x1.557a1p125F); LIST.add(-0x1.557a1p125F); }
 
     /**
      * This color constant "Mummy Brown" has RGBA8888 code {@code 7F3F00FF}, H 0.08627451, S 1.0, L 0.3137255, alpha 1.0, and chroma 0.6093485.
@@ -468,7 +436,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUMMY_BROWN = -0x1.a1fe2cp125F;
-    static { NAMED.put("Mummy Brown", -0x1.a1fe2cp125F); LIST.add(-0x1.a1fe2cp125F); }
 
     /**
      * This color constant "Fawn" has RGBA8888 code {@code BF7F3FFF}, H 0.11372549, S 0.84313726, L 0.54901963, alpha 1.0, and chroma 0.7312806.
@@ -480,7 +447,6 @@ public class Palette {
      * </pre>
      */
     public static final float FAWN = -0x1.19ae3ap126F;
-    static { NAMED.put("Fawn", -0x1.19ae3ap126F); LIST.add(-0x1.19ae3ap126F); }
 
     /**
      * This color constant "Orange" has RGBA8888 code {@code FF7F00FF}, H 0.08235294, S 1.0, L 0.63529414, alpha 1.0, and chroma 1.22371.
@@ -492,7 +458,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORANGE = -0x1.45fe2ap126F;
-    static { NAMED.put("Orange", -0x1.45fe2ap126F); LIST.add(-0x1.45fe2ap126F); }
 
     /**
      * This color constant "Peach" has RGBA8888 code {@code FFBF81FF}, H 0.1254902, S 0.84705883, L 0.79607844, alpha 1.0, and chroma 0.56687677.
@@ -504,7 +469,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEACH = -0x1.97b04p126F;
-    static { NAMED.put("Peach", -0x1.97b04p126F); LIST.add(-0x1.97b04p126F); }
 
     /**
      * This color constant "Cream" has RGBA8888 code {@code FFFFBFFF}, H 0.23921569, S 0.84705883, L 0.9843137, alpha 1.0, and chroma 0.3737242.
@@ -516,7 +480,6 @@ public class Palette {
      * </pre>
      */
     public static final float CREAM = -0x1.f7b07ap126F;
-    static { NAMED.put("Cream", -0x1.f7b07ap126F); LIST.add(-0x1.f7b07ap126F); }
 
     /**
      * This color constant "Yellow" has RGBA8888 code {@code FFFF00FF}, H 0.23921569, S 1.0, L 0.96862745, alpha 1.0, and chroma 0.96873754.
@@ -528,7 +491,6 @@ public class Palette {
      * </pre>
      */
     public static final float YELLOW = -0x1.effe7ap126F;
-    static { NAMED.put("Yellow", -0x1.effe7ap126F); LIST.add(-0x1.effe7ap126F); }
 
     /**
      * This color constant "Earwax" has RGBA8888 code {@code BFBF3FFF}, H 0.23921569, S 0.91764706, L 0.7254902, alpha 1.0, and chroma 0.7638768.
@@ -540,7 +502,6 @@ public class Palette {
      * </pre>
      */
     public static final float EARWAX = -0x1.73d47ap126F;
-    static { NAMED.put("Earwax", -0x1.73d47ap126F); LIST.add(-0x1.73d47ap126F); }
 
     /**
      * This color constant "Umber" has RGBA8888 code {@code 7F7F00FF}, H 0.23921569, S 1.0, L 0.47843137, alpha 1.0, and chroma 0.56648916.
@@ -552,7 +513,6 @@ public class Palette {
      * </pre>
      */
     public static final float UMBER = -0x1.f5fe7ap125F;
-    static { NAMED.put("Umber", -0x1.f5fe7ap125F); LIST.add(-0x1.f5fe7ap125F); }
 
     /**
      * This color constant "Ivy Green" has RGBA8888 code {@code 007F00FF}, H 0.3529412, S 1.0, L 0.42352942, alpha 1.0, and chroma 0.69908106.
@@ -564,7 +524,6 @@ public class Palette {
      * </pre>
      */
     public static final float IVY_GREEN = -0x1.d9feb4p125F;
-    static { NAMED.put("Ivy Green", -0x1.d9feb4p125F); LIST.add(-0x1.d9feb4p125F); }
 
     /**
      * This color constant "Jade" has RGBA8888 code {@code 3FBF3FFF}, H 0.3529412, S 0.89411765, L 0.6509804, alpha 1.0, and chroma 0.9355735.
@@ -576,7 +535,6 @@ public class Palette {
      * </pre>
      */
     public static final float JADE = -0x1.4dc8b4p126F;
-    static { NAMED.put("Jade", -0x1.4dc8b4p126F); LIST.add(-0x1.4dc8b4p126F); }
 
     /**
      * This color constant "Green" has RGBA8888 code {@code 00FF00FF}, H 0.3529412, S 1.0, L 0.8627451, alpha 1.0, and chroma 1.3288879.
@@ -588,7 +546,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREEN = -0x1.b9feb4p126F;
-    static { NAMED.put("Green", -0x1.b9feb4p126F); LIST.add(-0x1.b9feb4p126F); }
 
     /**
      * This color constant "Celadon" has RGBA8888 code {@code AFFFAFFF}, H 0.3529412, S 0.84313726, L 0.9254902, alpha 1.0, and chroma 0.5216103.
@@ -600,7 +557,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELADON = -0x1.d9aeb4p126F;
-    static { NAMED.put("Celadon", -0x1.d9aeb4p126F); LIST.add(-0x1.d9aeb4p126F); }
 
     /**
      * This color constant "Puce" has RGBA8888 code {@code BCAFC0FF}, H 0.83137256, S 0.14117648, L 0.69803923, alpha 1.0, and chroma 0.11945841.
@@ -612,7 +568,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUCE = -0x1.6449a8p126F;
-    static { NAMED.put("Puce", -0x1.6449a8p126F); LIST.add(-0x1.6449a8p126F); }
 
     /**
      * This color constant "Beige" has RGBA8888 code {@code CBAA89FF}, H 0.13725491, S 0.40392157, L 0.6862745, alpha 1.0, and chroma 0.38323697.
@@ -624,7 +579,6 @@ public class Palette {
      * </pre>
      */
     public static final float BEIGE = -0x1.5ece46p126F;
-    static { NAMED.put("Beige", -0x1.5ece46p126F); LIST.add(-0x1.5ece46p126F); }
 
     /**
      * This color constant "Wet Stone" has RGBA8888 code {@code A6A090FF}, H 0.19607843, S 0.19215687, L 0.627451, alpha 1.0, and chroma 0.14334644.
@@ -636,7 +590,6 @@ public class Palette {
      * </pre>
      */
     public static final float WET_STONE = -0x1.406264p126F;
-    static { NAMED.put("Wet Stone", -0x1.406264p126F); LIST.add(-0x1.406264p126F); }
 
     /**
      * This color constant "Slow Creek" has RGBA8888 code {@code 7E9494FF}, H 0.53333336, S 0.26666668, L 0.56078434, alpha 1.0, and chroma 0.12580046.
@@ -648,7 +601,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLOW_CREEK = -0x1.1e891p126F;
-    static { NAMED.put("Slow Creek", -0x1.1e891p126F); LIST.add(-0x1.1e891p126F); }
 
     /**
      * This color constant "Slate Gray" has RGBA8888 code {@code 6E8287FF}, H 0.58431375, S 0.2901961, L 0.49411765, alpha 1.0, and chroma 0.13174151.
@@ -660,7 +612,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLATE_GRAY = -0x1.fc952ap125F;
-    static { NAMED.put("Slate Gray", -0x1.fc952ap125F); LIST.add(-0x1.fc952ap125F); }
 
     /**
      * This color constant "Light Skin 1" has RGBA8888 code {@code 7E6E60FF}, H 0.13333334, S 0.2784314, L 0.4392157, alpha 1.0, and chroma 0.17716455.
@@ -672,7 +623,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_1 = -0x1.e08e44p125F;
-    static { NAMED.put("Light Skin 1", -0x1.e08e44p125F); LIST.add(-0x1.e08e44p125F); }
 
     /**
      * This color constant "Light Skin 2" has RGBA8888 code {@code A0695FFF}, H 0.05882353, S 0.37254903, L 0.4627451, alpha 1.0, and chroma 0.43383455.
@@ -684,7 +634,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_2 = -0x1.ecbe1ep125F;
-    static { NAMED.put("Light Skin 2", -0x1.ecbe1ep125F); LIST.add(-0x1.ecbe1ep125F); }
 
     /**
      * This color constant "Light Skin 3" has RGBA8888 code {@code C07872FF}, H 0.043137256, S 0.34117648, L 0.54509807, alpha 1.0, and chroma 0.5175003.
@@ -696,7 +645,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_3 = -0x1.16ae16p126F;
-    static { NAMED.put("Light Skin 3", -0x1.16ae16p126F); LIST.add(-0x1.16ae16p126F); }
 
     /**
      * This color constant "Light Skin 4" has RGBA8888 code {@code D08A74FF}, H 0.07058824, S 0.45882353, L 0.60784316, alpha 1.0, and chroma 0.5997201.
@@ -708,7 +656,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_4 = -0x1.36ea24p126F;
-    static { NAMED.put("Light Skin 4", -0x1.36ea24p126F); LIST.add(-0x1.36ea24p126F); }
 
     /**
      * This color constant "Light Skin 5" has RGBA8888 code {@code E19B7DFF}, H 0.08235294, S 0.4862745, L 0.67058825, alpha 1.0, and chroma 0.5005602.
@@ -720,7 +667,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_5 = -0x1.56f82ap126F;
-    static { NAMED.put("Light Skin 5", -0x1.56f82ap126F); LIST.add(-0x1.56f82ap126F); }
 
     /**
      * This color constant "Light Skin 6" has RGBA8888 code {@code EBAA8CFF}, H 0.09019608, S 0.5529412, L 0.72156864, alpha 1.0, and chroma 0.4574694.
@@ -732,7 +678,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_6 = -0x1.711a2ep126F;
-    static { NAMED.put("Light Skin 6", -0x1.711a2ep126F); LIST.add(-0x1.711a2ep126F); }
 
     /**
      * This color constant "Light Skin 7" has RGBA8888 code {@code F5B99BFF}, H 0.09411765, S 0.67058825, L 0.77254903, alpha 1.0, and chroma 0.42591238.
@@ -744,7 +689,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_7 = -0x1.8b563p126F;
-    static { NAMED.put("Light Skin 7", -0x1.8b563p126F); LIST.add(-0x1.8b563p126F); }
 
     /**
      * This color constant "Light Skin 8" has RGBA8888 code {@code F6C8AFFF}, H 0.101960786, S 0.65882355, L 0.81960785, alpha 1.0, and chroma 0.32286143.
@@ -756,7 +700,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_8 = -0x1.a35034p126F;
-    static { NAMED.put("Light Skin 8", -0x1.a35034p126F); LIST.add(-0x1.a35034p126F); }
 
     /**
      * This color constant "Light Skin 9" has RGBA8888 code {@code F5E1D2FF}, H 0.12941177, S 0.50980395, L 0.89411765, alpha 1.0, and chroma 0.15731497.
@@ -768,7 +711,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_9 = -0x1.c90442p126F;
-    static { NAMED.put("Light Skin 9", -0x1.c90442p126F); LIST.add(-0x1.c90442p126F); }
 
     /**
      * This color constant "Dark Skin 1" has RGBA8888 code {@code 573B3BFF}, H 0.03137255, S 0.19607843, L 0.25882354, alpha 1.0, and chroma 0.18168633.
@@ -780,7 +722,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_1 = -0x1.84641p125F;
-    static { NAMED.put("Dark Skin 1", -0x1.84641p125F); LIST.add(-0x1.84641p125F); }
 
     /**
      * This color constant "Dark Skin 2" has RGBA8888 code {@code 73413CFF}, H 0.043137256, S 0.41960785, L 0.30588236, alpha 1.0, and chroma 0.402742.
@@ -792,7 +733,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_2 = -0x1.9cd616p125F;
-    static { NAMED.put("Dark Skin 2", -0x1.9cd616p125F); LIST.add(-0x1.9cd616p125F); }
 
     /**
      * This color constant "Dark Skin 3" has RGBA8888 code {@code 8E5555FF}, H 0.03137255, S 0.29411766, L 0.39215687, alpha 1.0, and chroma 0.41200703.
@@ -804,7 +744,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_3 = -0x1.c8961p125F;
-    static { NAMED.put("Dark Skin 3", -0x1.c8961p125F); LIST.add(-0x1.c8961p125F); }
 
     /**
      * This color constant "Pink Skin 1" has RGBA8888 code {@code AB7373FF}, H 0.03137255, S 0.21960784, L 0.5058824, alpha 1.0, and chroma 0.37359044.
@@ -816,7 +755,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_1 = -0x1.02701p126F;
-    static { NAMED.put("Pink Skin 1", -0x1.02701p126F); LIST.add(-0x1.02701p126F); }
 
     /**
      * This color constant "Pink Skin 2" has RGBA8888 code {@code C78F8FFF}, H 0.03137255, S 0.2901961, L 0.6117647, alpha 1.0, and chroma 0.3168118.
@@ -828,7 +766,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_2 = -0x1.38941p126F;
-    static { NAMED.put("Pink Skin 2", -0x1.38941p126F); LIST.add(-0x1.38941p126F); }
 
     /**
      * This color constant "Pink Skin 3" has RGBA8888 code {@code E3ABABFF}, H 0.03137255, S 0.46666667, L 0.72156864, alpha 1.0, and chroma 0.31076378.
@@ -840,7 +777,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_3 = -0x1.70ee1p126F;
-    static { NAMED.put("Pink Skin 3", -0x1.70ee1p126F); LIST.add(-0x1.70ee1p126F); }
 
     /**
      * This color constant "Pink Skin 4" has RGBA8888 code {@code F8D2DAFF}, H 0.99215686, S 0.6784314, L 0.85882354, alpha 1.0, and chroma 0.18907695.
@@ -852,7 +788,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_4 = -0x1.b75bfap126F;
-    static { NAMED.put("Pink Skin 4", -0x1.b75bfap126F); LIST.add(-0x1.b75bfap126F); }
 
     /**
      * This color constant "Bronze Skin 4" has RGBA8888 code {@code E3C7ABFF}, H 0.14117648, S 0.32941177, L 0.79607844, alpha 1.0, and chroma 0.25166056.
@@ -864,7 +799,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_4 = -0x1.96a848p126F;
-    static { NAMED.put("Bronze Skin 4", -0x1.96a848p126F); LIST.add(-0x1.96a848p126F); }
 
     /**
      * This color constant "Bronze Skin 3" has RGBA8888 code {@code C49E73FF}, H 0.14117648, S 0.5294118, L 0.6431373, alpha 1.0, and chroma 0.46599856.
@@ -876,7 +810,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_3 = -0x1.490e48p126F;
-    static { NAMED.put("Bronze Skin 3", -0x1.490e48p126F); LIST.add(-0x1.490e48p126F); }
 
     /**
      * This color constant "Bronze Skin 2" has RGBA8888 code {@code 8F7357FF}, H 0.13333334, S 0.49019608, L 0.47058824, alpha 1.0, and chroma 0.3331539.
@@ -888,7 +821,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_2 = -0x1.f0fa44p125F;
-    static { NAMED.put("Bronze Skin 2", -0x1.f0fa44p125F); LIST.add(-0x1.f0fa44p125F); }
 
     /**
      * This color constant "Bronze Skin 1" has RGBA8888 code {@code 73573BFF}, H 0.12941177, S 0.6039216, L 0.36078432, alpha 1.0, and chroma 0.32321322.
@@ -900,7 +832,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_1 = -0x1.b93442p125F;
-    static { NAMED.put("Bronze Skin 1", -0x1.b93442p125F); LIST.add(-0x1.b93442p125F); }
 
     /**
      * This color constant "Taupe" has RGBA8888 code {@code 3B2D1FFF}, H 0.13333334, S 0.5254902, L 0.18431373, alpha 1.0, and chroma 0.1393298.
@@ -912,7 +843,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAUPE = -0x1.5f0c44p125F;
-    static { NAMED.put("Taupe", -0x1.5f0c44p125F); LIST.add(-0x1.5f0c44p125F); }
 
     /**
      * This color constant "Drab Green" has RGBA8888 code {@code 414123FF}, H 0.23921569, S 0.68235296, L 0.24705882, alpha 1.0, and chroma 0.20143667.
@@ -924,7 +854,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRAB_GREEN = -0x1.7f5c7ap125F;
-    static { NAMED.put("Drab Green", -0x1.7f5c7ap125F); LIST.add(-0x1.7f5c7ap125F); }
 
     /**
      * This color constant "Lizard Scales" has RGBA8888 code {@code 73733BFF}, H 0.23921569, S 0.7529412, L 0.4392157, alpha 1.0, and chroma 0.3931109.
@@ -936,7 +865,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIZARD_SCALES = -0x1.e1807ap125F;
-    static { NAMED.put("Lizard Scales", -0x1.e1807ap125F); LIST.add(-0x1.e1807ap125F); }
 
     /**
      * This color constant "Cricket" has RGBA8888 code {@code 8F8F57FF}, H 0.23921569, S 0.63529414, L 0.54509807, alpha 1.0, and chroma 0.4069302.
@@ -948,7 +876,6 @@ public class Palette {
      * </pre>
      */
     public static final float CRICKET = -0x1.17447ap126F;
-    static { NAMED.put("Cricket", -0x1.17447ap126F); LIST.add(-0x1.17447ap126F); }
 
     /**
      * This color constant "Olive Oil" has RGBA8888 code {@code A2A255FF}, H 0.23921569, S 0.7411765, L 0.6156863, alpha 1.0, and chroma 0.53147185.
@@ -960,7 +887,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_OIL = -0x1.3b7a7ap126F;
-    static { NAMED.put("Olive Oil", -0x1.3b7a7ap126F); LIST.add(-0x1.3b7a7ap126F); }
 
     /**
      * This color constant "Dun" has RGBA8888 code {@code B5B572FF}, H 0.23921569, S 0.6039216, L 0.69411767, alpha 1.0, and chroma 0.48308504.
@@ -972,7 +898,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUN = -0x1.63347ap126F;
-    static { NAMED.put("Dun", -0x1.63347ap126F); LIST.add(-0x1.63347ap126F); }
 
     /**
      * This color constant "Corn Silk" has RGBA8888 code {@code C7C78FFF}, H 0.23921569, S 0.4745098, L 0.7647059, alpha 1.0, and chroma 0.41405123.
@@ -984,7 +909,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORN_SILK = -0x1.86f27ap126F;
-    static { NAMED.put("Corn Silk", -0x1.86f27ap126F); LIST.add(-0x1.86f27ap126F); }
 
     /**
      * This color constant "Tan" has RGBA8888 code {@code DADAABFF}, H 0.23921569, S 0.36862746, L 0.84313726, alpha 1.0, and chroma 0.35068113.
@@ -996,7 +920,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAN = -0x1.aebc7ap126F;
-    static { NAMED.put("Tan", -0x1.aebc7ap126F); LIST.add(-0x1.aebc7ap126F); }
 
     /**
      * This color constant "Straw" has RGBA8888 code {@code EDEDC7FF}, H 0.23921569, S 0.2784314, L 0.91764706, alpha 1.0, and chroma 0.28517264.
@@ -1008,7 +931,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRAW = -0x1.d48e7ap126F;
-    static { NAMED.put("Straw", -0x1.d48e7ap126F); LIST.add(-0x1.d48e7ap126F); }
 
     /**
      * This color constant "Honeydew" has RGBA8888 code {@code C7E3ABFF}, H 0.3019608, S 0.38431373, L 0.8509804, alpha 1.0, and chroma 0.4080479.
@@ -1020,7 +942,6 @@ public class Palette {
      * </pre>
      */
     public static final float HONEYDEW = -0x1.b2c49ap126F;
-    static { NAMED.put("Honeydew", -0x1.b2c49ap126F); LIST.add(-0x1.b2c49ap126F); }
 
     /**
      * This color constant "Tarnish" has RGBA8888 code {@code ABC78FFF}, H 0.30588236, S 0.4392157, L 0.7411765, alpha 1.0, and chroma 0.41765183.
@@ -1032,7 +953,6 @@ public class Palette {
      * </pre>
      */
     public static final float TARNISH = -0x1.7ae09cp126F;
-    static { NAMED.put("Tarnish", -0x1.7ae09cp126F); LIST.add(-0x1.7ae09cp126F); }
 
     /**
      * This color constant "Pea Soup" has RGBA8888 code {@code 8EBE55FF}, H 0.30588236, S 0.79607844, L 0.6862745, alpha 1.0, and chroma 0.706298.
@@ -1044,7 +964,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEA_SOUP = -0x1.5f969cp126F;
-    static { NAMED.put("Pea Soup", -0x1.5f969cp126F); LIST.add(-0x1.5f969cp126F); }
 
     /**
      * This color constant "Marsh" has RGBA8888 code {@code 738F57FF}, H 0.30588236, S 0.6, L 0.5254902, alpha 1.0, and chroma 0.4161556.
@@ -1056,7 +975,6 @@ public class Palette {
      * </pre>
      */
     public static final float MARSH = -0x1.0d329cp126F;
-    static { NAMED.put("Marsh", -0x1.0d329cp126F); LIST.add(-0x1.0d329cp126F); }
 
     /**
      * This color constant "Asparagus" has RGBA8888 code {@code 587D3EFF}, H 0.32156864, S 0.73333335, L 0.44705883, alpha 1.0, and chroma 0.46176147.
@@ -1068,7 +986,6 @@ public class Palette {
      * </pre>
      */
     public static final float ASPARAGUS = -0x1.e576a4p125F;
-    static { NAMED.put("Asparagus", -0x1.e576a4p125F); LIST.add(-0x1.e576a4p125F); }
 
     /**
      * This color constant "Peat Bog" has RGBA8888 code {@code 465032FF}, H 0.28627452, S 0.5647059, L 0.29803923, alpha 1.0, and chroma 0.21412726.
@@ -1080,7 +997,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEAT_BOG = -0x1.992092p125F;
-    static { NAMED.put("Peat Bog", -0x1.992092p125F); LIST.add(-0x1.992092p125F); }
 
     /**
      * This color constant "Deep Jungle" has RGBA8888 code {@code 191E0FFF}, H 0.28627452, S 0.5529412, L 0.101960786, alpha 1.0, and chroma 0.06625558.
@@ -1092,7 +1008,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_JUNGLE = -0x1.351a92p125F;
-    static { NAMED.put("Deep Jungle", -0x1.351a92p125F); LIST.add(-0x1.351a92p125F); }
 
     /**
      * This color constant "Pine Green" has RGBA8888 code {@code 235037FF}, H 0.39607844, S 0.78039217, L 0.2784314, alpha 1.0, and chroma 0.26048806.
@@ -1104,7 +1019,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINE_GREEN = -0x1.8f8ecap125F;
-    static { NAMED.put("Pine Green", -0x1.8f8ecap125F); LIST.add(-0x1.8f8ecap125F); }
 
     /**
      * This color constant "Olive Green" has RGBA8888 code {@code 3B573BFF}, H 0.3529412, S 0.44705883, L 0.3137255, alpha 1.0, and chroma 0.23292217.
@@ -1116,7 +1030,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_GREEN = -0x1.a0e4b4p125F;
-    static { NAMED.put("Olive Green", -0x1.a0e4b4p125F); LIST.add(-0x1.a0e4b4p125F); }
 
     /**
      * This color constant "Gray Green" has RGBA8888 code {@code 506450FF}, H 0.3529412, S 0.28235295, L 0.37254903, alpha 1.0, and chroma 0.17429413.
@@ -1128,7 +1041,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY_GREEN = -0x1.be90b4p125F;
-    static { NAMED.put("Gray Green", -0x1.be90b4p125F); LIST.add(-0x1.be90b4p125F); }
 
     /**
      * This color constant "Maidenhair Fern" has RGBA8888 code {@code 3B7349FF}, H 0.3764706, S 0.7019608, L 0.40392157, alpha 1.0, and chroma 0.38837543.
@@ -1140,7 +1052,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAIDENHAIR_FERN = -0x1.cf66cp125F;
-    static { NAMED.put("Maidenhair Fern", -0x1.cf66cp125F); LIST.add(-0x1.cf66cp125F); }
 
     /**
      * This color constant "Kelly Green" has RGBA8888 code {@code 578F57FF}, H 0.3529412, S 0.5647059, L 0.50980395, alpha 1.0, and chroma 0.47103027.
@@ -1152,7 +1063,6 @@ public class Palette {
      * </pre>
      */
     public static final float KELLY_GREEN = -0x1.0520b4p126F;
-    static { NAMED.put("Kelly Green", -0x1.0520b4p126F); LIST.add(-0x1.0520b4p126F); }
 
     /**
      * This color constant "Dusty Green" has RGBA8888 code {@code 73AB73FF}, H 0.3529412, S 0.4745098, L 0.6156863, alpha 1.0, and chroma 0.47179717.
@@ -1164,7 +1074,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GREEN = -0x1.3af2b4p126F;
-    static { NAMED.put("Dusty Green", -0x1.3af2b4p126F); LIST.add(-0x1.3af2b4p126F); }
 
     /**
      * This color constant "Garter Snake" has RGBA8888 code {@code 64C082FF}, H 0.38431373, S 0.7019608, L 0.6784314, alpha 1.0, and chroma 0.59557265.
@@ -1176,7 +1085,6 @@ public class Palette {
      * </pre>
      */
     public static final float GARTER_SNAKE = -0x1.5b66c4p126F;
-    static { NAMED.put("Garter Snake", -0x1.5b66c4p126F); LIST.add(-0x1.5b66c4p126F); }
 
     /**
      * This color constant "Silver Green" has RGBA8888 code {@code 8FC78FFF}, H 0.3529412, S 0.40784314, L 0.7254902, alpha 1.0, and chroma 0.47075212.
@@ -1188,7 +1096,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_GREEN = -0x1.72d0b4p126F;
-    static { NAMED.put("Silver Green", -0x1.72d0b4p126F); LIST.add(-0x1.72d0b4p126F); }
 
     /**
      * This color constant "Pistachio" has RGBA8888 code {@code A2D8A2FF}, H 0.3529412, S 0.36078432, L 0.7921569, alpha 1.0, and chroma 0.45042765.
@@ -1200,7 +1107,6 @@ public class Palette {
      * </pre>
      */
     public static final float PISTACHIO = -0x1.94b8b4p126F;
-    static { NAMED.put("Pistachio", -0x1.94b8b4p126F); LIST.add(-0x1.94b8b4p126F); }
 
     /**
      * This color constant "Angel Wing" has RGBA8888 code {@code E1F8FAFF}, H 0.5529412, S 0.47843137, L 0.95686275, alpha 1.0, and chroma 0.1029958.
@@ -1212,7 +1118,6 @@ public class Palette {
      * </pre>
      */
     public static final float ANGEL_WING = -0x1.e8f51ap126F;
-    static { NAMED.put("Angel Wing", -0x1.e8f51ap126F); LIST.add(-0x1.e8f51ap126F); }
 
     /**
      * This color constant "Sage Green" has RGBA8888 code {@code B4EECAFF}, H 0.39607844, S 0.3764706, L 0.8784314, alpha 1.0, and chroma 0.34686196.
@@ -1224,7 +1129,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAGE_GREEN = -0x1.c0c0cap126F;
-    static { NAMED.put("Sage Green", -0x1.c0c0cap126F); LIST.add(-0x1.c0c0cap126F); }
 
     /**
      * This color constant "Dried Sage" has RGBA8888 code {@code ABE3C5FF}, H 0.4117647, S 0.3882353, L 0.8392157, alpha 1.0, and chroma 0.33734718.
@@ -1236,7 +1140,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIED_SAGE = -0x1.acc6d2p126F;
-    static { NAMED.put("Dried Sage", -0x1.acc6d2p126F); LIST.add(-0x1.acc6d2p126F); }
 
     /**
      * This color constant "Artichoke" has RGBA8888 code {@code 87B48EFF}, H 0.36862746, S 0.37254903, L 0.65882355, alpha 1.0, and chroma 0.34860018.
@@ -1248,7 +1151,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARTICHOKE = -0x1.50bebcp126F;
-    static { NAMED.put("Artichoke", -0x1.50bebcp126F); LIST.add(-0x1.50bebcp126F); }
 
     /**
      * This color constant "Viridian" has RGBA8888 code {@code 507D5FFF}, H 0.3882353, S 0.54509807, L 0.4509804, alpha 1.0, and chroma 0.30752993.
@@ -1260,7 +1162,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIRIDIAN = -0x1.e716c6p125F;
-    static { NAMED.put("Viridian", -0x1.e716c6p125F); LIST.add(-0x1.e716c6p125F); }
 
     /**
      * This color constant "Floral Foam" has RGBA8888 code {@code 0F6946FF}, H 0.4117647, S 1.0, L 0.36078432, alpha 1.0, and chroma 0.39566806.
@@ -1272,7 +1173,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLORAL_FOAM = -0x1.b9fed2p125F;
-    static { NAMED.put("Floral Foam", -0x1.b9fed2p125F); LIST.add(-0x1.b9fed2p125F); }
 
     /**
      * This color constant "Hunter Green" has RGBA8888 code {@code 1E2D23FF}, H 0.3882353, S 0.42352942, L 0.15686275, alpha 1.0, and chroma 0.081660494.
@@ -1284,7 +1184,6 @@ public class Palette {
      * </pre>
      */
     public static final float HUNTER_GREEN = -0x1.50d8c6p125F;
-    static { NAMED.put("Hunter Green", -0x1.50d8c6p125F); LIST.add(-0x1.50d8c6p125F); }
 
     /**
      * This color constant "Dark Teal" has RGBA8888 code {@code 234146FF}, H 0.5764706, S 0.7019608, L 0.23529412, alpha 1.0, and chroma 0.1502205.
@@ -1296,7 +1195,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_TEAL = -0x1.796726p125F;
-    static { NAMED.put("Dark Teal", -0x1.796726p125F); LIST.add(-0x1.796726p125F); }
 
     /**
      * This color constant "Kyanite" has RGBA8888 code {@code 3B7373FF}, H 0.53333336, S 0.7607843, L 0.41568628, alpha 1.0, and chroma 0.27020368.
@@ -1308,7 +1206,6 @@ public class Palette {
      * </pre>
      */
     public static final float KYANITE = -0x1.d5851p125F;
-    static { NAMED.put("Kyanite", -0x1.d5851p125F); LIST.add(-0x1.d5851p125F); }
 
     /**
      * This color constant "Spearmint" has RGBA8888 code {@code 64ABABFF}, H 0.53333336, S 0.6745098, L 0.62352943, alpha 1.0, and chroma 0.35097545.
@@ -1320,7 +1217,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPEARMINT = -0x1.3f591p126F;
-    static { NAMED.put("Spearmint", -0x1.3f591p126F); LIST.add(-0x1.3f591p126F); }
 
     /**
      * This color constant "Amazonite" has RGBA8888 code {@code 8FC7C7FF}, H 0.53333336, S 0.48235294, L 0.7372549, alpha 1.0, and chroma 0.29218757.
@@ -1332,7 +1228,6 @@ public class Palette {
      * </pre>
      */
     public static final float AMAZONITE = -0x1.78f71p126F;
-    static { NAMED.put("Amazonite", -0x1.78f71p126F); LIST.add(-0x1.78f71p126F); }
 
     /**
      * This color constant "Pastel Sky" has RGBA8888 code {@code ABE3E3FF}, H 0.53333336, S 0.42745098, L 0.84705883, alpha 1.0, and chroma 0.29285964.
@@ -1344,7 +1239,6 @@ public class Palette {
      * </pre>
      */
     public static final float PASTEL_SKY = -0x1.b0db1p126F;
-    static { NAMED.put("Pastel Sky", -0x1.b0db1p126F); LIST.add(-0x1.b0db1p126F); }
 
     /**
      * This color constant "Aquamarine" has RGBA8888 code {@code C7F1F1FF}, H 0.53333336, S 0.30588236, L 0.9137255, alpha 1.0, and chroma 0.18365471.
@@ -1356,7 +1250,6 @@ public class Palette {
      * </pre>
      */
     public static final float AQUAMARINE = -0x1.d29d1p126F;
-    static { NAMED.put("Aquamarine", -0x1.d29d1p126F); LIST.add(-0x1.d29d1p126F); }
 
     /**
      * This color constant "Dust Bunny" has RGBA8888 code {@code BED2F0FF}, H 0.68235296, S 0.58431375, L 0.8156863, alpha 1.0, and chroma 0.25334817.
@@ -1368,7 +1261,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUST_BUNNY = -0x1.a12b5cp126F;
-    static { NAMED.put("Dust Bunny", -0x1.a12b5cp126F); LIST.add(-0x1.a12b5cp126F); }
 
     /**
      * This color constant "Patina" has RGBA8888 code {@code ABC7E3FF}, H 0.6666667, S 0.4509804, L 0.7647059, alpha 1.0, and chroma 0.26502582.
@@ -1380,7 +1272,6 @@ public class Palette {
      * </pre>
      */
     public static final float PATINA = -0x1.86e754p126F;
-    static { NAMED.put("Patina", -0x1.86e754p126F); LIST.add(-0x1.86e754p126F); }
 
     /**
      * This color constant "Chipped Granite" has RGBA8888 code {@code A8B9DCFF}, H 0.69803923, S 0.43529412, L 0.72156864, alpha 1.0, and chroma 0.2870731.
@@ -1392,7 +1283,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHIPPED_GRANITE = -0x1.70df64p126F;
-    static { NAMED.put("Chipped Granite", -0x1.70df64p126F); LIST.add(-0x1.70df64p126F); }
 
     /**
      * This color constant "Blue Smoke" has RGBA8888 code {@code 8FABC7FF}, H 0.6666667, S 0.35686275, L 0.654902, alpha 1.0, and chroma 0.31876528.
@@ -1404,7 +1294,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_SMOKE = -0x1.4eb754p126F;
-    static { NAMED.put("Blue Smoke", -0x1.4eb754p126F); LIST.add(-0x1.4eb754p126F); }
 
     /**
      * This color constant "Air Force Blue" has RGBA8888 code {@code 578FC7FF}, H 0.68235296, S 0.73333335, L 0.5411765, alpha 1.0, and chroma 0.6393407.
@@ -1416,7 +1305,6 @@ public class Palette {
      * </pre>
      */
     public static final float AIR_FORCE_BLUE = -0x1.15775cp126F;
-    static { NAMED.put("Air Force Blue", -0x1.15775cp126F); LIST.add(-0x1.15775cp126F); }
 
     /**
      * This color constant "Cold Iron" has RGBA8888 code {@code 57738FFF}, H 0.67058825, S 0.5058824, L 0.4392157, alpha 1.0, and chroma 0.32352704.
@@ -1428,7 +1316,6 @@ public class Palette {
      * </pre>
      */
     public static final float COLD_IRON = -0x1.e10356p125F;
-    static { NAMED.put("Cold Iron", -0x1.e10356p125F); LIST.add(-0x1.e10356p125F); }
 
     /**
      * This color constant "Dreary Blue" has RGBA8888 code {@code 3B5773FF}, H 0.6745098, S 0.61960787, L 0.32941177, alpha 1.0, and chroma 0.31013206.
@@ -1440,7 +1327,6 @@ public class Palette {
      * </pre>
      */
     public static final float DREARY_BLUE = -0x1.a93d58p125F;
-    static { NAMED.put("Dreary Blue", -0x1.a93d58p125F); LIST.add(-0x1.a93d58p125F); }
 
     /**
      * This color constant "Murk" has RGBA8888 code {@code 0F192DFF}, H 0.70980394, S 0.6, L 0.09019608, alpha 1.0, and chroma 0.114351586.
@@ -1452,7 +1338,6 @@ public class Palette {
      * </pre>
      */
     public static final float MURK = -0x1.2f336ap125F;
-    static { NAMED.put("Murk", -0x1.2f336ap125F); LIST.add(-0x1.2f336ap125F); }
 
     /**
      * This color constant "Ninja" has RGBA8888 code {@code 1F1F3BFF}, H 0.7411765, S 0.32941177, L 0.1254902, alpha 1.0, and chroma 0.16848414.
@@ -1464,7 +1349,6 @@ public class Palette {
      * </pre>
      */
     public static final float NINJA = -0x1.40a97ap125F;
-    static { NAMED.put("Ninja", -0x1.40a97ap125F); LIST.add(-0x1.40a97ap125F); }
 
     /**
      * This color constant "Watercolor Black" has RGBA8888 code {@code 3B3B57FF}, H 0.7411765, S 0.21568628, L 0.23921569, alpha 1.0, and chroma 0.22021778.
@@ -1476,7 +1360,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_BLACK = -0x1.7a6f7ap125F;
-    static { NAMED.put("Watercolor Black", -0x1.7a6f7ap125F); LIST.add(-0x1.7a6f7ap125F); }
 
     /**
      * This color constant "Iolite" has RGBA8888 code {@code 494973FF}, H 0.7411765, S 0.27450982, L 0.3019608, alpha 1.0, and chroma 0.35493457.
@@ -1488,7 +1371,6 @@ public class Palette {
      * </pre>
      */
     public static final float IOLITE = -0x1.9a8d7ap125F;
-    static { NAMED.put("Iolite", -0x1.9a8d7ap125F); LIST.add(-0x1.9a8d7ap125F); }
 
     /**
      * This color constant "Boysenberry" has RGBA8888 code {@code 57578FFF}, H 0.7411765, S 0.34117648, L 0.36078432, alpha 1.0, and chroma 0.45605576.
@@ -1500,7 +1382,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOYSENBERRY = -0x1.b8af7ap125F;
-    static { NAMED.put("Boysenberry", -0x1.b8af7ap125F); LIST.add(-0x1.b8af7ap125F); }
 
     /**
      * This color constant "Watercolor Gray" has RGBA8888 code {@code 736EAAFF}, H 0.74509805, S 0.3764706, L 0.45490196, alpha 1.0, and chroma 0.4703109.
@@ -1512,7 +1393,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_GRAY = -0x1.e8c17cp125F;
-    static { NAMED.put("Watercolor Gray", -0x1.e8c17cp125F); LIST.add(-0x1.e8c17cp125F); }
 
     /**
      * This color constant "Blue Steel" has RGBA8888 code {@code 7676CAFF}, H 0.7411765, S 0.5647059, L 0.49411765, alpha 1.0, and chroma 0.66639555.
@@ -1524,7 +1404,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_STEEL = -0x1.fd217ap125F;
-    static { NAMED.put("Blue Steel", -0x1.fd217ap125F); LIST.add(-0x1.fd217ap125F); }
 
     /**
      * This color constant "Twilight Cloud" has RGBA8888 code {@code 8F8FC7FF}, H 0.7411765, S 0.43137255, L 0.5764706, alpha 1.0, and chroma 0.43182138.
@@ -1536,7 +1415,6 @@ public class Palette {
      * </pre>
      */
     public static final float TWILIGHT_CLOUD = -0x1.26dd7ap126F;
-    static { NAMED.put("Twilight Cloud", -0x1.26dd7ap126F); LIST.add(-0x1.26dd7ap126F); }
 
     /**
      * This color constant "Smog" has RGBA8888 code {@code ABABE3FF}, H 0.7411765, S 0.5686275, L 0.6862745, alpha 1.0, and chroma 0.41506863.
@@ -1548,7 +1426,6 @@ public class Palette {
      * </pre>
      */
     public static final float SMOG = -0x1.5f237ap126F;
-    static { NAMED.put("Smog", -0x1.5f237ap126F); LIST.add(-0x1.5f237ap126F); }
 
     /**
      * This color constant "Tropic Mist" has RGBA8888 code {@code D0DAF8FF}, H 0.70980394, S 0.69803923, L 0.85490197, alpha 1.0, and chroma 0.2245821.
@@ -1560,7 +1437,6 @@ public class Palette {
      * </pre>
      */
     public static final float TROPIC_MIST = -0x1.b5656ap126F;
-    static { NAMED.put("Tropic Mist", -0x1.b5656ap126F); LIST.add(-0x1.b5656ap126F); }
 
     /**
      * This color constant "Feather Down" has RGBA8888 code {@code E3E3FFFF}, H 0.7411765, S 0.8666667, L 0.8980392, alpha 1.0, and chroma 0.19020566.
@@ -1572,7 +1448,6 @@ public class Palette {
      * </pre>
      */
     public static final float FEATHER_DOWN = -0x1.cbbb7ap126F;
-    static { NAMED.put("Feather Down", -0x1.cbbb7ap126F); LIST.add(-0x1.cbbb7ap126F); }
 
     /**
      * This color constant "Mild Violet" has RGBA8888 code {@code AB8FC7FF}, H 0.7921569, S 0.39607844, L 0.6039216, alpha 1.0, and chroma 0.39300722.
@@ -1584,7 +1459,6 @@ public class Palette {
      * </pre>
      */
     public static final float MILD_VIOLET = -0x1.34cb94p126F;
-    static { NAMED.put("Mild Violet", -0x1.34cb94p126F); LIST.add(-0x1.34cb94p126F); }
 
     /**
      * This color constant "Violet Cushions" has RGBA8888 code {@code 8F57C7FF}, H 0.78431374, S 0.63529414, L 0.44705883, alpha 1.0, and chroma 0.8317468.
@@ -1596,7 +1470,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET_CUSHIONS = -0x1.e5459p125F;
-    static { NAMED.put("Violet Cushions", -0x1.e5459p125F); LIST.add(-0x1.e5459p125F); }
 
     /**
      * This color constant "Dull Violet" has RGBA8888 code {@code 73578FFF}, H 0.7921569, S 0.38431373, L 0.3882353, alpha 1.0, and chroma 0.4495852.
@@ -1608,7 +1481,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_VIOLET = -0x1.c6c594p125F;
-    static { NAMED.put("Dull Violet", -0x1.c6c594p125F); LIST.add(-0x1.c6c594p125F); }
 
     /**
      * This color constant "Royal Violet" has RGBA8888 code {@code 573B73FF}, H 0.7882353, S 0.49803922, L 0.2784314, alpha 1.0, and chroma 0.4274189.
@@ -1620,7 +1492,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_VIOLET = -0x1.8eff92p125F;
-    static { NAMED.put("Royal Violet", -0x1.8eff92p125F); LIST.add(-0x1.8eff92p125F); }
 
     /**
      * This color constant "Eminence" has RGBA8888 code {@code 3C233CFF}, H 0.85490197, S 0.43137255, L 0.16862746, alpha 1.0, and chroma 0.17611225.
@@ -1632,7 +1503,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMINENCE = -0x1.56ddb4p125F;
-    static { NAMED.put("Eminence", -0x1.56ddb4p125F); LIST.add(-0x1.56ddb4p125F); }
 
     /**
      * This color constant "Prune" has RGBA8888 code {@code 463246FF}, H 0.85490197, S 0.29411766, L 0.21960784, alpha 1.0, and chroma 0.15867722.
@@ -1644,7 +1514,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUNE = -0x1.7097b4p125F;
-    static { NAMED.put("Prune", -0x1.7097b4p125F); LIST.add(-0x1.7097b4p125F); }
 
     /**
      * This color constant "Dusty Grape" has RGBA8888 code {@code 724072FF}, H 0.85490197, S 0.52156866, L 0.32156864, alpha 1.0, and chroma 0.41443962.
@@ -1656,7 +1525,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GRAPE = -0x1.a50bb4p125F;
-    static { NAMED.put("Dusty Grape", -0x1.a50bb4p125F); LIST.add(-0x1.a50bb4p125F); }
 
     /**
      * This color constant "Pink Violet" has RGBA8888 code {@code 8F578FFF}, H 0.85490197, S 0.46666667, L 0.41568628, alpha 1.0, and chroma 0.47680715.
@@ -1668,7 +1536,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_VIOLET = -0x1.d4efb4p125F;
-    static { NAMED.put("Pink Violet", -0x1.d4efb4p125F); LIST.add(-0x1.d4efb4p125F); }
 
     /**
      * This color constant "Ripe Plum" has RGBA8888 code {@code AB57ABFF}, H 0.85490197, S 0.6117647, L 0.46666667, alpha 1.0, and chroma 0.6983651.
@@ -1680,7 +1547,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPE_PLUM = -0x1.ef39b4p125F;
-    static { NAMED.put("Ripe Plum", -0x1.ef39b4p125F); LIST.add(-0x1.ef39b4p125F); }
 
     /**
      * This color constant "Mauve" has RGBA8888 code {@code AB73ABFF}, H 0.85490197, S 0.38039216, L 0.5254902, alpha 1.0, and chroma 0.48581037.
@@ -1692,7 +1558,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAUVE = -0x1.0cc3b4p126F;
-    static { NAMED.put("Mauve", -0x1.0cc3b4p126F); LIST.add(-0x1.0cc3b4p126F); }
 
     /**
      * This color constant "Ham" has RGBA8888 code {@code EBACE1FF}, H 0.8784314, S 0.5882353, L 0.7490196, alpha 1.0, and chroma 0.40365806.
@@ -1704,7 +1569,6 @@ public class Palette {
      * </pre>
      */
     public static final float HAM = -0x1.7f2dcp126F;
-    static { NAMED.put("Ham", -0x1.7f2dcp126F); LIST.add(-0x1.7f2dcp126F); }
 
     /**
      * This color constant "Cotton Candy" has RGBA8888 code {@code FFDCF5FF}, H 0.89411765, S 0.8627451, L 0.9019608, alpha 1.0, and chroma 0.19814785.
@@ -1716,7 +1580,6 @@ public class Palette {
      * </pre>
      */
     public static final float COTTON_CANDY = -0x1.cdb9c8p126F;
-    static { NAMED.put("Cotton Candy", -0x1.cdb9c8p126F); LIST.add(-0x1.cdb9c8p126F); }
 
     /**
      * This color constant "Silver Pink" has RGBA8888 code {@code E3C7E3FF}, H 0.85490197, S 0.3529412, L 0.8117647, alpha 1.0, and chroma 0.20271528.
@@ -1728,7 +1591,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_PINK = -0x1.9eb5b4p126F;
-    static { NAMED.put("Silver Pink", -0x1.9eb5b4p126F); LIST.add(-0x1.9eb5b4p126F); }
 
     /**
      * This color constant "Tea Rose" has RGBA8888 code {@code E1B9D2FF}, H 0.9098039, S 0.40392157, L 0.76862746, alpha 1.0, and chroma 0.22388063.
@@ -1740,7 +1602,6 @@ public class Palette {
      * </pre>
      */
     public static final float TEA_ROSE = -0x1.88cfdp126F;
-    static { NAMED.put("Tea Rose", -0x1.88cfdp126F); LIST.add(-0x1.88cfdp126F); }
 
     /**
      * This color constant "Old Rose" has RGBA8888 code {@code D7A0BEFF}, H 0.92941177, S 0.4, L 0.6862745, alpha 1.0, and chroma 0.30431116.
@@ -1752,7 +1613,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLD_ROSE = -0x1.5ecddap126F;
-    static { NAMED.put("Old Rose", -0x1.5ecddap126F); LIST.add(-0x1.5ecddap126F); }
 
     /**
      * This color constant "Dusty Pink" has RGBA8888 code {@code C78FB9FF}, H 0.8901961, S 0.34117648, L 0.627451, alpha 1.0, and chroma 0.35104465.
@@ -1764,7 +1624,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_PINK = -0x1.40afc6p126F;
-    static { NAMED.put("Dusty Pink", -0x1.40afc6p126F); LIST.add(-0x1.40afc6p126F); }
 
     /**
      * This color constant "Roseate Spoonbill" has RGBA8888 code {@code C87DA0FF}, H 0.9490196, S 0.38039216, L 0.5764706, alpha 1.0, and chroma 0.42174438.
@@ -1776,7 +1635,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSEATE_SPOONBILL = -0x1.26c3e4p126F;
-    static { NAMED.put("Roseate Spoonbill", -0x1.26c3e4p126F); LIST.add(-0x1.26c3e4p126F); }
 
     /**
      * This color constant "Thulian Pink" has RGBA8888 code {@code C35A91FF}, H 0.94509804, S 0.58431375, L 0.49411765, alpha 1.0, and chroma 0.7122926.
@@ -1788,7 +1646,6 @@ public class Palette {
      * </pre>
      */
     public static final float THULIAN_PINK = -0x1.fd2be2p125F;
-    static { NAMED.put("Thulian Pink", -0x1.fd2be2p125F); LIST.add(-0x1.fd2be2p125F); }
 
     /**
      * This color constant "Brown Velvet" has RGBA8888 code {@code 4B2837FF}, H 0.9607843, S 0.40784314, L 0.19607843, alpha 1.0, and chroma 0.20502971.
@@ -1800,7 +1657,6 @@ public class Palette {
      * </pre>
      */
     public static final float BROWN_VELVET = -0x1.64d1eap125F;
-    static { NAMED.put("Brown Velvet", -0x1.64d1eap125F); LIST.add(-0x1.64d1eap125F); }
 
     /**
      * This color constant "Nightshade" has RGBA8888 code {@code 321623FF}, H 0.95686275, S 0.45490196, L 0.11372549, alpha 1.0, and chroma 0.124735646.
@@ -1812,7 +1668,6 @@ public class Palette {
      * </pre>
      */
     public static final float NIGHTSHADE = -0x1.3ae9e8p125F;
-    static { NAMED.put("Nightshade", -0x1.3ae9e8p125F); LIST.add(-0x1.3ae9e8p125F); }
 
     /**
      * This color constant "Scribe Ink" has RGBA8888 code {@code 280A1EFF}, H 0.91764706, S 0.61960787, L 0.07058824, alpha 1.0, and chroma 0.09218611.
@@ -1824,7 +1679,6 @@ public class Palette {
      * </pre>
      */
     public static final float SCRIBE_INK = -0x1.253dd4p125F;
-    static { NAMED.put("Scribe Ink", -0x1.253dd4p125F); LIST.add(-0x1.253dd4p125F); }
 
     /**
      * This color constant "Varnish" has RGBA8888 code {@code 401811FF}, H 0.047058824, S 0.6862745, L 0.13725491, alpha 1.0, and chroma 0.2682518.
@@ -1836,7 +1690,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARNISH = -0x1.475e18p125F;
-    static { NAMED.put("Varnish", -0x1.475e18p125F); LIST.add(-0x1.475e18p125F); }
 
     /**
      * This color constant "Cedar Wood" has RGBA8888 code {@code 621800FF}, H 0.047058824, S 1.0, L 0.19607843, alpha 1.0, and chroma 0.57421863.
@@ -1848,7 +1701,6 @@ public class Palette {
      * </pre>
      */
     public static final float CEDAR_WOOD = -0x1.65fe18p125F;
-    static { NAMED.put("Cedar Wood", -0x1.65fe18p125F); LIST.add(-0x1.65fe18p125F); }
 
     /**
      * This color constant "Hot Sauce" has RGBA8888 code {@code A5140AFF}, H 0.03529412, S 1.0, L 0.32156864, alpha 1.0, and chroma 1.1475935.
@@ -1860,7 +1712,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOT_SAUCE = -0x1.a5fe12p125F;
-    static { NAMED.put("Hot Sauce", -0x1.a5fe12p125F); LIST.add(-0x1.a5fe12p125F); }
 
     /**
      * This color constant "Lurid Red" has RGBA8888 code {@code DA2010FF}, H 0.03529412, S 1.0, L 0.43529412, alpha 1.0, and chroma 1.5425576.
@@ -1872,7 +1723,6 @@ public class Palette {
      * </pre>
      */
     public static final float LURID_RED = -0x1.dffe12p125F;
-    static { NAMED.put("Lurid Red", -0x1.dffe12p125F); LIST.add(-0x1.dffe12p125F); }
 
     /**
      * This color constant "Brick" has RGBA8888 code {@code D5524AFF}, H 0.039215688, S 0.6862745, L 0.49019608, alpha 1.0, and chroma 1.1089423.
@@ -1884,7 +1734,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRICK = -0x1.fb5e14p125F;
-    static { NAMED.put("Brick", -0x1.fb5e14p125F); LIST.add(-0x1.fb5e14p125F); }
 
     /**
      * This color constant "Bright Red" has RGBA8888 code {@code FF3C0AFF}, H 0.039215688, S 1.0, L 0.5294118, alpha 1.0, and chroma 1.5947143.
@@ -1896,7 +1745,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRIGHT_RED = -0x1.0ffe14p126F;
-    static { NAMED.put("Bright Red", -0x1.0ffe14p126F); LIST.add(-0x1.0ffe14p126F); }
 
     /**
      * This color constant "Embers" has RGBA8888 code {@code F55A32FF}, H 0.050980393, S 0.9254902, L 0.5529412, alpha 1.0, and chroma 1.4069544.
@@ -1908,7 +1756,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMBERS = -0x1.1bd81ap126F;
-    static { NAMED.put("Embers", -0x1.1bd81ap126F); LIST.add(-0x1.1bd81ap126F); }
 
     /**
      * This color constant "Salmon" has RGBA8888 code {@code FF6262FF}, H 0.03137255, S 0.8627451, L 0.5882353, alpha 1.0, and chroma 1.0399684.
@@ -1920,7 +1767,6 @@ public class Palette {
      * </pre>
      */
     public static final float SALMON = -0x1.2db81p126F;
-    static { NAMED.put("Salmon", -0x1.2db81p126F); LIST.add(-0x1.2db81p126F); }
 
     /**
      * This color constant "Taxicab Yellow" has RGBA8888 code {@code F6BD31FF}, H 0.16078432, S 0.972549, L 0.77254903, alpha 1.0, and chroma 0.9441963.
@@ -1932,7 +1778,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAXICAB_YELLOW = -0x1.8bf052p126F;
-    static { NAMED.put("Taxicab Yellow", -0x1.8bf052p126F); LIST.add(-0x1.8bf052p126F); }
 
     /**
      * This color constant "Apricot" has RGBA8888 code {@code FFA53CFF}, H 0.11372549, S 0.93333334, L 0.72156864, alpha 1.0, and chroma 0.8952329.
@@ -1944,7 +1789,6 @@ public class Palette {
      * </pre>
      */
     public static final float APRICOT = -0x1.71dc3ap126F;
-    static { NAMED.put("Apricot", -0x1.71dc3ap126F); LIST.add(-0x1.71dc3ap126F); }
 
     /**
      * This color constant "Burnt Yellow" has RGBA8888 code {@code D79B0FFF}, H 0.14901961, S 1.0, L 0.64705884, alpha 1.0, and chroma 0.85951376.
@@ -1956,7 +1800,6 @@ public class Palette {
      * </pre>
      */
     public static final float BURNT_YELLOW = -0x1.4bfe4cp126F;
-    static { NAMED.put("Burnt Yellow", -0x1.4bfe4cp126F); LIST.add(-0x1.4bfe4cp126F); }
 
     /**
      * This color constant "Dry Pepper" has RGBA8888 code {@code DA6E0AFF}, H 0.08235294, S 1.0, L 0.54509807, alpha 1.0, and chroma 1.073104.
@@ -1968,7 +1811,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_PEPPER = -0x1.17fe2ap126F;
-    static { NAMED.put("Dry Pepper", -0x1.17fe2ap126F); LIST.add(-0x1.17fe2ap126F); }
 
     /**
      * This color constant "Redwood" has RGBA8888 code {@code B45A00FF}, H 0.08235294, S 1.0, L 0.44705883, alpha 1.0, and chroma 0.88964003.
@@ -1980,7 +1822,6 @@ public class Palette {
      * </pre>
      */
     public static final float REDWOOD = -0x1.e5fe2ap125F;
-    static { NAMED.put("Redwood", -0x1.e5fe2ap125F); LIST.add(-0x1.e5fe2ap125F); }
 
     /**
      * This color constant "Koa" has RGBA8888 code {@code A04B05FF}, H 0.078431375, S 1.0, L 0.3882353, alpha 1.0, and chroma 0.80348015.
@@ -1992,7 +1833,6 @@ public class Palette {
      * </pre>
      */
     public static final float KOA = -0x1.c7fe28p125F;
-    static { NAMED.put("Koa", -0x1.c7fe28p125F); LIST.add(-0x1.c7fe28p125F); }
 
     /**
      * This color constant "Ochre" has RGBA8888 code {@code 5F3214FF}, H 0.08627451, S 0.90588236, L 0.23921569, alpha 1.0, and chroma 0.41956982.
@@ -2004,7 +1844,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCHRE = -0x1.7bce2cp125F;
-    static { NAMED.put("Ochre", -0x1.7bce2cp125F); LIST.add(-0x1.7bce2cp125F); }
 
     /**
      * This color constant "Dull Green" has RGBA8888 code {@code 53500AFF}, H 0.22745098, S 1.0, L 0.30588236, alpha 1.0, and chroma 0.3659284.
@@ -2016,7 +1855,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_GREEN = -0x1.9dfe74p125F;
-    static { NAMED.put("Dull Green", -0x1.9dfe74p125F); LIST.add(-0x1.9dfe74p125F); }
 
     /**
      * This color constant "Army Green" has RGBA8888 code {@code 626200FF}, H 0.23921569, S 1.0, L 0.36862746, alpha 1.0, and chroma 0.44060048.
@@ -2028,7 +1866,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARMY_GREEN = -0x1.bdfe7ap125F;
-    static { NAMED.put("Army Green", -0x1.bdfe7ap125F); LIST.add(-0x1.bdfe7ap125F); }
 
     /**
      * This color constant "Driftwood" has RGBA8888 code {@code 8C805AFF}, H 0.19607843, S 0.5254902, L 0.5019608, alpha 1.0, and chroma 0.31850442.
@@ -2040,7 +1877,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIFTWOOD = -0x1.010c64p126F;
-    static { NAMED.put("Driftwood", -0x1.010c64p126F); LIST.add(-0x1.010c64p126F); }
 
     /**
      * This color constant "Dry Brush" has RGBA8888 code {@code AC9400FF}, H 0.19607843, S 1.0, L 0.5803922, alpha 1.0, and chroma 0.694255.
@@ -2052,7 +1888,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_BRUSH = -0x1.29fe64p126F;
-    static { NAMED.put("Dry Brush", -0x1.29fe64p126F); LIST.add(-0x1.29fe64p126F); }
 
     /**
      * This color constant "Mush" has RGBA8888 code {@code B1B10AFF}, H 0.23921569, S 1.0, L 0.6666667, alpha 1.0, and chroma 0.77117246.
@@ -2064,7 +1899,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUSH = -0x1.55fe7ap126F;
-    static { NAMED.put("Mush", -0x1.55fe7ap126F); LIST.add(-0x1.55fe7ap126F); }
 
     /**
      * This color constant "Banana Pudding" has RGBA8888 code {@code E6D55AFF}, H 0.21176471, S 0.84313726, L 0.8235294, alpha 1.0, and chroma 0.7900525.
@@ -2076,7 +1910,6 @@ public class Palette {
      * </pre>
      */
     public static final float BANANA_PUDDING = -0x1.a5ae6cp126F;
-    static { NAMED.put("Banana Pudding", -0x1.a5ae6cp126F); LIST.add(-0x1.a5ae6cp126F); }
 
     /**
      * This color constant "Saffron" has RGBA8888 code {@code FFD510FF}, H 0.1882353, S 1.0, L 0.84705883, alpha 1.0, and chroma 0.9591871.
@@ -2088,7 +1921,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAFFRON = -0x1.b1fe6p126F;
-    static { NAMED.put("Saffron", -0x1.b1fe6p126F); LIST.add(-0x1.b1fe6p126F); }
 
     /**
      * This color constant "Pencil Yellow" has RGBA8888 code {@code FFEA4AFF}, H 0.21176471, S 0.9137255, L 0.9098039, alpha 1.0, and chroma 0.77139586.
@@ -2100,7 +1932,6 @@ public class Palette {
      * </pre>
      */
     public static final float PENCIL_YELLOW = -0x1.d1d26cp126F;
-    static { NAMED.put("Pencil Yellow", -0x1.d1d26cp126F); LIST.add(-0x1.d1d26cp126F); }
 
     /**
      * This color constant "Chartreuse" has RGBA8888 code {@code C8FF41FF}, H 0.2901961, S 0.9372549, L 0.9254902, alpha 1.0, and chroma 0.98001146.
@@ -2112,7 +1943,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHARTREUSE = -0x1.d9de94p126F;
-    static { NAMED.put("Chartreuse", -0x1.d9de94p126F); LIST.add(-0x1.d9de94p126F); }
 
     /**
      * This color constant "Absinthe" has RGBA8888 code {@code 9BF046FF}, H 0.31764707, S 0.91764706, L 0.8509804, alpha 1.0, and chroma 1.0276842.
@@ -2124,7 +1954,6 @@ public class Palette {
      * </pre>
      */
     public static final float ABSINTHE = -0x1.b3d4a2p126F;
-    static { NAMED.put("Absinthe", -0x1.b3d4a2p126F); LIST.add(-0x1.b3d4a2p126F); }
 
     /**
      * This color constant "Infection" has RGBA8888 code {@code 96DC19FF}, H 0.30588236, S 1.0, L 0.78039217, alpha 1.0, and chroma 0.9956644.
@@ -2136,7 +1965,6 @@ public class Palette {
      * </pre>
      */
     public static final float INFECTION = -0x1.8ffe9cp126F;
-    static { NAMED.put("Infection", -0x1.8ffe9cp126F); LIST.add(-0x1.8ffe9cp126F); }
 
     /**
      * This color constant "Frog Green" has RGBA8888 code {@code 73C805FF}, H 0.32156864, S 1.0, L 0.69803923, alpha 1.0, and chroma 0.9533518.
@@ -2148,7 +1976,6 @@ public class Palette {
      * </pre>
      */
     public static final float FROG_GREEN = -0x1.65fea4p126F;
-    static { NAMED.put("Frog Green", -0x1.65fea4p126F); LIST.add(-0x1.65fea4p126F); }
 
     /**
      * This color constant "Avocado" has RGBA8888 code {@code 6AA805FF}, H 0.3137255, S 1.0, L 0.5921569, alpha 1.0, and chroma 0.7961319.
@@ -2160,7 +1987,6 @@ public class Palette {
      * </pre>
      */
     public static final float AVOCADO = -0x1.2ffeap126F;
-    static { NAMED.put("Avocado", -0x1.2ffeap126F); LIST.add(-0x1.2ffeap126F); }
 
     /**
      * This color constant "Woodlands" has RGBA8888 code {@code 3C6E14FF}, H 0.3254902, S 1.0, L 0.38431373, alpha 1.0, and chroma 0.5530304.
@@ -2172,7 +1998,6 @@ public class Palette {
      * </pre>
      */
     public static final float WOODLANDS = -0x1.c5fea6p125F;
-    static { NAMED.put("Woodlands", -0x1.c5fea6p125F); LIST.add(-0x1.c5fea6p125F); }
 
     /**
      * This color constant "Dark Pine" has RGBA8888 code {@code 283405FF}, H 0.28627452, S 1.0, L 0.18431373, alpha 1.0, and chroma 0.2310931.
@@ -2184,7 +2009,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_PINE = -0x1.5ffe92p125F;
-    static { NAMED.put("Dark Pine", -0x1.5ffe92p125F); LIST.add(-0x1.5ffe92p125F); }
 
     /**
      * This color constant "Moss Green" has RGBA8888 code {@code 204608FF}, H 0.33333334, S 1.0, L 0.23921569, alpha 1.0, and chroma 0.35648987.
@@ -2196,7 +2020,6 @@ public class Palette {
      * </pre>
      */
     public static final float MOSS_GREEN = -0x1.7bfeaap125F;
-    static { NAMED.put("Moss Green", -0x1.7bfeaap125F); LIST.add(-0x1.7bfeaap125F); }
 
     /**
      * This color constant "Fern Green" has RGBA8888 code {@code 0C5C0CFF}, H 0.3529412, S 1.0, L 0.30588236, alpha 1.0, and chroma 0.50801444.
@@ -2208,7 +2031,6 @@ public class Palette {
      * </pre>
      */
     public static final float FERN_GREEN = -0x1.9dfeb4p125F;
-    static { NAMED.put("Fern Green", -0x1.9dfeb4p125F); LIST.add(-0x1.9dfeb4p125F); }
 
     /**
      * This color constant "Forest Glen" has RGBA8888 code {@code 149605FF}, H 0.3529412, S 1.0, L 0.5058824, alpha 1.0, and chroma 0.82806814.
@@ -2220,7 +2042,6 @@ public class Palette {
      * </pre>
      */
     public static final float FOREST_GLEN = -0x1.03feb4p126F;
-    static { NAMED.put("Forest Glen", -0x1.03feb4p126F); LIST.add(-0x1.03feb4p126F); }
 
     /**
      * This color constant "Malachite" has RGBA8888 code {@code 0AD70AFF}, H 0.3529412, S 1.0, L 0.7254902, alpha 1.0, and chroma 1.154248.
@@ -2232,7 +2053,6 @@ public class Palette {
      * </pre>
      */
     public static final float MALACHITE = -0x1.73feb4p126F;
-    static { NAMED.put("Malachite", -0x1.73feb4p126F); LIST.add(-0x1.73feb4p126F); }
 
     /**
      * This color constant "Apple Green" has RGBA8888 code {@code 14E60AFF}, H 0.3529412, S 1.0, L 0.7764706, alpha 1.0, and chroma 1.2264905.
@@ -2244,7 +2064,6 @@ public class Palette {
      * </pre>
      */
     public static final float APPLE_GREEN = -0x1.8dfeb4p126F;
-    static { NAMED.put("Apple Green", -0x1.8dfeb4p126F); LIST.add(-0x1.8dfeb4p126F); }
 
     /**
      * This color constant "Celery" has RGBA8888 code {@code 7DFF73FF}, H 0.34901962, S 0.8352941, L 0.8901961, alpha 1.0, and chroma 0.8465463.
@@ -2256,7 +2075,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELERY = -0x1.c7aab2p126F;
-    static { NAMED.put("Celery", -0x1.c7aab2p126F); LIST.add(-0x1.c7aab2p126F); }
 
     /**
      * This color constant "Mint Green" has RGBA8888 code {@code 4BF05AFF}, H 0.35686275, S 0.8980392, L 0.8235294, alpha 1.0, and chroma 1.1481278.
@@ -2268,7 +2086,6 @@ public class Palette {
      * </pre>
      */
     public static final float MINT_GREEN = -0x1.a5cab6p126F;
-    static { NAMED.put("Mint Green", -0x1.a5cab6p126F); LIST.add(-0x1.a5cab6p126F); }
 
     /**
      * This color constant "Emerald" has RGBA8888 code {@code 00C514FF}, H 0.35686275, S 1.0, L 0.6627451, alpha 1.0, and chroma 1.0523967.
@@ -2280,7 +2097,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMERALD = -0x1.53feb6p126F;
-    static { NAMED.put("Emerald", -0x1.53feb6p126F); LIST.add(-0x1.53feb6p126F); }
 
     /**
      * This color constant "Prase" has RGBA8888 code {@code 05B450FF}, H 0.37254903, S 1.0, L 0.60784316, alpha 1.0, and chroma 0.84047514.
@@ -2292,7 +2108,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRASE = -0x1.37febep126F;
-    static { NAMED.put("Prase", -0x1.37febep126F); LIST.add(-0x1.37febep126F); }
 
     /**
      * This color constant "Eucalyptus" has RGBA8888 code {@code 1C8C4EFF}, H 0.38431373, S 1.0, L 0.47843137, alpha 1.0, and chroma 0.61342496.
@@ -2304,7 +2119,6 @@ public class Palette {
      * </pre>
      */
     public static final float EUCALYPTUS = -0x1.f5fec4p125F;
-    static { NAMED.put("Eucalyptus", -0x1.f5fec4p125F); LIST.add(-0x1.f5fec4p125F); }
 
     /**
      * This color constant "Zucchini" has RGBA8888 code {@code 123832FF}, H 0.48235294, S 0.87058824, L 0.19215687, alpha 1.0, and chroma 0.14543103.
@@ -2316,7 +2130,6 @@ public class Palette {
      * </pre>
      */
     public static final float ZUCCHINI = -0x1.63bcf6p125F;
-    static { NAMED.put("Zucchini", -0x1.63bcf6p125F); LIST.add(-0x1.63bcf6p125F); }
 
     /**
      * This color constant "Soft Teal" has RGBA8888 code {@code 129880FF}, H 0.4627451, S 1.0, L 0.5254902, alpha 1.0, and chroma 0.47213534.
@@ -2328,7 +2141,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOFT_TEAL = -0x1.0dfeecp126F;
-    static { NAMED.put("Soft Teal", -0x1.0dfeecp126F); LIST.add(-0x1.0dfeecp126F); }
 
     /**
      * This color constant "Medium Teal" has RGBA8888 code {@code 06C491FF}, H 0.42745098, S 1.0, L 0.6745098, alpha 1.0, and chroma 0.66539794.
@@ -2340,7 +2152,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_TEAL = -0x1.59fedap126F;
-    static { NAMED.put("Medium Teal", -0x1.59fedap126F); LIST.add(-0x1.59fedap126F); }
 
     /**
      * This color constant "Spring Green" has RGBA8888 code {@code 00DE6AFF}, H 0.3764706, S 1.0, L 0.7529412, alpha 1.0, and chroma 0.9886486.
@@ -2352,7 +2163,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPRING_GREEN = -0x1.81fecp126F;
-    static { NAMED.put("Spring Green", -0x1.81fecp126F); LIST.add(-0x1.81fecp126F); }
 
     /**
      * This color constant "Turquoise" has RGBA8888 code {@code 2DEBA8FF}, H 0.41568628, S 0.9843137, L 0.8117647, alpha 1.0, and chroma 0.8147005.
@@ -2364,7 +2174,6 @@ public class Palette {
      * </pre>
      */
     public static final float TURQUOISE = -0x1.9ff6d4p126F;
-    static { NAMED.put("Turquoise", -0x1.9ff6d4p126F); LIST.add(-0x1.9ff6d4p126F); }
 
     /**
      * This color constant "Seafoam" has RGBA8888 code {@code 3CFEA5FF}, H 0.4, S 0.9529412, L 0.8784314, alpha 1.0, and chroma 0.8665649.
@@ -2376,7 +2185,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAFOAM = -0x1.c1e6ccp126F;
-    static { NAMED.put("Seafoam", -0x1.c1e6ccp126F); LIST.add(-0x1.c1e6ccp126F); }
 
     /**
      * This color constant "Variscite" has RGBA8888 code {@code 6AFFCDFF}, H 0.43529412, S 0.8509804, L 0.9019608, alpha 1.0, and chroma 0.55352116.
@@ -2388,7 +2196,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARISCITE = -0x1.cdb2dep126F;
-    static { NAMED.put("Variscite", -0x1.cdb2dep126F); LIST.add(-0x1.cdb2dep126F); }
 
     /**
      * This color constant "Refreshing Mist" has RGBA8888 code {@code 91EBFFFF}, H 0.5882353, S 0.8666667, L 0.8666667, alpha 1.0, and chroma 0.4153208.
@@ -2400,7 +2207,6 @@ public class Palette {
      * </pre>
      */
     public static final float REFRESHING_MIST = -0x1.bbbb2cp126F;
-    static { NAMED.put("Refreshing Mist", -0x1.bbbb2cp126F); LIST.add(-0x1.bbbb2cp126F); }
 
     /**
      * This color constant "Shining Sky" has RGBA8888 code {@code 55E6FFFF}, H 0.5882353, S 0.89411765, L 0.827451, alpha 1.0, and chroma 0.5651111.
@@ -2412,7 +2218,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHINING_SKY = -0x1.a7c92cp126F;
-    static { NAMED.put("Shining Sky", -0x1.a7c92cp126F); LIST.add(-0x1.a7c92cp126F); }
 
     /**
      * This color constant "Steam" has RGBA8888 code {@code 7DD7F0FF}, H 0.6039216, S 0.69803923, L 0.7921569, alpha 1.0, and chroma 0.479909.
@@ -2424,7 +2229,6 @@ public class Palette {
      * </pre>
      */
     public static final float STEAM = -0x1.956534p126F;
-    static { NAMED.put("Steam", -0x1.956534p126F); LIST.add(-0x1.956534p126F); }
 
     /**
      * This color constant "Robin Egg Blue" has RGBA8888 code {@code 08DED5FF}, H 0.5137255, S 1.0, L 0.7764706, alpha 1.0, and chroma 0.6326344.
@@ -2436,7 +2240,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROBIN_EGG_BLUE = -0x1.8dff06p126F;
-    static { NAMED.put("Robin Egg Blue", -0x1.8dff06p126F); LIST.add(-0x1.8dff06p126F); }
 
     /**
      * This color constant "Denim Blue" has RGBA8888 code {@code 109CDEFF}, H 0.6666667, S 1.0, L 0.57254905, alpha 1.0, and chroma 0.7941991.
@@ -2448,7 +2251,6 @@ public class Palette {
      * </pre>
      */
     public static final float DENIM_BLUE = -0x1.25ff54p126F;
-    static { NAMED.put("Denim Blue", -0x1.25ff54p126F); LIST.add(-0x1.25ff54p126F); }
 
     /**
      * This color constant "Deep Teal" has RGBA8888 code {@code 055A5CFF}, H 0.54509807, S 1.0, L 0.3137255, alpha 1.0, and chroma 0.27193826.
@@ -2460,7 +2262,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_TEAL = -0x1.a1ff16p125F;
-    static { NAMED.put("Deep Teal", -0x1.a1ff16p125F); LIST.add(-0x1.a1ff16p125F); }
 
     /**
      * This color constant "Navy Blue" has RGBA8888 code {@code 162C52FF}, H 0.70980394, S 0.8156863, L 0.16862746, alpha 1.0, and chroma 0.31448656.
@@ -2472,7 +2273,6 @@ public class Palette {
      * </pre>
      */
     public static final float NAVY_BLUE = -0x1.57a16ap125F;
-    static { NAMED.put("Navy Blue", -0x1.57a16ap125F); LIST.add(-0x1.57a16ap125F); }
 
     /**
      * This color constant "Blueberry" has RGBA8888 code {@code 0F377DFF}, H 0.7176471, S 1.0, L 0.22745098, alpha 1.0, and chroma 0.60473186.
@@ -2484,7 +2284,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUEBERRY = -0x1.75ff6ep125F;
-    static { NAMED.put("Blueberry", -0x1.75ff6ep125F); LIST.add(-0x1.75ff6ep125F); }
 
     /**
      * This color constant "Prussian Blue" has RGBA8888 code {@code 004A9CFF}, H 0.7137255, S 1.0, L 0.29803923, alpha 1.0, and chroma 0.7422981.
@@ -2496,7 +2295,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUSSIAN_BLUE = -0x1.99ff6cp125F;
-    static { NAMED.put("Prussian Blue", -0x1.99ff6cp125F); LIST.add(-0x1.99ff6cp125F); }
 
     /**
      * This color constant "Desert Rain" has RGBA8888 code {@code 326496FF}, H 0.6862745, S 0.84705883, L 0.38039216, alpha 1.0, and chroma 0.54978925.
@@ -2508,7 +2306,6 @@ public class Palette {
      * </pre>
      */
     public static final float DESERT_RAIN = -0x1.c3b15ep125F;
-    static { NAMED.put("Desert Rain", -0x1.c3b15ep125F); LIST.add(-0x1.c3b15ep125F); }
 
     /**
      * This color constant "Electric Blue" has RGBA8888 code {@code 0052F6FF}, H 0.7294118, S 1.0, L 0.39215687, alpha 1.0, and chroma 1.3264234.
@@ -2520,7 +2317,6 @@ public class Palette {
      * </pre>
      */
     public static final float ELECTRIC_BLUE = -0x1.c9ff74p125F;
-    static { NAMED.put("Electric Blue", -0x1.c9ff74p125F); LIST.add(-0x1.c9ff74p125F); }
 
     /**
      * This color constant "Hidden Blue" has RGBA8888 code {@code 186ABDFF}, H 0.7019608, S 1.0, L 0.4117647, alpha 1.0, and chroma 0.85057515.
@@ -2532,7 +2328,6 @@ public class Palette {
      * </pre>
      */
     public static final float HIDDEN_BLUE = -0x1.d3ff66p125F;
-    static { NAMED.put("Hidden Blue", -0x1.d3ff66p125F); LIST.add(-0x1.d3ff66p125F); }
 
     /**
      * This color constant "Dull Azure" has RGBA8888 code {@code 2378DCFF}, H 0.7058824, S 1.0, L 0.47058824, alpha 1.0, and chroma 1.0229092.
@@ -2544,7 +2339,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_AZURE = -0x1.f1ff68p125F;
-    static { NAMED.put("Dull Azure", -0x1.f1ff68p125F); LIST.add(-0x1.f1ff68p125F); }
 
     /**
      * This color constant "Ripped Denim" has RGBA8888 code {@code 699DC3FF}, H 0.65882355, S 0.627451, L 0.5921569, alpha 1.0, and chroma 0.48308435.
@@ -2556,7 +2350,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPPED_DENIM = -0x1.2f415p126F;
-    static { NAMED.put("Ripped Denim", -0x1.2f415p126F); LIST.add(-0x1.2f415p126F); }
 
     /**
      * This color constant "Calm Sky" has RGBA8888 code {@code 4AA4FFFF}, H 0.6901961, S 0.9137255, L 0.62352943, alpha 1.0, and chroma 0.8466251.
@@ -2568,7 +2361,6 @@ public class Palette {
      * </pre>
      */
     public static final float CALM_SKY = -0x1.3fd36p126F;
-    static { NAMED.put("Calm Sky", -0x1.3fd36p126F); LIST.add(-0x1.3fd36p126F); }
 
     /**
      * This color constant "Vapor" has RGBA8888 code {@code 90B0FFFF}, H 0.70980394, S 0.8980392, L 0.69411767, alpha 1.0, and chroma 0.6463544.
@@ -2580,7 +2372,6 @@ public class Palette {
      * </pre>
      */
     public static final float VAPOR = -0x1.63cb6ap126F;
-    static { NAMED.put("Vapor", -0x1.63cb6ap126F); LIST.add(-0x1.63cb6ap126F); }
 
     /**
      * This color constant "Powder Blue" has RGBA8888 code {@code 5AC5FFFF}, H 0.6509804, S 0.8901961, L 0.7294118, alpha 1.0, and chroma 0.64187026.
@@ -2592,7 +2383,6 @@ public class Palette {
      * </pre>
      */
     public static final float POWDER_BLUE = -0x1.75c74cp126F;
-    static { NAMED.put("Powder Blue", -0x1.75c74cp126F); LIST.add(-0x1.75c74cp126F); }
 
     /**
      * This color constant "Suds" has RGBA8888 code {@code BEB9FAFF}, H 0.74509805, S 0.8117647, L 0.7490196, alpha 1.0, and chroma 0.46570855.
@@ -2604,7 +2394,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUDS = -0x1.7f9f7cp126F;
-    static { NAMED.put("Suds", -0x1.7f9f7cp126F); LIST.add(-0x1.7f9f7cp126F); }
 
     /**
      * This color constant "Strong Cyan" has RGBA8888 code {@code 00BFFFFF}, H 0.6509804, S 1.0, L 0.69411767, alpha 1.0, and chroma 0.8249724.
@@ -2616,7 +2405,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRONG_CYAN = -0x1.63ff4cp126F;
-    static { NAMED.put("Strong Cyan", -0x1.63ff4cp126F); LIST.add(-0x1.63ff4cp126F); }
 
     /**
      * This color constant "Sharp Azure" has RGBA8888 code {@code 007FFFFF}, H 0.70980394, S 1.0, L 0.50980395, alpha 1.0, and chroma 1.1687729.
@@ -2628,7 +2416,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHARP_AZURE = -0x1.05ff6ap126F;
-    static { NAMED.put("Sharp Azure", -0x1.05ff6ap126F); LIST.add(-0x1.05ff6ap126F); }
 
     /**
      * This color constant "Blue Eye" has RGBA8888 code {@code 4B7DC8FF}, H 0.7019608, S 0.78039217, L 0.4862745, alpha 1.0, and chroma 0.7782862.
@@ -2640,7 +2427,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_EYE = -0x1.f98f66p125F;
-    static { NAMED.put("Blue Eye", -0x1.f98f66p125F); LIST.add(-0x1.f98f66p125F); }
 
     /**
      * This color constant "Subtlety" has RGBA8888 code {@code 786EF0FF}, H 0.74509805, S 0.84313726, L 0.49803922, alpha 1.0, and chroma 0.9890992.
@@ -2652,7 +2438,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUBTLETY = -0x1.ffaf7cp125F;
-    static { NAMED.put("Subtlety", -0x1.ffaf7cp125F); LIST.add(-0x1.ffaf7cp125F); }
 
     /**
      * This color constant "Rough Sapphire" has RGBA8888 code {@code 4A5AFFFF}, H 0.73333335, S 0.972549, L 0.43529412, alpha 1.0, and chroma 1.2435856.
@@ -2664,7 +2449,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROUGH_SAPPHIRE = -0x1.dff176p125F;
-    static { NAMED.put("Rough Sapphire", -0x1.dff176p125F); LIST.add(-0x1.dff176p125F); }
 
     /**
      * This color constant "Iris" has RGBA8888 code {@code 6241F6FF}, H 0.7490196, S 0.94509804, L 0.39607844, alpha 1.0, and chroma 1.2481173.
@@ -2676,7 +2460,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRIS = -0x1.cbe37ep125F;
-    static { NAMED.put("Iris", -0x1.cbe37ep125F); LIST.add(-0x1.cbe37ep125F); }
 
     /**
      * This color constant "Cornflower Blue" has RGBA8888 code {@code 3C3CF5FF}, H 0.7411765, S 0.95686275, L 0.36078432, alpha 1.0, and chroma 1.2790529.
@@ -2688,7 +2471,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORNFLOWER_BLUE = -0x1.b9e97ap125F;
-    static { NAMED.put("Cornflower Blue", -0x1.b9e97ap125F); LIST.add(-0x1.b9e97ap125F); }
 
     /**
      * This color constant "Polished Sapphire" has RGBA8888 code {@code 101CDAFF}, H 0.7372549, S 1.0, L 0.27058825, alpha 1.0, and chroma 1.1462001.
@@ -2700,7 +2482,6 @@ public class Palette {
      * </pre>
      */
     public static final float POLISHED_SAPPHIRE = -0x1.8bff78p125F;
-    static { NAMED.put("Polished Sapphire", -0x1.8bff78p125F); LIST.add(-0x1.8bff78p125F); }
 
     /**
      * This color constant "Royal Blue" has RGBA8888 code {@code 0010BDFF}, H 0.7372549, S 1.0, L 0.21960784, alpha 1.0, and chroma 0.92535496.
@@ -2712,7 +2493,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_BLUE = -0x1.71ff78p125F;
-    static { NAMED.put("Royal Blue", -0x1.71ff78p125F); LIST.add(-0x1.71ff78p125F); }
 
     /**
      * This color constant "Indigo" has RGBA8888 code {@code 231094FF}, H 0.74509805, S 0.99215686, L 0.18039216, alpha 1.0, and chroma 0.72796696.
@@ -2724,7 +2504,6 @@ public class Palette {
      * </pre>
      */
     public static final float INDIGO = -0x1.5dfb7cp125F;
-    static { NAMED.put("Indigo", -0x1.5dfb7cp125F); LIST.add(-0x1.5dfb7cp125F); }
 
     /**
      * This color constant "Space Blue" has RGBA8888 code {@code 0C2148FF}, H 0.7137255, S 0.8745098, L 0.12941177, alpha 1.0, and chroma 0.26929462.
@@ -2736,7 +2515,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPACE_BLUE = -0x1.43bf6cp125F;
-    static { NAMED.put("Space Blue", -0x1.43bf6cp125F); LIST.add(-0x1.43bf6cp125F); }
 
     /**
      * This color constant "Thick Amethyst" has RGBA8888 code {@code 5010B0FF}, H 0.7607843, S 1.0, L 0.2509804, alpha 1.0, and chroma 0.91376394.
@@ -2748,7 +2526,6 @@ public class Palette {
      * </pre>
      */
     public static final float THICK_AMETHYST = -0x1.81ff84p125F;
-    static { NAMED.put("Thick Amethyst", -0x1.81ff84p125F); LIST.add(-0x1.81ff84p125F); }
 
     /**
      * This color constant "Juicy Grape" has RGBA8888 code {@code 6010D0FF}, H 0.7607843, S 1.0, L 0.3019608, alpha 1.0, and chroma 1.1016209.
@@ -2760,7 +2537,6 @@ public class Palette {
      * </pre>
      */
     public static final float JUICY_GRAPE = -0x1.9bff84p125F;
-    static { NAMED.put("Juicy Grape", -0x1.9bff84p125F); LIST.add(-0x1.9bff84p125F); }
 
     /**
      * This color constant "Blacklight Glow" has RGBA8888 code {@code 8732D2FF}, H 0.78039217, S 0.9137255, L 0.38039216, alpha 1.0, and chroma 1.1150477.
@@ -2772,7 +2548,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACKLIGHT_GLOW = -0x1.c3d38ep125F;
-    static { NAMED.put("Blacklight Glow", -0x1.c3d38ep125F); LIST.add(-0x1.c3d38ep125F); }
 
     /**
      * This color constant "Purple Freesia" has RGBA8888 code {@code 9C41FFFF}, H 0.7764706, S 0.9647059, L 0.45882353, alpha 1.0, and chroma 1.2298815.
@@ -2784,7 +2559,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE_FREESIA = -0x1.ebed8cp125F;
-    static { NAMED.put("Purple Freesia", -0x1.ebed8cp125F); LIST.add(-0x1.ebed8cp125F); }
 
     /**
      * This color constant "Thin Amethyst" has RGBA8888 code {@code 7F00FFFF}, H 0.7647059, S 1.0, L 0.3764706, alpha 1.0, and chroma 1.3326199.
@@ -2796,7 +2570,6 @@ public class Palette {
      * </pre>
      */
     public static final float THIN_AMETHYST = -0x1.c1ff86p125F;
-    static { NAMED.put("Thin Amethyst", -0x1.c1ff86p125F); LIST.add(-0x1.c1ff86p125F); }
 
     /**
      * This color constant "Orchid" has RGBA8888 code {@code BD62FFFF}, H 0.7921569, S 0.93333334, L 0.5529412, alpha 1.0, and chroma 1.043579.
@@ -2808,7 +2581,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORCHID = -0x1.1bdd94p126F;
-    static { NAMED.put("Orchid", -0x1.1bdd94p126F); LIST.add(-0x1.1bdd94p126F); }
 
     /**
      * This color constant "Lavender" has RGBA8888 code {@code B991FFFF}, H 0.77254903, S 0.9098039, L 0.64705884, alpha 1.0, and chroma 0.7725085.
@@ -2820,7 +2592,6 @@ public class Palette {
      * </pre>
      */
     public static final float LAVENDER = -0x1.4bd18ap126F;
-    static { NAMED.put("Lavender", -0x1.4bd18ap126F); LIST.add(-0x1.4bd18ap126F); }
 
     /**
      * This color constant "Lilac" has RGBA8888 code {@code D7A5FFFF}, H 0.8, S 0.89411765, L 0.72156864, alpha 1.0, and chroma 0.6226292.
@@ -2832,7 +2603,6 @@ public class Palette {
      * </pre>
      */
     public static final float LILAC = -0x1.71c998p126F;
-    static { NAMED.put("Lilac", -0x1.71c998p126F); LIST.add(-0x1.71c998p126F); }
 
     /**
      * This color constant "Soap" has RGBA8888 code {@code D7C3FAFF}, H 0.7764706, S 0.7882353, L 0.79607844, alpha 1.0, and chroma 0.3729569.
@@ -2844,7 +2614,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOAP = -0x1.97938cp126F;
-    static { NAMED.put("Soap", -0x1.97938cp126F); LIST.add(-0x1.97938cp126F); }
 
     /**
      * This color constant "Pink Tutu" has RGBA8888 code {@code F8C6FCFF}, H 0.84705883, S 0.80784315, L 0.8392157, alpha 1.0, and chroma 0.37582585.
@@ -2856,7 +2625,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_TUTU = -0x1.ad9dbp126F;
-    static { NAMED.put("Pink Tutu", -0x1.ad9dbp126F); LIST.add(-0x1.ad9dbp126F); }
 
     /**
      * This color constant "Thistle" has RGBA8888 code {@code E673FFFF}, H 0.827451, S 0.9137255, L 0.63529414, alpha 1.0, and chroma 0.9284946.
@@ -2868,7 +2636,6 @@ public class Palette {
      * </pre>
      */
     public static final float THISTLE = -0x1.45d3a6p126F;
-    static { NAMED.put("Thistle", -0x1.45d3a6p126F); LIST.add(-0x1.45d3a6p126F); }
 
     /**
      * This color constant "Heliotrope" has RGBA8888 code {@code FF52FFFF}, H 0.85490197, S 0.91764706, L 0.61960787, alpha 1.0, and chroma 1.1103623.
@@ -2880,7 +2647,6 @@ public class Palette {
      * </pre>
      */
     public static final float HELIOTROPE = -0x1.3dd5b4p126F;
-    static { NAMED.put("Heliotrope", -0x1.3dd5b4p126F); LIST.add(-0x1.3dd5b4p126F); }
 
     /**
      * This color constant "Purple" has RGBA8888 code {@code DA20E0FF}, H 0.8509804, S 1.0, L 0.49803922, alpha 1.0, and chroma 1.2228523.
@@ -2892,7 +2658,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE = -0x1.ffffb2p125F;
-    static { NAMED.put("Purple", -0x1.ffffb2p125F); LIST.add(-0x1.ffffb2p125F); }
 
     /**
      * This color constant "Wisteria" has RGBA8888 code {@code BD29FFFF}, H 0.8, S 1.0, L 0.47843137, alpha 1.0, and chroma 1.3000458.
@@ -2904,7 +2669,6 @@ public class Palette {
      * </pre>
      */
     public static final float WISTERIA = -0x1.f5ff98p125F;
-    static { NAMED.put("Wisteria", -0x1.f5ff98p125F); LIST.add(-0x1.f5ff98p125F); }
 
     /**
      * This color constant "Medium Plum" has RGBA8888 code {@code BD10C5FF}, H 0.84705883, S 1.0, L 0.42352942, alpha 1.0, and chroma 1.0558661.
@@ -2916,7 +2680,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_PLUM = -0x1.d9ffbp125F;
-    static { NAMED.put("Medium Plum", -0x1.d9ffbp125F); LIST.add(-0x1.d9ffbp125F); }
 
     /**
      * This color constant "Violet" has RGBA8888 code {@code 8C14BEFF}, H 0.8, S 1.0, L 0.34509805, alpha 1.0, and chroma 1.0049905.
@@ -2928,7 +2691,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET = -0x1.b1ff98p125F;
-    static { NAMED.put("Violet", -0x1.b1ff98p125F); LIST.add(-0x1.b1ff98p125F); }
 
     /**
      * This color constant "Grape Lollipop" has RGBA8888 code {@code 5A187BFF}, H 0.8, S 0.93333334, L 0.22745098, alpha 1.0, and chroma 0.61585265.
@@ -2940,7 +2702,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_LOLLIPOP = -0x1.75dd98p125F;
-    static { NAMED.put("Grape Lollipop", -0x1.75dd98p125F); LIST.add(-0x1.75dd98p125F); }
 
     /**
      * This color constant "Mulberry" has RGBA8888 code {@code 641464FF}, H 0.85490197, S 0.9490196, L 0.22352941, alpha 1.0, and chroma 0.5214809.
@@ -2952,7 +2713,6 @@ public class Palette {
      * </pre>
      */
     public static final float MULBERRY = -0x1.73e5b4p125F;
-    static { NAMED.put("Mulberry", -0x1.73e5b4p125F); LIST.add(-0x1.73e5b4p125F); }
 
     /**
      * This color constant "Grape Soda" has RGBA8888 code {@code 410062FF}, H 0.7921569, S 1.0, L 0.14509805, alpha 1.0, and chroma 0.42428055.
@@ -2964,7 +2724,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_SODA = -0x1.4bff94p125F;
-    static { NAMED.put("Grape Soda", -0x1.4bff94p125F); LIST.add(-0x1.4bff94p125F); }
 
     /**
      * This color constant "Eggplant" has RGBA8888 code {@code 320A46FF}, H 0.8, S 0.8745098, L 0.10980392, alpha 1.0, and chroma 0.26160827.
@@ -2976,7 +2735,6 @@ public class Palette {
      * </pre>
      */
     public static final float EGGPLANT = -0x1.39bf98p125F;
-    static { NAMED.put("Eggplant", -0x1.39bf98p125F); LIST.add(-0x1.39bf98p125F); }
 
     /**
      * This color constant "Cherry Syrup" has RGBA8888 code {@code 551937FF}, H 0.95686275, S 0.7372549, L 0.18431373, alpha 1.0, and chroma 0.34367573.
@@ -2988,7 +2746,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHERRY_SYRUP = -0x1.5f79e8p125F;
-    static { NAMED.put("Cherry Syrup", -0x1.5f79e8p125F); LIST.add(-0x1.5f79e8p125F); }
 
     /**
      * This color constant "Plum Juice" has RGBA8888 code {@code A01982FF}, H 0.90588236, S 1.0, L 0.34509805, alpha 1.0, and chroma 0.8236007.
@@ -3000,7 +2757,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLUM_JUICE = -0x1.b1ffcep125F;
-    static { NAMED.put("Plum Juice", -0x1.b1ffcep125F); LIST.add(-0x1.b1ffcep125F); }
 
     /**
      * This color constant "Fruit Punch" has RGBA8888 code {@code C80078FF}, H 0.9647059, S 1.0, L 0.40392157, alpha 1.0, and chroma 1.0537919.
@@ -3012,7 +2768,6 @@ public class Palette {
      * </pre>
      */
     public static final float FRUIT_PUNCH = -0x1.cfffecp125F;
-    static { NAMED.put("Fruit Punch", -0x1.cfffecp125F); LIST.add(-0x1.cfffecp125F); }
 
     /**
      * This color constant "Bubble Gum" has RGBA8888 code {@code FF50BFFF}, H 0.93333334, S 0.8980392, L 0.5882353, alpha 1.0, and chroma 0.9645512.
@@ -3024,7 +2779,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE_GUM = -0x1.2dcbdcp126F;
-    static { NAMED.put("Bubble Gum", -0x1.2dcbdcp126F); LIST.add(-0x1.2dcbdcp126F); }
 
     /**
      * This color constant "Pink Lemonade" has RGBA8888 code {@code FF6AC5FF}, H 0.92941177, S 0.8901961, L 0.627451, alpha 1.0, and chroma 0.84211123.
@@ -3036,7 +2790,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_LEMONADE = -0x1.41c7dap126F;
-    static { NAMED.put("Pink Lemonade", -0x1.41c7dap126F); LIST.add(-0x1.41c7dap126F); }
 
     /**
      * This color constant "Shrimp" has RGBA8888 code {@code FAA0B9FF}, H 0.9882353, S 0.79607844, L 0.7254902, alpha 1.0, and chroma 0.49193186.
@@ -3048,7 +2801,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHRIMP = -0x1.7397f8p126F;
-    static { NAMED.put("Shrimp", -0x1.7397f8p126F); LIST.add(-0x1.7397f8p126F); }
 
     /**
      * This color constant "Flamingo" has RGBA8888 code {@code FC3A8CFF}, H 0.9843137, S 0.8980392, L 0.5411765, alpha 1.0, and chroma 1.1557074.
@@ -3060,7 +2812,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLAMINGO = -0x1.15cbf6p126F;
-    static { NAMED.put("Flamingo", -0x1.15cbf6p126F); LIST.add(-0x1.15cbf6p126F); }
 
     /**
      * This color constant "Rose" has RGBA8888 code {@code E61E78FF}, H 0.9882353, S 1.0, L 0.4745098, alpha 1.0, and chroma 1.3330481.
@@ -3072,7 +2823,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSE = -0x1.f3fff8p125F;
-    static { NAMED.put("Rose", -0x1.f3fff8p125F); LIST.add(-0x1.f3fff8p125F); }
 
     /**
      * This color constant "Carmine" has RGBA8888 code {@code BD1039FF}, H 0.015686275, S 1.0, L 0.37254903, alpha 1.0, and chroma 1.2056695.
@@ -3084,7 +2834,6 @@ public class Palette {
      * </pre>
      */
     public static final float CARMINE = -0x1.bffe08p125F;
-    static { NAMED.put("Carmine", -0x1.bffe08p125F); LIST.add(-0x1.bffe08p125F); }
 
     /**
      * This color constant "Bologna" has RGBA8888 code {@code 98344DFF}, H 0.0, S 0.69803923, L 0.34117648, alpha 1.0, and chroma 0.7114483.
@@ -3096,7 +2845,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOLOGNA = -0x1.af64p125F;
-    static { NAMED.put("Bologna", -0x1.af64p125F); LIST.add(-0x1.af64p125F); }
 
     /**
      * This color constant "Raspberry" has RGBA8888 code {@code 911437FF}, H 0.007843138, S 0.972549, L 0.28627452, alpha 1.0, and chroma 0.86503017.
@@ -3108,7 +2856,82 @@ public class Palette {
      * </pre>
      */
     public static final float RASPBERRY = -0x1.93f004p125F;
-    static { NAMED.put("Raspberry", -0x1.93f004p125F); LIST.add(-0x1.93f004p125F); }
+
+    static {
+        // the names and colors are in the same order as the constants above
+        final String[] names = {
+                "Transparent", "Black", "Coal Black", "Shadow", "Graphite", "Dark Gray", "Lead", "Iron", "Gray",
+                "Chinchilla", "Greyhound", "Silver", "Light Gray", "Platinum", "Cloud", "White", "Seawater",
+                "Hospital Green", "Cyan", "Bubble", "Periwinkle", "Blue", "Faded Blue", "Ocean Blue", "Stygian Blue",
+                "Deep Purple", "Tyrian Purple", "Magenta", "Bubblegum Pink", "Pork Chop", "Raw Meat", "Red", "Putty",
+                "Sienna", "Seal Brown", "Mummy Brown", "Fawn", "Orange", "Peach", "Cream", "Yellow", "Earwax", "Umber",
+                "Ivy Green", "Jade", "Green", "Celadon", "Puce", "Beige", "Wet Stone", "Slow Creek", "Slate Gray",
+                "Light Skin 1", "Light Skin 2", "Light Skin 3", "Light Skin 4", "Light Skin 5", "Light Skin 6",
+                "Light Skin 7", "Light Skin 8", "Light Skin 9", "Dark Skin 1", "Dark Skin 2", "Dark Skin 3",
+                "Pink Skin 1", "Pink Skin 2", "Pink Skin 3", "Pink Skin 4", "Bronze Skin 4", "Bronze Skin 3",
+                "Bronze Skin 2", "Bronze Skin 1", "Taupe", "Drab Green", "Lizard Scales", "Cricket", "Olive Oil", "Dun",
+                "Corn Silk", "Tan", "Straw", "Honeydew", "Tarnish", "Pea Soup", "Marsh", "Asparagus", "Peat Bog",
+                "Deep Jungle", "Pine Green", "Olive Green", "Gray Green", "Maidenhair Fern", "Kelly Green",
+                "Dusty Green", "Garter Snake", "Silver Green", "Pistachio", "Angel Wing", "Sage Green", "Dried Sage",
+                "Artichoke", "Viridian", "Floral Foam", "Hunter Green", "Dark Teal", "Kyanite", "Spearmint",
+                "Amazonite", "Pastel Sky", "Aquamarine", "Dust Bunny", "Patina", "Chipped Granite", "Blue Smoke",
+                "Air Force Blue", "Cold Iron", "Dreary Blue", "Murk", "Ninja", "Watercolor Black", "Iolite",
+                "Boysenberry", "Watercolor Gray", "Blue Steel", "Twilight Cloud", "Smog", "Tropic Mist", "Feather Down",
+                "Mild Violet", "Violet Cushions", "Dull Violet", "Royal Violet", "Eminence", "Prune", "Dusty Grape",
+                "Pink Violet", "Ripe Plum", "Mauve", "Ham", "Cotton Candy", "Silver Pink", "Tea Rose", "Old Rose",
+                "Dusty Pink", "Roseate Spoonbill", "Thulian Pink", "Brown Velvet", "Nightshade", "Scribe Ink",
+                "Varnish", "Cedar Wood", "Hot Sauce", "Lurid Red", "Brick", "Bright Red", "Embers", "Salmon",
+                "Taxicab Yellow", "Apricot", "Burnt Yellow", "Dry Pepper", "Redwood", "Koa", "Ochre", "Dull Green",
+                "Army Green", "Driftwood", "Dry Brush", "Mush", "Banana Pudding", "Saffron", "Pencil Yellow",
+                "Chartreuse", "Absinthe", "Infection", "Frog Green", "Avocado", "Woodlands", "Dark Pine", "Moss Green",
+                "Fern Green", "Forest Glen", "Malachite", "Apple Green", "Celery", "Mint Green", "Emerald", "Prase",
+                "Eucalyptus", "Zucchini", "Soft Teal", "Medium Teal", "Spring Green", "Turquoise", "Seafoam",
+                "Variscite", "Refreshing Mist", "Shining Sky", "Steam", "Robin Egg Blue", "Denim Blue", "Deep Teal",
+                "Navy Blue", "Blueberry", "Prussian Blue", "Desert Rain", "Electric Blue", "Hidden Blue", "Dull Azure",
+                "Ripped Denim", "Calm Sky", "Vapor", "Powder Blue", "Suds", "Strong Cyan", "Sharp Azure", "Blue Eye",
+                "Subtlety", "Rough Sapphire", "Iris", "Cornflower Blue", "Polished Sapphire", "Royal Blue", "Indigo",
+                "Space Blue", "Thick Amethyst", "Juicy Grape", "Blacklight Glow", "Purple Freesia", "Thin Amethyst",
+                "Orchid", "Lavender", "Lilac", "Soap", "Pink Tutu", "Thistle", "Heliotrope", "Purple", "Wisteria",
+                "Medium Plum", "Violet", "Grape Lollipop", "Mulberry", "Grape Soda", "Eggplant", "Cherry Syrup",
+                "Plum Juice", "Fruit Punch", "Bubble Gum", "Pink Lemonade", "Shrimp", "Flamingo", "Rose", "Carmine",
+                "Bologna", "Raspberry"
+        };
+        final float[] colors = {
+                TRANSPARENT, BLACK, COAL_BLACK, SHADOW, GRAPHITE, DARK_GRAY, LEAD, IRON, GRAY, CHINCHILLA, GREYHOUND,
+                SILVER, LIGHT_GRAY, PLATINUM, CLOUD, WHITE, SEAWATER, HOSPITAL_GREEN, CYAN, BUBBLE, PERIWINKLE, BLUE,
+                FADED_BLUE, OCEAN_BLUE, STYGIAN_BLUE, DEEP_PURPLE, TYRIAN_PURPLE, MAGENTA, BUBBLEGUM_PINK, PORK_CHOP,
+                RAW_MEAT, RED, PUTTY, SIENNA, SEAL_BROWN, MUMMY_BROWN, FAWN, ORANGE, PEACH, CREAM, YELLOW, EARWAX,
+                UMBER, IVY_GREEN, JADE, GREEN, CELADON, PUCE, BEIGE, WET_STONE, SLOW_CREEK, SLATE_GRAY, LIGHT_SKIN_1,
+                LIGHT_SKIN_2, LIGHT_SKIN_3, LIGHT_SKIN_4, LIGHT_SKIN_5, LIGHT_SKIN_6, LIGHT_SKIN_7, LIGHT_SKIN_8,
+                LIGHT_SKIN_9, DARK_SKIN_1, DARK_SKIN_2, DARK_SKIN_3, PINK_SKIN_1, PINK_SKIN_2, PINK_SKIN_3, PINK_SKIN_4,
+                BRONZE_SKIN_4, BRONZE_SKIN_3, BRONZE_SKIN_2, BRONZE_SKIN_1, TAUPE, DRAB_GREEN, LIZARD_SCALES, CRICKET,
+                OLIVE_OIL, DUN, CORN_SILK, TAN, STRAW, HONEYDEW, TARNISH, PEA_SOUP, MARSH, ASPARAGUS, PEAT_BOG,
+                DEEP_JUNGLE, PINE_GREEN, OLIVE_GREEN, GRAY_GREEN, MAIDENHAIR_FERN, KELLY_GREEN, DUSTY_GREEN,
+                GARTER_SNAKE, SILVER_GREEN, PISTACHIO, ANGEL_WING, SAGE_GREEN, DRIED_SAGE, ARTICHOKE, VIRIDIAN,
+                FLORAL_FOAM, HUNTER_GREEN, DARK_TEAL, KYANITE, SPEARMINT, AMAZONITE, PASTEL_SKY, AQUAMARINE, DUST_BUNNY,
+                PATINA, CHIPPED_GRANITE, BLUE_SMOKE, AIR_FORCE_BLUE, COLD_IRON, DREARY_BLUE, MURK, NINJA,
+                WATERCOLOR_BLACK, IOLITE, BOYSENBERRY, WATERCOLOR_GRAY, BLUE_STEEL, TWILIGHT_CLOUD, SMOG, TROPIC_MIST,
+                FEATHER_DOWN, MILD_VIOLET, VIOLET_CUSHIONS, DULL_VIOLET, ROYAL_VIOLET, EMINENCE, PRUNE, DUSTY_GRAPE,
+                PINK_VIOLET, RIPE_PLUM, MAUVE, HAM, COTTON_CANDY, SILVER_PINK, TEA_ROSE, OLD_ROSE, DUSTY_PINK,
+                ROSEATE_SPOONBILL, THULIAN_PINK, BROWN_VELVET, NIGHTSHADE, SCRIBE_INK, VARNISH, CEDAR_WOOD, HOT_SAUCE,
+                LURID_RED, BRICK, BRIGHT_RED, EMBERS, SALMON, TAXICAB_YELLOW, APRICOT, BURNT_YELLOW, DRY_PEPPER,
+                REDWOOD, KOA, OCHRE, DULL_GREEN, ARMY_GREEN, DRIFTWOOD, DRY_BRUSH, MUSH, BANANA_PUDDING, SAFFRON,
+                PENCIL_YELLOW, CHARTREUSE, ABSINTHE, INFECTION, FROG_GREEN, AVOCADO, WOODLANDS, DARK_PINE, MOSS_GREEN,
+                FERN_GREEN, FOREST_GLEN, MALACHITE, APPLE_GREEN, CELERY, MINT_GREEN, EMERALD, PRASE, EUCALYPTUS,
+                ZUCCHINI, SOFT_TEAL, MEDIUM_TEAL, SPRING_GREEN, TURQUOISE, SEAFOAM, VARISCITE, REFRESHING_MIST,
+                SHINING_SKY, STEAM, ROBIN_EGG_BLUE, DENIM_BLUE, DEEP_TEAL, NAVY_BLUE, BLUEBERRY, PRUSSIAN_BLUE,
+                DESERT_RAIN, ELECTRIC_BLUE, HIDDEN_BLUE, DULL_AZURE, RIPPED_DENIM, CALM_SKY, VAPOR, POWDER_BLUE, SUDS,
+                STRONG_CYAN, SHARP_AZURE, BLUE_EYE, SUBTLETY, ROUGH_SAPPHIRE, IRIS, CORNFLOWER_BLUE, POLISHED_SAPPHIRE,
+                ROYAL_BLUE, INDIGO, SPACE_BLUE, THICK_AMETHYST, JUICY_GRAPE, BLACKLIGHT_GLOW, PURPLE_FREESIA,
+                THIN_AMETHYST, ORCHID, LAVENDER, LILAC, SOAP, PINK_TUTU, THISTLE, HELIOTROPE, PURPLE, WISTERIA,
+                MEDIUM_PLUM, VIOLET, GRAPE_LOLLIPOP, MULBERRY, GRAPE_SODA, EGGPLANT, CHERRY_SYRUP, PLUM_JUICE,
+                FRUIT_PUNCH, BUBBLE_GUM, PINK_LEMONADE, SHRIMP, FLAMINGO, ROSE, CARMINE, BOLOGNA, RASPBERRY
+        };
+        LIST.addAll(colors);
+        for (int i = 0; i < names.length; i++) {
+            NAMED.put(names[i], colors[i]);
+        }
+    }
 
     /**
      * All names for colors in this palette, in alphabetical order. You can fetch the corresponding packed float color
@@ -3130,22 +2953,77 @@ public class Palette {
      */
     public static final ObjectList<String> NAMES_BY_LIGHTNESS = new ObjectList<>(NAMES);
     static {
+        // each color's sort keys are computed once here, instead of twice in every comparison
+        final int count = NAMES.size();
+        final ObjectIntMap<String> indices = new ObjectIntMap<>(count);
+        final int[] alphas = new int[count];
+        final float[] saturations = new float[count], hues = new float[count], lights = new float[count];
+        for (int i = 0; i < count; i++) {
+            final String name = NAMES.get(i);
+            final float color = NAMED.get(name);
+            indices.put(name, i);
+            alphas[i] = ColorTools.alphaInt(color);
+            saturations[i] = channelS(color);
+            hues[i] = channelH(color);
+            lights[i] = channelL(color);
+        }
         NAMES_BY_HUE.sort((o1, o2) -> {
-            final float c1 = NAMED.get(o1), c2 = NAMED.get(o2);
-            if(alphaInt(c1) < 128) return -10000;
-            else if(alphaInt(c2) < 128) return 10000;
-            final float s1 = channelS(c1), s2 = channelS(c2);
+            final int i1 = indices.get(o1), i2 = indices.get(o2);
+            if(alphas[i1] < 128) return -10000;
+            else if(alphas[i2] < 128) return 10000;
+            final float s1 = saturations[i1], s2 = saturations[i2];
             if(s1 <= 0.05f && s2 > 0.05f)
                 return -1000;
             else if(s1 > 0.05f && s2 <= 0.05f)
                 return 1000;
             else if(s1 <= 0.05f && s2 <= 0.05f)
-                return (int)Math.signum(channelL(c1) - channelL(c2));
+                return (int)Math.signum(lights[i1] - lights[i2]);
             else
-                return 2 * (int)Math.signum(channelH(c1) - channelH(c2))
-                        + (int)Math.signum(channelL(c1) - channelL(c2));
+                return 2 * (int)Math.signum(hues[i1] - hues[i2])
+                        + (int)Math.signum(lights[i1] - lights[i2]);
         });
-        NAMES_BY_LIGHTNESS.sort((o1, o2) ->
-                Float.compare(channelL(NAMED.get(o1)), channelL(NAMED.get(o2))));
+        NAMES_BY_LIGHTNESS.sort((o1, o2) -> Float.compare(lights[indices.get(o1)], lights[indices.get(o2)]));
+    }
+
+    /**
+     * A read-only copy of {@link #NAMED} that looks up names without regard to case, so "Ocean Blue" and "ocean blue"
+     * find the same color. It can look up a name in any region of a CharSequence without allocating, and can be shared
+     * freely between threads. NAMED is copied the first time this is used, and later changes to NAMED aren't seen here.
+     */
+    public static final ColorNameTable NAME_TABLE = new ColorNameTable(NAMED);
+
+    private static final NamedColorTree NEAREST = new NamedColorTree(NAMED,
+            color -> com.github.tommyettinger.colorful.pure.oklab.ColorTools.fromRGBA8888(ColorTools.toRGBA8888(color)));
+
+    /**
+     * Finds the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. This searches an
+     * index of the named colors that is built the first time it is needed, and skips mostly-transparent colors.
+     * @param color a packed HSLuv float color
+     * @return the closest named color, as a packed HSLuv float
+     */
+    public static float nearest(final float color) {
+        return NEAREST.nearest(color);
+    }
+
+    /**
+     * Finds the name of the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. If
+     * two named colors are equally close, this returns the name that is first alphabetically.
+     * @param color a packed HSLuv float color
+     * @return the name of the closest named color, which can be looked up in {@link #NAMED}
+     */
+    public static String nearestName(final float color) {
+        return NEAREST.nearestName(color);
+    }
+
+    /**
+     * Finds the {@code k} colors in {@link #NAMED} that are closest to {@code color}, measuring distance in Oklab, and
+     * writes them into {@code out} with the closest first. This doesn't allocate once the index has been built.
+     * @param color a packed HSLuv float color
+     * @param k how many colors to find
+     * @param out will receive up to k packed HSLuv float colors, starting at index 0
+     * @return how many colors were written to out, which is less than k if out is shorter than k
+     */
+    public static int kNearest(final float color, final int k, final float[] out) {
+        return NEAREST.kNearest(color, k, out);
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.pure.ipt;
+
+import com.github.tommyettinger.colorful.pure.ChannelBuffer;
+
+/**
+ * A {@link ChannelBuffer} of IPT colors, with I in {@link #c0}, P in {@link #c1}, and T in {@link #c2}.
+ * Packed floats read or written by this use the same format as IPT {@link ColorTools}, and
+ * {@link #limitToGamut()} acts like {@link ColorTools#limitToGamut(float, float, float, float)}.
+ */
+public class ColorBuffer extends ChannelBuffer {
+    /**
+     * Creates an empty ColorBuffer with room for 16 colors.
+     */
+    public ColorBuffer() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty ColorBuffer with room for {@code capacity} colors before it needs to grow.
+     * @param capacity how many colors this can hold at first; must be non-negative
+     */
+    public ColorBuffer(int capacity) {
+        super(capacity, 255f);
+    }
+
+    /**
+     * Creates a ColorBuffer holding every color in {@code packed}.
+     * @param packed an array of packed float IPT colors
+     */
+    public ColorBuffer(float[] packed) {
+        this(packed.length);
+        unpack(packed, 0, packed.length);
+    }
+
+    @Override
+    public ColorBuffer fromRGBA8888(int[] rgba, int offset, int count) {
+        if (offset < 0 || count < 0 || offset + count > rgba.length)
+            throw new IllegalArgumentException("offset and count must be within rgba");
+        setSize(count);
+        for (int i = 0; i < count; i++) {
+            set(i, ColorTools.fromRGBA8888(rgba[offset + i]));
+        }
+        return this;
+    }
+
+    @Override
+    public int[] toRGBA8888(int[] rgba, int offset) {
+        if (offset < 0 || offset + size > rgba.length)
+            throw new IllegalArgumentException("rgba doesn't have room for every color after offset");
+        for (int i = 0; i < size; i++) {
+            rgba[offset + i] = ColorTools.toRGBA8888(get(i));
+        }
+        return rgba;
+    }
+
+    /**
+     * Brings each color that isn't already in gamut into the gamut using
+     * {@link ColorTools#limitToGamut(float, float, float, float)}, and clamps alpha to the 0 to 1 range. Colors are
+     * checked with {@link ColorTools#inGamut(float, float, float)} first, so most colors can skip the slower path.
+     * @return this, for chaining
+     */
+    @Override
+    public ColorBuffer limitToGamut() {
+        final int n = size;
+        final float[] c0 = this.c0, c1 = this.c1, c2 = this.c2, alpha = this.alpha;
+        for (int i = 0; i < n; i++) {
+            if (!ColorTools.inGamut(c0[i], c1[i], c2[i]))
+                set(i, ColorTools.limitToGamut(c0[i], c1[i], c2[i], alpha[i]));
+        }
+        clamp(alpha);
+        return this;
+    }
+}
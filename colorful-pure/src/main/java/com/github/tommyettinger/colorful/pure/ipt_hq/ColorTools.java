@@ -18,10 +18,12 @@ package com.github.tommyettinger.colorful.pure.ipt_hq;
 
 import com.github.tommyettinger.colorful.pure.FloatColors;
 import com.github.tommyettinger.digital.BitConversion;
-import com.github.tommyettinger.digital.MathTools;
+import com.github.tommyettinger.digital.TrigTools;
 
 import java.util.Random;
 
+import static com.github.tommyettinger.colorful.pure.ipt_hq.Gamut.GAMUT_DATA;
+
 /**
  * Contains code for manipulating colors as {@code int} and packed {@code float} values in the IPT color space.
  * IPT has more perceptually-uniform handling of hue than some other color spaces, like YCwCm, and this version goes
@@ -99,6 +101,18 @@ public class ColorTools {
 		return (float)Math.sqrt(component);
 	}
 
+	/**
+	 * {@link #forwardGamma(float)} of each possible 8-bit RGB channel value, scaled to the 0 to 1 range the same way
+	 * {@link #fromRGBA8888(int)} scales it.
+	 */
+	private static final float[] FORWARD_GAMMA = new float[256];
+
+	static {
+		for (int i = 0; i < 256; i++) {
+			FORWARD_GAMMA[i] = forwardGamma(i * 0x1.010101010101p-8f);
+		}
+	}
+
 
 	/**
 	 * Converts a packed float color in the format produced by {@link ColorTools#ipt(float, float, float, float)} to an RGBA8888 int.
@@ -149,9 +163,9 @@ public class ColorTools {
 	 * @return a packed float as IPT, which this class can use
 	 */
 	public static float fromRGBA8888(final int rgba) {
-		final float r = forwardGamma((rgba >>> 24) * 0x1.010101010101p-8f);
-		final float g = forwardGamma((rgba >>> 16 & 0xFF) * 0x1.010101010101p-8f);
-		final float b = forwardGamma((rgba >>> 8 & 0xFF) * 0x1.010101010101p-8f);
+		final float r = FORWARD_GAMMA[rgba >>> 24];
+		final float g = FORWARD_GAMMA[rgba >>> 16 & 0xFF];
+		final float b = FORWARD_GAMMA[rgba >>> 8 & 0xFF];
 		final float l = forwardTransform(0.313921f * r + 0.639468f * g + 0.0465970f * b);
 		final float m = forwardTransform(0.151693f * r + 0.748209f * g + 0.1000044f * b);
 		final float s = forwardTransform(0.017753f * r + 0.109468f * g + 0.8729690f * b);
@@ -169,9 +183,9 @@ public class ColorTools {
 	 */
 	public static float fromRGBA(final float packed) {
 		final int abgr = BitConversion.floatToRawIntBits(packed);
-		final float r = forwardGamma((abgr & 0xFF) * 0x1.010101010101p-8f);
-		final float g = forwardGamma((abgr >>> 8 & 0xFF) * 0x1.010101010101p-8f);
-		final float b = forwardGamma((abgr >>> 16 & 0xFF) * 0x1.010101010101p-8f);
+		final float r = FORWARD_GAMMA[abgr & 0xFF];
+		final float g = FORWARD_GAMMA[abgr >>> 8 & 0xFF];
+		final float b = FORWARD_GAMMA[abgr >>> 16 & 0xFF];
 		final float l = forwardTransform(0.313921f * r + 0.639468f * g + 0.0465970f * b);
 		final float m = forwardTransform(0.151693f * r + 0.748209f * g + 0.1000044f * b);
 		final float s = forwardTransform(0.017753f * r + 0.109468f * g + 0.8729690f * b);
@@ -869,13 +883,56 @@ public class ColorTools {
 			z = (((seed * 0x8CB92BA72F3D8DD7L >>> 41) - 0x7FFFFFp-1f) * 0x1p-22f) * variance;
 			seed += 0x9E3779B97F4A7C15L;
 			dist = x * x + y * y + z * z;
-			if(dist <= limit && inGamut(x += i, y = (p + y) * 0.5f + 0.5f, z = (t + z) * 0.5f + 0.5f))
-				return BitConversion.intBitsToFloat((decoded & 0xFE000000) | ((int)(z * 255.5f) << 16 & 0xFF0000)
-					| ((int)(y * 255.5f) << 8 & 0xFF00) | (int)(x * 255.5f));
+			if(dist <= limit) {
+				final int ci = (int)((x + i) * 255.5f);
+				final int cp = (int)(((y + p) * 0.5f + 0.5f) * 255.5f);
+				final int ct = (int)(((z + t) * 0.5f + 0.5f) * 255.5f);
+				if(((ci | cp | ct) & 0xFFFFFF00) == 0 && withinGamut(ci, cp, ct))
+					return BitConversion.intBitsToFloat((decoded & 0xFE000000) | ct << 16 | cp << 8 | ci);
+			}
 		}
 		return color;
 	}
 
+	/**
+	 * Gets the maximum in-gamut chroma stored in the gamut table, where P and T each go from -1 to 1. Each byte in the
+	 * table is a multiple of {@code 0x1p-8f}, and is rounded down so that any chroma up to it is in-gamut for the whole
+	 * range of hues the byte covers.
+	 * @param index must be between 0 and 65535; the upper 8 bits are intensity and the lower 8 are hue angle
+	 * @return the maximum chroma for the given intensity and hue
+	 */
+	private static float gamutChroma(final int index) {
+		return (GAMUT_DATA[index] & 255) * 0x1p-8f;
+	}
+
+	/**
+	 * Like {@link #inGamut(float)}, but takes each channel as a byte from 0 to 255, and only compares the chroma with
+	 * the gamut table instead of converting to RGB. This is a little more strict than inGamut() near the edge of the
+	 * gamut, because the table is rounded down.
+	 * @param i intensity channel, from 0 to 255
+	 * @param p protan channel, from 0 to 255
+	 * @param t tritan channel, from 0 to 255
+	 * @return true if the chroma of the given color is no greater than the gamut table allows
+	 */
+	private static boolean withinGamut(final int i, final int p, final int t) {
+		final float pf = p - 127.5f, tf = t - 127.5f;
+		final float dist = gamutChroma(i << 8 | ((int)(256f * TrigTools.atan2TurnsFinite(tf, pf)) & 255)) * 127.5f;
+		return pf * pf + tf * tf <= dist * dist;
+	}
+
+	/**
+	 * Converts a distance from gray on the P or T axis, measured in channel units, to the channel value that is closest
+	 * to that distance without being further from gray, clamped between 0 and 255. Rounding toward gray keeps a color
+	 * that was placed on the edge of the gamut from being pushed just outside of it.
+	 * @param offset the distance from gray, in channel units, which can be negative
+	 * @return the channel value, from 0 to 255
+	 */
+	private static int towardGray(final float offset) {
+		return offset >= 0f
+				? Math.min((int) (offset + 127.5f), 255)
+				: Math.max(255 - (int) (127.5f - offset), 0);
+	}
+
 	/**
 	 * Returns true if the given packed float color, as IPT, is valid to convert losslessly back to RGBA. 
 	 * @param packed a packed float color as IPT
@@ -922,81 +979,89 @@ public class ColorTools {
 	}
 
 	/**
-	 * Iteratively checks whether the given IPT color is in-gamut, and either brings the color closer to grayscale if it
-	 * isn't in-gamut, or returns it as soon as it is in-gamut. Maintains the intensity of the color, only bringing
-	 * protan and tritan closer to grayscale.
+	 * Places a color with the given hue as far from grayscale as the gamut table allows, but no further than
+	 * {@code chroma}, and then steps toward grayscale until the packed result passes {@link #inGamut(float)}. The
+	 * table is rounded down, so the first step almost always passes. Only when not even grayscale is in-gamut at the
+	 * given intensity, which happens for the darkest three and the brightest intensity bytes, does this move intensity
+	 * toward the middle until it finds a row that does have an in-gamut color.
+	 * @param decoded the packed color as an int, used for its intensity and alpha
+	 * @param hue the hue to keep, in turns
+	 * @param chroma the furthest distance from grayscale to try, where P and T each go from -1 to 1
+	 * @return a packed float color that is in-gamut
+	 */
+	private static float placeInGamut(final int decoded, final float hue, final float chroma) {
+		final float sin = TrigTools.sinTurns(hue) * 127.5f, cos = TrigTools.cosTurns(hue) * 127.5f;
+		final int h = (int) (256f * hue) & 255, alpha = decoded & 0xFE000000, step = (decoded & 0x80) == 0 ? 1 : -1;
+		for (int i = decoded & 0xFF; i >= 0 && i <= 255; i += step) {
+			float dist = Math.min(chroma, gamutChroma(i << 8 | h));
+			for (int units = (int) (dist * 256f) + 1; ; dist = --units * 0x1p-8f) {
+				final float placed = BitConversion.intBitsToFloat(alpha | i |
+						towardGray(sin * dist) << 16 | towardGray(cos * dist) << 8);
+				if (inGamut(placed))
+					return placed;
+				if (units <= 0)
+					break;
+			}
+		}
+		return BitConversion.intBitsToFloat(alpha | 0x7F7F80);
+	}
+
+	/**
+	 * Checks whether the given IPT color is in-gamut, and either brings the color closer to grayscale if it isn't
+	 * in-gamut, or returns it as-is if it is in-gamut. Maintains the hue of the color, bringing protan and tritan
+	 * closer to grayscale. Like Oklab's version, this looks up the edge of the gamut in a table instead of searching
+	 * for it, and then checks that the result is really in-gamut, stepping toward grayscale only if it isn't. For the
+	 * few intensities where not even grayscale is in-gamut (the darkest three and the brightest), intensity moves toward
+	 * the middle as little as it can. The result is always in-gamut.
 	 * @param packed a packed float color in IPT format; often this color is not in-gamut
-	 * @return the first color this finds that is between the given IPT color and grayscale, and is in-gamut
+	 * @return the color that is between the given IPT color and grayscale, and is as far from grayscale as possible
+	 * while staying in-gamut
 	 * @see #inGamut(float) You can use inGamut() if you just want to check whether a color is in-gamut.
 	 */
 	public static float limitToGamut(final float packed) {
+		if(inGamut(packed))
+			return packed;
 		final int decoded = BitConversion.floatToRawIntBits(packed);
-		final float i = (decoded & 0xff) / 255f;
-		final float p = ((decoded >>> 8 & 0xff) - 127.5f) / 127.5f;
-		final float t = ((decoded >>> 16 & 0xff) - 127.5f) / 127.5f;
-		float p2 = p, t2 = t;
-		for (int attempt = 31; attempt >= 0; attempt--) {
-			final float l = reverseTransform(i + 0.097569f * p2 + 0.205226f * t2);
-			final float m = reverseTransform(i + -0.11388f * p2 + 0.133217f * t2);
-			final float s = reverseTransform(i + 0.032615f * p2 + -0.67689f * t2);
-
-			final float r = 5.432622f * l + -4.67910f * m + 0.246257f * s;
-			final float g = -1.10517f * l + 2.311198f * m + -0.20588f * s;
-			final float b = 0.028104f * l + -0.19466f * m + 1.166325f * s;
-			if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
-				break;
-			final float progress = attempt * 0x1p-5f;
-			p2 = MathTools.lerp(0, p, progress);
-			t2 = MathTools.lerp(0, t, progress);
-		}
-		return ipt(i, p2 * 0.5f + 0.5f, t2 * 0.5f + 0.5f, (decoded >>> 25) / 127f);
+		final float p = ((decoded >>> 8 & 0xff) - 127.5f);
+		final float t = ((decoded >>> 16 & 0xff) - 127.5f);
+		return placeInGamut(decoded, TrigTools.atan2TurnsFinite(t, p), (float) Math.sqrt(p * p + t * t) / 127.5f);
 	}
 
 	/**
-	 * Iteratively checks whether the given IPT color is in-gamut, and either brings the color closer to grayscale if it
-	 * isn't in-gamut, or returns it as soon as it is in-gamut. Maintains the intensity of the color, only bringing
-	 * protan and tritan closer to grayscale. This always produces an opaque color.
+	 * Checks whether the given IPT color is in-gamut, and either brings the color closer to grayscale if it isn't
+	 * in-gamut, or returns it as-is if it is in-gamut. Maintains the hue of the color, and its intensity except at
+	 * the darkest and brightest extremes, bringing protan and tritan closer to grayscale. This always produces an opaque
+	 * color.
 	 * @param i intensity component; will be clamped between 0 and 1 if it isn't already
 	 * @param p protan component; will be clamped between 0 and 1 if it isn't already
 	 * @param t tritan component; will be clamped between 0 and 1 if it isn't already
-	 * @return the first color this finds that is between the given IPT color and grayscale, and is in-gamut
+	 * @return the color that is between the given IPT color and grayscale, and is as far from grayscale as possible
+	 * while staying in-gamut
 	 * @see #inGamut(float, float, float)  You can use inGamut() if you just want to check whether a color is in-gamut.
 	 */
 	public static float limitToGamut(float i, float p, float t) {
 		return limitToGamut(i, p, t, 1f);
 	}
 	/**
-	 * Iteratively checks whether the given IPT color is in-gamut, and either brings the color closer to grayscale if it
-	 * isn't in-gamut, or returns it as soon as it is in-gamut. Maintains the intensity of the color, only bringing
-	 * protan and tritan closer to grayscale.
+	 * Checks whether the given IPT color is in-gamut, and either brings the color closer to grayscale if it isn't
+	 * in-gamut, or returns it as-is if it is in-gamut. This is the same as {@link #limitToGamut(float)} on the packed
+	 * color the channels describe.
 	 * @param i intensity component; will be clamped between 0 and 1 if it isn't already
 	 * @param p protan component; will be clamped between 0 and 1 if it isn't already
 	 * @param t tritan component; will be clamped between 0 and 1 if it isn't already
 	 * @param a alpha component; will be clamped between 0 and 1 if it isn't already
-	 * @return the first color this finds that is between the given IPT color and grayscale, and is in-gamut
+	 * @return the color that is between the given IPT color and grayscale, and is as far from grayscale as possible
+	 * while staying in-gamut
 	 * @see #inGamut(float, float, float)  You can use inGamut() if you just want to check whether a color is in-gamut.
 	 */
 	public static float limitToGamut(float i, float p, float t, float a) {
-		float i2 = Math.min(Math.max(i, 0f), 1f);
-		float p2 = p = Math.min(Math.max((p - 0.5f) * 2f, -1f), 1f);
-		float t2 = t = Math.min(Math.max((t - 0.5f) * 2f, -1f), 1f);
+		i = Math.min(Math.max(i, 0f), 1f);
+		p = Math.min(Math.max(p, 0f), 1f);
+		t = Math.min(Math.max(t, 0f), 1f);
 		a = Math.min(Math.max(a, 0f), 1f);
-		for (int attempt = 31; attempt >= 0; attempt--) {
-			final float l = reverseTransform(i2 + 0.097569f * p2 + 0.205226f * t2);
-			final float m = reverseTransform(i2 + -0.11388f * p2 + 0.133217f * t2);
-			final float s = reverseTransform(i2 + 0.032615f * p2 + -0.67689f * t2);
-
-			final float r = 5.432622f * l + -4.67910f * m + 0.246257f * s;
-			final float g = -1.10517f * l + 2.311198f * m + -0.20588f * s;
-			final float b = 0.028104f * l + -0.19466f * m + 1.166325f * s;
-			if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
-				break;
-			final float progress = attempt * 0x1p-5f;
-			p2 = MathTools.lerp(0, p, progress);
-			t2 = MathTools.lerp(0, t, progress);
-		}
-		return ipt(i2, p2 * 0.5f + 0.5f, t2 * 0.5f + 0.5f, a);
+		return limitToGamut(ipt(i, p, t, a));
 	}
+
 	/**
 	 * Given a packed float IPT_HQ color, this edits its intensity, protan, tritan, and alpha channels by adding the
 	 * corresponding "add" parameter and then clamping. This returns a different float value (of course, the given float
@@ -1042,25 +1107,11 @@ public class ColorTools {
 		float t = ((decoded >>> 16 & 0xff) - 127.5f) / 127.5f;
 		float alpha = (decoded >>> 25) / 127f;
 
-		float i2 = Math.min(Math.max(i * mulI + addI, 0f), 1f);
-		float p2 = p = Math.min(Math.max(p * mulP + addP, -1f), 1f);
-		float t2 = t = Math.min(Math.max(t * mulT + addT, -1f), 1f);
+		i = Math.min(Math.max(i * mulI + addI, 0f), 1f);
+		p = Math.min(Math.max(p * mulP + addP, -1f), 1f);
+		t = Math.min(Math.max(t * mulT + addT, -1f), 1f);
 		alpha = Math.min(Math.max(alpha * mulAlpha + addAlpha, 0f), 1f);
-		for (int attempt = 31; attempt >= 0; attempt--) {
-			final float l = reverseTransform(i2 + 0.097569f * p2 + 0.205226f * t2);
-			final float m = reverseTransform(i2 + -0.11388f * p2 + 0.133217f * t2);
-			final float s = reverseTransform(i2 + 0.032615f * p2 + -0.67689f * t2);
-
-			final float r = 5.432622f * l + -4.67910f * m + 0.246257f * s;
-			final float g = -1.10517f * l + 2.311198f * m + -0.20588f * s;
-			final float b = 0.028104f * l + -0.19466f * m + 1.166325f * s;
-			if(r >= 0f && r <= 1f && g >= 0f && g <= 1f && b >= 0f && b <= 1f)
-				break;
-			final float progress = attempt * 0x1p-5f;
-			p2 = MathTools.lerp(0, p, progress);
-			t2 = MathTools.lerp(0, t, progress);
-		}
-		return ipt(i2, p2 * 0.5f + 0.5f, t2 * 0.5f + 0.5f, alpha);
+		return limitToGamut(ipt(i, p * 0.5f + 0.5f, t * 0.5f + 0.5f, alpha));
 	}
 
 	/**
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.pure.ipt_hq;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Generated by {@code ipt_hq.internal.GamutWriter} in the tests; each byte is the maximum chroma for an I byte
+ * and hue byte, indexed by {@code I << 8 | hue}, in units of {@code 0x1p-8f}.
+ */
+final class Gamut {
+    private Gamut(){}
+    static byte[] GAMUT_DATA;
+    static {
+        try {
+            //noinspection StringBufferReplaceableByString,CharsetObjectCanBeUsed
+            GAMUT_DATA = new StringBuilder().append("\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\002\002\003\003\005\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\005\005\005\005\005\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\004\004\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\007\007\010\010\010\007\007\007\006\006\006\006\006\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\004\004\004\005\006\010\010\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\010\010\010\007\007\007\007\007\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\005\005\006\007\012\011\011\011\011\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\012\012\012\012\012\012\013\013\013\013\012\012\011\011\011\010\010\010\010\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\005\005\005\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\005\005\005\006\006\007\010\013\013\013\012\012\012\012\012\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\011\011\011\011\011\012\012\012\012\012\012\012\012\013\013\013\013\013\013\014\014\014\014\014\015\014\014\013\013\012\012\012\011\011\011\011\010\010\010\010\010\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\006\006\006\005\005\005\005\005\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\005\005\005\005\005\006\006\007\007\010\011\015\015\014\014\014\013\013\013\013\013\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\012\012\012\013\013\013\013\013\013\013\013\014\014\014\014\014\015\015\015\015\015\016\016\016\016\016\015\015\014\014\013\013\013\012\012\012\011\011\011\011\011\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\007\007\006\006\006\006\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\006\006\006\006\007\007\010\011\012\017\016\016\016\015\015\015\014\014\014\014\014\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\013\014\014\014\014\014\014\014\014\015\015\015\015\015\016\016\016\016\016\017\017\017\017\020\020\020\017\016\016\015\015\014\014\014\013\013\013\012\012\012\012\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\010\010\010\010\010\011\010\010\007\007\007\006\006\006\006\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\006\006\006\006\007\007\007\010\010\011\012\014\020\020\017\017\017\016\016\016\016\015\015\015\015\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\013\013\015\015\015\015\015\015\015\016\016\016\016\016\017\017\017\017\017\020\020\020\020\021\021\021\022\021\021\020\017\017\016\016\015\015\014\014\014\013\013\013\013\012\012\012\012\012\011\011\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\011\012\011\010\010\010\007\007\007\007\006\006\006\006\006\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005\006\006\006\006\006\007\007\007\010\010\011\011\012\013\015\022\021\021\021\020\020\020\017\017\017\016\016\016\016\016\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\014\014\014\014\016\016\016\016\016\017\017\017\017\017\017\020\020\020\020\021\021\021\021\022\022\022\023\023\023\023\022\021\021\020\017\017\016\016\016\015\015\014\014\014\014\013\013\013\013\013\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\012\011\011\010\010\010\007\007\007\007\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\007\007\007\007\010\010\010\011\011\012\013\014\016\024\023\023\022\022\021\021\021\020\020\020\020\017\017\017\017\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\015\015\015\016\016\017\017\017\017\020\020\020\020\020\021\021\021\021\022\022\022\022\023\023\023\023\024\024\024\025\025\024\023\022\021\021\020\020\017\017\016\016\016\015\015\015\014\014\014\014\014\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\012\012\011\011\010\010\010\010\007\007\007\007\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\007\007\007\007\007\010\010\010\011\011\012\012\013\014\015\017\025\025\024\024\023\023\023\022\022\022\021\021\021\020\020\020\020\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\016\016\017\017\017\020\020\020\021\021\021\021\021\022\022\022\022\023\023\023\023\024\024\024\025\025\025\026\026\026\026\025\024\023\023\022\021\021\020\020\017\017\017\016\016\016\015\015\015\015\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\013\012\012\011\011\011\010\010\010\010\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\010\010\010\011\011\011\012\012\013\014\015\016\021\027\026\026\025\025\024\024\024\023\023\023\022\022\022\021\021\021\021\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\017\017\017\020\020\020\020\021\022\022\022\022\022\023\023\023\023\023\024\024\024\025\025\025\025\026\026\027\027\027\030\030\030\027\026\025\024\023\023\022\022\021\021\020\020\017\017\017\016\016\016\016\015\015\015\015\015\014\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\014\014\014\015\015\015\015\014\014\013\013\012\012\011\011\011\010\010\010\010\010\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\010\010\010\010\011\011\011\012\012\013\013\014\015\016\017\022\031\030\027\027\026\026\025\025\025\024\024\024\023\023\023\022\022\022\022\021\021\021\021\021\021\020\020\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\020\020\020\021\021\021\021\021\023\023\023\023\023\024\024\024\024\025\025\025\025\026\026\026\027\027\027\030\030\030\031\031\032\031\030\027\026\025\025\024\023\023\022\022\021\021\020\020\020\017\017\017\017\016\016\016\016\015\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\015\016\016\016\015\015\014\013\013\012\012\012\011\011\011\011\010\010\010\010\010\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\007\010\010\010\010\010\011\011\011\012\012\012\013\013\014\015\016\017\020\023\032\032\031\030\030\027\027\026\026\026\025\025\025\024\024\024\023\023\023\023\022\022\022\022\022\022\021\021\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\024\024\024\024\025\025\025\025\026\026\026\026\027\027\027\030\030\030\031\031\032\032\032\033\033\033\032\031\030\027\026\025\025\024\023\023\022\022\021\021\021\020\020\020\017\017\017\017\017\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\017\017\017\016\015\015\014\014\013\013\012\012\012\011\011\011\011\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\011\011\011\011\012\012\013\013\013\014\015\015\016\020\021\024\034\033\033\032\031\031\030\030\027\027\027\026\026\026\025\025\025\024\024\024\024\023\023\023\023\023\022\022\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\024\025\025\025\026\026\026\026\027\027\027\027\030\030\030\031\031\032\032\032\033\033\034\034\035\035\035\033\032\031\030\027\027\026\025\025\024\023\023\023\022\022\021\021\021\020\020\020\020\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\020\020\017\016\015\015\014\014\013\013\013\012\012\012\011\011\011\011\011\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\011\011\011\011\011\012\012\012\013\013\014\014\015\015\016\017\021\022\025\036\035\034\034\033\032\032\031\031\030\030\030\027\027\027\026\026\026\025\025\025\025\024\024\024\024\024\023\023\023\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\025\025\026\026\027\027\027\027\030\030\030\030\031\031\031\032\032\033\033\033\034\034\035\035\036\036\037\036\035\034\033\032\031\030\027\026\026\025\025\024\024\023\023\022\022\022\021\021\021\021\020\020\020\020\017\017\017\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\017\017\020\020\020\020\020\021\021\020\017\016\016\015\015\014\014\013\013\013\012\012\012\011\011\011\011\011\011\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\010\011\011\011\011\011\012\012\012\012\013\013\013\014\014\015\016\016\017\020\022\023\027\037\036\036\035\034\034\033\033\032\032\031\031\031\030\030\027\027\027\027\026\026\026\026\025\025\025\025\025\024\024\024\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\026\026\027\030\030\030\030\031\031\031\031\032\032\032\033\033\034\034\034\035\035\036\036\037\037   \036\035\034\033\032\031\030\030\027\026\026\025\025\024\024\023\023\023\022\022\022\021\021\021\021\021\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\020\021\021\021\021\021\022\021\020\017\016\016\015\015\014\014\013\013\013\012\012\012\012\012\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\012\012\012\012\013\013\013\014\014\015\015\016\016\017\020\021\022\024\030! \037\037\036\035\035\034\034\033\033\032\032\031\031\031\030\030\030\027\027\027\027\026\026\026\026\026\025\025\025\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\027\027\027\030\031\031\031\032\032\032\032\033\033\033\034\034\035\035\035\036\036\037\037  !!\"\" \037\035\034\033\032\032\031\030\027\027\026\026\025\025\024\024\024\023\023\023\022\022\022\022\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\022\022\022\022\023\022\021\020\017\016\016\015\015\014\014\014\013\013\013\012\012\012\012\012\011\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\012\012\012\012\013\013\013\013\014\014\015\015\016\016\017\020\021\022\023\025\031#\"!  \037\036\036\035\035\034\034\033\033\032\032\032\031\031\031\030\030\030\030\027\027\027\027\027\026\026\026\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\030\030\030\030\032\032\032\032\033\033\033\034\034\034\035\035\036\036\036\037\037  !!\"\"#$#\" \037\036\035\034\033\032\031\031\030\027\027\026\026\025\025\025\024\024\023\023\023\023\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\023\023\023\024\022\021\021\020\017\017\016\016\015\015\014\014\014\013\013\013\013\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\013\013\013\013\014\014\014\015\015\016\016\017\020\021\022\023\024\027\032$##\"!  \037\037\036\035\035\035\034\034\033\033\033\032\032\032\031\031\031\031\030\030\030\030\030\027\027\027\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\027\027\027\030\030\030\030\030\031\031\031\031\031\033\033\033\034\034\034\035\035\035\036\036\037\037\037  !!\"\"##$%%%#\" \037\036\035\034\033\032\032\031\030\030\027\027\026\026\025\025\025\024\024\024\024\023\023\023\023\022\022\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\022\022\022\023\023\023\023\024\024\024\024\023\022\021\021\020\017\017\016\016\015\015\014\014\014\014\013\013\013\013\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\013\013\013\013\014\014\014\015\015\015\016\016\017\020\020\021\022\024\025\030\033&%$##\"!! \037\037\036\036\035\035\035\034\034\033\033\033\032\032\032\032\031\031\031\031\031\030\030\030\030\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\030\030\030\030\031\031\031\031\031\031\032\032\032\032\033\034\034\035\035\035\036\036\036\037\037\037  !!\"\"##$$%&&'&%#\" \037\036\035\034\034\033\032\031\031\030\030\027\027\026\026\026\025\025\025\024\024\024\024\023\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\024\024\024\024\024\025\025\025\024\023\022\021\021\020\017\017\016\016\015\015\015\014\014\014\014\013\013\013\013\013\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\013\013\013\013\013\014\014\014\014\015\015\016\016\017\017\020\020\021\022\023\025\026\031\035('&%$##\"!!  \037\037\036\036\035\035\035\034\034\034\033\033\033\033\032\032\032\032\032\031\031\031\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\031\031\031\031\032\032\032\032\032\033\033\033\033\034\034\035\036\036\036\036\037\037   !!\"\"##$$%%&''()(&%#\"! \037\036\035\034\033\033\032\031\031\030\030\027\027\027\026\026\026\025\025\025\025\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\025\025\025\025\026\026\026\025\024\023\022\021\021\020\017\017\016\016\016\015\015\015\014\014\014\014\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\014\014\014\014\015\015\015\016\016\017\017\020\020\021\022\023\024\025\027\032\036)('&&%$##\"\"!  \037\037\037\036\036\035\035\035\034\034\034\034\033\033\033\033\033\032\032\032\032\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\032\032\032\032\033\033\033\033\033\033\034\034\034\034\035\035\036\037\037\037   !!\"\"##$$%%&&''())**(&%#\"! \037\036\035\034\034\033\032\032\031\031\030\030\030\027\027\026\026\026\026\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\026\026\026\026\027\027\026\025\024\023\022\021\021\020\020\017\017\016\016\015\015\015\015\014\014\014\014\013\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\014\014\014\014\015\015\015\016\016\016\017\017\020\020\021\022\023\024\025\026\030\033\037+*)('&&%$$#\"\"!!  \037\037\037\036\036\036\035\035\035\035\034\034\034\034\034\033\033\033\033\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\035\035\035\035\036\036\036   !!!\"\"###$$%%&''(()**+,+)(&%#\"! \037\036\035\035\034\033\033\032\032\031\031\030\030\030\027\027\027\026\026\026\026\026\025\025\025\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\025\025\025\026\026\026\026\027\027\027\027\030\030\027\026\024\024\023\022\021\021\020\020\017\017\016\016\016\015\015\015\015\014\014\014\014\014\013\013\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\013\014\014\014\014\014\015\015\015\015\016\016\016\017\017\020\020\021\022\023\023\024\026\027\031\034 -+**)('&&%$$##\"\"!!  \037\037\037\036\036\036\036\035\035\035\035\035\034\034\034\034\034\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\034\034\034\034\035\035\035\035\035\036\036\036\036\036\037\037\037!!!\"\"###$$%%&&''())*++,---+)'&%#\"! \037\037\036\035\034\034\033\033\032\032\031\031\031\030\030\030\027\027\027\027\026\026\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\026\027\027\027\027\030\030\030\031\031\030\026\025\024\023\023\022\021\021\020\020\017\017\017\016\016\016\015\015\015\015\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\015\015\015\015\016\016\016\017\017\017\020\020\021\022\022\023\024\025\027\030\032\035\".-,+*)(('&&%$$##\"\"!!!   \037\037\037\037\036\036\036\036\036\035\035\035\035\035\035\035\035\035\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\037\037\037\037    \"\"###$$%%&&''(())*++,-../.,+)'&%$\"!! \037\036\035\035\034\034\033\033\032\032\031\031\031\030\030\030\030\027\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\030\030\030\030\031\031\032\032\030\027\026\025\024\023\023\022\021\021\020\020\017\017\017\016\016\016\015\015\015\015\015\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\014\015\015\015\015\016\016\016\016\017\017\020\020\021\021\022\022\023\024\025\026\027\031\033\036#0/.-,+*)(('&&%%$$##\"\"!!!    \037\037\037\037\037\036\036\036\036\036\036\036\036\036\036\035\035\035\035\035\035\035\035\036\036\036\036\036\036\036\036\036\036\037\037\037\037\037\037    !!!\"#$$$%%&&&''(()**++,-../010.,*)'&%$#\"! \037\037\036\035\035\034\034\033\033\032\032\032\031\031\031\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\031\031\031\031\032\032\032\033\031\030\027\026\025\024\023\023\022\021\021\020\020\020\017\017\017\016\016\016\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\016\016\016\016\017\017\017\020\020\021\021\022\022\023\024\025\026\027\030\032\034\037$20/.-,++*)(('&&%%$$###\"\"\"!!!     \037\037\037\037\037\037\037\037\037\037\036\036\036\036\036\036\036\037\037\037\037\037\037\037\037\037\037\037     !!!!\"\"\"##$%%&&&''(())**+,,-../012220.,*)'&%$#\"!  \037\036\036\035\035\034\034\033\033\033\032\032\032\031\031\031\031\030\030\030\030\030\030\030\030\030\030\027\027\027\027\027\030\030\030\030\030\030\030\030\030\030\031\031\031\031\032\032\032\033\033\033\034\032\031\030\027\026\025\024\023\023\022\021\021\021\020\020\017\017\017\016\016\016\016\016\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\016\016\016\016\017\017\017\017\020\020\021\021\022\022\023\024\024\025\026\030\031\033\035 %3210/.-,+**)((''&&%%$$###\"\"\"\"!!!!!           \037\037\037\037           !!!!!!\"\"\"\"###$$&&&''(())**++,,-../01123431/-+*)'&%$#\"!! \037\037\036\036\035\035\034\034\033\033\033\032\032\032\032\031\031\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\031\031\032\032\032\032\033\033\033\034\034\035\033\032\030\027\026\025\025\024\023\023\022\022\021\021\020\020\020\017\017\017\016\016\016\016\016\015\015\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\015\015\016\016\016\016\016\017\017\017\020\020\020\021\021\022\022\023\024\024\025\026\027\030\032\034\036!&54210/.--,+**)((''&&%%%$$$###\"\"\"\"\"!!!!!!!!!!!!!!!!!!!!!!!!!!\"\"\"\"\"####$$$%%%''((())**++,--../01123456531/-+*('&%$#\"\"!  \037\036\036\035\035\035\034\034\034\033\033\033\032\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\033\033\033\033\034\034\034\035\035\036\034\032\031\030\027\026\025\025\024\023\023\022\022\021\021\020\020\020\017\017\017\017\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\014\014\014\014\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\017\017\017\017\020\020\020\021\021\022\022\023\023\024\025\026\027\030\031\033\034\037\"(7543210/.-,,+**))((''&&%%%$$$$####\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"#####$$$$%%%&&&(())**++,,--.//01123455677420.-+*('&%$##\"!! \037\037\036\036\036\035\035\034\034\034\034\033\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\034\034\034\034\035\035\036\036\036\035\033\032\031\030\027\026\025\024\024\023\023\022\022\021\021\021\020\020\020\017\017\017\017\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\017\017\017\017\020\020\020\021\021\021\022\022\023\023\024\025\026\026\027\031\032\033\035 #)87643210//.-,,+**))(('''&&%%%%$$$$$########################$$$$$%%%%&&&&''()***++,,--.//01123445678986310.,+*('&%%$#\"\"!  \037\037\036\036\036\035\035\035\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\035\035\035\036\036\036\037\037\036\034\033\031\030\027\027\026\025\024\024\023\023\022\022\021\021\021\020\020\020\020\017\017\017\017\017\016\016\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\016\016\017\017\017\017\017\020\020\020\020\021\021\022\022\022\023\023\024\025\025\026\027\030\031\033\034\036!$*:876543210/..-,,+**)))(('''&&&%%%%%$$$$$$$$$$$$$$$$$$$$$$$$%%%%%&&&&'''((()*++,,--..//011234456789:;:7531/.,+*)'&&%$##\"!!  \037\037\036\036\036\035\035\035\035\034\034\034\034\034\034\034\034\033\033\033\033\033\033\033\033\033\034\034\034\034\034\034\034\035\035\035\035\036\036\036\037\037\037  \036\035\033\032\031\030\027\026\026\025\024\024\023\023\022\022\022\021\021\021\020\020\020\020\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\020\020\020\020\021\021\021\022\022\022\023\023\024\025\025\026\027\030\031\032\033\035\037\"%+<:9865432110/..-,,++**))(((''''&&&&&%%%%%%%%%%%%%%%%%%%%%%&&&&&&'''(((())**+,,--../00112334567789:;<;96421/-,+*)('&%$##\"\"!!  \037\037\037\036\036\036\036\035\035\035\035\035\034\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\035\036\036\036\036\037\037\037  !!\037\036\034\033\032\031\030\027\026\026\025\024\024\023\023\022\022\022\021\021\021\020\020\020\020\020\017\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\017\020\020\020\020\020\021\021\021\022\022\023\023\023\024\025\025\026\027\030\031\032\033\034\036 #&-=<:98765432100/..-,,++***)))((('''''&&&&&&&&&&&&&&&&&&&&&&'''''(((()))***++--..//00112334566789:;<=>=:86420/-,+*)('&%$$##\"\"!!  \037\037\037\037\036\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\037\037\037   !!\"\" \037\035\034\033\032\031\030\027\026\026\025\024\024\023\023\023\022\022\022\021\021\021\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\017\016\016\016\016\016\016\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\021\021\021\022\022\022\023\023\024\024\025\025\026\027\027\030\031\032\034\035\037!$'.?=<;98765432210//..--,,++***)))(((((''''''''''''''''''''''((((())))***+++,,..//00122334566789::;<=>@?<975320/-,+*)('&%%$$#\"\"!!!   \037\037\037\037\037\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037\037   !!\"\"\"#!\037\036\034\033\032\031\030\030\027\026\025\025\024\024\023\023\023\022\022\022\021\021\021\021\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\021\021\021\021\022\022\022\023\023\024\024\025\025\026\026\027\030\031\032\033\034\036 \"%(/A?><;:98665432110//..--,,+++****)))))(((((((((((((((((((())))))***++++,,---/0011223345567889:;<=>?@A@=;965310.-,+*)('&&%$$##\"\"\"!!!   \037\037\037\037\037\037\037\037\037\036\036\036\036\036\037\037\037\037\037\037\037\037    !!!\"\"\"##$\" \037\035\034\033\032\031\030\027\027\026\025\025\024\024\024\023\023\022\022\022\022\021\021\021\021\020\020\020\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\020\020\020\021\021\021\021\022\022\022\023\023\023\024\024\025\025\026\026\027\030\031\032\033\034\035\037 #%)0BA?><;:987654332110//..---,,++++*****))))))))))))))))))))*****++++,,,---../011223345567889:;<==>?ABCB?<:864210.-,+*)(''&%%$$##\"\"\"!!!!      \037\037\037\037\037\037\037\037\037\037\037      !!!!\"\"\"##$$%#!\037\036\035\034\033\032\031\030\027\027\026\025\025\024\024\024\023\023\023\022\022\022\022\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\022\022\022\022\023\023\023\024\024\025\025\026\026\027\030\030\031\032\033\034\036\037!$&*1DBA?>=<:98766543321100//..---,,,+++++********************+++++,,,,---..///01223445567789::;<=>?@ABCDDA>;975421/.-,+*)(('&&%%$$##\"\"\"\"!!!!!               !!!!!\"\"\"###$$%%&$\" \037\035\034\033\032\031\031\030\027\027\026\025\025\025\024\024\023\023\023\022\022\022\022\022\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\022\022\022\022\023\023\023\023\024\024\025\025\026\026\027\027\030\031\032\033\034\035\037 \"$'+3FDBA@>=<;:98765443221100//...----,,,,+++++++++++++++++++,,,,,,---...///0011334455677899:;<=>?@ABCDEFEB?=;975320/.-,+*))(''&%%%$$###\"\"\"\"!!!!!!!!!!!!!!!!!!\"\"\"\"\"###$$%%&&'$#!\037\036\035\034\033\032\031\030\030\027\027\026\026\025\025\024\024\024\023\023\023\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\020\020\020\020\020\020\020\020\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\023\023\023\024\024\024\025\025\026\026\027\027\030\031\032\032\033\035\036\037!#%(,4GFDBA@>=<;:9877654432211000//....-----,,,,,,,,,,,,,,,,,,-----....///00011224455677899:;<<=>?@ABCDEGHGDA><:865320/.-,+**)(''&&%%%$$####\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"####$$$%%%&&'(%#\" \037\036\035\034\033\032\031\030\030\027\027\026\026\025\025\024\024\024\023\023\023\023\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\023\023\023\023\024\024\024\025\025\026\026\027\027\030\031\031\032\033\034\035\037 \"$&).5IGFDCA@?><;::98766544332211000///.....------------------.....////000112223356677899:;;<=>?@AABDEFGHIHEB@=;9764310/.-,+**)((''&&%%%$$$#######\"\"\"\"\"\"\"\"\"######$$$$%%%&&''((&$\"! \036\035\034\033\032\032\031\030\030\027\027\026\026\025\025\024\024\024\024\023\023\023\023\022\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\022\022\023\023\023\023\024\024\024\025\025\025\026\026\027\027\030\030\031\032\033\034\035\036\037!\"%'*/6KIGFDCA@?>=<;:9877655443322111000/////.................//////00011122233444677899::;<=>>?@ABCDEFGHJKJGDA?=;9754310/.-,++*))((''&&%%%%$$$$$#############$$$$$%%%%&&''(())'%#\" \037\036\035\034\033\032\031\031\030\030\027\027\026\026\025\025\025\024\024\024\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\024\024\024\025\025\025\026\026\027\027\030\030\031\032\033\033\034\035\037 !#%(+07LJIGFDCB@?>=<;::98776554433222111100000////////////////000001111222333445567899::;<==>?@AABCDEGHIJKMLHEC@><:8754210/.-,,+**)(('''&&&%%%%$$$$$$$$$$$$$$$$$%%%%&&&''(())**(&$\"! \036\035\034\034\033\032\031\031\030\030\027\027\026\026\025\025\025\024\024\024\024\023\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\023\024\024\024\024\025\025\025\026\026\027\027\030\030\031\032\032\033\034\035\036\037!\"$&),19NLJIGFDCBA?>==<;:988776554443322221111100000000000000001111122223334455566799::;<<=>??@ABCDEFGHIJLMNMJGDA?=;98653210/.--,+**))(('''&&&&%%%%%%%%%%%%%%%%%%%&&&&''((())*++)'%#\" \037\036\035\034\033\033\032\031\031\030\030\027\027\026\026\026\025\025\025\024\024\024\024\023\023\023\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\023\023\024\024\024\024\024\025\025\025\026\026\026\027\027\030\030\031\031\032\033\034\035\036\037 !#%'*-2:PNLJIGFDCBA@?>=<;::98877665544433322222111111111111111122222333344455667788::;<<=>>?@ABBCDEFGHJKLMOPOKHECA><;97653210/.--,++**))((('''&&&&&&&%%%%%%%&&&&&&&'''((())**++,*'&$\"! \037\036\035\034\033\032\032\031\031\030\030\027\027\026\026\026\025\025\025\025\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\025\025\025\025\026\026\026\027\027\030\030\031\031\032\033\033\034\035\036\037!\"$&(+.3;QOMLJIGFECBA@?>=<<;::988776655544433333322222222222222333333444555666778899;<<==>?@@ABCDEFGHIJKLNOPRPMJGDB@><:87643210/..-,,++**))(((''''''&&&&&&&&&&&'''''(((())**++,,-+(&%#\" \037\036\035\034\034\033\032\032\031\031\030\030\027\027\026\026\026\025\025\025\025\025\024\024\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\024\025\025\025\025\026\026\026\026\027\027\030\030\031\031\032\033\033\034\035\036\037 !#$&)+/4<SQOMLJIGFEDBA@??>=<;;:998877666555544444333333333333334444455556667778899::<==>??@ABCCDEFGHIJKMNOPRSRNKHFCA?=;:87543210//.--,++***)))(((('''''''''''''''(((()))***++,--.+)'%$\"! \037\036\035\034\034\033\032\032\031\031\030\030\027\027\027\026\026\026\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\026\026\026\027\027\027\030\030\031\031\032\032\033\034\035\035\036\037!\"#%'),05>USQOMLJIGFEDCBA@?>==<;;:99888776666555554444444444444455555666677788999::;<=>??@AABCDEFGHIJKLMNOQRSUTPMJGDB@><;9865432100/.--,,++***))))((((((((((((((((())))***++,,--./,*(&%#\"! \037\036\035\034\033\033\032\032\031\031\030\030\027\027\027\026\026\026\026\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\026\026\026\026\027\027\027\030\030\031\031\032\032\033\034\034\035\036\037 !#$&(*-16?VTRPOMLJIHFEDCBA@??>=<<;;::99888777666665555555555555666666777788899::;;<<=??@@ABCCDEFGHIJKLMNPQRTUWURNKHFCA?><:9865432100/..--,,+++***)))))))))))))))))))***+++,,--../0-+)'%$\"! \037\036\035\035\034\033\033\032\032\031\031\030\030\027\027\027\027\026\026\026\026\025\025\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\025\025\026\026\026\026\027\027\027\027\030\030\031\031\032\032\033\033\034\035\036\037 !\"#%')+.27@XVTRPOMLJIHFEDCBAA@?>>=<<;;::999888777777666666666666777777888999:::;;<<==>@@ABBCDEFFGHIJKLNOPQRTUWXWSPMJGECA?=;:9765432110//.--,,,+++******)))))))))******+++,,--..//01.,)(&$#\"! \037\036\035\034\034\033\033\032\032\031\031\030\030\030\027\027\027\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\027\027\027\030\030\030\031\031\032\032\033\033\034\035\035\036\037 !#$&'),/38AZWUTRPOMLJIHGFEDCBA@??>==<<;;:::999988888777777777777888889999:::;;<<<==>??ABBCDDEFGHIJKLMNOPQSTUWXZYUQNKHFDB@>=;:8765432110//..--,,,+++++*************++++,,,---..//012/,*('%$#! \037\037\036\035\034\034\033\033\032\032\031\031\030\030\030\027\027\027\027\026\026\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\026\027\027\027\027\030\030\030\031\031\032\032\033\033\034\034\035\036\037 !\"#%&(*-049B[YWUSRPOMLJIHGFEDCBAA@??>==<<<;;::::9999988888888888999999::::;;;<<==>>??@@BCCDEFFGHIJKLMNOPRSTVWXZ[ZVSOLJGECA?><;987654322100//..---,,,,+++++++++++++++,,,,---..//001220-+)'&$#\"! \037\036\036\035\034\034\033\033\032\032\031\031\030\030\030\030\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\030\030\030\030\031\031\032\032\033\033\034\034\035\036\037\037 !#$%')+.15:D][YWUSQPNMLKIHGFEDCCBA@@??>>==<<<;;;::::::9999999999::::::;;;;<<<==>>??@@AACDEEFGHIIJKLMNPQRSTVWXZ[]\\XTQNKIFDB@?=<:987654332110///..----,,,,,,,,,,,,,,,,,----..//00112331.,*('%$#\"! \037\036\035\035\034\034\033\033\032\032\031\031\031\030\030\030\027\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\030\030\030\031\031\031\032\032\033\033\034\034\035\036\036\037 !\"#%&(*,.26;E_\\ZXVUSQPNMLKIHGFEEDCBBA@@??>>===<<<;;;;;;::::::::::;;;;;;<<<===>>>??@@AABCDEFGGHIJKLMNOPQRSUVWYZ\\]_]YVROLJHECB@>=;:9876543321100///...------,,,,,,,------...///001123441/-+)'&$#\"! \037\037\036\035\035\034\033\033\033\032\032\031\031\031\030\030\030\030\027\027\027\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\027\027\030\030\030\030\031\031\031\032\032\033\033\034\034\035\035\036\037 !\"#$%'(*-/27<F`^\\ZXVTSQPNMLKJIHGFEDCCBAA@@??>>>===<<<<<<<;;;;;;;;<<<<<<====>>>???@@AABCCDFFGHIIJKLMNOPQRTUVWYZ\\]_`_[WTQNKIGECA?>=;:98765443221100///.....-----------.....///001122344520-+*(&%$#\"! \037\036\036\035\034\034\033\033\033\032\032\031\031\031\031\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\031\031\031\031\032\032\033\033\034\034\035\035\036\037\037 !\"#$&')+-037=Gb`][YXVTSQPOMLKJIHGFEEDCCBAA@@???>>>>======<<<<<<<<======>>>>???@@AABBCCDDEGHHIJKLLMNOPQSTUVWYZ\\]_`ba\\YUROLJHFDB@?><;:987654433211100/////.............////000112233455630.,*)'&$#\"!  \037\036\036\035\034\034\033\033\033\032\032\032\031\031\031\030\030\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\030\031\031\031\031\032\032\032\033\033\034\034\035\035\036\036\037 !\"#$%'(*,.148>Ida_][YWVTSQPOMLKJIHGGFEDDCCBAAA@@????>>>>>>=======>>>>>>>????@@@AABBCCDDEFFHIJJKLMNOPQRSTUVXYZ\\]_`bdb^ZWSPNKIGECB@?=<;:98765543322111000////////////////000011122334556741/-+)(&%$#\"! \037\037\036\035\035\034\034\033\033\033\032\032\032\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\032\032\032\033\033\034\034\034\035\036\036\037  !\"#$&')+-/259?Jeca^\\[YWVTSQPONLKJIIHGFFEDDCCBBAAA@@@???????>>>>>>???????@@@@AABBBCCDDEEFGGIJKLLMNOPQRSTUWXYZ\\]_`bded`\\XUROMJHFDCA@>=<;:9876654433221111000000/////000000111122334456678520.,*('&%#\"\"! \037\037\036\035\035\034\034\034\033\033\032\032\032\032\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\032\032\032\032\033\033\034\034\034\035\036\036\037\037 !\"#$%&()+-036:@Kgdb`^\\ZYWUTSQPONMLKJIHGGFEEDDCCBBBAAA@@@@@@@@????@@@@@@@@AAABBBCCCDDEEFGGHIJKLMNNOPQRSTVWXY[\\]_`bcegfa]YVSPNKIGEDBA?>=<;:98766554333222111110000000001111122233445566789630.,+)(&%$#\"!  \037\036\036\035\035\034\034\034\033\033\033\032\032\032\032\031\031\031\031\031\031\031\030\030\030\030\030\030\030\030\030\030\031\031\031\031\031\031\031\032\032\032\032\033\033\033\034\034\034\035\035\036\037\037 !\"\"#$&'(*,.037;ALifdb`^\\ZXWUTSQPONMLKJIIHGFFEEDDCCCBBBAAAAAAAAA@@AAAAAAAABBBBCCCDDEEFFGGHHIJ").append("LLMNOPQRSTUVWXY[\\]_`bcegigc_[WTROMJHGECB@?>=<;:987765544333222211111111111112222333445567789:741/-+*('&%$#\"!  \037\036\036\035\035\034\034\034\033\033\033\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\033\033\033\034\034\034\035\035\036\036\037  !\"#$%&()+-/148<BMjheca_][ZXWUTSQPONMLKJJIHHGFFEEDDDCCCCBBBBBBBBBBBBBBBBBBCCCCDDDEEFFGGHHIJJKMNNOPQRSTUVWXZ[\\]_`bceghjid`\\YVSPNLJHFDCA@?>=<;:9877665544333322222222222222233344455667889:;7520.,*)(&%$#\"\"! \037\037\036\036\035\035\034\034\034\033\033\033\033\032\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\032\033\033\033\033\034\034\034\035\035\036\036\037  !\"#$%&'(*+-0259=COligeca_][ZXWUTSQPONMLLKJIIHHGFFFEEDDDDCCCCCCCCCCCCCCCCCCDDDDEEEFFGGHHIIJKKLNOPPQRSTUVWXZ[\\]_`bceghjljfb^ZWTQOMKIGEDBA@?=<;;:98876655544433333333333333333444556677889:;<8531.-+*('&%$#\"!! \037\037\036\036\035\035\035\034\034\034\033\033\033\033\032\032\032\032\032\032\032\032\032\031\031\031\031\032\032\032\032\032\032\032\032\032\033\033\033\033\034\034\034\035\035\035\036\036\037\037 !!\"#$%&')*,.0369>EPnkifdb`^][YXWUTSRQPONMLKKJIIHHGGFFEEEEDDDDDDDDDDDDDDDDDDEEEEFFGGGHHIIJKKLMMOPQRSSTUVXYZ[\\^_`bcefhjlnlgc_\\XUSPNLJHFECBA?>=<<;:998776655544444433333334444455556677899:;<<9641/-,*)(&%$##\"!  \037\037\036\036\035\035\035\034\034\034\033\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\034\034\034\035\035\035\036\036\037\037 !!\"#$%&'(*+-/147:?FQomjhfdb`^\\[YXVUTSRQPONMLLKJJIIHHGGGFFFEEEEEEEEEEEEEEEEEEFFFGGGHHHIIJJKLLMNNPQRSTUVWXYZ[\\^_`bcefhjkmonida]ZWTQOMKIGFDCB@?>=<<;:9988776665555444444444445555666778899:;<<=:7420.,+)('&%$#\"\"!  \037\037\036\036\035\035\035\034\034\034\034\033\033\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\033\034\034\034\034\035\035\035\036\036\037\037  !\"##$%&')*,-/247;@GRqnligeca_^\\[YXVUTSRQPONNMLKKJJIIHHHGGGFFFFFFFFFFFFFFFFFGGGGHHHIIJJKKLLMMNOPRRSTUVWXYZ[]^_`bcefhikmoqojfb^[XUSPNLJHGEDCA@?>=<<;::988777666655555555555556666778889::;<==>;8531/-+*)(&%$$#\"!!  \037\037\036\036\035\035\035\035\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\035\035\035\035\036\036\037\037  !\"\"#$%&'()+,.0258<AHSspmkigeca_]\\ZYXWUTSRQPOONMMLKKJJIIIHHHHGGGGGGGGGGGGGGGGHHHHIIIJJKKLLMMNOOPQSTTUVWXYZ[]^_`bcefhikmoprqlgc`\\YVTQOMKJHFEDBA@?>==<;::9988777766666666666666677788899::;<==>?<9631/.,+)('&%$##\"!!  \037\037\036\036\036\035\035\035\034\034\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\034\035\035\035\036\036\036\037\037  !!\"#$$%&')*+-/1369=BIUtqoljhfdb`_]\\ZYXWUTSRRQPONNMLLKKKJJIIIIHHHHHHHHHHHHHHHHIIIIJJJKKLLMMNNOPPQRTUVWWXY[\\]^_`bcefhikmnprtrmiea^[XUSPNLKIGFECBA@?>==<;;::998887777776666677777788899::;;<==>?@=97420.-+*)('&%$#\"\"!!  \037\037\036\036\036\035\035\035\035\034\034\034\034\034\034\034\034\033\033\033\033\033\033\034\034\034\034\034\034\034\034\035\035\035\035\036\036\036\037\037  !!\"##$%&'()+,.0247:>CJVvspnljgedb`_]\\ZYXWVUTSRQPOONNMMLLKKJJJJIIIIIIIIIIIIIIIIJJJJKKLLLMMNNOPPQRRSUVWXYZ[\\]^_abcefhiklnprtvtojfb_\\YVTROMLJHGFDCBA@?>==<;;::999888887777777778888899:::;<<=>>?@A=:7531/-,*)('&%$$#\"\"!!  \037\037\036\036\036\035\035\035\035\035\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\036\036\036\036\037\037  !!\"\"#$%%&')*+-.0257;?DKWxurpmkigecb`^]\\ZYXWVUTSRQQPOONNMMLLLKKKJJJJJJJJJJJJJJJJKKKLLLMMMNNOPPQQRSTTVWXYZ[\\]^_abcefgiklnpqsuwvqlhd`]ZWUSQOMKIHGEDCBA@?>>=<<;;:::9998888888888889999:::;;<<=>>?@AB>;86310.,+*)('&%$##\"\"!   \037\037\036\036\036\036\035\035\035\035\035\035\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\035\036\036\036\037\037\037  !!\"\"#$$%&'()*,-/1358<@ELXyvtqomjhfeca`^]\\ZYXWVUTSRRQPPOONNMMMLLLKKKKKKKKKKKKKKKLLLLMMMNNOOPPQQRSSTUUWXYZ[\\]^`abcefgijlnoqsuwywrmieb^[YVTRPNLJIGFEDCBA@?>>==<<;;:::99999999999999::::;;<<==>??@ABC?<96420/-,*)('&%%$##\"!!   \037\037\037\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\037\037\037  !!!\"##$%&&')*+,.02469<AFMZ{xuspnljhfdca`^]\\ZYXWVUTTSRRQPPOONNNMMMMLLLLLLLLLLLLLLMMMMNNNOOPPQQRRSTTUVWYZZ[\\]_`abcefgijlmoqsuwy{ytokgc`]ZWUSQOMKJHGFEDCBA@??>==<<;;;;:::::::::::::::;;;<<<==>??@ABCD@=:7531/.,+*)('&%$$#\"\"!!   \037\037\037\036\036\036\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\036\037\037\037  !!!\"##$%%&'()*,-/0247:=AGN[}zwtrpmkigfdba_^]\\ZYXWVVUTSSRQQPPOOONNNNMMMMMMMMMMMMMMNNNNOOOPPQQRRSSTUUVWXZ[\\]^_`abcefgijlmoqrtvxz|{uplhda^[XVTRPNLKIHGFEDCBA@??>>==<<<;;;;;:::::::;;;;;<<<==>>?@@ABCDEA>;86420.-,*)('&&%$$#\"\"!!   \037\037\037\037\036\036\036\036\036\036\036\036\035\035\035\035\035\035\036\036\036\036\036\036\036\036\037\037\037\037  !!!\"\"#$$%&'()*+,./1358;>BHO\\~{xvsqomkigedba_^]\\[ZYXWVUTTSRRQQQPPOOOONNNNNNNNNNNNNNOOOOPPPQQRRSSTUUVWWXY[\\]^_`abcefgijlmoprtvxz|~|wrmifb_\\ZWUSQOMLJIHGEDDCBA@@?>>>==<<<<;;;;;;;;;;;<<<<==>>??@@ABCDEFB>;96421/-,+*)('&%%$##\"\"!!!   \037\037\037\037\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037   !!!\"\"##$%%&'()*+-.02468;?CIP]\200}zwurpnljhgecba_^]\\[ZYXWVVUTTSRRRQQPPPPOOOOOOOOOOOOOPPPPPQQRRRSSTTUVVWXYYZ\\]^_`abdefgijlmoprtuwy{}\200~xsokgd`^[XVTRPNMKJIHFEDCCBA@@??>>>===<<<<<<<<<<<<<===>>>??@AABCDDEGC?<975310.-+*)(''&%$$##\"\"!!!   \037\037\037\037\037\037\036\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037\037\037   !!!\"\"##$%%&'()*+,-/02479<@DJQ^\202~|yvtrpmljhfecba_^]\\[ZYXWWVUUTTSSRRRQQQPPPPPPPPPPPPPQQQQRRRSSSTTUVVWWXYZ[[]^_`acdefgijkmnprsuwy{}\177\201\177zuplheb_\\ZWUSQONLKJHGFEDDCBAA@@??>>>===============>>>??@@AABCDDEFGC@=:86420/-,+*)('&&%$$##\"\"!!!    \037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037    !!!\"\"##$$%&&'()*+-./1357:=AEJR`\203\200}zxusqomkihfecba_^]\\[ZYYXWVVUUTTSSSRRRRQQQQQQQQQQQQRRRRSSSTTUUVVWWXYYZ[\\]_`abcdefgijkmnpqsuwxz|~\201\203\201{vrmjfc`][XVTRPOMLKIHGFEDDCBBA@@???>>>>>>=====>>>>>>??@@@ABBCDDEFGHDA>;86421/.-+*)(('&%%$$##\"\"!!!!     \037\037\037\037\037\037\037\037\037\037\037\037\037\037     !!!!\"\"##$$%&&'()*+,-.02468;>AFKSa\205\202\177|ywurpnlkigfdcba_^]\\[ZZYXWWVVUUTTTSSSSRRRRRRRRRRRRSSSSTTTUUVVWWXXYZZ[\\]^`abcdefgijkmnpqsuvxz|~\200\202\204\203}xsokgda^\\YWUSQPNMLJIHGFEDDCBBAA@@@????>>>>>>>>>????@@@AABBCDEEFGHIEB><975310.-,+*)(''&%%$$##\"\"\"!!!       \037\037\037\037\037\037\037\037       !!!\"\"\"##$$%%&''()*+,./12469;>BGLTb\207\203\200~{xvtrpnljigfdcba_^]\\\\[ZYYXWWVVUUUTTTTSSSSSSSSSSSSTTTTUUUVVWWXXYZZ[\\\\]^_abcdefgijkmnpqstvxz{}\177\202\204\206\204~yuplieb`][XVTRQONLKJIHGFEEDCCBBAA@@@@???????????@@@@AABBCCDEEFGHIJFB?<:86420/.-+*))('&&%%$$##\"\"\"!!!!                  !!!!\"\"\"##$$%%&&'()*+,-.013579<?CHMUc\210\205\202\177|zxusqomljhgfdcba`_^]\\[ZZYXXWWVVVUUUUTTTTTTTTTTTUUUUUVVVWWXXYYZ[[\\]^^_`bcdefhijkmnoqrtvwy{}\177\201\203\205\210\206\200{vrnjgda^\\YWUTRPOMLKJIHGFEEDCCBBAAAA@@@@@@@@@@@@@AAABBBCCDEEFGHIJKGC@=;864310.-,+*)(('&&%$$$##\"\"\"\"!!!!!            !!!!!\"\"\"\"##$$%%&&'(()*+,./02458:=@DHNVd\212\207\204\201~{ywurqomkjhgedcba`_^]\\[[ZZYXXXWWVVVVVUUUUUUUUUUVVVVVWWXXXYYZZ[\\\\]^__`acdefhijkmnoqrtuwy{}~\201\203\205\207\211\210\202|wsokheb_]ZXVUSQPNMLKJIHGFEEDDCCBBBAAAAAA@@@AAAAAABBBCCDDEFFGHIJKLHDA>;975320/.-++*)(''&%%$$$##\"\"\"\"!!!!!!!!!!!!!!!!!!!!\"\"\"###$$$%&&''()*+,-./12468;>AEIOWf\214\210\205\202\200}zxvtrpnmkihgedcba`_^]]\\[[ZZYYXXWWWWWVVVVVVVVVVWWWWXXXYYYZZ[\\\\]^^_`abbefghijkmnoqrtuwyz|~\200\202\204\206\211\213\211\203~ytpmifc`^\\YWVTRQONMLKJIHGFFEDDCCCBBBBAAAAAAAABBBBBCCDDEEFFGHIJKLMIEB?<:86421/.-,+*)(('&&%%$$$###\"\"\"\"\"!!!!!!!!!!!!!!\"\"\"\"\"###$$$%%&''())*+,-/013579;>BEJPXg\215\212\207\204\201~|zwusqpnlkihgedcba`_^^]\\\\[[ZZYYYXXXXWWWWWWWWWWXXXXYYYZZ[[\\\\]]^__`abcdfghijkmnoqrsuwxz|~\200\202\204\206\210\212\215\213\205\177zvrnjgda_]ZXWUSRPONMKJJIHGFFEEDDCCCCBBBBBBBBBBBCCCDDDEEFGGHIJKLMNIFB?=:864310/.-,+*)(('&&%%$$$###\"\"\"\"\"\"\"!!!!!!!!\"\"\"\"\"\"####$$$%%&&'(()*+,-./12457:<?BFKQYh\217\214\210\205\203\200}{ywusqonljihgedcba``_^]]\\\\[[ZZZYYYYXXXXXXXXXYYYYYZZZ[[\\\\]]^^_`aabcdeghijkmnoprsuvxz{}\177\201\203\205\207\212\214\216\214\206\201|wsolhec`^\\YXVTSQPOMLKJJIHGGFFEEDDDCCCCCCCCCCCCCDDDEEFFGGHIJJKLNOJFC@=;975321/.-,+*))(''&&%%$$$####\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"####$$$%%&&''()**+,-.013468:=@CGLRZi\221\215\212\207\204\201\177|zxvtrpomljihgedcbba`_^^]]\\\\[[[ZZZZZYYYYYYYYZZZZZ[[[\\\\]]^^__`abbcdefhijkmnoprsuvxy{}\177\201\202\205\207\211\213\216\220\216\210\202}xtpmjgda_]ZYWUTRQONMLKJJIHGGFFEEEDDDDDDDDDDDDDDDEEFFFGHHIJJKLMNPKGDA><:864310/.-,+*)((''&&%%$$$$#####\"\"\"\"\"\"\"\"\"\"\"\"#####$$$%%%&&''())*+,-./023579;>ADHMS\\k\222\217\214\211\206\203\200~|ywutrpnmljihgfedcba``_^^]]\\\\\\[[[[[ZZZZZZZZ[[[[[\\\\\\]]^^__`aabcddefgijkmnoprstvwy{|~\200\202\204\206\210\212\215\217\222\220\211\204\177zvrnkheb`^\\ZXVUSRPONMLKJJIHHGGFFFEEEEDDDDDDDEEEEFFFGGHHIJJKLMNOQLHEB?<:865320/.-,+**)((''&&%%%$$$####################$$$%%%&&''(()*++,-.0124579<>AEINT]l\224\220\215\212\207\204\202\177}{ywusqpnmkjihgfedcbaa`__^^]]]\\\\\\\\\\[[[[[[[[\\\\\\\\\\]]]^^__``abbcdeffghklmnoprstvwyz|~\200\202\203\205\210\212\214\216\221\223\221\213\205\200{wsolifca_][YWUTSQPONMLKJJIIHGGGFFFFEEEEEEEEEFFFFGGHHIIJKKLMNOPQMIEB@=;9754210/.-,+*))((''&&%%%$$$$$##############$$$$$%%%&&''(()**+,-./013468:<?BEJOU^m\226\222\217\214\211\206\203\201~|zxvtsqonmkjihgfedcbbaa`___^^]]]]]\\\\\\\\\\\\\\]]]]]^^^___``abbcddefghiilmnoprstvwyz|~\177\201\203\205\207\211\213\216\220\222\225\223\214\207\201}xtqmjgeb`^\\ZXVUTRQPONMLKKJIIHHGGGGFFFFFFFFFFFGGGGHHIIJKKLMNOPQRNJFC@>;9864310/.-,++*))('''&&%%%%$$$$$$########$$$$$$%%%%&&''(())*+,,-./123579;=@CFJOV_n\227\224\220\215\212\207\205\202\200~{ywvtrqonmkjihgfeddcbba```___^^^^^]]]]]]^^^^^___```aabccdeefghijkmnoprstuwxz|}\177\201\203\204\206\210\213\215\217\221\224\227\224\216\210\203~zvrnkhfca_][YWVTSRQPONMLKKJJIIHHHGGGGGGGGGGGGGHHHIIJJKKLMNOPQRSOKGDA><:8653210/.-,+**)(('''&&%%%%$$$$$$$$$$$$$$$$$$%%%&&&'''())**+,-./0134679;>@CGKPW`o\231\225\222\217\214\211\206\204\201\177}{ywutrponlkjihgfeedccbbaa```_____^^^^^^_____```aabbccddeffghijklnoprstuwxz{}\177\200\202\204\206\210\212\214\216\221\223\226\230\226\220\212\204\177{wspligdb`^\\ZXWUTSRQPONMLLKJJIIIHHHHHGGGGGHHHHHIIIJJKLLMNOPQRSTOKHEB?=;9754310/.-,,+**)(('''&&&%%%%%$$$$$$$$$$$$%%%%%&&&'''(()**+,--./123568:<>ADHLQXaq\233\227\224\220\215\212\210\205\203\200~|zxvusrponlkjihggfeddccbbaaa``````____``````aaabbccddeefghhijklmoprstuwxz{}~\200\202\203\205\207\211\213\216\220\222\225\227\232\230\221\213\206\201|xtqnkheca_][YXVUTSQPOONMLLKKJJIIIIHHHHHHHHHIIIIJJKKLLMNOPQRSTUPLIEB@=;98653210/.-,++*))(('''&&&&%%%%%%%%%%%%%%%%%%&&&&'''(())*++,-./0124578:=?BEIMRYbr\234\231\225\222\217\214\211\207\204\202\177}{zxvtsqponlkjiihgfeeddccbbbaaaaaa````aaaaaabbbccddeefgghijjklmnprstuwxy{|~\200\201\203\205\207\211\213\215\217\221\224\226\231\233\231\223\215\207\202~yvrolifdb`^\\ZYWVUSRQPOONMMLKKKJJJIIIIIIIIIIIJJJKKLLMMNOPPQRTUVQMIFCA><:8754210/.--,+**))(('''&&&&&%%%%%%%%%%%%%%&&&&&'''(())**+,--./0234679;=@CFINSZcs\236\232\227\223\220\215\213\210\205\203\201\177}{ywvtsqponmlkjihggfeeddcccbbbbbbbbbbbbbbbbcccddeeffghhijkllmnorstuvxy{|~\177\201\203\204\206\210\212\214\216\221\223\225\230\232\235\233\224\216\211\203\177{wspmjgeca_][ZXWUTSRQPOONMMLLKKKJJJJJJJJJJJJJKKKLLMMNOPPQRSTVWRNJGDA?=;97643210/.-,,+**))((''''&&&&&%%%%%%%%%%&&&&&'''((())**+,,-./0123568:<>@CFJOT[dt \234\230\225\222\217\214\211\207\204\202\200~|zywutsqponmlkjihhgffeedddccccccccccccccccdddeeffgghiijklmnopqstuvxyz|}\177\201\202\204\206\210\212\214\216\220\222\224\227\231\234\237\235\226\220\212\205\200|xtqnkifdb`^\\[YXVUTSRQPPONNMMLLKKKKKKKKKKKKKKLLLMMNNOPPQRSTUVXSOKHEB?=;98653210/.--,++**))(((''''&&&&&&&&&&&&&&&&''''((())**++,-../0134578:<?ADGKOU\\ev¡\235\232\227\223\220\216\213\210\206\204\201\177}|zxwutrqponmlkjiihggffeeedddddddddddddddeeefffgghiijkklmnopqrtuvxyz|}\177\200\202\204\205\207\211\213\215\217\221\224\226\230\233\236 \236\227\221\213\206\202}yvroljgeca_][ZYWVUTSRQPPONNMMMLLLLKKKKKKKLLLLMMMNNOPPQRSTUVWYTOLHEC@><:87543210/.-,,++**))((('''''&&&&&&&&&&&&'''''((())**++,--./01234679;=?BEHLPV\\fw£\237\233\230\225\222\217\214\212\207\205\203\201\177}{yxvutrqponmlkkjiihgggfffeeeeeeeeeeeeeefffggghhijjkllmnopqrsuvxyz|}~\200\202\203\205\207\211\212\214\217\221\223\225\230\232\235\237¢ \231\223\215\210\203~zwspmkhfdb`^\\[YXWVUTSRQPPOONNMMMMLLLLLLLLLMMMMNNOOPQQRSTUVWXZUPLIFCA?<;97653210/..-,,+***))(((('''''''&&&&'''''''(((())**++,,-.//0124568:;>@BEILQV]gx¥¡\235\232\226\223\220\216\213\211\206\204\202\200~|{yxvusrqponmllkjjihhhgggffffffffffffffggghhhiijkklmnnopqrstvxyz{}~\200\201\203\205\206\210\212\214\216\220\222\224\227\231\234\236¡¤¡\232\224\216\211\204\200|xuqnligeca_]\\ZYXWVUTSRQQPOOONNNMMMMMMMMMMMNNNOOPPQQRSTUVWXY[VQMJGDA?=;986543210/.--,++***))(((((''''''''''''''((((())***+,,--./01234679:<>ACFIMRW^hy¦¢\237\233\230\225\222\217\215\212\210\205\203\201\177~|zywvusrqponmmlkkjjiihhhgggggggggggggghhhiijjkkllmnoopqrstuxyz{}~\200\201\203\204\206\210\211\213\215\217\221\224\226\230\233\235 ¢¥£\234\225\220\212\205\201}yvspmjhfdb`^][ZYXVUUTSRQQPPOOONNNNNNNNNNNNNOOOPPQRRSTUVWXYZ[VRNKGEB@><:87643210//.-,,++***)))(((((''''''''''((((()))***++,--.//01235679;=?ADGJNSX_iz¨¤ \235\231\226\223\221\216\213\211\207\205\203\201\177}|zywvusrqpoonmllkkjjiiihhhhhhhhhhhhhhiiijjkkllmmnopqqrstuvyz{}~\177\201\202\204\206\207\211\213\215\217\221\223\225\227\232\234\237¡¤§¥\235\227\221\214\207\202~zwtqnkigeca_^\\[ZXWVUTTSRRQQPPOOOOONNNNNOOOOOPPQQRRSTUUVWYZ[\\WSOKHEC@><;986543210/..-,,++***))))(((((((((((((((())))***++,,-../01234578:;=?BDGKOSY`j|ª¦¢\236\233\230\225\222\217\215\212\210\206\204\202\200~}{zxwvusrqqponmmllkkjjjiiiiiiiiiiiiiijjjkkllmmnoopqrsstuwxz{|~\177\201\202\204\205\207\211\212\214\216\220\222\224\227\231\233\236 £¦©¦\237\230\222\215\210\204\177|xuroljhfdb`_]\\ZYXWVUUTSRRQQQPPPOOOOOOOOOPPPQQQRSSTUUVWXY[\\]XTPLIFCA?=;:87543210//.--,,++***)))))(((((((((((()))))***++,,--./001235679:<>@BEHLPTZak}«§£ \234\231\226\223\221\216\214\211\207\205\203\201\200~|{yxwvutsrqpoonmmllkkkjjjjjjjjjjjjjkkkkllmmnnoppqrstuvwxy{|~\177\200\202\203\205\206\210\212\214\216\220\222\224\226\230\232\235\237¢¥§ª¨¡\232\224\216\211\205\201}yvspmkigeca`^][ZYXWVUUTSSRRQQQPPPPPPPPPPPQQQRRSSTUUVWXYZ[]^YTPMJGDB@><:976543210/..--,,++****))))))(((((())))))****++,,--.//012345689;=?ACFILPU[bl~­©¥¡\236\233\230\225\222\220\215\213\211\207\205\203\201\177~|{yxwvutsrqpponnmmlllkkkkkkkkkkkkkllllmmnnoopqqrstuvwxyz|~\177\200\202\203\205\206\210\211\213\215\217\221\223\225\227\231\234\236¡£¦©¬ª¢\233\225\220\213\206\202~zwtqoljhfdb`_^\\[ZYXWVUUTSSSRRQQQQQQQQQQQQQRRSSTTUUVWXYZ[\\^_ZUQMJGEB@><;9865432100/..--,,+++****))))))))))))))****+++,,--../011234678:;=?ADFJMQV\\cm\177¯ª§£ \234\231\226\224\221\216\214\212\210\206\204\202\200\177}|{yxwvutsrqqpoonnmmmmllllllllllllmmmnnnoopqqrsstuvwxyz{~\177\200\201\203\204\206\207\211\213\215\216\220\222\224\226\231\233\235 ¢¥¨«®«¤\235\227\221\214\207\203\177|xurpmkigeca`^]\\[ZYXWVVUTTSSSRRRRRRRRRRRRRSSSTTUVVWXYZ[\\]_`[VRNKHECA?=;:876543210//..--,,+++*****))))))))))*****+++,,--..//012345679:<>@BDGJNRW]dn\200°¬¨¥¡\236\233\230\225\222\220\215\213\211\207\205\203\202\200\177}|zyxwvutsrrqppooonnnmmmmmmmmmmmmnnnoooppqrrsttuvwxyz{|\177\200\201\203\204\206\207\211\212\214\216\220\222\224\226\230\232\234\237¡¤§©¬¯­¥\236\230\223\215\211\204\200}yvsqnljhfdba_^]\\[ZYXWVVUUTTSSSSRRRRRRRSSSSTTUUVVWXYZ[\\]^_a\\WSOLIFDA?><:9865432110//.--,,,++++****************++++,,---.//0112345789;<>@CEHKOSX^eo\202²®ª¦£\237\234\231\226\224\221\217\215\212\210\206\205\203\201\200~}|zyxwvuttsrrqpppooonnnnnnnnnnnnooopppqqrsstuvvwxyz{|~\200\201\203\204\205\207\210\212\214\215\217\221\223\225\227\231\234\236 £¥¨«®±®§ \232\224\217\212\206\202~{wtromkigecb`_^\\[ZYYXWVVUUTTTTSSSSSSSSSTTTUUUVWWXYZZ\\]^_`b\\XSPLIGDB@><;98765432100/..--,,,+++++************+++++,,---../0012345678:;=?ACFILOSX^fp\203´¯«¨¤¡\236\233\230\225\223\220\216\214\212\210\206\204\202\201\177~}{zyxwvuutssrrqqpppoooooooooooopppqqrrssttuvwxxyz{|~\177\201\202\204\205\207\210\212\213\215\217\221\222\224\226\231\233\235\237¢¤§ª¬¯²°¨¡\233\225\220\213\207\203\177|xvspnljhfdca`_]\\[ZYYXWWVVUUUTTTTTTTTTTTUUUVVWWXYZZ[\\]_`ac]XTPMJGECA?=;:9765432110//..---,,,++++++******++++++,,,---..//0122345689:<>@BDFILPTY_gq\204µ±­©¦¢\237\234\231\226\224\221\217\215\213\211\207\205\204\202\201\177~}{zyxwwvuttssrrqqqpppppppppppqqqqrrssttuuvwxyzz{|~\177\200\202\204\205\206\210\211\213\215\216\220\222\224\226\230\232\234\236¡£¦¨«®±´²ª£\234\227\221\215\210\204\200}zwtqomkigecba_^]\\[ZYYXWWVVVUUUUUUUUUUUUUVVWWXXYZZ[\\]^_abd^YUQNKHFCA?><:98765432100//..---,,,,++++++++++++++,,,,---..//01123456789;<>@BDGJMQUZ`hs\205·³¯«§¤¡\236\233\230\225\223\221\216\214\212\210\207\205\203\202\200\177~}{zyxxwvuuttssrrrqqqqqqqqqqqrrrrssttuuvwwxyz{|}~\177\200\201\203\205\206\210\211\213\214\216\220\221\223\225\227\231\233\236 ¢¥§ª­°³¶³«¤\236\230\223\216\211\205\201~{xurpnkjhfdcb`_^]\\[ZZYXXWWVVVVVUUUUUVVVVWWWXXYZZ[\\]^_`bce_ZVROKIFDB@><;:87654322100//..---,,,,,++++++++++,,,,,---..//00122345679:;=?ACEHKNRV[ait\207¹´°¬©¥¢\237\234\231\227\224\222\220\215\213\212\210\206\204\203\202\200\177~}|{zyxwvvuuttssssrrrrrrrrrrssssttuuvvwxxyz{|}~\177\200\201\202\205\206\207\211\212\214\215\217\221\223\225\226\230\233\235\237¡¤¦©¬®±´·µ­¦\237\231\224\217\213\206\203\177|yvsqoljigedba`_^]\\[ZZYYXXWWWVVVVVVVVVWWWXXYYZZ[\\]^_`acde`[WSOLIGDB@?=<:987654321100//..----,,,,,,,,,,,,,,,,----..//001123456789;<>?ACFHKORW\\bju\210º¶²®ª§£ \235\233\230\226\223\221\217\215\213\211\207\206\204\203\201\200\177~}|{zyxxwvvuuttttssssssssssttttuuvvwwxyyz{|}~\177\200\201\202\203\206\207\211\212\214\215\217\220\222\224\226\230\232\234\236 £¥¨ª­°³¶¹¶¯§¡\233\225\220\214\210\204\200}zwtrpmkjhfecba`_^]\\[[ZYYXXXWWWWWWWWWWWXXXYYZ[[\\]^_`abcefa\\WSPMJGECA?><;987654332110///..-----,,,,,,,,,,,,-----..//001123345678:;=>@BDFILOSW]ckv\211¼·³¯¬¨¥¢\237\234\231\227\224\222\220\216\214\212\211\207\205\204\203\201\200\177~}|{zyyxwwvvuuuuttttttttttuuuvvvwwxxyz{{|}~\177\200\201\202\203\205\207\210\212\213\215\216\220\222\223\225\227\231\233\235 ¢¤§©¬¯±´·»¸°©¢\234\227\222\215\211\205\201~{xusqnlkigfdcba_^^]\\[[ZZYYXXXXXXXXXXXXYYYZZ[[\\]^_`abcdfgb]XTQNKHFDB@>=;:986654322100///...------,,,,,,------...///001223456789:<=?@BEGJMPTX]dlw\212¾¹µ±­ª¦£ \235\233\230\226\223\221\217\215\213\212\210\207\205\204\202\201\200\177~}|{zzyxxwwwvvvuuuuuuuuuuvvvwwwxxyzz{||}~\177\200\201\202\203\205\206\210\212\213\214\216\220\221\223\225\227\231\233\235\237¡£¦¨«­°³¶¹¼º²ª¤\236\230\223\216\212\206\203\177|yvtromkjhgedca`_^^]\\[[ZZZYYYYYXXXYYYYYZZZ[\\\\]^^_`acdeghb]YUQNKIFDB@?=<:9876543321100///....--------------....///0011234456789;<>?ACEHJMQTY^emx\213¿»·³¯«¨¥¢\237\234\232\227\225\223\221\217\215\213\211\210\206\205\203\202\201\200\177~}|{{zyyxxxwwwvvvvvvvvvwwwwxxxyyz{{|}~~\177\200\201\202\203\204\206\207\211\213\214\216\217\221\223\224\226\230\232\234\236 ¢¥§ª¬¯²µ¸»¾»³¬¥\237\231\224\220\213\207\204\200}zwuspnlkigfecba`_^^]\\\\[[ZZZZYYYYYYYZZZZ[[\\\\]^^_`abcefhic^ZVROLIGECA?><;:8766543221100///.....----------.....///0011233456789:;=>@BDFHKNQUZ_eny\215À¼¸´°­©¦£ \235\233\230\226\224\222\220\216\214\212\211\207\206\205\203\202\201\200\177~}}|{{zyyyxxxxwwwwwwwwxxxxyyzz{{||}~\177\177\200\201\202\203\204\206\207\210\213\214\215\217\221\222\224\226\227\231\233\235\237¢¤¦©«®°³¶¹¼À½µ­¦ \233\226\221\215\210\205\201~{xvtqomljhgedcba`_^^]]\\\\[[[ZZZZZZZZZ[[[\\\\]]^__`abcdfghjd_ZVSPMJHECA@>=;:98765443221100////................////00112234456789:<=?@BDFILORVZ`foz\216¿½º¶²®«¨¤¢\237\234\232\227\225\223\221\217\215\214\212\211\207\206\205\203\202\201\200\177~~}||{{zzyyyyxxxxxxxxyyyyzz{{||}}~\177\200\201\202\202\203\205\206\207\210\211\214\215\217\220\222\223\225\227\231\233\235\237¡£¥¨ª­¯²µ¸»¾¿¿¶¯¨¢\234\227\222\216\212\206\202\177|zwurpnlkihfedcba`__^]]\\\\\\[[[[[[[[[[[\\\\\\]]^__`abcdefhike`[WTPMKHFDB@?=<;9876654332211000////............////000112233456789:;<>?ACEGILOSW[ago{\217½¼»·³°¬©¦£ \236\233\231\226\224\222\220\217\215\213\212\210\207\206\204\203\202\201\200\177\177~}}||{{zzzzyyyyyyyyzzzz{{||}}~\177\177\200\201\202\203\204\205\206\207\210\211\212\215\216\220\221\223\225\226\230\232\234\236 ¢¤§©«®±³¶¹¼½½½¸°©£\235\230\223\217\213\207\204\200}{xvsqomljigfedcba`__^^]]\\\\\\\\\\\\\\\\\\\\\\\\\\]]^^__`abcdefgijlfa\\XTQNKIGECA?><;:9876544332211000/////......../////0001122334556789:;=>@ACEHJMPSW\\ahp|\220¼»¹¸µ±®ª§¤¢\237\234\232\230\226\224\222\220\216\214\213\211\210\207\206\204\203\202\201\201\200\177~~}}||{{{{zzzzzzzz{{{{||}}~~\177\200\200\201\202\203\204\205\206\207\210\211\212\214\216\220\221\223\224\226\230\231\233\235\237¡£¦¨ª­¯²µ¸»»»»»¹²«¤\237\231\225\220\214\210\205\201~|ywtrpnmkihgfeccba`__^^^]]]]\\\\\\\\\\]]]]^^^_``abcdefghjkmga]YUROLIGECA@>=<:987765443221110000//////////////00001122234456789:;<=?@BDFHKNQTX]biq}\222º¹¸·¶³¯¬©¦£ \236\233\231\227\225\223\221\217\216\214\213\211\210\207\206\204\203\203\202\201\200\177\177~~}}||||{{{{{{{|||||}}~~\177\177\200\201\201\202\203\204\205\206\207\210\211\212\214\215\217\221\222\224\225\227\231\233\235\237¡£¥§©¬®±´¶¹º¹¹¹¹¹³¬¦ \233\226\221\215\211\206\203\177}zxusqomljihfedcbba``__^^^]]]]]]]]]^^^__``abccdeghiklnhb^YVROMJHFDB@?=<;:9876554332211100000//////////0000011122334556789:;<>?ACDGIKNQUY^cjr~\223¹¸¶µ´³±­ª§¤¢\237\235\232\230\226\224\222\220\217\215\214\212\211\210\207\206\205\204\203\202\201\200\200\177\177~~}}}}}||||||}}}}~~~\177\177\200\200\201\202\202\203\204\205\206\207\210\211\212\213\215\216\221\222\224\225\227\230\232\234\236 ¢¤¦¨«­°²µ¸¸······µ®§¡\234\227\223\216\212\207\204\201~{yvtrpnmkjigfedcbba``___^^^^^^^^^^^__``aabccdefgijkmohc^ZVSPMKHFDCA?>=;:987765443322111100000000000000001112223345567889;<=>@ACEGILORVZ^dks\177\224¸¶µ´³²±¯¬©¦£ \236\234\231\227\225\223\222\220\216\215\214\212\211\210\207\206\205\204\203\202\202\201\200\200\177\177\177~~~~}}}}}}~~~~\177\177\177\200\200\201\201\202\203\204\204\205\206\207\210\211\212\213\215\216\217\222\223\225\226\230\232\233\235\237¡£¥¨ª¬¯±´·¶¶µµµµµµµ¯©£\235\230\224\220\214\210\205\202\177|ywusqonlkihgfedccbaa```___________```aabccdefghjklnoid_[WTQNKIGECA@>=<;:9876654433222111100000000000011112223344566789:;<=?@BDFHJMOSVZ_elt\200\225¶µ´²±±°¯­ª§¤¢\237\235\233\231\227\225\223\221\220\216\215\213\212\211\210\207\206\205\204\203\203\202\201\201\200\200\200\177\177\177\177~~~~~\177\177\177\177\177\200\200\200\201\201\202\203\203\204\205\205\206\207\210\211\212\213\215\216\217\220\223\224\226\230\231\233\235\237 ¢¥§©«®°³µµ´³³³³³³³³°ª¤\237\232\225\221\215\211\206\203\200}zxvtrpomljihgfedccbbaa````_____````aabbccdefghijlmopje`\\XTQNLJGEDB@?><;:9887655443322211111000000001111122233445567889:<=>?ABDFHKMPSW[`flu\201\226µ³²±°¯®®­«¨¦£ \236\234\232\230\226\224\222\221\217\216\214\213\212\211\210\207\206\205\204\204\203\202\202\201\201\201\200\200\200\200\200\177\177\177\177\200\200\200\200\200\201\201\201\202\202\203\204\204\205\206\207\207\210\211\212\213\214\216\217\220\222\224\226\227\231\232\234\236 ¢¤¦¨ª­¯±´³²²±±±±±±±±±«¥ \233\226\222\216\212\207\204\201~{ywusqonlkjihgfedccbbaaaa```````aaaabbcddefghijkmnpqkfa\\XUROMJHFDBA?>=<;:98766554433222211111111111111222233445567789:;<=>@ACEGIKNQTX\\afmv\202\230³²±°¯®­¬¬¬ª§¤¢\237\235\233\231\227\225\224\222\220\217\216\214\213\212\211\210\207\206\205\205\204\203\203\202\202\202\201\201\201\201\201\200\200\200\200\201\201\201\201\201\202\202\203\203\203\204\205\205\206\207\210\210\211\212\213\214\216\217\220\221\223\225\227\230\232\234\235\237¡£¥§©¬®°³²±°°¯¯¯¯¯¯¯¯¯­§¡\234\227\223\217\213\210\205\202\177|zxvtrpomlkjhggfeddccbbbaaaaaaaaabbbccddefghijklmoqrlfa]YVSPMKIGECA@?=<;:98876654443322222111111111122222334445667899:;<>?@BDEGILNQUX]agnw\203\231²°¯®­¬¬««ªª¨¦£¡\236\234\232\230\226\225\223\222\220\217\215\214\213\212\211\210\207\207\206\205\205\204\203\203\203\202\202\202\202\202\202\201\201\202\202\202\202\202\202\203\203\204\204\205\205\206\206\207\210\211\212\213\214\215\216\217\220\221\223\224\227\230\232\233\235\237 ¢¤¦©«­¯±°°¯®®­­­­­­­­­®¨¢\235\231\224\220\214\211\206\203\200}{ywusqpnmljihggfeddcccbbbbbbbbbbbcccdeefgghiklmnpqsmgb^ZVSPNKIGEDBA?>=<;:987765544433322222222222222223334445567789:;<=>?ABDFHJLORUY]bhox\204\232°¯®­¬«ªª©©¨¨§¤¢ \235\233\232\230\226\224\223\221\220\217\215\214\213\212\211\210\210\207\206\206\205\205\204\204\203\203\203\203\203\203\203\203\203\203\203\203\203\203\204\204\205\205\206\206\207\207\210\211\212\213\214\215\216\217\220\221\222\224\225").append("\230\231\233\234\236 ¢¤¦¨ª¬®°¯®­­¬¬«««««««««¬©¤\237\232\225\221\216\212\207\204\201~|zxvtrqonlkjihggfeeddcccccccccccccddeefgghijkmnoqrtnhc_[WTQNLJHFDCA@>=<;:998766554443332222222222222233344455667899:;<=?@ACEFHKMPSVZ^cipy\205\233¯­¬«ªª©¨¨§§§§¦£¡\237\235\233\231\227\225\224\222\221\220\216\215\214\213\212\211\211\210\207\207\206\206\205\205\204\204\204\204\204\204\204\204\204\204\204\204\204\205\205\205\206\206\207\207\210\211\211\212\213\214\215\216\217\220\221\222\224\225\226\231\232\234\236\237¡£¥§©«­¯®­¬«ªª©©©©©©©©©©ªª¥ \233\227\222\217\213\210\205\202\177}{ywusqpomlkjihggfeeedddcccccccdddeeffgghijklmoprsunid_[XUROMJHFECB@?>=<;:9887665544433333222222223333344455667889:;<=>?@BCEGIKNPSWZ_djqz\206\234­¬«ª©¨§§¦¦¦¥¥¥¥¢ \236\234\232\230\227\225\224\222\221\220\216\215\214\213\213\212\211\210\210\207\207\206\206\205\205\205\205\205\205\205\205\205\205\205\205\205\206\206\206\207\207\210\210\211\212\212\213\214\215\216\217\220\221\222\223\225\226\227\232\234\235\237¡¢¤¦¨ª­®­¬«ª©¨¨§§§§§§§§§§¨¨¦¡\234\230\224\220\214\211\206\203\200~|zxvtrqonmlkjihggffeeedddddddddeeeffghhijklmnpqrtvoje`\\XURPMKIGEDBA?>=<;:9987766554444333333333333334444556677899:;<=>@ABDFHJLNQTW[`ekr{\207\236¬«©¨¨§¦¥¥¥¤¤¤¤¤£¡\237\235\233\231\230\226\225\223\222\221\220\216\215\215\214\213\212\211\211\210\210\207\207\206\206\206\206\206\206\206\206\206\206\206\206\206\207\207\207\210\210\211\211\212\213\213\214\215\216\217\220\221\222\223\225\226\227\231\233\235\236 ¢¤¦¨ª¬­¬ª©¨¨§¦¦¥¥¥¥¥¥¥¥¥¥¦§§¢\235\231\225\221\215\212\207\204\201\177}zxwusrponmlkjihhggffeeeeeeeeeeeffgghhijklmnoprsuwpjea]YVSPNKIGFDCA@?>=<;:98877665544443333333333344444556677889:;<=>?@ACEFHJLORUX\\`eks|\210\237ª©¨§¦¥¥¤¤£££££££¢ \236\234\233\231\227\226\224\223\222\221\220\217\216\215\214\213\212\212\211\211\210\210\210\207\207\207\207\207\207\207\207\207\207\207\207\210\210\210\211\211\212\212\213\214\215\215\216\217\220\221\222\223\224\226\227\230\232\234\236 ¡£¥§©«¬«©¨§¦¦¥¤¤£££££££££¤¤¥¥£\237\232\226\222\216\213\210\205\202\200~{ywvtsqpomlkkjihhgggfffffffffffggghiijklmnopqstvxqkfb]ZWTQNLJHFECB@?>=<;::988766655544444433334444445556677889::;<=>?ABCEGIKMORUY]afls}\212 ©¨§¦¥¤££¢¢¡¡¡¡¡¡¢¢ \236\234\232\231\227\226\224\223\222\221\220\217\216\215\214\213\213\212\212\211\211\211\210\210\210\210\210\210\210\210\210\210\210\210\211\211\211\212\212\213\213\214\215\216\216\217\220\221\222\223\224\226\227\230\232\233\236\237¡£¤¦¨ª«ª¨§¦¥¤££¢¢¡¡¡¡¡¡¡¡¡¢¢£¤¤ \233\227\223\220\214\211\206\203\201\177|zxwusrqonmlkkjiihhggggfffffgggghhiijkllmnpqrtuwyrlgb^[WTQOMKIGEDBA@?=<<;:998776665554444444444444455566677899:;<=>?@ABDFGIKNPSVY]bgmt~\213¡¨¦¥¤£¢¢¡¡         ¡\237\235\233\232\230\227\225\224\223\222\221\220\217\216\215\215\214\213\213\212\212\212\211\211\211\211\211\211\211\211\211\211\211\211\212\212\212\213\213\214\215\215\216\217\217\220\221\222\223\224\226\227\230\231\233\234\237 ¢¤¦§©ª©§¦¥¤£¢¡¡  \237\237\237\237\237\237\237\237\237  ¡¢¢¡\234\230\224\221\215\212\207\204\202\177}{yxvtsrponmlkkjiihhhhggggggghhhiijjkklmnoprstvxysmhc_[XURPMKIGFDCA@?>=<;::9887766655555444444445555566677889::;<=>?@BCDFHJLNQTWZ^chnu\177\214£¦¥¤£¢¡  \237\237\237\236\236\236\236\237\237\237\237 \236\234\233\231\230\226\225\224\223\222\221\220\217\216\216\215\214\214\213\213\213\212\212\212\212\212\212\212\212\212\212\212\212\213\213\213\214\214\215\216\216\217\220\221\221\222\223\224\225\227\230\231\232\234\235 ¢£¥§©ª¨§¥¤£¢¡ \237\237\236\236\235\235\235\235\235\235\235\235\236\236\237\237 ¡¢\236\231\225\222\216\213\210\205\203\200~|zxwutrqponmlkkjjiiihhhhhhhhhiiijjkllmnopqstuwyztnhd`\\YUSPNLJHFECBA?>=<<;:9988776666555555555555556666778899:;<=>?@ABCEGHJLOQTW[_chov\200\215¤¥£¢¡  \237\236\236\236\235\235\235\235\235\235\235\236\236\237\237\236\234\232\231\230\226\225\224\223\222\221\220\217\217\216\215\215\214\214\214\213\213\213\213\213\213\213\213\213\213\213\213\214\214\215\215\215\216\217\217\220\221\222\223\223\224\226\227\230\231\232\234\235\236¡£¤¦¨©§¦¤£¢¡ \237\236\235\235\234\234\233\233\233\233\233\233\233\233\234\234\235\235\236\237 \237\232\226\223\217\214\211\206\204\201\177}{yxvusrqponmllkkjjiiiiiiiiiiijjkkllmnopqrsuvxy{tnie`]YVSQNLJHGEDBA@?>=<;;:99887766665555555555556667778899:;;<=>?@ACDFGIKMORUX[_diow\201\216¤£¢¡ \237\236\236\235\235\234\234\234\234\234\234\234\234\234\235\235\236\236\235\234\232\231\227\226\225\224\223\222\221\220\220\217\216\216\215\215\215\214\214\214\214\214\214\214\214\214\214\214\215\215\215\216\216\217\217\220\220\221\222\223\224\225\226\227\230\231\232\233\235\236 ¢¤¦§¨§¥£¢¡ \236\236\235\234\233\233\232\232\231\231\231\231\231\231\231\232\232\232\233\234\234\235\236\237\234\230\224\220\215\212\207\205\202\200~|zywutsrqponmllkkjjjjjiiijjjjjkkllmnopqrstvwyz|uojea]ZWTQOMKIGFDCB@?>==<;::998877766666655556666667778899::;<==>?ABCEFHIKNPSUY\\`ejpx\201\217£¢¡\237\236\236\235\234\234\233\233\233\232\232\232\232\232\233\233\233\234\234\235\236\235\233\232\231\227\226\225\224\223\222\222\221\220\220\217\217\216\216\215\215\215\215\215\215\215\215\215\215\215\216\216\216\217\217\220\220\221\221\222\223\224\225\226\227\230\231\232\233\235\236\237¡¤¥§¨¦¤£¡ \237\235\234\233\233\232\231\231\230\230\230\227\227\227\227\227\227\230\230\231\231\232\232\233\234\235\235\231\225\221\216\213\210\206\203\201\177}{yxvutrqpoonmmllkkkjjjjjjjkkkllmmnoppqstuvxz{}vpkfb^ZWURPMKIHFECBA@?>=<;;::9888777666666666666667778899::;;<=>?@ABDEGHJLNQSVY]aekqy\202\220¢ \237\236\235\234\233\233\232\232\231\231\231\231\231\231\231\231\231\232\232\233\234\234\235\234\233\232\230\227\226\225\224\223\223\222\221\221\220\220\217\217\217\216\216\216\216\216\216\216\216\216\216\217\217\217\220\220\221\221\222\223\223\224\225\226\227\230\231\232\233\234\236\237¡¢¥¦§¥¤¢ \237\236\234\233\232\231\231\230\227\227\226\226\226\225\225\225\225\225\226\226\226\227\227\230\231\232\232\233\235\232\226\222\217\214\211\207\204\202\200~|zywvtsrqpoonmmlllkkkkkkkkklllmmnoppqrsuvwyz|~wqlgb_[XUSPNLJHGEDCA@?>==<;;:9988877777666666667777788899:;;<=>>?@BCDFGIKMOQTWZ]bflrz\203\221 \237\236\235\234\233\232\231\231\230\230\230\230\227\227\227\230\230\230\230\231\231\232\233\234\235\234\233\232\230\227\226\225\224\224\223\222\222\221\221\220\220\220\217\217\217\217\217\217\217\217\217\217\220\220\220\221\221\222\222\223\224\224\225\226\227\230\231\232\233\234\236\237 ¢£¦§¥£¡ \236\235\233\232\231\230\227\227\226\225\225\224\224\224\224\224\224\224\224\224\224\225\225\226\226\227\230\231\232\233\233\227\224\220\215\212\210\205\203\201\177}{zxwutsrqpoonnmmlllllllllllmmnnoppqrstuwxz{}\177xrlgc_\\YVSQNLKIGFDCBA@?>=<<;::99888877777777777777888899::;<<=>?@ABCEFHIKMORTW[^bgls{\204\222\237\235\234\233\232\231\231\230\227\227\227\226\226\226\226\226\226\226\227\227\227\230\231\231\232\233\234\234\233\231\230\227\226\226\225\224\223\223\222\222\221\221\221\220\220\220\220\220\220\220\220\220\220\221\221\221\222\222\223\223\224\225\225\226\227\230\231\232\233\234\235\237 ¡£¤§¥£¡\237\235\234\233\231\230\227\226\225\225\224\223\223\222\222\222\222\222\222\222\222\222\222\223\223\224\224\225\226\227\230\231\232\230\225\221\216\213\211\206\204\202\200~|zywvutsrqpponnnmmmmmmmmmmmnnnoppqrstuvxy{|~\200ysmhd`\\YVTQOMKIHFECBA@?>==<;;::999888777777777777888999::;;<=>>?@ABDEGHJLNPRUX[_chmt{\205\223\235\234\233\232\231\230\227\227\226\226\225\225\225\225\225\225\225\225\225\226\226\227\227\230\231\232\233\234\234\233\231\230\227\227\226\225\224\224\223\223\222\222\222\221\221\221\221\221\221\221\221\221\221\222\222\222\223\223\224\224\225\226\226\227\230\231\232\233\234\235\237 ¡£¤¦¤¢ \236\235\233\232\230\227\226\225\224\223\223\222\221\221\221\220\220\220\220\220\220\220\220\221\221\221\222\223\223\224\225\226\227\231\231\226\222\217\214\212\207\205\203\201\177}{zxwvutsrqppoonnnnmmmmmnnnnooppqrstuvwxz{}\177\201zsniea]ZWTRPNLJHGEDCBA@?>=<<;;::9998888877777788888999::;;<<=>?@ABCDFGIJLNPSVY\\`dhnt|\206\224\234\233\231\230\227\227\226\225\225\224\224\224\223\223\223\223\223\224\224\224\225\225\226\227\227\230\231\233\234\234\233\232\231\230\227\226\225\225\224\224\223\223\223\222\222\222\222\222\222\222\222\222\222\223\223\223\224\224\225\225\226\227\230\230\231\232\233\234\235\236 ¡¢¤¥¦¢ \236\234\232\231\230\226\225\224\223\222\221\221\220\217\217\217\216\216\216\216\216\216\216\216\217\217\220\220\221\222\223\223\225\226\227\230\227\223\220\215\213\210\206\204\201\200~|{yxwvttsrqqppooonnnnnnnoooppqqrstuvwxy{|~\200\202{tojea^[XURPNLJIGFDCBA@?>>=<<;;::99988888888888888999::;;<<=>>?@ABCEFHIKMOQSVY\\`diou}\207\225\232\231\230\227\226\225\224\224\223\223\222\222\222\222\222\222\222\222\222\223\223\224\224\225\226\227\230\231\232\234\234\233\232\231\230\227\226\226\225\225\224\224\224\223\223\223\223\223\223\223\223\223\224\224\224\224\225\225\226\226\227\230\231\231\232\233\234\235\236 ¡¢£¥¦¤\237\235\234\232\230\227\225\224\223\222\221\220\217\217\216\216\215\215\215\214\214\214\214\214\214\215\215\215\216\217\217\220\221\222\223\224\225\227\230\224\221\216\214\211\207\204\202\200\177}{zywvutssrqqpppooooooooopppqqrsttuvxyz|}\177\201\203{uojfb^[XUSQOMKIHFEDCBA@?>==<;;;::999988888888889999::;;<<==>?@ABCDEGHJKMORTWZ]aejov~\210\226\231\230\227\225\225\224\223\222\222\221\221\221\221\221\221\221\221\221\221\221\222\222\223\224\225\226\227\230\231\232\234\234\233\232\231\230\230\227\226\226\225\225\225\224\224\224\224\224\224\224\224\224\225\225\225\225\226\226\227\230\230\231\232\233\233\234\235\236 ¡¢£¥¦¤¢\235\233\231\230\226\225\223\222\221\220\217\216\215\215\214\214\213\213\213\213\212\212\212\213\213\213\213\214\214\215\215\216\217\220\221\222\223\225\226\225\222\217\215\212\210\205\203\201\200~|{zxwvutssrrqqpppppppppppqqrrsttuvwxz{|~\200\202\203|vpkgc_\\YVTQOMKJHGEDCBA@?>>=<<;;;:::99999999999999:::;;;<<=>??@ABCDFGIJLNPRUWZ^bfkpw\177\211\227\227\226\225\224\223\222\222\221\220\220\220\217\217\217\217\217\217\217\220\220\221\221\222\222\223\224\225\226\230\231\232\234\234\233\232\231\231\230\227\227\226\226\226\226\225\225\225\225\225\225\225\225\226\226\226\227\227\227\230\231\231\232\233\234\234\235\236\237¡¢£¤¦¤¡\237\233\231\227\225\224\222\221\220\217\216\215\214\213\213\212\212\211\211\211\211\211\211\211\211\211\211\212\212\212\213\214\215\215\216\217\221\222\223\225\226\223\220\216\213\211\206\204\202\200\177}|zyxwvuttsrrqqqqqpppqqqqrrrsttuvwxy{|}\177\201\202\204}wqlgc`\\YWTRPNLJIGFEDBAA@?>==<<;;;:::999999999999:::;;;<<=>>?@ABCDEFHIKLNPSUX[^bfkqx\200\212\227\226\225\224\223\222\221\220\220\217\217\216\216\216\216\216\216\216\216\216\217\217\220\220\221\222\223\224\225\226\227\231\232\234\234\233\232\232\231\230\230\227\227\227\227\226\226\226\226\226\226\226\226\227\227\227\230\230\231\231\232\232\233\234\235\236\237 ¡¢£¤¦¤¡\237\235\230\227\225\223\222\220\217\216\215\214\213\212\212\211\210\210\210\207\207\207\207\207\207\207\207\207\210\210\211\211\212\213\214\215\216\217\220\221\223\225\224\221\217\214\211\207\205\203\201\200~}{zyxwvuttssrrrqqqqqqqrrrssttuvwxyz{}~\200\201\203\205~wrmhd`]ZWURPNLKIHFEDCBA@??>==<<;;;:::::999999:::::;;;<<==>??@ABCDEGHJKMOQSVY\\_cglry\201\213\226\225\223\222\221\220\220\217\216\216\215\215\215\215\214\214\214\215\215\215\215\216\216\217\220\220\221\222\223\225\226\227\231\233\234\234\233\233\232\231\231\231\230\230\230\227\227\227\227\227\227\227\227\230\230\230\231\231\232\232\233\233\234\235\236\237 ¡¢£¤¥¤¡\237\234\232\226\224\223\221\220\216\215\214\213\212\211\210\210\207\207\206\206\205\205\205\205\205\205\205\206\206\206\207\207\210\210\211\212\213\214\215\216\220\221\223\225\222\217\215\212\210\206\204\202\201\177}|{zyxwvuutsssrrrrrrrrrssttuuvwxyz{|~\177\201\202\204\206\177xsmiea^[XUSQOMKJHGFDCBAA@?>>==<<;;;::::::::::::::;;;<<==>>?@ABBCEFGIJLMORTVY\\`dhmsy\202\214\224\223\222\221\220\217\216\215\215\214\214\214\213\213\213\213\213\213\213\214\214\214\215\215\216\217\220\221\222\223\224\226\227\231\233\235\234\234\233\233\232\232\231\231\231\230\230\230\230\230\230\230\230\231\231\231\232\232\233\233\234\234\235\236\237 ¡¢£¤¥¤¡\237\234\232\230\224\222\220\217\216\214\213\212\211\210\207\206\206\205\205\204\204\204\204\203\203\203\203\204\204\204\204\205\205\206\207\207\210\211\212\213\215\216\220\221\223\223\220\216\213\211\207\205\203\201\200~}|zyxxwvuuttsssssssssssttuuvwxxy{|}~\200\202\203\205\207\200ysnjeb^[XVTQOMLJIGFEDCBA@??>>==<<;;;;::::::::::;;;;<<==>>?@@ABCDEFHIKLNPRTWZ]`dinsz\202\215\223\222\220\217\216\216\215\214\213\213\213\212\212\212\212\212\212\212\212\212\213\213\213\214\215\216\216\217\220\222\223\224\226\230\231\233\235\235\234\234\233\233\232\232\232\231\231\231\231\231\231\231\232\232\232\232\233\233\234\234\235\236\236\237 ¡¢£¤¥¤¡\237\234\232\230\226\222\220\216\215\213\212\211\210\207\206\205\205\204\203\203\203\202\202\202\202\202\202\202\202\202\202\203\203\204\204\205\206\207\210\211\212\213\214\216\217\221\223\221\217\214\212\210\206\204\202\201\177~|{zyxwwvvuutttttttttttuuvvwxxyz{}~\177\201\202\204\206\210\201ztojfb_\\YVTRPNLKIHGEDCBAA@??>===<<<;;;;;;;;;;;;;;<<<===>??@ABBCDFGHJKMOQSUXZ^aeint{\203\216\221\220\217\216\215\214\213\213\212\212\211\211\211\210\210\210\210\210\211\211\211\212\212\213\213\214\215\216\217\220\221\223\224\226\230\232\234\236\235\235\234\234\233\233\233\232\232\232\232\232\232\232\233\233\233\233\234\234\235\235\236\237\237 ¡¢£¤¥¤¡\237\234\232\227\225\223\217\216\214\213\211\210\207\206\205\204\203\203\202\202\201\201\200\200\200\200\200\200\200\200\200\201\201\202\202\203\203\204\205\206\207\210\211\213\214\216\220\221\222\220\215\213\211\207\205\203\201\200\177}|{zyxxwvvuuuutttttuuuuvvwxxyz{|}\177\200\202\203\205\207\211\201{upkgc`]ZWURPOMKJHGFEDCBA@@?>>===<<<;;;;;;;;;;;;<<<===>>?@@ABCDEFGIJLMOQSVX[^bfjou|\204\217\220\217\216\215\214\213\212\211\211\210\210\207\207\207\207\207\207\207\207\207\210\210\211\211\212\213\214\215\216\217\220\221\223\225\226\230\232\234\236\236\235\235\234\234\234\234\233\233\233\233\233\233\234\234\234\234\235\235\236\236\237  ¡¢£¤¥¥¢\237\234\232\227\225\223\221\215\214\212\211\207\206\205\204\203\202\202\201\200\200\177\177\177~~~~~~\177\177\177\177\200\200\201\202\203\203\204\205\207\210\211\213\214\216\220\222\221\216\214\212\210\206\204\202\201\177~}|{zyxxwwvvvuuuuuuuvvvwwxxyz{|}~\200\201\203\204\206\210\212\202|vplhd`]ZXUSQOMLJIHFEDCBAA@??>>===<<<<<;;;;;;<<<<<===>>??@ABBCDEFHIJLNPRTVY\\_bfkpv}\205\220\217\215\214\213\212\211\211\210\207\207\206\206\206\206\206\206\206\206\206\206\206\207\207\210\211\211\212\213\214\215\217\220\221\223\225\227\231\233\235\237\236\236\235\235\235\235\234\234\234\234\234\234\235\235\235\235\236\236\237\237 ¡¡¢£¤¥¥¢\237\234\232\227\225\223\221\217\213\211\210\207\205\204\203\202\201\200\200\177~~~}}}}}}}}}}}~~\177\177\200\201\202\203\204\205\206\207\211\212\214\216\220\222\217\215\213\211\207\205\203\202\200\177~}|{zyxxwwwvvvvvvvvvwwwxyyz{|}~\177\200\202\203\205\207\211\213\203|vqlhda^[XVTQPNLKIHGFEDCBA@@??>>===<<<<<<<<<<<<<<===>>??@AABCDEFGHJKMNPRTWY\\_cgkqv}\206\216\215\214\213\212\211\210\207\207\206\205\205\205\204\204\204\204\204\204\204\205\205\205\206\206\207\210\211\212\213\214\215\216\220\221\223\225\227\231\233\236\237\237\236\236\236\236\235\235\235\235\235\235\236\236\236\236\237\237  ¡¢££¤¥¥¢\237\234\232\227\225\223\221\217\215\211\207\206\205\203\202\201\200\177\177~}}||{{{{{{{{{{||}}~~\177\200\201\202\203\204\206\207\211\213\214\216\220\220\216\213\211\210\206\204\203\201\200\177}||{zyyxxwwwwwwwwwwwxxyyz{|}~\177\200\201\203\204\206\210\212\214\204}wrmieb^[YVTRPNMKJHGFEDCBBA@@??>>====<<<<<<<<<<====>>??@@ABBCDEFGIJKMOQSUWZ]`dhlqw~\207\215\214\212\211\210\207\207\206\205\205\204\204\203\203\203\203\203\203\203\203\203\204\204\205\205\206\206\207\210\211\212\214\215\216\220\222\223\225\230\232\234\237 \237\237\237\237\236\236\236\236\236\237\237\237\237   ¡¡¢£¤¤¥¦£ \235\232\227\225\222\220\216\214\213\207\205\204\203\201\200\177~~}|{{zzzzyyyyyyzzz{{||}~~\177\200\202\203\204\206\207\211\213\215\217\221\217\214\212\210\207\205\203\202\201\177~}|{{zyyxxxxwwwwwxxxyyzz{||}~\200\201\202\204\205\207\211\213\215\205~xsnjfb_\\YWUSQOMLJIHGFEDCBAA@@??>>>==============>>>??@@AABCDEFGHIKLNOQSUX[]adhmrx\177\210\214\212\211\210\207\206\205\204\204\203\203\202\202\202\202\201\201\201\202\202\202\202\203\203\204\204\205\206\207\210\211\212\213\215\216\220\222\224\226\230\233\235      \237\237\237\237    ¡¡¡¢££¤¥¥¦£ \235\232\227\225\222\220\216\214\212\210\205\203\202\201\177~}}|{zzyyxxxxxxxxxxxxyyz{{|}~\177\200\201\203\204\206\207\211\213\215\217\220\215\213\211\207\206\204\203\201\200\177~}||{zzyyyxxxxxxxyyyzz{||}~\177\200\202\203\204\206\210\211\213\216\206\177ysojfc`]ZWUSQONLKIHGFEDCBBA@@???>>>============>>>???@AABCCDEFGHJKLNPRTVX[^aeinsy\200\211\212\211\210\206\205\205\204\203\202\202\201\201\201\200\200\200\200\200\200\200\201\201\201\202\202\203\204\204\205\206\207\211\212\213\215\217\220\222\224\227\231\233\236¡¡¡¡¡    ¡¡¡¡¢¢¢£¤¤¥¦§¤¡\235\232\230\225\222\220\216\214\212\210\206\203\201\200\177~}|{zyxxwwwvvvvvvvvvwwwxxyzz{|}~\200\201\202\204\206\207\211\213\216\220\216\214\212\210\207\205\204\202\201\200\177~}||{{zzyyyyyyyyyzz{{||}~\177\200\201\202\204\205\207\211\212\214\216\207\200ztokgc`][XVTRPNMKJIGFEEDCBAA@@???>>>>========>>>>???@@ABBCDEFGHIJKMOPRTWY\\_bfjntz\201\211\211\207\206\205\204\203\202\202\201\200\200\200\177\177\177\177\177\177\177\177\177\200\200\200\201\202\202\203\204\205\206\207\211\212\213\215\217\221\223\225\227\232\234\237¢¢¢¢¡¡¡¢¢¢¢¢££¤¤¥¥¦§¥¡\236\233\230\225\222\220\216\214\212\210\206\204\201\177~}|{zyxwwvvuuutttttttuuuvvwwxyz{|}~\177\201\202\204\206\210\212\214\216\217\215\213\211\210\206\204\203\202\201\200\177~}||{{zzzzzzzzzz{{{||}~\177\200\201\202\203\205\206\210\211\213\215\217\207\200zuplhda^[YVTRPOMLJIHGFEDCCBAA@@???>>>>>>>>>>>>>>???@@AABCCDEFGHIKLMOQSUWZ\\_cfjotz\202\211\207\206\205\204\203\202\201\200\200\177\177~~~}}}}}~~~\177\177\200\200\201\202\203\204\205\206\207\210\212\214\215\217\221\223\226\230\233\236¡££££¢¢£££££¤¤¥¥¦¦§¦¢\237\233\230\225\223\220\216\213\211\207\206\204\202\177}|{zyxwvvutttsssssssssssttuuvvwxyz{|~\177\201\202\204\206\210\212\214\217\216\214\212\210\207\205\204\203\202\201\200\177~}}||{{{{{{{{{{{||}}~\177\200\201\202\203\204\205\207\211\212\214\216\220\210\201{vqlhea^\\YWUSQONLKJHGFEEDCBBAA@@????>>>>>>>>>>????@@AABBCDEEFGIJKLNPQSUXZ]`cgkpu{\202\207\206\204\203\202\201\200\200\177~~}}}||||||||}}~~\177\177\200\201\202\203\204\206\207\210\212\214\216\220\222\224\226\231\234\237¢¤¤¤¤¤¤¤¤¤¤¥¥¦¦§§§£\237\234\231\226\223\220\216\213\211\207\205\203\202\200}{zyxwvuutssrrrqqqqqqqqqrrssttuvwwyz{|~\177\201\202\204\206\211\213\215\217\215\213\211\210\206\205\204\202\201\200\177\177~}}||||{{{{{||||}}~\177\200\200\201\202\204\205\206\210\211\213\215\217\221\211\202|vqmieb_\\ZWUSQPNMKJIHGFEDCCBBAA@@@??????>>??????@@@AABBCCDEFGHIJLMNPRTVX[]`dhlpv|\203\206\204\203\202\201\200\177~}}||{{{{{{{{{{{||}}~\177\200\201\202\203\204\205\207\210\212\214\216\220\222\225\227\232\235 ¤¥¥¥¥¥¥¥¥¥¦¦§§¨¨¤ \235\231\226\223\220\216\213\211\207\205\203\201\200~{yxwvutssrrqqppppooooppppqqqrsstuvwxy{|~\177\201\203\205\207\211\214\216\216\214\212\211\207\206\204\203\202\201\200\200\177~~}}}|||||||}}}~~\177\200\200\201\202\203\204\206\207\211\212\214\216\220\222\212\203}wrnjfc`]ZXVTRPOMLJIHGFEEDCCBAAA@@@????????????@@@AAABCCDEEFGHIKLMOQRTVY[^adhlqv}\204\204\203\202\200\177~~}|{{zzzzyyyyyzzzz{{|}}~\177\200\201\203\204\205\207\211\212\214\216\221\223\226\230\233\237¢¦¦¦¦¦¦¦¦¦§§¨¨©¥¡\235\232\227\224\221\216\213\211\207\205\203\201\177~|yxvutssrqppooonnnnnnnnnnoooppqrsstuwxyz|~\177\201\203\205\207\212\215\217\215\213\211\210\206\205\204\203\202\201\200\200\177~~~}}}}}}}}}~~~\177\200\200\201\202\203\204\205\207\210\212\213\215\217\221\223\213\204}xsnjgc`][XVTRQONLKJIHGFEDDCBBAAA@@@@????????@@@@AAABBCDDEFGHIJKLNOQSUWY\\_beimrw}\204\203\201\200\177~}|{{zzyyxxxxxxxxxyyyz{{|}~\177\200\201\202\204\205\207\211\213\215\217\221\224\227\232\235 ¤§§§§§§§§¨¨©©¦¢\236\233\227\224\221\216\214\211\207\205\203\201\177}|zwvusrrqpoonnmmmlllllllmmmmnnoppqrstuvwyz|~\177\201\204\206\210\213\216\216\214\212\211\207\206\205\204\203\202\201\200\200\177\177~~~~~~~~~~~\177\177\200\200\201\202\203\204\205\206\207\211\212\214\216\220\222\224\214\205~ytokgda^[YWUSQPNMKJIHGFEEDCCBBAAA@@@@@@@@@@@@@@AAABBCCDEFFGHIJLMNPRSUXZ\\_bfinrx~\203\201\200\177~}|{zyyxxwwwwwwwwwwwxxyyz{{|}\177\200\201\202\204\206\207\211\213\215\220\222\225\230\233\236¢¦¨¨¨¨¨¨©©©ª¨£\237\233\230\225\222\217\214\211\207\205\202\200\177}{zxutsrqponnmmllkkkkkkkkkkklllmmnoopqrsuvwyz|~\200\202\204\207\211\214\216\215\213\212\210\207\206\205\204\203\202\201\201\200\200\177\177\177~~~~~\177\177\177\200\200\201\201\202\203\204\205\206\207\210\212\213\215\217\221\223\225\215\205\177ytplhea_\\ZWUSRPOMLKJIHGFEDDCCBBAAAA@@@@@@@@@@AAAABBCCDDEFGHIJKLMOPRTVXZ]`cfjnsy\177\201\200~}|{zyyxwwvvvvuuuuuuvvvwwxxyz{|}~\200\201\202\204\206\210\212\214\216\221\223\226\231\234 ¤¨©©©©©ªªª©¥ \234\231\225\222\217\214\212\207\205\202\200~}{yxvsrqponmmlkkjjjjiiiiiiiijjjkkllmnopqrstvwyz|~\200\203\205\207\212\215\216\214\212\211\210\206\205\204\203\203\202\201\201\200\200\200\177\177\177\177\177\177\177\200\200\200\201\201\202\203\204\204\205\207\210\211\213\214\216\217\221\223\226\215\206\200zuplieb_]ZXVTRQONLKJIHGFFEDDCCBBBAAAAA@@@@AAAAABBBCCDDEFFGHIJKMNOQSTVY[^`cgkoty\200\200~}|{zyxwwvuuutttttttttuuuvvwxyz{|}~\177\201\203\204\206\210\212\215\217\222\224\227\233\236¢¦ªªªªª«««¦¢\236\232\226\223\220\215\212\207\205\202\200~|{ywvtqponmllkjjiihhhhhhhhhhhhhiijjkllmnoprstvwy{}\177\201\203\206\210\213\216\215\213\212\210\207\206\205\204\203\203\202\202\201\201\200\200\200\200\200\200\200\200\200\201\201\202\202\203\204\204\205\206\207\211\212\213\215\217\220\222\224\227\216\207\201{vqmifc`][XVTSQPNMLJIHHGFEEDDCCBBBAAAAAAAAAAAABBBCCDDEEFGHIJKLMNPQSUWY\\^adhkpuz\200~}|zyxwwvuuttssssssssssstttuvvwxyz{}~\177\201\203\205\206\211\213\215\220\223\226\231\234 ¤¨««««¬¬¨£\237\233\227\223\220\215\212\207\205\202\200~|zxwutsonmlkkjiihhgggfffffffffggghhiijklmnopqstvwy{}\177\202\204\207\212\215\216\214\213\211\210\207\206\205\204\204\203\202\202\201\201\201\201\201\201\201\201\201\201\202\202\202\203\204\204\205\206\207\210\211\213\214\216\217\221\223\225\230\217\210\201|vrnjfc`^[YWUSRPOMLKJIHGFFEDDCCCBBBBAAAAAAAABBBBCCCDDEFFGHIJKLMOPRTUWZ\\_behlpu{~}{zyxwvuttssrrrqqqqqqqrrrssttuvwxyz{|~\177\201\203\205\207\211\214\216\221\224\227\232\236¢¦«¬¬¬­©¥ \234\230\224\221\216\213\210\205\203\200~|zxwusrqnmlkjihhgfffeeeeeeeeeeeeeffgghiijklmnpqrtvwy{~\200\202\205\210\213\216\215\213\212\211\210\207\206\205\204\204\203\203\202\202\202\202\201\201\201\202\202\202\202\203\203\204\204\205\206\207\210\211\212\214\215\217\220\222\224\226\230\220\211\202|wrnjgda^\\ZWVTRQONMKJIHHGFEEDDCCCBBBBBBBBBBBBBBCCCDDEFFGHIIJLMNOQRTVXZ]_beimqv|}{zyxvuutsrrqqqpppppppppqqqrrsttuvwxz{|~\200\201\203\205\210\212\214\217\222\225\231\234 ¤©­­­«¦¢\235\231\225\222\216\213\210\205\203\200~|zxvusrpolkjihggfeedddccccccccccdddeeffghijklmnpqrtvxz|~\201\203\206\211\215\216\214\213\212\211\210\207\206\205\204\204\203\203\203\202\202\202\202\202\202\203\203\203\203\204\205\205\206\207\210\211\212\213\214\216\217\221\223\225\227\231\221\211\203}xsokhda_\\ZXVTSQPNMLKJIHGGFEEDDCCCCBBBBBBBBBBCCCCDDEEFGGHIJKLMNPQSUWY[]`cfimrw|{zxwvutsrrqpppooooooooooooppqrrstuvwxy{|~\200\202\204\206\210\213\215\220\223\227\232\236¢§«®­¨£\237\232\226\223\217\214\211\206\203\201~|zxvtsqpnmjihgffeddccbbbbbbaabbbbbcccddeffghijkmnoqstvxz}\177\202\205\210\213\216\215\214\213\211\210\207\207\206\205\205\204\204\203\203\203\203\203\203\203\203\204\204\204\205\205\206\207\210\211\212\213\214\215\217\220\222\224\226\230\232\222\212\204~ytplheb_][XWUSQPOMLKJIHHGFFEEDDDCCCCCBBBBCCCCCDDDEEFFGHIIJKLNOPRSUWY[^`cgjnrw{zxwvutsrqppoonnnmmmmmmmnnnooppqrrstuwxy{}~\200\202\204\207\211\214\217\222\225\230\234 ¥©¯ª¥ \234\230\224\220\215\211\206\203\201~|zxvtrqonlkhgffedccbbaaa``````````aaabbcddefghijklnoqsuwy{}\200\203\206\211\215\216\215\213\212\211\210\207\207\206\205\205\205\204\204\204\204\204\204\204\204\204\205\205\206\206\207\210\210\211\212\214\215\216\220\221\223\225\227\231\233\223\213\204\177yuplifc`][YWUTRQONMLKJIHGGFFEEDDDCCCCCCCCCCCCDDDEEFFGGHIJKLMNOQRTVXZ\\^adgkosxzxwvtsrqpponnmmmllllllllllmmnnoopqrstuvxy{}\177\201\203\205\207\212\215\220\223\226\232\236£§¬§¢\235\231\225\221\215\212\207\204\201\177|zxvtrpomlkigfedcbbaa``_____________```aabcddefghjklnoqsuwy|~\201\204\207\213\216\215\214\213\212\211\210\207\207\206\206\205\205\205\205\205\205\205\205\205\205\205\206\206\207\210\210\211\212\213\214\216\217\220\222\224\226\230\232\234\223\214\205\177zuqmifca^\\ZXVTRQPNMLKJIIHGGFEEEDDDDCCCCCCCCDDDDEEFFGGHIIJKLMOPQSTVXZ\\_bdhkotyxwutsrqponnmlllkkkkkjjkkkkkllmmnopqrstuvxy{}\177\201\203\206\210\213\216\221\225\230\234¡¥©¤\237\232\226\222\216\213\210\205\202\177|zxvtrpnmkjihedcbaa``__^^^]]]]]]]]]^^^___`aabcdefghiklnpqsvxz}\200\202\206\211\215\216\215\214\213\212\211\210\210\207\207\206\206\206\205\205\205\205\205\206\206\206\207\207\210\210\211\212\213\214\215\216\220\221\223\225\226\230\233\235\224\215\206\200{vrnjgda_\\ZXVUSQPONMLKJIHHGFFEEEDDDDDDDDDDDDDDEEEFFGHHIJKLMNOPRSUWY[]_behlptxwutsqponnmllkkjjjiiiiiiijjjjkklmmnopqrtuvxz{}\177\202\204\206\211\214\217\223\226\232\236£¦¡\234\230\223\220\214\210\205\202\177}zxvtrpnmkjhgfcbaa`__^^]]\\\\\\\\\\\\\\\\\\\\\\\\\\]]^^__`aabcdeghiklnprtvy{~\201\204\207\213\217\216\215\214\213\212\211\210\210\207\207\207\206\206\206\206\206\206\206\207\207\207\210\210\211\212\213\214\215\216\217\221\222\224\225\227\231\234\236\225\215\207\201{wrnkgdb_][YWUSRQONMLKJIIHGGFFEEEEDDDDDDDDDDEEEEFFGGHIIJKLMNOQRTUWY[]`cfimquwutrqponmlkkjjiihhhhhhhhhhhiijjkklmnopqrsuvxz|~\200\202\205\207\212\215\221\224\230\234¡£\236\231\225\221\215\211\206\203\200}zxvtrpnlkihgedba`_^^]\\\\\\[[[ZZZZZZZZZ[[[\\\\]]^^_`abcdefhikmnpruwy|\177\202\206\211\215\217\216\214\213\213\212\211\211\210\210\207\207\207\207\207\207\207\207\207\210\210\211\211\212\213\214\215\216\217\220\221\223\225\226\230\232\234\237\226\216\210\201|wsokheb`][YWUTRQPOMLKKJIHHGGFFFEEEEDDDDDDEEEEFFFGGHHIJKLMNOPQSTVXZ\\^acfjmqvutrqponmlkjiihhgggggfffggggghhiijkklmnoqrsuvxz|~\201\203\206\211\214\217\222\226\232\237 \233\226\222\216\212\207\203\200}{xvtqpnljigfedc`_^]]\\[[ZZZYYYYYYYYYYYYZZZ[[\\\\]^__`abdefhikmoqsuxz}\200\204\207\213\217\216\215\214\213\213\212\211\211\210\210\210\210\210\210\210\210\210\210\211\211\211\212\213\214\214\215\216\220\221\222\224\225\227\231\233\235 \227\217\210\202}xtplifc`^\\ZXVTSQPONMLKJIIHHGGFFFEEEEEEEEEEEEFFFGGHHIJJKLMNOPRSUVXZ\\_adgjnrutrqonmlkjiihgggfffeeeeeeeefffgghhijklmnoprsuwxz}\177\201\204\207\212\215\221\224\230\235\235\230\224\217\213\210\204\201~{yvtronljhgfdcba^]]\\[ZZYYYXXXWWWWWWWWXXXXYYZZ[\\\\]^_`abcefhikmoqtvy|\177\202\206\211\215\217\216\215\214\213\213\212\212\211\211\211\211\210\210\210\211\211\211\211\212\212\213\214\214\215\216\217\220\222\223\225\226\230\232\234\236¡\230\220\211\203~ytpmifca^\\ZXVUSRQONMLKKJIIHHGGFFFFEEEEEEEEFFFFGGHHIIJKLLMNPQRTUWY[]_bdgknstrqonmlkjihggffeedddddddddddeeeffghiijklnoprsuwy{}\200\202\205\210\213\217\222\226\233\232\225\221\215\211\205\202\177|yvtromljhgedca`_]\\[ZZYXXWWWVVVVVVVVVVVVWWWXXYYZ[\\]]^`abcefhjlnprtwz}\200\204\210\214\220\217\216\215\214\214\213\212\212\212\211\211\211\211\211\211\211\212\212\212\213\214\214\215\216\217\220\221\223\224\225\227\231\233\235\237¢\231\221\212\204~yuqmjgda_][YWUTRQPONMLKJJIHHGGGFFFFFFFFFFFFFFGGGHHIJJKLMNOPQSTVWY[]`behkosrqonmkjihggfeeddcccccbbbcccccddeeffghijklmoprsuwy{~\200\203\206\211\215\220\224\231\227\222\216\212\206\203\177|ywtrpmkjhfecba`_^[ZYYXWWVVVUUUUUTTTTUUUUUVVVWWXYYZ[\\]^_abcefhjlnpsux{\177\202\206\212\216\220\217\216\215\214\214\213\213\212\212\212\212\212\212\212\212\213\213\213\214\214\215\216\217\220\221\222\223\225\226\230\232\234\236 ¢\231\222\213\204\177zvqnjgdb_][YWVTSRPONMLKKJIIHHGGGGFFFFFFFFFFGGGGHHIIJKLLMNOPRSUVXZ\\^`cfilpsqonlkjihgfeedccbbbbaaaaaaaabbbccddefgghjklmoprtvxz|\177\201\204\207\213\216\222\226\224\220\213\207\204\200}zwurpnkjhfdcb`_^]\\YYXWVVUUUTTTSSSSSSSSSSTTTUUVVWWXYZ[\\]^_`bceghjmoqtwz}\200\204\210\214\220\217\217\216\215\215\214\214\213\213\213\213\213\213\213\213\213\214\214\215\215\216\217\220\221\222\223\224\226\227\231\233\235\237¡£\232\222\213\205\200{vrnkheb`^\\ZXVUSRQPONMLKJJIIHHHGGGGFFFFFFGGGGHHHIIJKKLMNOPQRTUWXZ\\^acfimpqonlkjhgfeedccbbaa```````````aaabbcddefghijlmoprtvxz}\200\202\206\211\214\220\224\221\215\211\205\201~{xurpnkihfdca`_]\\[ZXWVVUTTSSSRRRRRRRRRRRRRSSSTTUUVWWXYZ[\\^_`bcegikmprux{~\202\206\212\217\220\217\217\216\215\215\214\214\214\214\214\214\214\214\214\214\214\215\215\216\217\217\220\221\222\224\225\226\230\232\234\235 ¢¤\233\223\214\206\200{wsolhfc`^\\ZXWUTRQPONMLLKJJIIHHHGGGGGGGGGGGGHHHIIJJKLLMNOPQSTUWY[]_adgjmqonlkihgfedccbaa``_____^^^_____```abbcdefghijlmoprtvy{~\201\204\207\212\216\222\217\212\206\202\177{xuspnlihfdba_^]\\[ZYVUUTSSRRRQQQQPPPPPPPPQQQRRRSSTUUVWXYZ[\\]_`bdegilnpsvy}\200\204\210\215\221\220\217\217\216\216\215\215\215\214\214\214\214\214\215\215\215\216\216\217\217\220\221\222\223\225\226\227\231\233\234\236 £¥\234\224\215\207\201|wsplifca_][YWVTSRQOONMLKKJJIIHHHHGGGGGGGGHHHHIIJJKKLMNOPQRSTVXY[]_bdgjnpnlkihgfedcba``__^^^^]]]]]]]]^^^__``abbcdefgijlmoqsuwy|\177\202\205\210\214\220\214\207\204\200|yvsqnljhfdba_^\\[ZYXWUTSSRQQQPPPOOOOOOOOOOOPPPQQQRSSTUUVWXY[\\]_`bdfhjlortx{\177\202\207\213\220\221\220\217\217\216\216\216\215\215\215\215\215\215\215\216\216\216\217\220\220\221\222\223\224\225\227\230\232\233\235\237¡¤¦\235\225\216\207\202}xtpmjgdb_][YXVUSRQPONMLLKJJIIIHHHHHHHHHHHHHHIIJJKKLLMNOPQRTUVXZ\\^`behknnlkihfedcba``_^^]]]\\\\\\\\\\\\\\\\\\\\\\]]]^^__`abcdefgijlmoqsuxz}\200\203\206\212\216\211\205\201}zwtqnljhfdb`_]\\[ZXWVVSRRQQPPOONNNNNNMMMNNNNNNOOPPQQRSSTUVWXYZ\\]_abdfhkmpsvy}\201\205\211\216\222\221\220\220\217\217\216\216\216\216\216\216\216\216\216\217\217\220\220\221\222\223\224\225\226\227\231\233\234\236 ¢¥§\236\226\217\210\203}yuqmjgeb`^\\ZXWUTSQPONNMLKKJJIIIIHHHHHHHHHHIIIIJJKLLMNOOPRSTUWYZ\\^`cfhlnlkihfedcba`_^^]]\\\\[[[[[ZZZ[[[[[\\\\\\]]^_``abcdfgijlmoqtvx{~\201\205\210\213\206\202~{xtroljhfdb`^]\\ZYXWVUTRQPPOONNMMMMLLLLLLLLLMMMMNNOOPPQRSTUVWXYZ\\]_acegilnqtw{\177\203\207\214\222\222\221\220\220\217\217\217\217\217\217\217\217\217\217\220\220\221\221\222\223\224\225\226\227\230\232\233\235\237¡£¥¨\237\226\217\211\203~yuqnkhec`^\\ZYWVTSRQPONMMLKKJJJIIIIHHHHHHIIIIJJJKKLMMNOPQRSTVWY[]_acfilmkihfedba`_^^]\\\\[[ZZZZYYYYYYYYZZZ[[\\\\]]^_`abcdfghjlnprtwy|\177\203\206\210\204\200|xuromjhfdb`^][ZYWVUTSRPOONNMMLLLKKKKKKKKKKKKLLLLMMNNOPQQRSTUVXYZ\\]_acegjmorvy}\201\205\212\220\223\222\221\221\220\220\220\217\217\217\217\217\220\220\220\221\221\222\223\223\224\225\227\230\231\233\234\236 ¢¤¦©\237\227\220\212\204\177zvrokhfca_][YXVUTRQPONNMLLKKJJJIIIIIIIIIIIIJJJKKLLMNOOPQRTUVXZ[]_bdgjmkihfecba`_^]\\\\[ZZYYYXXXXXXXXXXXYYYZZ[[\\]^^_`bcdegijlnpruwz}\201\204\205\201}yvspmkhfdb`^\\[YXWVUTSRQONMMLLKKKJJJJJIIIIJJJJJJKKLLMMNNOPQRSTUVWYZ\\^`bdfhknqtw{\177\204\210\216\223\223\222\221\221\221\220\220\220\220\220\220\220\221\221\222\222\223\223\224\225\226\227\231\232\233\235\237¡£¥§ª \230\221\212\205\177{wsolifda_][ZXWUTSRQPONMMLLKKJJJJIIIIIIIIJJJJKKLLMMNOPQRSTUWXZ\\^`bdgjkihfecba_^]]\\[ZZYYXXWWWWWWWWWWWWWXXXYYZ[[\\]^_`acdegijlnqsvx{\177\202\203~{wtqnkhfdb`^\\[YXVUTSRQPOMLLKKJJJIIIHHHHHHHHHHIIIIJJKKLLMNOOPQRTUVWYZ\\^`bdgilorvy}\202\206\214\221\223\223\222\222\221\221\221\221\221\221\221\221\221\222\222\223\223\224\225\226\227\230\231\233\234\236 ¢¤¦¨«¡\231\222\213\205\200{wspmjgdb`^\\ZYWVTSRQPOONMMLLKKJJJJJJJJJJJJJJKKLLMMNOOPQRSUVWYZ\\^`cehkjhfecb`_^]\\[ZZYXXWWVVVVUUUUUUUUVVVWWWXYYZ[\\]^_`abdegikmoqtwz}\200\200|xuqnlifdb`^\\ZYWVUTRQPPONLKJJIIHHHHGGGGGGGGGGGGHHHIIIJJKLLMNOPQRSUVWY[\\^`cehjmptw{\200\204\212\217\224\224\223\223\222\222\222\222\222\222\222\222\222\223\223\224\224\225\226\227\230\231\232\234\235\237¡¢¤§©¬¢\232\222\214\206\201|xtpmjgeb`^\\[YXVUTSRQPONNMLLKKKKJJJJJJJJJJKKKLLLMNNOPQRSTUVXY[]_acfhjhfeca`_^]\\[ZYXWWVVUUUTTTTTTTTTTTUUUVVWWXYYZ[\\]^_abdegikmprux{~}yvroligdb`^\\ZYWVTSRQPONMLJJIHHHGGFFFFFFFEEFFFFFFGGGHHIIJJKLMNOPQRSUVXY[]_acfikorvz~\202\207\215\223\224\224\223\223\223\223\222\222\223\223\223\223\223\224\224\225\226\227\230\231\232\233\234\236 ¡£¥¨ª¬£\233\223\215\207\202}xuqnkheca_][ZXWUTSRQPOONMMLLLKKKKJJJJJJKKKKLLLMMNOOPQRSTUWXZ[]_adfihfeca`_]\\[ZYXXWVVUTTTSSSSSSSSSSSSSTTTUUVVWXYZ[\\]^_abdfgilnpsvy|{wspmjgeb`^\\ZYWUTSQPONMLLKIHHGGFFEEEEDDDDDDDDDEEEEFFFGGHHIJKKLMNOPRSTVXY[]_bdgjmptx|\200\205\213\221\225\225\224\224\224\223\223\223\223\223\224\224\224\225\225\226\227\227\230\231\233\234\235\237 ¢¤¦¨«­¤\233\224\215\207\202}yurnkhfca_]\\ZXWVUSRQQPONNMMLLLKKKKKKKKKKKKLLLMMNNOPQRSTUVWYZ\\^`bdgigeca`^]\\[ZYXWVUUTTSSRRRRQQQQQQQQRRRSSSTTUVVWXYZ[\\^_abdfhjlnqtwzxtqnkhec`^\\ZXWUTRQPONMLKJI").append("GGFFEEDDDDCCCCCCCCCCCCDDDEEEFGGHHIJKLMNOPRSUVXZ\\^`cehknrvz\177\203\211\217\225\225\225\225\224\224\224\224\224\224\224\225\225\225\226\227\227\230\231\232\233\235\236 ¡£¥§©¬®¥\234\225\216\210\203~zvrolifdb`^\\ZYXVUTSRQPOONNMMLLLKKKKKKKKKKLLLMMNNOPPQRSTUVXY[\\^`beggeca`^]\\ZYXWVUUTSSRRQQQPPPPPPPPPPPQQQRRSSTTUVWXYZ[\\^_abdfhjmoruxvrokhfca^\\ZXWUSRQONMLKJIIHFEEDDCCCBBBBBBBBBBBBBBBCCCDDEEFFGHIJJKMNOPRSUVXZ\\_adfimptx}\201\207\215\223\226\226\225\225\225\225\225\225\225\225\225\226\226\227\227\230\231\232\233\234\236\237 ¢¤¦¨ª­¯¦\235\226\217\211\204\177zvsoljgeb`^][YXWUTSRQQPOONNMMLLLLLLKKLLLLLLMMNNOOPQRRSTVWXZ[]_acegecb`^][ZYXWVUTSSRQQPPPOOOOOOOOOOOOOPPPQQRRSTTUVWXY[\\]_abdfhkmpsvsplifca_\\ZXWUSRPONMLKJIHGGEDCCBBBAAAAA@@@@@@@AAAAABBBCCDDEFGGHIJKLMOPRSUWY[]_behknrv{\177\205\213\221\227\226\226\226\226\226\226\226\226\226\226\227\227\230\230\231\232\233\234\235\236 ¡£¥§©«­°¦\236\226\220\212\204\177{wspmjgeca_][ZXWVUTSRQPPONNNMMMLLLLLLLLLLMMMNNNOPPQRSTUVWYZ\\]_acffdb`^][ZYWVUTTSRQQPPOONNNNMMMMMMMNNNNOOOPPQRRSTUVWXYZ\\]_acegiknqtqmjgda_]ZXVUSRPOMLKJIHGGFECCBBAA@@@@???????????@@@@AABBCCDDEFGHIJKLMOPRSUWY[^`cfilpty}\203\210\217\226\227\227\227\226\226\226\226\226\227\227\227\230\230\231\232\233\234\235\236\237¡¢¤¦¨ª¬®®§\237\227\220\212\205\200|xtqmkhfca_^\\ZYXVUTSRQQPOONNNMMMLLLLLLLMMMMNNNOOPQRRSTUVXY[\\^`bdfdb`^][ZXWVUTSRQQPOONNMMMLLLLLLLLLLLMMMNNNOPPQRRSTUVXYZ\\]_acegjlornkheb_][XWUSQPNMLKJIHGFEDDBAA@@????>>>>>>>>>>>>>???@@@AABCCDEFFGHIKLMOPRTUXZ\\_adgknrw{\201\206\215\224\230\230\227\227\227\227\227\227\227\230\230\231\231\232\233\233\234\235\237 ¡£¥¦¨«­­ª¨\237\230\221\213\206\201|xuqnkifdb`^\\[YXWVUTSRQPPOONNNMMMMMMMMMMMMNNNOOPPQRSTUVWXZ[]^`bddb`^][ZXWVTSRRQPOONMMLLLKKKKKKKKKKKKKLLLMMNNOOPQRSTUVWYZ\\]_acehjmpliec`][YWUSQPNMKJIHGFEDDCB@@??>>>>===============>>>??@@AABCCDEFGHIJLMOPRTVXZ]_beilpuy\177\204\212\221\231\230\230\230\230\230\230\230\230\230\231\231\232\233\233\234\235\236\237¡¢¤¥§©««©§¥ \231\222\214\206\201}yuroligdb`^][ZXWVUTSRRQPPOONNNMMMMMMMMMMNNNOOPPQRRSTUVWYZ[]_aceca_][ZXWUTSRQPONNMMLLKKJJJJJIIIIIIJJJJKKKLLMMNOPPQRSUVWYZ\\^_adfhkmjfc`^[YWUSQONLKJIHFFEDCBBA?>>>===<<<<<;;;;;;;<<<<<===>>??@AABCDEFGHIJLMOQRTVY[^adgknsw|\202\210\217\227\231\231\231\231\231\231\231\231\231\232\232\233\233\234\235\236\237 ¢£¥¦¨ªª¨¦£¢ \231\223\214\207\202~yvroljgeca_]\\ZYXWUTTSRQQPPOONNNNNMMMMNNNNNOOPPQQRSTUVWXYZ\\^_acca_][YXVUTSRQPONMLLKKJJIIIIHHHHHHHHHHIIIJJJKKLMMNOPQRSTVWYZ\\^`bdgikgda^\\YWUSQONLKIHGFEDCBBA@@>==<<<;;;;::::::::::;;;;;<<==>>??@ABBCDEFHIJLMOQSUWZ\\_beimquz\200\206\215\224\232\232\232\231\231\231\232\232\232\232\233\233\234\235\236\237 ¡¢¤¥§©©§¤¢ \236\234\232\223\215\210\203~zvspmjheca_^\\[YXWVUTSRRQPPPOONNNNNNNNNNNNOOPPPQRRSTUVWXZ[\\^`bda_][ZXVUTRQPONMLLKJJIIHHHGGGGGGGGGGGGGHHHIIJJKKLMNNOPRSTUWYZ\\^`begheb_\\ZWUSQONLKIHGFDCCBA@??><<;;;:::99999999999999:::;;;<<==>??@ABCDEFHIJLNOQSUXZ]`cgkosx~\204\212\222\232\233\232\232\232\232\232\233\233\233\234\234\235\236\237 ¡¢£¥¦¨©¦£¡\237\235\233\231\230\224\216\210\203\177{wspmkhfdb`^][ZYWVUTTSRQQPPPOOONNNNNNNNOOOPPPQQRSTTUVXYZ[]_`bb`][ZXVUSRQPONMLKJJIHHGGGFFFFFEEEEEFFFFFGGGHHIIJKKLMNOPQSTUWYZ\\^`cefc`]ZXUSQOMLJIGFEDCBA@??>==;:::9998888888888888888999::;;<<==>?@ABCDEFGIJLNPRTVY[^beimqv|\202\210\220\230\233\233\233\233\233\233\233\234\234\234\235\236\237\237 ¡£¤¦§¨¥¢ \235\233\231\227\226\224\223\217\211\204\177{xtqnkifdb`_]\\ZYXWVUTSSRQQPPPOOOOOOOOOOOOPPPQQRSSTUVWXYZ\\]_ac`^\\ZXVUSRPONMLKJJIHHGGFFEEEEDDDDDDDDDDEEEFFFGGHHIJKLLMOPQRTUWYZ]_add`][XVSQOMLJIGFEDBA@@?>==<;:9988877777766666777777888899::;;<=>>?@ABCEFGIKLNPRUWZ]`cgkoty\177\206\215\225\234\234\234\234\234\234\234\234\235\235\236\237\237 ¡¢¤¥¦§¤¡\236\234\232\230\226\224\223\221\220\217\212\205\200|xuqnligeca_^\\[YXWVUTTSRRQQPPPOOOOOOOOOOPPPQQRRSTTUVWXZ[\\^_aa^\\ZXVUSRPONMLKJIHHGFFEEDDDDCCCCCCCCCCCCDDDEEEFFGHHIJKLMNOQRTUWY[]_ba^[XVTQOMLJHGFDCBA@?>==<;;:8877766666555555555666667778899::;<<=>?@ABCEFGIKMOQSUX[^aeimrw}\204\213\223\234\235\235\235\235\235\235\235\236\236\237\237 ¡¢£¤¦§£ \235\233\231\226\224\223\221\217\216\215\214\212\205\201}yuroljgeca`^][ZYXWVUTSSRRQQPPPPPOOOOPPPPPQQRRSSTUVWXYZ[]^`a_\\ZXVUSQPOMLKJIHHGFFEDDCCCBBBBBBBBBBBBBBBCCCDDEEFFGHIJKLMNOPRTUWY[]`_\\YVTROMLJHGEDCB@?>>=<;;:99776665555444444444444555566677889::;<=>?@ABCEFHIKMOQTVY\\_cgkpu{\201\210\220\231\235\235\235\235\235\236\236\236\237\237 ¡¢£¤¥¦£\237\235\232\227\225\223\221\217\216\214\213\212\211\210\206\201}yvspmjhfdb`_]\\ZYXWVUTTSSRRQQPPPPPPPPPPPPQQRRSSTUUVWXYZ\\]_`_][YWUSQPNMLKJIHGFEEDDCCBBAAAA@@@@@@@@@AAAABBBCCDDEFFGHIJKLNOPRSUWY[^]ZWTRPNLJHGEDBA@?>=<;;:998865554444333333333333334445556677889:;;<=>?@BCEFHIKMPRTWZ^aeinsy\177\206\216\227\236\236\236\236\236\236\237\237  ¡¢£¤¥¦¢\237\234\231\226\224\222\220\216\214\212\211\210\207\205\205\204\202~zvspmkhfdba_]\\[ZXWWVUTTSRRRQQQPPPPPPPPQQQRRRSTTUVWXYZ[\\^_`^[YWUSQPNMLJIHGFFEDCCBBAA@@@@????????????@@@AAABBCDDEFGHIJKLMOPRTUWZ\\ZXURPNLJHFECBA@>=<<;:9987764443333222222222222222233344455667889:;<=>?@BCEFHJLNPSUX\\_cglqv}\204\213\224\236\237\237\237\237\237\237  ¡¢¢£¤¦¢\236\233\230\225\223\220\216\214\212\211\207\206\205\203\202\201\201\200~{wtqnkigeca_^][ZYXWVUUTSSRRRQQQQQQQQQQQQRRRSSTUUVWXYZ[]^`^\\YWUSQPNMKJIHGFEDCCBAA@@???>>>>>>>>>>>>>>>???@@@ABBCDDEFGHIJLMOPRTVXZXUSPNLJHFECB@?>=<;:9987765533222211111111111111111222233445566789:;<=>?@BCEFHJLOQTWZ]aejotz\201\211\221\233      ¡¡¢¢£¤¥¡\236\232\227\224\222\217\215\213\211\207\205\204\203\201\200\177~~}|{xtqnligecb`^]\\ZYXWWVUTTSSRRRQQQQQQQQQQRRRSSTTUVWWXY[\\]__\\ZWUSQPNLKJHGFEDCCBAA@???>>=====<<<<<<<<====>>>??@@AABCDEFGHIJKMNPRTVXVSQNLJHFDCA@?>=;::98766554422111000000///////0000001112223345567789:;<=?@BCEGIKMORUX[_chlrx\177\206\217\231   ¡¡¡¡¢££¤¥¡\235\232\226\223\221\216\214\211\207\205\204\202\201\200~}|{{zyyxuroljhfdb`_]\\[ZYXWVUUTTSSRRRRQQQQQQRRRRSSTTUUVWXYZ[\\^_]ZXVSQPNLKIHGFEDCBAA@??>>==<<<<;;;;;;;;;;;;<<<===>>??@AABCDEFGHJKMNPRTVTQOLJHFDCA@>=<;:987765443321000/////.........../////0001122334556789:;<=?@BCEGIKNPSVY]aejpv|\204\214\226¡¡¡¡¢¢¢££¤¥¡\235\231\226\223\220\215\212\210\206\204\202\201\177~|{zyxxwwvvurpmjhfdca_^][ZYXWWVUUTTSSRRRRRRRRRRRRSSTTUUVWWXYZ[]^^[XVTRPNLKIHGEDCBAA@?>>==<<;;;;::::::::::::::;;;<<<==>??@ABCDEFGHJKMNPRTROMJHFDCA@>=<;9987654433221///.....-------------....///00112233456778:;<=?@BCEGJLNQTW[_chmsz\201\212\223\236¢¢¢¢£££¤¥¡\235\231\225\222\217\214\211\207\205\203\201\177}|{yxwvuuttsssrpmkigeca`^]\\[ZYXWVVUTTTSSSRRRRRRRRSSSTTTUVVWXYZ[\\]_\\YVTRPNLJIHFEDCBA@?>>=<<;;;:::9999988888999999:::;;<<==>??@ABCDEGHIKMNPRPMKHFDCA?>=;:98765543221100...----,,,,,,,,,,,,,,,----...//0011234456789:<=?@BDFHJMORVY]afkqw\177\207\220\233£££££¤¤¥¢\235\231\225\221\216\213\210\206\203\201\177}|zywvutssrqqpppponligecb`_]\\[ZYXWWVUUTTTSSSSSSSSSSSSTTTUUVWWXYZ[\\^]ZWTRPNLJIGFECBA@?>>=<<;;::998888877777777778888999::;;<<=>?@@ACDEFHIKMNPMKIFDCA?><;:9876543221100//--,,,,++++++++++++++++,,,,---..//001223456789:<=?@BDFHKNPTW[_dinu|\204\216\230¤¤¤¤¤¥¥¢\235\231\224\221\215\212\207\205\202\200~|zxwvtsrqpponnmmmmmmljhfdba_^]\\ZZYXWVVUUTTTSSSSSSSSSSTTTUUVVWXYZ[\\]^ZXURPNLJIGFDCBA@?>=<<;::998877776666666666666677788899::;<<=>?@ABCEFGIKMNKIGDCA?=<;987654332100//..-,++++******************++++,,---../00123345789:<=?ABDGILORUY]aflrz\202\213\225¡¤¤¥¥¥£\235\231\224\220\215\211\206\203\201\177|zxwutrqponmmlkkkjjjjjjjhfdca`^]\\[ZYXWWVVUUTTTTSSSSSSTTTTUUVVWXXYZ[\\][XUSQNLJIGEDCA@?>=<<;:99887776665555555555555555666777889::;<==>?ABCDFGIKLIGECA?=<:98765432100//.---,+***)))))))))(()))))))))***+++,,--../0112345679:<=?ACEGJMPSW[_djpw\177\210\222\236¥¥¥¦£\236\231\224\220\214\211\205\202\200}{ywutrqonmlkjjiihhgggggggggecb`_^\\[ZYYXWWVVUUTTTTTTTTTTTTUUVVWWXYZZ[]\\YVSQOLJIGEDBA@?>=<;:998776665554444433333333444445556677889::;<=>?@ACDFGIJGECA?=<:9765432110/..--,,++))))((((((''''''''(((((())))**++,,--.//012345679:<=?ACFHKNQUY]bgmt|\205\217\233¦¦¦¤\236\231\224\220\214\210\205\202\177|zxvtrponlkjihhgffeeedddddddeedba_^]\\[ZYXXWVVVUUUTTTTTTTTUUUVVVWXXYZ[\\]ZWTQOMJIGECBA?>=<;:9987766554443333222222222222333344455667789::;<=>@ABDEGHECA?=;:876543210/..--,+++**(((''''''&&&&&&&&&&''''''((()))**++,--./001235679:<>?BDFILOSW[`ekry\202\214\230¦§¦\237\231\224\220\213\207\204\201~{yvtrpomljihgfeedcccbbbbaaabbbbbca`^]\\[ZYYXWWVVVUUUUUUUUUUUUVVVWWXYZZ[\\[XUROMKIGECB@?>=<;:9877655443332221111111111111111222333445567789:;<=>?ABDEECA?=;:87643210//.-,,++**)))'''&&&&&%%%%%%%%%%%%&&&&&'''((())**++,--./01234679:<>@BDGJMQTY]chow\177\211\225¢§ \232\224\217\213\207\203\200}zwusqomkjigfedccbaa``___________``a`_^]\\[ZYXXWWVVVUUUUUUUUUUVVVWWXXYZ[\\\\YVSPMKIGECB@?=<;:9877654433222111000000//////0000001112223345567789:;<>?@BCCA?=;:87543210/.-,,++*)))(('&&%%%%%$$$$$$$$$$$$$$%%%%%&&&''((()**++,-./01234679:<>@CEHKNRV[`flt|\206\222\237¡\233\225\220\213\207\203\177|yvtqomkjhgedcba``_^^]]]\\\\\\\\\\\\\\\\\\]]]^^_^]\\[ZZYXXWWVVVVUUUUUUVVVVWWXXYZZ[\\ZVSPNKIGECA@>=<;98876544322111000////............////0001122334456789:;<=?@BA?=;98654210/.--,+**))(('''&%$$$$$###############$$$$$%%%&&&''(())*+,,-./0134579:<?ACFILPTY^cjqz\203\216\234\234\225\220\213\206\202~{xurpnljhgedba`_^]]\\\\[[ZZZYYYYYYYZZZ[[[\\]]\\\\[ZYYXXWWVVVVVVVVVVVVWWXXYYZ[\\[XTQNKIGECA@>=;:98765443221100///....--------------....///00112234456789:;=>@?=;98653210/.-,+**))('''&&%%$#####\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"####$$$$%%&&''(()**+,-./0134579;=?ADGJNRV[agnw\200\213\230\226\220\213\206\202~zwtqoljhgecba_^]\\[[ZYYXXWWWWWWWWWWWWWXXYYZ[[\\[ZZYXXXWWWVVVVVVVVWWWXXXYZZ[\\YUROLIGECA?><;:876544321100//...---,,,,,,,,,,,,,,,,,,---...//001223455679:;<>=;9764320/.-,++*)((''&&%%%$$\"\"\"\"\"!!!!!!!!!!!!!!!!!\"\"\"\"\"###$$$%%&&'(()*+,,./0124579;=@BEHLPTY^dlt}\210\225\221\213\206\201}zvspnkigecb`_]\\[ZYYXWVVUUUTTTTTTTTTTTUUUVWWXYYZ[ZYYXXXWWWWWWWWWWWWXXXYYZ[\\ZVSOLJGECA?=<;98765432110//..---,,,+++++**********+++++,,,---..//01123456789;<;9764310/.-,+*)((''&%%%$$###!!!!                   !!!!\"\"\"###$$%%&&'())*+,-.0124679;>@CFJMRV\\biqz\205\221\213\206\201}yuroljhecb`^]\\ZYXWVVUTTSSRRRQQQQQQQQRRRRSSTTUVWWXYZYYXXXWWWWWWWWWWXXXYYZ[[\\WTPMJGECA?=<:9765432110//.--,,,+++****))))))))))))))****+++,,,--.//0112345689:9764210.-,+*))('&&%%$$###\"\"\"    \037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037     !!!\"\"###$%%&&'()*+,-./12468:<>ADGKOTY_fnw\201\214\206\201|xuqnkifdb`^][ZYWVUTTSRQQPPPOOOOONNNOOOOOPPPQRRSTUUVXYYYXXXXWWWWWWXXXXYYZZ[\\YUQNKHECA?=;:876542210/..--,+++***))))(((((((((((((((())))***++,,--../01234567875421/.-,+*)('&&%%$###\"\"!!! \037\037\037\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037   !!!\"\"##$%%&''()*+-./12468:<?BEIMQW\\ckt~\206\201|xtpmjgec`^][YXWUTSRQQPOONNMMMLLLLLLLLLLLMMMNNOOPQRSTUVWXYXXXXXXXXXXXXYYZZ[[[VRNKHFCA?=;987543210/..-,,++**)))((('''''''&&&&&&'''''''((()))**++,,-../01234575420/.,+*)(''&%$$##\"\"!!!   \037\036\036\036\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\037\037\037\037  !!\"\"##$%%&'()*+,./12468:=@CGKOTZ`hp{\201|wsolifca_][YXVUTRQPOONMLLKKKJJJIIIIIIIIJJJJKKLLMMNOPQRSTUWXYXXXXXXXXYYYZZZ[\\XSOLIFCA?=;98653210/..-,++**))((('''&&&&&%%%%%%%%%%%%&&&&&'''((())**++,-../01245320/-,+*)('&%$$##\"!!!  \037\037\037\036\036\035\035\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\036\036\036\037\037\037  !!\"##$%&''(*+,-/02469;>ADHMQW]emw|wrokheb`][YXVTSRQONMMLKJJIIHHHGGGGGGGGGGGGGHHHIIJKKLMNOPQRSUWXYYXXYYYYYZZZ[[YUPMIFDA?=;97643210/.-,++*))(('''&&&%%%%$$$$$$$$$$$$$$$$%%%%&&&'''(())*++,-./012310.-+*)('&%%$#\"\"!!  \037\037\037\036\036\036\035\035\034\034\033\033\033\033\033\033\033\033\033\033\032\032\032\033\033\033\033\033\033\033\033\033\033\034\034\034\034\035\035\035\036\036\036\037\037  !!\"##$%&'()*,-/02479<?BFJOTZbjtvrnjgda^\\ZXVTSQPOMLKJJIHHGFFFEEEDDDDDDDDDDDEEEFFGGHHIJKLMNOPRSUWYYYYYYYZZZ[[[VRNJGDA?<:9754210/.-,+**)((''&&&%%$$$$$##################$$$$%%%&&&''(()**+,-./010.,+*)('&%$#\"\"!! \037\037\037\036\036\035\035\035\034\034\034\033\032\032\032\032\032\032\032\032\032\031\031\031\031\031\031\032\032\032\032\032\032\032\032\032\033\033\033\033\034\034\034\034\035\035\036\036\037\037  !!\"#$%&'()*,-/1357:=@CHLQW^gpqmifb`]ZXVTRQONMLJIHHGFEEDDCCCBBBBAAAAAABBBBBCCCDDEFFGHIJKLMOPRSUWYYYZZZZ[[\\XSOKGDA?<:875321/.-,+**)(('&&%%%$$####\"\"\"\"\"\"\"!!!!!!!!\"\"\"\"\"\"\"####$$%%%&&'(()**+,-./.,+)('&%$#\"\"!  \037\037\036\036\035\035\035\034\034\034\033\033\033\032\031\031\031\031\031\031\031\031\031\030\030\030\030\030\030\030\031\031\031\031\031\031\031\031\032\032\032\032\032\033\033\033\034\034\034\035\035\036\036\037\037 !\"\"#$%&')*+-/1358:>AEJOU[cmlhea^[YWUSQONLKJHGFFEDCCBAAA@@@?????????????@@@AABBCDDEFGHIJKMNPRTVXZZZZ[[\\ZUPLHEB?<:864310/.-++*)(''&%%$$$##\"\"\"\"!!!!!              !!!!!\"\"\"\"##$$$%%&''()*++--,*)(&%$##\"!  \037\036\036\035\035\035\034\034\033\033\033\032\032\032\032\030\030\030\030\030\030\030\030\030\027\027\027\027\027\027\027\027\030\030\030\030\030\030\030\030\030\031\031\031\031\032\032\032\033\033\033\034\034\035\035\036\036\037  !\"#$%&'(*+-/1358;?CGLRX`igc`]ZWUSQOMLJIHFEDCCBA@@??>>>====<<<<<<<<<====>>??@@ABBCDEFGHJKMNPRTVY[[[\\\\WQMIEB?<:86421/.-,+*)(''&%%$$##\"\"!!!     \037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037     !!!\"\"###$%%&&'()*++*)'&%$#\"!  \037\036\036\035\035\034\034\033\033\033\032\032\032\031\031\031\031\027\027\027\027\027\027\027\027\027\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\027\027\030\030\030\030\030\031\031\031\032\032\032\033\033\034\034\035\036\036\037  !\"#$%'()+-/1369<@DIOU]fb_\\YVSQOMLJHGFECBAA@?>>==<<;;;:::::::::::::::;;;<<==>??@ABCDEGHIKMNPSUXZ\\\\YSNJFB?=:86420/.,+*)('&&%$$##\"\"!!   \037\037\037\037\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037   !!\"\"##$$%&&'()*('%$#\"!  \037\036\036\035\034\034\033\033\033\032\032\031\031\031\031\030\030\030\030\026\026\026\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\026\026\027\027\027\027\027\030\030\030\031\031\031\032\032\033\033\034\034\035\036\036\037 !\"#$%&()+-/147:=BFLRYa^ZWTRPMKJHFEDCA@?>>=<;;::999888877777777777888899::;;<==>?@ABCEFHIKMOQTVY\\UPKGC@=:85320.-,*)('&&%$##\"\"!!  \037\037\037\036\036\036\036\035\035\035\035\035\035\035\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\035\035\036\036\036\036\037\037\037  !!\"\"##$%&&'(&%$#\"! \037\036\036\035\034\034\033\033\032\032\031\031\031\030\030\030\027\027\027\027\027\025\025\025\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\025\025\025\025\026\026\026\026\027\027\027\027\030\030\031\031\031\032\032\033\034\034\035\036\036\037 !\"#%&')+-/247;?CIOV\\YVSPNLJHFECBA?>=<<;:9988776665555555555555555666778899:;;<=>?@ACDFGIKMPRUWQLHD@=:7531/.,+*)'&&%$#\"\"!!  \037\037\036\036\036\035\035\035\034\034\034\034\034\034\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\034\034\034\034\034\034\035\035\035\036\036\036\037\037  !!\"\"#$%%&$#\"! \037\036\036\035\034\033\033\032\032\031\031\031\030\030\027\027\027\027\026\026\026\026\025\024\024\024\024\024\024\024\024\023\023\023\023\023\023\023\023\023\023\024\024\024\024\024\024\024\024\024\025\025\025\025\025\026\026\026\027\027\027\030\030\031\031\032\032\033\034\034\035\036\037 !\"#$&')+-/258<AFKRXTQOLJHFDCA@?=<;:998776554443333222222222222333344455667889:;<=>@ABDFGILNQSNID@=:7531/-,*)('&%$#\"!!  \037\037\036\036\035\035\035\034\034\034\033\033\033\033\033\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\033\033\033\033\033\034\034\034\035\035\035\036\036\037\037  !!\"#$$#! \037\036\036\035\034\033\033\032\032\031\031\030\030\027\027\027\026\026\026\025\025\025\025\025\024\023\023\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\023\023\023\024\024\024\024\024\025\025\025\026\026\026\027\027\027\030\030\031\032\032\033\034\034\035\036\037 !\"$%')+-0369>CHOSPMJHFDBA?><;:9876654433221110000000////0000000111223344566789:;<>?@BDFHJLOJEA=:7520.-+*('&%$#\"!! \037\037\036\036\035\035\034\034\034\033\033\033\032\032\032\032\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\032\032\032\032\033\033\033\033\034\034\035\035\036\036\037\037  !\"\"! \037\036\035\034\033\033\032\031\031\030\030\027\027\026\026\026\025\025\025\025\024\024\024\024\024\023\022\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\022\022\022\023\023\023\023\023\024\024\024\024\025\025\025\026\026\027\027\030\030\031\031\032\033\034\034\035\036 !\"#%')+-037;?EKNKIFDB@?=<:98765443221000//....--------------....//00012234456789:<=?@BDFHKFB>:7420.,*)'&%$#\"!  \037\036\036\035\035\034\034\033\033\032\032\032\031\031\031\031\031\030\030\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\030\030\031\031\031\031\032\032\032\033\033\034\034\035\035\036\036\037   \037\036\035\034\033\033\032\031\031\030\027\027\026\026\026\025\025\025\024\024\024\023\023\023\023\023\022\022\021\021\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\023\023\023\024\024\024\025\025\025\026\026\027\027\030\031\031\032\033\034\035\036\037 \"#%')+.148<BHIGDB@>=;:8765432110//..---,,,+++++++****+++++++,,,---..//0112345678:;=>@BDGC>:742/-+*('%$#\"! \037\037\036\035\035\034\034\033\033\032\032\031\031\031\030\030\030\030\027\027\027\027\027\027\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\027\027\027\027\027\027\030\030\030\030\031\031\031\032\032\033\033\033\034\035\035\036\037\036\035\034\033\033\032\031\030\030\027\027\026\026\025\025\024\024\024\023\023\023\023\022\022\022\022\022\021\021\020\020\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\022\022\022\022\023\023\023\024\024\025\025\026\026\027\027\030\031\031\032\033\034\035\036 !#$&)+.159>DEB@><:976543210/..--,,++***))))(((((((((((((())))***++,,--../012345689;<>@B?;741/-+)'&$#\"! \037\036\036\035\034\034\033\032\032\031\031\031\030\030\030\027\027\027\026\026\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\026\027\027\027\030\030\030\031\031\031\032\032\033\033\034\035\035\034\033\032\031\030\030\027\026\026\025\025\024\024\024\023\023\023\022\022\022\021\021\021\021\021\021\020\020\017\017\017\017\017\017\017\017\017\016\016\016\016\016\016\016\017\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\021\021\021\021\022\022\022\023\023\023\024\024\025\025\026\026\027\030\031\032\032\033\035\036\037!\"$&)+.26;A@><:8754320//.-,,+**))((('''&&&&&&&&&&&&&&&&&&&''''((())**+,,-./01234578:<>;741.,*(&%$\"! \037\036\035\035\034\033\032\032\031\031\030\030\030\027\027\026\026\026\026\025\025\025\025\025\024\024\024\024\024\024\024\024\024\024\023\023\023\023\023\023\024\024\024\024\024\024\024\024\024\024\025\025\025\025\025\026\026\026\026\027\027\027\030\030\031\031\032\032\033\033\032\031\030\027\027\026\025\025\024\024\023\023\023\022\022\022\021\021\021\021\020\020\020\020\020\017\017\017\016\016\016\016\016\016\016\016\016\016\015\015\015\015\015\016\016\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\017\020\020\020\020\021\021\021\022\022\022\023\023\024\024\025\026\026\027\030\031\032\033\034\035\037 \"$&),/37=<:864320/.-,++*))((''&&%%%$$$$$##############$$$$$%%%&&''(())*+,,-./123568:741.+)'&$#! \037\036\035\034\033\033\032\031\031\030\030\027\027\026\026\026\025\025\025\024\024\024\024\024\023\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\023\024\024\024\024\024\025\025\025\026\026\026\027\027\030\030\031\031\031\030\027\026\026\025\025\024\023\023\023\022\022\021\021\021\020\020\020\020\017\017\017\017\017\017\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\017\017\017\017\020\020\020\020\021\021\022\022\023\023\024\024\025\025\026\027\030\031\032\033\035\036 \"$&),04975421/.-,+*)(('&&%%$$###\"\"\"\"!!!!!!!!!!!!!!!!!!!!\"\"\"\"##$$$%%&&'())*+,-.0124640-+)&%#\" \037\036\035\034\033\032\032\031\030\030\027\027\026\026\025\025\025\024\024\024\023\023\023\023\022\022\022\022\022\022\022\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\022\022\022\022\022\022\023\023\023\023\024\024\024\024\025\025\026\026\027\027\030\027\026\026\025\024\024\023\023\022\022\021\021\020\020\020\020\017\017\017\017\016\016\016\016\016\016\015\015\015\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\016\016\016\016\017\017\017\020\020\020\021\021\022\022\023\023\024\025\025\026\027\030\031\033\034\035\037!#&),15310.-,+*)('&%%$##\"\"\"!!    \037\037\037\037\037\036\036\036\036\036\036\036\036\036\036\036\036\036\037\037\037\037\037\037   !!!\"\"##$$%&&'()*+,-/020-*(&$\" \037\036\035\034\033\032\031\030\030\027\026\026\025\025\024\024\024\023\023\023\022\022\022\022\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\022\022\022\022\023\023\023\024\024\024\025\025\026\025\025\024\023\023\022\022\021\021\020\020\020\017\017\017\016\016\016\016\015\015\015\015\015\015\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\015\015\015\015\015\016\016\016\017\017\017\020\020\021\021\022\022\023\024\024\025\026\027\030\032\033\035\037!#&)-0/-,*)('&%$$#\"\"!!  \037\037\036\036\036\036\035\035\035\035\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\035\035\035\035\035\036\036\036\037\037\037  !!\"##$%&&'(*+,.,)'%#!\037\036\035\034\033\032\031\030\027\026\026\025\025\024\024\023\023\022\022\022\022\021\021\021\020\020\020\020\020\020\017\017\017\017\017\017\017\017\017\017\017\016\016\016\016\016\016\016\016\017\017\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\021\021\021\021\022\022\022\023\023\024\024\024\023\022\022\021\021\020\020\017\017\017\016\016\016\015\015\015\015\015\014\014\014\014\014\014\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\014\014\014\014\014\015\015\015\016\016\016\017\017\020\020\021\021\022\023\024\024\025\026\030\031\032\034\036 #&),+)('&%$#\"!  \037\037\036\036\035\035\034\034\034\033\033\033\033\032\032\032\032\032\032\032\032\031\031\031\031\031\031\031\031\031\031\032\032\032\032\032\032\032\033\033\033\033\034\034\034\035\035\035\036\036\037\037 !!\"#$%&'(*(&$! \036\035\033\032\031\030\027\027\026\025\025\024\023\023\022\022\022\021\021\021\020\020\020\017\017\017\017\017\017\016\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\016\016\017\017\017\017\017\020\020\020\021\021\021\022\022\022\022\021\021\020\020\017\017\016\016\016\015\015\015\014\014\014\014\014\013\013\013\013\013\013\013\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\013\013\013\013\014\014\014\014\015\015\015\016\016\017\017\020\020\021\022\023\023\024\025\027\030\032\033\035 #&(&%$#\"! \037\037\036\035\035\034\034\033\033\032\032\032\031\031\031\031\030\030\030\030\030\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\030\030\030\030\030\030\031\031\031\032\032\032\033\033\034\034\035\035\036\036\037 !!\"#$&%\" \036\035\033\032\031\030\027\026\025\024\024\023\023\022\022\021\021\020\020\020\017\017\017\017\016\016\016\016\015\015\015\015\015\015\015\015\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\015\015\015\015\015\015\015\015\016\016\016\016\016\017\017\017\020\020\020\021\020\020\017\017\016\016\015\015\015\014\014\014\013\013\013\013\013\012\012\012\012\012\012\012\012\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\012\012\012\012\012\013\013\013\013\014\014\014\015\015\016\016\017\017\020\021\021\022\023\024\026\027\031\033\035\037\"#\"! \037\036\035\035\034\033\033\032\032\031\031\030\030\030\027\027\027\027\026\026\026\026\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\026\026\026\026\026\027\027\027\030\030\030\031\031\032\032\033\033\034\034\035\036\037 !\"!\037\035\033\032\031\027\026\025\025\024\023\022\022\021\021\020\020\017\017\017\016\016\016\015\015\015\015\015\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\015\015\015\015\015\016\016\016\017\017\016\016\015\015\015\014\014\014\013\013\013\012\012\012\012\012\011\011\011\011\011\011\011\011\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\010\011\011\011\011\011\012\012\012\012\013\013\013\014\014\014\015\016\016\017\017\020\021\022\023\024\026\030\032\034\037\037\036\035\034\033\033\032\031\031\030\030\027\027\026\026\026\025\025\025\024\024\024\024\023\023\023\023\023\023\023\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\023\023\023\023\023\023\023\024\024\024\024\025\025\025\025\026\026\027\027\027\030\031\031\032\032\033\034\035\036\035\033\032\030\027\026\025\024\023\022\022\021\020\020\017\017\016\016\016\015\015\015\014\014\014\014\013\013\013\013\013\013\013\012\012\012\012\012\012\012\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\014\014\014\014\015\015\015\015\014\014\013\013\013\012\012\012\012\011\011\011\011\011\011\010\010\010\010\010\010\010\010\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\011\011\011\011\012\012\012\013\013\014\014\015\015\016\017\020\021\022\023\025\026\030\033\033\032\031\031\030\027\027\026\026\025\025\024\024\023\023\023\022\022\022\022\021\021\021\021\021\021\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\021\021\021\021\021\021\022\022\022\022\023\023\023\024\024\024\025\025\026\026\027\030\030\031\032\032\030\026\025\024\023\022\021\021\020\017\017\016\016\015\015\015\014\014\014\013\013\013\013\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\013\013\013\013\013\013\013\012\012\012\011\011\011\011\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\010\010\010\010\011\011\011\012\012\012\013\013\014\015\015\016\017\020\022\023\025\027\027\026\026\025\024\024\023\023\022\022\021\021\021\020\020\020\020\017\017\017\017\017\017\016\016\016\016\016\016\016\016\016\016\016\015\015\015\015\015\015\015\015\015\015\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017\020\020\020\020\021\021\021\022\022\023\023\024\024\025\025\026\026\024\023\022\021\020\017\017\016\016\015\015\014\014\013\013\013\012\012\012\012\011\011\011\011\011\011\010\010\010\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\010\010\010\011\011\011\011\011\012\012\011\011\011\010\010\010\010\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\007\007\007\007\010\010\010\011\011\011\012\013\013\014\015\016\017\020\022\023\023\022\022\021\021\020\020\017\017\017\016\016\016\016\015\015\015\015\015\014\014\014\014\014\014\014\014\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\014\014\014\014\014\014\014\014\015\015\015\015\015\016\016\016\016\017\017\017\020\020\021\021\022\022\022\021\020\017\016\015\015\014\014\013\013\012\012\012\011\011\011\011\010\010\010\010\010\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\007\010\010\010\010\010\007\007\007\007\007\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\006\006\006\006\007\007\007\010\010\010\011\011\012\013\014\015\016\017\017\016\016\016\015\015\014\014\014\014\013\013\013\013\013\012\012\012\012\012\012\012\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012\013\013\013\013\013\014\014\014\014\015\015\016\016\016\016\015\015\014\013\013\012\012\011\011\011\010\010\010\007\007\007\007\007\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\006\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\005\005\005\005\006\006\006\007\007\007\010\011\012\012\013\013\013\012\012\012\011\011\011\011\011\010\010\010\010\010\010\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010\010\010\010\010\010\011\011\011\011\011\012\012\012\013\013\012\011\011\010\010\007\007\007\007\006\006\006\006\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\004\004\004\004\005\005\005\006\006\007\007\007\007\007\006\006\006\006\006\006\005\005\005\005\005\005\005\005\005\005\005\005\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\007\007\007\007\006\006\005\005\005\005\004\004\004\004\004\004\003\003\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003\003\003\003\003\003\003\003\003\003\002\002\002\002\002\002\002\002\002\002\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000").toString()
+                    .getBytes("ISO-8859-1");
+        } catch (UnsupportedEncodingException ignored) {
+            System.out.println("You may ask yourself, 'How did I get here?' Well, there's an encoding problem.");
+            GAMUT_DATA = new byte[65536];
+        }
+    }
+}
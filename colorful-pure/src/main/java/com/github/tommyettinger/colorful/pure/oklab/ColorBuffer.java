@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.pure.oklab;
+
+import com.github.tommyettinger.colorful.pure.ChannelBuffer;
+
+/**
+ * A {@link ChannelBuffer} of Oklab colors, with L in {@link #c0}, A in {@link #c1}, and B in {@link #c2}.
+ * Packed floats read or written by this use the same format as Oklab {@link ColorTools}, and
+ * {@link #limitToGamut()} acts like {@link ColorPipeline#limitToGamut()}. A {@link ColorPipeline} can also be applied
+ * to a whole ColorBuffer at once with {@link ColorPipeline#apply(ColorBuffer)}.
+ */
+public class ColorBuffer extends ChannelBuffer {
+    /**
+     * Creates an empty ColorBuffer with room for 16 colors.
+     */
+    public ColorBuffer() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty ColorBuffer with room for {@code capacity} colors before it needs to grow.
+     * @param capacity how many colors this can hold at first; must be non-negative
+     */
+    public ColorBuffer(int capacity) {
+        super(capacity, 255f);
+    }
+
+    /**
+     * Creates a ColorBuffer holding every color in {@code packed}.
+     * @param packed an array of packed float Oklab colors
+     */
+    public ColorBuffer(float[] packed) {
+        this(packed.length);
+        unpack(packed, 0, packed.length);
+    }
+
+    @Override
+    public ColorBuffer fromRGBA8888(int[] rgba, int offset, int count) {
+        if (offset < 0 || count < 0 || offset + count > rgba.length)
+            throw new IllegalArgumentException("offset and count must be within rgba");
+        setSize(count);
+        for (int i = 0; i < count; i++) {
+            set(i, ColorTools.fromRGBA8888(rgba[offset + i]));
+        }
+        return this;
+    }
+
+    @Override
+    public int[] toRGBA8888(int[] rgba, int offset) {
+        if (offset < 0 || offset + size > rgba.length)
+            throw new IllegalArgumentException("rgba doesn't have room for every color after offset");
+        for (int i = 0; i < size; i++) {
+            rgba[offset + i] = ColorTools.toRGBA8888(get(i));
+        }
+        return rgba;
+    }
+
+    /**
+     * Brings each color that isn't already in gamut just inside the gamut at the same lightness, the same way
+     * {@link ColorPipeline#limitToGamut()} does, and clamps L and alpha to the 0 to 1 range. Unlike
+     * {@link ColorTools#limitToGamut(float, float, float, float)}, this always produces colors that pass
+     * {@link ColorTools#inGamut(float)} once packed, and it checks most colors without any trigonometry.
+     * @return this, for chaining
+     */
+    @Override
+    public ColorBuffer limitToGamut() {
+        ColorPipeline.limitToGamut(c0, c1, c2, size);
+        clamp(alpha);
+        return this;
+    }
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.pure.oklab;
+
+import com.github.tommyettinger.digital.BitConversion;
+import com.github.tommyettinger.digital.TrigTools;
+import com.github.tommyettinger.ds.FloatList;
+
+import static com.github.tommyettinger.colorful.pure.oklab.Gamut.GAMUT_DATA;
+
+/**
+ * Records a chain of edits to packed Oklab colors, like {@link ColorTools#lighten(float, float)} followed by
+ * {@link ColorTools#enrich(float, float)} and {@link ColorTools#limitToGamut(float)}, and applies the whole chain at
+ * once. Calling the ColorTools methods one after another decodes the packed float, edits it, and encodes it back to
+ * bytes at every step, which rounds each channel to a byte each time; a ColorPipeline decodes a color once, applies
+ * every edit to float channels, and encodes the result once, so it is both faster and more precise.
+ * <br>
+ * Every edit except gamut limiting only multiplies a channel and adds to it, so runs of those edits are combined as
+ * they are recorded: a pipeline of lighten, raiseA, dullen, and fade costs the same to apply as one edit. Each
+ * {@link #limitToGamut()}, including the one {@link #enrich(float)} does, ends one such run and starts the next.
+ * <br>
+ * Each edit method returns this pipeline, so a pipeline can be built in one expression, such as
+ * {@code new ColorPipeline().lighten(0.2f).enrich(0.3f).fade(0.1f)}, and then applied with {@link #apply(float)} or
+ * to many colors at once with {@link #apply(float[], int, int)}, {@link #apply(ColorBuffer)}, or
+ * {@link #apply(FloatList)}. Applying a pipeline doesn't change it, so one pipeline can be applied from multiple
+ * threads, as long as no edits are added meanwhile.
+ * <br>
+ * As with the ColorTools methods, {@code change} should usually be between 0 and 1 for each edit. Channels are
+ * clamped to their valid range when the color is limited to the gamut and when it is encoded, but not between other
+ * edits.
+ */
+public class ColorPipeline {
+    /**
+     * For each L byte, the largest squared distance from gray, in A and B bytes, that is in-gamut at every hue.
+     * Colors within that distance of gray don't need their hue to be checked.
+     */
+    private static final float[] SAFE_CHROMA = new float[256];
+    /**
+     * The hue byte that the gamut data is indexed with, for every pair of A and B channel bytes, as
+     * {@link ColorTools#inGamut(float)} calculates it. The index is {@code (A << 8 | B)}.
+     */
+    private static final byte[] GAMUT_HUE = new byte[65536];
+
+    static {
+        for (int a = 0, i = 0; a < 256; a++) {
+            for (int b = 0; b < 256; b++) {
+                GAMUT_HUE[i++] = (byte) (int) (256f * TrigTools.atan2TurnsFinite((b - 127f) / 255f,
+                        (a - 127f) / 255f));
+            }
+        }
+        for (int L = 0; L < 256; L++) {
+            int min = Integer.MAX_VALUE;
+            for (int h = 0; h < 256; h++) {
+                min = Math.min(min, GAMUT_DATA[L << 8 | h]);
+            }
+            SAFE_CHROMA[L] = limit(Math.max(min, 0));
+        }
+    }
+
+    /**
+     * Clamps x between 0 and 1.
+     */
+    private static float clamp(final float x) {
+        return Math.min(Math.max(x, 0f), 1f);
+    }
+
+    /**
+     * Gets the largest squared distance from gray, in A and B bytes, that {@link ColorTools#inGamut(float)} accepts
+     * when the gamut data for a color is {@code g}.
+     */
+    private static float limit(final int g) {
+        return g * g * (65025f / 262144f) + 65025f / 16384f;
+    }
+
+    /**
+     * Gets {@link #limit(int)} for the gamut data of the color with L byte {@code row >>> 8} and A and B bytes
+     * {@code a + 127} and {@code b + 127}.
+     */
+    private static float gamutLimit(final int row, final int a, final int b) {
+        return limit(GAMUT_DATA[row | (GAMUT_HUE[a + 127 << 8 | b + 127] & 0xFF)]);
+    }
+
+    /**
+     * Moves the out-of-gamut color with L byte {@code row >>> 8} and A and B bytes {@code a + 127} and {@code b + 127}
+     * toward gray until it is in-gamut, returning the new A byte in the low 8 bits and the new B byte in the next 8.
+     */
+    private static int limitChroma(final int row, int a, int b) {
+        final float hue = TrigTools.atan2TurnsFinite(b, a);
+        final float cos = TrigTools.cosTurns(hue), sin = TrigTools.sinTurns(hue);
+        // starts at the gamut edge for this hue, and steps toward gray until the bytes it would be encoded to are
+        // inside the gamut
+        float dist = GAMUT_DATA[row | (int) (256f * hue) & 0xFF] * 0.5f;
+        do {
+            a = (int) (cos * dist + 127.5f) - 127;
+            b = (int) (sin * dist + 127.5f) - 127;
+            dist -= 0.5f;
+        } while (dist > 0f && a * a + b * b > gamutLimit(row, a, b));
+        return a + 127 | b + 127 << 8;
+    }
+
+    /**
+     * Each stage is 8 floats: a multiplier and then an addend for each of L, A, B, and alpha. Every stage but the
+     * last is followed by gamut limiting; the last is only followed by it if {@link #limitAtEnd} is true.
+     */
+    protected float[] stages = new float[32];
+    protected int stageCount;
+    protected boolean limitAtEnd;
+
+    /**
+     * Creates a ColorPipeline with no edits, which returns every color unchanged.
+     */
+    public ColorPipeline() {
+        clear();
+    }
+
+    /**
+     * Creates a ColorPipeline with the same edits as {@code other}.
+     * @param other another ColorPipeline to copy
+     */
+    public ColorPipeline(ColorPipeline other) {
+        stages = other.stages.clone();
+        stageCount = other.stageCount;
+        limitAtEnd = other.limitAtEnd;
+    }
+
+    /**
+     * Removes all edits from this pipeline.
+     * @return this, for chaining
+     */
+    public ColorPipeline clear() {
+        stageCount = 0;
+        limitAtEnd = false;
+        addStage();
+        return this;
+    }
+
+    private void addStage() {
+        final int start = stageCount++ << 3;
+        if (start + 8 > stages.length) {
+            final float[] next = new float[stages.length << 1];
+            System.arraycopy(stages, 0, next, 0, start);
+            stages = next;
+        }
+        for (int i = start; i < start + 8; i += 2) {
+            stages[i] = 1f;
+            stages[i + 1] = 0f;
+        }
+    }
+
+    /**
+     * Makes {@code channel} (0 for L, 1 for A, 2 for B, 3 for alpha) get multiplied by mul and then have add added,
+     * after all previous edits.
+     */
+    private ColorPipeline edit(final int channel, final float mul, final float add) {
+        if (limitAtEnd) {
+            addStage();
+            limitAtEnd = false;
+        }
+        final int i = (stageCount - 1 << 3) + (channel << 1);
+        stages[i] = stages[i] * mul;
+        stages[i + 1] = stages[i + 1] * mul + add;
+        return this;
+    }
+
+    /**
+     * Moves L toward white by change, like {@link ColorTools#lighten(float, float)}.
+     * @param change how much to go toward white, as a float between 0 and 1; higher means closer to white
+     * @return this, for chaining
+     */
+    public ColorPipeline lighten(float change) {
+        return edit(0, 1f - change, change);
+    }
+
+    /**
+     * Moves L toward black by change, like {@link ColorTools#darken(float, float)}.
+     * @param change how much to go toward black, as a float between 0 and 1; higher means closer to black
+     * @return this, for chaining
+     */
+    public ColorPipeline darken(float change) {
+        return edit(0, 1f - change, 0f);
+    }
+
+    /**
+     * Moves A toward a warmer color by change, like {@link ColorTools#raiseA(float, float)}.
+     * @param change how much to warm the color, as a float between 0 and 1; higher means a warmer result
+     * @return this, for chaining
+     */
+    public ColorPipeline raiseA(float change) {
+        return edit(1, 1f - change, change);
+    }
+
+    /**
+     * Moves A toward a cooler color by change, like {@link ColorTools#lowerA(float, float)}.
+     * @param change how much to cool the color, as a float between 0 and 1; higher means a cooler result
+     * @return this, for chaining
+     */
+    public ColorPipeline lowerA(float change) {
+        return edit(1, 1f - change, 0f);
+    }
+
+    /**
+     * Moves B toward a more "natural" color by change, like {@link ColorTools#raiseB(float, float)}.
+     * @param change how much to change toward a natural color, as a float between 0 and 1; higher is more natural
+     * @return this, for chaining
+     */
+    public ColorPipeline raiseB(float change) {
+        return edit(2, 1f - change, change);
+    }
+
+    /**
+     * Moves B toward a more "artificial" color by change, like {@link ColorTools#lowerB(float, float)}.
+     * @param change how much to change toward an artificial color, as a float between 0 and 1; higher is more
+     *               artificial
+     * @return this, for chaining
+     */
+    public ColorPipeline lowerB(float change) {
+        return edit(2, 1f - change, 0f);
+    }
+
+    /**
+     * Moves alpha toward opaque by change, like {@link ColorTools#blot(float, float)}.
+     * @param change how much to go toward opaque, as a float between 0 and 1; higher means closer to opaque
+     * @return this, for chaining
+     */
+    public ColorPipeline blot(float change) {
+        return edit(3, 1f - change, change);
+    }
+
+    /**
+     * Moves alpha toward transparent by change, like {@link ColorTools#fade(float, float)}.
+     * @param change how much to go toward transparent, as a float between 0 and 1; higher means closer to transparent
+     * @return this, for chaining
+     */
+    public ColorPipeline fade(float change) {
+        return edit(3, 1f - change, 0f);
+    }
+
+    /**
+     * Moves A and B toward gray by change, like {@link ColorTools#dullen(float, float)}.
+     * @param change how much to desaturate, as a float between 0 and 1; higher means a less saturated result
+     * @return this, for chaining
+     */
+    public ColorPipeline dullen(float change) {
+        edit(1, 1f - change, 0.5f * change);
+        return edit(2, 1f - change, 0.5f * change);
+    }
+
+    /**
+     * Pushes A and B away from gray by change and then limits the color to the gamut, like
+     * {@link ColorTools#enrich(float, float)}.
+     * @param change how much to saturate, as a float between 0 and 1; higher means a more saturated result
+     * @return this, for chaining
+     */
+    public ColorPipeline enrich(float change) {
+        edit(1, 1f + change, -0.5f * change);
+        edit(2, 1f + change, -0.5f * change);
+        return limitToGamut();
+    }
+
+    /**
+     * Brings the color just inside the gamut at the same lightness if it isn't in-gamut already, like
+     * {@link ColorTools#limitToGamut(float)}. If this is the last edit, the result always passes
+     * {@link ColorTools#inGamut(float)}, which ColorTools.limitToGamut() doesn't promise.
+     * @return this, for chaining
+     */
+    public ColorPipeline limitToGamut() {
+        limitAtEnd = true;
+        return this;
+    }
+
+    /**
+     * Applies every edit in this pipeline to the given color, decoding and encoding it only once.
+     * @param packed a packed float Oklab color
+     * @return a packed float Oklab color with every edit applied
+     */
+    public float apply(final float packed) {
+        final int decoded = BitConversion.floatToRawIntBits(packed);
+        float L = (decoded & 0xFF) * (1f / 255f);
+        float A = (decoded >>> 8 & 0xFF) * (1f / 255f);
+        float B = (decoded >>> 16 & 0xFF) * (1f / 255f);
+        float alpha = (decoded >>> 25) * (1f / 127f);
+        final float[] stages = this.stages;
+        for (int i = 0, n = stageCount << 3; i < n; i += 8) {
+            L = L * stages[i] + stages[i + 1];
+            A = A * stages[i + 2] + stages[i + 3];
+            B = B * stages[i + 4] + stages[i + 5];
+            alpha = alpha * stages[i + 6] + stages[i + 7];
+            if (i + 8 < n || limitAtEnd) {
+                L = clamp(L);
+                final int row = (int) (L * 255f) << 8;
+                // checks the A and B bytes this would be encoded to, the same way ColorTools.inGamut() does
+                int a = (int) (clamp(A) * 255f) - 127;
+                int b = (int) (clamp(B) * 255f) - 127;
+                final int chroma = a * a + b * b;
+                if (chroma > SAFE_CHROMA[row >>> 8] && chroma > gamutLimit(row, a, b)) {
+                    final int limited = limitChroma(row, a, b);
+                    A = ((limited & 0xFF) + 0.5f) / 255f;
+                    B = ((limited >>> 8) + 0.5f) / 255f;
+                }
+            }
+        }
+        return BitConversion.intBitsToFloat(
+                ((int) (clamp(alpha) * 255f) << 24 & 0xFE000000)
+                        | (int) (clamp(B) * 255f) << 16
+                        | (int) (clamp(A) * 255f) << 8
+                        | (int) (clamp(L) * 255f));
+    }
+
+    /**
+     * Applies every edit in this pipeline to {@code length} colors in {@code colors}, starting at {@code offset},
+     * replacing each color with its edited version.
+     * @param colors packed float Oklab colors; will be modified
+     * @param offset the first index in colors to edit
+     * @param length how many colors to edit
+     * @return colors, after editing
+     */
+    public float[] apply(final float[] colors, final int offset, final int length) {
+        for (int i = offset, n = offset + length; i < n; i++) {
+            colors[i] = apply(colors[i]);
+        }
+        return colors;
+    }
+
+    /**
+     * Applies every edit in this pipeline to every color in {@code colors}, replacing each color with its edited
+     * version.
+     * @param colors packed float Oklab colors; will be modified
+     * @return colors, after editing
+     */
+    public float[] apply(final float[] colors) {
+        return apply(colors, 0, colors.length);
+    }
+
+    /**
+     * Applies every edit in this pipeline to every color in {@code colors}, replacing each color with its edited
+     * version.
+     * @param colors packed float Oklab colors; will be modified
+     * @return colors, after editing
+     */
+    public FloatList apply(final FloatList colors) {
+        apply(colors.items, 0, colors.size());
+        return colors;
+    }
+
+    /**
+     * Applies every edit in this pipeline to every color in {@code colors}, which is often faster than applying it to
+     * packed floats when there are many colors. Each run of edits between gamut limits is applied to one whole channel
+     * array at a time, and the channels are never rounded to bytes except where the gamut is limited, so packing the
+     * buffer afterward gives the same colors as {@link #apply(float)} would.
+     * @param colors a ColorBuffer of Oklab colors; will be modified
+     * @return colors, after editing
+     */
+    public ColorBuffer apply(final ColorBuffer colors) {
+        final int size = colors.size();
+        final float[] Ls = colors.c0, As = colors.c1, Bs = colors.c2, alphas = colors.alpha;
+        final float[] stages = this.stages;
+        for (int s = 0, n = stageCount << 3; s < n; s += 8) {
+            affine(Ls, size, stages[s], stages[s + 1]);
+            affine(As, size, stages[s + 2], stages[s + 3]);
+            affine(Bs, size, stages[s + 4], stages[s + 5]);
+            affine(alphas, size, stages[s + 6], stages[s + 7]);
+            if (s + 8 < n || limitAtEnd)
+                limitToGamut(Ls, As, Bs, size);
+        }
+        return colors;
+    }
+
+    /**
+     * Clamps the first {@code size} L values and brings each of those colors that isn't in-gamut just inside the gamut,
+     * the same way {@link #limitToGamut()} does, so the bytes each color would be encoded to pass
+     * {@link ColorTools#inGamut(float)}.
+     */
+    static void limitToGamut(final float[] Ls, final float[] As, final float[] Bs, final int size) {
+        for (int i = 0; i < size; i++) {
+            final float L = clamp(Ls[i]);
+            Ls[i] = L;
+            final int row = (int) (L * 255f) << 8;
+            final int a = (int) (clamp(As[i]) * 255f) - 127;
+            final int b = (int) (clamp(Bs[i]) * 255f) - 127;
+            final int chroma = a * a + b * b;
+            if (chroma > SAFE_CHROMA[row >>> 8] && chroma > gamutLimit(row, a, b)) {
+                final int limited = limitChroma(row, a, b);
+                As[i] = ((limited & 0xFF) + 0.5f) / 255f;
+                Bs[i] = ((limited >>> 8) + 0.5f) / 255f;
+            }
+        }
+    }
+
+    private static void affine(final float[] items, final int size, final float mul, final float add) {
+        if (mul != 1f || add != 0f) {
+            for (int i = 0; i < size; i++) items[i] = items[i] * mul + add;
+        }
+    }
+}
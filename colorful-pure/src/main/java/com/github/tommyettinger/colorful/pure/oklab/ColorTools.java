@@ -197,6 +197,24 @@ public class ColorTools {
 		L = 0.33333334f * (1.9999999f * L + x0 / (L * L));
 		return L * L;
 	}
+
+	/**
+	 * {@link #forwardGamma(float)} of each possible 8-bit RGB channel value, scaled to the 0 to 1 range the same way
+	 * {@link #fromRGBA8888(int)} scales it.
+	 */
+	private static final float[] FORWARD_GAMMA = new float[256];
+	/**
+	 * {@link #reverseLight(float)} of each possible 8-bit L channel value of a packed Oklab color, divided by 255.
+	 */
+	private static final float[] REVERSE_LIGHT = new float[256];
+
+	static {
+		for (int i = 0; i < 256; i++) {
+			FORWARD_GAMMA[i] = forwardGamma(i * 0x1.010101010101p-8f);
+			REVERSE_LIGHT[i] = reverseLight(i / 255f);
+		}
+	}
+
 //	public static float reverseLight(float L) {
 //		L = (float) Math.sqrt(L * 0x0.ffp0f);
 //		final float shape = 1.52f, turning = 0.963f;
@@ -222,7 +240,7 @@ public class ColorTools {
 	public static int toRGBA8888(final float packed)
 	{
 		final int decoded = BitConversion.floatToRawIntBits(packed);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -244,7 +262,7 @@ public class ColorTools {
 	public static float toRGBA(final float packed)
 	{
 		final int decoded = BitConversion.floatToRawIntBits(packed);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -262,9 +280,9 @@ public class ColorTools {
 	 * @return a packed float as Oklab, which this class can use
 	 */
 	public static float fromRGBA8888(final int rgba) {
-		final float r = forwardGamma((rgba >>> 24) * 0x1.010101010101p-8f);
-		final float g = forwardGamma((rgba >>> 16 & 0xFF) * 0x1.010101010101p-8f);
-		final float b = forwardGamma((rgba >>> 8 & 0xFF) * 0x1.010101010101p-8f);
+		final float r = FORWARD_GAMMA[rgba >>> 24];
+		final float g = FORWARD_GAMMA[rgba >>> 16 & 0xFF];
+		final float b = FORWARD_GAMMA[rgba >>> 8 & 0xFF];
 
 		final float l = cbrtPositive(0.4121656120f * r + 0.5362752080f * g + 0.0514575653f * b);
 		final float m = cbrtPositive(0.2118591070f * r + 0.6807189584f * g + 0.1074065790f * b);
@@ -285,9 +303,9 @@ public class ColorTools {
 	 */
 	public static float fromRGBA(final float packed) {
 		final int abgr = BitConversion.floatToRawIntBits(packed);
-		final float r = forwardGamma((abgr & 0xFF) * 0x1.010101010101p-8f);
-		final float g = forwardGamma((abgr >>> 8 & 0xFF) * 0x1.010101010101p-8f);
-		final float b = forwardGamma((abgr >>> 16 & 0xFF) * 0x1.010101010101p-8f);
+		final float r = FORWARD_GAMMA[abgr & 0xFF];
+		final float g = FORWARD_GAMMA[abgr >>> 8 & 0xFF];
+		final float b = FORWARD_GAMMA[abgr >>> 16 & 0xFF];
 		final float l = cbrtPositive(0.4121656120f * r + 0.5362752080f * g + 0.0514575653f * b);
 		final float m = cbrtPositive(0.2118591070f * r + 0.6807189584f * g + 0.1074065790f * b);
 		final float s = cbrtPositive(0.0883097947f * r + 0.2818474174f * g + 0.6302613616f * b);
@@ -331,7 +349,7 @@ public class ColorTools {
 	public static int redInt(final float encoded)
 	{
 		final int decoded = BitConversion.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -348,7 +366,7 @@ public class ColorTools {
 	public static int greenInt(final float encoded)
 	{
 		final int decoded = BitConversion.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -365,7 +383,7 @@ public class ColorTools {
 	public static int blueInt(final float encoded)
 	{
 		final int decoded = BitConversion.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -393,7 +411,7 @@ public class ColorTools {
 	public static float red(final float encoded)
 	{
 		final int decoded = BitConversion.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -410,7 +428,7 @@ public class ColorTools {
 	public static float green(final float encoded)
 	{
 		final int decoded = BitConversion.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -427,7 +445,7 @@ public class ColorTools {
 	public static float blue(final float encoded)
 	{
 		final int decoded = BitConversion.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -522,7 +540,7 @@ public class ColorTools {
 	 */
 	public static float saturation(final float encoded) {
 		final int decoded = BitConversion.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		if(Math.abs(L - 0.5) > 0.495f) return 0f;
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
@@ -561,7 +579,7 @@ public class ColorTools {
 	 */
 	public static float lightness(final float encoded) {
 		final int decoded = BitConversion.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -602,7 +620,7 @@ public class ColorTools {
 	 */
 	public static float hue(final float encoded) {
 		final int decoded = BitConversion.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -700,7 +718,7 @@ public class ColorTools {
 	 */
 	public static float toEditedFloat(float basis, float hue, float saturation, float light, float opacity) {
 		final int decoded = BitConversion.floatToRawIntBits(basis);
-		final float L = Math.min(Math.max(light + reverseLight((decoded & 0xff) / 255f), 0f), 1f);
+		final float L = Math.min(Math.max(light + REVERSE_LIGHT[decoded & 0xff], 0f), 1f);
 		opacity = Math.min(Math.max(opacity + (decoded >>> 25) * (1f / 127f), 0f), 1f);
 		if (L <= 0.001f)
 			return BitConversion.intBitsToFloat((((int) (opacity * 255f) << 24) & 0xFE000000) | 0x808000);
@@ -1008,7 +1026,7 @@ public class ColorTools {
 	 */
 	public static float randomEdit(final float color, long seed, final float variance) {
 		final int decoded = BitConversion.floatToRawIntBits(color);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float limit = variance * variance;
@@ -1463,11 +1481,11 @@ public class ColorTools {
 	 */
 	public static float distanceSquared(final float encodedA, final float encodedB) {
 		final int decodedA = BitConversion.floatToRawIntBits(encodedA);
-		final float LA = reverseLight((decodedA & 0xff) / 255f);
+		final float LA = REVERSE_LIGHT[decodedA & 0xff];
 		final float AA = ((decodedA >>> 8 & 0xff) - 127f) / 127f;
 		final float BA = ((decodedA >>> 16 & 255) - 127f) / 127f;
 		final int decodedB = BitConversion.floatToRawIntBits(encodedB);
-		final float LDiff = reverseLight((decodedB & 0xff) / 255f) - LA;
+		final float LDiff = REVERSE_LIGHT[decodedB & 0xff] - LA;
 		final float ADiff = ((decodedB >>> 8 & 0xff) - 127f) / 127f - AA;
 		final float BDiff = ((decodedB >>> 16 & 255) - 127f) / 127f - BA;
 		return LDiff * LDiff + ADiff * ADiff + BDiff * BDiff;
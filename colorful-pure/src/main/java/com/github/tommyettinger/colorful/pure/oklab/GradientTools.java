@@ -35,6 +35,11 @@ import com.github.tommyettinger.ds.FloatList;
  * appending just the end). Using appendPartialGradient(), you can have each transition use a different number of steps.
  * <br>
  * This class does some special handling for Oklab colors.
+ * <br>
+ * To sample a gradient at any point without storing every step, such as for a heatmap, use a {@link Gradient}.
+ * Any InterpolationFunction here can be wrapped in a
+ * {@link com.github.tommyettinger.colorful.pure.TabulatedInterpolation} to make costly ones cheap to apply at each
+ * step.
  */
 public class GradientTools {
     /**
@@ -263,4 +268,218 @@ public class GradientTools {
         }
         return appending;
     }
+
+    /**
+     * Writes a gradient from the packed float Oklab color {@code start} to the packed float Oklab color {@code end}
+     * into {@code appending}, starting at {@code offset}, taking the specified number of steps and using linear
+     * interpolation. This produces the same colors as {@link #appendGradient(FloatList, float, float, int)}, but writes
+     * them into an array the caller owns, so it never allocates or grows anything.
+     * @param appending a float array that will receive {@code steps} packed float Oklab colors
+     * @param offset the first index in appending to write
+     * @param start the packed float Oklab color to start with
+     * @param end the packed float Oklab color to end on
+     * @param steps how many steps the gradient should use; usually greater than 2
+     * @return the index in appending just after the last color written
+     */
+    public static int appendGradient(float[] appending, int offset, float start, float end, int steps) {
+        return appendGradient(appending, offset, start, end, steps, Interpolations.linear);
+    }
+
+    /**
+     * Writes a gradient from the packed float Oklab color {@code start} to the packed float Oklab color {@code end}
+     * into {@code appending}, starting at {@code offset}, taking the specified number of steps and using the specified
+     * InterpolationFunction for how it transitions. This produces the same colors as
+     * {@link #appendGradient(FloatList, float, float, int, InterpolationFunction)}, but writes them into an array the
+     * caller owns, so it never allocates or grows anything.
+     * @param appending a float array that will receive {@code steps} packed float Oklab colors
+     * @param offset the first index in appending to write
+     * @param start the packed float Oklab color to start with
+     * @param end the packed float Oklab color to end on
+     * @param steps how many steps the gradient should use; usually greater than 2
+     * @param interpolation an InterpolationFunction that can be used to customize how start transitions to end
+     * @return the index in appending just after the last color written
+     */
+    public static int appendGradient(float[] appending, int offset, float start, float end, int steps, InterpolationFunction interpolation) {
+        checkRoom(appending == null ? -1 : appending.length, offset, steps);
+        if(steps <= 0) {
+            return offset;
+        }
+        if(steps == 1) {
+            appending[offset] = start;
+            return offset + 1;
+        }
+        offset = appendPartialGradient(appending, offset, start, end, steps - 1, interpolation);
+        appending[offset] = end;
+        return offset + 1;
+    }
+
+    /**
+     * Writes a gradient between several packed float Oklab colors provided in {@code chain} into {@code appending},
+     * starting at {@code offset}. This uses linear interpolation for the whole gradient and writes a total of
+     * {@code steps} colors, the same ones {@link #appendGradientChain(FloatList, int, float...)} would produce.
+     * @param appending a float array that will receive {@code steps} packed float Oklab colors
+     * @param offset the first index in appending to write
+     * @param steps how many steps the gradient should use; usually greater than 2
+     * @param chain an array or varargs of packed float Oklab colors that this will interpolate through in order
+     * @return the index in appending just after the last color written
+     */
+    public static int appendGradientChain(float[] appending, int offset, int steps, float... chain) {
+        return appendGradientChain(appending, offset, steps, Interpolations.linear, chain);
+    }
+
+    /**
+     * Writes a gradient between several packed float Oklab colors provided in {@code chain} into {@code appending},
+     * starting at {@code offset}. This uses the specified InterpolationFunction for the whole gradient, which can make
+     * some colors use smaller sections than others, and writes a total of {@code steps} colors, the same ones
+     * {@link #appendGradientChain(FloatList, int, InterpolationFunction, float...)} would produce.
+     * @param appending a float array that will receive {@code steps} packed float Oklab colors
+     * @param offset the first index in appending to write
+     * @param steps how many steps the gradient should use; usually greater than 2
+     * @param interpolation an InterpolationFunction that can be used to customize how start transitions to end
+     * @param chain an array or varargs of packed float Oklab colors that this will interpolate through in order
+     * @return the index in appending just after the last color written
+     */
+    public static int appendGradientChain(float[] appending, int offset, int steps, InterpolationFunction interpolation, float... chain) {
+        checkRoom(appending == null ? -1 : appending.length, offset, steps);
+        if (chain == null || steps <= 0 || chain.length == 0) {
+            return offset;
+        }
+        if (steps == 1 || chain.length == 1) {
+            appending[offset] = chain[0];
+            return offset + 1;
+        }
+        int limit = steps - 1, splits = chain.length - 1;
+        float step = 1f / steps, change = 0f;
+        for (int i = 0; i < limit; i++) {
+            float interp = interpolation.apply(change);
+            float splint = Math.min(Math.max(interp * splits, 0f), splits - 0.000001f);
+            int idx = (int)splint;
+            appending[offset++] = ColorTools.limitToGamut(FloatColors.lerpFloatColors(chain[idx], chain[idx+1], MathTools.norm(idx, idx +1, splint)));
+            change += step;
+        }
+        appending[offset++] = chain[splits];
+        return offset;
+    }
+
+    /**
+     * Exactly like {@link #appendGradient(float[], int, float, float, int, InterpolationFunction)}, but does not write
+     * {@code end} into {@code appending}. This is intended for chained gradients, where the end of a previous gradient
+     * becomes the start of the next one. This still uses the specified number of steps, it just doesn't write
+     * {@code end} in the last step.
+     * @param appending a float array that will receive {@code steps} packed float Oklab colors
+     * @param offset the first index in appending to write
+     * @param start the packed float Oklab color to start with
+     * @param end the packed float Oklab color to end just before
+     * @param steps how many steps the gradient should use; usually greater than 2
+     * @param interpolation an InterpolationFunction that can be used to customize how start transitions to end
+     * @return the index in appending just after the last color written
+     */
+    public static int appendPartialGradient(float[] appending, int offset, float start, float end, int steps, InterpolationFunction interpolation) {
+        checkRoom(appending == null ? -1 : appending.length, offset, steps);
+        if(steps <= 0) {
+            return offset;
+        }
+        if(steps == 1) {
+            appending[offset] = start;
+            return offset + 1;
+        }
+        float step = 1f / steps, change = 0f;
+        for (int i = 0; i < steps; i++) {
+            appending[offset++] = ColorTools.limitToGamut(FloatColors.lerpFloatColors(start, end, interpolation.apply(change)));
+            change += step;
+        }
+        return offset;
+    }
+
+    /**
+     * Like {@link #appendGradient(float[], int, float, float, int, InterpolationFunction)}, but converts each color to
+     * an RGBA8888 int as it is written, such as for filling a texture's pixels directly.
+     * @param appending an int array that will receive {@code steps} RGBA8888 colors
+     * @param offset the first index in appending to write
+     * @param start the packed float Oklab color to start with
+     * @param end the packed float Oklab color to end on
+     * @param steps how many steps the gradient should use; usually greater than 2
+     * @param interpolation an InterpolationFunction that can be used to customize how start transitions to end
+     * @return the index in appending just after the last color written
+     */
+    public static int appendGradient(int[] appending, int offset, float start, float end, int steps, InterpolationFunction interpolation) {
+        checkRoom(appending == null ? -1 : appending.length, offset, steps);
+        if(steps <= 0) {
+            return offset;
+        }
+        if(steps == 1) {
+            appending[offset] = ColorTools.toRGBA8888(start);
+            return offset + 1;
+        }
+        offset = appendPartialGradient(appending, offset, start, end, steps - 1, interpolation);
+        appending[offset] = ColorTools.toRGBA8888(end);
+        return offset + 1;
+    }
+
+    /**
+     * Like {@link #appendGradientChain(float[], int, int, InterpolationFunction, float...)}, but converts each color to
+     * an RGBA8888 int as it is written, such as for filling a texture's pixels directly.
+     * @param appending an int array that will receive {@code steps} RGBA8888 colors
+     * @param offset the first index in appending to write
+     * @param steps how many steps the gradient should use; usually greater than 2
+     * @param interpolation an InterpolationFunction that can be used to customize how start transitions to end
+     * @param chain an array or varargs of packed float Oklab colors that this will interpolate through in order
+     * @return the index in appending just after the last color written
+     */
+    public static int appendGradientChain(int[] appending, int offset, int steps, InterpolationFunction interpolation, float... chain) {
+        checkRoom(appending == null ? -1 : appending.length, offset, steps);
+        if (chain == null || steps <= 0 || chain.length == 0) {
+            return offset;
+        }
+        if (steps == 1 || chain.length == 1) {
+            appending[offset] = ColorTools.toRGBA8888(chain[0]);
+            return offset + 1;
+        }
+        int limit = steps - 1, splits = chain.length - 1;
+        float step = 1f / steps, change = 0f;
+        for (int i = 0; i < limit; i++) {
+            float interp = interpolation.apply(change);
+            float splint = Math.min(Math.max(interp * splits, 0f), splits - 0.000001f);
+            int idx = (int)splint;
+            appending[offset++] = ColorTools.toRGBA8888(ColorTools.limitToGamut(FloatColors.lerpFloatColors(chain[idx], chain[idx+1], MathTools.norm(idx, idx +1, splint))));
+            change += step;
+        }
+        appending[offset++] = ColorTools.toRGBA8888(chain[splits]);
+        return offset;
+    }
+
+    /**
+     * Like {@link #appendPartialGradient(float[], int, float, float, int, InterpolationFunction)}, but converts each
+     * color to an RGBA8888 int as it is written.
+     * @param appending an int array that will receive {@code steps} RGBA8888 colors
+     * @param offset the first index in appending to write
+     * @param start the packed float Oklab color to start with
+     * @param end the packed float Oklab color to end just before
+     * @param steps how many steps the gradient should use; usually greater than 2
+     * @param interpolation an InterpolationFunction that can be used to customize how start transitions to end
+     * @return the index in appending just after the last color written
+     */
+    public static int appendPartialGradient(int[] appending, int offset, float start, float end, int steps, InterpolationFunction interpolation) {
+        checkRoom(appending == null ? -1 : appending.length, offset, steps);
+        if(steps <= 0) {
+            return offset;
+        }
+        if(steps == 1) {
+            appending[offset] = ColorTools.toRGBA8888(start);
+            return offset + 1;
+        }
+        float step = 1f / steps, change = 0f;
+        for (int i = 0; i < steps; i++) {
+            appending[offset++] = ColorTools.toRGBA8888(ColorTools.limitToGamut(FloatColors.lerpFloatColors(start, end, interpolation.apply(change))));
+            change += step;
+        }
+        return offset;
+    }
+
+    private static void checkRoom(int length, int offset, int steps) {
+        if (length < 0)
+            throw new IllegalArgumentException("appending must not be null");
+        if (offset < 0 || offset > length || steps > length - offset)
+            throw new IllegalArgumentException("appending doesn't have room for every step after offset");
+    }
 }
@@ -16,8 +16,11 @@
 
 package com.github.tommyettinger.colorful.pure.oklab;
 
+import com.github.tommyettinger.colorful.pure.ColorNameTable;
+import com.github.tommyettinger.colorful.pure.NamedColorTree;
 import com.github.tommyettinger.ds.FloatList;
 import com.github.tommyettinger.ds.ObjectFloatOrderedMap;
+import com.github.tommyettinger.ds.ObjectIntMap;
 import com.github.tommyettinger.ds.ObjectList;
 
 /**
@@ -45,7 +48,6 @@ public class Palette {
      * </pre>
      */
     public static final float TRANSPARENT = 0x0.fefep-126F;
-    static { NAMED.put("Transparent", 0x0.fefep-126F); LIST.add(0x0.fefep-126F); }
 
     /**
      * This color constant "Black" has RGBA8888 code {@code 000000FF}, L 0.0, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -57,7 +59,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACK = -0x1.fefep125F;
-    static { NAMED.put("Black", -0x1.fefep125F); LIST.add(-0x1.fefep125F); }
 
     /**
      * This color constant "Coal Black" has RGBA8888 code {@code 131313FF}, L 0.07450981, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -69,7 +70,6 @@ public class Palette {
      * </pre>
      */
     public static final float COAL_BLACK = -0x1.fefe26p125F;
-    static { NAMED.put("Coal Black", -0x1.fefe26p125F); LIST.add(-0x1.fefe26p125F); }
 
     /**
      * This color constant "Shadow" has RGBA8888 code {@code 252525FF}, L 0.14509805, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -81,7 +81,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHADOW = -0x1.fefe4ap125F;
-    static { NAMED.put("Shadow", -0x1.fefe4ap125F); LIST.add(-0x1.fefe4ap125F); }
 
     /**
      * This color constant "Graphite" has RGBA8888 code {@code 373737FF}, L 0.21568628, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -93,7 +92,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPHITE = -0x1.fefe6ep125F;
-    static { NAMED.put("Graphite", -0x1.fefe6ep125F); LIST.add(-0x1.fefe6ep125F); }
 
     /**
      * This color constant "Dark Gray" has RGBA8888 code {@code 494949FF}, L 0.28627452, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -105,7 +103,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_GRAY = -0x1.fefe92p125F;
-    static { NAMED.put("Dark Gray", -0x1.fefe92p125F); LIST.add(-0x1.fefe92p125F); }
 
     /**
      * This color constant "Lead" has RGBA8888 code {@code 5B5B5BFF}, L 0.35686275, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -117,7 +114,6 @@ public class Palette {
      * </pre>
      */
     public static final float LEAD = -0x1.fefeb6p125F;
-    static { NAMED.put("Lead", -0x1.fefeb6p125F); LIST.add(-0x1.fefeb6p125F); }
 
     /**
      * This color constant "Iron" has RGBA8888 code {@code 6E6E6EFF}, L 0.43137255, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -129,7 +125,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRON = -0x1.fefedcp125F;
-    static { NAMED.put("Iron", -0x1.fefedcp125F); LIST.add(-0x1.fefedcp125F); }
 
     /**
      * This color constant "Gray" has RGBA8888 code {@code 808080FF}, L 0.5019608, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -141,7 +136,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY = -0x1.feffp125F;
-    static { NAMED.put("Gray", -0x1.feffp125F); LIST.add(-0x1.feffp125F); }
 
     /**
      * This color constant "Chinchilla" has RGBA8888 code {@code 929292FF}, L 0.57254905, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -153,7 +147,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHINCHILLA = -0x1.feff24p125F;
-    static { NAMED.put("Chinchilla", -0x1.feff24p125F); LIST.add(-0x1.feff24p125F); }
 
     /**
      * This color constant "Greyhound" has RGBA8888 code {@code A4A4A4FF}, L 0.6431373, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -165,7 +158,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREYHOUND = -0x1.feff48p125F;
-    static { NAMED.put("Greyhound", -0x1.feff48p125F); LIST.add(-0x1.feff48p125F); }
 
     /**
      * This color constant "Silver" has RGBA8888 code {@code B6B6B6FF}, L 0.7137255, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -177,7 +169,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER = -0x1.feff6cp125F;
-    static { NAMED.put("Silver", -0x1.feff6cp125F); LIST.add(-0x1.feff6cp125F); }
 
     /**
      * This color constant "Light Gray" has RGBA8888 code {@code C9C9C9FF}, L 0.7882353, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -189,7 +180,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_GRAY = -0x1.feff92p125F;
-    static { NAMED.put("Light Gray", -0x1.feff92p125F); LIST.add(-0x1.feff92p125F); }
 
     /**
      * This color constant "Platinum" has RGBA8888 code {@code DBDBDBFF}, L 0.85882354, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -201,7 +191,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLATINUM = -0x1.feffb6p125F;
-    static { NAMED.put("Platinum", -0x1.feffb6p125F); LIST.add(-0x1.feffb6p125F); }
 
     /**
      * This color constant "Cloud" has RGBA8888 code {@code EDEDEDFF}, L 0.92941177, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -213,7 +202,6 @@ public class Palette {
      * </pre>
      */
     public static final float CLOUD = -0x1.feffdap125F;
-    static { NAMED.put("Cloud", -0x1.feffdap125F); LIST.add(-0x1.feffdap125F); }
 
     /**
      * This color constant "White" has RGBA8888 code {@code FFFFFFFF}, L 1.0, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.0, and chroma 0.0055242716.
@@ -225,7 +213,6 @@ public class Palette {
      * </pre>
      */
     public static final float WHITE = -0x1.fefffep125F;
-    static { NAMED.put("White", -0x1.fefffep125F); LIST.add(-0x1.fefffep125F); }
 
     /**
      * This color constant "Seawater" has RGBA8888 code {@code 007F7FFF}, L 0.42745098, A 0.4509804, B 0.4862745, alpha 1.0, hue 0.5389897, saturation 0.95148593, and chroma 0.10141215.
@@ -237,7 +224,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAWATER = -0x1.f8e6dap125F;
-    static { NAMED.put("Seawater", -0x1.f8e6dap125F); LIST.add(-0x1.f8e6dap125F); }
 
     /**
      * This color constant "Hospital Green" has RGBA8888 code {@code 3FBFBFFF}, L 0.65882355, A 0.44313726, B 0.48235294, alpha 1.0, hue 0.54429305, saturation 0.83201253, and chroma 0.11861114.
@@ -249,7 +235,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOSPITAL_GREEN = -0x1.f6e35p125F;
-    static { NAMED.put("Hospital Green", -0x1.f6e35p125F); LIST.add(-0x1.f6e35p125F); }
 
     /**
      * This color constant "Cyan" has RGBA8888 code {@code 00FFFFFF}, L 0.8627451, A 0.42352942, B 0.47843137, alpha 1.0, hue 0.5409546, saturation 0.9583845, and chroma 0.1582875.
@@ -261,7 +246,6 @@ public class Palette {
      * </pre>
      */
     public static final float CYAN = -0x1.f4d9b8p125F;
-    static { NAMED.put("Cyan", -0x1.f4d9b8p125F); LIST.add(-0x1.f4d9b8p125F); }
 
     /**
      * This color constant "Bubble" has RGBA8888 code {@code BFFFFFFF}, L 0.94509804, A 0.47058824, B 0.49019608, alpha 1.0, hue 0.54429305, saturation 0.33091408, and chroma 0.061763234.
@@ -273,7 +257,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE = -0x1.faf1e2p125F;
-    static { NAMED.put("Bubble", -0x1.faf1e2p125F); LIST.add(-0x1.faf1e2p125F); }
 
     /**
      * This color constant "Periwinkle" has RGBA8888 code {@code 8181FFFF}, L 0.57254905, A 0.5137255, B 0.41568628, alpha 1.0, hue 0.7799562, saturation 0.38868287, and chroma 0.17017984.
@@ -285,7 +268,6 @@ public class Palette {
      * </pre>
      */
     public static final float PERIWINKLE = -0x1.d50724p125F;
-    static { NAMED.put("Periwinkle", -0x1.d50724p125F); LIST.add(-0x1.d50724p125F); }
 
     /**
      * This color constant "Blue" has RGBA8888 code {@code 0000FFFF}, L 0.3019608, A 0.48235294, B 0.34117648, alpha 1.0, hue 0.7341372, saturation 0.9925803, and chroma 0.31835338.
@@ -297,7 +279,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE = -0x1.aef69ap125F;
-    static { NAMED.put("Blue", -0x1.aef69ap125F); LIST.add(-0x1.aef69ap125F); }
 
     /**
      * This color constant "Faded Blue" has RGBA8888 code {@code 3F3FBFFF}, L 0.32941177, A 0.50980395, B 0.40392157, alpha 1.0, hue 0.76979154, saturation 0.6201737, and chroma 0.19240016.
@@ -309,7 +290,6 @@ public class Palette {
      * </pre>
      */
     public static final float FADED_BLUE = -0x1.cf04a8p125F;
-    static { NAMED.put("Faded Blue", -0x1.cf04a8p125F); LIST.add(-0x1.cf04a8p125F); }
 
     /**
      * This color constant "Ocean Blue" has RGBA8888 code {@code 00007FFF}, L 0.14901961, A 0.4862745, B 0.4, alpha 1.0, hue 0.73099244, saturation 0.9874258, and chroma 0.20108652.
@@ -321,7 +301,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCEAN_BLUE = -0x1.ccf84cp125F;
-    static { NAMED.put("Ocean Blue", -0x1.ccf84cp125F); LIST.add(-0x1.ccf84cp125F); }
 
     /**
      * This color constant "Stygian Blue" has RGBA8888 code {@code 0F0F50FF}, L 0.10980392, A 0.49803922, B 0.43137255, alpha 1.0, hue 0.75, saturation 0.85, and chroma 0.13677454.
@@ -333,7 +312,6 @@ public class Palette {
      * </pre>
      */
     public static final float STYGIAN_BLUE = -0x1.dcfe38p125F;
-    static { NAMED.put("Stygian Blue", -0x1.dcfe38p125F); LIST.add(-0x1.dcfe38p125F); }
 
     /**
      * This color constant "Deep Purple" has RGBA8888 code {@code 7F007FFF}, L 0.2901961, A 0.58431375, B 0.44313726, alpha 1.0, hue 0.9098022, saturation 0.96580774, and chroma 0.20259848.
@@ -345,7 +323,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_PURPLE = -0x1.e32a94p125F;
-    static { NAMED.put("Deep Purple", -0x1.e32a94p125F); LIST.add(-0x1.e32a94p125F); }
 
     /**
      * This color constant "Tyrian Purple" has RGBA8888 code {@code BF3FBFFF}, L 0.48235294, A 0.5882353, B 0.4392157, alpha 1.0, hue 0.908024, saturation 0.73224163, and chroma 0.21345432.
@@ -357,7 +334,6 @@ public class Palette {
      * </pre>
      */
     public static final float TYRIAN_PURPLE = -0x1.e12cf6p125F;
-    static { NAMED.put("Tyrian Purple", -0x1.e12cf6p125F); LIST.add(-0x1.e12cf6p125F); }
 
     /**
      * This color constant "Magenta" has RGBA8888 code {@code F500F5FF}, L 0.5647059, A 0.6313726, B 0.41568628, alpha 1.0, hue 0.9119405, saturation 0.96295136, and chroma 0.31098264.
@@ -369,7 +345,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAGENTA = -0x1.d5432p125F;
-    static { NAMED.put("Magenta", -0x1.d5432p125F); LIST.add(-0x1.d5432p125F); }
 
     /**
      * This color constant "Bubblegum Pink" has RGBA8888 code {@code FD81FFFF}, L 0.7137255, A 0.5803922, B 0.44313726, alpha 1.0, hue 0.90641636, saturation 0.52038884, and chroma 0.19616999.
@@ -381,7 +356,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLEGUM_PINK = -0x1.e3296cp125F;
-    static { NAMED.put("Bubblegum Pink", -0x1.e3296cp125F); LIST.add(-0x1.e3296cp125F); }
 
     /**
      * This color constant "Pork Chop" has RGBA8888 code {@code FFC0CBFF}, L 0.827451, A 0.5294118, B 0.5019608, alpha 1.0, hue 0.019791542, saturation 0.17526647, and chroma 0.058723815.
@@ -393,7 +367,6 @@ public class Palette {
      * </pre>
      */
     public static final float PORK_CHOP = -0x1.010fa6p126F;
-    static { NAMED.put("Pork Chop", -0x1.010fa6p126F); LIST.add(-0x1.010fa6p126F); }
 
     /**
      * This color constant "Raw Meat" has RGBA8888 code {@code FF8181FF}, L 0.6666667, A 0.5647059, B 0.52156866, alpha 1.0, hue 0.054000217, saturation 0.4506939, and chroma 0.13587911.
@@ -405,7 +378,6 @@ public class Palette {
      * </pre>
      */
     public static final float RAW_MEAT = -0x1.0b2154p126F;
-    static { NAMED.put("Raw Meat", -0x1.0b2154p126F); LIST.add(-0x1.0b2154p126F); }
 
     /**
      * This color constant "Red" has RGBA8888 code {@code FF0000FF}, L 0.49803922, A 0.6117647, B 0.56078434, alpha 1.0, hue 0.0802403, saturation 0.98868626, and chroma 0.25345513.
@@ -417,7 +389,6 @@ public class Palette {
      * </pre>
      */
     public static final float RED = -0x1.1f38fep126F;
-    static { NAMED.put("Red", -0x1.1f38fep126F); LIST.add(-0x1.1f38fep126F); }
 
     /**
      * This color constant "Putty" has RGBA8888 code {@code BF3F3FFF}, L 0.43137255, A 0.57254905, B 0.5294118, alpha 1.0, hue 0.06342667, saturation 0.67591894, and chroma 0.15595676.
@@ -429,7 +400,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUTTY = -0x1.0f24dcp126F;
-    static { NAMED.put("Putty", -0x1.0f24dcp126F); LIST.add(-0x1.0f24dcp126F); }
 
     /**
      * This color constant "Sienna" has RGBA8888 code {@code 7F0000FF}, L 0.24705882, A 0.5686275, B 0.5372549, alpha 1.0, hue 0.08070704, saturation 0.9577331, and chroma 0.1555649.
@@ -441,7 +411,6 @@ public class Palette {
      * </pre>
      */
     public static final float SIENNA = -0x1.13227ep126F;
-    static { NAMED.put("Sienna", -0x1.13227ep126F); LIST.add(-0x1.13227ep126F); }
 
     /**
      * This color constant "Seal Brown" has RGBA8888 code {@code 551414FF}, L 0.1764706, A 0.54509807, B 0.52156866, alpha 1.0, hue 0.07379155, saturation 0.7892004, and chroma 0.09959023.
@@ -453,7 +422,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAL_BROWN = -0x1.0b165ap126F;
-    static { NAMED.put("Seal Brown", -0x1.0b165ap126F); LIST.add(-0x1.0b165ap126F); }
 
     /**
      * This color constant "Mummy Brown" has RGBA8888 code {@code 7F3F00FF}, L 0.31764707, A 0.5294118, B 0.54509807, alpha 1.0, hue 0.15641639, saturation 0.93046486, and chroma 0.107261956.
@@ -465,7 +433,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUMMY_BROWN = -0x1.170ea2p126F;
-    static { NAMED.put("Mummy Brown", -0x1.170ea2p126F); LIST.add(-0x1.170ea2p126F); }
 
     /**
      * This color constant "Fawn" has RGBA8888 code {@code BF7F3FFF}, L 0.5568628, A 0.52156866, B 0.54901963, alpha 1.0, hue 0.1811804, saturation 0.6984303, and chroma 0.106691405.
@@ -477,7 +444,6 @@ public class Palette {
      * </pre>
      */
     public static final float FAWN = -0x1.190b1cp126F;
-    static { NAMED.put("Fawn", -0x1.190b1cp126F); LIST.add(-0x1.190b1cp126F); }
 
     /**
      * This color constant "Orange" has RGBA8888 code {@code FF7F00FF}, L 0.6431373, A 0.54901963, B 0.57254905, alpha 1.0, hue 0.1544989, saturation 0.9208691, and chroma 0.17443058.
@@ -489,7 +455,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORANGE = -0x1.251948p126F;
-    static { NAMED.put("Orange", -0x1.251948p126F); LIST.add(-0x1.251948p126F); }
 
     /**
      * This color constant "Peach" has RGBA8888 code {@code FFBF81FF}, L 0.8039216, A 0.5176471, B 0.54509807, alpha 1.0, hue 0.18716717, saturation 0.50980395, and chroma 0.096477255.
@@ -501,7 +466,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEACH = -0x1.17099ap126F;
-    static { NAMED.put("Peach", -0x1.17099ap126F); LIST.add(-0x1.17099ap126F); }
 
     /**
      * This color constant "Cream" has RGBA8888 code {@code FFFFBFFF}, L 0.98039216, A 0.4862745, B 0.53333336, alpha 1.0, hue 0.30120838, saturation 0.33287132, and chroma 0.071815535.
@@ -513,7 +477,6 @@ public class Palette {
      * </pre>
      */
     public static final float CREAM = -0x1.10f9f4p126F;
-    static { NAMED.put("Cream", -0x1.10f9f4p126F); LIST.add(-0x1.10f9f4p126F); }
 
     /**
      * This color constant "Yellow" has RGBA8888 code {@code FFFF00FF}, L 0.9529412, A 0.4627451, B 0.59607846, alpha 1.0, hue 0.30499697, saturation 0.94895214, and chroma 0.20529193.
@@ -525,7 +488,6 @@ public class Palette {
      * </pre>
      */
     public static final float YELLOW = -0x1.30ede6p126F;
-    static { NAMED.put("Yellow", -0x1.30ede6p126F); LIST.add(-0x1.30ede6p126F); }
 
     /**
      * This color constant "Earwax" has RGBA8888 code {@code BFBF3FFF}, L 0.7176471, A 0.4745098, B 0.5686275, alpha 1.0, hue 0.30120838, saturation 0.824942, and chroma 0.14584495.
@@ -537,7 +499,6 @@ public class Palette {
      * </pre>
      */
     public static final float EARWAX = -0x1.22f36ep126F;
-    static { NAMED.put("Earwax", -0x1.22f36ep126F); LIST.add(-0x1.22f36ep126F); }
 
     /**
      * This color constant "Umber" has RGBA8888 code {@code 7F7F00FF}, L 0.4745098, A 0.4745098, B 0.56078434, alpha 1.0, hue 0.30710015, saturation 0.9493337, and chroma 0.13131043.
@@ -549,7 +510,6 @@ public class Palette {
      * </pre>
      */
     public static final float UMBER = -0x1.1ef2f2p126F;
-    static { NAMED.put("Umber", -0x1.1ef2f2p126F); LIST.add(-0x1.1ef2f2p126F); }
 
     /**
      * This color constant "Ivy Green" has RGBA8888 code {@code 007F00FF}, L 0.4, A 0.42352942, B 0.5529412, alpha 1.0, hue 0.39893213, saturation 0.98336864, and chroma 0.18528971.
@@ -561,7 +521,6 @@ public class Palette {
      * </pre>
      */
     public static final float IVY_GREEN = -0x1.1ad8ccp126F;
-    static { NAMED.put("Ivy Green", -0x1.1ad8ccp126F); LIST.add(-0x1.1ad8ccp126F); }
 
     /**
      * This color constant "Jade" has RGBA8888 code {@code 3FBF3FFF}, L 0.62352943, A 0.41568628, B 0.5568628, alpha 1.0, hue 0.40128404, saturation 0.806468, and chroma 0.20259848.
@@ -573,7 +532,6 @@ public class Palette {
      * </pre>
      */
     public static final float JADE = -0x1.1cd53ep126F;
-    static { NAMED.put("Jade", -0x1.1cd53ep126F); LIST.add(-0x1.1cd53ep126F); }
 
     /**
      * This color constant "Green" has RGBA8888 code {@code 00FF00FF}, L 0.80784315, A 0.38039216, B 0.5882353, alpha 1.0, hue 0.39589924, saturation 0.9947925, and chroma 0.29610303.
@@ -585,7 +543,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREEN = -0x1.2cc39cp126F;
-    static { NAMED.put("Green", -0x1.2cc39cp126F); LIST.add(-0x1.2cc39cp126F); }
 
     /**
      * This color constant "Celadon" has RGBA8888 code {@code AFFFAFFF}, L 0.90588236, A 0.44705883, B 0.53333336, alpha 1.0, hue 0.40362442, saturation 0.39040464, and chroma 0.12463325.
@@ -597,7 +554,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELADON = -0x1.10e5cep126F;
-    static { NAMED.put("Celadon", -0x1.10e5cep126F); LIST.add(-0x1.10e5cep126F); }
 
     /**
      * This color constant "Puce" has RGBA8888 code {@code BCAFC0FF}, L 0.7058824, A 0.5058824, B 0.49019608, alpha 1.0, hue 0.875, saturation 0.055459354, and chroma 0.022777155.
@@ -609,7 +565,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUCE = -0x1.fb0368p125F;
-    static { NAMED.put("Puce", -0x1.fb0368p125F); LIST.add(-0x1.fb0368p125F); }
 
     /**
      * This color constant "Beige" has RGBA8888 code {@code CBAA89FF}, L 0.6901961, A 0.50980395, B 0.5254902, alpha 1.0, hue 0.18555963, saturation 0.33112058, and chroma 0.054407768.
@@ -621,7 +576,6 @@ public class Palette {
      * </pre>
      */
     public static final float BEIGE = -0x1.0d056p126F;
-    static { NAMED.put("Beige", -0x1.0d056p126F); LIST.add(-0x1.0d056p126F); }
 
     /**
      * This color constant "Wet Stone" has RGBA8888 code {@code A6A090FF}, L 0.627451, A 0.49803922, B 0.50980395, alpha 1.0, hue 0.25, saturation 0.15, and chroma 0.019918045.
@@ -633,7 +587,6 @@ public class Palette {
      * </pre>
      */
     public static final float WET_STONE = -0x1.04ff4p126F;
-    static { NAMED.put("Wet Stone", -0x1.04ff4p126F); LIST.add(-0x1.04ff4p126F); }
 
     /**
      * This color constant "Slow Creek" has RGBA8888 code {@code 7E9494FF}, L 0.56078434, A 0.4862745, B 0.49411765, alpha 1.0, hue 0.5512084, saturation 0.20401792, and chroma 0.029749114.
@@ -645,7 +598,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLOW_CREEK = -0x1.fcf91ep125F;
-    static { NAMED.put("Slow Creek", -0x1.fcf91ep125F); LIST.add(-0x1.fcf91ep125F); }
 
     /**
      * This color constant "Slate Gray" has RGBA8888 code {@code 6E8287FF}, L 0.49411765, A 0.4862745, B 0.49019608, alpha 1.0, hue 0.59358364, saturation 0.24037008, and chroma 0.033602834.
@@ -657,7 +609,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLATE_GRAY = -0x1.faf8fcp125F;
-    static { NAMED.put("Slate Gray", -0x1.faf8fcp125F); LIST.add(-0x1.faf8fcp125F); }
 
     /**
      * This color constant "Light Skin 1" has RGBA8888 code {@code 7E6E60FF}, L 0.44313726, A 0.5058824, B 0.50980395, alpha 1.0, hue 0.15641639, saturation 0.18976586, and chroma 0.022777155.
@@ -669,7 +620,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_1 = -0x1.0502e2p126F;
-    static { NAMED.put("Light Skin 1", -0x1.0502e2p126F); LIST.add(-0x1.0502e2p126F); }
 
     /**
      * This color constant "Light Skin 2" has RGBA8888 code {@code A0695FFF}, L 0.47058824, A 0.5294118, B 0.5176471, alpha 1.0, hue 0.08890383, saturation 0.2948119, and chroma 0.068331465.
@@ -681,7 +631,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_2 = -0x1.090efp126F;
-    static { NAMED.put("Light Skin 2", -0x1.090efp126F); LIST.add(-0x1.090efp126F); }
 
     /**
      * This color constant "Light Skin 3" has RGBA8888 code {@code C07872FF}, L 0.5529412, A 0.5372549, B 0.5176471, alpha 1.0, hue 0.07379155, saturation 0.310565, and chroma 0.0821242.
@@ -693,7 +642,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_3 = -0x1.09131ap126F;
-    static { NAMED.put("Light Skin 3", -0x1.09131ap126F); LIST.add(-0x1.09131ap126F); }
 
     /**
      * This color constant "Light Skin 4" has RGBA8888 code {@code D08A74FF}, L 0.6156863, A 0.53333336, B 0.5254902, alpha 1.0, hue 0.10520855, saturation 0.3455077, and chroma 0.0835974.
@@ -705,7 +653,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_4 = -0x1.0d113ap126F;
-    static { NAMED.put("Light Skin 4", -0x1.0d113ap126F); LIST.add(-0x1.0d113ap126F); }
 
     /**
      * This color constant "Light Skin 5" has RGBA8888 code {@code E19B7DFF}, L 0.6784314, A 0.5294118, B 0.5294118, alpha 1.0, hue 0.125, saturation 0.38351554, and chroma 0.082864076.
@@ -717,7 +664,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_5 = -0x1.0f0f5ap126F;
-    static { NAMED.put("Light Skin 5", -0x1.0f0f5ap126F); LIST.add(-0x1.0f0f5ap126F); }
 
     /**
      * This color constant "Light Skin 6" has RGBA8888 code {@code EBAA8CFF}, L 0.7294118, A 0.5254902, B 0.5254902, alpha 1.0, hue 0.125, saturation 0.31933856, and chroma 0.071815535.
@@ -729,7 +675,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_6 = -0x1.0d0d74p126F;
-    static { NAMED.put("Light Skin 6", -0x1.0d0d74p126F); LIST.add(-0x1.0d0d74p126F); }
 
     /**
      * This color constant "Light Skin 7" has RGBA8888 code {@code F5B99BFF}, L 0.78431374, A 0.52156866, B 0.5254902, alpha 1.0, hue 0.1372184, saturation 0.30228016, and chroma 0.06652104.
@@ -741,7 +686,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_7 = -0x1.0d0b9p126F;
-    static { NAMED.put("Light Skin 7", -0x1.0d0b9p126F); LIST.add(-0x1.0d0b9p126F); }
 
     /**
      * This color constant "Light Skin 8" has RGBA8888 code {@code F6C8AFFF}, L 0.827451, A 0.5176471, B 0.52156866, alpha 1.0, hue 0.13942872, saturation 0.24794444, and chroma 0.055518243.
@@ -753,7 +697,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_8 = -0x1.0b09a6p126F;
-    static { NAMED.put("Light Skin 8", -0x1.0b09a6p126F); LIST.add(-0x1.0b09a6p126F); }
 
     /**
      * This color constant "Light Skin 9" has RGBA8888 code {@code F5E1D2FF}, L 0.8980392, A 0.5058824, B 0.50980395, alpha 1.0, hue 0.15641639, saturation 0.11821479, and chroma 0.022777155.
@@ -765,7 +708,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_9 = -0x1.0503cap126F;
-    static { NAMED.put("Light Skin 9", -0x1.0503cap126F); LIST.add(-0x1.0503cap126F); }
 
     /**
      * This color constant "Dark Skin 1" has RGBA8888 code {@code 573B3BFF}, L 0.2627451, A 0.5176471, B 0.5058824, alpha 1.0, hue 0.0605594, saturation 0.24478021, and chroma 0.03705794.
@@ -777,7 +719,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_1 = -0x1.030886p126F;
-    static { NAMED.put("Dark Skin 1", -0x1.030886p126F); LIST.add(-0x1.030886p126F); }
 
     /**
      * This color constant "Dark Skin 2" has RGBA8888 code {@code 73413CFF}, L 0.3137255, A 0.5294118, B 0.5137255, alpha 1.0, hue 0.07379155, saturation 0.3577709, and chroma 0.064659946.
@@ -789,7 +730,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_2 = -0x1.070eap126F;
-    static { NAMED.put("Dark Skin 2", -0x1.070eap126F); LIST.add(-0x1.070eap126F); }
 
     /**
      * This color constant "Dark Skin 3" has RGBA8888 code {@code 8E5555FF}, L 0.4, A 0.53333336, B 0.50980395, alpha 1.0, hue 0.051208384, saturation 0.33287132, and chroma 0.069218926.
@@ -801,7 +741,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_3 = -0x1.0510ccp126F;
-    static { NAMED.put("Dark Skin 3", -0x1.0510ccp126F); LIST.add(-0x1.0510ccp126F); }
 
     /**
      * This color constant "Pink Skin 1" has RGBA8888 code {@code AB7373FF}, L 0.5137255, A 0.5294118, B 0.50980395, alpha 1.0, hue 0.057100154, saturation 0.25129423, and chroma 0.061763234.
@@ -813,7 +752,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_1 = -0x1.050f06p126F;
-    static { NAMED.put("Pink Skin 1", -0x1.050f06p126F); LIST.add(-0x1.050f06p126F); }
 
     /**
      * This color constant "Pink Skin 2" has RGBA8888 code {@code C78F8FFF}, L 0.62352943, A 0.5294118, B 0.50980395, alpha 1.0, hue 0.057100154, saturation 0.22192217, and chroma 0.061763234.
@@ -825,7 +763,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_2 = -0x1.050f3ep126F;
-    static { NAMED.put("Pink Skin 2", -0x1.050f3ep126F); LIST.add(-0x1.050f3ep126F); }
 
     /**
      * This color constant "Pink Skin 3" has RGBA8888 code {@code E3ABABFF}, L 0.73333335, A 0.5254902, B 0.5058824, alpha 1.0, hue 0.04429303, saturation 0.1712967, and chroma 0.052115876.
@@ -837,7 +774,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_3 = -0x1.030d76p126F;
-    static { NAMED.put("Pink Skin 3", -0x1.030d76p126F); LIST.add(-0x1.030d76p126F); }
 
     /**
      * This color constant "Pink Skin 4" has RGBA8888 code {@code F8D2DAFF}, L 0.8666667, A 0.5176471, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.104166664, and chroma 0.0353726.
@@ -849,7 +785,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_4 = -0x1.ff09bap125F;
-    static { NAMED.put("Pink Skin 4", -0x1.ff09bap125F); LIST.add(-0x1.ff09bap125F); }
 
     /**
      * This color constant "Bronze Skin 4" has RGBA8888 code {@code E3C7ABFF}, L 0.8, A 0.5058824, B 0.5176471, alpha 1.0, hue 0.1894406, saturation 0.21118294, and chroma 0.03705794.
@@ -861,7 +796,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_4 = -0x1.090398p126F;
-    static { NAMED.put("Bronze Skin 4", -0x1.090398p126F); LIST.add(-0x1.090398p126F); }
 
     /**
      * This color constant "Bronze Skin 3" has RGBA8888 code {@code C49E73FF}, L 0.64705884, A 0.50980395, B 0.5294118, alpha 1.0, hue 0.19289984, saturation 0.3883638, and chroma 0.061763234.
@@ -873,7 +807,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_3 = -0x1.0f054ap126F;
-    static { NAMED.put("Bronze Skin 3", -0x1.0f054ap126F); LIST.add(-0x1.0f054ap126F); }
 
     /**
      * This color constant "Bronze Skin 2" has RGBA8888 code {@code 8F7357FF}, L 0.47058824, A 0.50980395, B 0.52156866, alpha 1.0, hue 0.17620845, saturation 0.3626056, and chroma 0.0471994.
@@ -885,7 +818,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_2 = -0x1.0b04fp126F;
-    static { NAMED.put("Bronze Skin 2", -0x1.0b04fp126F); LIST.add(-0x1.0b04fp126F); }
 
     /**
      * This color constant "Bronze Skin 1" has RGBA8888 code {@code 73573BFF}, L 0.3647059, A 0.50980395, B 0.5254902, alpha 1.0, hue 0.18555963, saturation 0.49134022, and chroma 0.054407768.
@@ -897,7 +829,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_1 = -0x1.0d04bap126F;
-    static { NAMED.put("Bronze Skin 1", -0x1.0d04bap126F); LIST.add(-0x1.0d04bap126F); }
 
     /**
      * This color constant "Taupe" has RGBA8888 code {@code 3B2D1FFF}, L 0.1882353, A 0.5058824, B 0.5137255, alpha 1.0, hue 0.17620845, saturation 0.4259177, and chroma 0.029749114.
@@ -909,7 +840,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAUPE = -0x1.07026p126F;
-    static { NAMED.put("Taupe", -0x1.07026p126F); LIST.add(-0x1.07026p126F); }
 
     /**
      * This color constant "Drab Green" has RGBA8888 code {@code 414123FF}, L 0.24705882, A 0.49019608, B 0.52156866, alpha 1.0, hue 0.30120838, saturation 0.5499613, and chroma 0.0471994.
@@ -921,7 +851,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRAB_GREEN = -0x1.0afa7ep126F;
-    static { NAMED.put("Drab Green", -0x1.0afa7ep126F); LIST.add(-0x1.0afa7ep126F); }
 
     /**
      * This color constant "Lizard Scales" has RGBA8888 code {@code 73733BFF}, L 0.43529412, A 0.4862745, B 0.5372549, alpha 1.0, hue 0.29638705, saturation 0.63274586, and chroma 0.079095535.
@@ -933,7 +862,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIZARD_SCALES = -0x1.12f8dep126F;
-    static { NAMED.put("Lizard Scales", -0x1.12f8dep126F); LIST.add(-0x1.12f8dep126F); }
 
     /**
      * This color constant "Cricket" has RGBA8888 code {@code 8F8F57FF}, L 0.54509807, A 0.4862745, B 0.53333336, alpha 1.0, hue 0.30120838, saturation 0.48650423, and chroma 0.071815535.
@@ -945,7 +873,6 @@ public class Palette {
      * </pre>
      */
     public static final float CRICKET = -0x1.10f916p126F;
-    static { NAMED.put("Cricket", -0x1.10f916p126F); LIST.add(-0x1.10f916p126F); }
 
     /**
      * This color constant "Olive Oil" has RGBA8888 code {@code A2A255FF}, L 0.6156863, A 0.48235294, B 0.54509807, alpha 1.0, hue 0.30120838, saturation 0.6023386, and chroma 0.096477255.
@@ -957,7 +884,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_OIL = -0x1.16f73ap126F;
-    static { NAMED.put("Olive Oil", -0x1.16f73ap126F); LIST.add(-0x1.16f73ap126F); }
 
     /**
      * This color constant "Dun" has RGBA8888 code {@code B5B572FF}, L 0.6901961, A 0.4862745, B 0.5372549, alpha 1.0, hue 0.29638705, saturation 0.4745594, and chroma 0.079095535.
@@ -969,7 +895,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUN = -0x1.12f96p126F;
-    static { NAMED.put("Dun", -0x1.12f96p126F); LIST.add(-0x1.12f96p126F); }
 
     /**
      * This color constant "Corn Silk" has RGBA8888 code {@code C7C78FFF}, L 0.7647059, A 0.4862745, B 0.5294118, alpha 1.0, hue 0.30710015, saturation 0.34873483, and chroma 0.064659946.
@@ -981,7 +906,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORN_SILK = -0x1.0ef986p126F;
-    static { NAMED.put("Corn Silk", -0x1.0ef986p126F); LIST.add(-0x1.0ef986p126F); }
 
     /**
      * This color constant "Tan" has RGBA8888 code {@code DADAABFF}, L 0.8392157, A 0.49019608, B 0.5254902, alpha 1.0, hue 0.29429302, saturation 0.2912044, and chroma 0.054407768.
@@ -993,7 +917,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAN = -0x1.0cfbacp126F;
-    static { NAMED.put("Tan", -0x1.0cfbacp126F); LIST.add(-0x1.0cfbacp126F); }
 
     /**
      * This color constant "Straw" has RGBA8888 code {@code EDEDC7FF}, L 0.91764706, A 0.49019608, B 0.5176471, alpha 1.0, hue 0.3105594, saturation 0.19582418, and chroma 0.040217306.
@@ -1005,7 +928,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRAW = -0x1.08fbd4p126F;
-    static { NAMED.put("Straw", -0x1.08fbd4p126F); LIST.add(-0x1.08fbd4p126F); }
 
     /**
      * This color constant "Honeydew" has RGBA8888 code {@code C7E3ABFF}, L 0.84705883, A 0.4745098, B 0.5254902, alpha 1.0, hue 0.3627816, saturation 0.28811076, and chroma 0.071815535.
@@ -1017,7 +939,6 @@ public class Palette {
      * </pre>
      */
     public static final float HONEYDEW = -0x1.0cf3bp126F;
-    static { NAMED.put("Honeydew", -0x1.0cf3bp126F); LIST.add(-0x1.0cf3bp126F); }
 
     /**
      * This color constant "Tarnish" has RGBA8888 code {@code ABC78FFF}, L 0.7372549, A 0.4745098, B 0.5294118, alpha 1.0, hue 0.35241663, saturation 0.35714287, and chroma 0.07753685.
@@ -1029,7 +950,6 @@ public class Palette {
      * </pre>
      */
     public static final float TARNISH = -0x1.0ef378p126F;
-    static { NAMED.put("Tarnish", -0x1.0ef378p126F); LIST.add(-0x1.0ef378p126F); }
 
     /**
      * This color constant "Pea Soup" has RGBA8888 code {@code 8EBE55FF}, L 0.67058825, A 0.45490196, B 0.5529412, alpha 1.0, hue 0.35599256, saturation 0.6594257, and chroma 0.13854803.
@@ -1041,7 +961,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEA_SOUP = -0x1.1ae956p126F;
-    static { NAMED.put("Pea Soup", -0x1.1ae956p126F); LIST.add(-0x1.1ae956p126F); }
 
     /**
      * This color constant "Marsh" has RGBA8888 code {@code 738F57FF}, L 0.5176471, A 0.47058824, B 0.5294118, alpha 1.0, hue 0.36440554, saturation 0.45234665, and chroma 0.082864076.
@@ -1053,7 +972,6 @@ public class Palette {
      * </pre>
      */
     public static final float MARSH = -0x1.0ef108p126F;
-    static { NAMED.put("Marsh", -0x1.0ef108p126F); LIST.add(-0x1.0ef108p126F); }
 
     /**
      * This color constant "Asparagus" has RGBA8888 code {@code 587D3EFF}, L 0.4392157, A 0.4627451, B 0.5372549, alpha 1.0, hue 0.36663133, saturation 0.62574995, and chroma 0.104961164.
@@ -1065,7 +983,6 @@ public class Palette {
      * </pre>
      */
     public static final float ASPARAGUS = -0x1.12ecep126F;
-    static { NAMED.put("Asparagus", -0x1.12ecep126F); LIST.add(-0x1.12ecep126F); }
 
     /**
      * This color constant "Peat Bog" has RGBA8888 code {@code 465032FF}, L 0.29411766, A 0.48235294, B 0.52156866, alpha 1.0, hue 0.3435836, saturation 0.48074016, and chroma 0.055518243.
@@ -1077,7 +994,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEAT_BOG = -0x1.0af696p126F;
-    static { NAMED.put("Peat Bog", -0x1.0af696p126F); LIST.add(-0x1.0af696p126F); }
 
     /**
      * This color constant "Deep Jungle" has RGBA8888 code {@code 191E0FFF}, L 0.105882354, A 0.4862745, B 0.5137255, alpha 1.0, hue 0.35241663, saturation 0.625, and chroma 0.038669903.
@@ -1089,7 +1005,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_JUNGLE = -0x1.06f836p126F;
-    static { NAMED.put("Deep Jungle", -0x1.06f836p126F); LIST.add(-0x1.06f836p126F); }
 
     /**
      * This color constant "Pine Green" has RGBA8888 code {@code 235037FF}, L 0.27058825, A 0.4627451, B 0.5137255, alpha 1.0, hue 0.43343773, saturation 0.6792316, and chroma 0.079095535.
@@ -1101,7 +1016,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINE_GREEN = -0x1.06ec8ap126F;
-    static { NAMED.put("Pine Green", -0x1.06ec8ap126F); LIST.add(-0x1.06ec8ap126F); }
 
     /**
      * This color constant "Olive Green" has RGBA8888 code {@code 3B573BFF}, L 0.30588236, A 0.4745098, B 0.5137255, alpha 1.0, hue 0.4064164, saturation 0.3795317, and chroma 0.05767509.
@@ -1113,7 +1027,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_GREEN = -0x1.06f29cp126F;
-    static { NAMED.put("Olive Green", -0x1.06f29cp126F); LIST.add(-0x1.06f29cp126F); }
 
     /**
      * This color constant "Gray Green" has RGBA8888 code {@code 506450FF}, L 0.3647059, A 0.48235294, B 0.50980395, alpha 1.0, hue 0.39758337, saturation 0.22222222, and chroma 0.040217306.
@@ -1125,7 +1038,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY_GREEN = -0x1.04f6bap126F;
-    static { NAMED.put("Gray Green", -0x1.04f6bap126F); LIST.add(-0x1.04f6bap126F); }
 
     /**
      * This color constant "Maidenhair Fern" has RGBA8888 code {@code 3B7349FF}, L 0.39215687, A 0.45882353, B 0.52156866, alpha 1.0, hue 0.41398963, saturation 0.5424141, and chroma 0.09260367.
@@ -1137,7 +1049,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAIDENHAIR_FERN = -0x1.0aeac8p126F;
-    static { NAMED.put("Maidenhair Fern", -0x1.0aeac8p126F); LIST.add(-0x1.0aeac8p126F); }
 
     /**
      * This color constant "Kelly Green" has RGBA8888 code {@code 578F57FF}, L 0.49411765, A 0.45490196, B 0.5294118, alpha 1.0, hue 0.39992374, saturation 0.49459895, and chroma 0.107261956.
@@ -1149,7 +1060,6 @@ public class Palette {
      * </pre>
      */
     public static final float KELLY_GREEN = -0x1.0ee8fcp126F;
-    static { NAMED.put("Kelly Green", -0x1.0ee8fcp126F); LIST.add(-0x1.0ee8fcp126F); }
 
     /**
      * This color constant "Dusty Green" has RGBA8888 code {@code 73AB73FF}, L 0.6039216, A 0.45882353, B 0.5254902, alpha 1.0, hue 0.4027998, saturation 0.39375985, and chroma 0.096477255.
@@ -1161,7 +1071,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GREEN = -0x1.0ceb34p126F;
-    static { NAMED.put("Dusty Green", -0x1.0ceb34p126F); LIST.add(-0x1.0ceb34p126F); }
 
     /**
      * This color constant "Garter Snake" has RGBA8888 code {@code 64C082FF}, L 0.65882355, A 0.44313726, B 0.5254902, alpha 1.0, hue 0.42620847, saturation 0.5906595, and chroma 0.124142565.
@@ -1173,7 +1082,6 @@ public class Palette {
      * </pre>
      */
     public static final float GARTER_SNAKE = -0x1.0ce35p126F;
-    static { NAMED.put("Garter Snake", -0x1.0ce35p126F); LIST.add(-0x1.0ce35p126F); }
 
     /**
      * This color constant "Silver Green" has RGBA8888 code {@code 8FC78FFF}, L 0.7137255, A 0.45882353, B 0.5254902, alpha 1.0, hue 0.4027998, saturation 0.3538132, and chroma 0.096477255.
@@ -1185,7 +1093,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_GREEN = -0x1.0ceb6cp126F;
-    static { NAMED.put("Silver Green", -0x1.0ceb6cp126F); LIST.add(-0x1.0ceb6cp126F); }
 
     /**
      * This color constant "Pistachio" has RGBA8888 code {@code A2D8A2FF}, L 0.78039217, A 0.4627451, B 0.52156866, alpha 1.0, hue 0.4064164, saturation 0.30904725, and chroma 0.08575976.
@@ -1197,7 +1104,6 @@ public class Palette {
      * </pre>
      */
     public static final float PISTACHIO = -0x1.0aed8ep126F;
-    static { NAMED.put("Pistachio", -0x1.0aed8ep126F); LIST.add(-0x1.0aed8ep126F); }
 
     /**
      * This color constant "Angel Wing" has RGBA8888 code {@code E1F8FAFF}, L 0.9529412, A 0.4862745, B 0.49411765, alpha 1.0, hue 0.5512084, saturation 0.1437399, and chroma 0.029749114.
@@ -1209,7 +1115,6 @@ public class Palette {
      * </pre>
      */
     public static final float ANGEL_WING = -0x1.fcf9e6p125F;
-    static { NAMED.put("Angel Wing", -0x1.fcf9e6p125F); LIST.add(-0x1.fcf9e6p125F); }
 
     /**
      * This color constant "Sage Green" has RGBA8888 code {@code B4EECAFF}, L 0.87058824, A 0.46666667, B 0.50980395, alpha 1.0, hue 0.44289985, saturation 0.2997896, and chroma 0.069218926.
@@ -1221,7 +1126,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAGE_GREEN = -0x1.04efbcp126F;
-    static { NAMED.put("Sage Green", -0x1.04efbcp126F); LIST.add(-0x1.04efbcp126F); }
 
     /**
      * This color constant "Dried Sage" has RGBA8888 code {@code ABE3C5FF}, L 0.83137256, A 0.46666667, B 0.50980395, alpha 1.0, hue 0.44289985, saturation 0.31069103, and chroma 0.069218926.
@@ -1233,7 +1137,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIED_SAGE = -0x1.04efa8p126F;
-    static { NAMED.put("Dried Sage", -0x1.04efa8p126F); LIST.add(-0x1.04efa8p126F); }
 
     /**
      * This color constant "Artichoke" has RGBA8888 code {@code 87B48EFF}, L 0.6509804, A 0.46666667, B 0.5137255, alpha 1.0, hue 0.42620847, saturation 0.34401047, and chroma 0.071815535.
@@ -1245,7 +1148,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARTICHOKE = -0x1.06ef4cp126F;
-    static { NAMED.put("Artichoke", -0x1.06ef4cp126F); LIST.add(-0x1.06ef4cp126F); }
 
     /**
      * This color constant "Viridian" has RGBA8888 code {@code 507D5FFF}, L 0.4392157, A 0.46666667, B 0.5137255, alpha 1.0, hue 0.42620847, saturation 0.43630594, and chroma 0.071815535.
@@ -1257,7 +1159,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIRIDIAN = -0x1.06eeep126F;
-    static { NAMED.put("Viridian", -0x1.06eeep126F); LIST.add(-0x1.06eeep126F); }
 
     /**
      * This color constant "Floral Foam" has RGBA8888 code {@code 0F6946FF}, L 0.34117648, A 0.44705883, B 0.5137255, alpha 1.0, hue 0.45249218, saturation 0.90676475, and chroma 0.10895567.
@@ -1269,7 +1170,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLORAL_FOAM = -0x1.06e4aep126F;
-    static { NAMED.put("Floral Foam", -0x1.06e4aep126F); LIST.add(-0x1.06e4aep126F); }
 
     /**
      * This color constant "Hunter Green" has RGBA8888 code {@code 1E2D23FF}, L 0.15686275, A 0.48235294, B 0.5058824, alpha 1.0, hue 0.42620847, saturation 0.4259177, and chroma 0.03705794.
@@ -1281,7 +1181,6 @@ public class Palette {
      * </pre>
      */
     public static final float HUNTER_GREEN = -0x1.02f65p126F;
-    static { NAMED.put("Hunter Green", -0x1.02f65p126F); LIST.add(-0x1.02f65p126F); }
 
     /**
      * This color constant "Dark Teal" has RGBA8888 code {@code 234146FF}, L 0.23137255, A 0.47843137, B 0.4862745, alpha 1.0, hue 0.58601034, saturation 0.64788353, and chroma 0.050931267.
@@ -1293,7 +1192,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_TEAL = -0x1.f8f476p125F;
-    static { NAMED.put("Dark Teal", -0x1.f8f476p125F); LIST.add(-0x1.f8f476p125F); }
 
     /**
      * This color constant "Kyanite" has RGBA8888 code {@code 3B7373FF}, L 0.40392157, A 0.46666667, B 0.49019608, alpha 1.0, hue 0.5389897, saturation 0.63432395, and chroma 0.069218926.
@@ -1305,7 +1203,6 @@ public class Palette {
      * </pre>
      */
     public static final float KYANITE = -0x1.faeecep125F;
-    static { NAMED.put("Kyanite", -0x1.faeecep125F); LIST.add(-0x1.faeecep125F); }
 
     /**
      * This color constant "Spearmint" has RGBA8888 code {@code 64ABABFF}, L 0.6117647, A 0.4627451, B 0.49019608, alpha 1.0, hue 0.53480226, saturation 0.5587603, and chroma 0.07674564.
@@ -1317,7 +1214,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPEARMINT = -0x1.faed38p125F;
-    static { NAMED.put("Spearmint", -0x1.faed38p125F); LIST.add(-0x1.faed38p125F); }
 
     /**
      * This color constant "Amazonite" has RGBA8888 code {@code 8FC7C7FF}, L 0.73333335, A 0.47058824, B 0.49019608, alpha 1.0, hue 0.54429305, saturation 0.39351946, and chroma 0.061763234.
@@ -1329,7 +1225,6 @@ public class Palette {
      * </pre>
      */
     public static final float AMAZONITE = -0x1.faf176p125F;
-    static { NAMED.put("Amazonite", -0x1.faf176p125F); LIST.add(-0x1.faf176p125F); }
 
     /**
      * This color constant "Pastel Sky" has RGBA8888 code {@code ABE3E3FF}, L 0.8392157, A 0.4745098, B 0.49019608, alpha 1.0, hue 0.5512084, saturation 0.31622776, and chroma 0.054407768.
@@ -1341,7 +1236,6 @@ public class Palette {
      * </pre>
      */
     public static final float PASTEL_SKY = -0x1.faf3acp125F;
-    static { NAMED.put("Pastel Sky", -0x1.faf3acp125F); LIST.add(-0x1.faf3acp125F); }
 
     /**
      * This color constant "Aquamarine" has RGBA8888 code {@code C7F1F1FF}, L 0.90588236, A 0.47843137, B 0.49411765, alpha 1.0, hue 0.53141636, saturation 0.2371637, and chroma 0.044538103.
@@ -1353,7 +1247,6 @@ public class Palette {
      * </pre>
      */
     public static final float AQUAMARINE = -0x1.fcf5cep125F;
-    static { NAMED.put("Aquamarine", -0x1.fcf5cep125F); LIST.add(-0x1.fcf5cep125F); }
 
     /**
      * This color constant "Dust Bunny" has RGBA8888 code {@code BED2F0FF}, L 0.8156863, A 0.49411765, B 0.47843137, alpha 1.0, hue 0.71858364, saturation 0.11721884, and chroma 0.044538103.
@@ -1365,7 +1258,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUST_BUNNY = -0x1.f4fdap125F;
-    static { NAMED.put("Dust Bunny", -0x1.f4fdap125F); LIST.add(-0x1.f4fdap125F); }
 
     /**
      * This color constant "Patina" has RGBA8888 code {@code ABC7E3FF}, L 0.7647059, A 0.49019608, B 0.47843137, alpha 1.0, hue 0.6894406, saturation 0.1795055, and chroma 0.0471994.
@@ -1377,7 +1269,6 @@ public class Palette {
      * </pre>
      */
     public static final float PATINA = -0x1.f4fb86p125F;
-    static { NAMED.put("Patina", -0x1.f4fb86p125F); LIST.add(-0x1.f4fb86p125F); }
 
     /**
      * This color constant "Chipped Granite" has RGBA8888 code {@code A8B9DCFF}, L 0.7254902, A 0.49411765, B 0.4745098, alpha 1.0, hue 0.723716, saturation 0.12942049, and chroma 0.052115876.
@@ -1389,7 +1280,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHIPPED_GRANITE = -0x1.f2fd72p125F;
-    static { NAMED.put("Chipped Granite", -0x1.f2fd72p125F); LIST.add(-0x1.f2fd72p125F); }
 
     /**
      * This color constant "Blue Smoke" has RGBA8888 code {@code 8FABC7FF}, L 0.654902, A 0.49019608, B 0.4745098, alpha 1.0, hue 0.6987916, saturation 0.21439171, and chroma 0.054407768.
@@ -1401,7 +1291,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_SMOKE = -0x1.f2fb4ep125F;
-    static { NAMED.put("Blue Smoke", -0x1.f2fb4ep125F); LIST.add(-0x1.f2fb4ep125F); }
 
     /**
      * This color constant "Air Force Blue" has RGBA8888 code {@code 578FC7FF}, L 0.5411765, A 0.47843137, B 0.4509804, alpha 1.0, hue 0.68716717, saturation 0.5531915, and chroma 0.106691405.
@@ -1413,7 +1302,6 @@ public class Palette {
      * </pre>
      */
     public static final float AIR_FORCE_BLUE = -0x1.e6f514p125F;
-    static { NAMED.put("Air Force Blue", -0x1.e6f514p125F); LIST.add(-0x1.e6f514p125F); }
 
     /**
      * This color constant "Cold Iron" has RGBA8888 code {@code 57738FFF}, L 0.4392157, A 0.4862745, B 0.4745098, alpha 1.0, hue 0.67620844, saturation 0.35306334, and chroma 0.05767509.
@@ -1425,7 +1313,6 @@ public class Palette {
      * </pre>
      */
     public static final float COLD_IRON = -0x1.f2f8ep125F;
-    static { NAMED.put("Cold Iron", -0x1.f2f8ep125F); LIST.add(-0x1.f2f8ep125F); }
 
     /**
      * This color constant "Dreary Blue" has RGBA8888 code {@code 3B5773FF}, L 0.32941177, A 0.4862745, B 0.47058824, alpha 1.0, hue 0.68555963, saturation 0.44798666, and chroma 0.064659946.
@@ -1437,7 +1324,6 @@ public class Palette {
      * </pre>
      */
     public static final float DREARY_BLUE = -0x1.f0f8a8p125F;
-    static { NAMED.put("Dreary Blue", -0x1.f0f8a8p125F); LIST.add(-0x1.f0f8a8p125F); }
 
     /**
      * This color constant "Murk" has RGBA8888 code {@code 0F192DFF}, L 0.09803922, A 0.49411765, B 0.47058824, alpha 1.0, hue 0.72741663, saturation 0.48765984, and chroma 0.059754133.
@@ -1449,7 +1335,6 @@ public class Palette {
      * </pre>
      */
     public static final float MURK = -0x1.f0fc32p125F;
-    static { NAMED.put("Murk", -0x1.f0fc32p125F); LIST.add(-0x1.f0fc32p125F); }
 
     /**
      * This color constant "Ninja" has RGBA8888 code {@code 1F1F3BFF}, L 0.13333334, A 0.5058824, B 0.46666667, alpha 1.0, hue 0.7889897, saturation 0.3926767, and chroma 0.06743233.
@@ -1461,7 +1346,6 @@ public class Palette {
      * </pre>
      */
     public static final float NINJA = -0x1.ef0244p125F;
-    static { NAMED.put("Ninja", -0x1.ef0244p125F); LIST.add(-0x1.ef0244p125F); }
 
     /**
      * This color constant "Watercolor Black" has RGBA8888 code {@code 3B3B57FF}, L 0.24313726, A 0.5058824, B 0.4745098, alpha 1.0, hue 0.8012084, saturation 0.21439171, and chroma 0.052115876.
@@ -1473,7 +1357,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_BLACK = -0x1.f3027cp125F;
-    static { NAMED.put("Watercolor Black", -0x1.f3027cp125F); LIST.add(-0x1.f3027cp125F); }
 
     /**
      * This color constant "Iolite" has RGBA8888 code {@code 494973FF}, L 0.30588236, A 0.5058824, B 0.4627451, alpha 1.0, hue 0.78480226, saturation 0.25609845, and chroma 0.07513822.
@@ -1485,7 +1368,6 @@ public class Palette {
      * </pre>
      */
     public static final float IOLITE = -0x1.ed029cp125F;
-    static { NAMED.put("Iolite", -0x1.ed029cp125F); LIST.add(-0x1.ed029cp125F); }
 
     /**
      * This color constant "Boysenberry" has RGBA8888 code {@code 57578FFF}, L 0.36862746, A 0.50980395, B 0.45490196, alpha 1.0, hue 0.79237556, saturation 0.28504387, and chroma 0.091942206.
@@ -1497,7 +1379,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOYSENBERRY = -0x1.e904bcp125F;
-    static { NAMED.put("Boysenberry", -0x1.e904bcp125F); LIST.add(-0x1.e904bcp125F); }
 
     /**
      * This color constant "Watercolor Gray" has RGBA8888 code {@code 736EAAFF}, L 0.4627451, A 0.50980395, B 0.45490196, alpha 1.0, hue 0.79237556, saturation 0.24786423, and chroma 0.091942206.
@@ -1509,7 +1390,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_GRAY = -0x1.e904ecp125F;
-    static { NAMED.put("Watercolor Gray", -0x1.e904ecp125F); LIST.add(-0x1.e904ecp125F); }
 
     /**
      * This color constant "Blue Steel" has RGBA8888 code {@code 7676CAFF}, L 0.5019608, A 0.50980395, B 0.4392157, alpha 1.0, hue 0.78141636, saturation 0.3090315, and chroma 0.12265874.
@@ -1521,7 +1401,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_STEEL = -0x1.e105p125F;
-    static { NAMED.put("Blue Steel", -0x1.e105p125F); LIST.add(-0x1.e105p125F); }
 
     /**
      * This color constant "Twilight Cloud" has RGBA8888 code {@code 8F8FC7FF}, L 0.58431375, A 0.5058824, B 0.4627451, alpha 1.0, hue 0.78480226, saturation 0.16762808, and chroma 0.07513822.
@@ -1533,7 +1412,6 @@ public class Palette {
      * </pre>
      */
     public static final float TWILIGHT_CLOUD = -0x1.ed032ap125F;
-    static { NAMED.put("Twilight Cloud", -0x1.ed032ap125F); LIST.add(-0x1.ed032ap125F); }
 
     /**
      * This color constant "Smog" has RGBA8888 code {@code ABABE3FF}, L 0.69411767, A 0.5058824, B 0.4627451, alpha 1.0, hue 0.78480226, saturation 0.14991128, and chroma 0.07513822.
@@ -1545,7 +1423,6 @@ public class Palette {
      * </pre>
      */
     public static final float SMOG = -0x1.ed0362p125F;
-    static { NAMED.put("Smog", -0x1.ed0362p125F); LIST.add(-0x1.ed0362p125F); }
 
     /**
      * This color constant "Tropic Mist" has RGBA8888 code {@code D0DAF8FF}, L 0.85882354, A 0.49803922, B 0.47843137, alpha 1.0, hue 0.75, saturation 0.0, and chroma 0.04314594.
@@ -1557,7 +1434,6 @@ public class Palette {
      * </pre>
      */
     public static final float TROPIC_MIST = -0x1.f4ffb6p125F;
-    static { NAMED.put("Tropic Mist", -0x1.f4ffb6p125F); LIST.add(-0x1.f4ffb6p125F); }
 
     /**
      * This color constant "Feather Down" has RGBA8888 code {@code E3E3FFFF}, L 0.9019608, A 0.5019608, B 0.48235294, alpha 1.0, hue 0.7889897, saturation 0.0, and chroma 0.0353726.
@@ -1569,7 +1445,6 @@ public class Palette {
      * </pre>
      */
     public static final float FEATHER_DOWN = -0x1.f701ccp125F;
-    static { NAMED.put("Feather Down", -0x1.f701ccp125F); LIST.add(-0x1.f701ccp125F); }
 
     /**
      * This color constant "Mild Violet" has RGBA8888 code {@code AB8FC7FF}, L 0.6156863, A 0.52156866, B 0.46666667, alpha 1.0, hue 0.85241663, saturation 0.20408164, and chroma 0.079095535.
@@ -1581,7 +1456,6 @@ public class Palette {
      * </pre>
      */
     public static final float MILD_VIOLET = -0x1.ef0b3ap125F;
-    static { NAMED.put("Mild Violet", -0x1.ef0b3ap125F); LIST.add(-0x1.ef0b3ap125F); }
 
     /**
      * This color constant "Violet Cushions" has RGBA8888 code {@code 8F57C7FF}, L 0.4627451, A 0.54509807, B 0.43137255, alpha 1.0, hue 0.84782684, saturation 0.5075281, and chroma 0.16359681.
@@ -1593,7 +1467,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET_CUSHIONS = -0x1.dd16ecp125F;
-    static { NAMED.put("Violet Cushions", -0x1.dd16ecp125F); LIST.add(-0x1.dd16ecp125F); }
 
     /**
      * This color constant "Dull Violet" has RGBA8888 code {@code 73578FFF}, L 0.39607844, A 0.5254902, B 0.4627451, alpha 1.0, hue 0.8552086, saturation 0.31237683, and chroma 0.08992863.
@@ -1605,7 +1478,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_VIOLET = -0x1.ed0ccap125F;
-    static { NAMED.put("Dull Violet", -0x1.ed0ccap125F); LIST.add(-0x1.ed0ccap125F); }
 
     /**
      * This color constant "Royal Violet" has RGBA8888 code {@code 573B73FF}, L 0.2901961, A 0.5294118, B 0.45882353, alpha 1.0, hue 0.8573886, saturation 0.43411013, and chroma 0.1008085.
@@ -1617,7 +1489,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_VIOLET = -0x1.eb0e94p125F;
-    static { NAMED.put("Royal Violet", -0x1.eb0e94p125F); LIST.add(-0x1.eb0e94p125F); }
 
     /**
      * This color constant "Eminence" has RGBA8888 code {@code 3C233CFF}, L 0.1764706, A 0.5254902, B 0.48235294, alpha 1.0, hue 0.9173755, saturation 0.4134491, and chroma 0.061763234.
@@ -1629,7 +1500,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMINENCE = -0x1.f70c5ap125F;
-    static { NAMED.put("Eminence", -0x1.f70c5ap125F); LIST.add(-0x1.f70c5ap125F); }
 
     /**
      * This color constant "Prune" has RGBA8888 code {@code 463246FF}, L 0.22352941, A 0.5176471, B 0.4862745, alpha 1.0, hue 0.91398966, saturation 0.2591534, and chroma 0.044538103.
@@ -1641,7 +1511,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUNE = -0x1.f90872p125F;
-    static { NAMED.put("Prune", -0x1.f90872p125F); LIST.add(-0x1.f90872p125F); }
 
     /**
      * This color constant "Dusty Grape" has RGBA8888 code {@code 724072FF}, L 0.33333334, A 0.5411765, B 0.47058824, alpha 1.0, hue 0.9098022, saturation 0.44197983, and chroma 0.1008085.
@@ -1653,7 +1522,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GRAPE = -0x1.f114aap125F;
-    static { NAMED.put("Dusty Grape", -0x1.f114aap125F); LIST.add(-0x1.f114aap125F); }
 
     /**
      * This color constant "Pink Violet" has RGBA8888 code {@code 8F578FFF}, L 0.43137255, A 0.5411765, B 0.47058824, alpha 1.0, hue 0.9098022, saturation 0.37252584, and chroma 0.1008085.
@@ -1665,7 +1533,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_VIOLET = -0x1.f114dcp125F;
-    static { NAMED.put("Pink Violet", -0x1.f114dcp125F); LIST.add(-0x1.f114dcp125F); }
 
     /**
      * This color constant "Ripe Plum" has RGBA8888 code {@code AB57ABFF}, L 0.48235294, A 0.56078434, B 0.45882353, alpha 1.0, hue 0.91109616, saturation 0.50314564, and chroma 0.14626285.
@@ -1677,7 +1544,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPE_PLUM = -0x1.eb1ef6p125F;
-    static { NAMED.put("Ripe Plum", -0x1.eb1ef6p125F); LIST.add(-0x1.eb1ef6p125F); }
 
     /**
      * This color constant "Mauve" has RGBA8888 code {@code AB73ABFF}, L 0.5372549, A 0.5411765, B 0.47058824, alpha 1.0, hue 0.9098022, saturation 0.32193592, and chroma 0.1008085.
@@ -1689,7 +1555,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAUVE = -0x1.f11512p125F;
-    static { NAMED.put("Mauve", -0x1.f11512p125F); LIST.add(-0x1.f11512p125F); }
 
     /**
      * This color constant "Ham" has RGBA8888 code {@code EBACE1FF}, L 0.7647059, A 0.5372549, B 0.4745098, alpha 1.0, hue 0.91398966, saturation 0.23092878, and chroma 0.08992863.
@@ -1701,7 +1566,6 @@ public class Palette {
      * </pre>
      */
     public static final float HAM = -0x1.f31386p125F;
-    static { NAMED.put("Ham", -0x1.f31386p125F); LIST.add(-0x1.f31386p125F); }
 
     /**
      * This color constant "Cotton Candy" has RGBA8888 code {@code FFDCF5FF}, L 0.9098039, A 0.5176471, B 0.49019608, alpha 1.0, hue 0.9394406, saturation 0.099725276, and chroma 0.040217306.
@@ -1713,7 +1577,6 @@ public class Palette {
      * </pre>
      */
     public static final float COTTON_CANDY = -0x1.fb09dp125F;
-    static { NAMED.put("Cotton Candy", -0x1.fb09dp125F); LIST.add(-0x1.fb09dp125F); }
 
     /**
      * This color constant "Silver Pink" has RGBA8888 code {@code E3C7E3FF}, L 0.81960785, A 0.5176471, B 0.4862745, alpha 1.0, hue 0.91398966, saturation 0.110017955, and chroma 0.044538103.
@@ -1725,7 +1588,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_PINK = -0x1.f909a2p125F;
-    static { NAMED.put("Silver Pink", -0x1.f909a2p125F); LIST.add(-0x1.f909a2p125F); }
 
     /**
      * This color constant "Tea Rose" has RGBA8888 code {@code E1B9D2FF}, L 0.78039217, A 0.52156866, B 0.49019608, alpha 1.0, hue 0.9487916, saturation 0.13176157, and chroma 0.0471994.
@@ -1737,7 +1599,6 @@ public class Palette {
      * </pre>
      */
     public static final float TEA_ROSE = -0x1.fb0b8ep125F;
-    static { NAMED.put("Tea Rose", -0x1.fb0b8ep125F); LIST.add(-0x1.fb0b8ep125F); }
 
     /**
      * This color constant "Old Rose" has RGBA8888 code {@code D7A0BEFF}, L 0.7019608, A 0.53333336, B 0.49019608, alpha 1.0, hue 0.96519774, saturation 0.21194355, and chroma 0.069218926.
@@ -1749,7 +1610,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLD_ROSE = -0x1.fb1166p125F;
-    static { NAMED.put("Old Rose", -0x1.fb1166p125F); LIST.add(-0x1.fb1166p125F); }
 
     /**
      * This color constant "Dusty Pink" has RGBA8888 code {@code C78FB9FF}, L 0.6392157, A 0.5372549, B 0.48235294, alpha 1.0, hue 0.9394406, saturation 0.25047278, and chroma 0.0821242.
@@ -1761,7 +1621,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_PINK = -0x1.f71346p125F;
-    static { NAMED.put("Dusty Pink", -0x1.f71346p125F); LIST.add(-0x1.f71346p125F); }
 
     /**
      * This color constant "Roseate Spoonbill" has RGBA8888 code {@code C87DA0FF}, L 0.5921569, A 0.54509807, B 0.49019608, alpha 1.0, hue 0.973716, saturation 0.31598768, and chroma 0.091942206.
@@ -1773,7 +1632,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSEATE_SPOONBILL = -0x1.fb172ep125F;
-    static { NAMED.put("Roseate Spoonbill", -0x1.fb172ep125F); LIST.add(-0x1.fb172ep125F); }
 
     /**
      * This color constant "Thulian Pink" has RGBA8888 code {@code C35A91FF}, L 0.50980395, A 0.5686275, B 0.48235294, alpha 1.0, hue 0.96519774, saturation 0.51941097, and chroma 0.1411665.
@@ -1785,7 +1643,6 @@ public class Palette {
      * </pre>
      */
     public static final float THULIAN_PINK = -0x1.f72304p125F;
-    static { NAMED.put("Thulian Pink", -0x1.f72304p125F); LIST.add(-0x1.f72304p125F); }
 
     /**
      * This color constant "Brown Velvet" has RGBA8888 code {@code 4B2837FF}, L 0.20392157, A 0.5294118, B 0.49411765, alpha 1.0, hue 0.98020846, saturation 0.42432937, and chroma 0.059754133.
@@ -1797,7 +1654,6 @@ public class Palette {
      * </pre>
      */
     public static final float BROWN_VELVET = -0x1.fd0e68p125F;
-    static { NAMED.put("Brown Velvet", -0x1.fd0e68p125F); LIST.add(-0x1.fd0e68p125F); }
 
     /**
      * This color constant "Nightshade" has RGBA8888 code {@code 321623FF}, L 0.1254902, A 0.5254902, B 0.49411765, alpha 1.0, hue 0.97741663, saturation 0.5050763, and chroma 0.052115876.
@@ -1809,7 +1665,6 @@ public class Palette {
      * </pre>
      */
     public static final float NIGHTSHADE = -0x1.fd0c4p125F;
-    static { NAMED.put("Nightshade", -0x1.fd0c4p125F); LIST.add(-0x1.fd0c4p125F); }
 
     /**
      * This color constant "Scribe Ink" has RGBA8888 code {@code 280A1EFF}, L 0.09019608, A 0.53333336, B 0.4862745, alpha 1.0, hue 0.9487916, saturation 0.79056937, and chroma 0.071815535.
@@ -1821,7 +1676,6 @@ public class Palette {
      * </pre>
      */
     public static final float SCRIBE_INK = -0x1.f9102ep125F;
-    static { NAMED.put("Scribe Ink", -0x1.f9102ep125F); LIST.add(-0x1.f9102ep125F); }
 
     /**
      * This color constant "Varnish" has RGBA8888 code {@code 401811FF}, L 0.14509805, A 0.5294118, B 0.5176471, alpha 1.0, hue 0.08890383, saturation 0.62893206, and chroma 0.068331465.
@@ -1833,7 +1687,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARNISH = -0x1.090e4ap126F;
-    static { NAMED.put("Varnish", -0x1.090e4ap126F); LIST.add(-0x1.090e4ap126F); }
 
     /**
      * This color constant "Cedar Wood" has RGBA8888 code {@code 621800FF}, L 0.20392157, A 0.54901963, B 0.53333336, alpha 1.0, hue 0.096375585, saturation 0.9035079, and chroma 0.11809544.
@@ -1845,7 +1698,6 @@ public class Palette {
      * </pre>
      */
     public static final float CEDAR_WOOD = -0x1.111868p126F;
-    static { NAMED.put("Cedar Wood", -0x1.111868p126F); LIST.add(-0x1.111868p126F); }
 
     /**
      * This color constant "Hot Sauce" has RGBA8888 code {@code A5140AFF}, L 0.32941177, A 0.5803922, B 0.54509807, alpha 1.0, hue 0.08262452, saturation 0.94850093, and chroma 0.1836353.
@@ -1857,7 +1709,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOT_SAUCE = -0x1.1728a8p126F;
-    static { NAMED.put("Hot Sauce", -0x1.1728a8p126F); LIST.add(-0x1.1728a8p126F); }
 
     /**
      * This color constant "Lurid Red" has RGBA8888 code {@code DA2010FF}, L 0.4392157, A 0.5921569, B 0.5529412, alpha 1.0, hue 0.08404553, saturation 0.89628667, and chroma 0.21173172.
@@ -1869,7 +1720,6 @@ public class Palette {
      * </pre>
      */
     public static final float LURID_RED = -0x1.1b2eep126F;
-    static { NAMED.put("Lurid Red", -0x1.1b2eep126F); LIST.add(-0x1.1b2eep126F); }
 
     /**
      * This color constant "Brick" has RGBA8888 code {@code D5524AFF}, L 0.5019608, A 0.5686275, B 0.53333336, alpha 1.0, hue 0.07379155, saturation 0.60073465, and chroma 0.15199278.
@@ -1881,7 +1731,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRICK = -0x1.1123p126F;
-    static { NAMED.put("Brick", -0x1.1123p126F); LIST.add(-0x1.1123p126F); }
 
     /**
      * This color constant "Bright Red" has RGBA8888 code {@code FF3C0AFF}, L 0.53333336, A 0.5921569, B 0.5647059, alpha 1.0, hue 0.09808689, saturation 0.94873816, and chroma 0.22432896.
@@ -1893,7 +1742,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRIGHT_RED = -0x1.212f1p126F;
-    static { NAMED.put("Bright Red", -0x1.212f1p126F); LIST.add(-0x1.212f1p126F); }
 
     /**
      * This color constant "Embers" has RGBA8888 code {@code F55A32FF}, L 0.56078434, A 0.57254905, B 0.5568628, alpha 1.0, hue 0.10636183, saturation 0.80691457, and chroma 0.1836353.
@@ -1905,7 +1753,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMBERS = -0x1.1d251ep126F;
-    static { NAMED.put("Embers", -0x1.1d251ep126F); LIST.add(-0x1.1d251ep126F); }
 
     /**
      * This color constant "Salmon" has RGBA8888 code {@code FF6262FF}, L 0.6, A 0.5803922, B 0.53333336, alpha 1.0, hue 0.06444036, saturation 0.6092618, and chroma 0.17337766.
@@ -1917,7 +1764,6 @@ public class Palette {
      * </pre>
      */
     public static final float SALMON = -0x1.112932p126F;
-    static { NAMED.put("Salmon", -0x1.112932p126F); LIST.add(-0x1.112932p126F); }
 
     /**
      * This color constant "Taxicab Yellow" has RGBA8888 code {@code F6BD31FF}, L 0.77254903, A 0.5019608, B 0.5764706, alpha 1.0, hue 0.24204868, saturation 0.8706515, and chroma 0.15239382.
@@ -1929,7 +1775,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAXICAB_YELLOW = -0x1.27018ap126F;
-    static { NAMED.put("Taxicab Yellow", -0x1.27018ap126F); LIST.add(-0x1.27018ap126F); }
 
     /**
      * This color constant "Apricot" has RGBA8888 code {@code FFA53CFF}, L 0.7294118, A 0.5254902, B 0.5686275, alpha 1.0, hue 0.19097084, saturation 0.804717, and chroma 0.14584495.
@@ -1941,7 +1786,6 @@ public class Palette {
      * </pre>
      */
     public static final float APRICOT = -0x1.230d74p126F;
-    static { NAMED.put("Apricot", -0x1.230d74p126F); LIST.add(-0x1.230d74p126F); }
 
     /**
      * This color constant "Burnt Yellow" has RGBA8888 code {@code D79B0FFF}, L 0.6509804, A 0.5058824, B 0.57254905, alpha 1.0, hue 0.23330833, saturation 0.9319499, and chroma 0.14500555.
@@ -1953,7 +1797,6 @@ public class Palette {
      * </pre>
      */
     public static final float BURNT_YELLOW = -0x1.25034cp126F;
-    static { NAMED.put("Burnt Yellow", -0x1.25034cp126F); LIST.add(-0x1.25034cp126F); }
 
     /**
      * This color constant "Dry Pepper" has RGBA8888 code {@code DA6E0AFF}, L 0.5529412, A 0.5411765, B 0.5647059, alpha 1.0, hue 0.1585965, saturation 0.9203844, and chroma 0.15279381.
@@ -1965,7 +1808,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_PEPPER = -0x1.21151ap126F;
-    static { NAMED.put("Dry Pepper", -0x1.21151ap126F); LIST.add(-0x1.21151ap126F); }
 
     /**
      * This color constant "Redwood" has RGBA8888 code {@code B45A00FF}, L 0.45490196, A 0.5372549, B 0.5568628, alpha 1.0, hue 0.15641639, saturation 0.9245003, and chroma 0.13542919.
@@ -1977,7 +1819,6 @@ public class Palette {
      * </pre>
      */
     public static final float REDWOOD = -0x1.1d12e8p126F;
-    static { NAMED.put("Redwood", -0x1.1d12e8p126F); LIST.add(-0x1.1d12e8p126F); }
 
     /**
      * This color constant "Koa" has RGBA8888 code {@code A04B05FF}, L 0.39215687, A 0.5372549, B 0.5529412, alpha 1.0, hue 0.15128402, saturation 0.9299811, and chroma 0.12896542.
@@ -1989,7 +1830,6 @@ public class Palette {
      * </pre>
      */
     public static final float KOA = -0x1.1b12c8p126F;
-    static { NAMED.put("Koa", -0x1.1b12c8p126F); LIST.add(-0x1.1b12c8p126F); }
 
     /**
      * This color constant "Ochre" has RGBA8888 code {@code 5F3214FF}, L 0.24705882, A 0.52156866, B 0.53333336, alpha 1.0, hue 0.15641639, saturation 0.8320503, and chroma 0.079095535.
@@ -2001,7 +1841,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCHRE = -0x1.110a7ep126F;
-    static { NAMED.put("Ochre", -0x1.110a7ep126F); LIST.add(-0x1.110a7ep126F); }
 
     /**
      * This color constant "Dull Green" has RGBA8888 code {@code 53500AFF}, L 0.3019608, A 0.48235294, B 0.5411765, alpha 1.0, hue 0.3055087, saturation 0.86701477, and chroma 0.08924734.
@@ -2013,7 +1852,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_GREEN = -0x1.14f69ap126F;
-    static { NAMED.put("Dull Green", -0x1.14f69ap126F); LIST.add(-0x1.14f69ap126F); }
 
     /**
      * This color constant "Army Green" has RGBA8888 code {@code 626200FF}, L 0.3647059, A 0.47843137, B 0.54901963, alpha 1.0, hue 0.30843753, saturation 0.92855924, and chroma 0.106691405.
@@ -2025,7 +1863,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARMY_GREEN = -0x1.18f4bap126F;
-    static { NAMED.put("Army Green", -0x1.18f4bap126F); LIST.add(-0x1.18f4bap126F); }
 
     /**
      * This color constant "Driftwood" has RGBA8888 code {@code 8C805AFF}, L 0.5019608, A 0.49803922, B 0.5254902, alpha 1.0, hue 0.25, saturation 0.4, and chroma 0.050931267.
@@ -2037,7 +1874,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIFTWOOD = -0x1.0cffp126F;
-    static { NAMED.put("Driftwood", -0x1.0cffp126F); LIST.add(-0x1.0cffp126F); }
 
     /**
      * This color constant "Dry Brush" has RGBA8888 code {@code AC9400FF}, L 0.5803922, A 0.4862745, B 0.5686275, alpha 1.0, hue 0.27628398, saturation 0.96043617, and chroma 0.13942632.
@@ -2049,7 +1885,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_BRUSH = -0x1.22f928p126F;
-    static { NAMED.put("Dry Brush", -0x1.22f928p126F); LIST.add(-0x1.22f928p126F); }
 
     /**
      * This color constant "Mush" has RGBA8888 code {@code B1B10AFF}, L 0.6627451, A 0.47058824, B 0.5764706, alpha 1.0, hue 0.3035836, saturation 0.96316457, and chroma 0.1632233.
@@ -2061,7 +1896,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUSH = -0x1.26f152p126F;
-    static { NAMED.put("Mush", -0x1.26f152p126F); LIST.add(-0x1.26f152p126F); }
 
     /**
      * This color constant "Banana Pudding" has RGBA8888 code {@code E6D55AFF}, L 0.8235294, A 0.48235294, B 0.5647059, alpha 1.0, hue 0.28677934, saturation 0.7128265, and chroma 0.1336143.
@@ -2073,7 +1907,6 @@ public class Palette {
      * </pre>
      */
     public static final float BANANA_PUDDING = -0x1.20f7a4p126F;
-    static { NAMED.put("Banana Pudding", -0x1.20f7a4p126F); LIST.add(-0x1.20f7a4p126F); }
 
     /**
      * This color constant "Saffron" has RGBA8888 code {@code FFD510FF}, L 0.84313726, A 0.4862745, B 0.5882353, alpha 1.0, hue 0.2706426, saturation 0.9467276, and chroma 0.17789528.
@@ -2085,7 +1918,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAFFRON = -0x1.2cf9aep126F;
-    static { NAMED.put("Saffron", -0x1.2cf9aep126F); LIST.add(-0x1.2cf9aep126F); }
 
     /**
      * This color constant "Pencil Yellow" has RGBA8888 code {@code FFEA4AFF}, L 0.9019608, A 0.47843137, B 0.5803922, alpha 1.0, hue 0.28720152, saturation 0.83027047, and chroma 0.1658202.
@@ -2097,7 +1929,6 @@ public class Palette {
      * </pre>
      */
     public static final float PENCIL_YELLOW = -0x1.28f5ccp126F;
-    static { NAMED.put("Pencil Yellow", -0x1.28f5ccp126F); LIST.add(-0x1.28f5ccp126F); }
 
     /**
      * This color constant "Chartreuse" has RGBA8888 code {@code C8FF41FF}, L 0.90588236, A 0.4392157, B 0.58431375, alpha 1.0, hue 0.34524146, saturation 0.8589372, and chroma 0.2070681.
@@ -2109,7 +1940,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHARTREUSE = -0x1.2ae1cep126F;
-    static { NAMED.put("Chartreuse", -0x1.2ae1cep126F); LIST.add(-0x1.2ae1cep126F); }
 
     /**
      * This color constant "Absinthe" has RGBA8888 code {@code 9BF046FF}, L 0.8235294, A 0.42745098, B 0.5764706, alpha 1.0, hue 0.36663133, saturation 0.8408515, and chroma 0.209995.
@@ -2121,7 +1951,6 @@ public class Palette {
      * </pre>
      */
     public static final float ABSINTHE = -0x1.26dba4p126F;
-    static { NAMED.put("Absinthe", -0x1.26dba4p126F); LIST.add(-0x1.26dba4p126F); }
 
     /**
      * This color constant "Infection" has RGBA8888 code {@code 96DC19FF}, L 0.7607843, A 0.43137255, B 0.5803922, alpha 1.0, hue 0.35830858, saturation 0.9316729, and chroma 0.2105755.
@@ -2133,7 +1962,6 @@ public class Palette {
      * </pre>
      */
     public static final float INFECTION = -0x1.28dd84p126F;
-    static { NAMED.put("Infection", -0x1.28dd84p126F); LIST.add(-0x1.28dd84p126F); }
 
     /**
      * This color constant "Frog Green" has RGBA8888 code {@code 73C805FF}, L 0.6745098, A 0.42745098, B 0.5764706, alpha 1.0, hue 0.36663133, saturation 0.96097314, and chroma 0.209995.
@@ -2145,7 +1973,6 @@ public class Palette {
      * </pre>
      */
     public static final float FROG_GREEN = -0x1.26db58p126F;
-    static { NAMED.put("Frog Green", -0x1.26db58p126F); LIST.add(-0x1.26db58p126F); }
 
     /**
      * This color constant "Avocado" has RGBA8888 code {@code 6AA805FF}, L 0.57254905, A 0.4392157, B 0.5686275, alpha 1.0, hue 0.36057127, saturation 0.93723, and chroma 0.18263547.
@@ -2157,7 +1984,6 @@ public class Palette {
      * </pre>
      */
     public static final float AVOCADO = -0x1.22e124p126F;
-    static { NAMED.put("Avocado", -0x1.22e124p126F); LIST.add(-0x1.22e124p126F); }
 
     /**
      * This color constant "Woodlands" has RGBA8888 code {@code 3C6E14FF}, L 0.36862746, A 0.4509804, B 0.54901963, alpha 1.0, hue 0.36863732, saturation 0.90727216, and chroma 0.1381068.
@@ -2169,7 +1995,6 @@ public class Palette {
      * </pre>
      */
     public static final float WOODLANDS = -0x1.18e6bcp126F;
-    static { NAMED.put("Woodlands", -0x1.18e6bcp126F); LIST.add(-0x1.18e6bcp126F); }
 
     /**
      * This color constant "Dark Pine" has RGBA8888 code {@code 283405FF}, L 0.18039216, A 0.4745098, B 0.5294118, alpha 1.0, hue 0.35241663, saturation 0.8695652, and chroma 0.07753685.
@@ -2181,7 +2006,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_PINE = -0x1.0ef25cp126F;
-    static { NAMED.put("Dark Pine", -0x1.0ef25cp126F); LIST.add(-0x1.0ef25cp126F); }
 
     /**
      * This color constant "Moss Green" has RGBA8888 code {@code 204608FF}, L 0.23137255, A 0.45882353, B 0.5372549, alpha 1.0, hue 0.375, saturation 0.94280905, and chroma 0.11062346.
@@ -2193,7 +2017,6 @@ public class Palette {
      * </pre>
      */
     public static final float MOSS_GREEN = -0x1.12ea76p126F;
-    static { NAMED.put("Moss Green", -0x1.12ea76p126F); LIST.add(-0x1.12ea76p126F); }
 
     /**
      * This color constant "Fern Green" has RGBA8888 code {@code 0C5C0CFF}, L 0.2901961, A 0.4392157, B 0.5411765, alpha 1.0, hue 0.39929467, saturation 0.95390135, and chroma 0.14626285.
@@ -2205,7 +2028,6 @@ public class Palette {
      * </pre>
      */
     public static final float FERN_GREEN = -0x1.14e094p126F;
-    static { NAMED.put("Fern Green", -0x1.14e094p126F); LIST.add(-0x1.14e094p126F); }
 
     /**
      * This color constant "Forest Glen" has RGBA8888 code {@code 149605FF}, L 0.4745098, A 0.41568628, B 0.56078434, alpha 1.0, hue 0.39637765, saturation 0.9778058, and chroma 0.2070681.
@@ -2217,7 +2039,6 @@ public class Palette {
      * </pre>
      */
     public static final float FOREST_GLEN = -0x1.1ed4f2p126F;
-    static { NAMED.put("Forest Glen", -0x1.1ed4f2p126F); LIST.add(-0x1.1ed4f2p126F); }
 
     /**
      * This color constant "Malachite" has RGBA8888 code {@code 0AD70AFF}, L 0.68235296, A 0.39215687, B 0.5764706, alpha 1.0, hue 0.39853072, saturation 0.98825276, and chroma 0.26337513.
@@ -2229,7 +2050,6 @@ public class Palette {
      * </pre>
      */
     public static final float MALACHITE = -0x1.26c95cp126F;
-    static { NAMED.put("Malachite", -0x1.26c95cp126F); LIST.add(-0x1.26c95cp126F); }
 
     /**
      * This color constant "Apple Green" has RGBA8888 code {@code 14E60AFF}, L 0.7294118, A 0.3882353, B 0.5803922, alpha 1.0, hue 0.39758337, saturation 0.9859155, and chroma 0.27427328.
@@ -2241,7 +2061,6 @@ public class Palette {
      * </pre>
      */
     public static final float APPLE_GREEN = -0x1.28c774p126F;
-    static { NAMED.put("Apple Green", -0x1.28c774p126F); LIST.add(-0x1.28c774p126F); }
 
     /**
      * This color constant "Celery" has RGBA8888 code {@code 7DFF73FF}, L 0.85490197, A 0.41960785, B 0.56078434, alpha 1.0, hue 0.39261138, saturation 0.64841765, and chroma 0.20078278.
@@ -2253,7 +2072,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELERY = -0x1.1ed7b4p126F;
-    static { NAMED.put("Celery", -0x1.1ed7b4p126F); LIST.add(-0x1.1ed7b4p126F); }
 
     /**
      * This color constant "Mint Green" has RGBA8888 code {@code 4BF05AFF}, L 0.78039217, A 0.40392157, B 0.5647059, alpha 1.0, hue 0.4019131, saturation 0.7842902, and chroma 0.23076649.
@@ -2265,7 +2083,6 @@ public class Palette {
      * </pre>
      */
     public static final float MINT_GREEN = -0x1.20cf8ep126F;
-    static { NAMED.put("Mint Green", -0x1.20cf8ep126F); LIST.add(-0x1.20cf8ep126F); }
 
     /**
      * This color constant "Emerald" has RGBA8888 code {@code 00C514FF}, L 0.62352943, A 0.4, B 0.57254905, alpha 1.0, hue 0.39656967, saturation 0.9812699, and chroma 0.24612474.
@@ -2277,7 +2094,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMERALD = -0x1.24cd3ep126F;
-    static { NAMED.put("Emerald", -0x1.24cd3ep126F); LIST.add(-0x1.24cd3ep126F); }
 
     /**
      * This color constant "Prase" has RGBA8888 code {@code 05B450FF}, L 0.5764706, A 0.41568628, B 0.54509807, alpha 1.0, hue 0.41737548, saturation 0.9127084, and chroma 0.19048727.
@@ -2289,7 +2105,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRASE = -0x1.16d526p126F;
-    static { NAMED.put("Prase", -0x1.16d526p126F); LIST.add(-0x1.16d526p126F); }
 
     /**
      * This color constant "Eucalyptus" has RGBA8888 code {@code 1C8C4EFF}, L 0.45490196, A 0.43529412, B 0.5294118, alpha 1.0, hue 0.42620847, saturation 0.8726119, and chroma 0.1415982.
@@ -2301,7 +2116,6 @@ public class Palette {
      * </pre>
      */
     public static final float EUCALYPTUS = -0x1.0edee8p126F;
-    static { NAMED.put("Eucalyptus", -0x1.0edee8p126F); LIST.add(-0x1.0edee8p126F); }
 
     /**
      * This color constant "Zucchini" has RGBA8888 code {@code 123832FF}, L 0.1882353, A 0.4745098, B 0.49803922, alpha 1.0, hue 0.5, saturation 0.7058824, and chroma 0.050931267.
@@ -2313,7 +2127,6 @@ public class Palette {
      * </pre>
      */
     public static final float ZUCCHINI = -0x1.fef26p125F;
-    static { NAMED.put("Zucchini", -0x1.fef26p125F); LIST.add(-0x1.fef26p125F); }
 
     /**
      * This color constant "Soft Teal" has RGBA8888 code {@code 129880FF}, L 0.5058824, A 0.4392157, B 0.5019608, alpha 1.0, hue 0.4894051, saturation 0.93958104, and chroma 0.12115674.
@@ -2325,7 +2138,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOFT_TEAL = -0x1.00e102p126F;
-    static { NAMED.put("Soft Teal", -0x1.00e102p126F); LIST.add(-0x1.00e102p126F); }
 
     /**
      * This color constant "Medium Teal" has RGBA8888 code {@code 06C491FF}, L 0.6431373, A 0.42352942, B 0.5137255, alpha 1.0, hue 0.466976, saturation 0.94714576, and chroma 0.15477823.
@@ -2337,7 +2149,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_TEAL = -0x1.06d948p126F;
-    static { NAMED.put("Medium Teal", -0x1.06d948p126F); LIST.add(-0x1.06d948p126F); }
 
     /**
      * This color constant "Spring Green" has RGBA8888 code {@code 00DE6AFF}, L 0.7137255, A 0.40392157, B 0.54901963, alpha 1.0, hue 0.42099208, saturation 0.9252436, and chroma 0.21487926.
@@ -2349,7 +2160,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPRING_GREEN = -0x1.18cf6cp126F;
-    static { NAMED.put("Spring Green", -0x1.18cf6cp126F); LIST.add(-0x1.18cf6cp126F); }
 
     /**
      * This color constant "Turquoise" has RGBA8888 code {@code 2DEBA8FF}, L 0.7764706, A 0.41568628, B 0.52156866, alpha 1.0, hue 0.45570695, saturation 0.89144206, and chroma 0.17337766.
@@ -2361,7 +2171,6 @@ public class Palette {
      * </pre>
      */
     public static final float TURQUOISE = -0x1.0ad58cp126F;
-    static { NAMED.put("Turquoise", -0x1.0ad58cp126F); LIST.add(-0x1.0ad58cp126F); }
 
     /**
      * This color constant "Seafoam" has RGBA8888 code {@code 3CFEA5FF}, L 0.8352941, A 0.4117647, B 0.5294118, alpha 1.0, hue 0.4444913, saturation 0.8512509, and chroma 0.18528971.
@@ -2373,7 +2182,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAFOAM = -0x1.0ed3aap126F;
-    static { NAMED.put("Seafoam", -0x1.0ed3aap126F); LIST.add(-0x1.0ed3aap126F); }
 
     /**
      * This color constant "Variscite" has RGBA8888 code {@code 6AFFCDFF}, L 0.87058824, A 0.43137255, B 0.50980395, alpha 1.0, hue 0.47220027, saturation 0.704599, and chroma 0.1381068.
@@ -2385,7 +2193,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARISCITE = -0x1.04ddbcp126F;
-    static { NAMED.put("Variscite", -0x1.04ddbcp126F); LIST.add(-0x1.04ddbcp126F); }
 
     /**
      * This color constant "Refreshing Mist" has RGBA8888 code {@code 91EBFFFF}, L 0.85490197, A 0.4627451, B 0.4745098, alpha 1.0, hue 0.59358364, saturation 0.5150788, and chroma 0.08992863.
@@ -2397,7 +2204,6 @@ public class Palette {
      * </pre>
      */
     public static final float REFRESHING_MIST = -0x1.f2edb4p125F;
-    static { NAMED.put("Refreshing Mist", -0x1.f2edb4p125F); LIST.add(-0x1.f2edb4p125F); }
 
     /**
      * This color constant "Shining Sky" has RGBA8888 code {@code 55E6FFFF}, L 0.80784315, A 0.44313726, B 0.46666667, alpha 1.0, hue 0.5826245, saturation 0.8062258, and chroma 0.13131043.
@@ -2409,7 +2215,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHINING_SKY = -0x1.eee39cp125F;
-    static { NAMED.put("Shining Sky", -0x1.eee39cp125F); LIST.add(-0x1.eee39cp125F); }
 
     /**
      * This color constant "Steam" has RGBA8888 code {@code 7DD7F0FF}, L 0.78039217, A 0.4627451, B 0.47058824, alpha 1.0, hue 0.6052086, saturation 0.57008773, and chroma 0.0945603.
@@ -2421,7 +2226,6 @@ public class Palette {
      * </pre>
      */
     public static final float STEAM = -0x1.f0ed8ep125F;
-    static { NAMED.put("Steam", -0x1.f0ed8ep125F); LIST.add(-0x1.f0ed8ep125F); }
 
     /**
      * This color constant "Robin Egg Blue" has RGBA8888 code {@code 08DED5FF}, L 0.7490196, A 0.42745098, B 0.4862745, alpha 1.0, hue 0.526284, saturation 0.96043617, and chroma 0.14709508.
@@ -2433,7 +2237,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROBIN_EGG_BLUE = -0x1.f8db7ep125F;
-    static { NAMED.put("Robin Egg Blue", -0x1.f8db7ep125F); LIST.add(-0x1.f8db7ep125F); }
 
     /**
      * This color constant "Denim Blue" has RGBA8888 code {@code 109CDEFF}, L 0.56078434, A 0.45882353, B 0.4392157, alpha 1.0, hue 0.65641636, saturation 0.9013878, and chroma 0.14626285.
@@ -2445,7 +2248,6 @@ public class Palette {
      * </pre>
      */
     public static final float DENIM_BLUE = -0x1.e0eb1ep125F;
-    static { NAMED.put("Denim Blue", -0x1.e0eb1ep125F); LIST.add(-0x1.e0eb1ep125F); }
 
     /**
      * This color constant "Deep Teal" has RGBA8888 code {@code 055A5CFF}, L 0.30588236, A 0.4627451, B 0.4862745, alpha 1.0, hue 0.5512084, saturation 0.9035079, and chroma 0.079095535.
@@ -2457,7 +2259,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_TEAL = -0x1.f8ec9cp125F;
-    static { NAMED.put("Deep Teal", -0x1.f8ec9cp125F); LIST.add(-0x1.f8ec9cp125F); }
 
     /**
      * This color constant "Navy Blue" has RGBA8888 code {@code 162C52FF}, L 0.17254902, A 0.49019608, B 0.45882353, alpha 1.0, hue 0.71858364, saturation 0.63737744, and chroma 0.084324345.
@@ -2469,7 +2270,6 @@ public class Palette {
      * </pre>
      */
     public static final float NAVY_BLUE = -0x1.eafa58p125F;
-    static { NAMED.put("Navy Blue", -0x1.eafa58p125F); LIST.add(-0x1.eafa58p125F); }
 
     /**
      * This color constant "Blueberry" has RGBA8888 code {@code 0F377DFF}, L 0.23137255, A 0.4862745, B 0.43137255, alpha 1.0, hue 0.7222003, saturation 0.8420818, and chroma 0.13942632.
@@ -2481,7 +2281,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUEBERRY = -0x1.dcf876p125F;
-    static { NAMED.put("Blueberry", -0x1.dcf876p125F); LIST.add(-0x1.dcf876p125F); }
 
     /**
      * This color constant "Prussian Blue" has RGBA8888 code {@code 004A9CFF}, L 0.29803923, A 0.47843137, B 0.42352942, alpha 1.0, hue 0.7090454, saturation 0.98234415, and chroma 0.1582875.
@@ -2493,7 +2292,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUSSIAN_BLUE = -0x1.d8f498p125F;
-    static { NAMED.put("Prussian Blue", -0x1.d8f498p125F); LIST.add(-0x1.d8f498p125F); }
 
     /**
      * This color constant "Desert Rain" has RGBA8888 code {@code 326496FF}, L 0.3764706, A 0.47843137, B 0.4509804, alpha 1.0, hue 0.68716717, saturation 0.7027027, and chroma 0.106691405.
@@ -2505,7 +2303,6 @@ public class Palette {
      * </pre>
      */
     public static final float DESERT_RAIN = -0x1.e6f4cp125F;
-    static { NAMED.put("Desert Rain", -0x1.e6f4cp125F); LIST.add(-0x1.e6f4cp125F); }
 
     /**
      * This color constant "Electric Blue" has RGBA8888 code {@code 0052F6FF}, L 0.39215687, A 0.48235294, B 0.3764706, alpha 1.0, hue 0.72957695, saturation 0.89305717, and chroma 0.24859223.
@@ -2517,7 +2314,6 @@ public class Palette {
      * </pre>
      */
     public static final float ELECTRIC_BLUE = -0x1.c0f6c8p125F;
-    static { NAMED.put("Electric Blue", -0x1.c0f6c8p125F); LIST.add(-0x1.c0f6c8p125F); }
 
     /**
      * This color constant "Hidden Blue" has RGBA8888 code {@code 186ABDFF}, L 0.40784314, A 0.4745098, B 0.42745098, alpha 1.0, hue 0.6987916, saturation 0.88249606, and chroma 0.15319274.
@@ -2529,7 +2325,6 @@ public class Palette {
      * </pre>
      */
     public static final float HIDDEN_BLUE = -0x1.daf2dp125F;
-    static { NAMED.put("Hidden Blue", -0x1.daf2dp125F); LIST.add(-0x1.daf2dp125F); }
 
     /**
      * This color constant "Dull Azure" has RGBA8888 code {@code 2378DCFF}, L 0.46666667, A 0.4745098, B 0.41960785, alpha 1.0, hue 0.7036129, saturation 0.8188476, and chroma 0.16801417.
@@ -2541,7 +2336,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_AZURE = -0x1.d6f2eep125F;
-    static { NAMED.put("Dull Azure", -0x1.d6f2eep125F); LIST.add(-0x1.d6f2eep125F); }
 
     /**
      * This color constant "Ripped Denim" has RGBA8888 code {@code 699DC3FF}, L 0.5882353, A 0.47843137, B 0.46666667, alpha 1.0, hue 0.66109616, saturation 0.4492372, and chroma 0.079095535.
@@ -2553,7 +2347,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPPED_DENIM = -0x1.eef52cp125F;
-    static { NAMED.put("Ripped Denim", -0x1.eef52cp125F); LIST.add(-0x1.eef52cp125F); }
 
     /**
      * This color constant "Calm Sky" has RGBA8888 code {@code 4AA4FFFF}, L 0.61960787, A 0.47058824, B 0.42745098, alpha 1.0, hue 0.69097084, saturation 0.7288003, and chroma 0.15595676.
@@ -2565,7 +2358,6 @@ public class Palette {
      * </pre>
      */
     public static final float CALM_SKY = -0x1.daf13cp125F;
-    static { NAMED.put("Calm Sky", -0x1.daf13cp125F); LIST.add(-0x1.daf13cp125F); }
 
     /**
      * This color constant "Vapor" has RGBA8888 code {@code 90B0FFFF}, L 0.69803923, A 0.49411765, B 0.44313726, alpha 1.0, hue 0.7386508, saturation 0.0, and chroma 0.11388578.
@@ -2577,7 +2369,6 @@ public class Palette {
      * </pre>
      */
     public static final float VAPOR = -0x1.e2fd64p125F;
-    static { NAMED.put("Vapor", -0x1.e2fd64p125F); LIST.add(-0x1.e2fd64p125F); }
 
     /**
      * This color constant "Powder Blue" has RGBA8888 code {@code 5AC5FFFF}, L 0.7176471, A 0.4627451, B 0.4509804, alpha 1.0, hue 0.64758337, saturation 0.6818182, and chroma 0.12265874.
@@ -2589,7 +2380,6 @@ public class Palette {
      * </pre>
      */
     public static final float POWDER_BLUE = -0x1.e6ed6ep125F;
-    static { NAMED.put("Powder Blue", -0x1.e6ed6ep125F); LIST.add(-0x1.e6ed6ep125F); }
 
     /**
      * This color constant "Suds" has RGBA8888 code {@code BEB9FAFF}, L 0.7607843, A 0.50980395, B 0.45882353, alpha 1.0, hue 0.7963871, saturation 0.16441427, and chroma 0.084324345.
@@ -2601,7 +2391,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUDS = -0x1.eb0584p125F;
-    static { NAMED.put("Suds", -0x1.eb0584p125F); LIST.add(-0x1.eb0584p125F); }
 
     /**
      * This color constant "Strong Cyan" has RGBA8888 code {@code 00BFFFFF}, L 0.6784314, A 0.44705883, B 0.44313726, alpha 1.0, hue 0.6308918, saturation 0.95524865, and chroma 0.15477823.
@@ -2613,7 +2402,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRONG_CYAN = -0x1.e2e55ap125F;
-    static { NAMED.put("Strong Cyan", -0x1.e2e55ap125F); LIST.add(-0x1.e2e55ap125F); }
 
     /**
      * This color constant "Sharp Azure" has RGBA8888 code {@code 007FFFFF}, L 0.5019608, A 0.47058824, B 0.4, alpha 1.0, hue 0.70654905, saturation 0.9615374, and chroma 0.20765679.
@@ -2625,7 +2413,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHARP_AZURE = -0x1.ccf1p125F;
-    static { NAMED.put("Sharp Azure", -0x1.ccf1p125F); LIST.add(-0x1.ccf1p125F); }
 
     /**
      * This color constant "Blue Eye" has RGBA8888 code {@code 4B7DC8FF}, L 0.4862745, A 0.48235294, B 0.4392157, alpha 1.0, hue 0.70852363, saturation 0.5645155, and chroma 0.12609385.
@@ -2637,7 +2424,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_EYE = -0x1.e0f6f8p125F;
-    static { NAMED.put("Blue Eye", -0x1.e0f6f8p125F); LIST.add(-0x1.e0f6f8p125F); }
 
     /**
      * This color constant "Subtlety" has RGBA8888 code {@code 786EF0FF}, L 0.50980395, A 0.5176471, B 0.4117647, alpha 1.0, hue 0.78556746, saturation 0.45577833, and chroma 0.1792624.
@@ -2649,7 +2435,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUBTLETY = -0x1.d30904p125F;
-    static { NAMED.put("Subtlety", -0x1.d30904p125F); LIST.add(-0x1.d30904p125F); }
 
     /**
      * This color constant "Rough Sapphire" has RGBA8888 code {@code 4A5AFFFF}, L 0.44313726, A 0.5019608, B 0.38431373, alpha 1.0, hue 0.7554859, saturation 0.5862068, and chroma 0.23050185.
@@ -2661,7 +2446,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROUGH_SAPPHIRE = -0x1.c500e2p125F;
-    static { NAMED.put("Rough Sapphire", -0x1.c500e2p125F); LIST.add(-0x1.c500e2p125F); }
 
     /**
      * This color constant "Iris" has RGBA8888 code {@code 6241F6FF}, L 0.40784314, A 0.5294118, B 0.38039216, alpha 1.0, hue 0.79147637, saturation 0.7305494, and chroma 0.24537967.
@@ -2673,7 +2457,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRIS = -0x1.c30edp125F;
-    static { NAMED.put("Iris", -0x1.c30edp125F); LIST.add(-0x1.c30edp125F); }
 
     /**
      * This color constant "Cornflower Blue" has RGBA8888 code {@code 3C3CF5FF}, L 0.36862746, A 0.5058824, B 0.36862746, alpha 1.0, hue 0.75963426, saturation 0.7600127, and chroma 0.26198098.
@@ -2685,7 +2468,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORNFLOWER_BLUE = -0x1.bd02bcp125F;
-    static { NAMED.put("Cornflower Blue", -0x1.bd02bcp125F); LIST.add(-0x1.bd02bcp125F); }
 
     /**
      * This color constant "Polished Sapphire" has RGBA8888 code {@code 101CDAFF}, L 0.27450982, A 0.4862745, B 0.3647059, alpha 1.0, hue 0.735993, saturation 0.898213, and chroma 0.2709147.
@@ -2697,7 +2479,6 @@ public class Palette {
      * </pre>
      */
     public static final float POLISHED_SAPPHIRE = -0x1.baf88cp125F;
-    static { NAMED.put("Polished Sapphire", -0x1.baf88cp125F); LIST.add(-0x1.baf88cp125F); }
 
     /**
      * This color constant "Royal Blue" has RGBA8888 code {@code 0010BDFF}, L 0.23137255, A 0.4862745, B 0.37254903, alpha 1.0, hue 0.7351226, saturation 0.94530344, and chroma 0.25537437.
@@ -2709,7 +2490,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_BLUE = -0x1.bef876p125F;
-    static { NAMED.put("Royal Blue", -0x1.bef876p125F); LIST.add(-0x1.bef876p125F); }
 
     /**
      * This color constant "Indigo" has RGBA8888 code {@code 231094FF}, L 0.19607843, A 0.5058824, B 0.39607844, alpha 1.0, hue 0.76221883, saturation 0.91497576, and chroma 0.20736265.
@@ -2721,7 +2501,6 @@ public class Palette {
      * </pre>
      */
     public static final float INDIGO = -0x1.cb0264p125F;
-    static { NAMED.put("Indigo", -0x1.cb0264p125F); LIST.add(-0x1.cb0264p125F); }
 
     /**
      * This color constant "Space Blue" has RGBA8888 code {@code 0C2148FF}, L 0.13725491, A 0.49019608, B 0.45490196, alpha 1.0, hue 0.72137564, saturation 0.74535596, and chroma 0.091942206.
@@ -2733,7 +2512,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPACE_BLUE = -0x1.e8fa46p125F;
-    static { NAMED.put("Space Blue", -0x1.e8fa46p125F); LIST.add(-0x1.e8fa46p125F); }
 
     /**
      * This color constant "Thick Amethyst" has RGBA8888 code {@code 5010B0FF}, L 0.26666668, A 0.5411765, B 0.39607844, alpha 1.0, hue 0.81370014, saturation 0.9256127, and chroma 0.22269051.
@@ -2745,7 +2523,6 @@ public class Palette {
      * </pre>
      */
     public static final float THICK_AMETHYST = -0x1.cb1488p125F;
-    static { NAMED.put("Thick Amethyst", -0x1.cb1488p125F); LIST.add(-0x1.cb1488p125F); }
 
     /**
      * This color constant "Juicy Grape" has RGBA8888 code {@code 6010D0FF}, L 0.31764707, A 0.54901963, B 0.38039216, alpha 1.0, hue 0.8150795, saturation 0.9476975, and chroma 0.2575164.
@@ -2757,7 +2534,6 @@ public class Palette {
      * </pre>
      */
     public static final float JUICY_GRAPE = -0x1.c318a2p125F;
-    static { NAMED.put("Juicy Grape", -0x1.c318a2p125F); LIST.add(-0x1.c318a2p125F); }
 
     /**
      * This color constant "Blacklight Glow" has RGBA8888 code {@code 8732D2FF}, L 0.4, A 0.5647059, B 0.40392157, alpha 1.0, hue 0.8480869, saturation 0.79488873, and chroma 0.23076649.
@@ -2769,7 +2545,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACKLIGHT_GLOW = -0x1.cf20ccp125F;
-    static { NAMED.put("Blacklight Glow", -0x1.cf20ccp125F); LIST.add(-0x1.cf20ccp125F); }
 
     /**
      * This color constant "Purple Freesia" has RGBA8888 code {@code 9C41FFFF}, L 0.48235294, A 0.5647059, B 0.39215687, alpha 1.0, hue 0.8394326, saturation 0.7420026, and chroma 0.25054872.
@@ -2781,7 +2556,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE_FREESIA = -0x1.c920f6p125F;
-    static { NAMED.put("Purple Freesia", -0x1.c920f6p125F); LIST.add(-0x1.c920f6p125F); }
 
     /**
      * This color constant "Thin Amethyst" has RGBA8888 code {@code 7F00FFFF}, L 0.39607844, A 0.5647059, B 0.36862746, alpha 1.0, hue 0.825709, saturation 0.96419275, and chroma 0.29174224.
@@ -2793,7 +2567,6 @@ public class Palette {
      * </pre>
      */
     public static final float THIN_AMETHYST = -0x1.bd20cap125F;
-    static { NAMED.put("Thin Amethyst", -0x1.bd20cap125F); LIST.add(-0x1.bd20cap125F); }
 
     /**
      * This color constant "Orchid" has RGBA8888 code {@code BD62FFFF}, L 0.5764706, A 0.5686275, B 0.4117647, alpha 1.0, hue 0.8591375, saturation 0.61129767, and chroma 0.22269051.
@@ -2805,7 +2578,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORCHID = -0x1.d32326p125F;
-    static { NAMED.put("Orchid", -0x1.d32326p125F); LIST.add(-0x1.d32326p125F); }
 
     /**
      * This color constant "Lavender" has RGBA8888 code {@code B991FFFF}, L 0.6627451, A 0.53333336, B 0.43529412, alpha 1.0, hue 0.83154917, saturation 0.34313196, and chroma 0.14500555.
@@ -2817,7 +2589,6 @@ public class Palette {
      * </pre>
      */
     public static final float LAVENDER = -0x1.df1152p125F;
-    static { NAMED.put("Lavender", -0x1.df1152p125F); LIST.add(-0x1.df1152p125F); }
 
     /**
      * This color constant "Lilac" has RGBA8888 code {@code D7A5FFFF}, L 0.7411765, A 0.5372549, B 0.4509804, alpha 1.0, hue 0.86057127, saturation 0.2866147, and chroma 0.12265874.
@@ -2829,7 +2600,6 @@ public class Palette {
      * </pre>
      */
     public static final float LILAC = -0x1.e7137ap125F;
-    static { NAMED.put("Lilac", -0x1.e7137ap125F); LIST.add(-0x1.e7137ap125F); }
 
     /**
      * This color constant "Soap" has RGBA8888 code {@code D7C3FAFF}, L 0.80784315, A 0.5176471, B 0.46666667, alpha 1.0, hue 0.83890384, saturation 0.15723301, and chroma 0.07513822.
@@ -2841,7 +2611,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOAP = -0x1.ef099cp125F;
-    static { NAMED.put("Soap", -0x1.ef099cp125F); LIST.add(-0x1.ef099cp125F); }
 
     /**
      * This color constant "Pink Tutu" has RGBA8888 code {@code F8C6FCFF}, L 0.8509804, A 0.5294118, B 0.4745098, alpha 1.0, hue 0.89758337, saturation 0.17857143, and chroma 0.07753685.
@@ -2853,7 +2622,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_TUTU = -0x1.f30fb2p125F;
-    static { NAMED.put("Pink Tutu", -0x1.f30fb2p125F); LIST.add(-0x1.f30fb2p125F); }
 
     /**
      * This color constant "Thistle" has RGBA8888 code {@code E673FFFF}, L 0.65882355, A 0.5764706, B 0.43137255, alpha 1.0, hue 0.88787603, saturation 0.5468502, and chroma 0.20469645.
@@ -2865,7 +2633,6 @@ public class Palette {
      * </pre>
      */
     public static final float THISTLE = -0x1.dd275p125F;
-    static { NAMED.put("Thistle", -0x1.dd275p125F); LIST.add(-0x1.dd275p125F); }
 
     /**
      * This color constant "Heliotrope" has RGBA8888 code {@code FF52FFFF}, L 0.6431373, A 0.6117647, B 0.42745098, alpha 1.0, hue 0.91159046, saturation 0.758491, and chroma 0.26545262.
@@ -2877,7 +2644,6 @@ public class Palette {
      * </pre>
      */
     public static final float HELIOTROPE = -0x1.db3948p125F;
-    static { NAMED.put("Heliotrope", -0x1.db3948p125F); LIST.add(-0x1.db3948p125F); }
 
     /**
      * This color constant "Purple" has RGBA8888 code {@code DA20E0FF}, L 0.5176471, A 0.6156863, B 0.41960785, alpha 1.0, hue 0.90641636, saturation 0.91279775, and chroma 0.28065258.
@@ -2889,7 +2655,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE = -0x1.d73b08p125F;
-    static { NAMED.put("Purple", -0x1.d73b08p125F); LIST.add(-0x1.d73b08p125F); }
 
     /**
      * This color constant "Wisteria" has RGBA8888 code {@code BD29FFFF}, L 0.5019608, A 0.59607846, B 0.39215687, alpha 1.0, hue 0.8688818, saturation 0.8866684, and chroma 0.28773978.
@@ -2901,7 +2666,6 @@ public class Palette {
      * </pre>
      */
     public static final float WISTERIA = -0x1.c931p125F;
-    static { NAMED.put("Wisteria", -0x1.c931p125F); LIST.add(-0x1.c931p125F); }
 
     /**
      * This color constant "Medium Plum" has RGBA8888 code {@code BD10C5FF}, L 0.44313726, A 0.60784316, B 0.42352942, alpha 1.0, hue 0.90511185, saturation 0.9399402, and chroma 0.26337513.
@@ -2913,7 +2677,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_PLUM = -0x1.d936e2p125F;
-    static { NAMED.put("Medium Plum", -0x1.d936e2p125F); LIST.add(-0x1.d936e2p125F); }
 
     /**
      * This color constant "Violet" has RGBA8888 code {@code 8C14BEFF}, L 0.3647059, A 0.5803922, B 0.40784314, alpha 1.0, hue 0.8677708, saturation 0.9296962, and chroma 0.24363229.
@@ -2925,7 +2688,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET = -0x1.d128bap125F;
-    static { NAMED.put("Violet", -0x1.d128bap125F); LIST.add(-0x1.d128bap125F); }
 
     /**
      * This color constant "Grape Lollipop" has RGBA8888 code {@code 5A187BFF}, L 0.24313726, A 0.5568628, B 0.43529412, alpha 1.0, hue 0.86986786, saturation 0.84352744, and chroma 0.17160846.
@@ -2937,7 +2699,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_LOLLIPOP = -0x1.df1c7cp125F;
-    static { NAMED.put("Grape Lollipop", -0x1.df1c7cp125F); LIST.add(-0x1.df1c7cp125F); }
 
     /**
      * This color constant "Mulberry" has RGBA8888 code {@code 641464FF}, L 0.23921569, A 0.5647059, B 0.45490196, alpha 1.0, hue 0.9085965, saturation 0.8436857, and chroma 0.15712644.
@@ -2949,7 +2710,6 @@ public class Palette {
      * </pre>
      */
     public static final float MULBERRY = -0x1.e9207ap125F;
-    static { NAMED.put("Mulberry", -0x1.e9207ap125F); LIST.add(-0x1.e9207ap125F); }
 
     /**
      * This color constant "Grape Soda" has RGBA8888 code {@code 410062FF}, L 0.17254902, A 0.54901963, B 0.43529412, alpha 1.0, hue 0.8585943, saturation 0.98169184, and chroma 0.16172063.
@@ -2961,7 +2721,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_SODA = -0x1.df1858p125F;
-    static { NAMED.put("Grape Soda", -0x1.df1858p125F); LIST.add(-0x1.df1858p125F); }
 
     /**
      * This color constant "Eggplant" has RGBA8888 code {@code 320A46FF}, L 0.13333334, A 0.5372549, B 0.4509804, alpha 1.0, hue 0.86057127, saturation 0.86780554, and chroma 0.12265874.
@@ -2973,7 +2732,6 @@ public class Palette {
      * </pre>
      */
     public static final float EGGPLANT = -0x1.e71244p125F;
-    static { NAMED.put("Eggplant", -0x1.e71244p125F); LIST.add(-0x1.e71244p125F); }
 
     /**
      * This color constant "Cherry Syrup" has RGBA8888 code {@code 551937FF}, L 0.19607843, A 0.5529412, B 0.49019608, alpha 1.0, hue 0.97741663, saturation 0.74432296, and chroma 0.107261956.
@@ -2985,7 +2743,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHERRY_SYRUP = -0x1.fb1a64p125F;
-    static { NAMED.put("Cherry Syrup", -0x1.fb1a64p125F); LIST.add(-0x1.fb1a64p125F); }
 
     /**
      * This color constant "Plum Juice" has RGBA8888 code {@code A01982FF}, L 0.36078432, A 0.5921569, B 0.45882353, alpha 1.0, hue 0.93716717, saturation 0.88135594, and chroma 0.20108652.
@@ -2997,7 +2754,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLUM_JUICE = -0x1.eb2eb8p125F;
-    static { NAMED.put("Plum Juice", -0x1.eb2eb8p125F); LIST.add(-0x1.eb2eb8p125F); }
 
     /**
      * This color constant "Fruit Punch" has RGBA8888 code {@code C80078FF}, L 0.41568628, A 0.6117647, B 0.48235294, alpha 1.0, hue 0.9781855, saturation 0.95982176, and chroma 0.22541466.
@@ -3009,7 +2765,6 @@ public class Palette {
      * </pre>
      */
     public static final float FRUIT_PUNCH = -0x1.f738d4p125F;
-    static { NAMED.put("Fruit Punch", -0x1.f738d4p125F); LIST.add(-0x1.f738d4p125F); }
 
     /**
      * This color constant "Bubble Gum" has RGBA8888 code {@code FF50BFFF}, L 0.60784316, A 0.60784316, B 0.46666667, alpha 1.0, hue 0.95570695, saturation 0.7190232, and chroma 0.22487247.
@@ -3021,7 +2776,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE_GUM = -0x1.ef3736p125F;
-    static { NAMED.put("Bubble Gum", -0x1.ef3736p125F); LIST.add(-0x1.ef3736p125F); }
 
     /**
      * This color constant "Pink Lemonade" has RGBA8888 code {@code FF6AC5FF}, L 0.6509804, A 0.5921569, B 0.47058824, alpha 1.0, hue 0.9548325, saturation 0.5952381, and chroma 0.19271713.
@@ -3033,7 +2787,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_LEMONADE = -0x1.f12f4cp125F;
-    static { NAMED.put("Pink Lemonade", -0x1.f12f4cp125F); LIST.add(-0x1.f12f4cp125F); }
 
     /**
      * This color constant "Shrimp" has RGBA8888 code {@code FAA0B9FF}, L 0.7411765, A 0.54901963, B 0.49803922, alpha 1.0, hue 0.0, saturation 0.29885057, and chroma 0.09773435.
@@ -3045,7 +2798,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHRIMP = -0x1.ff197ap125F;
-    static { NAMED.put("Shrimp", -0x1.ff197ap125F); LIST.add(-0x1.ff197ap125F); }
 
     /**
      * This color constant "Flamingo" has RGBA8888 code {@code FC3A8CFF}, L 0.5529412, A 0.6117647, B 0.49411765, alpha 1.0, hue 0.9945141, saturation 0.8060343, and chroma 0.22296442.
@@ -3057,7 +2809,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLAMINGO = -0x1.fd391ap125F;
-    static { NAMED.put("Flamingo", -0x1.fd391ap125F); LIST.add(-0x1.fd391ap125F); }
 
     /**
      * This color constant "Rose" has RGBA8888 code {@code E61E78FF}, L 0.48235294, A 0.6156863, B 0.49411765, alpha 1.0, hue 0.99469686, saturation 0.90959585, and chroma 0.23076649.
@@ -3069,7 +2820,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSE = -0x1.fd3af6p125F;
-    static { NAMED.put("Rose", -0x1.fd3af6p125F); LIST.add(-0x1.fd3af6p125F); }
 
     /**
      * This color constant "Carmine" has RGBA8888 code {@code BD1039FF}, L 0.3764706, A 0.59607846, B 0.5254902, alpha 1.0, hue 0.043450944, saturation 0.9440549, and chroma 0.198028.
@@ -3081,7 +2831,6 @@ public class Palette {
      * </pre>
      */
     public static final float CARMINE = -0x1.0d30cp126F;
-    static { NAMED.put("Carmine", -0x1.0d30cp126F); LIST.add(-0x1.0d30cp126F); }
 
     /**
      * This color constant "Bologna" has RGBA8888 code {@code 98344DFF}, L 0.3529412, A 0.5647059, B 0.5058824, alpha 1.0, hue 0.018638318, saturation 0.6459337, and chroma 0.12943782.
@@ -3093,7 +2842,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOLOGNA = -0x1.0320b4p126F;
-    static { NAMED.put("Bologna", -0x1.0320b4p126F); LIST.add(-0x1.0320b4p126F); }
 
     /**
      * This color constant "Raspberry" has RGBA8888 code {@code 911437FF}, L 0.29803923, A 0.5803922, B 0.5137255, alpha 1.0, hue 0.029956235, saturation 0.9096833, and chroma 0.16247371.
@@ -3105,7 +2853,82 @@ public class Palette {
      * </pre>
      */
     public static final float RASPBERRY = -0x1.072898p126F;
-    static { NAMED.put("Raspberry", -0x1.072898p126F); LIST.add(-0x1.072898p126F); }
+
+    static {
+        // the names and colors are in the same order as the constants above
+        final String[] names = {
+                "Transparent", "Black", "Coal Black", "Shadow", "Graphite", "Dark Gray", "Lead", "Iron", "Gray",
+                "Chinchilla", "Greyhound", "Silver", "Light Gray", "Platinum", "Cloud", "White", "Seawater",
+                "Hospital Green", "Cyan", "Bubble", "Periwinkle", "Blue", "Faded Blue", "Ocean Blue", "Stygian Blue",
+                "Deep Purple", "Tyrian Purple", "Magenta", "Bubblegum Pink", "Pork Chop", "Raw Meat", "Red", "Putty",
+                "Sienna", "Seal Brown", "Mummy Brown", "Fawn", "Orange", "Peach", "Cream", "Yellow", "Earwax", "Umber",
+                "Ivy Green", "Jade", "Green", "Celadon", "Puce", "Beige", "Wet Stone", "Slow Creek", "Slate Gray",
+                "Light Skin 1", "Light Skin 2", "Light Skin 3", "Light Skin 4", "Light Skin 5", "Light Skin 6",
+                "Light Skin 7", "Light Skin 8", "Light Skin 9", "Dark Skin 1", "Dark Skin 2", "Dark Skin 3",
+                "Pink Skin 1", "Pink Skin 2", "Pink Skin 3", "Pink Skin 4", "Bronze Skin 4", "Bronze Skin 3",
+                "Bronze Skin 2", "Bronze Skin 1", "Taupe", "Drab Green", "Lizard Scales", "Cricket", "Olive Oil", "Dun",
+                "Corn Silk", "Tan", "Straw", "Honeydew", "Tarnish", "Pea Soup", "Marsh", "Asparagus", "Peat Bog",
+                "Deep Jungle", "Pine Green", "Olive Green", "Gray Green", "Maidenhair Fern", "Kelly Green",
+                "Dusty Green", "Garter Snake", "Silver Green", "Pistachio", "Angel Wing", "Sage Green", "Dried Sage",
+                "Artichoke", "Viridian", "Floral Foam", "Hunter Green", "Dark Teal", "Kyanite", "Spearmint",
+                "Amazonite", "Pastel Sky", "Aquamarine", "Dust Bunny", "Patina", "Chipped Granite", "Blue Smoke",
+                "Air Force Blue", "Cold Iron", "Dreary Blue", "Murk", "Ninja", "Watercolor Black", "Iolite",
+                "Boysenberry", "Watercolor Gray", "Blue Steel", "Twilight Cloud", "Smog", "Tropic Mist", "Feather Down",
+                "Mild Violet", "Violet Cushions", "Dull Violet", "Royal Violet", "Eminence", "Prune", "Dusty Grape",
+                "Pink Violet", "Ripe Plum", "Mauve", "Ham", "Cotton Candy", "Silver Pink", "Tea Rose", "Old Rose",
+                "Dusty Pink", "Roseate Spoonbill", "Thulian Pink", "Brown Velvet", "Nightshade", "Scribe Ink",
+                "Varnish", "Cedar Wood", "Hot Sauce", "Lurid Red", "Brick", "Bright Red", "Embers", "Salmon",
+                "Taxicab Yellow", "Apricot", "Burnt Yellow", "Dry Pepper", "Redwood", "Koa", "Ochre", "Dull Green",
+                "Army Green", "Driftwood", "Dry Brush", "Mush", "Banana Pudding", "Saffron", "Pencil Yellow",
+                "Chartreuse", "Absinthe", "Infection", "Frog Green", "Avocado", "Woodlands", "Dark Pine", "Moss Green",
+                "Fern Green", "Forest Glen", "Malachite", "Apple Green", "Celery", "Mint Green", "Emerald", "Prase",
+                "Eucalyptus", "Zucchini", "Soft Teal", "Medium Teal", "Spring Green", "Turquoise", "Seafoam",
+                "Variscite", "Refreshing Mist", "Shining Sky", "Steam", "Robin Egg Blue", "Denim Blue", "Deep Teal",
+                "Navy Blue", "Blueberry", "Prussian Blue", "Desert Rain", "Electric Blue", "Hidden Blue", "Dull Azure",
+                "Ripped Denim", "Calm Sky", "Vapor", "Powder Blue", "Suds", "Strong Cyan", "Sharp Azure", "Blue Eye",
+                "Subtlety", "Rough Sapphire", "Iris", "Cornflower Blue", "Polished Sapphire", "Royal Blue", "Indigo",
+                "Space Blue", "Thick Amethyst", "Juicy Grape", "Blacklight Glow", "Purple Freesia", "Thin Amethyst",
+                "Orchid", "Lavender", "Lilac", "Soap", "Pink Tutu", "Thistle", "Heliotrope", "Purple", "Wisteria",
+                "Medium Plum", "Violet", "Grape Lollipop", "Mulberry", "Grape Soda", "Eggplant", "Cherry Syrup",
+                "Plum Juice", "Fruit Punch", "Bubble Gum", "Pink Lemonade", "Shrimp", "Flamingo", "Rose", "Carmine",
+                "Bologna", "Raspberry"
+        };
+        final float[] colors = {
+                TRANSPARENT, BLACK, COAL_BLACK, SHADOW, GRAPHITE, DARK_GRAY, LEAD, IRON, GRAY, CHINCHILLA, GREYHOUND,
+                SILVER, LIGHT_GRAY, PLATINUM, CLOUD, WHITE, SEAWATER, HOSPITAL_GREEN, CYAN, BUBBLE, PERIWINKLE, BLUE,
+                FADED_BLUE, OCEAN_BLUE, STYGIAN_BLUE, DEEP_PURPLE, TYRIAN_PURPLE, MAGENTA, BUBBLEGUM_PINK, PORK_CHOP,
+                RAW_MEAT, RED, PUTTY, SIENNA, SEAL_BROWN, MUMMY_BROWN, FAWN, ORANGE, PEACH, CREAM, YELLOW, EARWAX,
+                UMBER, IVY_GREEN, JADE, GREEN, CELADON, PUCE, BEIGE, WET_STONE, SLOW_CREEK, SLATE_GRAY, LIGHT_SKIN_1,
+                LIGHT_SKIN_2, LIGHT_SKIN_3, LIGHT_SKIN_4, LIGHT_SKIN_5, LIGHT_SKIN_6, LIGHT_SKIN_7, LIGHT_SKIN_8,
+                LIGHT_SKIN_9, DARK_SKIN_1, DARK_SKIN_2, DARK_SKIN_3, PINK_SKIN_1, PINK_SKIN_2, PINK_SKIN_3, PINK_SKIN_4,
+                BRONZE_SKIN_4, BRONZE_SKIN_3, BRONZE_SKIN_2, BRONZE_SKIN_1, TAUPE, DRAB_GREEN, LIZARD_SCALES, CRICKET,
+                OLIVE_OIL, DUN, CORN_SILK, TAN, STRAW, HONEYDEW, TARNISH, PEA_SOUP, MARSH, ASPARAGUS, PEAT_BOG,
+                DEEP_JUNGLE, PINE_GREEN, OLIVE_GREEN, GRAY_GREEN, MAIDENHAIR_FERN, KELLY_GREEN, DUSTY_GREEN,
+                GARTER_SNAKE, SILVER_GREEN, PISTACHIO, ANGEL_WING, SAGE_GREEN, DRIED_SAGE, ARTICHOKE, VIRIDIAN,
+                FLORAL_FOAM, HUNTER_GREEN, DARK_TEAL, KYANITE, SPEARMINT, AMAZONITE, PASTEL_SKY, AQUAMARINE, DUST_BUNNY,
+                PATINA, CHIPPED_GRANITE, BLUE_SMOKE, AIR_FORCE_BLUE, COLD_IRON, DREARY_BLUE, MURK, NINJA,
+                WATERCOLOR_BLACK, IOLITE, BOYSENBERRY, WATERCOLOR_GRAY, BLUE_STEEL, TWILIGHT_CLOUD, SMOG, TROPIC_MIST,
+                FEATHER_DOWN, MILD_VIOLET, VIOLET_CUSHIONS, DULL_VIOLET, ROYAL_VIOLET, EMINENCE, PRUNE, DUSTY_GRAPE,
+                PINK_VIOLET, RIPE_PLUM, MAUVE, HAM, COTTON_CANDY, SILVER_PINK, TEA_ROSE, OLD_ROSE, DUSTY_PINK,
+                ROSEATE_SPOONBILL, THULIAN_PINK, BROWN_VELVET, NIGHTSHADE, SCRIBE_INK, VARNISH, CEDAR_WOOD, HOT_SAUCE,
+                LURID_RED, BRICK, BRIGHT_RED, EMBERS, SALMON, TAXICAB_YELLOW, APRICOT, BURNT_YELLOW, DRY_PEPPER,
+                REDWOOD, KOA, OCHRE, DULL_GREEN, ARMY_GREEN, DRIFTWOOD, DRY_BRUSH, MUSH, BANANA_PUDDING, SAFFRON,
+                PENCIL_YELLOW, CHARTREUSE, ABSINTHE, INFECTION, FROG_GREEN, AVOCADO, WOODLANDS, DARK_PINE, MOSS_GREEN,
+                FERN_GREEN, FOREST_GLEN, MALACHITE, APPLE_GREEN, CELERY, MINT_GREEN, EMERALD, PRASE, EUCALYPTUS,
+                ZUCCHINI, SOFT_TEAL, MEDIUM_TEAL, SPRING_GREEN, TURQUOISE, SEAFOAM, VARISCITE, REFRESHING_MIST,
+                SHINING_SKY, STEAM, ROBIN_EGG_BLUE, DENIM_BLUE, DEEP_TEAL, NAVY_BLUE, BLUEBERRY, PRUSSIAN_BLUE,
+                DESERT_RAIN, ELECTRIC_BLUE, HIDDEN_BLUE, DULL_AZURE, RIPPED_DENIM, CALM_SKY, VAPOR, POWDER_BLUE, SUDS,
+                STRONG_CYAN, SHARP_AZURE, BLUE_EYE, SUBTLETY, ROUGH_SAPPHIRE, IRIS, CORNFLOWER_BLUE, POLISHED_SAPPHIRE,
+                ROYAL_BLUE, INDIGO, SPACE_BLUE, THICK_AMETHYST, JUICY_GRAPE, BLACKLIGHT_GLOW, PURPLE_FREESIA,
+                THIN_AMETHYST, ORCHID, LAVENDER, LILAC, SOAP, PINK_TUTU, THISTLE, HELIOTROPE, PURPLE, WISTERIA,
+                MEDIUM_PLUM, VIOLET, GRAPE_LOLLIPOP, MULBERRY, GRAPE_SODA, EGGPLANT, CHERRY_SYRUP, PLUM_JUICE,
+                FRUIT_PUNCH, BUBBLE_GUM, PINK_LEMONADE, SHRIMP, FLAMINGO, ROSE, CARMINE, BOLOGNA, RASPBERRY
+        };
+        LIST.addAll(colors);
+        for (int i = 0; i < names.length; i++) {
+            NAMED.put(names[i], colors[i]);
+        }
+    }
 
     /**
      * All names for colors in this palette, in alphabetical order. You can fetch the corresponding packed float color
@@ -3127,22 +2950,76 @@ public class Palette {
      */
     public static final ObjectList<String> NAMES_BY_LIGHTNESS = new ObjectList<>(NAMES);
     static {
+        // each color's sort keys are computed once here, instead of twice in every comparison
+        final int count = NAMES.size();
+        final ObjectIntMap<String> indices = new ObjectIntMap<>(count);
+        final int[] alphas = new int[count];
+        final float[] saturations = new float[count], hues = new float[count], lights = new float[count];
+        for (int i = 0; i < count; i++) {
+            final String name = NAMES.get(i);
+            final float color = NAMED.get(name);
+            indices.put(name, i);
+            alphas[i] = ColorTools.alphaInt(color);
+            saturations[i] = ColorTools.oklabSaturation(color);
+            hues[i] = ColorTools.oklabHue(color);
+            lights[i] = ColorTools.channelL(color);
+        }
         NAMES_BY_HUE.sort((o1, o2) -> {
-            final float c1 = NAMED.get(o1), c2 = NAMED.get(o2);
-            if(ColorTools.alphaInt(c1) < 128) return -10000;
-            else if(ColorTools.alphaInt(c2) < 128) return 10000;
-            final float s1 = ColorTools.oklabSaturation(c1), s2 = ColorTools.oklabSaturation(c2);
+            final int i1 = indices.get(o1), i2 = indices.get(o2);
+            if(alphas[i1] < 128) return -10000;
+            else if(alphas[i2] < 128) return 10000;
+            final float s1 = saturations[i1], s2 = saturations[i2];
             if(s1 <= 0.05f && s2 > 0.05f)
                 return -1000;
             else if(s1 > 0.05f && s2 <= 0.05f)
                 return 1000;
             else if(s1 <= 0.05f && s2 <= 0.05f)
-                return (int)Math.signum(ColorTools.channelL(c1) - ColorTools.channelL(c2));
+                return (int)Math.signum(lights[i1] - lights[i2]);
             else
-                return 2 * (int)Math.signum(ColorTools.oklabHue(c1) - ColorTools.oklabHue(c2))
-                        + (int)Math.signum(ColorTools.channelL(c1) - ColorTools.channelL(c2));
+                return 2 * (int)Math.signum(hues[i1] - hues[i2])
+                        + (int)Math.signum(lights[i1] - lights[i2]);
         });
-        NAMES_BY_LIGHTNESS.sort((o1, o2) ->
-                Float.compare(ColorTools.channelL(NAMED.get(o1)), ColorTools.channelL(NAMED.get(o2))));
+        NAMES_BY_LIGHTNESS.sort((o1, o2) -> Float.compare(lights[indices.get(o1)], lights[indices.get(o2)]));
+    }
+
+    /**
+     * A read-only copy of {@link #NAMED} that looks up names without regard to case, so "Ocean Blue" and "ocean blue"
+     * find the same color. It can look up a name in any region of a CharSequence without allocating, and can be shared
+     * freely between threads. NAMED is copied the first time this is used, and later changes to NAMED aren't seen here.
+     */
+    public static final ColorNameTable NAME_TABLE = new ColorNameTable(NAMED);
+
+    private static final NamedColorTree NEAREST = new NamedColorTree(NAMED, color -> color);
+
+    /**
+     * Finds the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. This searches an
+     * index of the named colors that is built the first time it is needed, and skips mostly-transparent colors.
+     * @param color a packed Oklab float color
+     * @return the closest named color, as a packed Oklab float
+     */
+    public static float nearest(final float color) {
+        return NEAREST.nearest(color);
+    }
+
+    /**
+     * Finds the name of the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. If
+     * two named colors are equally close, this returns the name that is first alphabetically.
+     * @param color a packed Oklab float color
+     * @return the name of the closest named color, which can be looked up in {@link #NAMED}
+     */
+    public static String nearestName(final float color) {
+        return NEAREST.nearestName(color);
+    }
+
+    /**
+     * Finds the {@code k} colors in {@link #NAMED} that are closest to {@code color}, measuring distance in Oklab, and
+     * writes them into {@code out} with the closest first. This doesn't allocate once the index has been built.
+     * @param color a packed Oklab float color
+     * @param k how many colors to find
+     * @param out will receive up to k packed Oklab float colors, starting at index 0
+     * @return how many colors were written to out, which is less than k if out is shorter than k
+     */
+    public static int kNearest(final float color, final int k, final float[] out) {
+        return NEAREST.kNearest(color, k, out);
     }
 }
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.pure.oklab;
+
+import com.github.tommyettinger.digital.BitConversion;
+import com.github.tommyettinger.ds.FloatList;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Generates palettes of in-gamut packed Oklab colors that are as different from each other as it can make them, such
+ * as team or faction colors that must be told apart at a glance. Distance is measured the same way as
+ * {@link ColorTools#distanceSquared(float, float)}.
+ * <br>
+ * Colors are added one at a time. For each one, a number of random in-gamut candidates are tried (see
+ * {@link #setCandidates(int)}), and the candidate farthest from its nearest color already in the palette is kept.
+ * Nearest colors are found with a uniform grid over Oklab space, so each check only looks at the few colors near a
+ * candidate, and the candidates for one color are checked in parallel on a {@link ForkJoinPool}.
+ * <br>
+ * The random candidates come from a seeded generator that only depends on the seed, which color is being added, and
+ * which candidate it is, so the same seed and settings always produce the same palette, no matter how many threads
+ * the pool has or how the work was split between them.
+ * <br>
+ * This isn't available on GWT, which doesn't have threads.
+ */
+public class PaletteBuilder {
+    /**
+     * The default number of candidates tried for each color added.
+     */
+    public static final int DEFAULT_CANDIDATES = 128;
+    /**
+     * The most candidates checked by one task; if there are at most this many, they are all checked on the calling
+     * thread.
+     */
+    protected static final int CANDIDATES_PER_TASK = 32;
+    /**
+     * Every in-gamut color has its A channel in {@code MIN_A} to {@code MIN_A + SPAN_A - 1}, and its B channel in
+     * {@code MIN_B} to {@code MIN_B + SPAN_B - 1}, as bytes, so candidates are only drawn from that box.
+     */
+    private static final int MIN_A = 97, SPAN_A = 67, MIN_B = 87, SPAN_B = 67;
+    /**
+     * The lightness used by {@link ColorTools#distanceSquared(float, float)} for each L byte.
+     */
+    private static final float[] LIGHT = new float[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            LIGHT[i] = ColorTools.reverseLight(i / 255f);
+        }
+    }
+
+    protected ForkJoinPool pool;
+    protected long seed;
+    protected int candidates = DEFAULT_CANDIDATES;
+    /**
+     * The lowest and highest L channel, as bytes, that generated colors can have.
+     */
+    protected int minLightness = 0, maxLightness = 255;
+
+    /**
+     * Uses a fixed seed, so every PaletteBuilder made this way generates the same palettes, and runs on
+     * {@link ForkJoinPool#commonPool()}.
+     */
+    public PaletteBuilder() {
+        this(0x9E3779B97F4A7C15L, null);
+    }
+
+    /**
+     * Uses the given seed and runs on {@link ForkJoinPool#commonPool()}.
+     * @param seed any long; the same seed always generates the same palettes
+     */
+    public PaletteBuilder(long seed) {
+        this(seed, null);
+    }
+
+    /**
+     * Uses the given seed and runs on the given pool.
+     * @param seed any long; the same seed always generates the same palettes
+     * @param pool the pool candidates are checked on; if null, {@link ForkJoinPool#commonPool()} is used
+     */
+    public PaletteBuilder(long seed, ForkJoinPool pool) {
+        this.seed = seed;
+        this.pool = pool == null ? ForkJoinPool.commonPool() : pool;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public PaletteBuilder setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public PaletteBuilder setPool(ForkJoinPool pool) {
+        this.pool = pool == null ? ForkJoinPool.commonPool() : pool;
+        return this;
+    }
+
+    public int getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Sets how many random candidates are tried for each color added. More candidates make colors more evenly spread
+     * out, but take proportionally longer; the default is {@link #DEFAULT_CANDIDATES}.
+     * @param candidates how many candidates to try per color; must be at least 1
+     * @return this, for chaining
+     * @throws IllegalArgumentException if candidates is less than 1
+     */
+    public PaletteBuilder setCandidates(int candidates) {
+        if (candidates < 1)
+            throw new IllegalArgumentException("candidates must be at least 1, but was " + candidates);
+        this.candidates = candidates;
+        return this;
+    }
+
+    public float getMinLightness() {
+        return minLightness / 255f;
+    }
+
+    public float getMaxLightness() {
+        return maxLightness / 255f;
+    }
+
+    /**
+     * Limits the L channel of generated colors, such as to avoid colors that are too dark to see on a dark
+     * background. The default allows any lightness, from 0 to 1. Colors that were already in a palette given to
+     * {@link #extend(FloatList, int)} are not affected.
+     * @param min the lowest L a generated color can have, from 0 to 1
+     * @param max the highest L a generated color can have, from min to 1
+     * @return this, for chaining
+     * @throws IllegalArgumentException if min or max are outside 0 to 1, or min is greater than max
+     */
+    public PaletteBuilder setLightnessRange(float min, float max) {
+        if (!(min >= 0f && max <= 1f && min <= max))
+            throw new IllegalArgumentException("lightness range must be within 0 to 1, but was " + min + " to " + max);
+        minLightness = Math.round(min * 255f);
+        maxLightness = Math.round(max * 255f);
+        return this;
+    }
+
+    /**
+     * Generates {@code count} opaque, in-gamut colors that are as different from each other as this can make them.
+     * @param count how many colors to generate; must not be negative
+     * @return a new FloatList of {@code count} packed Oklab colors
+     * @throws IllegalArgumentException if count is negative
+     */
+    public FloatList build(int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("count cannot be negative, but was " + count);
+        return extend(new FloatList(count), count);
+    }
+
+    /**
+     * Adds {@code count} opaque, in-gamut colors to the end of {@code palette}, each as different as this can make it
+     * from the colors already in palette and from each other. Colors in palette with alpha below 0.5, such as the
+     * transparent color at the start of {@link Palette#LIST}, are ignored. The colors already in palette aren't
+     * changed.
+     * @param palette packed Oklab colors to add to; will be modified
+     * @param count how many colors to add; must not be negative
+     * @return palette, after colors are added
+     * @throws IllegalArgumentException if palette is null or count is negative
+     */
+    public FloatList extend(FloatList palette, int count) {
+        if (palette == null)
+            throw new IllegalArgumentException("palette cannot be null");
+        if (count < 0)
+            throw new IllegalArgumentException("count cannot be negative, but was " + count);
+        final int existing = palette.size();
+        final Grid grid = new Grid(existing + count);
+        for (int i = 0; i < existing; i++) {
+            final float color = palette.get(i);
+            if (ColorTools.alphaInt(color) >= 128)
+                grid.add(BitConversion.floatToRawIntBits(color));
+        }
+        palette.ensureCapacity(count);
+        for (int step = 0; step < count; step++) {
+            final long best = candidates <= CANDIDATES_PER_TASK
+                ? evaluate(grid, step, 0, candidates)
+                : pool.invoke(new CandidateTask(this, grid, step, 0, candidates));
+            final int bits = candidate(step, ~(int) best);
+            grid.add(bits);
+            palette.add(BitConversion.intBitsToFloat(bits));
+        }
+        return palette;
+    }
+
+    /**
+     * Checks the candidates from {@code start} to {@code end} for the color at {@code step}. The result has the
+     * distance to the nearest color in its high 32 bits and the bitwise NOT of the candidate's index in its low 32,
+     * so that the largest result is the farthest candidate, with ties going to the lowest index.
+     */
+    protected long evaluate(Grid grid, int step, int start, int end) {
+        long best = Long.MIN_VALUE;
+        for (int index = start; index < end; index++) {
+            final float distance = grid.nearest(candidate(step, index));
+            best = Math.max(best, (long) BitConversion.floatToRawIntBits(distance) << 32 | (~index & 0xFFFFFFFFL));
+        }
+        return best;
+    }
+
+    /**
+     * Gets candidate number {@code index} for the color at {@code step}, as the int bits of an opaque, in-gamut packed
+     * Oklab color. This only depends on the seed, lightness range, step, and index, so it can be called from any
+     * thread in any order.
+     */
+    protected int candidate(int step, int index) {
+        long state = seed + step * 0xC13FA9A902A6328FL + index * 0x91E10DA5C79E7B1DL;
+        final int span = maxLightness - minLightness + 1;
+        // about a quarter of the box is in gamut, less near black and white; gray is always in gamut, as a fallback
+        for (int attempt = 0; attempt < 4096; attempt++) {
+            long z = (state += 0x9E3779B97F4A7C15L);
+            z = (z ^ z >>> 27) * 0x3C79AC492BA7B653L;
+            z = (z ^ z >>> 33) * 0x1C69B3F74AC4AE35L;
+            z ^= z >>> 27;
+            final int L = minLightness + (int) ((z & 0xFFFFL) * span >>> 16);
+            final int A = MIN_A + (int) ((z >>> 16 & 0xFFFFL) * SPAN_A >>> 16);
+            final int B = MIN_B + (int) ((z >>> 32 & 0xFFFFL) * SPAN_B >>> 16);
+            final int bits = 0xFE000000 | B << 16 | A << 8 | L;
+            if (ColorTools.inGamut(BitConversion.intBitsToFloat(bits)))
+                return bits;
+        }
+        return 0xFE7F7F00 | minLightness;
+    }
+
+    /**
+     * A uniform grid of cells in Oklab space, each holding a linked list of the colors in it. Colors are only added
+     * between steps, on the calling thread, and are only read while candidates are checked.
+     */
+    protected static final class Grid {
+        /**
+         * Below this many colors, checking every color is faster than walking the grid.
+         */
+        private static final int BRUTE_FORCE = 64;
+        /**
+         * The lowest A or B coordinate the grid covers; in-gamut colors stay within {@code AB_ORIGIN} to
+         * {@code -AB_ORIGIN} on both.
+         */
+        private static final float AB_ORIGIN = -0.32f;
+
+        final int resolution, cellsL, cellsAB;
+        final int[] head, next;
+        final float[] ls, as, bs;
+        int size;
+
+        Grid(int capacity) {
+            // cells are about as wide as the space between colors once all capacity colors are in
+            resolution = Math.min(Math.max((int) Math.round(Math.cbrt(capacity * 10.0)), 8), 64);
+            cellsL = resolution;
+            cellsAB = (int) Math.ceil(resolution * -2f * AB_ORIGIN);
+            head = new int[cellsL * cellsAB * cellsAB];
+            Arrays.fill(head, -1);
+            next = new int[capacity];
+            ls = new float[capacity];
+            as = new float[capacity];
+            bs = new float[capacity];
+        }
+
+        private int cellL(float l) {
+            return Math.min(Math.max((int) (l * resolution), 0), cellsL - 1);
+        }
+
+        private int cellAB(float ab) {
+            return Math.min(Math.max((int) ((ab - AB_ORIGIN) * resolution), 0), cellsAB - 1);
+        }
+
+        void add(int bits) {
+            final float l = LIGHT[bits & 255], a = ((bits >>> 8 & 255) - 127f) / 127f,
+                b = ((bits >>> 16 & 255) - 127f) / 127f;
+            final int cell = (cellL(l) * cellsAB + cellAB(a)) * cellsAB + cellAB(b);
+            ls[size] = l;
+            as[size] = a;
+            bs[size] = b;
+            next[size] = head[cell];
+            head[cell] = size++;
+        }
+
+        /**
+         * Gets the squared distance from the color with the given int bits to the nearest color in this grid, or
+         * positive infinity if this grid is empty.
+         */
+        float nearest(int bits) {
+            final float l = LIGHT[bits & 255], a = ((bits >>> 8 & 255) - 127f) / 127f,
+                b = ((bits >>> 16 & 255) - 127f) / 127f;
+            if (size <= BRUTE_FORCE) {
+                float best = Float.POSITIVE_INFINITY;
+                for (int p = 0; p < size; p++) {
+                    best = Math.min(best, distance(p, l, a, b));
+                }
+                return best;
+            }
+            final int cl = cellL(l), ca = cellAB(a), cb = cellAB(b);
+            final int maxRing = Math.max(Math.max(cl, cellsL - 1 - cl),
+                Math.max(Math.max(ca, cellsAB - 1 - ca), Math.max(cb, cellsAB - 1 - cb)));
+            float best = Float.POSITIVE_INFINITY;
+            // visits cells in cubic shells around the candidate's cell; colors past shell r are r or more cells away
+            for (int r = 0; r <= maxRing; r++) {
+                final int lowK = Math.max(cb - r, 0), highK = Math.min(cb + r, cellsAB - 1);
+                for (int i = Math.max(cl - r, 0), iEnd = Math.min(cl + r, cellsL - 1); i <= iEnd; i++) {
+                    final boolean edgeI = i == cl - r || i == cl + r;
+                    for (int j = Math.max(ca - r, 0), jEnd = Math.min(ca + r, cellsAB - 1); j <= jEnd; j++) {
+                        final int row = (i * cellsAB + j) * cellsAB;
+                        if (edgeI || j == ca - r || j == ca + r) {
+                            for (int k = lowK; k <= highK; k++) {
+                                best = Math.min(best, nearestInCell(head[row + k], l, a, b));
+                            }
+                        } else {
+                            if (cb - r >= 0)
+                                best = Math.min(best, nearestInCell(head[row + cb - r], l, a, b));
+                            if (cb + r < cellsAB)
+                                best = Math.min(best, nearestInCell(head[row + cb + r], l, a, b));
+                        }
+                    }
+                }
+                final float reach = (float) r / resolution;
+                if (best <= reach * reach)
+                    break;
+            }
+            return best;
+        }
+
+        private float nearestInCell(int p, float l, float a, float b) {
+            float best = Float.POSITIVE_INFINITY;
+            for (; p >= 0; p = next[p]) {
+                best = Math.min(best, distance(p, l, a, b));
+            }
+            return best;
+        }
+
+        private float distance(int p, float l, float a, float b) {
+            final float dl = ls[p] - l, da = as[p] - a, db = bs[p] - b;
+            return dl * dl + da * da + db * db;
+        }
+    }
+
+    /**
+     * Splits the candidates for one step in half until there are at most {@link #CANDIDATES_PER_TASK}, then checks
+     * them with {@link #evaluate(Grid, int, int, int)}.
+     */
+    protected static class CandidateTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+        protected final PaletteBuilder builder;
+        protected final Grid grid;
+        protected final int step, start, end;
+
+        protected CandidateTask(PaletteBuilder builder, Grid grid, int step, int start, int end) {
+            this.builder = builder;
+            this.grid = grid;
+            this.step = step;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Long compute() {
+            if (end - start <= CANDIDATES_PER_TASK)
+                return builder.evaluate(grid, step, start, end);
+            final int mid = start + end >>> 1;
+            final CandidateTask low = new CandidateTask(builder, grid, step, start, mid);
+            low.fork();
+            final long high = new CandidateTask(builder, grid, step, mid, end).compute();
+            return Math.max(low.join(), high);
+        }
+    }
+}
@@ -16,17 +16,22 @@
 
 package com.github.tommyettinger.colorful.pure.oklab;
 
+import com.github.tommyettinger.colorful.pure.ChannelGrid;
+import com.github.tommyettinger.colorful.pure.ColorAccumulator;
+import com.github.tommyettinger.colorful.pure.ColorNameTable;
+import com.github.tommyettinger.colorful.pure.DescriptionTerms;
 import com.github.tommyettinger.colorful.pure.FloatColors;
+import com.github.tommyettinger.digital.BitConversion;
 import com.github.tommyettinger.ds.FloatList;
 import com.github.tommyettinger.ds.ObjectFloatOrderedMap;
 import com.github.tommyettinger.ds.ObjectList;
 
-import static com.github.tommyettinger.colorful.pure.FloatColors.unevenMix;
+import java.util.Arrays;
 
 /**
  * A palette of predefined colors as packed Oklab floats, the kind {@link ColorTools} works with, plus a way to describe
  * colors by combinations and adjustments. The description code is probably what you would use this class for; it
- * revolves around {@link #parseDescription(String)}, which takes a color description String and returns a packed float
+ * revolves around {@link #parseDescription(CharSequence)}, which takes a color description String and returns a packed float
  * color. The color descriptions look like "darker rich mint yellow", where the order of the words doesn't matter. They
  * can optionally include lightness changes (light/dark), and saturation changes (rich/dull), and must include one or
  * more color names that will be mixed together (repeats are allowed to use a color more heavily). The changes can be
@@ -720,8 +725,6 @@ public class SimplePalette {
                 Float.compare(ColorTools.channelL(NAMED.get(o1)), ColorTools.channelL(NAMED.get(o2))));
     }
 
-    private static final FloatList mixing = new FloatList(4);
-
     /**
      * Parses a color description and returns the approximate color it describes, as a packed Oklab float color.
      * Color descriptions consist of one or more alphabetical words, separated by non-alphanumeric characters (typically
@@ -754,14 +757,33 @@ public class SimplePalette {
      * "lightest richer apricot-olive", "bright magenta", "palest cyan blue", "deep fern black", "weakmost celery",
      * "red^3 orange", and "dark deep blue^7 cyan^3".
      * <br>
+     * This is safe to call from multiple threads at once, as long as {@link #NAMED} isn't being changed at the same
+     * time. It reads the description in place, without a regex or substrings, and doesn't allocate unless a term isn't
+     * a name in {@link #NAMED} or a weight isn't a plain decimal number. Colors are mixed with the same math as
+     * {@link ColorAccumulator}, keeping the sums in local variables.
+     * <br>
      * This overload always reads the whole String provided.
      *
-     * @param description a color description, as a String matching the above format
+     * @param description a color description, as a CharSequence (such as a String) matching the above format
      * @return a packed Oklab float color as described
      */
-    public static float parseDescription(final String description) {
+    public static float parseDescription(final CharSequence description) {
         return parseDescription(description, 0, description.length());
     }
+
+    /**
+     * Parses a color description and returns the approximate color it describes, as a packed Oklab float color.
+     * This is the same as {@link #parseDescription(CharSequence)}; it is kept so code compiled against this String
+     * signature still works.
+     *
+     * @param description a color description, as a String matching the format {@link #parseDescription(CharSequence)}
+     *                    documents
+     * @return a packed Oklab float color as described
+     */
+    public static float parseDescription(final String description) {
+        return parseDescription((CharSequence) description);
+    }
+
     /**
      * Parses a color description and returns the approximate color it describes, as a packed Oklab float color.
      * Color descriptions consist of one or more alphabetical words, separated by non-alphanumeric characters (typically
@@ -794,196 +816,64 @@ public class SimplePalette {
      * "lightest richer apricot-olive", "bright magenta", "palest cyan blue", "deep fern black", "weakmost celery",
      * "red^3 orange", and "dark deep blue^7 cyan^3".
      * <br>
+     * This is safe to call from multiple threads at once, as long as {@link #NAMED} isn't being changed at the same
+     * time. It reads the description in place, without a regex or substrings, and doesn't allocate unless a term isn't
+     * a name in {@link #NAMED} or a weight isn't a plain decimal number. Colors are mixed with the same math as
+     * {@link ColorAccumulator}, keeping the sums in local variables.
+     * <br>
      * This overload lets you specify a
      * starting index in {@code description} to read from and a maximum {@code length} to read before stopping. If
      * {@code length} is negative, this reads the rest of {@code description} after {@code start}.
      *
-     * @param description a color description, as a String matching the above format
+     * @param description a color description, as a CharSequence (such as a String) matching the above format
      * @param start the first character index of the description to read from
      * @param length how much of description to attempt to parse; if negative, this parses until the end
      * @return a packed Oklab float color as described
      */
-    public static float parseDescription(final String description, int start, int length) {
-        float lightness = 0f, saturation = 0f;
-        final String[] terms = description.substring(start,
-                        length < 0 ? description.length() - start : Math.min(description.length(), start + length))
-                .split("[^a-zA-Z0-9_.]+");
-        mixing.clear();
-        for (int i = 0; i < terms.length; i++) {
-            String term = terms[i];
-            if (term == null || term.isEmpty()) continue;
-            final int len = term.length();
-            switch (term.charAt(0)) {
-                case 'L':
-                case 'l':
-                    if (len > 2 && (term.charAt(2) == 'g' || term.charAt(2) == 'G')) { // light
-                        switch (len) {
-                            case 9:
-                                lightness += 0.150f;
-                            case 8:
-                                lightness += 0.150f;
-                            case 7:
-                                lightness += 0.150f;
-                            case 5:
-                                lightness += 0.150f;
-                                continue;
-                        }
-                    }
-                    mixing.add(NAMED.get(term), 1);
-                    break;
-                case 'B':
-                case 'b':
-                    if (len > 3 && (term.charAt(3) == 'g' || term.charAt(3) == 'G')) { // bright
-                        switch (len) {
-                            case 10:
-                                lightness += 0.150f;
-                                saturation += 00.20000f;
-                            case 9:
-                                lightness += 0.150f;
-                                saturation += 00.2000f;
-                            case 8:
-                                lightness += 0.150f;
-                                saturation += 00.200f;
-                            case 6:
-                                lightness += 0.150f;
-                                saturation += 00.20f;
-                                continue;
-                        }
-                    }
-                    mixing.add(NAMED.get(term), 1);
-                    break;
-                case 'P':
-                case 'p':
-                    if (len > 2 && (term.charAt(2) == 'l' || term.charAt(2) == 'L')) { // pale
-                        switch (len) {
-                            case 8: // palemost
-                            case 7: // palerer
-                                lightness += 0.150f;
-                                saturation -= 00.20000f;
-                            case 6: // palest
-                                lightness += 0.150f;
-                                saturation -= 00.2000f;
-                            case 5: // paler
-                                lightness += 0.150f;
-                                saturation -= 00.200f;
-                            case 4: // pale
-                                lightness += 0.150f;
-                                saturation -= 00.20f;
-                                continue;
-                        }
-                    }
-                    mixing.add(NAMED.get(term), 1);
-                    break;
-                case 'W':
-                case 'w':
-                    if (len > 3 && (term.charAt(3) == 'k' || term.charAt(3) == 'K')) { // weak
-                        switch (len) {
-                            case 8:
-                                lightness -= 0.150f;
-                                saturation -= 00.20000f;
-                            case 7:
-                                lightness -= 0.150f;
-                                saturation -= 00.2000f;
-                            case 6:
-                                lightness -= 0.150f;
-                                saturation -= 00.200f;
-                            case 4:
-                                lightness -= 0.150f;
-                                saturation -= 00.20f;
-                                continue;
-                        }
-                    }
-                    mixing.add(NAMED.get(term), 1);
-                    break;
-                case 'R':
-                case 'r':
-                    if (len > 1 && (term.charAt(1) == 'i' || term.charAt(1) == 'I')) { // rich
-                        switch (len) {
-                            case 8:
-                                saturation += 00.20000f;
-                            case 7:
-                                saturation += 00.2000f;
-                            case 6:
-                                saturation += 00.200f;
-                            case 4:
-                                saturation += 00.20f;
-                                continue;
-                        }
-                    }
-                    mixing.add(NAMED.get(term), 1);
-                    break;
-                case 'D':
-                case 'd':
-                    if (len > 1 && (term.charAt(1) == 'a' || term.charAt(1) == 'A')) { // dark
-                        switch (len) {
-                            case 8:
-                                lightness -= 0.150f;
-                            case 7:
-                                lightness -= 0.150f;
-                            case 6:
-                                lightness -= 0.150f;
-                            case 4:
-                                lightness -= 0.150f;
-                                continue;
-                        }
-                    } else if (len > 1 && (term.charAt(1) == 'u' || term.charAt(1) == 'U')) { // dull
-                        switch (len) {
-                            case 8:
-                                saturation -= 00.20000f;
-                            case 7:
-                                saturation -= 00.2000f;
-                            case 6:
-                                saturation -= 00.200f;
-                            case 4:
-                                saturation -= 00.20f;
-                                continue;
-                        }
-                    } else if (len > 3 && (term.charAt(3) == 'p' || term.charAt(3) == 'P')) { // deep
-                        switch (len) {
-                            case 8:
-                                lightness -= 0.150f;
-                                saturation += 00.20000f;
-                            case 7:
-                                lightness -= 0.150f;
-                                saturation += 00.2000f;
-                            case 6:
-                                lightness -= 0.150f;
-                                saturation += 00.200f;
-                            case 4:
-                                lightness -= 0.150f;
-                                saturation += 00.20f;
-                                continue;
-                        }
-                    }
-                    mixing.add(NAMED.get(term), 1);
-                    break;
-                case '0':
-                case '1':
-                case '2':
-                case '3':
-                case '4':
-                case '5':
-                case '6':
-                case '7':
-                case '8':
-                case '9':
-                    if(mixing.size() >= 2) {
-                        float num = 1;
-                        try {
-                            num = Float.parseFloat(term);
-                        } catch (NullPointerException | NumberFormatException ignored) {
-                        }
-                        mixing.set((mixing.size() & -2) - 1, num);
-                    }
-                    break;
-                default:
-                    mixing.add(NAMED.get(term), 1);
-                    break;
+    public static float parseDescription(final CharSequence description, int start, int length) {
+        final int end = length < 0 ? description.length() : Math.min(description.length(), start + length);
+        float lightness = 0f, saturation = 0f, weight = 1f, first = 0f, color = 0f;
+        double sum0 = 0.0, sum1 = 0.0, sum2 = 0.0, sumAlpha = 0.0, total = 0.0;
+        int count = 0;
+        // each color is summed once its weight is known, so this mixes the same way unevenMix() does
+        for (int s = DescriptionTerms.termStart(description, start, end), e; s < end;
+             s = DescriptionTerms.termStart(description, e, end)) {
+            e = DescriptionTerms.termEnd(description, s, end);
+            final int adjective = DescriptionTerms.adjective(description, s, e);
+            if (adjective != 0) {
+                for (int n = DescriptionTerms.lightnessSteps(adjective); n > 0; n--) lightness += 0.150f;
+                for (int n = DescriptionTerms.lightnessSteps(adjective); n < 0; n++) lightness -= 0.150f;
+                for (int n = DescriptionTerms.saturationSteps(adjective); n > 0; n--) saturation += 0.20f;
+                for (int n = DescriptionTerms.saturationSteps(adjective); n < 0; n++) saturation -= 0.20f;
+            } else if (DescriptionTerms.isWeight(description, s)) {
+                if (count > 0) weight = DescriptionTerms.parseWeight(description, s, e);
+            } else {
+                if (count++ > 0) {
+                    final int bits = BitConversion.floatToRawIntBits(color);
+                    sum0 += (bits & 0xFF) * weight;
+                    sum1 += (bits >>> 8 & 0xFF) * weight;
+                    sum2 += (bits >>> 16 & 0xFF) * weight;
+                    sumAlpha += (bits >>> 25) * weight;
+                    total += weight;
+                }
+                color = TERMS.get(description, s, e);
+                weight = 1f;
+                if (count == 1) first = color;
             }
         }
-        if(mixing.size() < 2) return 0f;
-
-        float result = unevenMix(mixing.items, 0, mixing.size());
+        if (count == 0) return 0f;
+
+        float result = color;
+        if (count > 1) {
+            final int bits = BitConversion.floatToRawIntBits(color);
+            sum0 += (bits & 0xFF) * weight;
+            sum1 += (bits >>> 8 & 0xFF) * weight;
+            sum2 += (bits >>> 16 & 0xFF) * weight;
+            sumAlpha += (bits >>> 25) * weight;
+            total += weight;
+            // like unevenMix(), this uses the first color if the weights add up to 0
+            result = total > 0.0 ? ColorAccumulator.meanOf(sum0, sum1, sum2, sumAlpha, total) : first;
+        }
         if(result == 0f) return result;
 
         if(lightness > 0) result = FloatColors.lerpFloatColorsBlended(result, WHITE, lightness);
@@ -995,6 +885,21 @@ public class SimplePalette {
         return result;
     }
 
+    /**
+     * Parses part of a color description and returns the approximate color it describes, as a packed Oklab float
+     * color. This is the same as {@link #parseDescription(CharSequence, int, int)}; it is kept so code compiled
+     * against this String signature still works.
+     *
+     * @param description a color description, as a String matching the format
+     *                    {@link #parseDescription(CharSequence, int, int)} documents
+     * @param start the first character index of the description to read from
+     * @param length how much of description to attempt to parse; if negative, this parses until the end
+     * @return a packed Oklab float color as described
+     */
+    public static float parseDescription(final String description, int start, int length) {
+        return parseDescription((CharSequence) description, start, length);
+    }
+
     private static final ObjectList<String> namesByHue = new ObjectList<>(NAMES_BY_HUE);
     private static final FloatList colorsByHue = new FloatList(COLORS_BY_HUE);
 
@@ -1049,44 +954,111 @@ public class SimplePalette {
 
         combinedAdjectives[4 * 9 + 4] = "";
     }
+
+    /**
+     * A read-only copy of {@link #NAMED}, including the {@link #ALIASES}, that looks up names without regard to case.
+     * It can look up a name in any region of a CharSequence without allocating, and can be shared freely between
+     * threads. NAMED is copied the first time this is used, and later changes to NAMED aren't seen here.
+     */
+    public static final ColorNameTable NAME_TABLE = new ColorNameTable(NAMED);
+
+    private static final DescriptionTerms TERMS = new DescriptionTerms(NAMED, NAME_TABLE);
+
+    private static final ChannelGrid[] matchGrids = new ChannelGrid[3];
+
+    /**
+     * Applies one of the 81 combinations of lightness and saturation changes that {@link #bestMatch(float, int)}
+     * tries to a mixed color. The adjectives go from 0 to 80, where {@code adjectives % 9 - 4} is the lightness change
+     * and {@code adjectives / 9 - 4} is the saturation change.
+     */
+    private static float adjustMatch(float result, final int adjectives) {
+        final int idxI = adjectives % 9 - 4, idxS = adjectives / 9 - 4;
+        if(idxI > 0) result = ColorTools.lighten(result, 0.15f * idxI);
+        else if(idxI < 0) result = ColorTools.darken(result, -0.15f * idxI);
+
+        if(idxS > 0) result = ColorTools.limitToGamut(ColorTools.enrich(result, idxS * (idxS + 3) * 0.025f));
+        else if(idxS < 0) result = ColorTools.dullen(result, idxS * (-idxS + 3) * -0.025f);
+        else result = ColorTools.limitToGamut(result);
+        return result;
+    }
+
+    /**
+     * Gets an index of every color {@link #bestMatch(float, int)} can describe using mixCount color names, building it
+     * the first time it is requested. Many mixes produce the same color, so each distinct mix is only adjusted once,
+     * and is identified by the smallest code that bestMatch() would have tried for it.
+     */
+    private static ChannelGrid matchGrid(final int mixCount) {
+        synchronized (matchGrids) {
+            if (matchGrids[mixCount - 1] != null) return matchGrids[mixCount - 1];
+            final int paletteSize = namesByHue.size(), colorTries = (int)Math.pow(paletteSize, mixCount);
+            final float[] mixing = new float[mixCount];
+            final long[] mixes = new long[colorTries];
+            for (int c = 0; c < colorTries; c++) {
+                for (int i = 0, e = 1; i < mixCount; i++, e *= paletteSize) {
+                    mixing[i] = colorsByHue.get((c / e) % paletteSize);
+                }
+                mixes[c] = (long)BitConversion.floatToRawIntBits(FloatColors.mix(mixing, 0, mixCount)) << 32 | c;
+            }
+            Arrays.sort(mixes);
+            int distinct = 0;
+            for (int c = 0; c < colorTries; c++) {
+                if (c == 0 || mixes[c] >>> 32 != mixes[distinct - 1] >>> 32)
+                    mixes[distinct++] = mixes[c];
+            }
+            final int[] channels = new int[distinct * 81], codes = new int[distinct * 81];
+            for (int m = 0, n = 0; m < distinct; m++) {
+                final float mixed = BitConversion.intBitsToFloat((int)(mixes[m] >>> 32));
+                for (int a = 0; a < 81; a++, n++) {
+                    channels[n] = BitConversion.floatToRawIntBits(adjustMatch(mixed, a));
+                    codes[n] = (int)mixes[m] + colorTries * a;
+                }
+            }
+            return matchGrids[mixCount - 1] = new ChannelGrid(channels, codes, distinct * 81);
+        }
+    }
+
     /**
      * Given a color as a packed Oklab float, this finds the closest description it can to match the given color while
-     * using at most {@code mixCount} colors to mix in. You should only use small numbers for mixCount, like 1 to 3;
-     * this can take quite a while to run otherwise. This returns a String description that can be passed to
-     * {@link #parseDescription(String)}. It is likely that this will use very contrasting colors if mixCount is 2 or
+     * using at most {@code mixCount} colors to mix in. You should only use small numbers for mixCount, like 1 to 3.
+     * For those counts, the first call builds an index of every color this can describe with that many names (which
+     * can take most of a second for 3), and later calls only search the closest parts of that index. Larger counts try
+     * every combination, and can take quite a while. This returns a String description that can be passed to
+     * {@link #parseDescription(CharSequence)}. It is likely that this will use very contrasting colors if mixCount is 2 or
      * greater and the color to match is desaturated or brownish.
      * @param oklab a packed Oklab float color to attempt to match
      * @param mixCount how many color names this will use in the returned description
-     * @return a description that can be fed to {@link #parseDescription(String)} to get a similar color
+     * @return a description that can be fed to {@link #parseDescription(CharSequence)} to get a similar color
      */
     public static String bestMatch(final float oklab, int mixCount) {
         mixCount = Math.max(1, mixCount);
-        float bestDistance = Float.POSITIVE_INFINITY;
         final int paletteSize = namesByHue.size(), colorTries = (int)Math.pow(paletteSize, mixCount), totalTries = colorTries * 81;
         final float targetL = ColorTools.channelL(oklab), targetA = ColorTools.channelA(oklab), targetB = ColorTools.channelB(oklab);
-        mixing.clear();
-        final float first = colorsByHue.get(0);
-        for (int i = 0; i < mixCount; i++) {
-            mixing.add(first);
+        final float[] costL = new float[256], costA = new float[256], costB = new float[256];
+        for (int i = 0; i < 256; i++) {
+            final float dL = i / 255f - targetL, dA = i / 255f - targetA, dB = i / 255f - targetB;
+            costL[i] = dL * dL;
+            costA[i] = dA * dA;
+            costB[i] = dB * dB;
         }
         int bestCode = 0;
-        for (int c = 0; c < totalTries; c++) {
-            for (int i = 0, e = 1; i < mixCount; i++, e *= paletteSize) {
-                mixing.set(i, colorsByHue.get((c / e) % paletteSize));
+        if (mixCount <= 3) {
+            final ChannelGrid grid = matchGrid(mixCount);
+            bestCode = grid.id(grid.nearest(costL, costA, costB));
+        } else {
+            float bestDistance = Float.POSITIVE_INFINITY;
+            final float[] mixing = new float[mixCount];
+            for (int c = 0; c < totalTries; c++) {
+                for (int i = 0, e = 1; i < mixCount; i++, e *= paletteSize) {
+                    mixing[i] = colorsByHue.get((c / e) % paletteSize);
+                }
+                final int result = BitConversion.floatToRawIntBits(
+                        adjustMatch(FloatColors.mix(mixing, 0, mixCount), c / colorTries));
+                final float distance = (costL[result & 255] + costA[result >>> 8 & 255]) + costB[result >>> 16 & 255];
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    bestCode = c;
+                }
             }
-            int idxI = ((c / colorTries) % 9 - 4), idxS = (c / (colorTries * 9) - 4);
-
-            float result = FloatColors.mix(mixing.items, 0, mixCount);
-            if(idxI > 0) result = ColorTools.lighten(result, 0.15f * idxI);
-            else if(idxI < 0) result = ColorTools.darken(result, -0.15f * idxI);
-
-            if(idxS > 0) result = ColorTools.limitToGamut(ColorTools.enrich(result, idxS * (idxS + 3) * 0.025f));
-            else if(idxS < 0) result = ColorTools.dullen(result, idxS * (-idxS + 3) * -0.025f);
-            else result = ColorTools.limitToGamut(result);
-
-            float dL = ColorTools.channelL(result) - targetL, dA = ColorTools.channelA(result) - targetA, dB = ColorTools.channelB(result) - targetB;
-            if(bestDistance > (bestDistance = Math.min(dL * dL + dA * dA + dB * dB, bestDistance)))
-                bestCode = c;
         }
 
         StringBuilder description = new StringBuilder(combinedAdjectives[(bestCode / colorTries)]);
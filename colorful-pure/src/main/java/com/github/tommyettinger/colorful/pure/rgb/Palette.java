@@ -16,12 +16,13 @@
 
 package com.github.tommyettinger.colorful.pure.rgb;
 
+import com.github.tommyettinger.colorful.pure.ColorNameTable;
+import com.github.tommyettinger.colorful.pure.NamedColorTree;
 import com.github.tommyettinger.ds.FloatList;
 import com.github.tommyettinger.ds.ObjectFloatOrderedMap;
+import com.github.tommyettinger.ds.ObjectIntMap;
 import com.github.tommyettinger.ds.ObjectList;
 
-import java.util.Comparator;
-
 import static com.github.tommyettinger.colorful.pure.rgb.ColorTools.lightness;
 
 /**
@@ -50,7 +51,6 @@ public class Palette {
      * </pre>
      */
     public static final float TRANSPARENT = 0x0.0p0F;
-    static { NAMED.put("Transparent", 0x0.0p0F); LIST.add(0x0.0p0F); }
 
     /**
      * This color constant "Black" has RGBA8888 code {@code 000000FF}, hue 0.0, saturation 0.0, lightness 0.0, and alpha 1.0.
@@ -62,7 +62,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACK = -0x1.0p125F;
-    static { NAMED.put("Black", -0x1.0p125F); LIST.add(-0x1.0p125F); }
 
     /**
      * This color constant "Coal Black" has RGBA8888 code {@code 131313FF}, hue 0.0, saturation 0.0, lightness 0.07450981, and alpha 1.0.
@@ -74,7 +73,6 @@ public class Palette {
      * </pre>
      */
     public static final float COAL_BLACK = -0x1.262626p125F;
-    static { NAMED.put("Coal Black", -0x1.262626p125F); LIST.add(-0x1.262626p125F); }
 
     /**
      * This color constant "Shadow" has RGBA8888 code {@code 252525FF}, hue 0.0, saturation 0.0, lightness 0.14509805, and alpha 1.0.
@@ -86,7 +84,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHADOW = -0x1.4a4a4ap125F;
-    static { NAMED.put("Shadow", -0x1.4a4a4ap125F); LIST.add(-0x1.4a4a4ap125F); }
 
     /**
      * This color constant "Graphite" has RGBA8888 code {@code 373737FF}, hue 0.0, saturation 0.0, lightness 0.21568628, and alpha 1.0.
@@ -98,7 +95,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPHITE = -0x1.6e6e6ep125F;
-    static { NAMED.put("Graphite", -0x1.6e6e6ep125F); LIST.add(-0x1.6e6e6ep125F); }
 
     /**
      * This color constant "Dark Gray" has RGBA8888 code {@code 494949FF}, hue 0.0, saturation 0.0, lightness 0.28627452, and alpha 1.0.
@@ -110,7 +106,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_GRAY = -0x1.929292p125F;
-    static { NAMED.put("Dark Gray", -0x1.929292p125F); LIST.add(-0x1.929292p125F); }
 
     /**
      * This color constant "Lead" has RGBA8888 code {@code 5B5B5BFF}, hue 0.0, saturation 0.0, lightness 0.35686275, and alpha 1.0.
@@ -122,7 +117,6 @@ public class Palette {
      * </pre>
      */
     public static final float LEAD = -0x1.b6b6b6p125F;
-    static { NAMED.put("Lead", -0x1.b6b6b6p125F); LIST.add(-0x1.b6b6b6p125F); }
 
     /**
      * This color constant "Iron" has RGBA8888 code {@code 6E6E6EFF}, hue 0.0, saturation 0.0, lightness 0.43137255, and alpha 1.0.
@@ -134,7 +128,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRON = -0x1.dcdcdcp125F;
-    static { NAMED.put("Iron", -0x1.dcdcdcp125F); LIST.add(-0x1.dcdcdcp125F); }
 
     /**
      * This color constant "Gray" has RGBA8888 code {@code 808080FF}, hue 0.0, saturation 0.0, lightness 0.5019608, and alpha 1.0.
@@ -146,7 +139,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY = -0x1.0101p126F;
-    static { NAMED.put("Gray", -0x1.0101p126F); LIST.add(-0x1.0101p126F); }
 
     /**
      * This color constant "Chinchilla" has RGBA8888 code {@code 929292FF}, hue 0.0, saturation 0.0, lightness 0.57254905, and alpha 1.0.
@@ -158,7 +150,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHINCHILLA = -0x1.252524p126F;
-    static { NAMED.put("Chinchilla", -0x1.252524p126F); LIST.add(-0x1.252524p126F); }
 
     /**
      * This color constant "Greyhound" has RGBA8888 code {@code A4A4A4FF}, hue 0.0, saturation 0.0, lightness 0.6431373, and alpha 1.0.
@@ -170,7 +161,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREYHOUND = -0x1.494948p126F;
-    static { NAMED.put("Greyhound", -0x1.494948p126F); LIST.add(-0x1.494948p126F); }
 
     /**
      * This color constant "Silver" has RGBA8888 code {@code B6B6B6FF}, hue 0.0, saturation 0.0, lightness 0.7137255, and alpha 1.0.
@@ -182,7 +172,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER = -0x1.6d6d6cp126F;
-    static { NAMED.put("Silver", -0x1.6d6d6cp126F); LIST.add(-0x1.6d6d6cp126F); }
 
     /**
      * This color constant "Light Gray" has RGBA8888 code {@code C9C9C9FF}, hue 0.0, saturation 0.0, lightness 0.7882353, and alpha 1.0.
@@ -194,7 +183,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_GRAY = -0x1.939392p126F;
-    static { NAMED.put("Light Gray", -0x1.939392p126F); LIST.add(-0x1.939392p126F); }
 
     /**
      * This color constant "Platinum" has RGBA8888 code {@code DBDBDBFF}, hue 0.0, saturation 0.0, lightness 0.85882354, and alpha 1.0.
@@ -206,7 +194,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLATINUM = -0x1.b7b7b6p126F;
-    static { NAMED.put("Platinum", -0x1.b7b7b6p126F); LIST.add(-0x1.b7b7b6p126F); }
 
     /**
      * This color constant "Cloud" has RGBA8888 code {@code EDEDEDFF}, hue 0.0, saturation 0.0, lightness 0.92941177, and alpha 1.0.
@@ -218,7 +205,6 @@ public class Palette {
      * </pre>
      */
     public static final float CLOUD = -0x1.dbdbdap126F;
-    static { NAMED.put("Cloud", -0x1.dbdbdap126F); LIST.add(-0x1.dbdbdap126F); }
 
     /**
      * This color constant "White" has RGBA8888 code {@code FFFFFFFF}, hue 0.0, saturation 0.0, lightness 1.0, and alpha 1.0.
@@ -230,7 +216,6 @@ public class Palette {
      * </pre>
      */
     public static final float WHITE = -0x1.fffffep126F;
-    static { NAMED.put("White", -0x1.fffffep126F); LIST.add(-0x1.fffffep126F); }
 
     /**
      * This color constant "Seawater" has RGBA8888 code {@code 007F7FFF}, hue 0.5, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -242,7 +227,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAWATER = -0x1.fefep125F;
-    static { NAMED.put("Seawater", -0x1.fefep125F); LIST.add(-0x1.fefep125F); }
 
     /**
      * This color constant "Hospital Green" has RGBA8888 code {@code 3FBFBFFF}, hue 0.5, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -254,7 +238,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOSPITAL_GREEN = -0x1.7f7e7ep126F;
-    static { NAMED.put("Hospital Green", -0x1.7f7e7ep126F); LIST.add(-0x1.7f7e7ep126F); }
 
     /**
      * This color constant "Cyan" has RGBA8888 code {@code 00FFFFFF}, hue 0.5, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -266,7 +249,6 @@ public class Palette {
      * </pre>
      */
     public static final float CYAN = -0x1.fffep126F;
-    static { NAMED.put("Cyan", -0x1.fffep126F); LIST.add(-0x1.fffep126F); }
 
     /**
      * This color constant "Bubble" has RGBA8888 code {@code BFFFFFFF}, hue 0.5, saturation 0.25098038, lightness 0.8745098, and alpha 1.0.
@@ -278,7 +260,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE = -0x1.ffff7ep126F;
-    static { NAMED.put("Bubble", -0x1.ffff7ep126F); LIST.add(-0x1.ffff7ep126F); }
 
     /**
      * This color constant "Periwinkle" has RGBA8888 code {@code 8181FFFF}, hue 0.6666667, saturation 0.49411762, lightness 0.7529412, and alpha 1.0.
@@ -290,7 +271,6 @@ public class Palette {
      * </pre>
      */
     public static final float PERIWINKLE = -0x1.ff0302p126F;
-    static { NAMED.put("Periwinkle", -0x1.ff0302p126F); LIST.add(-0x1.ff0302p126F); }
 
     /**
      * This color constant "Blue" has RGBA8888 code {@code 0000FFFF}, hue 0.6666667, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -302,7 +282,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE = -0x1.fep126F;
-    static { NAMED.put("Blue", -0x1.fep126F); LIST.add(-0x1.fep126F); }
 
     /**
      * This color constant "Faded Blue" has RGBA8888 code {@code 3F3FBFFF}, hue 0.6666667, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -314,7 +293,6 @@ public class Palette {
      * </pre>
      */
     public static final float FADED_BLUE = -0x1.7e7e7ep126F;
-    static { NAMED.put("Faded Blue", -0x1.7e7e7ep126F); LIST.add(-0x1.7e7e7ep126F); }
 
     /**
      * This color constant "Ocean Blue" has RGBA8888 code {@code 00007FFF}, hue 0.6666667, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -326,7 +304,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCEAN_BLUE = -0x1.fep125F;
-    static { NAMED.put("Ocean Blue", -0x1.fep125F); LIST.add(-0x1.fep125F); }
 
     /**
      * This color constant "Stygian Blue" has RGBA8888 code {@code 0F0F50FF}, hue 0.6666667, saturation 0.25490198, lightness 0.18627451, and alpha 1.0.
@@ -338,7 +315,6 @@ public class Palette {
      * </pre>
      */
     public static final float STYGIAN_BLUE = -0x1.a01e1ep125F;
-    static { NAMED.put("Stygian Blue", -0x1.a01e1ep125F); LIST.add(-0x1.a01e1ep125F); }
 
     /**
      * This color constant "Deep Purple" has RGBA8888 code {@code 7F007FFF}, hue 0.8333333, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -350,7 +326,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_PURPLE = -0x1.fe00fep125F;
-    static { NAMED.put("Deep Purple", -0x1.fe00fep125F); LIST.add(-0x1.fe00fep125F); }
 
     /**
      * This color constant "Tyrian Purple" has RGBA8888 code {@code BF3FBFFF}, hue 0.8333334, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -362,7 +337,6 @@ public class Palette {
      * </pre>
      */
     public static final float TYRIAN_PURPLE = -0x1.7e7f7ep126F;
-    static { NAMED.put("Tyrian Purple", -0x1.7e7f7ep126F); LIST.add(-0x1.7e7f7ep126F); }
 
     /**
      * This color constant "Magenta" has RGBA8888 code {@code F500F5FF}, hue 0.8333333, saturation 0.9607843, lightness 0.48039216, and alpha 1.0.
@@ -374,7 +348,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAGENTA = -0x1.ea01eap126F;
-    static { NAMED.put("Magenta", -0x1.ea01eap126F); LIST.add(-0x1.ea01eap126F); }
 
     /**
      * This color constant "Bubblegum Pink" has RGBA8888 code {@code FD81FFFF}, hue 0.8306879, saturation 0.49411762, lightness 0.7529412, and alpha 1.0.
@@ -386,7 +359,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLEGUM_PINK = -0x1.ff03fap126F;
-    static { NAMED.put("Bubblegum Pink", -0x1.ff03fap126F); LIST.add(-0x1.ff03fap126F); }
 
     /**
      * This color constant "Pork Chop" has RGBA8888 code {@code FFC0CBFF}, hue 0.97089946, saturation 0.24705881, lightness 0.87647057, and alpha 1.0.
@@ -398,7 +370,6 @@ public class Palette {
      * </pre>
      */
     public static final float PORK_CHOP = -0x1.9781fep126F;
-    static { NAMED.put("Pork Chop", -0x1.9781fep126F); LIST.add(-0x1.9781fep126F); }
 
     /**
      * This color constant "Raw Meat" has RGBA8888 code {@code FF8181FF}, hue 0.0, saturation 0.49411762, lightness 0.7529412, and alpha 1.0.
@@ -410,7 +381,6 @@ public class Palette {
      * </pre>
      */
     public static final float RAW_MEAT = -0x1.0303fep126F;
-    static { NAMED.put("Raw Meat", -0x1.0303fep126F); LIST.add(-0x1.0303fep126F); }
 
     /**
      * This color constant "Red" has RGBA8888 code {@code FF0000FF}, hue 0.0, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -422,7 +392,6 @@ public class Palette {
      * </pre>
      */
     public static final float RED = -0x1.0001fep125F;
-    static { NAMED.put("Red", -0x1.0001fep125F); LIST.add(-0x1.0001fep125F); }
 
     /**
      * This color constant "Putty" has RGBA8888 code {@code BF3F3FFF}, hue 0.0, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -434,7 +403,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUTTY = -0x1.7e7f7ep125F;
-    static { NAMED.put("Putty", -0x1.7e7f7ep125F); LIST.add(-0x1.7e7f7ep125F); }
 
     /**
      * This color constant "Sienna" has RGBA8888 code {@code 7F0000FF}, hue 0.0, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -446,7 +414,6 @@ public class Palette {
      * </pre>
      */
     public static final float SIENNA = -0x1.0000fep125F;
-    static { NAMED.put("Sienna", -0x1.0000fep125F); LIST.add(-0x1.0000fep125F); }
 
     /**
      * This color constant "Seal Brown" has RGBA8888 code {@code 551414FF}, hue 0.0, saturation 0.25490198, lightness 0.20588236, and alpha 1.0.
@@ -458,7 +425,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAL_BROWN = -0x1.2828aap125F;
-    static { NAMED.put("Seal Brown", -0x1.2828aap125F); LIST.add(-0x1.2828aap125F); }
 
     /**
      * This color constant "Mummy Brown" has RGBA8888 code {@code 7F3F00FF}, hue 0.08267717, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -470,7 +436,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUMMY_BROWN = -0x1.007efep125F;
-    static { NAMED.put("Mummy Brown", -0x1.007efep125F); LIST.add(-0x1.007efep125F); }
 
     /**
      * This color constant "Fawn" has RGBA8888 code {@code BF7F3FFF}, hue 0.08333332, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -482,7 +447,6 @@ public class Palette {
      * </pre>
      */
     public static final float FAWN = -0x1.7eff7ep125F;
-    static { NAMED.put("Fawn", -0x1.7eff7ep125F); LIST.add(-0x1.7eff7ep125F); }
 
     /**
      * This color constant "Orange" has RGBA8888 code {@code FF7F00FF}, hue 0.08300654, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -494,7 +458,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORANGE = -0x1.00fffep125F;
-    static { NAMED.put("Orange", -0x1.00fffep125F); LIST.add(-0x1.00fffep125F); }
 
     /**
      * This color constant "Peach" has RGBA8888 code {@code FFBF81FF}, hue 0.08201058, saturation 0.49411762, lightness 0.7529412, and alpha 1.0.
@@ -506,7 +469,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEACH = -0x1.037ffep126F;
-    static { NAMED.put("Peach", -0x1.037ffep126F); LIST.add(-0x1.037ffep126F); }
 
     /**
      * This color constant "Cream" has RGBA8888 code {@code FFFFBFFF}, hue 0.16666667, saturation 0.25098038, lightness 0.8745098, and alpha 1.0.
@@ -518,7 +480,6 @@ public class Palette {
      * </pre>
      */
     public static final float CREAM = -0x1.7ffffep126F;
-    static { NAMED.put("Cream", -0x1.7ffffep126F); LIST.add(-0x1.7ffffep126F); }
 
     /**
      * This color constant "Yellow" has RGBA8888 code {@code FFFF00FF}, hue 0.16666667, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -530,7 +491,6 @@ public class Palette {
      * </pre>
      */
     public static final float YELLOW = -0x1.01fffep125F;
-    static { NAMED.put("Yellow", -0x1.01fffep125F); LIST.add(-0x1.01fffep125F); }
 
     /**
      * This color constant "Earwax" has RGBA8888 code {@code BFBF3FFF}, hue 0.16666666, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -542,7 +502,6 @@ public class Palette {
      * </pre>
      */
     public static final float EARWAX = -0x1.7f7f7ep125F;
-    static { NAMED.put("Earwax", -0x1.7f7f7ep125F); LIST.add(-0x1.7f7f7ep125F); }
 
     /**
      * This color constant "Umber" has RGBA8888 code {@code 7F7F00FF}, hue 0.16666667, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -554,7 +513,6 @@ public class Palette {
      * </pre>
      */
     public static final float UMBER = -0x1.00fefep125F;
-    static { NAMED.put("Umber", -0x1.00fefep125F); LIST.add(-0x1.00fefep125F); }
 
     /**
      * This color constant "Ivy Green" has RGBA8888 code {@code 007F00FF}, hue 0.33333334, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -566,7 +524,6 @@ public class Palette {
      * </pre>
      */
     public static final float IVY_GREEN = -0x1.00fep125F;
-    static { NAMED.put("Ivy Green", -0x1.00fep125F); LIST.add(-0x1.00fep125F); }
 
     /**
      * This color constant "Jade" has RGBA8888 code {@code 3FBF3FFF}, hue 0.33333334, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -578,7 +535,6 @@ public class Palette {
      * </pre>
      */
     public static final float JADE = -0x1.7f7e7ep125F;
-    static { NAMED.put("Jade", -0x1.7f7e7ep125F); LIST.add(-0x1.7f7e7ep125F); }
 
     /**
      * This color constant "Green" has RGBA8888 code {@code 00FF00FF}, hue 0.33333334, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -590,7 +546,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREEN = -0x1.01fep125F;
-    static { NAMED.put("Green", -0x1.01fep125F); LIST.add(-0x1.01fep125F); }
 
     /**
      * This color constant "Celadon" has RGBA8888 code {@code AFFFAFFF}, hue 0.33333334, saturation 0.31372547, lightness 0.84313726, and alpha 1.0.
@@ -602,7 +557,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELADON = -0x1.5fff5ep126F;
-    static { NAMED.put("Celadon", -0x1.5fff5ep126F); LIST.add(-0x1.5fff5ep126F); }
 
     /**
      * This color constant "Puce" has RGBA8888 code {@code BCAFC0FF}, hue 0.7941177, saturation 0.06666666, lightness 0.7196079, and alpha 1.0.
@@ -614,7 +568,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUCE = -0x1.815f78p126F;
-    static { NAMED.put("Puce", -0x1.815f78p126F); LIST.add(-0x1.815f78p126F); }
 
     /**
      * This color constant "Beige" has RGBA8888 code {@code CBAA89FF}, hue 0.083333336, saturation 0.2588235, lightness 0.6666667, and alpha 1.0.
@@ -626,7 +579,6 @@ public class Palette {
      * </pre>
      */
     public static final float BEIGE = -0x1.135596p126F;
-    static { NAMED.put("Beige", -0x1.135596p126F); LIST.add(-0x1.135596p126F); }
 
     /**
      * This color constant "Wet Stone" has RGBA8888 code {@code A6A090FF}, hue 0.121212125, saturation 0.086274505, lightness 0.60784316, and alpha 1.0.
@@ -638,7 +590,6 @@ public class Palette {
      * </pre>
      */
     public static final float WET_STONE = -0x1.21414cp126F;
-    static { NAMED.put("Wet Stone", -0x1.21414cp126F); LIST.add(-0x1.21414cp126F); }
 
     /**
      * This color constant "Slow Creek" has RGBA8888 code {@code 7E9494FF}, hue 0.5, saturation 0.086274534, lightness 0.53725487, and alpha 1.0.
@@ -650,7 +601,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLOW_CREEK = -0x1.2928fcp126F;
-    static { NAMED.put("Slow Creek", -0x1.2928fcp126F); LIST.add(-0x1.2928fcp126F); }
 
     /**
      * This color constant "Slate Gray" has RGBA8888 code {@code 6E8287FF}, hue 0.53333336, saturation 0.09803924, lightness 0.4803922, and alpha 1.0.
@@ -662,7 +612,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLATE_GRAY = -0x1.0f04dcp126F;
-    static { NAMED.put("Slate Gray", -0x1.0f04dcp126F); LIST.add(-0x1.0f04dcp126F); }
 
     /**
      * This color constant "Light Skin 1" has RGBA8888 code {@code 7E6E60FF}, hue 0.07777778, saturation 0.11764705, lightness 0.43529412, and alpha 1.0.
@@ -674,7 +623,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_1 = -0x1.c0dcfcp125F;
-    static { NAMED.put("Light Skin 1", -0x1.c0dcfcp125F); LIST.add(-0x1.c0dcfcp125F); }
 
     /**
      * This color constant "Light Skin 2" has RGBA8888 code {@code A0695FFF}, hue 0.025641024, saturation 0.25490198, lightness 0.5, and alpha 1.0.
@@ -686,7 +634,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_2 = -0x1.bed34p125F;
-    static { NAMED.put("Light Skin 2", -0x1.bed34p125F); LIST.add(-0x1.bed34p125F); }
 
     /**
      * This color constant "Light Skin 3" has RGBA8888 code {@code C07872FF}, hue 0.012820511, saturation 0.30588236, lightness 0.6, and alpha 1.0.
@@ -698,7 +645,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_3 = -0x1.e4f18p125F;
-    static { NAMED.put("Light Skin 3", -0x1.e4f18p125F); LIST.add(-0x1.e4f18p125F); }
 
     /**
      * This color constant "Light Skin 4" has RGBA8888 code {@code D08A74FF}, hue 0.03985508, saturation 0.36078432, lightness 0.63529414, and alpha 1.0.
@@ -710,7 +656,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_4 = -0x1.e915ap125F;
-    static { NAMED.put("Light Skin 4", -0x1.e915ap125F); LIST.add(-0x1.e915ap125F); }
 
     /**
      * This color constant "Light Skin 5" has RGBA8888 code {@code E19B7DFF}, hue 0.05000001, saturation 0.39215687, lightness 0.6862745, and alpha 1.0.
@@ -722,7 +667,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_5 = -0x1.fb37c2p125F;
-    static { NAMED.put("Light Skin 5", -0x1.fb37c2p125F); LIST.add(-0x1.fb37c2p125F); }
 
     /**
      * This color constant "Light Skin 6" has RGBA8888 code {@code EBAA8CFF}, hue 0.052631583, saturation 0.372549, lightness 0.73529416, and alpha 1.0.
@@ -734,7 +678,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_6 = -0x1.1955d6p126F;
-    static { NAMED.put("Light Skin 6", -0x1.1955d6p126F); LIST.add(-0x1.1955d6p126F); }
 
     /**
      * This color constant "Light Skin 7" has RGBA8888 code {@code F5B99BFF}, hue 0.055555556, saturation 0.35294116, lightness 0.78431374, and alpha 1.0.
@@ -746,7 +689,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_7 = -0x1.3773eap126F;
-    static { NAMED.put("Light Skin 7", -0x1.3773eap126F); LIST.add(-0x1.3773eap126F); }
 
     /**
      * This color constant "Light Skin 8" has RGBA8888 code {@code F6C8AFFF}, hue 0.058685444, saturation 0.27843136, lightness 0.82549024, and alpha 1.0.
@@ -758,7 +700,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_8 = -0x1.5f91ecp126F;
-    static { NAMED.put("Light Skin 8", -0x1.5f91ecp126F); LIST.add(-0x1.5f91ecp126F); }
 
     /**
      * This color constant "Light Skin 9" has RGBA8888 code {@code F5E1D2FF}, hue 0.071428575, saturation 0.1372549, lightness 0.8921569, and alpha 1.0.
@@ -770,7 +711,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_9 = -0x1.a5c3eap126F;
-    static { NAMED.put("Light Skin 9", -0x1.a5c3eap126F); LIST.add(-0x1.a5c3eap126F); }
 
     /**
      * This color constant "Dark Skin 1" has RGBA8888 code {@code 573B3BFF}, hue 0.0, saturation 0.10980393, lightness 0.28627452, and alpha 1.0.
@@ -782,7 +722,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_1 = -0x1.7676aep125F;
-    static { NAMED.put("Dark Skin 1", -0x1.7676aep125F); LIST.add(-0x1.7676aep125F); }
 
     /**
      * This color constant "Dark Skin 2" has RGBA8888 code {@code 73413CFF}, hue 0.015151525, saturation 0.21568628, lightness 0.34313726, and alpha 1.0.
@@ -794,7 +733,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_2 = -0x1.7882e6p125F;
-    static { NAMED.put("Dark Skin 2", -0x1.7882e6p125F); LIST.add(-0x1.7882e6p125F); }
 
     /**
      * This color constant "Dark Skin 3" has RGBA8888 code {@code 8E5555FF}, hue 0.0, saturation 0.22352943, lightness 0.44509807, and alpha 1.0.
@@ -806,7 +744,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_3 = -0x1.aaab1cp125F;
-    static { NAMED.put("Dark Skin 3", -0x1.aaab1cp125F); LIST.add(-0x1.aaab1cp125F); }
 
     /**
      * This color constant "Pink Skin 1" has RGBA8888 code {@code AB7373FF}, hue 0.0, saturation 0.21960786, lightness 0.56078434, and alpha 1.0.
@@ -818,7 +755,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_1 = -0x1.e6e756p125F;
-    static { NAMED.put("Pink Skin 1", -0x1.e6e756p125F); LIST.add(-0x1.e6e756p125F); }
 
     /**
      * This color constant "Pink Skin 2" has RGBA8888 code {@code C78F8FFF}, hue 0.0, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -830,7 +766,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_2 = -0x1.1f1f8ep126F;
-    static { NAMED.put("Pink Skin 2", -0x1.1f1f8ep126F); LIST.add(-0x1.1f1f8ep126F); }
 
     /**
      * This color constant "Pink Skin 3" has RGBA8888 code {@code E3ABABFF}, hue 0.0, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -842,7 +777,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_3 = -0x1.5757c6p126F;
-    static { NAMED.put("Pink Skin 3", -0x1.5757c6p126F); LIST.add(-0x1.5757c6p126F); }
 
     /**
      * This color constant "Pink Skin 4" has RGBA8888 code {@code F8D2DAFF}, hue 0.9649123, saturation 0.1490196, lightness 0.8980392, and alpha 1.0.
@@ -854,7 +788,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_4 = -0x1.b5a5fp126F;
-    static { NAMED.put("Pink Skin 4", -0x1.b5a5fp126F); LIST.add(-0x1.b5a5fp126F); }
 
     /**
      * This color constant "Bronze Skin 4" has RGBA8888 code {@code E3C7ABFF}, hue 0.083333336, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -866,7 +799,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_4 = -0x1.578fc6p126F;
-    static { NAMED.put("Bronze Skin 4", -0x1.578fc6p126F); LIST.add(-0x1.578fc6p126F); }
 
     /**
      * This color constant "Bronze Skin 3" has RGBA8888 code {@code C49E73FF}, hue 0.08847737, saturation 0.31764707, lightness 0.6098039, and alpha 1.0.
@@ -878,7 +810,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_3 = -0x1.e73d88p125F;
-    static { NAMED.put("Bronze Skin 3", -0x1.e73d88p125F); LIST.add(-0x1.e73d88p125F); }
 
     /**
      * This color constant "Bronze Skin 2" has RGBA8888 code {@code 8F7357FF}, hue 0.08333332, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -890,7 +821,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_2 = -0x1.aee71ep125F;
-    static { NAMED.put("Bronze Skin 2", -0x1.aee71ep125F); LIST.add(-0x1.aee71ep125F); }
 
     /**
      * This color constant "Bronze Skin 1" has RGBA8888 code {@code 73573BFF}, hue 0.083333336, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -902,7 +832,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_1 = -0x1.76aee6p125F;
-    static { NAMED.put("Bronze Skin 1", -0x1.76aee6p125F); LIST.add(-0x1.76aee6p125F); }
 
     /**
      * This color constant "Taupe" has RGBA8888 code {@code 3B2D1FFF}, hue 0.083333336, saturation 0.10980392, lightness 0.1764706, and alpha 1.0.
@@ -914,7 +843,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAUPE = -0x1.3e5a76p125F;
-    static { NAMED.put("Taupe", -0x1.3e5a76p125F); LIST.add(-0x1.3e5a76p125F); }
 
     /**
      * This color constant "Drab Green" has RGBA8888 code {@code 414123FF}, hue 0.16666666, saturation 0.11764707, lightness 0.19607845, and alpha 1.0.
@@ -926,7 +854,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRAB_GREEN = -0x1.468282p125F;
-    static { NAMED.put("Drab Green", -0x1.468282p125F); LIST.add(-0x1.468282p125F); }
 
     /**
      * This color constant "Lizard Scales" has RGBA8888 code {@code 73733BFF}, hue 0.16666666, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -938,7 +865,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIZARD_SCALES = -0x1.76e6e6p125F;
-    static { NAMED.put("Lizard Scales", -0x1.76e6e6p125F); LIST.add(-0x1.76e6e6p125F); }
 
     /**
      * This color constant "Cricket" has RGBA8888 code {@code 8F8F57FF}, hue 0.16666666, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -950,7 +876,6 @@ public class Palette {
      * </pre>
      */
     public static final float CRICKET = -0x1.af1f1ep125F;
-    static { NAMED.put("Cricket", -0x1.af1f1ep125F); LIST.add(-0x1.af1f1ep125F); }
 
     /**
      * This color constant "Olive Oil" has RGBA8888 code {@code A2A255FF}, hue 0.16666667, saturation 0.3019608, lightness 0.48431373, and alpha 1.0.
@@ -962,7 +887,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_OIL = -0x1.ab4544p125F;
-    static { NAMED.put("Olive Oil", -0x1.ab4544p125F); LIST.add(-0x1.ab4544p125F); }
 
     /**
      * This color constant "Dun" has RGBA8888 code {@code B5B572FF}, hue 0.16666667, saturation 0.2627451, lightness 0.57843137, and alpha 1.0.
@@ -974,7 +898,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUN = -0x1.e56b6ap125F;
-    static { NAMED.put("Dun", -0x1.e56b6ap125F); LIST.add(-0x1.e56b6ap125F); }
 
     /**
      * This color constant "Corn Silk" has RGBA8888 code {@code C7C78FFF}, hue 0.16666667, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -986,7 +909,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORN_SILK = -0x1.1f8f8ep126F;
-    static { NAMED.put("Corn Silk", -0x1.1f8f8ep126F); LIST.add(-0x1.1f8f8ep126F); }
 
     /**
      * This color constant "Tan" has RGBA8888 code {@code DADAABFF}, hue 0.16666667, saturation 0.18431371, lightness 0.7627451, and alpha 1.0.
@@ -998,7 +920,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAN = -0x1.57b5b4p126F;
-    static { NAMED.put("Tan", -0x1.57b5b4p126F); LIST.add(-0x1.57b5b4p126F); }
 
     /**
      * This color constant "Straw" has RGBA8888 code {@code EDEDC7FF}, hue 0.16666667, saturation 0.1490196, lightness 0.85490197, and alpha 1.0.
@@ -1010,7 +931,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRAW = -0x1.8fdbdap126F;
-    static { NAMED.put("Straw", -0x1.8fdbdap126F); LIST.add(-0x1.8fdbdap126F); }
 
     /**
      * This color constant "Honeydew" has RGBA8888 code {@code C7E3ABFF}, hue 0.25, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -1022,7 +942,6 @@ public class Palette {
      * </pre>
      */
     public static final float HONEYDEW = -0x1.57c78ep126F;
-    static { NAMED.put("Honeydew", -0x1.57c78ep126F); LIST.add(-0x1.57c78ep126F); }
 
     /**
      * This color constant "Tarnish" has RGBA8888 code {@code ABC78FFF}, hue 0.25, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1034,7 +953,6 @@ public class Palette {
      * </pre>
      */
     public static final float TARNISH = -0x1.1f8f56p126F;
-    static { NAMED.put("Tarnish", -0x1.1f8f56p126F); LIST.add(-0x1.1f8f56p126F); }
 
     /**
      * This color constant "Pea Soup" has RGBA8888 code {@code 8EBE55FF}, hue 0.24285714, saturation 0.4117647, lightness 0.5392157, and alpha 1.0.
@@ -1046,7 +964,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEA_SOUP = -0x1.ab7d1cp125F;
-    static { NAMED.put("Pea Soup", -0x1.ab7d1cp125F); LIST.add(-0x1.ab7d1cp125F); }
 
     /**
      * This color constant "Marsh" has RGBA8888 code {@code 738F57FF}, hue 0.25000003, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1058,7 +975,6 @@ public class Palette {
      * </pre>
      */
     public static final float MARSH = -0x1.af1ee6p125F;
-    static { NAMED.put("Marsh", -0x1.af1ee6p125F); LIST.add(-0x1.af1ee6p125F); }
 
     /**
      * This color constant "Asparagus" has RGBA8888 code {@code 587D3EFF}, hue 0.26455027, saturation 0.24705882, lightness 0.36666667, and alpha 1.0.
@@ -1070,7 +986,6 @@ public class Palette {
      * </pre>
      */
     public static final float ASPARAGUS = -0x1.7cfabp125F;
-    static { NAMED.put("Asparagus", -0x1.7cfabp125F); LIST.add(-0x1.7cfabp125F); }
 
     /**
      * This color constant "Peat Bog" has RGBA8888 code {@code 465032FF}, hue 0.22222224, saturation 0.11764707, lightness 0.25490198, and alpha 1.0.
@@ -1082,7 +997,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEAT_BOG = -0x1.64a08cp125F;
-    static { NAMED.put("Peat Bog", -0x1.64a08cp125F); LIST.add(-0x1.64a08cp125F); }
 
     /**
      * This color constant "Deep Jungle" has RGBA8888 code {@code 191E0FFF}, hue 0.22222224, saturation 0.05882353, lightness 0.0882353, and alpha 1.0.
@@ -1094,7 +1008,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_JUNGLE = -0x1.1e3c32p125F;
-    static { NAMED.put("Deep Jungle", -0x1.1e3c32p125F); LIST.add(-0x1.1e3c32p125F); }
 
     /**
      * This color constant "Pine Green" has RGBA8888 code {@code 235037FF}, hue 0.4074074, saturation 0.1764706, lightness 0.2254902, and alpha 1.0.
@@ -1106,7 +1019,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINE_GREEN = -0x1.6ea046p125F;
-    static { NAMED.put("Pine Green", -0x1.6ea046p125F); LIST.add(-0x1.6ea046p125F); }
 
     /**
      * This color constant "Olive Green" has RGBA8888 code {@code 3B573BFF}, hue 0.33333334, saturation 0.10980393, lightness 0.28627452, and alpha 1.0.
@@ -1118,7 +1030,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_GREEN = -0x1.76ae76p125F;
-    static { NAMED.put("Olive Green", -0x1.76ae76p125F); LIST.add(-0x1.76ae76p125F); }
 
     /**
      * This color constant "Gray Green" has RGBA8888 code {@code 506450FF}, hue 0.33333334, saturation 0.07843137, lightness 0.3529412, and alpha 1.0.
@@ -1130,7 +1041,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY_GREEN = -0x1.a0c8ap125F;
-    static { NAMED.put("Gray Green", -0x1.a0c8ap125F); LIST.add(-0x1.a0c8ap125F); }
 
     /**
      * This color constant "Maidenhair Fern" has RGBA8888 code {@code 3B7349FF}, hue 0.37500003, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -1142,7 +1052,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAIDENHAIR_FERN = -0x1.92e676p125F;
-    static { NAMED.put("Maidenhair Fern", -0x1.92e676p125F); LIST.add(-0x1.92e676p125F); }
 
     /**
      * This color constant "Kelly Green" has RGBA8888 code {@code 578F57FF}, hue 0.33333334, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1154,7 +1063,6 @@ public class Palette {
      * </pre>
      */
     public static final float KELLY_GREEN = -0x1.af1eaep125F;
-    static { NAMED.put("Kelly Green", -0x1.af1eaep125F); LIST.add(-0x1.af1eaep125F); }
 
     /**
      * This color constant "Dusty Green" has RGBA8888 code {@code 73AB73FF}, hue 0.33333334, saturation 0.21960786, lightness 0.56078434, and alpha 1.0.
@@ -1166,7 +1074,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GREEN = -0x1.e756e6p125F;
-    static { NAMED.put("Dusty Green", -0x1.e756e6p125F); LIST.add(-0x1.e756e6p125F); }
 
     /**
      * This color constant "Garter Snake" has RGBA8888 code {@code 64C082FF}, hue 0.3876812, saturation 0.36078432, lightness 0.57254905, and alpha 1.0.
@@ -1178,7 +1085,6 @@ public class Palette {
      * </pre>
      */
     public static final float GARTER_SNAKE = -0x1.0580c8p126F;
-    static { NAMED.put("Garter Snake", -0x1.0580c8p126F); LIST.add(-0x1.0580c8p126F); }
 
     /**
      * This color constant "Silver Green" has RGBA8888 code {@code 8FC78FFF}, hue 0.33333334, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1190,7 +1096,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_GREEN = -0x1.1f8f1ep126F;
-    static { NAMED.put("Silver Green", -0x1.1f8f1ep126F); LIST.add(-0x1.1f8f1ep126F); }
 
     /**
      * This color constant "Pistachio" has RGBA8888 code {@code A2D8A2FF}, hue 0.33333334, saturation 0.2117647, lightness 0.7411765, and alpha 1.0.
@@ -1202,7 +1107,6 @@ public class Palette {
      * </pre>
      */
     public static final float PISTACHIO = -0x1.45b144p126F;
-    static { NAMED.put("Pistachio", -0x1.45b144p126F); LIST.add(-0x1.45b144p126F); }
 
     /**
      * This color constant "Angel Wing" has RGBA8888 code {@code E1F8FAFF}, hue 0.5133333, saturation 0.09803921, lightness 0.9313725, and alpha 1.0.
@@ -1214,7 +1118,6 @@ public class Palette {
      * </pre>
      */
     public static final float ANGEL_WING = -0x1.f5f1c2p126F;
-    static { NAMED.put("Angel Wing", -0x1.f5f1c2p126F); LIST.add(-0x1.f5f1c2p126F); }
 
     /**
      * This color constant "Sage Green" has RGBA8888 code {@code B4EECAFF}, hue 0.39655173, saturation 0.22745097, lightness 0.81960785, and alpha 1.0.
@@ -1226,7 +1129,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAGE_GREEN = -0x1.95dd68p126F;
-    static { NAMED.put("Sage Green", -0x1.95dd68p126F); LIST.add(-0x1.95dd68p126F); }
 
     /**
      * This color constant "Dried Sage" has RGBA8888 code {@code ABE3C5FF}, hue 0.4107143, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -1238,7 +1140,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIED_SAGE = -0x1.8bc756p126F;
-    static { NAMED.put("Dried Sage", -0x1.8bc756p126F); LIST.add(-0x1.8bc756p126F); }
 
     /**
      * This color constant "Artichoke" has RGBA8888 code {@code 87B48EFF}, hue 0.35925928, saturation 0.17647058, lightness 0.61764705, and alpha 1.0.
@@ -1250,7 +1151,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARTICHOKE = -0x1.1d690ep126F;
-    static { NAMED.put("Artichoke", -0x1.1d690ep126F); LIST.add(-0x1.1d690ep126F); }
 
     /**
      * This color constant "Viridian" has RGBA8888 code {@code 507D5FFF}, hue 0.3888889, saturation 0.17647058, lightness 0.4019608, and alpha 1.0.
@@ -1262,7 +1162,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIRIDIAN = -0x1.befaap125F;
-    static { NAMED.put("Viridian", -0x1.befaap125F); LIST.add(-0x1.befaap125F); }
 
     /**
      * This color constant "Floral Foam" has RGBA8888 code {@code 0F6946FF}, hue 0.4351852, saturation 0.3529412, lightness 0.2352941, and alpha 1.0.
@@ -1274,7 +1173,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLORAL_FOAM = -0x1.8cd21ep125F;
-    static { NAMED.put("Floral Foam", -0x1.8cd21ep125F); LIST.add(-0x1.8cd21ep125F); }
 
     /**
      * This color constant "Hunter Green" has RGBA8888 code {@code 1E2D23FF}, hue 0.3888889, saturation 0.058823533, lightness 0.14705883, and alpha 1.0.
@@ -1286,7 +1184,6 @@ public class Palette {
      * </pre>
      */
     public static final float HUNTER_GREEN = -0x1.465a3cp125F;
-    static { NAMED.put("Hunter Green", -0x1.465a3cp125F); LIST.add(-0x1.465a3cp125F); }
 
     /**
      * This color constant "Dark Teal" has RGBA8888 code {@code 234146FF}, hue 0.52380955, saturation 0.13725491, lightness 0.20588237, and alpha 1.0.
@@ -1298,7 +1195,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_TEAL = -0x1.8c8246p125F;
-    static { NAMED.put("Dark Teal", -0x1.8c8246p125F); LIST.add(-0x1.8c8246p125F); }
 
     /**
      * This color constant "Kyanite" has RGBA8888 code {@code 3B7373FF}, hue 0.5, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -1310,7 +1206,6 @@ public class Palette {
      * </pre>
      */
     public static final float KYANITE = -0x1.e6e676p125F;
-    static { NAMED.put("Kyanite", -0x1.e6e676p125F); LIST.add(-0x1.e6e676p125F); }
 
     /**
      * This color constant "Spearmint" has RGBA8888 code {@code 64ABABFF}, hue 0.5, saturation 0.2784314, lightness 0.53137255, and alpha 1.0.
@@ -1322,7 +1217,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPEARMINT = -0x1.5756c8p126F;
-    static { NAMED.put("Spearmint", -0x1.5756c8p126F); LIST.add(-0x1.5756c8p126F); }
 
     /**
      * This color constant "Amazonite" has RGBA8888 code {@code 8FC7C7FF}, hue 0.5, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1334,7 +1228,6 @@ public class Palette {
      * </pre>
      */
     public static final float AMAZONITE = -0x1.8f8f1ep126F;
-    static { NAMED.put("Amazonite", -0x1.8f8f1ep126F); LIST.add(-0x1.8f8f1ep126F); }
 
     /**
      * This color constant "Pastel Sky" has RGBA8888 code {@code ABE3E3FF}, hue 0.5, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -1346,7 +1239,6 @@ public class Palette {
      * </pre>
      */
     public static final float PASTEL_SKY = -0x1.c7c756p126F;
-    static { NAMED.put("Pastel Sky", -0x1.c7c756p126F); LIST.add(-0x1.c7c756p126F); }
 
     /**
      * This color constant "Aquamarine" has RGBA8888 code {@code C7F1F1FF}, hue 0.5, saturation 0.16470587, lightness 0.8627451, and alpha 1.0.
@@ -1358,7 +1250,6 @@ public class Palette {
      * </pre>
      */
     public static final float AQUAMARINE = -0x1.e3e38ep126F;
-    static { NAMED.put("Aquamarine", -0x1.e3e38ep126F); LIST.add(-0x1.e3e38ep126F); }
 
     /**
      * This color constant "Dust Bunny" has RGBA8888 code {@code BED2F0FF}, hue 0.6, saturation 0.19607842, lightness 0.8431373, and alpha 1.0.
@@ -1370,7 +1261,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUST_BUNNY = -0x1.e1a57cp126F;
-    static { NAMED.put("Dust Bunny", -0x1.e1a57cp126F); LIST.add(-0x1.e1a57cp126F); }
 
     /**
      * This color constant "Patina" has RGBA8888 code {@code ABC7E3FF}, hue 0.5833334, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -1382,7 +1272,6 @@ public class Palette {
      * </pre>
      */
     public static final float PATINA = -0x1.c78f56p126F;
-    static { NAMED.put("Patina", -0x1.c78f56p126F); LIST.add(-0x1.c78f56p126F); }
 
     /**
      * This color constant "Chipped Granite" has RGBA8888 code {@code A8B9DCFF}, hue 0.6121795, saturation 0.20392156, lightness 0.7607843, and alpha 1.0.
@@ -1394,7 +1283,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHIPPED_GRANITE = -0x1.b9735p126F;
-    static { NAMED.put("Chipped Granite", -0x1.b9735p126F); LIST.add(-0x1.b9735p126F); }
 
     /**
      * This color constant "Blue Smoke" has RGBA8888 code {@code 8FABC7FF}, hue 0.5833334, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1406,7 +1294,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_SMOKE = -0x1.8f571ep126F;
-    static { NAMED.put("Blue Smoke", -0x1.8f571ep126F); LIST.add(-0x1.8f571ep126F); }
 
     /**
      * This color constant "Air Force Blue" has RGBA8888 code {@code 578FC7FF}, hue 0.5833334, saturation 0.4392157, lightness 0.56078434, and alpha 1.0.
@@ -1418,7 +1305,6 @@ public class Palette {
      * </pre>
      */
     public static final float AIR_FORCE_BLUE = -0x1.8f1eaep126F;
-    static { NAMED.put("Air Force Blue", -0x1.8f1eaep126F); LIST.add(-0x1.8f1eaep126F); }
 
     /**
      * This color constant "Cold Iron" has RGBA8888 code {@code 57738FFF}, hue 0.5833334, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1430,7 +1316,6 @@ public class Palette {
      * </pre>
      */
     public static final float COLD_IRON = -0x1.1ee6aep126F;
-    static { NAMED.put("Cold Iron", -0x1.1ee6aep126F); LIST.add(-0x1.1ee6aep126F); }
 
     /**
      * This color constant "Dreary Blue" has RGBA8888 code {@code 3B5773FF}, hue 0.5833334, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -1442,7 +1327,6 @@ public class Palette {
      * </pre>
      */
     public static final float DREARY_BLUE = -0x1.e6ae76p125F;
-    static { NAMED.put("Dreary Blue", -0x1.e6ae76p125F); LIST.add(-0x1.e6ae76p125F); }
 
     /**
      * This color constant "Murk" has RGBA8888 code {@code 0F192DFF}, hue 0.61111116, saturation 0.11764707, lightness 0.11764705, and alpha 1.0.
@@ -1454,7 +1338,6 @@ public class Palette {
      * </pre>
      */
     public static final float MURK = -0x1.5a321ep125F;
-    static { NAMED.put("Murk", -0x1.5a321ep125F); LIST.add(-0x1.5a321ep125F); }
 
     /**
      * This color constant "Ninja" has RGBA8888 code {@code 1F1F3BFF}, hue 0.6666667, saturation 0.10980392, lightness 0.1764706, and alpha 1.0.
@@ -1466,7 +1349,6 @@ public class Palette {
      * </pre>
      */
     public static final float NINJA = -0x1.763e3ep125F;
-    static { NAMED.put("Ninja", -0x1.763e3ep125F); LIST.add(-0x1.763e3ep125F); }
 
     /**
      * This color constant "Watercolor Black" has RGBA8888 code {@code 3B3B57FF}, hue 0.6666667, saturation 0.10980393, lightness 0.28627452, and alpha 1.0.
@@ -1478,7 +1360,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_BLACK = -0x1.ae7676p125F;
-    static { NAMED.put("Watercolor Black", -0x1.ae7676p125F); LIST.add(-0x1.ae7676p125F); }
 
     /**
      * This color constant "Iolite" has RGBA8888 code {@code 494973FF}, hue 0.6666667, saturation 0.16470587, lightness 0.36862746, and alpha 1.0.
@@ -1490,7 +1371,6 @@ public class Palette {
      * </pre>
      */
     public static final float IOLITE = -0x1.e69292p125F;
-    static { NAMED.put("Iolite", -0x1.e69292p125F); LIST.add(-0x1.e69292p125F); }
 
     /**
      * This color constant "Boysenberry" has RGBA8888 code {@code 57578FFF}, hue 0.6666667, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1502,7 +1382,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOYSENBERRY = -0x1.1eaeaep126F;
-    static { NAMED.put("Boysenberry", -0x1.1eaeaep126F); LIST.add(-0x1.1eaeaep126F); }
 
     /**
      * This color constant "Watercolor Gray" has RGBA8888 code {@code 736EAAFF}, hue 0.6805556, saturation 0.23529413, lightness 0.54901963, and alpha 1.0.
@@ -1514,7 +1393,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_GRAY = -0x1.54dce6p126F;
-    static { NAMED.put("Watercolor Gray", -0x1.54dce6p126F); LIST.add(-0x1.54dce6p126F); }
 
     /**
      * This color constant "Blue Steel" has RGBA8888 code {@code 7676CAFF}, hue 0.6666667, saturation 0.32941177, lightness 0.627451, and alpha 1.0.
@@ -1526,7 +1404,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_STEEL = -0x1.94ececp126F;
-    static { NAMED.put("Blue Steel", -0x1.94ececp126F); LIST.add(-0x1.94ececp126F); }
 
     /**
      * This color constant "Twilight Cloud" has RGBA8888 code {@code 8F8FC7FF}, hue 0.6666667, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1538,7 +1415,6 @@ public class Palette {
      * </pre>
      */
     public static final float TWILIGHT_CLOUD = -0x1.8f1f1ep126F;
-    static { NAMED.put("Twilight Cloud", -0x1.8f1f1ep126F); LIST.add(-0x1.8f1f1ep126F); }
 
     /**
      * This color constant "Smog" has RGBA8888 code {@code ABABE3FF}, hue 0.6666667, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -1550,7 +1426,6 @@ public class Palette {
      * </pre>
      */
     public static final float SMOG = -0x1.c75756p126F;
-    static { NAMED.put("Smog", -0x1.c75756p126F); LIST.add(-0x1.c75756p126F); }
 
     /**
      * This color constant "Tropic Mist" has RGBA8888 code {@code D0DAF8FF}, hue 0.625, saturation 0.15686274, lightness 0.89411765, and alpha 1.0.
@@ -1562,7 +1437,6 @@ public class Palette {
      * </pre>
      */
     public static final float TROPIC_MIST = -0x1.f1b5ap126F;
-    static { NAMED.put("Tropic Mist", -0x1.f1b5ap126F); LIST.add(-0x1.f1b5ap126F); }
 
     /**
      * This color constant "Feather Down" has RGBA8888 code {@code E3E3FFFF}, hue 0.6666667, saturation 0.109803915, lightness 0.94509804, and alpha 1.0.
@@ -1574,7 +1448,6 @@ public class Palette {
      * </pre>
      */
     public static final float FEATHER_DOWN = -0x1.ffc7c6p126F;
-    static { NAMED.put("Feather Down", -0x1.ffc7c6p126F); LIST.add(-0x1.ffc7c6p126F); }
 
     /**
      * This color constant "Mild Violet" has RGBA8888 code {@code AB8FC7FF}, hue 0.75, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1586,7 +1459,6 @@ public class Palette {
      * </pre>
      */
     public static final float MILD_VIOLET = -0x1.8f1f56p126F;
-    static { NAMED.put("Mild Violet", -0x1.8f1f56p126F); LIST.add(-0x1.8f1f56p126F); }
 
     /**
      * This color constant "Violet Cushions" has RGBA8888 code {@code 8F57C7FF}, hue 0.75, saturation 0.4392157, lightness 0.56078434, and alpha 1.0.
@@ -1598,7 +1470,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET_CUSHIONS = -0x1.8eaf1ep126F;
-    static { NAMED.put("Violet Cushions", -0x1.8eaf1ep126F); LIST.add(-0x1.8eaf1ep126F); }
 
     /**
      * This color constant "Dull Violet" has RGBA8888 code {@code 73578FFF}, hue 0.75, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1610,7 +1481,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_VIOLET = -0x1.1eaee6p126F;
-    static { NAMED.put("Dull Violet", -0x1.1eaee6p126F); LIST.add(-0x1.1eaee6p126F); }
 
     /**
      * This color constant "Royal Violet" has RGBA8888 code {@code 573B73FF}, hue 0.75, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -1622,7 +1492,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_VIOLET = -0x1.e676aep125F;
-    static { NAMED.put("Royal Violet", -0x1.e676aep125F); LIST.add(-0x1.e676aep125F); }
 
     /**
      * This color constant "Eminence" has RGBA8888 code {@code 3C233CFF}, hue 0.8333333, saturation 0.09803921, lightness 0.18627451, and alpha 1.0.
@@ -1634,7 +1503,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMINENCE = -0x1.784678p125F;
-    static { NAMED.put("Eminence", -0x1.784678p125F); LIST.add(-0x1.784678p125F); }
 
     /**
      * This color constant "Prune" has RGBA8888 code {@code 463246FF}, hue 0.8333333, saturation 0.07843138, lightness 0.23529413, and alpha 1.0.
@@ -1646,7 +1514,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUNE = -0x1.8c648cp125F;
-    static { NAMED.put("Prune", -0x1.8c648cp125F); LIST.add(-0x1.8c648cp125F); }
 
     /**
      * This color constant "Dusty Grape" has RGBA8888 code {@code 724072FF}, hue 0.8333333, saturation 0.19607842, lightness 0.34901962, and alpha 1.0.
@@ -1658,7 +1525,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GRAPE = -0x1.e480e4p125F;
-    static { NAMED.put("Dusty Grape", -0x1.e480e4p125F); LIST.add(-0x1.e480e4p125F); }
 
     /**
      * This color constant "Pink Violet" has RGBA8888 code {@code 8F578FFF}, hue 0.8333334, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1670,7 +1536,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_VIOLET = -0x1.1eaf1ep126F;
-    static { NAMED.put("Pink Violet", -0x1.1eaf1ep126F); LIST.add(-0x1.1eaf1ep126F); }
 
     /**
      * This color constant "Ripe Plum" has RGBA8888 code {@code AB57ABFF}, hue 0.8333334, saturation 0.32941177, lightness 0.5058824, and alpha 1.0.
@@ -1682,7 +1547,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPE_PLUM = -0x1.56af56p126F;
-    static { NAMED.put("Ripe Plum", -0x1.56af56p126F); LIST.add(-0x1.56af56p126F); }
 
     /**
      * This color constant "Mauve" has RGBA8888 code {@code AB73ABFF}, hue 0.8333334, saturation 0.21960786, lightness 0.56078434, and alpha 1.0.
@@ -1694,7 +1558,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAUVE = -0x1.56e756p126F;
-    static { NAMED.put("Mauve", -0x1.56e756p126F); LIST.add(-0x1.56e756p126F); }
 
     /**
      * This color constant "Ham" has RGBA8888 code {@code EBACE1FF}, hue 0.85978836, saturation 0.24705881, lightness 0.7980392, and alpha 1.0.
@@ -1706,7 +1569,6 @@ public class Palette {
      * </pre>
      */
     public static final float HAM = -0x1.c359d6p126F;
-    static { NAMED.put("Ham", -0x1.c359d6p126F); LIST.add(-0x1.c359d6p126F); }
 
     /**
      * This color constant "Cotton Candy" has RGBA8888 code {@code FFDCF5FF}, hue 0.88095236, saturation 0.1372549, lightness 0.9313725, and alpha 1.0.
@@ -1718,7 +1580,6 @@ public class Palette {
      * </pre>
      */
     public static final float COTTON_CANDY = -0x1.ebb9fep126F;
-    static { NAMED.put("Cotton Candy", -0x1.ebb9fep126F); LIST.add(-0x1.ebb9fep126F); }
 
     /**
      * This color constant "Silver Pink" has RGBA8888 code {@code E3C7E3FF}, hue 0.8333333, saturation 0.109803915, lightness 0.8352941, and alpha 1.0.
@@ -1730,7 +1591,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_PINK = -0x1.c78fc6p126F;
-    static { NAMED.put("Silver Pink", -0x1.c78fc6p126F); LIST.add(-0x1.c78fc6p126F); }
 
     /**
      * This color constant "Tea Rose" has RGBA8888 code {@code E1B9D2FF}, hue 0.8958333, saturation 0.15686274, lightness 0.8039216, and alpha 1.0.
@@ -1742,7 +1602,6 @@ public class Palette {
      * </pre>
      */
     public static final float TEA_ROSE = -0x1.a573c2p126F;
-    static { NAMED.put("Tea Rose", -0x1.a573c2p126F); LIST.add(-0x1.a573c2p126F); }
 
     /**
      * This color constant "Old Rose" has RGBA8888 code {@code D7A0BEFF}, hue 0.9090909, saturation 0.21568626, lightness 0.7352941, and alpha 1.0.
@@ -1754,7 +1613,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLD_ROSE = -0x1.7d41aep126F;
-    static { NAMED.put("Old Rose", -0x1.7d41aep126F); LIST.add(-0x1.7d41aep126F); }
 
     /**
      * This color constant "Dusty Pink" has RGBA8888 code {@code C78FB9FF}, hue 0.875, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1766,7 +1624,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_PINK = -0x1.731f8ep126F;
-    static { NAMED.put("Dusty Pink", -0x1.731f8ep126F); LIST.add(-0x1.731f8ep126F); }
 
     /**
      * This color constant "Roseate Spoonbill" has RGBA8888 code {@code C87DA0FF}, hue 0.9222222, saturation 0.29411766, lightness 0.6372549, and alpha 1.0.
@@ -1778,7 +1635,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSEATE_SPOONBILL = -0x1.40fb9p126F;
-    static { NAMED.put("Roseate Spoonbill", -0x1.40fb9p126F); LIST.add(-0x1.40fb9p126F); }
 
     /**
      * This color constant "Thulian Pink" has RGBA8888 code {@code C35A91FF}, hue 0.9126984, saturation 0.4117647, lightness 0.5588236, and alpha 1.0.
@@ -1790,7 +1646,6 @@ public class Palette {
      * </pre>
      */
     public static final float THULIAN_PINK = -0x1.22b586p126F;
-    static { NAMED.put("Thulian Pink", -0x1.22b586p126F); LIST.add(-0x1.22b586p126F); }
 
     /**
      * This color constant "Brown Velvet" has RGBA8888 code {@code 4B2837FF}, hue 0.92857146, saturation 0.13725491, lightness 0.2254902, and alpha 1.0.
@@ -1802,7 +1657,6 @@ public class Palette {
      * </pre>
      */
     public static final float BROWN_VELVET = -0x1.6e5096p125F;
-    static { NAMED.put("Brown Velvet", -0x1.6e5096p125F); LIST.add(-0x1.6e5096p125F); }
 
     /**
      * This color constant "Nightshade" has RGBA8888 code {@code 321623FF}, hue 0.92261904, saturation 0.10980392, lightness 0.14117648, and alpha 1.0.
@@ -1814,7 +1668,6 @@ public class Palette {
      * </pre>
      */
     public static final float NIGHTSHADE = -0x1.462c64p125F;
-    static { NAMED.put("Nightshade", -0x1.462c64p125F); LIST.add(-0x1.462c64p125F); }
 
     /**
      * This color constant "Scribe Ink" has RGBA8888 code {@code 280A1EFF}, hue 0.8888889, saturation 0.11764707, lightness 0.09803922, and alpha 1.0.
@@ -1826,7 +1679,6 @@ public class Palette {
      * </pre>
      */
     public static final float SCRIBE_INK = -0x1.3c145p125F;
-    static { NAMED.put("Scribe Ink", -0x1.3c145p125F); LIST.add(-0x1.3c145p125F); }
 
     /**
      * This color constant "Varnish" has RGBA8888 code {@code 401811FF}, hue 0.024822691, saturation 0.18431374, lightness 0.15882353, and alpha 1.0.
@@ -1838,7 +1690,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARNISH = -0x1.22308p125F;
-    static { NAMED.put("Varnish", -0x1.22308p125F); LIST.add(-0x1.22308p125F); }
 
     /**
      * This color constant "Cedar Wood" has RGBA8888 code {@code 621800FF}, hue 0.040816326, saturation 0.38431373, lightness 0.19215687, and alpha 1.0.
@@ -1850,7 +1701,6 @@ public class Palette {
      * </pre>
      */
     public static final float CEDAR_WOOD = -0x1.0030c4p125F;
-    static { NAMED.put("Cedar Wood", -0x1.0030c4p125F); LIST.add(-0x1.0030c4p125F); }
 
     /**
      * This color constant "Hot Sauce" has RGBA8888 code {@code A5140AFF}, hue 0.010752688, saturation 0.60784316, lightness 0.34313723, and alpha 1.0.
@@ -1862,7 +1712,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOT_SAUCE = -0x1.14294ap125F;
-    static { NAMED.put("Hot Sauce", -0x1.14294ap125F); LIST.add(-0x1.14294ap125F); }
 
     /**
      * This color constant "Lurid Red" has RGBA8888 code {@code DA2010FF}, hue 0.0132013215, saturation 0.7921569, lightness 0.45882356, and alpha 1.0.
@@ -1874,7 +1723,6 @@ public class Palette {
      * </pre>
      */
     public static final float LURID_RED = -0x1.2041b4p125F;
-    static { NAMED.put("Lurid Red", -0x1.2041b4p125F); LIST.add(-0x1.2041b4p125F); }
 
     /**
      * This color constant "Brick" has RGBA8888 code {@code D5524AFF}, hue 0.009592325, saturation 0.54509807, lightness 0.5627451, and alpha 1.0.
@@ -1886,7 +1734,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRICK = -0x1.94a5aap125F;
-    static { NAMED.put("Brick", -0x1.94a5aap125F); LIST.add(-0x1.94a5aap125F); }
 
     /**
      * This color constant "Bright Red" has RGBA8888 code {@code FF3C0AFF}, hue 0.034013607, saturation 0.9607843, lightness 0.51960784, and alpha 1.0.
@@ -1898,7 +1745,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRIGHT_RED = -0x1.1479fep125F;
-    static { NAMED.put("Bright Red", -0x1.1479fep125F); LIST.add(-0x1.1479fep125F); }
 
     /**
      * This color constant "Embers" has RGBA8888 code {@code F55A32FF}, hue 0.034188036, saturation 0.7647059, lightness 0.5784313, and alpha 1.0.
@@ -1910,7 +1756,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMBERS = -0x1.64b5eap125F;
-    static { NAMED.put("Embers", -0x1.64b5eap125F); LIST.add(-0x1.64b5eap125F); }
 
     /**
      * This color constant "Salmon" has RGBA8888 code {@code FF6262FF}, hue 0.0, saturation 0.6156863, lightness 0.69215685, and alpha 1.0.
@@ -1922,7 +1767,6 @@ public class Palette {
      * </pre>
      */
     public static final float SALMON = -0x1.c4c5fep125F;
-    static { NAMED.put("Salmon", -0x1.c4c5fep125F); LIST.add(-0x1.c4c5fep125F); }
 
     /**
      * This color constant "Taxicab Yellow" has RGBA8888 code {@code F6BD31FF}, hue 0.118443325, saturation 0.77254903, lightness 0.57843137, and alpha 1.0.
@@ -1934,7 +1778,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAXICAB_YELLOW = -0x1.637becp125F;
-    static { NAMED.put("Taxicab Yellow", -0x1.637becp125F); LIST.add(-0x1.637becp125F); }
 
     /**
      * This color constant "Apricot" has RGBA8888 code {@code FFA53CFF}, hue 0.0897436, saturation 0.7647059, lightness 0.61764705, and alpha 1.0.
@@ -1946,7 +1789,6 @@ public class Palette {
      * </pre>
      */
     public static final float APRICOT = -0x1.794bfep125F;
-    static { NAMED.put("Apricot", -0x1.794bfep125F); LIST.add(-0x1.794bfep125F); }
 
     /**
      * This color constant "Burnt Yellow" has RGBA8888 code {@code D79B0FFF}, hue 0.11666667, saturation 0.78431374, lightness 0.45098042, and alpha 1.0.
@@ -1958,7 +1800,6 @@ public class Palette {
      * </pre>
      */
     public static final float BURNT_YELLOW = -0x1.1f37aep125F;
-    static { NAMED.put("Burnt Yellow", -0x1.1f37aep125F); LIST.add(-0x1.1f37aep125F); }
 
     /**
      * This color constant "Dry Pepper" has RGBA8888 code {@code DA6E0AFF}, hue 0.0801282, saturation 0.8156863, lightness 0.4470588, and alpha 1.0.
@@ -1970,7 +1811,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_PEPPER = -0x1.14ddb4p125F;
-    static { NAMED.put("Dry Pepper", -0x1.14ddb4p125F); LIST.add(-0x1.14ddb4p125F); }
 
     /**
      * This color constant "Redwood" has RGBA8888 code {@code B45A00FF}, hue 0.08333333, saturation 0.7058824, lightness 0.3529412, and alpha 1.0.
@@ -1982,7 +1822,6 @@ public class Palette {
      * </pre>
      */
     public static final float REDWOOD = -0x1.00b568p125F;
-    static { NAMED.put("Redwood", -0x1.00b568p125F); LIST.add(-0x1.00b568p125F); }
 
     /**
      * This color constant "Koa" has RGBA8888 code {@code A04B05FF}, hue 0.07526882, saturation 0.60784316, lightness 0.32352942, and alpha 1.0.
@@ -1994,7 +1833,6 @@ public class Palette {
      * </pre>
      */
     public static final float KOA = -0x1.0a974p125F;
-    static { NAMED.put("Koa", -0x1.0a974p125F); LIST.add(-0x1.0a974p125F); }
 
     /**
      * This color constant "Ochre" has RGBA8888 code {@code 5F3214FF}, hue 0.06666666, saturation 0.29411766, lightness 0.22549018, and alpha 1.0.
@@ -2006,7 +1844,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCHRE = -0x1.2864bep125F;
-    static { NAMED.put("Ochre", -0x1.2864bep125F); LIST.add(-0x1.2864bep125F); }
 
     /**
      * This color constant "Dull Green" has RGBA8888 code {@code 53500AFF}, hue 0.15981735, saturation 0.28627452, lightness 0.18235296, and alpha 1.0.
@@ -2018,7 +1855,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_GREEN = -0x1.14a0a6p125F;
-    static { NAMED.put("Dull Green", -0x1.14a0a6p125F); LIST.add(-0x1.14a0a6p125F); }
 
     /**
      * This color constant "Army Green" has RGBA8888 code {@code 626200FF}, hue 0.16666666, saturation 0.38431373, lightness 0.19215687, and alpha 1.0.
@@ -2030,7 +1866,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARMY_GREEN = -0x1.00c4c4p125F;
-    static { NAMED.put("Army Green", -0x1.00c4c4p125F); LIST.add(-0x1.00c4c4p125F); }
 
     /**
      * This color constant "Driftwood" has RGBA8888 code {@code 8C805AFF}, hue 0.12666667, saturation 0.19607845, lightness 0.4509804, and alpha 1.0.
@@ -2042,7 +1877,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIFTWOOD = -0x1.b50118p125F;
-    static { NAMED.put("Driftwood", -0x1.b50118p125F); LIST.add(-0x1.b50118p125F); }
 
     /**
      * This color constant "Dry Brush" has RGBA8888 code {@code AC9400FF}, hue 0.14341085, saturation 0.6745098, lightness 0.3372549, and alpha 1.0.
@@ -2054,7 +1888,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_BRUSH = -0x1.012958p125F;
-    static { NAMED.put("Dry Brush", -0x1.012958p125F); LIST.add(-0x1.012958p125F); }
 
     /**
      * This color constant "Mush" has RGBA8888 code {@code B1B10AFF}, hue 0.16666667, saturation 0.654902, lightness 0.36666664, and alpha 1.0.
@@ -2066,7 +1899,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUSH = -0x1.156362p125F;
-    static { NAMED.put("Mush", -0x1.156362p125F); LIST.add(-0x1.156362p125F); }
 
     /**
      * This color constant "Banana Pudding" has RGBA8888 code {@code E6D55AFF}, hue 0.14642859, saturation 0.5490196, lightness 0.627451, and alpha 1.0.
@@ -2078,7 +1910,6 @@ public class Palette {
      * </pre>
      */
     public static final float BANANA_PUDDING = -0x1.b5abccp125F;
-    static { NAMED.put("Banana Pudding", -0x1.b5abccp125F); LIST.add(-0x1.b5abccp125F); }
 
     /**
      * This color constant "Saffron" has RGBA8888 code {@code FFD510FF}, hue 0.13737796, saturation 0.9372549, lightness 0.53137255, and alpha 1.0.
@@ -2090,7 +1921,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAFFRON = -0x1.21abfep125F;
-    static { NAMED.put("Saffron", -0x1.21abfep125F); LIST.add(-0x1.21abfep125F); }
 
     /**
      * This color constant "Pencil Yellow" has RGBA8888 code {@code FFEA4AFF}, hue 0.14732964, saturation 0.70980394, lightness 0.64509803, and alpha 1.0.
@@ -2102,7 +1932,6 @@ public class Palette {
      * </pre>
      */
     public static final float PENCIL_YELLOW = -0x1.95d5fep125F;
-    static { NAMED.put("Pencil Yellow", -0x1.95d5fep125F); LIST.add(-0x1.95d5fep125F); }
 
     /**
      * This color constant "Chartreuse" has RGBA8888 code {@code C8FF41FF}, hue 0.21491227, saturation 0.745098, lightness 0.627451, and alpha 1.0.
@@ -2114,7 +1943,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHARTREUSE = -0x1.83ff9p125F;
-    static { NAMED.put("Chartreuse", -0x1.83ff9p125F); LIST.add(-0x1.83ff9p125F); }
 
     /**
      * This color constant "Absinthe" has RGBA8888 code {@code 9BF046FF}, hue 0.25, saturation 0.6666666, lightness 0.60784316, and alpha 1.0.
@@ -2126,7 +1954,6 @@ public class Palette {
      * </pre>
      */
     public static final float ABSINTHE = -0x1.8de136p125F;
-    static { NAMED.put("Absinthe", -0x1.8de136p125F); LIST.add(-0x1.8de136p125F); }
 
     /**
      * This color constant "Infection" has RGBA8888 code {@code 96DC19FF}, hue 0.22649574, saturation 0.7647059, lightness 0.48039216, and alpha 1.0.
@@ -2138,7 +1965,6 @@ public class Palette {
      * </pre>
      */
     public static final float INFECTION = -0x1.33b92cp125F;
-    static { NAMED.put("Infection", -0x1.33b92cp125F); LIST.add(-0x1.33b92cp125F); }
 
     /**
      * This color constant "Frog Green" has RGBA8888 code {@code 73C805FF}, hue 0.23931625, saturation 0.7647059, lightness 0.4019608, and alpha 1.0.
@@ -2150,7 +1976,6 @@ public class Palette {
      * </pre>
      */
     public static final float FROG_GREEN = -0x1.0b90e6p125F;
-    static { NAMED.put("Frog Green", -0x1.0b90e6p125F); LIST.add(-0x1.0b90e6p125F); }
 
     /**
      * This color constant "Avocado" has RGBA8888 code {@code 6AA805FF}, hue 0.23006135, saturation 0.6392157, lightness 0.3392157, and alpha 1.0.
@@ -2162,7 +1987,6 @@ public class Palette {
      * </pre>
      */
     public static final float AVOCADO = -0x1.0b50d4p125F;
-    static { NAMED.put("Avocado", -0x1.0b50d4p125F); LIST.add(-0x1.0b50d4p125F); }
 
     /**
      * This color constant "Woodlands" has RGBA8888 code {@code 3C6E14FF}, hue 0.25925928, saturation 0.3529412, lightness 0.25490198, and alpha 1.0.
@@ -2174,7 +1998,6 @@ public class Palette {
      * </pre>
      */
     public static final float WOODLANDS = -0x1.28dc78p125F;
-    static { NAMED.put("Woodlands", -0x1.28dc78p125F); LIST.add(-0x1.28dc78p125F); }
 
     /**
      * This color constant "Dark Pine" has RGBA8888 code {@code 283405FF}, hue 0.20921987, saturation 0.18431373, lightness 0.11176471, and alpha 1.0.
@@ -2186,7 +2009,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_PINE = -0x1.0a685p125F;
-    static { NAMED.put("Dark Pine", -0x1.0a685p125F); LIST.add(-0x1.0a685p125F); }
 
     /**
      * This color constant "Moss Green" has RGBA8888 code {@code 204608FF}, hue 0.26881722, saturation 0.24313727, lightness 0.15294118, and alpha 1.0.
@@ -2198,7 +2020,6 @@ public class Palette {
      * </pre>
      */
     public static final float MOSS_GREEN = -0x1.108c4p125F;
-    static { NAMED.put("Moss Green", -0x1.108c4p125F); LIST.add(-0x1.108c4p125F); }
 
     /**
      * This color constant "Fern Green" has RGBA8888 code {@code 0C5C0CFF}, hue 0.33333334, saturation 0.3137255, lightness 0.20392157, and alpha 1.0.
@@ -2210,7 +2031,6 @@ public class Palette {
      * </pre>
      */
     public static final float FERN_GREEN = -0x1.18b818p125F;
-    static { NAMED.put("Fern Green", -0x1.18b818p125F); LIST.add(-0x1.18b818p125F); }
 
     /**
      * This color constant "Forest Glen" has RGBA8888 code {@code 149605FF}, hue 0.31609195, saturation 0.5686275, lightness 0.30392158, and alpha 1.0.
@@ -2222,7 +2042,6 @@ public class Palette {
      * </pre>
      */
     public static final float FOREST_GLEN = -0x1.0b2c28p125F;
-    static { NAMED.put("Forest Glen", -0x1.0b2c28p125F); LIST.add(-0x1.0b2c28p125F); }
 
     /**
      * This color constant "Malachite" has RGBA8888 code {@code 0AD70AFF}, hue 0.33333334, saturation 0.8039216, lightness 0.44117647, and alpha 1.0.
@@ -2234,7 +2053,6 @@ public class Palette {
      * </pre>
      */
     public static final float MALACHITE = -0x1.15ae14p125F;
-    static { NAMED.put("Malachite", -0x1.15ae14p125F); LIST.add(-0x1.15ae14p125F); }
 
     /**
      * This color constant "Apple Green" has RGBA8888 code {@code 14E60AFF}, hue 0.3257576, saturation 0.8627451, lightness 0.47058824, and alpha 1.0.
@@ -2246,7 +2064,6 @@ public class Palette {
      * </pre>
      */
     public static final float APPLE_GREEN = -0x1.15cc28p125F;
-    static { NAMED.put("Apple Green", -0x1.15cc28p125F); LIST.add(-0x1.15cc28p125F); }
 
     /**
      * This color constant "Celery" has RGBA8888 code {@code 7DFF73FF}, hue 0.32142857, saturation 0.5490196, lightness 0.7254902, and alpha 1.0.
@@ -2258,7 +2075,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELERY = -0x1.e7fefap125F;
-    static { NAMED.put("Celery", -0x1.e7fefap125F); LIST.add(-0x1.e7fefap125F); }
 
     /**
      * This color constant "Mint Green" has RGBA8888 code {@code 4BF05AFF}, hue 0.34848484, saturation 0.64705884, lightness 0.61764705, and alpha 1.0.
@@ -2270,7 +2086,6 @@ public class Palette {
      * </pre>
      */
     public static final float MINT_GREEN = -0x1.b5e096p125F;
-    static { NAMED.put("Mint Green", -0x1.b5e096p125F); LIST.add(-0x1.b5e096p125F); }
 
     /**
      * This color constant "Emerald" has RGBA8888 code {@code 00C514FF}, hue 0.35025382, saturation 0.77254903, lightness 0.38627452, and alpha 1.0.
@@ -2282,7 +2097,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMERALD = -0x1.298ap125F;
-    static { NAMED.put("Emerald", -0x1.298ap125F); LIST.add(-0x1.298ap125F); }
 
     /**
      * This color constant "Prase" has RGBA8888 code {@code 05B450FF}, hue 0.4047619, saturation 0.6862745, lightness 0.3627451, and alpha 1.0.
@@ -2294,7 +2108,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRASE = -0x1.a1680ap125F;
-    static { NAMED.put("Prase", -0x1.a1680ap125F); LIST.add(-0x1.a1680ap125F); }
 
     /**
      * This color constant "Eucalyptus" has RGBA8888 code {@code 1C8C4EFF}, hue 0.4077381, saturation 0.43921572, lightness 0.3294118, and alpha 1.0.
@@ -2306,7 +2119,6 @@ public class Palette {
      * </pre>
      */
     public static final float EUCALYPTUS = -0x1.9d1838p125F;
-    static { NAMED.put("Eucalyptus", -0x1.9d1838p125F); LIST.add(-0x1.9d1838p125F); }
 
     /**
      * This color constant "Zucchini" has RGBA8888 code {@code 123832FF}, hue 0.47368422, saturation 0.1490196, lightness 0.14509803, and alpha 1.0.
@@ -2318,7 +2130,6 @@ public class Palette {
      * </pre>
      */
     public static final float ZUCCHINI = -0x1.647024p125F;
-    static { NAMED.put("Zucchini", -0x1.647024p125F); LIST.add(-0x1.647024p125F); }
 
     /**
      * This color constant "Soft Teal" has RGBA8888 code {@code 129880FF}, hue 0.47014928, saturation 0.5254902, lightness 0.33333334, and alpha 1.0.
@@ -2330,7 +2141,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOFT_TEAL = -0x1.013024p126F;
-    static { NAMED.put("Soft Teal", -0x1.013024p126F); LIST.add(-0x1.013024p126F); }
 
     /**
      * This color constant "Medium Teal" has RGBA8888 code {@code 06C491FF}, hue 0.45526317, saturation 0.74509805, lightness 0.39607844, and alpha 1.0.
@@ -2342,7 +2152,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_TEAL = -0x1.23880cp126F;
-    static { NAMED.put("Medium Teal", -0x1.23880cp126F); LIST.add(-0x1.23880cp126F); }
 
     /**
      * This color constant "Spring Green" has RGBA8888 code {@code 00DE6AFF}, hue 0.41291294, saturation 0.87058824, lightness 0.43529412, and alpha 1.0.
@@ -2354,7 +2163,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPRING_GREEN = -0x1.d5bcp125F;
-    static { NAMED.put("Spring Green", -0x1.d5bcp125F); LIST.add(-0x1.d5bcp125F); }
 
     /**
      * This color constant "Turquoise" has RGBA8888 code {@code 2DEBA8FF}, hue 0.4412281, saturation 0.74509805, lightness 0.5490196, and alpha 1.0.
@@ -2366,7 +2174,6 @@ public class Palette {
      * </pre>
      */
     public static final float TURQUOISE = -0x1.51d65ap126F;
-    static { NAMED.put("Turquoise", -0x1.51d65ap126F); LIST.add(-0x1.51d65ap126F); }
 
     /**
      * This color constant "Seafoam" has RGBA8888 code {@code 3CFEA5FF}, hue 0.42353952, saturation 0.7607843, lightness 0.6156863, and alpha 1.0.
@@ -2378,7 +2185,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAFOAM = -0x1.4bfc78p126F;
-    static { NAMED.put("Seafoam", -0x1.4bfc78p126F); LIST.add(-0x1.4bfc78p126F); }
 
     /**
      * This color constant "Variscite" has RGBA8888 code {@code 6AFFCDFF}, hue 0.4440716, saturation 0.58431375, lightness 0.7078431, and alpha 1.0.
@@ -2390,7 +2196,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARISCITE = -0x1.9bfed4p126F;
-    static { NAMED.put("Variscite", -0x1.9bfed4p126F); LIST.add(-0x1.9bfed4p126F); }
 
     /**
      * This color constant "Refreshing Mist" has RGBA8888 code {@code 91EBFFFF}, hue 0.53030306, saturation 0.43137252, lightness 0.78431374, and alpha 1.0.
@@ -2402,7 +2207,6 @@ public class Palette {
      * </pre>
      */
     public static final float REFRESHING_MIST = -0x1.ffd722p126F;
-    static { NAMED.put("Refreshing Mist", -0x1.ffd722p126F); LIST.add(-0x1.ffd722p126F); }
 
     /**
      * This color constant "Shining Sky" has RGBA8888 code {@code 55E6FFFF}, hue 0.5245098, saturation 0.6666666, lightness 0.6666667, and alpha 1.0.
@@ -2414,7 +2218,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHINING_SKY = -0x1.ffccaap126F;
-    static { NAMED.put("Shining Sky", -0x1.ffccaap126F); LIST.add(-0x1.ffccaap126F); }
 
     /**
      * This color constant "Steam" has RGBA8888 code {@code 7DD7F0FF}, hue 0.5362319, saturation 0.4509804, lightness 0.7156863, and alpha 1.0.
@@ -2426,7 +2229,6 @@ public class Palette {
      * </pre>
      */
     public static final float STEAM = -0x1.e1aefap126F;
-    static { NAMED.put("Steam", -0x1.e1aefap126F); LIST.add(-0x1.e1aefap126F); }
 
     /**
      * This color constant "Robin Egg Blue" has RGBA8888 code {@code 08DED5FF}, hue 0.49299067, saturation 0.8392157, lightness 0.4509804, and alpha 1.0.
@@ -2438,7 +2240,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROBIN_EGG_BLUE = -0x1.abbc1p126F;
-    static { NAMED.put("Robin Egg Blue", -0x1.abbc1p126F); LIST.add(-0x1.abbc1p126F); }
 
     /**
      * This color constant "Denim Blue" has RGBA8888 code {@code 109CDEFF}, hue 0.5533981, saturation 0.80784315, lightness 0.46666664, and alpha 1.0.
@@ -2450,7 +2251,6 @@ public class Palette {
      * </pre>
      */
     public static final float DENIM_BLUE = -0x1.bd382p126F;
-    static { NAMED.put("Denim Blue", -0x1.bd382p126F); LIST.add(-0x1.bd382p126F); }
 
     /**
      * This color constant "Deep Teal" has RGBA8888 code {@code 055A5CFF}, hue 0.50383145, saturation 0.34117648, lightness 0.19019607, and alpha 1.0.
@@ -2462,7 +2262,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_TEAL = -0x1.b8b40ap125F;
-    static { NAMED.put("Deep Teal", -0x1.b8b40ap125F); LIST.add(-0x1.b8b40ap125F); }
 
     /**
      * This color constant "Navy Blue" has RGBA8888 code {@code 162C52FF}, hue 0.6055556, saturation 0.23529413, lightness 0.20392157, and alpha 1.0.
@@ -2474,7 +2273,6 @@ public class Palette {
      * </pre>
      */
     public static final float NAVY_BLUE = -0x1.a4582cp125F;
-    static { NAMED.put("Navy Blue", -0x1.a4582cp125F); LIST.add(-0x1.a4582cp125F); }
 
     /**
      * This color constant "Blueberry" has RGBA8888 code {@code 0F377DFF}, hue 0.6060606, saturation 0.43137255, lightness 0.27450982, and alpha 1.0.
@@ -2486,7 +2284,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUEBERRY = -0x1.fa6e1ep125F;
-    static { NAMED.put("Blueberry", -0x1.fa6e1ep125F); LIST.add(-0x1.fa6e1ep125F); }
 
     /**
      * This color constant "Prussian Blue" has RGBA8888 code {@code 004A9CFF}, hue 0.58760685, saturation 0.6117647, lightness 0.30588236, and alpha 1.0.
@@ -2498,7 +2295,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUSSIAN_BLUE = -0x1.3894p126F;
-    static { NAMED.put("Prussian Blue", -0x1.3894p126F); LIST.add(-0x1.3894p126F); }
 
     /**
      * This color constant "Desert Rain" has RGBA8888 code {@code 326496FF}, hue 0.5833334, saturation 0.3921569, lightness 0.39215687, and alpha 1.0.
@@ -2510,7 +2306,6 @@ public class Palette {
      * </pre>
      */
     public static final float DESERT_RAIN = -0x1.2cc864p126F;
-    static { NAMED.put("Desert Rain", -0x1.2cc864p126F); LIST.add(-0x1.2cc864p126F); }
 
     /**
      * This color constant "Electric Blue" has RGBA8888 code {@code 0052F6FF}, hue 0.6111111, saturation 0.9647059, lightness 0.48235294, and alpha 1.0.
@@ -2522,7 +2317,6 @@ public class Palette {
      * </pre>
      */
     public static final float ELECTRIC_BLUE = -0x1.eca4p126F;
-    static { NAMED.put("Electric Blue", -0x1.eca4p126F); LIST.add(-0x1.eca4p126F); }
 
     /**
      * This color constant "Hidden Blue" has RGBA8888 code {@code 186ABDFF}, hue 0.5838384, saturation 0.64705884, lightness 0.41764706, and alpha 1.0.
@@ -2534,7 +2328,6 @@ public class Palette {
      * </pre>
      */
     public static final float HIDDEN_BLUE = -0x1.7ad43p126F;
-    static { NAMED.put("Hidden Blue", -0x1.7ad43p126F); LIST.add(-0x1.7ad43p126F); }
 
     /**
      * This color constant "Dull Azure" has RGBA8888 code {@code 2378DCFF}, hue 0.5900901, saturation 0.7254902, lightness 0.5, and alpha 1.0.
@@ -2546,7 +2339,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_AZURE = -0x1.b8f046p126F;
-    static { NAMED.put("Dull Azure", -0x1.b8f046p126F); LIST.add(-0x1.b8f046p126F); }
 
     /**
      * This color constant "Ripped Denim" has RGBA8888 code {@code 699DC3FF}, hue 0.5703704, saturation 0.3529412, lightness 0.5882353, and alpha 1.0.
@@ -2558,7 +2350,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPPED_DENIM = -0x1.873ad2p126F;
-    static { NAMED.put("Ripped Denim", -0x1.873ad2p126F); LIST.add(-0x1.873ad2p126F); }
 
     /**
      * This color constant "Calm Sky" has RGBA8888 code {@code 4AA4FFFF}, hue 0.58379376, saturation 0.70980394, lightness 0.64509803, and alpha 1.0.
@@ -2570,7 +2361,6 @@ public class Palette {
      * </pre>
      */
     public static final float CALM_SKY = -0x1.ff4894p126F;
-    static { NAMED.put("Calm Sky", -0x1.ff4894p126F); LIST.add(-0x1.ff4894p126F); }
 
     /**
      * This color constant "Vapor" has RGBA8888 code {@code 90B0FFFF}, hue 0.6186186, saturation 0.4352941, lightness 0.7823529, and alpha 1.0.
@@ -2582,7 +2372,6 @@ public class Palette {
      * </pre>
      */
     public static final float VAPOR = -0x1.ff612p126F;
-    static { NAMED.put("Vapor", -0x1.ff612p126F); LIST.add(-0x1.ff612p126F); }
 
     /**
      * This color constant "Powder Blue" has RGBA8888 code {@code 5AC5FFFF}, hue 0.5585859, saturation 0.64705884, lightness 0.6764706, and alpha 1.0.
@@ -2594,7 +2383,6 @@ public class Palette {
      * </pre>
      */
     public static final float POWDER_BLUE = -0x1.ff8ab4p126F;
-    static { NAMED.put("Powder Blue", -0x1.ff8ab4p126F); LIST.add(-0x1.ff8ab4p126F); }
 
     /**
      * This color constant "Suds" has RGBA8888 code {@code BEB9FAFF}, hue 0.6794872, saturation 0.25490195, lightness 0.85294116, and alpha 1.0.
@@ -2606,7 +2394,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUDS = -0x1.f5737cp126F;
-    static { NAMED.put("Suds", -0x1.f5737cp126F); LIST.add(-0x1.f5737cp126F); }
 
     /**
      * This color constant "Strong Cyan" has RGBA8888 code {@code 00BFFFFF}, hue 0.54183006, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -2618,7 +2405,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRONG_CYAN = -0x1.ff7ep126F;
-    static { NAMED.put("Strong Cyan", -0x1.ff7ep126F); LIST.add(-0x1.ff7ep126F); }
 
     /**
      * This color constant "Sharp Azure" has RGBA8888 code {@code 007FFFFF}, hue 0.5836601, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -2630,7 +2416,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHARP_AZURE = -0x1.fefep126F;
-    static { NAMED.put("Sharp Azure", -0x1.fefep126F); LIST.add(-0x1.fefep126F); }
 
     /**
      * This color constant "Blue Eye" has RGBA8888 code {@code 4B7DC8FF}, hue 0.6, saturation 0.49019608, lightness 0.5392157, and alpha 1.0.
@@ -2642,7 +2427,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_EYE = -0x1.90fa96p126F;
-    static { NAMED.put("Blue Eye", -0x1.90fa96p126F); LIST.add(-0x1.90fa96p126F); }
 
     /**
      * This color constant "Subtlety" has RGBA8888 code {@code 786EF0FF}, hue 0.6794872, saturation 0.5098039, lightness 0.6862745, and alpha 1.0.
@@ -2654,7 +2438,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUBTLETY = -0x1.e0dcfp126F;
-    static { NAMED.put("Subtlety", -0x1.e0dcfp126F); LIST.add(-0x1.e0dcfp126F); }
 
     /**
      * This color constant "Rough Sapphire" has RGBA8888 code {@code 4A5AFFFF}, hue 0.6519337, saturation 0.70980394, lightness 0.64509803, and alpha 1.0.
@@ -2666,7 +2449,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROUGH_SAPPHIRE = -0x1.feb494p126F;
-    static { NAMED.put("Rough Sapphire", -0x1.feb494p126F); LIST.add(-0x1.feb494p126F); }
 
     /**
      * This color constant "Iris" has RGBA8888 code {@code 6241F6FF}, hue 0.69705343, saturation 0.70980394, lightness 0.6098039, and alpha 1.0.
@@ -2678,7 +2460,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRIS = -0x1.ec82c4p126F;
-    static { NAMED.put("Iris", -0x1.ec82c4p126F); LIST.add(-0x1.ec82c4p126F); }
 
     /**
      * This color constant "Cornflower Blue" has RGBA8888 code {@code 3C3CF5FF}, hue 0.6666667, saturation 0.7254902, lightness 0.5980392, and alpha 1.0.
@@ -2690,7 +2471,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORNFLOWER_BLUE = -0x1.ea7878p126F;
-    static { NAMED.put("Cornflower Blue", -0x1.ea7878p126F); LIST.add(-0x1.ea7878p126F); }
 
     /**
      * This color constant "Polished Sapphire" has RGBA8888 code {@code 101CDAFF}, hue 0.6567657, saturation 0.7921569, lightness 0.45882356, and alpha 1.0.
@@ -2702,7 +2482,6 @@ public class Palette {
      * </pre>
      */
     public static final float POLISHED_SAPPHIRE = -0x1.b4382p126F;
-    static { NAMED.put("Polished Sapphire", -0x1.b4382p126F); LIST.add(-0x1.b4382p126F); }
 
     /**
      * This color constant "Royal Blue" has RGBA8888 code {@code 0010BDFF}, hue 0.6525573, saturation 0.7411765, lightness 0.37058824, and alpha 1.0.
@@ -2714,7 +2493,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_BLUE = -0x1.7a2p126F;
-    static { NAMED.put("Royal Blue", -0x1.7a2p126F); LIST.add(-0x1.7a2p126F); }
 
     /**
      * This color constant "Indigo" has RGBA8888 code {@code 231094FF}, hue 0.6906566, saturation 0.5176471, lightness 0.3215686, and alpha 1.0.
@@ -2726,7 +2504,6 @@ public class Palette {
      * </pre>
      */
     public static final float INDIGO = -0x1.282046p126F;
-    static { NAMED.put("Indigo", -0x1.282046p126F); LIST.add(-0x1.282046p126F); }
 
     /**
      * This color constant "Space Blue" has RGBA8888 code {@code 0C2148FF}, hue 0.60833335, saturation 0.23529413, lightness 0.16470589, and alpha 1.0.
@@ -2738,7 +2515,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPACE_BLUE = -0x1.904218p125F;
-    static { NAMED.put("Space Blue", -0x1.904218p125F); LIST.add(-0x1.904218p125F); }
 
     /**
      * This color constant "Thick Amethyst" has RGBA8888 code {@code 5010B0FF}, hue 0.73333335, saturation 0.627451, lightness 0.37647057, and alpha 1.0.
@@ -2750,7 +2526,6 @@ public class Palette {
      * </pre>
      */
     public static final float THICK_AMETHYST = -0x1.6020ap126F;
-    static { NAMED.put("Thick Amethyst", -0x1.6020ap126F); LIST.add(-0x1.6020ap126F); }
 
     /**
      * This color constant "Juicy Grape" has RGBA8888 code {@code 6010D0FF}, hue 0.7361111, saturation 0.7529412, lightness 0.43921572, and alpha 1.0.
@@ -2762,7 +2537,6 @@ public class Palette {
      * </pre>
      */
     public static final float JUICY_GRAPE = -0x1.a020cp126F;
-    static { NAMED.put("Juicy Grape", -0x1.a020cp126F); LIST.add(-0x1.a020cp126F); }
 
     /**
      * This color constant "Blacklight Glow" has RGBA8888 code {@code 8732D2FF}, hue 0.7552084, saturation 0.627451, lightness 0.50980395, and alpha 1.0.
@@ -2774,7 +2548,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACKLIGHT_GLOW = -0x1.a4650ep126F;
-    static { NAMED.put("Blacklight Glow", -0x1.a4650ep126F); LIST.add(-0x1.a4650ep126F); }
 
     /**
      * This color constant "Purple Freesia" has RGBA8888 code {@code 9C41FFFF}, hue 0.74649125, saturation 0.745098, lightness 0.627451, and alpha 1.0.
@@ -2786,7 +2559,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE_FREESIA = -0x1.fe8338p126F;
-    static { NAMED.put("Purple Freesia", -0x1.fe8338p126F); LIST.add(-0x1.fe8338p126F); }
 
     /**
      * This color constant "Thin Amethyst" has RGBA8888 code {@code 7F00FFFF}, hue 0.74967325, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -2798,7 +2570,6 @@ public class Palette {
      * </pre>
      */
     public static final float THIN_AMETHYST = -0x1.fe00fep126F;
-    static { NAMED.put("Thin Amethyst", -0x1.fe00fep126F); LIST.add(-0x1.fe00fep126F); }
 
     /**
      * This color constant "Orchid" has RGBA8888 code {@code BD62FFFF}, hue 0.76326966, saturation 0.6156863, lightness 0.69215685, and alpha 1.0.
@@ -2810,7 +2581,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORCHID = -0x1.fec57ap126F;
-    static { NAMED.put("Orchid", -0x1.fec57ap126F); LIST.add(-0x1.fec57ap126F); }
 
     /**
      * This color constant "Lavender" has RGBA8888 code {@code B991FFFF}, hue 0.72727275, saturation 0.43137252, lightness 0.78431374, and alpha 1.0.
@@ -2822,7 +2592,6 @@ public class Palette {
      * </pre>
      */
     public static final float LAVENDER = -0x1.ff2372p126F;
-    static { NAMED.put("Lavender", -0x1.ff2372p126F); LIST.add(-0x1.ff2372p126F); }
 
     /**
      * This color constant "Lilac" has RGBA8888 code {@code D7A5FFFF}, hue 0.7592593, saturation 0.35294116, lightness 0.8235294, and alpha 1.0.
@@ -2834,7 +2603,6 @@ public class Palette {
      * </pre>
      */
     public static final float LILAC = -0x1.ff4baep126F;
-    static { NAMED.put("Lilac", -0x1.ff4baep126F); LIST.add(-0x1.ff4baep126F); }
 
     /**
      * This color constant "Soap" has RGBA8888 code {@code D7C3FAFF}, hue 0.72727275, saturation 0.21568626, lightness 0.872549, and alpha 1.0.
@@ -2846,7 +2614,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOAP = -0x1.f587aep126F;
-    static { NAMED.put("Soap", -0x1.f587aep126F); LIST.add(-0x1.f587aep126F); }
 
     /**
      * This color constant "Pink Tutu" has RGBA8888 code {@code F8C6FCFF}, hue 0.8209877, saturation 0.2117647, lightness 0.88235295, and alpha 1.0.
@@ -2858,7 +2625,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_TUTU = -0x1.f98dfp126F;
-    static { NAMED.put("Pink Tutu", -0x1.f98dfp126F); LIST.add(-0x1.f98dfp126F); }
 
     /**
      * This color constant "Thistle" has RGBA8888 code {@code E673FFFF}, hue 0.80357146, saturation 0.5490196, lightness 0.7254902, and alpha 1.0.
@@ -2870,7 +2636,6 @@ public class Palette {
      * </pre>
      */
     public static final float THISTLE = -0x1.fee7ccp126F;
-    static { NAMED.put("Thistle", -0x1.fee7ccp126F); LIST.add(-0x1.fee7ccp126F); }
 
     /**
      * This color constant "Heliotrope" has RGBA8888 code {@code FF52FFFF}, hue 0.8333333, saturation 0.6784314, lightness 0.6607843, and alpha 1.0.
@@ -2882,7 +2647,6 @@ public class Palette {
      * </pre>
      */
     public static final float HELIOTROPE = -0x1.fea5fep126F;
-    static { NAMED.put("Heliotrope", -0x1.fea5fep126F); LIST.add(-0x1.fea5fep126F); }
 
     /**
      * This color constant "Purple" has RGBA8888 code {@code DA20E0FF}, hue 0.828125, saturation 0.7529412, lightness 0.50196075, and alpha 1.0.
@@ -2894,7 +2658,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE = -0x1.c041b4p126F;
-    static { NAMED.put("Purple", -0x1.c041b4p126F); LIST.add(-0x1.c041b4p126F); }
 
     /**
      * This color constant "Wisteria" has RGBA8888 code {@code BD29FFFF}, hue 0.7819315, saturation 0.8392157, lightness 0.5803921, and alpha 1.0.
@@ -2906,7 +2669,6 @@ public class Palette {
      * </pre>
      */
     public static final float WISTERIA = -0x1.fe537ap126F;
-    static { NAMED.put("Wisteria", -0x1.fe537ap126F); LIST.add(-0x1.fe537ap126F); }
 
     /**
      * This color constant "Medium Plum" has RGBA8888 code {@code BD10C5FF}, hue 0.8259669, saturation 0.70980394, lightness 0.41764706, and alpha 1.0.
@@ -2918,7 +2680,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_PLUM = -0x1.8a217ap126F;
-    static { NAMED.put("Medium Plum", -0x1.8a217ap126F); LIST.add(-0x1.8a217ap126F); }
 
     /**
      * This color constant "Violet" has RGBA8888 code {@code 8C14BEFF}, hue 0.78431374, saturation 0.6666667, lightness 0.41176474, and alpha 1.0.
@@ -2930,7 +2691,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET = -0x1.7c2918p126F;
-    static { NAMED.put("Violet", -0x1.7c2918p126F); LIST.add(-0x1.7c2918p126F); }
 
     /**
      * This color constant "Grape Lollipop" has RGBA8888 code {@code 5A187BFF}, hue 0.7777778, saturation 0.3882353, lightness 0.2882353, and alpha 1.0.
@@ -2942,7 +2702,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_LOLLIPOP = -0x1.f630b4p125F;
-    static { NAMED.put("Grape Lollipop", -0x1.f630b4p125F); LIST.add(-0x1.f630b4p125F); }
 
     /**
      * This color constant "Mulberry" has RGBA8888 code {@code 641464FF}, hue 0.8333334, saturation 0.3137255, lightness 0.23529413, and alpha 1.0.
@@ -2954,7 +2713,6 @@ public class Palette {
      * </pre>
      */
     public static final float MULBERRY = -0x1.c828c8p125F;
-    static { NAMED.put("Mulberry", -0x1.c828c8p125F); LIST.add(-0x1.c828c8p125F); }
 
     /**
      * This color constant "Grape Soda" has RGBA8888 code {@code 410062FF}, hue 0.7772109, saturation 0.38431373, lightness 0.19215687, and alpha 1.0.
@@ -2966,7 +2724,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_SODA = -0x1.c40082p125F;
-    static { NAMED.put("Grape Soda", -0x1.c40082p125F); LIST.add(-0x1.c40082p125F); }
 
     /**
      * This color constant "Eggplant" has RGBA8888 code {@code 320A46FF}, hue 0.7777778, saturation 0.23529413, lightness 0.15686275, and alpha 1.0.
@@ -2978,7 +2735,6 @@ public class Palette {
      * </pre>
      */
     public static final float EGGPLANT = -0x1.8c1464p125F;
-    static { NAMED.put("Eggplant", -0x1.8c1464p125F); LIST.add(-0x1.8c1464p125F); }
 
     /**
      * This color constant "Cherry Syrup" has RGBA8888 code {@code 551937FF}, hue 0.9166667, saturation 0.23529413, lightness 0.21568629, and alpha 1.0.
@@ -2990,7 +2746,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHERRY_SYRUP = -0x1.6e32aap125F;
-    static { NAMED.put("Cherry Syrup", -0x1.6e32aap125F); LIST.add(-0x1.6e32aap125F); }
 
     /**
      * This color constant "Plum Juice" has RGBA8888 code {@code A01982FF}, hue 0.8703704, saturation 0.5294118, lightness 0.3627451, and alpha 1.0.
@@ -3002,7 +2757,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLUM_JUICE = -0x1.04334p126F;
-    static { NAMED.put("Plum Juice", -0x1.04334p126F); LIST.add(-0x1.04334p126F); }
 
     /**
      * This color constant "Fruit Punch" has RGBA8888 code {@code C80078FF}, hue 0.9, saturation 0.78431374, lightness 0.39215687, and alpha 1.0.
@@ -3014,7 +2768,6 @@ public class Palette {
      * </pre>
      */
     public static final float FRUIT_PUNCH = -0x1.f0019p125F;
-    static { NAMED.put("Fruit Punch", -0x1.f0019p125F); LIST.add(-0x1.f0019p125F); }
 
     /**
      * This color constant "Bubble Gum" has RGBA8888 code {@code FF50BFFF}, hue 0.89428574, saturation 0.6862745, lightness 0.65686274, and alpha 1.0.
@@ -3026,7 +2779,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE_GUM = -0x1.7ea1fep126F;
-    static { NAMED.put("Bubble Gum", -0x1.7ea1fep126F); LIST.add(-0x1.7ea1fep126F); }
 
     /**
      * This color constant "Pink Lemonade" has RGBA8888 code {@code FF6AC5FF}, hue 0.8982103, saturation 0.58431375, lightness 0.7078431, and alpha 1.0.
@@ -3038,7 +2790,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_LEMONADE = -0x1.8ad5fep126F;
-    static { NAMED.put("Pink Lemonade", -0x1.8ad5fep126F); LIST.add(-0x1.8ad5fep126F); }
 
     /**
      * This color constant "Shrimp" has RGBA8888 code {@code FAA0B9FF}, hue 0.9537037, saturation 0.35294116, lightness 0.8039216, and alpha 1.0.
@@ -3050,7 +2801,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHRIMP = -0x1.7341f4p126F;
-    static { NAMED.put("Shrimp", -0x1.7341f4p126F); LIST.add(-0x1.7341f4p126F); }
 
     /**
      * This color constant "Flamingo" has RGBA8888 code {@code FC3A8CFF}, hue 0.9295533, saturation 0.7607843, lightness 0.6078431, and alpha 1.0.
@@ -3062,7 +2812,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLAMINGO = -0x1.1875f8p126F;
-    static { NAMED.put("Flamingo", -0x1.1875f8p126F); LIST.add(-0x1.1875f8p126F); }
 
     /**
      * This color constant "Rose" has RGBA8888 code {@code E61E78FF}, hue 0.925, saturation 0.78431374, lightness 0.5098039, and alpha 1.0.
@@ -3074,7 +2823,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSE = -0x1.f03dccp125F;
-    static { NAMED.put("Rose", -0x1.f03dccp125F); LIST.add(-0x1.f03dccp125F); }
 
     /**
      * This color constant "Carmine" has RGBA8888 code {@code BD1039FF}, hue 0.96050096, saturation 0.6784314, lightness 0.40196076, and alpha 1.0.
@@ -3086,7 +2834,6 @@ public class Palette {
      * </pre>
      */
     public static final float CARMINE = -0x1.72217ap125F;
-    static { NAMED.put("Carmine", -0x1.72217ap125F); LIST.add(-0x1.72217ap125F); }
 
     /**
      * This color constant "Bologna" has RGBA8888 code {@code 98344DFF}, hue 0.9583333, saturation 0.3921569, lightness 0.39999998, and alpha 1.0.
@@ -3098,7 +2845,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOLOGNA = -0x1.9a693p125F;
-    static { NAMED.put("Bologna", -0x1.9a693p125F); LIST.add(-0x1.9a693p125F); }
 
     /**
      * This color constant "Raspberry" has RGBA8888 code {@code 911437FF}, hue 0.9533333, saturation 0.4901961, lightness 0.32352945, and alpha 1.0.
@@ -3110,8 +2856,83 @@ public class Palette {
      * </pre>
      */
     public static final float RASPBERRY = -0x1.6e2922p125F;
-    static { NAMED.put("Raspberry", -0x1.6e2922p125F); LIST.add(-0x1.6e2922p125F); }
     
+    static {
+        // the names and colors are in the same order as the constants above
+        final String[] names = {
+                "Transparent", "Black", "Coal Black", "Shadow", "Graphite", "Dark Gray", "Lead", "Iron", "Gray",
+                "Chinchilla", "Greyhound", "Silver", "Light Gray", "Platinum", "Cloud", "White", "Seawater",
+                "Hospital Green", "Cyan", "Bubble", "Periwinkle", "Blue", "Faded Blue", "Ocean Blue", "Stygian Blue",
+                "Deep Purple", "Tyrian Purple", "Magenta", "Bubblegum Pink", "Pork Chop", "Raw Meat", "Red", "Putty",
+                "Sienna", "Seal Brown", "Mummy Brown", "Fawn", "Orange", "Peach", "Cream", "Yellow", "Earwax", "Umber",
+                "Ivy Green", "Jade", "Green", "Celadon", "Puce", "Beige", "Wet Stone", "Slow Creek", "Slate Gray",
+                "Light Skin 1", "Light Skin 2", "Light Skin 3", "Light Skin 4", "Light Skin 5", "Light Skin 6",
+                "Light Skin 7", "Light Skin 8", "Light Skin 9", "Dark Skin 1", "Dark Skin 2", "Dark Skin 3",
+                "Pink Skin 1", "Pink Skin 2", "Pink Skin 3", "Pink Skin 4", "Bronze Skin 4", "Bronze Skin 3",
+                "Bronze Skin 2", "Bronze Skin 1", "Taupe", "Drab Green", "Lizard Scales", "Cricket", "Olive Oil", "Dun",
+                "Corn Silk", "Tan", "Straw", "Honeydew", "Tarnish", "Pea Soup", "Marsh", "Asparagus", "Peat Bog",
+                "Deep Jungle", "Pine Green", "Olive Green", "Gray Green", "Maidenhair Fern", "Kelly Green",
+                "Dusty Green", "Garter Snake", "Silver Green", "Pistachio", "Angel Wing", "Sage Green", "Dried Sage",
+                "Artichoke", "Viridian", "Floral Foam", "Hunter Green", "Dark Teal", "Kyanite", "Spearmint",
+                "Amazonite", "Pastel Sky", "Aquamarine", "Dust Bunny", "Patina", "Chipped Granite", "Blue Smoke",
+                "Air Force Blue", "Cold Iron", "Dreary Blue", "Murk", "Ninja", "Watercolor Black", "Iolite",
+                "Boysenberry", "Watercolor Gray", "Blue Steel", "Twilight Cloud", "Smog", "Tropic Mist", "Feather Down",
+                "Mild Violet", "Violet Cushions", "Dull Violet", "Royal Violet", "Eminence", "Prune", "Dusty Grape",
+                "Pink Violet", "Ripe Plum", "Mauve", "Ham", "Cotton Candy", "Silver Pink", "Tea Rose", "Old Rose",
+                "Dusty Pink", "Roseate Spoonbill", "Thulian Pink", "Brown Velvet", "Nightshade", "Scribe Ink",
+                "Varnish", "Cedar Wood", "Hot Sauce", "Lurid Red", "Brick", "Bright Red", "Embers", "Salmon",
+                "Taxicab Yellow", "Apricot", "Burnt Yellow", "Dry Pepper", "Redwood", "Koa", "Ochre", "Dull Green",
+                "Army Green", "Driftwood", "Dry Brush", "Mush", "Banana Pudding", "Saffron", "Pencil Yellow",
+                "Chartreuse", "Absinthe", "Infection", "Frog Green", "Avocado", "Woodlands", "Dark Pine", "Moss Green",
+                "Fern Green", "Forest Glen", "Malachite", "Apple Green", "Celery", "Mint Green", "Emerald", "Prase",
+                "Eucalyptus", "Zucchini", "Soft Teal", "Medium Teal", "Spring Green", "Turquoise", "Seafoam",
+                "Variscite", "Refreshing Mist", "Shining Sky", "Steam", "Robin Egg Blue", "Denim Blue", "Deep Teal",
+                "Navy Blue", "Blueberry", "Prussian Blue", "Desert Rain", "Electric Blue", "Hidden Blue", "Dull Azure",
+                "Ripped Denim", "Calm Sky", "Vapor", "Powder Blue", "Suds", "Strong Cyan", "Sharp Azure", "Blue Eye",
+                "Subtlety", "Rough Sapphire", "Iris", "Cornflower Blue", "Polished Sapphire", "Royal Blue", "Indigo",
+                "Space Blue", "Thick Amethyst", "Juicy Grape", "Blacklight Glow", "Purple Freesia", "Thin Amethyst",
+                "Orchid", "Lavender", "Lilac", "Soap", "Pink Tutu", "Thistle", "Heliotrope", "Purple", "Wisteria",
+                "Medium Plum", "Violet", "Grape Lollipop", "Mulberry", "Grape Soda", "Eggplant", "Cherry Syrup",
+                "Plum Juice", "Fruit Punch", "Bubble Gum", "Pink Lemonade", "Shrimp", "Flamingo", "Rose", "Carmine",
+                "Bologna", "Raspberry"
+        };
+        final float[] colors = {
+                TRANSPARENT, BLACK, COAL_BLACK, SHADOW, GRAPHITE, DARK_GRAY, LEAD, IRON, GRAY, CHINCHILLA, GREYHOUND,
+                SILVER, LIGHT_GRAY, PLATINUM, CLOUD, WHITE, SEAWATER, HOSPITAL_GREEN, CYAN, BUBBLE, PERIWINKLE, BLUE,
+                FADED_BLUE, OCEAN_BLUE, STYGIAN_BLUE, DEEP_PURPLE, TYRIAN_PURPLE, MAGENTA, BUBBLEGUM_PINK, PORK_CHOP,
+                RAW_MEAT, RED, PUTTY, SIENNA, SEAL_BROWN, MUMMY_BROWN, FAWN, ORANGE, PEACH, CREAM, YELLOW, EARWAX,
+                UMBER, IVY_GREEN, JADE, GREEN, CELADON, PUCE, BEIGE, WET_STONE, SLOW_CREEK, SLATE_GRAY, LIGHT_SKIN_1,
+                LIGHT_SKIN_2, LIGHT_SKIN_3, LIGHT_SKIN_4, LIGHT_SKIN_5, LIGHT_SKIN_6, LIGHT_SKIN_7, LIGHT_SKIN_8,
+                LIGHT_SKIN_9, DARK_SKIN_1, DARK_SKIN_2, DARK_SKIN_3, PINK_SKIN_1, PINK_SKIN_2, PINK_SKIN_3, PINK_SKIN_4,
+                BRONZE_SKIN_4, BRONZE_SKIN_3, BRONZE_SKIN_2, BRONZE_SKIN_1, TAUPE, DRAB_GREEN, LIZARD_SCALES, CRICKET,
+                OLIVE_OIL, DUN, CORN_SILK, TAN, STRAW, HONEYDEW, TARNISH, PEA_SOUP, MARSH, ASPARAGUS, PEAT_BOG,
+                DEEP_JUNGLE, PINE_GREEN, OLIVE_GREEN, GRAY_GREEN, MAIDENHAIR_FERN, KELLY_GREEN, DUSTY_GREEN,
+                GARTER_SNAKE, SILVER_GREEN, PISTACHIO, ANGEL_WING, SAGE_GREEN, DRIED_SAGE, ARTICHOKE, VIRIDIAN,
+                FLORAL_FOAM, HUNTER_GREEN, DARK_TEAL, KYANITE, SPEARMINT, AMAZONITE, PASTEL_SKY, AQUAMARINE, DUST_BUNNY,
+                PATINA, CHIPPED_GRANITE, BLUE_SMOKE, AIR_FORCE_BLUE, COLD_IRON, DREARY_BLUE, MURK, NINJA,
+                WATERCOLOR_BLACK, IOLITE, BOYSENBERRY, WATERCOLOR_GRAY, BLUE_STEEL, TWILIGHT_CLOUD, SMOG, TROPIC_MIST,
+                FEATHER_DOWN, MILD_VIOLET, VIOLET_CUSHIONS, DULL_VIOLET, ROYAL_VIOLET, EMINENCE, PRUNE, DUSTY_GRAPE,
+                PINK_VIOLET, RIPE_PLUM, MAUVE, HAM, COTTON_CANDY, SILVER_PINK, TEA_ROSE, OLD_ROSE, DUSTY_PINK,
+                ROSEATE_SPOONBILL, THULIAN_PINK, BROWN_VELVET, NIGHTSHADE, SCRIBE_INK, VARNISH, CEDAR_WOOD, HOT_SAUCE,
+                LURID_RED, BRICK, BRIGHT_RED, EMBERS, SALMON, TAXICAB_YELLOW, APRICOT, BURNT_YELLOW, DRY_PEPPER,
+                REDWOOD, KOA, OCHRE, DULL_GREEN, ARMY_GREEN, DRIFTWOOD, DRY_BRUSH, MUSH, BANANA_PUDDING, SAFFRON,
+                PENCIL_YELLOW, CHARTREUSE, ABSINTHE, INFECTION, FROG_GREEN, AVOCADO, WOODLANDS, DARK_PINE, MOSS_GREEN,
+                FERN_GREEN, FOREST_GLEN, MALACHITE, APPLE_GREEN, CELERY, MINT_GREEN, EMERALD, PRASE, EUCALYPTUS,
+                ZUCCHINI, SOFT_TEAL, MEDIUM_TEAL, SPRING_GREEN, TURQUOISE, SEAFOAM, VARISCITE, REFRESHING_MIST,
+                SHINING_SKY, STEAM, ROBIN_EGG_BLUE, DENIM_BLUE, DEEP_TEAL, NAVY_BLUE, BLUEBERRY, PRUSSIAN_BLUE,
+                DESERT_RAIN, ELECTRIC_BLUE, HIDDEN_BLUE, DULL_AZURE, RIPPED_DENIM, CALM_SKY, VAPOR, POWDER_BLUE, SUDS,
+                STRONG_CYAN, SHARP_AZURE, BLUE_EYE, SUBTLETY, ROUGH_SAPPHIRE, IRIS, CORNFLOWER_BLUE, POLISHED_SAPPHIRE,
+                ROYAL_BLUE, INDIGO, SPACE_BLUE, THICK_AMETHYST, JUICY_GRAPE, BLACKLIGHT_GLOW, PURPLE_FREESIA,
+                THIN_AMETHYST, ORCHID, LAVENDER, LILAC, SOAP, PINK_TUTU, THISTLE, HELIOTROPE, PURPLE, WISTERIA,
+                MEDIUM_PLUM, VIOLET, GRAPE_LOLLIPOP, MULBERRY, GRAPE_SODA, EGGPLANT, CHERRY_SYRUP, PLUM_JUICE,
+                FRUIT_PUNCH, BUBBLE_GUM, PINK_LEMONADE, SHRIMP, FLAMINGO, ROSE, CARMINE, BOLOGNA, RASPBERRY
+        };
+        LIST.addAll(colors);
+        for (int i = 0; i < names.length; i++) {
+            NAMED.put(names[i], colors[i]);
+        }
+    }
+
     /**
      * All names for colors in this palette, in alphabetical order. You can fetch the corresponding packed float color
      * by looking up a name in {@link #NAMED}.
@@ -3132,27 +2953,77 @@ public class Palette {
      */
     public static final ObjectList<String> NAMES_BY_LIGHTNESS = new ObjectList<>(NAMES);
     static {
-        NAMES_BY_HUE.sort(new Comparator<String>() {
-            public int compare(String o1, String o2) {
-                final float c1 = NAMED.get(o1), c2 = NAMED.get(o2);
-                if (ColorTools.alphaInt(c1) < 128) return -10000;
-                else if (ColorTools.alphaInt(c2) < 128) return 10000;
-                final float s1 = ColorTools.saturation(c1), s2 = ColorTools.saturation(c2);
-                if(s1 <= 0x1p-6f && s2 > 0x1p-6f)
-                    return -1000;
-                else if(s1 > 0x1p-6f && s2 <= 0x1p-6f)
-                    return 1000;
-                else if(s1 <= 0x1p-6f && s2 <= 0x1p-6f)
-                    return (int)Math.signum(ColorTools.lightness(c1) - ColorTools.lightness(c2));
-                else
-                    return 2 * (int)Math.signum(ColorTools.hue(c1) - ColorTools.hue(c2))
-                            + (int)Math.signum(ColorTools.lightness(c1) - ColorTools.lightness(c2));
-            }
-        });
-        NAMES_BY_LIGHTNESS.sort(new Comparator<String>() {
-            public int compare(String o1, String o2) {
-                return Float.compare(lightness(NAMED.get(o1)), lightness(NAMED.get(o2)));
-            }
+        // each color's sort keys are computed once here, instead of twice in every comparison
+        final int count = NAMES.size();
+        final ObjectIntMap<String> indices = new ObjectIntMap<>(count);
+        final int[] alphas = new int[count];
+        final float[] saturations = new float[count], hues = new float[count], lights = new float[count];
+        for (int i = 0; i < count; i++) {
+            final String name = NAMES.get(i);
+            final float color = NAMED.get(name);
+            indices.put(name, i);
+            alphas[i] = ColorTools.alphaInt(color);
+            saturations[i] = ColorTools.saturation(color);
+            hues[i] = ColorTools.hue(color);
+            lights[i] = ColorTools.lightness(color);
+        }
+        NAMES_BY_HUE.sort((o1, o2) -> {
+            final int i1 = indices.get(o1), i2 = indices.get(o2);
+            if(alphas[i1] < 128) return -10000;
+            else if(alphas[i2] < 128) return 10000;
+            final float s1 = saturations[i1], s2 = saturations[i2];
+            if(s1 <= 0x1p-6f && s2 > 0x1p-6f)
+                return -1000;
+            else if(s1 > 0x1p-6f && s2 <= 0x1p-6f)
+                return 1000;
+            else if(s1 <= 0x1p-6f && s2 <= 0x1p-6f)
+                return (int)Math.signum(lights[i1] - lights[i2]);
+            else
+                return 2 * (int)Math.signum(hues[i1] - hues[i2])
+                        + (int)Math.signum(lights[i1] - lights[i2]);
         });
+        NAMES_BY_LIGHTNESS.sort((o1, o2) -> Float.compare(lights[indices.get(o1)], lights[indices.get(o2)]));
+    }
+
+    /**
+     * A read-only copy of {@link #NAMED} that looks up names without regard to case, so "Ocean Blue" and "ocean blue"
+     * find the same color. It can look up a name in any region of a CharSequence without allocating, and can be shared
+     * freely between threads. NAMED is copied the first time this is used, and later changes to NAMED aren't seen here.
+     */
+    public static final ColorNameTable NAME_TABLE = new ColorNameTable(NAMED);
+
+    private static final NamedColorTree NEAREST = new NamedColorTree(NAMED,
+            com.github.tommyettinger.colorful.pure.oklab.ColorTools::fromRGBA);
+
+    /**
+     * Finds the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. This searches an
+     * index of the named colors that is built the first time it is needed, and skips mostly-transparent colors.
+     * @param color a packed RGBA float color
+     * @return the closest named color, as a packed RGBA float
+     */
+    public static float nearest(final float color) {
+        return NEAREST.nearest(color);
+    }
+
+    /**
+     * Finds the name of the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. If
+     * two named colors are equally close, this returns the name that is first alphabetically.
+     * @param color a packed RGBA float color
+     * @return the name of the closest named color, which can be looked up in {@link #NAMED}
+     */
+    public static String nearestName(final float color) {
+        return NEAREST.nearestName(color);
+    }
+
+    /**
+     * Finds the {@code k} colors in {@link #NAMED} that are closest to {@code color}, measuring distance in Oklab, and
+     * writes them into {@code out} with the closest first. This doesn't allocate once the index has been built.
+     * @param color a packed RGBA float color
+     * @param k how many colors to find
+     * @param out will receive up to k packed RGBA float colors, starting at index 0
+     * @return how many colors were written to out, which is less than k if out is shorter than k
+     */
+    public static int kNearest(final float color, final int k, final float[] out) {
+        return NEAREST.kNearest(color, k, out);
     }
 }
@@ -16,13 +16,14 @@
 
 package com.github.tommyettinger.colorful.pure.ycwcm;
 
+import com.github.tommyettinger.colorful.pure.ColorNameTable;
 import com.github.tommyettinger.colorful.pure.FloatColors;
+import com.github.tommyettinger.colorful.pure.NamedColorTree;
 import com.github.tommyettinger.ds.FloatList;
 import com.github.tommyettinger.ds.ObjectFloatOrderedMap;
+import com.github.tommyettinger.ds.ObjectIntMap;
 import com.github.tommyettinger.ds.ObjectList;
 
-import java.util.Comparator;
-
 import static com.github.tommyettinger.colorful.pure.ycwcm.ColorTools.*;
 
 /**
@@ -51,7 +52,6 @@ public class Palette {
      * </pre>
      */
     public static final float TRANSPARENT = 0x0.fefep-126F;
-    static { NAMED.put("Transparent", 0x0.fefep-126F); LIST.add(0x0.fefep-126F); }
 
     /**
      * This color constant "Black" has RGBA8888 code {@code 000000FF}, luma 0.0, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -63,7 +63,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACK = -0x1.fefep125F;
-    static { NAMED.put("Black", -0x1.fefep125F); LIST.add(-0x1.fefep125F); }
 
     /**
      * This color constant "Coal Black" has RGBA8888 code {@code 131313FF}, luma 0.07450981, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -75,7 +74,6 @@ public class Palette {
      * </pre>
      */
     public static final float COAL_BLACK = -0x1.fefe26p125F;
-    static { NAMED.put("Coal Black", -0x1.fefe26p125F); LIST.add(-0x1.fefe26p125F); }
 
     /**
      * This color constant "Shadow" has RGBA8888 code {@code 252525FF}, luma 0.14509805, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -87,7 +85,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHADOW = -0x1.fefe4ap125F;
-    static { NAMED.put("Shadow", -0x1.fefe4ap125F); LIST.add(-0x1.fefe4ap125F); }
 
     /**
      * This color constant "Graphite" has RGBA8888 code {@code 373737FF}, luma 0.21568629, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -99,7 +96,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPHITE = -0x1.fefe6ep125F;
-    static { NAMED.put("Graphite", -0x1.fefe6ep125F); LIST.add(-0x1.fefe6ep125F); }
 
     /**
      * This color constant "Dark Gray" has RGBA8888 code {@code 494949FF}, luma 0.28627452, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -111,7 +107,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_GRAY = -0x1.fefe92p125F;
-    static { NAMED.put("Dark Gray", -0x1.fefe92p125F); LIST.add(-0x1.fefe92p125F); }
 
     /**
      * This color constant "Lead" has RGBA8888 code {@code 5B5B5BFF}, luma 0.35686275, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -123,7 +118,6 @@ public class Palette {
      * </pre>
      */
     public static final float LEAD = -0x1.fefeb6p125F;
-    static { NAMED.put("Lead", -0x1.fefeb6p125F); LIST.add(-0x1.fefeb6p125F); }
 
     /**
      * This color constant "Iron" has RGBA8888 code {@code 6E6E6EFF}, luma 0.43137258, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -135,7 +129,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRON = -0x1.fefedcp125F;
-    static { NAMED.put("Iron", -0x1.fefedcp125F); LIST.add(-0x1.fefedcp125F); }
 
     /**
      * This color constant "Gray" has RGBA8888 code {@code 808080FF}, luma 0.5019608, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -147,7 +140,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY = -0x1.feffp125F;
-    static { NAMED.put("Gray", -0x1.feffp125F); LIST.add(-0x1.feffp125F); }
 
     /**
      * This color constant "Chinchilla" has RGBA8888 code {@code 929292FF}, luma 0.57254905, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -159,7 +151,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHINCHILLA = -0x1.feff24p125F;
-    static { NAMED.put("Chinchilla", -0x1.feff24p125F); LIST.add(-0x1.feff24p125F); }
 
     /**
      * This color constant "Greyhound" has RGBA8888 code {@code A4A4A4FF}, luma 0.6431373, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -171,7 +162,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREYHOUND = -0x1.feff48p125F;
-    static { NAMED.put("Greyhound", -0x1.feff48p125F); LIST.add(-0x1.feff48p125F); }
 
     /**
      * This color constant "Silver" has RGBA8888 code {@code B6B6B6FF}, luma 0.7137255, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -183,7 +173,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER = -0x1.feff6cp125F;
-    static { NAMED.put("Silver", -0x1.feff6cp125F); LIST.add(-0x1.feff6cp125F); }
 
     /**
      * This color constant "Light Gray" has RGBA8888 code {@code C9C9C9FF}, luma 0.78823537, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -195,7 +184,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_GRAY = -0x1.feff92p125F;
-    static { NAMED.put("Light Gray", -0x1.feff92p125F); LIST.add(-0x1.feff92p125F); }
 
     /**
      * This color constant "Platinum" has RGBA8888 code {@code DBDBDBFF}, luma 0.8588236, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -207,7 +195,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLATINUM = -0x1.feffb6p125F;
-    static { NAMED.put("Platinum", -0x1.feffb6p125F); LIST.add(-0x1.feffb6p125F); }
 
     /**
      * This color constant "Cloud" has RGBA8888 code {@code EDEDEDFF}, luma 0.9294118, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -219,7 +206,6 @@ public class Palette {
      * </pre>
      */
     public static final float CLOUD = -0x1.feffdap125F;
-    static { NAMED.put("Cloud", -0x1.feffdap125F); LIST.add(-0x1.feffdap125F); }
 
     /**
      * This color constant "White" has RGBA8888 code {@code FFFFFFFF}, luma 1.0, warmth 0.49803925, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.0.
@@ -231,7 +217,6 @@ public class Palette {
      * </pre>
      */
     public static final float WHITE = -0x1.fefffep125F;
-    static { NAMED.put("White", -0x1.fefffep125F); LIST.add(-0x1.fefffep125F); }
 
     /**
      * This color constant "Seawater" has RGBA8888 code {@code 007F7FFF}, luma 0.30980393, warmth 0.2509804, mildness 0.49803925, alpha 1.0, hue 0.5, and saturation 1.0.
@@ -243,7 +228,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAWATER = -0x1.fe809ep125F;
-    static { NAMED.put("Seawater", -0x1.fe809ep125F); LIST.add(-0x1.fe809ep125F); }
 
     /**
      * This color constant "Hospital Green" has RGBA8888 code {@code 3FBFBFFF}, luma 0.56078434, warmth 0.24705884, mildness 0.49803925, alpha 1.0, hue 0.5, and saturation 0.5039369.
@@ -255,7 +239,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOSPITAL_GREEN = -0x1.fe7f1ep125F;
-    static { NAMED.put("Hospital Green", -0x1.fe7f1ep125F); LIST.add(-0x1.fe7f1ep125F); }
 
     /**
      * This color constant "Cyan" has RGBA8888 code {@code 00FFFFFF}, luma 0.62352943, warmth 0.0, mildness 0.49803925, alpha 1.0, hue 0.5, and saturation 1.0.
@@ -267,7 +250,6 @@ public class Palette {
      * </pre>
      */
     public static final float CYAN = -0x1.fe013ep125F;
-    static { NAMED.put("Cyan", -0x1.fe013ep125F); LIST.add(-0x1.fe013ep125F); }
 
     /**
      * This color constant "Bubble" has RGBA8888 code {@code BFFFFFFF}, luma 0.9058824, warmth 0.37254903, mildness 0.49803925, alpha 1.0, hue 0.5, and saturation 1.0.
@@ -279,7 +261,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE = -0x1.febfcep125F;
-    static { NAMED.put("Bubble", -0x1.febfcep125F); LIST.add(-0x1.febfcep125F); }
 
     /**
      * This color constant "Periwinkle" has RGBA8888 code {@code 8181FFFF}, luma 0.5647059, warmth 0.2509804, mildness 0.2509804, alpha 1.0, hue 0.6653544, and saturation 1.0.
@@ -291,7 +272,6 @@ public class Palette {
      * </pre>
      */
     public static final float PERIWINKLE = -0x1.80812p125F;
-    static { NAMED.put("Periwinkle", -0x1.80812p125F); LIST.add(-0x1.80812p125F); }
 
     /**
      * This color constant "Blue" has RGBA8888 code {@code 0000FFFF}, luma 0.121568635, warmth 0.0, mildness 0.0, alpha 1.0, hue 0.6666667, and saturation 1.0.
@@ -303,7 +283,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE = -0x1.00003ep125F;
-    static { NAMED.put("Blue", -0x1.00003ep125F); LIST.add(-0x1.00003ep125F); }
 
     /**
      * This color constant "Faded Blue" has RGBA8888 code {@code 3F3FBFFF}, luma 0.30980393, warmth 0.24705884, mildness 0.24705884, alpha 1.0, hue 0.6666667, and saturation 0.5039369.
@@ -315,7 +294,6 @@ public class Palette {
      * </pre>
      */
     public static final float FADED_BLUE = -0x1.7e7e9ep125F;
-    static { NAMED.put("Faded Blue", -0x1.7e7e9ep125F); LIST.add(-0x1.7e7e9ep125F); }
 
     /**
      * This color constant "Ocean Blue" has RGBA8888 code {@code 00007FFF}, luma 0.058823533, warmth 0.2509804, mildness 0.2509804, alpha 1.0, hue 0.6666667, and saturation 1.0.
@@ -327,7 +305,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCEAN_BLUE = -0x1.80801ep125F;
-    static { NAMED.put("Ocean Blue", -0x1.80801ep125F); LIST.add(-0x1.80801ep125F); }
 
     /**
      * This color constant "Stygian Blue" has RGBA8888 code {@code 0F0F50FF}, luma 0.09019608, warmth 0.37254903, mildness 0.37254903, alpha 1.0, hue 0.6666667, and saturation 0.680851.
@@ -339,7 +316,6 @@ public class Palette {
      * </pre>
      */
     public static final float STYGIAN_BLUE = -0x1.bebe2ep125F;
-    static { NAMED.put("Stygian Blue", -0x1.bebe2ep125F); LIST.add(-0x1.bebe2ep125F); }
 
     /**
      * This color constant "Deep Purple" has RGBA8888 code {@code 7F007FFF}, luma 0.24705884, warmth 0.49803925, mildness 0.2509804, alpha 1.0, hue 0.8333333, and saturation 1.0.
@@ -351,7 +327,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_PURPLE = -0x1.80fe7ep125F;
-    static { NAMED.put("Deep Purple", -0x1.80fe7ep125F); LIST.add(-0x1.80fe7ep125F); }
 
     /**
      * This color constant "Tyrian Purple" has RGBA8888 code {@code BF3FBFFF}, luma 0.49803925, warmth 0.49803925, mildness 0.24705884, alpha 1.0, hue 0.8333333, and saturation 0.5039369.
@@ -363,7 +338,6 @@ public class Palette {
      * </pre>
      */
     public static final float TYRIAN_PURPLE = -0x1.7efefep125F;
-    static { NAMED.put("Tyrian Purple", -0x1.7efefep125F); LIST.add(-0x1.7efefep125F); }
 
     /**
      * This color constant "Magenta" has RGBA8888 code {@code F500F5FF}, luma 0.4784314, warmth 0.49803925, mildness 0.019607844, alpha 1.0, hue 0.8333333, and saturation 1.0.
@@ -375,7 +349,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAGENTA = -0x1.0afef4p125F;
-    static { NAMED.put("Magenta", -0x1.0afef4p125F); LIST.add(-0x1.0afef4p125F); }
 
     /**
      * This color constant "Bubblegum Pink" has RGBA8888 code {@code FD81FFFF}, luma 0.7490196, warmth 0.49411768, mildness 0.2509804, alpha 1.0, hue 0.82936513, and saturation 1.0.
@@ -387,7 +360,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLEGUM_PINK = -0x1.80fd7ep125F;
-    static { NAMED.put("Bubblegum Pink", -0x1.80fd7ep125F); LIST.add(-0x1.80fd7ep125F); }
 
     /**
      * This color constant "Pork Chop" has RGBA8888 code {@code FFC0CBFF}, luma 0.85098046, warmth 0.6, mildness 0.4784314, alpha 1.0, hue 0.9726776, and saturation 0.96825445.
@@ -399,7 +371,6 @@ public class Palette {
      * </pre>
      */
     public static final float PORK_CHOP = -0x1.f533b2p125F;
-    static { NAMED.put("Pork Chop", -0x1.f533b2p125F); LIST.add(-0x1.f533b2p125F); }
 
     /**
      * This color constant "Raw Meat" has RGBA8888 code {@code FF8181FF}, luma 0.6901961, warmth 0.74509805, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.9842522.
@@ -411,7 +382,6 @@ public class Palette {
      * </pre>
      */
     public static final float RAW_MEAT = -0x1.ff7d6p125F;
-    static { NAMED.put("Raw Meat", -0x1.ff7d6p125F); LIST.add(-0x1.ff7d6p125F); }
 
     /**
      * This color constant "Red" has RGBA8888 code {@code FF0000FF}, luma 0.37254903, warmth 1.0, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 1.0.
@@ -423,7 +393,6 @@ public class Palette {
      * </pre>
      */
     public static final float RED = -0x1.fffebep125F;
-    static { NAMED.put("Red", -0x1.fffebep125F); LIST.add(-0x1.fffebep125F); }
 
     /**
      * This color constant "Putty" has RGBA8888 code {@code BF3F3FFF}, luma 0.43529415, warmth 0.7490196, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.5039369.
@@ -435,7 +404,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUTTY = -0x1.ff7edep125F;
-    static { NAMED.put("Putty", -0x1.ff7edep125F); LIST.add(-0x1.ff7edep125F); }
 
     /**
      * This color constant "Sienna" has RGBA8888 code {@code 7F0000FF}, luma 0.18431373, warmth 0.7490196, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 1.0.
@@ -447,7 +415,6 @@ public class Palette {
      * </pre>
      */
     public static final float SIENNA = -0x1.ff7e5ep125F;
-    static { NAMED.put("Sienna", -0x1.ff7e5ep125F); LIST.add(-0x1.ff7e5ep125F); }
 
     /**
      * This color constant "Seal Brown" has RGBA8888 code {@code 551414FF}, luma 0.17254902, warmth 0.627451, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.61904764.
@@ -459,7 +426,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAL_BROWN = -0x1.ff4058p125F;
-    static { NAMED.put("Seal Brown", -0x1.ff4058p125F); LIST.add(-0x1.ff4058p125F); }
 
     /**
      * This color constant "Mummy Brown" has RGBA8888 code {@code 7F3F00FF}, luma 0.30980393, warmth 0.7490196, mildness 0.62352943, alpha 1.0, hue 0.08267716, and saturation 1.0.
@@ -471,7 +437,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUMMY_BROWN = -0x1.3f7e9ep126F;
-    static { NAMED.put("Mummy Brown", -0x1.3f7e9ep126F); LIST.add(-0x1.3f7e9ep126F); }
 
     /**
      * This color constant "Fawn" has RGBA8888 code {@code BF7F3FFF}, luma 0.56078434, warmth 0.7490196, mildness 0.62352943, alpha 1.0, hue 0.08333334, and saturation 0.5039369.
@@ -483,7 +448,6 @@ public class Palette {
      * </pre>
      */
     public static final float FAWN = -0x1.3f7f1ep126F;
-    static { NAMED.put("Fawn", -0x1.3f7f1ep126F); LIST.add(-0x1.3f7f1ep126F); }
 
     /**
      * This color constant "Orange" has RGBA8888 code {@code FF7F00FF}, luma 0.62352943, warmth 1.0, mildness 0.7490196, alpha 1.0, hue 0.08300654, and saturation 1.0.
@@ -495,7 +459,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORANGE = -0x1.7fff3ep126F;
-    static { NAMED.put("Orange", -0x1.7fff3ep126F); LIST.add(-0x1.7fff3ep126F); }
 
     /**
      * This color constant "Peach" has RGBA8888 code {@code FFBF81FF}, luma 0.8117648, warmth 0.74509805, mildness 0.61960787, alpha 1.0, hue 0.08266666, and saturation 0.9842522.
@@ -507,7 +470,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEACH = -0x1.3d7d9ep126F;
-    static { NAMED.put("Peach", -0x1.3d7d9ep126F); LIST.add(-0x1.3d7d9ep126F); }
 
     /**
      * This color constant "Cream" has RGBA8888 code {@code FFFFBFFF}, luma 0.9686275, warmth 0.62352943, mildness 0.62352943, alpha 1.0, hue 0.16666667, and saturation 1.0.
@@ -519,7 +481,6 @@ public class Palette {
      * </pre>
      */
     public static final float CREAM = -0x1.3f3feep126F;
-    static { NAMED.put("Cream", -0x1.3f3feep126F); LIST.add(-0x1.3f3feep126F); }
 
     /**
      * This color constant "Yellow" has RGBA8888 code {@code FFFF00FF}, luma 0.8745099, warmth 1.0, mildness 1.0, alpha 1.0, hue 0.16666667, and saturation 1.0.
@@ -531,7 +492,6 @@ public class Palette {
      * </pre>
      */
     public static final float YELLOW = -0x1.ffffbep126F;
-    static { NAMED.put("Yellow", -0x1.ffffbep126F); LIST.add(-0x1.ffffbep126F); }
 
     /**
      * This color constant "Earwax" has RGBA8888 code {@code BFBF3FFF}, luma 0.6862745, warmth 0.7490196, mildness 0.7490196, alpha 1.0, hue 0.16666667, and saturation 0.5039369.
@@ -543,7 +503,6 @@ public class Palette {
      * </pre>
      */
     public static final float EARWAX = -0x1.7f7f5ep126F;
-    static { NAMED.put("Earwax", -0x1.7f7f5ep126F); LIST.add(-0x1.7f7f5ep126F); }
 
     /**
      * This color constant "Umber" has RGBA8888 code {@code 7F7F00FF}, luma 0.43529415, warmth 0.7490196, mildness 0.7490196, alpha 1.0, hue 0.16666667, and saturation 1.0.
@@ -555,7 +514,6 @@ public class Palette {
      * </pre>
      */
     public static final float UMBER = -0x1.7f7edep126F;
-    static { NAMED.put("Umber", -0x1.7f7edep126F); LIST.add(-0x1.7f7edep126F); }
 
     /**
      * This color constant "Ivy Green" has RGBA8888 code {@code 007F00FF}, luma 0.24705884, warmth 0.49803925, mildness 0.7490196, alpha 1.0, hue 0.33333334, and saturation 1.0.
@@ -567,7 +525,6 @@ public class Palette {
      * </pre>
      */
     public static final float IVY_GREEN = -0x1.7efe7ep126F;
-    static { NAMED.put("Ivy Green", -0x1.7efe7ep126F); LIST.add(-0x1.7efe7ep126F); }
 
     /**
      * This color constant "Jade" has RGBA8888 code {@code 3FBF3FFF}, luma 0.49803925, warmth 0.49803925, mildness 0.7490196, alpha 1.0, hue 0.33333334, and saturation 0.5039369.
@@ -579,7 +536,6 @@ public class Palette {
      * </pre>
      */
     public static final float JADE = -0x1.7efefep126F;
-    static { NAMED.put("Jade", -0x1.7efefep126F); LIST.add(-0x1.7efefep126F); }
 
     /**
      * This color constant "Green" has RGBA8888 code {@code 00FF00FF}, luma 0.49803925, warmth 0.49803925, mildness 1.0, alpha 1.0, hue 0.33333334, and saturation 1.0.
@@ -591,7 +547,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREEN = -0x1.fefefep126F;
-    static { NAMED.put("Green", -0x1.fefefep126F); LIST.add(-0x1.fefefep126F); }
 
     /**
      * This color constant "Celadon" has RGBA8888 code {@code AFFFAFFF}, luma 0.8431373, warmth 0.49803925, mildness 0.654902, alpha 1.0, hue 0.33333334, and saturation 1.0.
@@ -603,7 +558,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELADON = -0x1.4effaep126F;
-    static { NAMED.put("Celadon", -0x1.4effaep126F); LIST.add(-0x1.4effaep126F); }
 
     /**
      * This color constant "Puce" has RGBA8888 code {@code BCAFC0FF}, luma 0.7137255, warmth 0.4901961, mildness 0.4666667, alpha 1.0, hue 0.7812499, and saturation 0.112676084.
@@ -615,7 +569,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUCE = -0x1.eefb6cp125F;
-    static { NAMED.put("Puce", -0x1.eefb6cp125F); LIST.add(-0x1.eefb6cp125F); }
 
     /**
      * This color constant "Beige" has RGBA8888 code {@code CBAA89FF}, luma 0.69803923, warmth 0.627451, mildness 0.5647059, alpha 1.0, hue 0.08717947, and saturation 0.3801171.
@@ -627,7 +580,6 @@ public class Palette {
      * </pre>
      */
     public static final float BEIGE = -0x1.214164p126F;
-    static { NAMED.put("Beige", -0x1.214164p126F); LIST.add(-0x1.214164p126F); }
 
     /**
      * This color constant "Wet Stone" has RGBA8888 code {@code A6A090FF}, luma 0.627451, warmth 0.5411765, mildness 0.5294118, alpha 1.0, hue 0.12698413, and saturation 0.10447768.
@@ -639,7 +591,6 @@ public class Palette {
      * </pre>
      */
     public static final float WET_STONE = -0x1.0f154p126F;
-    static { NAMED.put("Wet Stone", -0x1.0f154p126F); LIST.add(-0x1.0f154p126F); }
 
     /**
      * This color constant "Slow Creek" has RGBA8888 code {@code 7E9494FF}, luma 0.54509807, warmth 0.454902, mildness 0.49803925, alpha 1.0, hue 0.5, and saturation 0.09704647.
@@ -651,7 +602,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLOW_CREEK = -0x1.fee916p125F;
-    static { NAMED.put("Slow Creek", -0x1.fee916p125F); LIST.add(-0x1.fee916p125F); }
 
     /**
      * This color constant "Slate Gray" has RGBA8888 code {@code 6E8287FF}, luma 0.48235297, warmth 0.45098042, mildness 0.4901961, alpha 1.0, hue 0.5277778, and saturation 0.09836064.
@@ -663,7 +613,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLATE_GRAY = -0x1.fae6f6p125F;
-    static { NAMED.put("Slate Gray", -0x1.fae6f6p125F); LIST.add(-0x1.fae6f6p125F); }
 
     /**
      * This color constant "Light Skin 1" has RGBA8888 code {@code 7E6E60FF}, luma 0.44705886, warmth 0.5568628, mildness 0.5254902, alpha 1.0, hue 0.08045977, and saturation 0.1312217.
@@ -675,7 +624,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_1 = -0x1.0d1ce4p126F;
-    static { NAMED.put("Light Skin 1", -0x1.0d1ce4p126F); LIST.add(-0x1.0d1ce4p126F); }
 
     /**
      * This color constant "Light Skin 2" has RGBA8888 code {@code A0695FFF}, luma 0.48627454, warmth 0.627451, mildness 0.5176471, alpha 1.0, hue 0.025641043, and saturation 0.254902.
@@ -687,7 +635,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_2 = -0x1.0940f8p126F;
-    static { NAMED.put("Light Skin 2", -0x1.0940f8p126F); LIST.add(-0x1.0940f8p126F); }
 
     /**
      * This color constant "Light Skin 3" has RGBA8888 code {@code C07872FF}, luma 0.57254905, warmth 0.6509804, mildness 0.50980395, alpha 1.0, hue 0.012987013, and saturation 0.3756097.
@@ -699,7 +646,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_3 = -0x1.054d24p126F;
-    static { NAMED.put("Light Skin 3", -0x1.054d24p126F); LIST.add(-0x1.054d24p126F); }
 
     /**
      * This color constant "Light Skin 4" has RGBA8888 code {@code D08A74FF}, luma 0.6313726, warmth 0.6784314, mildness 0.5411765, alpha 1.0, hue 0.040293034, and saturation 0.48663113.
@@ -711,7 +657,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_4 = -0x1.155b42p126F;
-    static { NAMED.put("Light Skin 4", -0x1.155b42p126F); LIST.add(-0x1.155b42p126F); }
 
     /**
      * This color constant "Light Skin 5" has RGBA8888 code {@code E19B7DFF}, luma 0.69411767, warmth 0.69411767, mildness 0.5568628, alpha 1.0, hue 0.050505042, and saturation 0.61490697.
@@ -723,7 +668,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_5 = -0x1.1d6362p126F;
-    static { NAMED.put("Light Skin 5", -0x1.1d6362p126F); LIST.add(-0x1.1d6362p126F); }
 
     /**
      * This color constant "Light Skin 6" has RGBA8888 code {@code EBAA8CFF}, luma 0.74509805, warmth 0.6862745, mildness 0.5568628, alpha 1.0, hue 0.05208332, and saturation 0.70588255.
@@ -735,7 +679,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_6 = -0x1.1d5f7cp126F;
-    static { NAMED.put("Light Skin 6", -0x1.1d5f7cp126F); LIST.add(-0x1.1d5f7cp126F); }
 
     /**
      * This color constant "Light Skin 7" has RGBA8888 code {@code F5B99BFF}, luma 0.7960785, warmth 0.6745098, mildness 0.5568628, alpha 1.0, hue 0.056179766, and saturation 0.80180204.
@@ -747,7 +690,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_7 = -0x1.1d5996p126F;
-    static { NAMED.put("Light Skin 7", -0x1.1d5996p126F); LIST.add(-0x1.1d5996p126F); }
 
     /**
      * This color constant "Light Skin 8" has RGBA8888 code {@code F6C8AFFF}, luma 0.83921576, warmth 0.6392157, mildness 0.54901963, alpha 1.0, hue 0.06018521, and saturation 0.80000025.
@@ -759,7 +701,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_8 = -0x1.1947acp126F;
-    static { NAMED.put("Light Skin 8", -0x1.1947acp126F); LIST.add(-0x1.1947acp126F); }
 
     /**
      * This color constant "Light Skin 9" has RGBA8888 code {@code F5E1D2FF}, luma 0.90196085, warmth 0.5686275, mildness 0.5294118, alpha 1.0, hue 0.07619048, and saturation 0.61403555.
@@ -771,7 +712,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_9 = -0x1.0f23ccp126F;
-    static { NAMED.put("Light Skin 9", -0x1.0f23ccp126F); LIST.add(-0x1.0f23ccp126F); }
 
     /**
      * This color constant "Dark Skin 1" has RGBA8888 code {@code 573B3BFF}, luma 0.27058825, warmth 0.5529412, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.18620688.
@@ -783,7 +723,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_1 = -0x1.ff1a8ap125F;
-    static { NAMED.put("Dark Skin 1", -0x1.ff1a8ap125F); LIST.add(-0x1.ff1a8ap125F); }
 
     /**
      * This color constant "Dark Skin 2" has RGBA8888 code {@code 73413CFF}, luma 0.3254902, warmth 0.60784316, mildness 0.50980395, alpha 1.0, hue 0.01785714, and saturation 0.32183915.
@@ -795,7 +734,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_2 = -0x1.0536a6p126F;
-    static { NAMED.put("Dark Skin 2", -0x1.0536a6p126F); LIST.add(-0x1.0536a6p126F); }
 
     /**
      * This color constant "Dark Skin 3" has RGBA8888 code {@code 8E5555FF}, luma 0.4156863, warmth 0.6117647, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.2511013.
@@ -807,7 +745,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_3 = -0x1.ff38d4p125F;
-    static { NAMED.put("Dark Skin 3", -0x1.ff38d4p125F); LIST.add(-0x1.ff38d4p125F); }
 
     /**
      * This color constant "Pink Skin 1" has RGBA8888 code {@code AB7373FF}, luma 0.53333336, warmth 0.60784316, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.25.
@@ -819,7 +756,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_1 = -0x1.ff371p125F;
-    static { NAMED.put("Pink Skin 1", -0x1.ff371p125F); LIST.add(-0x1.ff371p125F); }
 
     /**
      * This color constant "Pink Skin 2" has RGBA8888 code {@code C78F8FFF}, luma 0.6431373, warmth 0.60784316, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.33333352.
@@ -831,7 +767,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_2 = -0x1.ff3748p125F;
-    static { NAMED.put("Pink Skin 2", -0x1.ff3748p125F); LIST.add(-0x1.ff3748p125F); }
 
     /**
      * This color constant "Pink Skin 3" has RGBA8888 code {@code E3ABABFF}, luma 0.75294125, warmth 0.60784316, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.5000003.
@@ -843,7 +778,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_3 = -0x1.ff378p125F;
-    static { NAMED.put("Pink Skin 3", -0x1.ff378p125F); LIST.add(-0x1.ff378p125F); }
 
     /**
      * This color constant "Pink Skin 4" has RGBA8888 code {@code F8D2DAFF}, luma 0.882353, warmth 0.5568628, mildness 0.48235297, alpha 1.0, hue 0.963964, and saturation 0.6981137.
@@ -855,7 +789,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_4 = -0x1.f71dc2p125F;
-    static { NAMED.put("Pink Skin 4", -0x1.f71dc2p125F); LIST.add(-0x1.f71dc2p125F); }
 
     /**
      * This color constant "Bronze Skin 4" has RGBA8888 code {@code E3C7ABFF}, luma 0.8078432, warmth 0.60784316, mildness 0.5529412, alpha 1.0, hue 0.08333336, and saturation 0.5000003.
@@ -867,7 +800,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_4 = -0x1.1b379cp126F;
-    static { NAMED.put("Bronze Skin 4", -0x1.1b379cp126F); LIST.add(-0x1.1b379cp126F); }
 
     /**
      * This color constant "Bronze Skin 3" has RGBA8888 code {@code C49E73FF}, luma 0.6509804, warmth 0.65882355, mildness 0.58431375, alpha 1.0, hue 0.09053496, and saturation 0.4029852.
@@ -879,7 +811,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_3 = -0x1.2b514cp126F;
-    static { NAMED.put("Bronze Skin 3", -0x1.2b514cp126F); LIST.add(-0x1.2b514cp126F); }
 
     /**
      * This color constant "Bronze Skin 2" has RGBA8888 code {@code 8F7357FF}, luma 0.4784314, warmth 0.60784316, mildness 0.5529412, alpha 1.0, hue 0.08333334, and saturation 0.24347831.
@@ -891,7 +822,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_2 = -0x1.1b36f4p126F;
-    static { NAMED.put("Bronze Skin 2", -0x1.1b36f4p126F); LIST.add(-0x1.1b36f4p126F); }
 
     /**
      * This color constant "Bronze Skin 1" has RGBA8888 code {@code 73573BFF}, luma 0.36862746, warmth 0.60784316, mildness 0.5529412, alpha 1.0, hue 0.08333332, and saturation 0.32183915.
@@ -903,7 +833,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_1 = -0x1.1b36bcp126F;
-    static { NAMED.put("Bronze Skin 1", -0x1.1b36bcp126F); LIST.add(-0x1.1b36bcp126F); }
 
     /**
      * This color constant "Taupe" has RGBA8888 code {@code 3B2D1FFF}, luma 0.18823531, warmth 0.5529412, mildness 0.5254902, alpha 1.0, hue 0.08641974, and saturation 0.30337083.
@@ -915,7 +844,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAUPE = -0x1.0d1a6p126F;
-    static { NAMED.put("Taupe", -0x1.0d1a6p126F); LIST.add(-0x1.0d1a6p126F); }
 
     /**
      * This color constant "Drab Green" has RGBA8888 code {@code 414123FF}, luma 0.2392157, warmth 0.5568628, mildness 0.5568628, alpha 1.0, hue 0.17222224, and saturation 0.29999995.
@@ -927,7 +855,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRAB_GREEN = -0x1.1d1c7ap126F;
-    static { NAMED.put("Drab Green", -0x1.1d1c7ap126F); LIST.add(-0x1.1d1c7ap126F); }
 
     /**
      * This color constant "Lizard Scales" has RGBA8888 code {@code 73733BFF}, luma 0.42352945, warmth 0.60784316, mildness 0.60784316, alpha 1.0, hue 0.16666666, and saturation 0.32183915.
@@ -939,7 +866,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIZARD_SCALES = -0x1.3736d8p126F;
-    static { NAMED.put("Lizard Scales", -0x1.3736d8p126F); LIST.add(-0x1.3736d8p126F); }
 
     /**
      * This color constant "Cricket" has RGBA8888 code {@code 8F8F57FF}, luma 0.53333336, warmth 0.60784316, mildness 0.60784316, alpha 1.0, hue 0.16666666, and saturation 0.24347831.
@@ -951,7 +877,6 @@ public class Palette {
      * </pre>
      */
     public static final float CRICKET = -0x1.37371p126F;
-    static { NAMED.put("Cricket", -0x1.37371p126F); LIST.add(-0x1.37371p126F); }
 
     /**
      * This color constant "Olive Oil" has RGBA8888 code {@code A2A255FF}, luma 0.59607846, warmth 0.6509804, mildness 0.6509804, alpha 1.0, hue 0.16880344, and saturation 0.31707323.
@@ -963,7 +888,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_OIL = -0x1.4d4d3p126F;
-    static { NAMED.put("Olive Oil", -0x1.4d4d3p126F); LIST.add(-0x1.4d4d3p126F); }
 
     /**
      * This color constant "Dun" has RGBA8888 code {@code B5B572FF}, luma 0.6745098, warmth 0.6313726, mildness 0.6313726, alpha 1.0, hue 0.16911766, and saturation 0.3148148.
@@ -975,7 +899,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUN = -0x1.434358p126F;
-    static { NAMED.put("Dun", -0x1.434358p126F); LIST.add(-0x1.434358p126F); }
 
     /**
      * This color constant "Corn Silk" has RGBA8888 code {@code C7C78FFF}, luma 0.75294125, warmth 0.60784316, mildness 0.60784316, alpha 1.0, hue 0.16666667, and saturation 0.33333352.
@@ -987,7 +910,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORN_SILK = -0x1.37378p126F;
-    static { NAMED.put("Corn Silk", -0x1.37378p126F); LIST.add(-0x1.37378p126F); }
 
     /**
      * This color constant "Tan" has RGBA8888 code {@code DADAABFF}, luma 0.8313726, warmth 0.5921569, mildness 0.5921569, alpha 1.0, hue 0.16666667, and saturation 0.39344272.
@@ -999,7 +921,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAN = -0x1.2f2fa8p126F;
-    static { NAMED.put("Tan", -0x1.2f2fa8p126F); LIST.add(-0x1.2f2fa8p126F); }
 
     /**
      * This color constant "Straw" has RGBA8888 code {@code EDEDC7FF}, luma 0.909804, warmth 0.57254905, mildness 0.57254905, alpha 1.0, hue 0.17105263, and saturation 0.51351374.
@@ -1011,7 +932,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRAW = -0x1.2525dp126F;
-    static { NAMED.put("Straw", -0x1.2525dp126F); LIST.add(-0x1.2525dp126F); }
 
     /**
      * This color constant "Honeydew" has RGBA8888 code {@code C7E3ABFF}, luma 0.8196079, warmth 0.5529412, mildness 0.60784316, alpha 1.0, hue 0.25297618, and saturation 0.5000003.
@@ -1023,7 +943,6 @@ public class Palette {
      * </pre>
      */
     public static final float HONEYDEW = -0x1.371ba2p126F;
-    static { NAMED.put("Honeydew", -0x1.371ba2p126F); LIST.add(-0x1.371ba2p126F); }
 
     /**
      * This color constant "Tarnish" has RGBA8888 code {@code ABC78FFF}, luma 0.70980394, warmth 0.5529412, mildness 0.60784316, alpha 1.0, hue 0.25297624, and saturation 0.33333352.
@@ -1035,7 +954,6 @@ public class Palette {
      * </pre>
      */
     public static final float TARNISH = -0x1.371b6ap126F;
-    static { NAMED.put("Tarnish", -0x1.371b6ap126F); LIST.add(-0x1.371b6ap126F); }
 
     /**
      * This color constant "Pea Soup" has RGBA8888 code {@code 8EBE55FF}, luma 0.61960787, warmth 0.6117647, mildness 0.7058824, alpha 1.0, hue 0.2437107, and saturation 0.44915253.
@@ -1047,7 +965,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEA_SOUP = -0x1.69393cp126F;
-    static { NAMED.put("Pea Soup", -0x1.69393cp126F); LIST.add(-0x1.69393cp126F); }
 
     /**
      * This color constant "Marsh" has RGBA8888 code {@code 738F57FF}, luma 0.4901961, warmth 0.5529412, mildness 0.60784316, alpha 1.0, hue 0.25297618, and saturation 0.24347831.
@@ -1059,7 +976,6 @@ public class Palette {
      * </pre>
      */
     public static final float MARSH = -0x1.371afap126F;
-    static { NAMED.put("Marsh", -0x1.371afap126F); LIST.add(-0x1.371afap126F); }
 
     /**
      * This color constant "Asparagus" has RGBA8888 code {@code 587D3EFF}, luma 0.4039216, warmth 0.54901963, mildness 0.62352943, alpha 1.0, hue 0.2682292, and saturation 0.3404255.
@@ -1071,7 +987,6 @@ public class Palette {
      * </pre>
      */
     public static final float ASPARAGUS = -0x1.3f18cep126F;
-    static { NAMED.put("Asparagus", -0x1.3f18cep126F); LIST.add(-0x1.3f18cep126F); }
 
     /**
      * This color constant "Peat Bog" has RGBA8888 code {@code 465032FF}, luma 0.28235295, warmth 0.5372549, mildness 0.5568628, alpha 1.0, hue 0.22777778, and saturation 0.2307692.
@@ -1083,7 +998,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEAT_BOG = -0x1.1d129p126F;
-    static { NAMED.put("Peat Bog", -0x1.1d129p126F); LIST.add(-0x1.1d129p126F); }
 
     /**
      * This color constant "Deep Jungle" has RGBA8888 code {@code 191E0FFF}, luma 0.10196079, warmth 0.5176471, mildness 0.5294118, alpha 1.0, hue 0.23958334, and saturation 0.34782603.
@@ -1095,7 +1009,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_JUNGLE = -0x1.0f0834p126F;
-    static { NAMED.put("Deep Jungle", -0x1.0f0834p126F); LIST.add(-0x1.0f0834p126F); }
 
     /**
      * This color constant "Pine Green" has RGBA8888 code {@code 235037FF}, luma 0.23529413, warmth 0.45882356, mildness 0.54901963, alpha 1.0, hue 0.40780145, and saturation 0.4086957.
@@ -1107,7 +1020,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINE_GREEN = -0x1.18ea78p126F;
-    static { NAMED.put("Pine Green", -0x1.18ea78p126F); LIST.add(-0x1.18ea78p126F); }
 
     /**
      * This color constant "Olive Green" has RGBA8888 code {@code 3B573BFF}, luma 0.28627452, warmth 0.49803925, mildness 0.5529412, alpha 1.0, hue 0.33333334, and saturation 0.1917808.
@@ -1119,7 +1031,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_GREEN = -0x1.1afe92p126F;
-    static { NAMED.put("Olive Green", -0x1.1afe92p126F); LIST.add(-0x1.1afe92p126F); }
 
     /**
      * This color constant "Gray Green" has RGBA8888 code {@code 506450FF}, luma 0.3529412, warmth 0.49803925, mildness 0.5372549, alpha 1.0, hue 0.33333334, and saturation 0.11111119.
@@ -1131,7 +1042,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY_GREEN = -0x1.12feb4p126F;
-    static { NAMED.put("Gray Green", -0x1.12feb4p126F); LIST.add(-0x1.12feb4p126F); }
 
     /**
      * This color constant "Maidenhair Fern" has RGBA8888 code {@code 3B7349FF}, luma 0.34509805, warmth 0.47058827, mildness 0.5803922, alpha 1.0, hue 0.37719297, and saturation 0.3294798.
@@ -1143,7 +1053,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAIDENHAIR_FERN = -0x1.28f0bp126F;
-    static { NAMED.put("Maidenhair Fern", -0x1.28f0bp126F); LIST.add(-0x1.28f0bp126F); }
 
     /**
      * This color constant "Kelly Green" has RGBA8888 code {@code 578F57FF}, luma 0.45098042, warmth 0.49803925, mildness 0.60784316, alpha 1.0, hue 0.33333334, and saturation 0.24347831.
@@ -1155,7 +1064,6 @@ public class Palette {
      * </pre>
      */
     public static final float KELLY_GREEN = -0x1.36fee6p126F;
-    static { NAMED.put("Kelly Green", -0x1.36fee6p126F); LIST.add(-0x1.36fee6p126F); }
 
     /**
      * This color constant "Dusty Green" has RGBA8888 code {@code 73AB73FF}, luma 0.56078434, warmth 0.49803925, mildness 0.60784316, alpha 1.0, hue 0.33333334, and saturation 0.25.
@@ -1167,7 +1075,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GREEN = -0x1.36ff1ep126F;
-    static { NAMED.put("Dusty Green", -0x1.36ff1ep126F); LIST.add(-0x1.36ff1ep126F); }
 
     /**
      * This color constant "Garter Snake" has RGBA8888 code {@code 64C082FF}, luma 0.58431375, warmth 0.43921572, mildness 0.61960787, alpha 1.0, hue 0.3888889, and saturation 0.42465764.
@@ -1179,7 +1086,6 @@ public class Palette {
      * </pre>
      */
     public static final float GARTER_SNAKE = -0x1.3ce12ap126F;
-    static { NAMED.put("Garter Snake", -0x1.3ce12ap126F); LIST.add(-0x1.3ce12ap126F); }
 
     /**
      * This color constant "Silver Green" has RGBA8888 code {@code 8FC78FFF}, luma 0.67058825, warmth 0.49803925, mildness 0.60784316, alpha 1.0, hue 0.33333334, and saturation 0.33333352.
@@ -1191,7 +1097,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_GREEN = -0x1.36ff56p126F;
-    static { NAMED.put("Silver Green", -0x1.36ff56p126F); LIST.add(-0x1.36ff56p126F); }
 
     /**
      * This color constant "Pistachio" has RGBA8888 code {@code A2D8A2FF}, luma 0.7411765, warmth 0.49803925, mildness 0.6039216, alpha 1.0, hue 0.33333334, and saturation 0.409091.
@@ -1203,7 +1108,6 @@ public class Palette {
      * </pre>
      */
     public static final float PISTACHIO = -0x1.34ff7ap126F;
-    static { NAMED.put("Pistachio", -0x1.34ff7ap126F); LIST.add(-0x1.34ff7ap126F); }
 
     /**
      * This color constant "Angel Wing" has RGBA8888 code {@code E1F8FAFF}, luma 0.93725497, warmth 0.45098042, mildness 0.49411768, alpha 1.0, hue 0.5138889, and saturation 0.6666672.
@@ -1215,7 +1119,6 @@ public class Palette {
      * </pre>
      */
     public static final float ANGEL_WING = -0x1.fce7dep125F;
-    static { NAMED.put("Angel Wing", -0x1.fce7dep125F); LIST.add(-0x1.fce7dep125F); }
 
     /**
      * This color constant "Sage Green" has RGBA8888 code {@code B4EECAFF}, luma 0.82745105, warmth 0.454902, mildness 0.5686275, alpha 1.0, hue 0.39830512, and saturation 0.6344089.
@@ -1227,7 +1130,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAGE_GREEN = -0x1.22e9a6p126F;
-    static { NAMED.put("Sage Green", -0x1.22e9a6p126F); LIST.add(-0x1.22e9a6p126F); }
 
     /**
      * This color constant "Dried Sage" has RGBA8888 code {@code ABE3C5FF}, luma 0.79215693, warmth 0.44705886, mildness 0.5568628, alpha 1.0, hue 0.41228074, and saturation 0.504425.
@@ -1239,7 +1141,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIED_SAGE = -0x1.1ce594p126F;
-    static { NAMED.put("Dried Sage", -0x1.1ce594p126F); LIST.add(-0x1.1ce594p126F); }
 
     /**
      * This color constant "Artichoke" has RGBA8888 code {@code 87B48EFF}, luma 0.61960787, warmth 0.48627454, mildness 0.57254905, alpha 1.0, hue 0.35925928, and saturation 0.23076929.
@@ -1251,7 +1152,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARTICHOKE = -0x1.24f93cp126F;
-    static { NAMED.put("Artichoke", -0x1.24f93cp126F); LIST.add(-0x1.24f93cp126F); }
 
     /**
      * This color constant "Viridian" has RGBA8888 code {@code 507D5FFF}, luma 0.40784317, warmth 0.47058827, mildness 0.5568628, alpha 1.0, hue 0.3888889, and saturation 0.21951216.
@@ -1263,7 +1163,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIRIDIAN = -0x1.1cf0dp126F;
-    static { NAMED.put("Viridian", -0x1.1cf0dp126F); LIST.add(-0x1.1cf0dp126F); }
 
     /**
      * This color constant "Floral Foam" has RGBA8888 code {@code 0F6946FF}, luma 0.25882354, warmth 0.3921569, mildness 0.5686275, alpha 1.0, hue 0.43406594, and saturation 0.7647059.
@@ -1275,7 +1174,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLORAL_FOAM = -0x1.22c884p126F;
-    static { NAMED.put("Floral Foam", -0x1.22c884p126F); LIST.add(-0x1.22c884p126F); }
 
     /**
      * This color constant "Hunter Green" has RGBA8888 code {@code 1E2D23FF}, luma 0.14901961, warmth 0.4901961, mildness 0.5176471, alpha 1.0, hue 0.3888889, and saturation 0.19999997.
@@ -1287,7 +1185,6 @@ public class Palette {
      * </pre>
      */
     public static final float HUNTER_GREEN = -0x1.08fa4cp126F;
-    static { NAMED.put("Hunter Green", -0x1.08fa4cp126F); LIST.add(-0x1.08fa4cp126F); }
 
     /**
      * This color constant "Dark Teal" has RGBA8888 code {@code 234146FF}, luma 0.21176472, warmth 0.43137258, mildness 0.4901961, alpha 1.0, hue 0.5190476, and saturation 0.33980578.
@@ -1299,7 +1196,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_TEAL = -0x1.fadc6cp125F;
-    static { NAMED.put("Dark Teal", -0x1.fadc6cp125F); LIST.add(-0x1.fadc6cp125F); }
 
     /**
      * This color constant "Kyanite" has RGBA8888 code {@code 3B7373FF}, luma 0.36862746, warmth 0.38823533, mildness 0.49803925, alpha 1.0, hue 0.5, and saturation 0.32183915.
@@ -1311,7 +1207,6 @@ public class Palette {
      * </pre>
      */
     public static final float KYANITE = -0x1.fec6bcp125F;
-    static { NAMED.put("Kyanite", -0x1.fec6bcp125F); LIST.add(-0x1.fec6bcp125F); }
 
     /**
      * This color constant "Spearmint" has RGBA8888 code {@code 64ABABFF}, luma 0.5647059, warmth 0.36078432, mildness 0.49803925, alpha 1.0, hue 0.5, and saturation 0.2970712.
@@ -1323,7 +1218,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPEARMINT = -0x1.feb92p125F;
-    static { NAMED.put("Spearmint", -0x1.feb92p125F); LIST.add(-0x1.feb92p125F); }
 
     /**
      * This color constant "Amazonite" has RGBA8888 code {@code 8FC7C7FF}, luma 0.69803923, warmth 0.38823533, mildness 0.49803925, alpha 1.0, hue 0.5, and saturation 0.33333352.
@@ -1335,7 +1229,6 @@ public class Palette {
      * </pre>
      */
     public static final float AMAZONITE = -0x1.fec764p125F;
-    static { NAMED.put("Amazonite", -0x1.fec764p125F); LIST.add(-0x1.fec764p125F); }
 
     /**
      * This color constant "Pastel Sky" has RGBA8888 code {@code ABE3E3FF}, luma 0.8078432, warmth 0.38823533, mildness 0.49803925, alpha 1.0, hue 0.5, and saturation 0.5000003.
@@ -1347,7 +1240,6 @@ public class Palette {
      * </pre>
      */
     public static final float PASTEL_SKY = -0x1.fec79cp125F;
-    static { NAMED.put("Pastel Sky", -0x1.fec79cp125F); LIST.add(-0x1.fec79cp125F); }
 
     /**
      * This color constant "Aquamarine" has RGBA8888 code {@code C7F1F1FF}, luma 0.882353, warmth 0.4156863, mildness 0.49803925, alpha 1.0, hue 0.5, and saturation 0.605634.
@@ -1359,7 +1251,6 @@ public class Palette {
      * </pre>
      */
     public static final float AQUAMARINE = -0x1.fed5c2p125F;
-    static { NAMED.put("Aquamarine", -0x1.fed5c2p125F); LIST.add(-0x1.fed5c2p125F); }
 
     /**
      * This color constant "Dust Bunny" has RGBA8888 code {@code BED2F0FF}, luma 0.8078432, warmth 0.40000004, mildness 0.43921572, alpha 1.0, hue 0.5980392, and saturation 0.6296299.
@@ -1371,7 +1262,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUST_BUNNY = -0x1.e0cd9cp125F;
-    static { NAMED.put("Dust Bunny", -0x1.e0cd9cp125F); LIST.add(-0x1.e0cd9cp125F); }
 
     /**
      * This color constant "Patina" has RGBA8888 code {@code ABC7E3FF}, luma 0.75294125, warmth 0.38823533, mildness 0.4431373, alpha 1.0, hue 0.5833333, and saturation 0.5000003.
@@ -1383,7 +1273,6 @@ public class Palette {
      * </pre>
      */
     public static final float PATINA = -0x1.e2c78p125F;
-    static { NAMED.put("Patina", -0x1.e2c78p125F); LIST.add(-0x1.e2c78p125F); }
 
     /**
      * This color constant "Chipped Granite" has RGBA8888 code {@code A8B9DCFF}, luma 0.7176471, warmth 0.39607847, mildness 0.43137258, alpha 1.0, hue 0.6069183, and saturation 0.4308945.
@@ -1395,7 +1284,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHIPPED_GRANITE = -0x1.dccb6ep125F;
-    static { NAMED.put("Chipped Granite", -0x1.dccb6ep125F); LIST.add(-0x1.dccb6ep125F); }
 
     /**
      * This color constant "Blue Smoke" has RGBA8888 code {@code 8FABC7FF}, luma 0.6431373, warmth 0.38823533, mildness 0.4431373, alpha 1.0, hue 0.5833334, and saturation 0.33333352.
@@ -1407,7 +1295,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_SMOKE = -0x1.e2c748p125F;
-    static { NAMED.put("Blue Smoke", -0x1.e2c748p125F); LIST.add(-0x1.e2c748p125F); }
 
     /**
      * This color constant "Air Force Blue" has RGBA8888 code {@code 578FC7FF}, luma 0.5058824, warmth 0.2784314, mildness 0.38823533, alpha 1.0, hue 0.5833334, and saturation 0.5000001.
@@ -1419,7 +1306,6 @@ public class Palette {
      * </pre>
      */
     public static final float AIR_FORCE_BLUE = -0x1.c68f02p125F;
-    static { NAMED.put("Air Force Blue", -0x1.c68f02p125F); LIST.add(-0x1.c68f02p125F); }
 
     /**
      * This color constant "Cold Iron" has RGBA8888 code {@code 57738FFF}, luma 0.42352945, warmth 0.38823533, mildness 0.4431373, alpha 1.0, hue 0.5833334, and saturation 0.24347831.
@@ -1431,7 +1317,6 @@ public class Palette {
      * </pre>
      */
     public static final float COLD_IRON = -0x1.e2c6d8p125F;
-    static { NAMED.put("Cold Iron", -0x1.e2c6d8p125F); LIST.add(-0x1.e2c6d8p125F); }
 
     /**
      * This color constant "Dreary Blue" has RGBA8888 code {@code 3B5773FF}, luma 0.3137255, warmth 0.38823533, mildness 0.4431373, alpha 1.0, hue 0.5833334, and saturation 0.32183915.
@@ -1443,7 +1328,6 @@ public class Palette {
      * </pre>
      */
     public static final float DREARY_BLUE = -0x1.e2c6ap125F;
-    static { NAMED.put("Dreary Blue", -0x1.e2c6ap125F); LIST.add(-0x1.e2c6ap125F); }
 
     /**
      * This color constant "Murk" has RGBA8888 code {@code 0F192DFF}, luma 0.09019608, warmth 0.43921572, mildness 0.45882356, alpha 1.0, hue 0.6075269, and saturation 0.5254236.
@@ -1455,7 +1339,6 @@ public class Palette {
      * </pre>
      */
     public static final float MURK = -0x1.eae02ep125F;
-    static { NAMED.put("Murk", -0x1.eae02ep125F); LIST.add(-0x1.eae02ep125F); }
 
     /**
      * This color constant "Ninja" has RGBA8888 code {@code 1F1F3BFF}, luma 0.13333334, warmth 0.4431373, mildness 0.4431373, alpha 1.0, hue 0.66091955, and saturation 0.32584265.
@@ -1467,7 +1350,6 @@ public class Palette {
      * </pre>
      */
     public static final float NINJA = -0x1.e2e244p125F;
-    static { NAMED.put("Ninja", -0x1.e2e244p125F); LIST.add(-0x1.e2e244p125F); }
 
     /**
      * This color constant "Watercolor Black" has RGBA8888 code {@code 3B3B57FF}, luma 0.24313727, warmth 0.4431373, mildness 0.4431373, alpha 1.0, hue 0.66091955, and saturation 0.19999997.
@@ -1479,7 +1361,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_BLACK = -0x1.e2e27cp125F;
-    static { NAMED.put("Watercolor Black", -0x1.e2e27cp125F); LIST.add(-0x1.e2e27cp125F); }
 
     /**
      * This color constant "Iolite" has RGBA8888 code {@code 494973FF}, luma 0.30588236, warmth 0.4156863, mildness 0.4156863, alpha 1.0, hue 0.6627907, and saturation 0.2299465.
@@ -1491,7 +1372,6 @@ public class Palette {
      * </pre>
      */
     public static final float IOLITE = -0x1.d4d49cp125F;
-    static { NAMED.put("Iolite", -0x1.d4d49cp125F); LIST.add(-0x1.d4d49cp125F); }
 
     /**
      * This color constant "Boysenberry" has RGBA8888 code {@code 57578FFF}, luma 0.36862746, warmth 0.38823533, mildness 0.38823533, alpha 1.0, hue 0.6666667, and saturation 0.24347831.
@@ -1503,7 +1383,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOYSENBERRY = -0x1.c6c6bcp125F;
-    static { NAMED.put("Boysenberry", -0x1.c6c6bcp125F); LIST.add(-0x1.c6c6bcp125F); }
 
     /**
      * This color constant "Watercolor Gray" has RGBA8888 code {@code 736EAAFF}, luma 0.4666667, warmth 0.3921569, mildness 0.3803922, alpha 1.0, hue 0.6805556, and saturation 0.26086956.
@@ -1515,7 +1394,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_GRAY = -0x1.c2c8eep125F;
-    static { NAMED.put("Watercolor Gray", -0x1.c2c8eep125F); LIST.add(-0x1.c2c8eep125F); }
 
     /**
      * This color constant "Blue Steel" has RGBA8888 code {@code 7676CAFF}, luma 0.5019608, warmth 0.33333334, mildness 0.33333334, alpha 1.0, hue 0.66470593, and saturation 0.44502628.
@@ -1527,7 +1405,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_STEEL = -0x1.aaabp125F;
-    static { NAMED.put("Blue Steel", -0x1.aaabp125F); LIST.add(-0x1.aaabp125F); }
 
     /**
      * This color constant "Twilight Cloud" has RGBA8888 code {@code 8F8FC7FF}, luma 0.5882353, warmth 0.38823533, mildness 0.38823533, alpha 1.0, hue 0.6666667, and saturation 0.33333352.
@@ -1539,7 +1416,6 @@ public class Palette {
      * </pre>
      */
     public static final float TWILIGHT_CLOUD = -0x1.c6c72cp125F;
-    static { NAMED.put("Twilight Cloud", -0x1.c6c72cp125F); LIST.add(-0x1.c6c72cp125F); }
 
     /**
      * This color constant "Smog" has RGBA8888 code {@code ABABE3FF}, luma 0.69803923, warmth 0.38823533, mildness 0.38823533, alpha 1.0, hue 0.6666667, and saturation 0.5000003.
@@ -1551,7 +1427,6 @@ public class Palette {
      * </pre>
      */
     public static final float SMOG = -0x1.c6c764p125F;
-    static { NAMED.put("Smog", -0x1.c6c764p125F); LIST.add(-0x1.c6c764p125F); }
 
     /**
      * This color constant "Tropic Mist" has RGBA8888 code {@code D0DAF8FF}, luma 0.854902, warmth 0.41960788, mildness 0.43921572, alpha 1.0, hue 0.625, and saturation 0.74074113.
@@ -1563,7 +1438,6 @@ public class Palette {
      * </pre>
      */
     public static final float TROPIC_MIST = -0x1.e0d7b4p125F;
-    static { NAMED.put("Tropic Mist", -0x1.e0d7b4p125F); LIST.add(-0x1.e0d7b4p125F); }
 
     /**
      * This color constant "Feather Down" has RGBA8888 code {@code E3E3FFFF}, luma 0.90196085, warmth 0.4431373, mildness 0.4431373, alpha 1.0, hue 0.66091955, and saturation 1.0.
@@ -1575,7 +1449,6 @@ public class Palette {
      * </pre>
      */
     public static final float FEATHER_DOWN = -0x1.e2e3ccp125F;
-    static { NAMED.put("Feather Down", -0x1.e2e3ccp125F); LIST.add(-0x1.e2e3ccp125F); }
 
     /**
      * This color constant "Mild Violet" has RGBA8888 code {@code AB8FC7FF}, luma 0.627451, warmth 0.4431373, mildness 0.38823533, alpha 1.0, hue 0.7470238, and saturation 0.33333352.
@@ -1587,7 +1460,6 @@ public class Palette {
      * </pre>
      */
     public static final float MILD_VIOLET = -0x1.c6e34p125F;
-    static { NAMED.put("Mild Violet", -0x1.c6e34p125F); LIST.add(-0x1.c6e34p125F); }
 
     /**
      * This color constant "Violet Cushions" has RGBA8888 code {@code 8F57C7FF}, luma 0.4784314, warmth 0.38823533, mildness 0.2784314, alpha 1.0, hue 0.75, and saturation 0.5000001.
@@ -1599,7 +1471,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET_CUSHIONS = -0x1.8ec6f4p125F;
-    static { NAMED.put("Violet Cushions", -0x1.8ec6f4p125F); LIST.add(-0x1.8ec6f4p125F); }
 
     /**
      * This color constant "Dull Violet" has RGBA8888 code {@code 73578FFF}, luma 0.40784317, warmth 0.4431373, mildness 0.38823533, alpha 1.0, hue 0.7470238, and saturation 0.24347831.
@@ -1611,7 +1482,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_VIOLET = -0x1.c6e2dp125F;
-    static { NAMED.put("Dull Violet", -0x1.c6e2dp125F); LIST.add(-0x1.c6e2dp125F); }
 
     /**
      * This color constant "Royal Violet" has RGBA8888 code {@code 573B73FF}, luma 0.29803923, warmth 0.4431373, mildness 0.38823533, alpha 1.0, hue 0.7470238, and saturation 0.32183915.
@@ -1623,7 +1493,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_VIOLET = -0x1.c6e298p125F;
-    static { NAMED.put("Royal Violet", -0x1.c6e298p125F); LIST.add(-0x1.c6e298p125F); }
 
     /**
      * This color constant "Eminence" has RGBA8888 code {@code 3C233CFF}, luma 0.18431373, warmth 0.49803925, mildness 0.45098042, alpha 1.0, hue 0.8333334, and saturation 0.25531912.
@@ -1635,7 +1504,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMINENCE = -0x1.e6fe5ep125F;
-    static { NAMED.put("Eminence", -0x1.e6fe5ep125F); LIST.add(-0x1.e6fe5ep125F); }
 
     /**
      * This color constant "Prune" has RGBA8888 code {@code 463246FF}, luma 0.23529413, warmth 0.49803925, mildness 0.45882356, alpha 1.0, hue 0.8333333, and saturation 0.16666664.
@@ -1647,7 +1515,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUNE = -0x1.eafe78p125F;
-    static { NAMED.put("Prune", -0x1.eafe78p125F); LIST.add(-0x1.eafe78p125F); }
 
     /**
      * This color constant "Dusty Grape" has RGBA8888 code {@code 724072FF}, luma 0.34901962, warmth 0.49803925, mildness 0.40000004, alpha 1.0, hue 0.8333334, and saturation 0.28089884.
@@ -1659,7 +1526,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GRAPE = -0x1.ccfeb2p125F;
-    static { NAMED.put("Dusty Grape", -0x1.ccfeb2p125F); LIST.add(-0x1.ccfeb2p125F); }
 
     /**
      * This color constant "Pink Violet" has RGBA8888 code {@code 8F578FFF}, luma 0.45098042, warmth 0.49803925, mildness 0.38823533, alpha 1.0, hue 0.8333334, and saturation 0.24347831.
@@ -1671,7 +1537,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_VIOLET = -0x1.c6fee6p125F;
-    static { NAMED.put("Pink Violet", -0x1.c6fee6p125F); LIST.add(-0x1.c6fee6p125F); }
 
     /**
      * This color constant "Ripe Plum" has RGBA8888 code {@code AB57ABFF}, luma 0.5058824, warmth 0.49803925, mildness 0.33333334, alpha 1.0, hue 0.8333334, and saturation 0.33333334.
@@ -1683,7 +1548,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPE_PLUM = -0x1.aaff02p125F;
-    static { NAMED.put("Ripe Plum", -0x1.aaff02p125F); LIST.add(-0x1.aaff02p125F); }
 
     /**
      * This color constant "Mauve" has RGBA8888 code {@code AB73ABFF}, luma 0.56078434, warmth 0.49803925, mildness 0.38823533, alpha 1.0, hue 0.8333333, and saturation 0.25.
@@ -1695,7 +1559,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAUVE = -0x1.c6ff1ep125F;
-    static { NAMED.put("Mauve", -0x1.c6ff1ep125F); LIST.add(-0x1.c6ff1ep125F); }
 
     /**
      * This color constant "Ham" has RGBA8888 code {@code EBACE1FF}, luma 0.79215693, warmth 0.5176471, mildness 0.39607847, alpha 1.0, hue 0.8579235, and saturation 0.59223324.
@@ -1707,7 +1570,6 @@ public class Palette {
      * </pre>
      */
     public static final float HAM = -0x1.cb0994p125F;
-    static { NAMED.put("Ham", -0x1.cb0994p125F); LIST.add(-0x1.cb0994p125F); }
 
     /**
      * This color constant "Cotton Candy" has RGBA8888 code {@code FFDCF5FF}, luma 0.92549026, warmth 0.5176471, mildness 0.45098042, alpha 1.0, hue 0.8787879, and saturation 0.9428579.
@@ -1719,7 +1581,6 @@ public class Palette {
      * </pre>
      */
     public static final float COTTON_CANDY = -0x1.e709d8p125F;
-    static { NAMED.put("Cotton Candy", -0x1.e709d8p125F); LIST.add(-0x1.e709d8p125F); }
 
     /**
      * This color constant "Silver Pink" has RGBA8888 code {@code E3C7E3FF}, luma 0.8352942, warmth 0.49803925, mildness 0.4431373, alpha 1.0, hue 0.8333333, and saturation 0.33333346.
@@ -1731,7 +1592,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_PINK = -0x1.e2ffaap125F;
-    static { NAMED.put("Silver Pink", -0x1.e2ffaap125F); LIST.add(-0x1.e2ffaap125F); }
 
     /**
      * This color constant "Tea Rose" has RGBA8888 code {@code E1B9D2FF}, luma 0.7960785, warmth 0.5294118, mildness 0.45098042, alpha 1.0, hue 0.9, and saturation 0.40000013.
@@ -1743,7 +1603,6 @@ public class Palette {
      * </pre>
      */
     public static final float TEA_ROSE = -0x1.e70f96p125F;
-    static { NAMED.put("Tea Rose", -0x1.e70f96p125F); LIST.add(-0x1.e70f96p125F); }
 
     /**
      * This color constant "Old Rose" has RGBA8888 code {@code D7A0BEFF}, luma 0.72156864, warmth 0.54901963, mildness 0.43921572, alpha 1.0, hue 0.90909094, and saturation 0.40740755.
@@ -1755,7 +1614,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLD_ROSE = -0x1.e1197p125F;
-    static { NAMED.put("Old Rose", -0x1.e1197p125F); LIST.add(-0x1.e1197p125F); }
 
     /**
      * This color constant "Dusty Pink" has RGBA8888 code {@code C78FB9FF}, luma 0.6627451, warmth 0.5254902, mildness 0.4156863, alpha 1.0, hue 0.8727273, and saturation 0.3254439.
@@ -1767,7 +1625,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_PINK = -0x1.d50d52p125F;
-    static { NAMED.put("Dusty Pink", -0x1.d50d52p125F); LIST.add(-0x1.d50d52p125F); }
 
     /**
      * This color constant "Roseate Spoonbill" has RGBA8888 code {@code C87DA0FF}, luma 0.6156863, warmth 0.5764706, mildness 0.43137258, alpha 1.0, hue 0.9234234, and saturation 0.39784953.
@@ -1779,7 +1636,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSEATE_SPOONBILL = -0x1.dd273ap125F;
-    static { NAMED.put("Roseate Spoonbill", -0x1.dd273ap125F); LIST.add(-0x1.dd273ap125F); }
 
     /**
      * This color constant "Thulian Pink" has RGBA8888 code {@code C35A91FF}, luma 0.53333336, warmth 0.59607846, mildness 0.3921569, alpha 1.0, hue 0.9126214, and saturation 0.4577779.
@@ -1791,7 +1647,6 @@ public class Palette {
      * </pre>
      */
     public static final float THULIAN_PINK = -0x1.c9311p125F;
-    static { NAMED.put("Thulian Pink", -0x1.c9311p125F); LIST.add(-0x1.c9311p125F); }
 
     /**
      * This color constant "Brown Velvet" has RGBA8888 code {@code 4B2837FF}, luma 0.21568629, warmth 0.5372549, mildness 0.47058827, alpha 1.0, hue 0.9292929, and saturation 0.28695658.
@@ -1803,7 +1658,6 @@ public class Palette {
      * </pre>
      */
     public static final float BROWN_VELVET = -0x1.f1126ep125F;
-    static { NAMED.put("Brown Velvet", -0x1.f1126ep125F); LIST.add(-0x1.f1126ep125F); }
 
     /**
      * This color constant "Nightshade" has RGBA8888 code {@code 321623FF}, luma 0.13333334, warmth 0.5294118, mildness 0.47450984, alpha 1.0, hue 0.92857146, and saturation 0.3888888.
@@ -1815,7 +1669,6 @@ public class Palette {
      * </pre>
      */
     public static final float NIGHTSHADE = -0x1.f30e44p125F;
-    static { NAMED.put("Nightshade", -0x1.f30e44p125F); LIST.add(-0x1.f30e44p125F); }
 
     /**
      * This color constant "Scribe Ink" has RGBA8888 code {@code 280A1EFF}, luma 0.09019608, warmth 0.5176471, mildness 0.45882356, alpha 1.0, hue 0.88505745, and saturation 0.59183675.
@@ -1827,7 +1680,6 @@ public class Palette {
      * </pre>
      */
     public static final float SCRIBE_INK = -0x1.eb082ep125F;
-    static { NAMED.put("Scribe Ink", -0x1.eb082ep125F); LIST.add(-0x1.eb082ep125F); }
 
     /**
      * This color constant "Varnish" has RGBA8888 code {@code 401811FF}, luma 0.14901961, warmth 0.5921569, mildness 0.5137255, alpha 1.0, hue 0.027777778, and saturation 0.6.
@@ -1839,7 +1691,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARNISH = -0x1.072e4cp126F;
-    static { NAMED.put("Varnish", -0x1.072e4cp126F); LIST.add(-0x1.072e4cp126F); }
 
     /**
      * This color constant "Cedar Wood" has RGBA8888 code {@code 621800FF}, luma 0.18823531, warmth 0.6901961, mildness 0.54509807, alpha 1.0, hue 0.041237112, and saturation 1.0.
@@ -1851,7 +1702,6 @@ public class Palette {
      * </pre>
      */
     public static final float CEDAR_WOOD = -0x1.17606p126F;
-    static { NAMED.put("Cedar Wood", -0x1.17606p126F); LIST.add(-0x1.17606p126F); }
 
     /**
      * This color constant "Hot Sauce" has RGBA8888 code {@code A5140AFF}, luma 0.28627452, warmth 0.80392164, mildness 0.5176471, alpha 1.0, hue 0.010752688, and saturation 0.8857145.
@@ -1863,7 +1713,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOT_SAUCE = -0x1.099a92p126F;
-    static { NAMED.put("Hot Sauce", -0x1.099a92p126F); LIST.add(-0x1.099a92p126F); }
 
     /**
      * This color constant "Lurid Red" has RGBA8888 code {@code DA2010FF}, luma 0.38823533, warmth 0.8941177, mildness 0.5294118, alpha 1.0, hue 0.013266998, and saturation 0.86266094.
@@ -1875,7 +1724,6 @@ public class Palette {
      * </pre>
      */
     public static final float LURID_RED = -0x1.0fc8c6p126F;
-    static { NAMED.put("Lurid Red", -0x1.0fc8c6p126F); LIST.add(-0x1.0fc8c6p126F); }
 
     /**
      * This color constant "Brick" has RGBA8888 code {@code D5524AFF}, luma 0.50980395, warmth 0.7725491, mildness 0.5137255, alpha 1.0, hue 0.009592325, and saturation 0.6233185.
@@ -1887,7 +1735,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRICK = -0x1.078b04p126F;
-    static { NAMED.put("Brick", -0x1.078b04p126F); LIST.add(-0x1.078b04p126F); }
 
     /**
      * This color constant "Bright Red" has RGBA8888 code {@code FF3C0AFF}, luma 0.49411768, warmth 0.9803922, mildness 0.59607846, alpha 1.0, hue 0.034013607, and saturation 0.99190295.
@@ -1899,7 +1746,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRIGHT_RED = -0x1.31f4fcp126F;
-    static { NAMED.put("Bright Red", -0x1.31f4fcp126F); LIST.add(-0x1.31f4fcp126F); }
 
     /**
      * This color constant "Embers" has RGBA8888 code {@code F55A32FF}, luma 0.56078434, warmth 0.882353, mildness 0.5764706, alpha 1.0, hue 0.034188032, and saturation 0.9069769.
@@ -1911,7 +1757,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMBERS = -0x1.27c31ep126F;
-    static { NAMED.put("Embers", -0x1.27c31ep126F); LIST.add(-0x1.27c31ep126F); }
 
     /**
      * This color constant "Salmon" has RGBA8888 code {@code FF6262FF}, luma 0.6117647, warmth 0.8078432, mildness 0.49803925, alpha 1.0, hue 0.0, and saturation 0.9874216.
@@ -1923,7 +1768,6 @@ public class Palette {
      * </pre>
      */
     public static final float SALMON = -0x1.ff9d38p125F;
-    static { NAMED.put("Salmon", -0x1.ff9d38p125F); LIST.add(-0x1.ff9d38p125F); }
 
     /**
      * This color constant "Taxicab Yellow" has RGBA8888 code {@code F6BD31FF}, luma 0.75294125, warmth 0.8862746, mildness 0.7725491, alpha 1.0, hue 0.11844331, and saturation 0.90783423.
@@ -1935,7 +1779,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAXICAB_YELLOW = -0x1.8bc58p126F;
-    static { NAMED.put("Taxicab Yellow", -0x1.8bc58p126F); LIST.add(-0x1.8bc58p126F); }
 
     /**
      * This color constant "Apricot" has RGBA8888 code {@code FFA53CFF}, luma 0.7254902, warmth 0.882353, mildness 0.7058824, alpha 1.0, hue 0.09059829, and saturation 0.9898479.
@@ -1947,7 +1790,6 @@ public class Palette {
      * </pre>
      */
     public static final float APRICOT = -0x1.69c372p126F;
-    static { NAMED.put("Apricot", -0x1.69c372p126F); LIST.add(-0x1.69c372p126F); }
 
     /**
      * This color constant "Burnt Yellow" has RGBA8888 code {@code D79B0FFF}, luma 0.627451, warmth 0.89019614, mildness 0.7725491, alpha 1.0, hue 0.11666665, and saturation 0.8695651.
@@ -1959,7 +1801,6 @@ public class Palette {
      * </pre>
      */
     public static final float BURNT_YELLOW = -0x1.8bc74p126F;
-    static { NAMED.put("Burnt Yellow", -0x1.8bc74p126F); LIST.add(-0x1.8bc74p126F); }
 
     /**
      * This color constant "Dry Pepper" has RGBA8888 code {@code DA6E0AFF}, luma 0.5411765, warmth 0.9058824, mildness 0.69411767, alpha 1.0, hue 0.0801282, and saturation 0.91228086.
@@ -1971,7 +1812,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_PEPPER = -0x1.63cf14p126F;
-    static { NAMED.put("Dry Pepper", -0x1.63cf14p126F); LIST.add(-0x1.63cf14p126F); }
 
     /**
      * This color constant "Redwood" has RGBA8888 code {@code B45A00FF}, luma 0.43921572, warmth 0.85098046, mildness 0.6745098, alpha 1.0, hue 0.083798885, and saturation 1.0.
@@ -1983,7 +1823,6 @@ public class Palette {
      * </pre>
      */
     public static final float REDWOOD = -0x1.59b2ep126F;
-    static { NAMED.put("Redwood", -0x1.59b2ep126F); LIST.add(-0x1.59b2ep126F); }
 
     /**
      * This color constant "Koa" has RGBA8888 code {@code A04B05FF}, luma 0.38431376, warmth 0.80392164, mildness 0.63529414, alpha 1.0, hue 0.07526882, and saturation 0.93939394.
@@ -1995,7 +1834,6 @@ public class Palette {
      * </pre>
      */
     public static final float KOA = -0x1.459ac4p126F;
-    static { NAMED.put("Koa", -0x1.459ac4p126F); LIST.add(-0x1.459ac4p126F); }
 
     /**
      * This color constant "Ochre" has RGBA8888 code {@code 5F3214FF}, luma 0.24705884, warmth 0.64705884, mildness 0.5568628, alpha 1.0, hue 0.06666668, and saturation 0.65217406.
@@ -2007,7 +1845,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCHRE = -0x1.1d4a7ep126F;
-    static { NAMED.put("Ochre", -0x1.1d4a7ep126F); LIST.add(-0x1.1d4a7ep126F); }
 
     /**
      * This color constant "Dull Green" has RGBA8888 code {@code 53500AFF}, luma 0.28235295, warmth 0.6431373, mildness 0.63529414, alpha 1.0, hue 0.15981735, and saturation 0.7849461.
@@ -2019,7 +1856,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_GREEN = -0x1.45489p126F;
-    static { NAMED.put("Dull Green", -0x1.45489p126F); LIST.add(-0x1.45489p126F); }
 
     /**
      * This color constant "Army Green" has RGBA8888 code {@code 626200FF}, luma 0.33333334, warmth 0.6901961, mildness 0.6901961, alpha 1.0, hue 0.16836734, and saturation 1.0.
@@ -2031,7 +1867,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARMY_GREEN = -0x1.6160aap126F;
-    static { NAMED.put("Army Green", -0x1.6160aap126F); LIST.add(-0x1.6160aap126F); }
 
     /**
      * This color constant "Driftwood" has RGBA8888 code {@code 8C805AFF}, luma 0.49803925, warmth 0.59607846, mildness 0.57254905, alpha 1.0, hue 0.12925172, and saturation 0.21397378.
@@ -2043,7 +1878,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIFTWOOD = -0x1.2530fep126F;
-    static { NAMED.put("Driftwood", -0x1.2530fep126F); LIST.add(-0x1.2530fep126F); }
 
     /**
      * This color constant "Dry Brush" has RGBA8888 code {@code AC9400FF}, luma 0.5411765, warmth 0.8352942, mildness 0.78823537, alpha 1.0, hue 0.14424951, and saturation 1.0.
@@ -2055,7 +1889,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_BRUSH = -0x1.93ab14p126F;
-    static { NAMED.put("Dry Brush", -0x1.93ab14p126F); LIST.add(-0x1.93ab14p126F); }
 
     /**
      * This color constant "Mush" has RGBA8888 code {@code B1B10AFF}, luma 0.6117647, warmth 0.82745105, mildness 0.82745105, alpha 1.0, hue 0.16666666, and saturation 0.90322566.
@@ -2067,7 +1900,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUSH = -0x1.a7a738p126F;
-    static { NAMED.put("Mush", -0x1.a7a738p126F); LIST.add(-0x1.a7a738p126F); }
 
     /**
      * This color constant "Banana Pudding" has RGBA8888 code {@code E6D55AFF}, luma 0.8000001, warmth 0.7725491, mildness 0.7411765, alpha 1.0, hue 0.14868106, and saturation 0.7277488.
@@ -2079,7 +1911,6 @@ public class Palette {
      * </pre>
      */
     public static final float BANANA_PUDDING = -0x1.7b8b98p126F;
-    static { NAMED.put("Banana Pudding", -0x1.7b8b98p126F); LIST.add(-0x1.7b8b98p126F); }
 
     /**
      * This color constant "Saffron" has RGBA8888 code {@code FFD510FF}, luma 0.8000001, warmth 0.9686275, mildness 0.8862746, alpha 1.0, hue 0.1375, and saturation 1.0.
@@ -2091,7 +1922,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAFFRON = -0x1.c5ef98p126F;
-    static { NAMED.put("Saffron", -0x1.c5ef98p126F); LIST.add(-0x1.c5ef98p126F); }
 
     /**
      * This color constant "Pencil Yellow" has RGBA8888 code {@code FFEA4AFF}, luma 0.86666673, warmth 0.854902, mildness 0.8117648, alpha 1.0, hue 0.14732967, and saturation 0.9890712.
@@ -2103,7 +1933,6 @@ public class Palette {
      * </pre>
      */
     public static final float PENCIL_YELLOW = -0x1.9fb5bap126F;
-    static { NAMED.put("Pencil Yellow", -0x1.9fb5bap126F); LIST.add(-0x1.9fb5bap126F); }
 
     /**
      * This color constant "Chartreuse" has RGBA8888 code {@code C8FF41FF}, luma 0.8235295, warmth 0.76470596, mildness 0.8705883, alpha 1.0, hue 0.2140351, and saturation 0.9895835.
@@ -2115,7 +1944,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHARTREUSE = -0x1.bd87a4p126F;
-    static { NAMED.put("Chartreuse", -0x1.bd87a4p126F); LIST.add(-0x1.bd87a4p126F); }
 
     /**
      * This color constant "Absinthe" has RGBA8888 code {@code 9BF046FF}, luma 0.7294118, warmth 0.6666667, mildness 0.8313726, alpha 1.0, hue 0.25, and saturation 0.84158427.
@@ -2127,7 +1955,6 @@ public class Palette {
      * </pre>
      */
     public static final float ABSINTHE = -0x1.a95574p126F;
-    static { NAMED.put("Absinthe", -0x1.a95574p126F); LIST.add(-0x1.a95574p126F); }
 
     /**
      * This color constant "Infection" has RGBA8888 code {@code 96DC19FF}, luma 0.6627451, warmth 0.74509805, mildness 0.882353, alpha 1.0, hue 0.22704083, and saturation 0.8032788.
@@ -2139,7 +1966,6 @@ public class Palette {
      * </pre>
      */
     public static final float INFECTION = -0x1.c37d52p126F;
-    static { NAMED.put("Infection", -0x1.c37d52p126F); LIST.add(-0x1.c37d52p126F); }
 
     /**
      * This color constant "Frog Green" has RGBA8888 code {@code 73C805FF}, luma 0.56078434, warmth 0.7137255, mildness 0.882353, alpha 1.0, hue 0.24064627, and saturation 0.9607843.
@@ -2151,7 +1977,6 @@ public class Palette {
      * </pre>
      */
     public static final float FROG_GREEN = -0x1.c36d1ep126F;
-    static { NAMED.put("Frog Green", -0x1.c36d1ep126F); LIST.add(-0x1.c36d1ep126F); }
 
     /**
      * This color constant "Avocado" has RGBA8888 code {@code 6AA805FF}, luma 0.48627454, warmth 0.69803923, mildness 0.8196079, alpha 1.0, hue 0.23069106, and saturation 0.9534885.
@@ -2163,7 +1988,6 @@ public class Palette {
      * </pre>
      */
     public static final float AVOCADO = -0x1.a364f8p126F;
-    static { NAMED.put("Avocado", -0x1.a364f8p126F); LIST.add(-0x1.a364f8p126F); }
 
     /**
      * This color constant "Woodlands" has RGBA8888 code {@code 3C6E14FF}, luma 0.3137255, warmth 0.5764706, mildness 0.6745098, alpha 1.0, hue 0.25925925, and saturation 0.6923077.
@@ -2175,7 +1999,6 @@ public class Palette {
      * </pre>
      */
     public static final float WOODLANDS = -0x1.5926ap126F;
-    static { NAMED.put("Woodlands", -0x1.5926ap126F); LIST.add(-0x1.5926ap126F); }
 
     /**
      * This color constant "Dark Pine" has RGBA8888 code {@code 283405FF}, luma 0.16078432, warmth 0.5686275, mildness 0.5921569, alpha 1.0, hue 0.21180558, and saturation 0.85714275.
@@ -2187,7 +2010,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_PINE = -0x1.2f2252p126F;
-    static { NAMED.put("Dark Pine", -0x1.2f2252p126F); LIST.add(-0x1.2f2252p126F); }
 
     /**
      * This color constant "Moss Green" has RGBA8888 code {@code 204608FF}, luma 0.18823531, warmth 0.54509807, mildness 0.61960787, alpha 1.0, hue 0.26881722, and saturation 0.7948718.
@@ -2199,7 +2021,6 @@ public class Palette {
      * </pre>
      */
     public static final float MOSS_GREEN = -0x1.3d166p126F;
-    static { NAMED.put("Moss Green", -0x1.3d166p126F); LIST.add(-0x1.3d166p126F); }
 
     /**
      * This color constant "Fern Green" has RGBA8888 code {@code 0C5C0CFF}, luma 0.20392159, warmth 0.49803925, mildness 0.654902, alpha 1.0, hue 0.33333334, and saturation 0.7692308.
@@ -2211,7 +2032,6 @@ public class Palette {
      * </pre>
      */
     public static final float FERN_GREEN = -0x1.4efe68p126F;
-    static { NAMED.put("Fern Green", -0x1.4efe68p126F); LIST.add(-0x1.4efe68p126F); }
 
     /**
      * This color constant "Forest Glen" has RGBA8888 code {@code 149605FF}, luma 0.3254902, warmth 0.5294118, mildness 0.7843138, alpha 1.0, hue 0.3150685, and saturation 0.9480519.
@@ -2223,7 +2043,6 @@ public class Palette {
      * </pre>
      */
     public static final float FOREST_GLEN = -0x1.910ea6p126F;
-    static { NAMED.put("Forest Glen", -0x1.910ea6p126F); LIST.add(-0x1.910ea6p126F); }
 
     /**
      * This color constant "Malachite" has RGBA8888 code {@code 0AD70AFF}, luma 0.43921572, warmth 0.49803925, mildness 0.90196085, alpha 1.0, hue 0.33333334, and saturation 0.91964287.
@@ -2235,7 +2054,6 @@ public class Palette {
      * </pre>
      */
     public static final float MALACHITE = -0x1.ccfeep126F;
-    static { NAMED.put("Malachite", -0x1.ccfeep126F); LIST.add(-0x1.ccfeep126F); }
 
     /**
      * This color constant "Apple Green" has RGBA8888 code {@code 14E60AFF}, luma 0.48235297, warmth 0.5176471, mildness 0.9294118, alpha 1.0, hue 0.32651517, and saturation 0.9166667.
@@ -2247,7 +2065,6 @@ public class Palette {
      * </pre>
      */
     public static final float APPLE_GREEN = -0x1.db08f6p126F;
-    static { NAMED.put("Apple Green", -0x1.db08f6p126F); LIST.add(-0x1.db08f6p126F); }
 
     /**
      * This color constant "Celery" has RGBA8888 code {@code 7DFF73FF}, luma 0.7372549, warmth 0.5176471, mildness 0.7725491, alpha 1.0, hue 0.32261905, and saturation 1.0.
@@ -2259,7 +2076,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELERY = -0x1.8b0978p126F;
-    static { NAMED.put("Celery", -0x1.8b0978p126F); LIST.add(-0x1.8b0978p126F); }
 
     /**
      * This color constant "Mint Green" has RGBA8888 code {@code 4BF05AFF}, luma 0.62352943, warmth 0.47058827, mildness 0.79215693, alpha 1.0, hue 0.34848484, and saturation 0.846154.
@@ -2271,7 +2087,6 @@ public class Palette {
      * </pre>
      */
     public static final float MINT_GREEN = -0x1.94f13ep126F;
-    static { NAMED.put("Mint Green", -0x1.94f13ep126F); LIST.add(-0x1.94f13ep126F); }
 
     /**
      * This color constant "Emerald" has RGBA8888 code {@code 00C514FF}, luma 0.39607847, warmth 0.45882356, mildness 0.8470589, alpha 1.0, hue 0.35016835, and saturation 1.0.
@@ -2283,7 +2098,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMERALD = -0x1.b0eacap126F;
-    static { NAMED.put("Emerald", -0x1.b0eacap126F); LIST.add(-0x1.b0eacap126F); }
 
     /**
      * This color constant "Prase" has RGBA8888 code {@code 05B450FF}, luma 0.39607847, warmth 0.3529412, mildness 0.69411767, alpha 1.0, hue 0.4047619, and saturation 0.95628417.
@@ -2295,7 +2109,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRASE = -0x1.62b4cap126F;
-    static { NAMED.put("Prase", -0x1.62b4cap126F); LIST.add(-0x1.62b4cap126F); }
 
     /**
      * This color constant "Eucalyptus" has RGBA8888 code {@code 1C8C4EFF}, luma 0.3529412, warmth 0.40000004, mildness 0.61960787, alpha 1.0, hue 0.40855458, and saturation 0.6766467.
@@ -2307,7 +2120,6 @@ public class Palette {
      * </pre>
      */
     public static final float EUCALYPTUS = -0x1.3cccb4p126F;
-    static { NAMED.put("Eucalyptus", -0x1.3cccb4p126F); LIST.add(-0x1.3cccb4p126F); }
 
     /**
      * This color constant "Zucchini" has RGBA8888 code {@code 123832FF}, luma 0.16078432, warmth 0.43529415, mildness 0.50980395, alpha 1.0, hue 0.47368422, and saturation 0.51351357.
@@ -2319,7 +2131,6 @@ public class Palette {
      * </pre>
      */
     public static final float ZUCCHINI = -0x1.04de52p126F;
-    static { NAMED.put("Zucchini", -0x1.04de52p126F); LIST.add(-0x1.04de52p126F); }
 
     /**
      * This color constant "Soft Teal" has RGBA8888 code {@code 129880FF}, luma 0.38431376, warmth 0.28235295, mildness 0.54509807, alpha 1.0, hue 0.47037038, and saturation 0.79881644.
@@ -2331,7 +2142,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOFT_TEAL = -0x1.1690c4p126F;
-    static { NAMED.put("Soft Teal", -0x1.1690c4p126F); LIST.add(-0x1.1690c4p126F); }
 
     /**
      * This color constant "Medium Teal" has RGBA8888 code {@code 06C491FF}, luma 0.46274513, warmth 0.227451, mildness 0.6, alpha 1.0, hue 0.45462477, and saturation 0.9502488.
@@ -2343,7 +2153,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_TEAL = -0x1.3274ecp126F;
-    static { NAMED.put("Medium Teal", -0x1.3274ecp126F); LIST.add(-0x1.3274ecp126F); }
 
     /**
      * This color constant "Spring Green" has RGBA8888 code {@code 00DE6AFF}, luma 0.48627454, warmth 0.2901961, mildness 0.7254902, alpha 1.0, hue 0.4129129, and saturation 1.0.
@@ -2355,7 +2164,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPRING_GREEN = -0x1.7294f8p126F;
-    static { NAMED.put("Spring Green", -0x1.7294f8p126F); LIST.add(-0x1.7294f8p126F); }
 
     /**
      * This color constant "Turquoise" has RGBA8888 code {@code 2DEBA8FF}, luma 0.60784316, warmth 0.25882354, mildness 0.6313726, alpha 1.0, hue 0.4406632, and saturation 0.8268399.
@@ -2367,7 +2175,6 @@ public class Palette {
      * </pre>
      */
     public static final float TURQUOISE = -0x1.428536p126F;
-    static { NAMED.put("Turquoise", -0x1.428536p126F); LIST.add(-0x1.428536p126F); }
 
     /**
      * This color constant "Seafoam" has RGBA8888 code {@code 3CFEA5FF}, luma 0.6666667, warmth 0.29411766, mildness 0.6745098, alpha 1.0, hue 0.4226804, and saturation 0.9897961.
@@ -2379,7 +2186,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAFOAM = -0x1.589754p126F;
-    static { NAMED.put("Seafoam", -0x1.589754p126F); LIST.add(-0x1.589754p126F); }
 
     /**
      * This color constant "Variscite" has RGBA8888 code {@code 6AFFCDFF}, luma 0.75294125, warmth 0.30588236, mildness 0.59607846, alpha 1.0, hue 0.4440716, and saturation 0.9867552.
@@ -2391,7 +2197,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARISCITE = -0x1.309d8p126F;
-    static { NAMED.put("Variscite", -0x1.309d8p126F); LIST.add(-0x1.309d8p126F); }
 
     /**
      * This color constant "Refreshing Mist" has RGBA8888 code {@code 91EBFFFF}, luma 0.7960785, warmth 0.28235295, mildness 0.45882356, alpha 1.0, hue 0.53003, and saturation 1.0.
@@ -2403,7 +2208,6 @@ public class Palette {
      * </pre>
      */
     public static final float REFRESHING_MIST = -0x1.ea9196p125F;
-    static { NAMED.put("Refreshing Mist", -0x1.ea9196p125F); LIST.add(-0x1.ea9196p125F); }
 
     /**
      * This color constant "Shining Sky" has RGBA8888 code {@code 55E6FFFF}, luma 0.69803923, warmth 0.16470589, mildness 0.45098042, alpha 1.0, hue 0.52339184, and saturation 0.9884395.
@@ -2415,7 +2219,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHINING_SKY = -0x1.e65564p125F;
-    static { NAMED.put("Shining Sky", -0x1.e65564p125F); LIST.add(-0x1.e65564p125F); }
 
     /**
      * This color constant "Steam" has RGBA8888 code {@code 7DD7F0FF}, luma 0.72156864, warmth 0.27450982, mildness 0.45098042, alpha 1.0, hue 0.53478265, and saturation 0.7823131.
@@ -2427,7 +2230,6 @@ public class Palette {
      * </pre>
      */
     public static final float STEAM = -0x1.e68d7p125F;
-    static { NAMED.put("Steam", -0x1.e68d7p125F); LIST.add(-0x1.e68d7p125F); }
 
     /**
      * This color constant "Robin Egg Blue" has RGBA8888 code {@code 08DED5FF}, luma 0.54901963, warmth 0.098039225, mildness 0.5176471, alpha 1.0, hue 0.49224806, and saturation 0.9388645.
@@ -2439,7 +2241,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROBIN_EGG_BLUE = -0x1.083318p126F;
-    static { NAMED.put("Robin Egg Blue", -0x1.083318p126F); LIST.add(-0x1.083318p126F); }
 
     /**
      * This color constant "Denim Blue" has RGBA8888 code {@code 109CDEFF}, luma 0.43529415, warmth 0.09411766, mildness 0.36862746, alpha 1.0, hue 0.5531401, and saturation 0.87341774.
@@ -2451,7 +2252,6 @@ public class Palette {
      * </pre>
      */
     public static final float DENIM_BLUE = -0x1.bc30dep125F;
-    static { NAMED.put("Denim Blue", -0x1.bc30dep125F); LIST.add(-0x1.bc30dep125F); }
 
     /**
      * This color constant "Deep Teal" has RGBA8888 code {@code 055A5CFF}, luma 0.227451, warmth 0.32941177, mildness 0.49411768, alpha 1.0, hue 0.50383145, and saturation 0.8969074.
@@ -2463,7 +2263,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_TEAL = -0x1.fca874p125F;
-    static { NAMED.put("Deep Teal", -0x1.fca874p125F); LIST.add(-0x1.fca874p125F); }
 
     /**
      * This color constant "Navy Blue" has RGBA8888 code {@code 162C52FF}, luma 0.15686275, warmth 0.3803922, mildness 0.42352945, alpha 1.0, hue 0.60382515, and saturation 0.59223306.
@@ -2475,7 +2274,6 @@ public class Palette {
      * </pre>
      */
     public static final float NAVY_BLUE = -0x1.d8c25p125F;
-    static { NAMED.put("Navy Blue", -0x1.d8c25p125F); LIST.add(-0x1.d8c25p125F); }
 
     /**
      * This color constant "Blueberry" has RGBA8888 code {@code 0F377DFF}, luma 0.18823531, warmth 0.28235295, mildness 0.36078432, alpha 1.0, hue 0.6051051, and saturation 0.79856116.
@@ -2487,7 +2285,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUEBERRY = -0x1.b8906p125F;
-    static { NAMED.put("Blueberry", -0x1.b8906p125F); LIST.add(-0x1.b8906p125F); }
 
     /**
      * This color constant "Prussian Blue" has RGBA8888 code {@code 004A9CFF}, luma 0.21960786, warmth 0.19215688, mildness 0.3372549, alpha 1.0, hue 0.58760685, and saturation 1.0.
@@ -2499,7 +2296,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUSSIAN_BLUE = -0x1.ac627p125F;
-    static { NAMED.put("Prussian Blue", -0x1.ac627p125F); LIST.add(-0x1.ac627p125F); }
 
     /**
      * This color constant "Desert Rain" has RGBA8888 code {@code 326496FF}, luma 0.34117648, warmth 0.3019608, mildness 0.40000004, alpha 1.0, hue 0.58250827, and saturation 0.5075376.
@@ -2511,7 +2307,6 @@ public class Palette {
      * </pre>
      */
     public static final float DESERT_RAIN = -0x1.cc9aaep125F;
-    static { NAMED.put("Desert Rain", -0x1.cc9aaep125F); LIST.add(-0x1.cc9aaep125F); }
 
     /**
      * This color constant "Electric Blue" has RGBA8888 code {@code 0052F6FF}, luma 0.2784314, warmth 0.015686275, mildness 0.1764706, alpha 1.0, hue 0.61111116, and saturation 1.0.
@@ -2523,7 +2318,6 @@ public class Palette {
      * </pre>
      */
     public static final float ELECTRIC_BLUE = -0x1.5a088ep125F;
-    static { NAMED.put("Electric Blue", -0x1.5a088ep125F); LIST.add(-0x1.5a088ep125F); }
 
     /**
      * This color constant "Hidden Blue" has RGBA8888 code {@code 186ABDFF}, luma 0.33333334, warmth 0.1764706, mildness 0.3372549, alpha 1.0, hue 0.5828283, and saturation 0.7819905.
@@ -2535,7 +2329,6 @@ public class Palette {
      * </pre>
      */
     public static final float HIDDEN_BLUE = -0x1.ac5aaap125F;
-    static { NAMED.put("Hidden Blue", -0x1.ac5aaap125F); LIST.add(-0x1.ac5aaap125F); }
 
     /**
      * This color constant "Dull Azure" has RGBA8888 code {@code 2378DCFF}, luma 0.3921569, warmth 0.13725491, mildness 0.3019608, alpha 1.0, hue 0.59057975, and saturation 0.72440946.
@@ -2547,7 +2340,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_AZURE = -0x1.9a46c8p125F;
-    static { NAMED.put("Dull Azure", -0x1.9a46c8p125F); LIST.add(-0x1.9a46c8p125F); }
 
     /**
      * This color constant "Ripped Denim" has RGBA8888 code {@code 699DC3FF}, luma 0.5568628, warmth 0.32156864, mildness 0.42352945, alpha 1.0, hue 0.5695971, and saturation 0.43127972.
@@ -2559,7 +2351,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPPED_DENIM = -0x1.d8a51cp125F;
-    static { NAMED.put("Ripped Denim", -0x1.d8a51cp125F); LIST.add(-0x1.d8a51cp125F); }
 
     /**
      * This color constant "Calm Sky" has RGBA8888 code {@code 4AA4FFFF}, luma 0.5529412, warmth 0.14509805, mildness 0.32156864, alpha 1.0, hue 0.5828729, and saturation 0.9890712.
@@ -2571,7 +2362,6 @@ public class Palette {
      * </pre>
      */
     public static final float CALM_SKY = -0x1.a44b1ap125F;
-    static { NAMED.put("Calm Sky", -0x1.a44b1ap125F); LIST.add(-0x1.a44b1ap125F); }
 
     /**
      * This color constant "Vapor" has RGBA8888 code {@code 90B0FFFF}, luma 0.6784314, warmth 0.28235295, mildness 0.34509805, alpha 1.0, hue 0.61711717, and saturation 0.9823012.
@@ -2583,7 +2373,6 @@ public class Palette {
      * </pre>
      */
     public static final float VAPOR = -0x1.b0915ap125F;
-    static { NAMED.put("Vapor", -0x1.b0915ap125F); LIST.add(-0x1.b0915ap125F); }
 
     /**
      * This color constant "Powder Blue" has RGBA8888 code {@code 5AC5FFFF}, luma 0.6431373, warmth 0.1764706, mildness 0.38431376, alpha 1.0, hue 0.5585859, and saturation 1.0.
@@ -2595,7 +2384,6 @@ public class Palette {
      * </pre>
      */
     public static final float POWDER_BLUE = -0x1.c45b48p125F;
-    static { NAMED.put("Powder Blue", -0x1.c45b48p125F); LIST.add(-0x1.c45b48p125F); }
 
     /**
      * This color constant "Suds" has RGBA8888 code {@code BEB9FAFF}, luma 0.76470596, warmth 0.3803922, mildness 0.37254903, alpha 1.0, hue 0.6744792, and saturation 0.8648653.
@@ -2607,7 +2395,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUDS = -0x1.bec386p125F;
-    static { NAMED.put("Suds", -0x1.bec386p125F); LIST.add(-0x1.bec386p125F); }
 
     /**
      * This color constant "Strong Cyan" has RGBA8888 code {@code 00BFFFFF}, luma 0.49803925, warmth 0.0, mildness 0.37254903, alpha 1.0, hue 0.54183006, and saturation 1.0.
@@ -2619,7 +2406,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRONG_CYAN = -0x1.be00fep125F;
-    static { NAMED.put("Strong Cyan", -0x1.be00fep125F); LIST.add(-0x1.be00fep125F); }
 
     /**
      * This color constant "Sharp Azure" has RGBA8888 code {@code 007FFFFF}, luma 0.37254903, warmth 0.0, mildness 0.24705884, alpha 1.0, hue 0.5836601, and saturation 1.0.
@@ -2631,7 +2417,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHARP_AZURE = -0x1.7e00bep125F;
-    static { NAMED.put("Sharp Azure", -0x1.7e00bep125F); LIST.add(-0x1.7e00bep125F); }
 
     /**
      * This color constant "Blue Eye" has RGBA8888 code {@code 4B7DC8FF}, luma 0.45098042, warmth 0.25490198, mildness 0.3529412, alpha 1.0, hue 0.59866667, and saturation 0.52742624.
@@ -2643,7 +2428,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_EYE = -0x1.b482e6p125F;
-    static { NAMED.put("Blue Eye", -0x1.b482e6p125F); LIST.add(-0x1.b482e6p125F); }
 
     /**
      * This color constant "Subtlety" has RGBA8888 code {@code 786EF0FF}, luma 0.50980395, warmth 0.2627451, mildness 0.24313727, alpha 1.0, hue 0.6794872, and saturation 0.8125002.
@@ -2655,7 +2439,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUBTLETY = -0x1.7c8704p125F;
-    static { NAMED.put("Subtlety", -0x1.7c8704p125F); LIST.add(-0x1.7c8704p125F); }
 
     /**
      * This color constant "Rough Sapphire" has RGBA8888 code {@code 4A5AFFFF}, luma 0.40784317, warmth 0.14509805, mildness 0.1764706, alpha 1.0, hue 0.6510129, and saturation 0.9890712.
@@ -2667,7 +2450,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROUGH_SAPPHIRE = -0x1.5a4adp125F;
-    static { NAMED.put("Rough Sapphire", -0x1.5a4adp125F); LIST.add(-0x1.5a4adp125F); }
 
     /**
      * This color constant "Iris" has RGBA8888 code {@code 6241F6FF}, luma 0.3921569, warmth 0.20784315, mildness 0.14509805, alpha 1.0, hue 0.6953704, and saturation 0.90909106.
@@ -2679,7 +2461,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRIS = -0x1.4a6ac8p125F;
-    static { NAMED.put("Iris", -0x1.4a6ac8p125F); LIST.add(-0x1.4a6ac8p125F); }
 
     /**
      * This color constant "Cornflower Blue" has RGBA8888 code {@code 3C3CF5FF}, luma 0.3254902, warmth 0.13725491, mildness 0.13725491, alpha 1.0, hue 0.6666667, and saturation 0.89320403.
@@ -2691,7 +2472,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORNFLOWER_BLUE = -0x1.4646a6p125F;
-    static { NAMED.put("Cornflower Blue", -0x1.4646a6p125F); LIST.add(-0x1.4646a6p125F); }
 
     /**
      * This color constant "Polished Sapphire" has RGBA8888 code {@code 101CDAFF}, luma 0.18431373, warmth 0.10196079, mildness 0.1254902, alpha 1.0, hue 0.65599346, and saturation 0.87124467.
@@ -2703,7 +2483,6 @@ public class Palette {
      * </pre>
      */
     public static final float POLISHED_SAPPHIRE = -0x1.40345ep125F;
-    static { NAMED.put("Polished Sapphire", -0x1.40345ep125F); LIST.add(-0x1.40345ep125F); }
 
     /**
      * This color constant "Royal Blue" has RGBA8888 code {@code 0010BDFF}, luma 0.121568635, warmth 0.12941177, mildness 0.16078432, alpha 1.0, hue 0.6524823, and saturation 1.0.
@@ -2715,7 +2494,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_BLUE = -0x1.52423ep125F;
-    static { NAMED.put("Royal Blue", -0x1.52423ep125F); LIST.add(-0x1.52423ep125F); }
 
     /**
      * This color constant "Indigo" has RGBA8888 code {@code 231094FF}, luma 0.15294118, warmth 0.2784314, mildness 0.2392157, alpha 1.0, hue 0.6919192, and saturation 0.8148148.
@@ -2727,7 +2505,6 @@ public class Palette {
      * </pre>
      */
     public static final float INDIGO = -0x1.7a8e4ep125F;
-    static { NAMED.put("Indigo", -0x1.7a8e4ep125F); LIST.add(-0x1.7a8e4ep125F); }
 
     /**
      * This color constant "Space Blue" has RGBA8888 code {@code 0C2148FF}, luma 0.11764707, warmth 0.3803922, mildness 0.42352945, alpha 1.0, hue 0.60382515, and saturation 0.73493975.
@@ -2739,7 +2516,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPACE_BLUE = -0x1.d8c23cp125F;
-    static { NAMED.put("Space Blue", -0x1.d8c23cp125F); LIST.add(-0x1.d8c23cp125F); }
 
     /**
      * This color constant "Thick Amethyst" has RGBA8888 code {@code 5010B0FF}, luma 0.23529413, warmth 0.30980393, mildness 0.18431373, alpha 1.0, hue 0.73333335, and saturation 0.8333335.
@@ -2751,7 +2527,6 @@ public class Palette {
      * </pre>
      */
     public static final float THICK_AMETHYST = -0x1.5e9e78p125F;
-    static { NAMED.put("Thick Amethyst", -0x1.5e9e78p125F); LIST.add(-0x1.5e9e78p125F); }
 
     /**
      * This color constant "Juicy Grape" has RGBA8888 code {@code 6010D0FF}, luma 0.27450982, warmth 0.2784314, mildness 0.121568635, alpha 1.0, hue 0.7361111, and saturation 0.85714275.
@@ -2763,7 +2538,6 @@ public class Palette {
      * </pre>
      */
     public static final float JUICY_GRAPE = -0x1.3e8e8cp125F;
-    static { NAMED.put("Juicy Grape", -0x1.3e8e8cp125F); LIST.add(-0x1.3e8e8cp125F); }
 
     /**
      * This color constant "Blacklight Glow" has RGBA8888 code {@code 8732D2FF}, luma 0.39607847, warmth 0.3529412, mildness 0.18431373, alpha 1.0, hue 0.7552084, and saturation 0.6349208.
@@ -2775,7 +2549,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACKLIGHT_GLOW = -0x1.5eb4cap125F;
-    static { NAMED.put("Blacklight Glow", -0x1.5eb4cap125F); LIST.add(-0x1.5eb4cap125F); }
 
     /**
      * This color constant "Purple Freesia" has RGBA8888 code {@code 9C41FFFF}, luma 0.4784314, warmth 0.30588236, mildness 0.1254902, alpha 1.0, hue 0.74649125, and saturation 0.9895835.
@@ -2787,7 +2560,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE_FREESIA = -0x1.409cf4p125F;
-    static { NAMED.put("Purple Freesia", -0x1.409cf4p125F); LIST.add(-0x1.409cf4p125F); }
 
     /**
      * This color constant "Thin Amethyst" has RGBA8888 code {@code 7F00FFFF}, luma 0.30980393, warmth 0.24705884, mildness 0.0, alpha 1.0, hue 0.7493439, and saturation 1.0.
@@ -2799,7 +2571,6 @@ public class Palette {
      * </pre>
      */
     public static final float THIN_AMETHYST = -0x1.007e9ep125F;
-    static { NAMED.put("Thin Amethyst", -0x1.007e9ep125F); LIST.add(-0x1.007e9ep125F); }
 
     /**
      * This color constant "Orchid" has RGBA8888 code {@code BD62FFFF}, luma 0.5921569, warmth 0.36862746, mildness 0.19215688, alpha 1.0, hue 0.7617521, and saturation 0.98734194.
@@ -2811,7 +2582,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORCHID = -0x1.62bd2ep125F;
-    static { NAMED.put("Orchid", -0x1.62bd2ep125F); LIST.add(-0x1.62bd2ep125F); }
 
     /**
      * This color constant "Lavender" has RGBA8888 code {@code B991FFFF}, luma 0.6784314, warmth 0.36078432, mildness 0.28235295, alpha 1.0, hue 0.7257576, and saturation 1.0.
@@ -2823,7 +2593,6 @@ public class Palette {
      * </pre>
      */
     public static final float LAVENDER = -0x1.90b95ap125F;
-    static { NAMED.put("Lavender", -0x1.90b95ap125F); LIST.add(-0x1.90b95ap125F); }
 
     /**
      * This color constant "Lilac" has RGBA8888 code {@code D7A5FFFF}, luma 0.76470596, warmth 0.41960788, mildness 0.32156864, alpha 1.0, hue 0.7592593, and saturation 1.0.
@@ -2835,7 +2604,6 @@ public class Palette {
      * </pre>
      */
     public static final float LILAC = -0x1.a4d786p125F;
-    static { NAMED.put("Lilac", -0x1.a4d786p125F); LIST.add(-0x1.a4d786p125F); }
 
     /**
      * This color constant "Soap" has RGBA8888 code {@code D7C3FAFF}, luma 0.8196079, warmth 0.43137258, mildness 0.3921569, alpha 1.0, hue 0.72530866, and saturation 0.8181822.
@@ -2847,7 +2615,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOAP = -0x1.c8dda2p125F;
-    static { NAMED.put("Soap", -0x1.c8dda2p125F); LIST.add(-0x1.c8dda2p125F); }
 
     /**
      * This color constant "Pink Tutu" has RGBA8888 code {@code F8C6FCFF}, luma 0.8745099, warmth 0.4901961, mildness 0.3921569, alpha 1.0, hue 0.81790125, and saturation 0.90000045.
@@ -2859,7 +2626,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_TUTU = -0x1.c8fbbep125F;
-    static { NAMED.put("Pink Tutu", -0x1.c8fbbep125F); LIST.add(-0x1.c8fbbep125F); }
 
     /**
      * This color constant "Thistle" has RGBA8888 code {@code E673FFFF}, luma 0.6862745, warmth 0.45098042, mildness 0.22352943, alpha 1.0, hue 0.8047619, and saturation 0.9859157.
@@ -2871,7 +2637,6 @@ public class Palette {
      * </pre>
      */
     public static final float THISTLE = -0x1.72e75ep125F;
-    static { NAMED.put("Thistle", -0x1.72e75ep125F); LIST.add(-0x1.72e75ep125F); }
 
     /**
      * This color constant "Heliotrope" has RGBA8888 code {@code FF52FFFF}, luma 0.65882355, warmth 0.49803925, mildness 0.16078432, alpha 1.0, hue 0.8333333, and saturation 0.9885059.
@@ -2883,7 +2648,6 @@ public class Palette {
      * </pre>
      */
     public static final float HELIOTROPE = -0x1.52ff5p125F;
-    static { NAMED.put("Heliotrope", -0x1.52ff5p125F); LIST.add(-0x1.52ff5p125F); }
 
     /**
      * This color constant "Purple" has RGBA8888 code {@code DA20E0FF}, luma 0.4901961, warmth 0.48627454, mildness 0.121568635, alpha 1.0, hue 0.827257, and saturation 0.7559056.
@@ -2895,7 +2659,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE = -0x1.3ef8fap125F;
-    static { NAMED.put("Purple", -0x1.3ef8fap125F); LIST.add(-0x1.3ef8fap125F); }
 
     /**
      * This color constant "Wisteria" has RGBA8888 code {@code BD29FFFF}, luma 0.48235297, warmth 0.36862746, mildness 0.078431375, alpha 1.0, hue 0.78115267, and saturation 1.0.
@@ -2907,7 +2670,6 @@ public class Palette {
      * </pre>
      */
     public static final float WISTERIA = -0x1.28bcf6p125F;
-    static { NAMED.put("Wisteria", -0x1.28bcf6p125F); LIST.add(-0x1.28bcf6p125F); }
 
     /**
      * This color constant "Medium Plum" has RGBA8888 code {@code BD10C5FF}, luma 0.4039216, warmth 0.48235297, mildness 0.14509805, alpha 1.0, hue 0.82592595, and saturation 0.8490566.
@@ -2919,7 +2681,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_PLUM = -0x1.4af6cep125F;
-    static { NAMED.put("Medium Plum", -0x1.4af6cep125F); LIST.add(-0x1.4af6cep125F); }
 
     /**
      * This color constant "Violet" has RGBA8888 code {@code 8C14BEFF}, luma 0.3372549, warmth 0.40000004, mildness 0.16470589, alpha 1.0, hue 0.78333336, and saturation 0.8095237.
@@ -2931,7 +2692,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET = -0x1.54ccacp125F;
-    static { NAMED.put("Violet", -0x1.54ccacp125F); LIST.add(-0x1.54ccacp125F); }
 
     /**
      * This color constant "Grape Lollipop" has RGBA8888 code {@code 5A187BFF}, luma 0.2392157, warmth 0.43529415, mildness 0.30588236, alpha 1.0, hue 0.7789116, and saturation 0.67123294.
@@ -2943,7 +2703,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_LOLLIPOP = -0x1.9cde7ap125F;
-    static { NAMED.put("Grape Lollipop", -0x1.9cde7ap125F); LIST.add(-0x1.9cde7ap125F); }
 
     /**
      * This color constant "Mulberry" has RGBA8888 code {@code 641464FF}, luma 0.23529413, warmth 0.49803925, mildness 0.34117648, alpha 1.0, hue 0.8333333, and saturation 0.6666666.
@@ -2955,7 +2714,6 @@ public class Palette {
      * </pre>
      */
     public static final float MULBERRY = -0x1.aefe78p125F;
-    static { NAMED.put("Mulberry", -0x1.aefe78p125F); LIST.add(-0x1.aefe78p125F); }
 
     /**
      * This color constant "Grape Soda" has RGBA8888 code {@code 410062FF}, luma 0.14117648, warmth 0.43529415, mildness 0.30588236, alpha 1.0, hue 0.77835053, and saturation 1.0.
@@ -2967,7 +2725,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_SODA = -0x1.9cde48p125F;
-    static { NAMED.put("Grape Soda", -0x1.9cde48p125F); LIST.add(-0x1.9cde48p125F); }
 
     /**
      * This color constant "Eggplant" has RGBA8888 code {@code 320A46FF}, luma 0.1254902, warmth 0.45882356, mildness 0.3803922, alpha 1.0, hue 0.77500004, and saturation 0.75.
@@ -2979,7 +2736,6 @@ public class Palette {
      * </pre>
      */
     public static final float EGGPLANT = -0x1.c2ea4p125F;
-    static { NAMED.put("Eggplant", -0x1.c2ea4p125F); LIST.add(-0x1.c2ea4p125F); }
 
     /**
      * This color constant "Cherry Syrup" has RGBA8888 code {@code 551937FF}, luma 0.20000002, warmth 0.5568628, mildness 0.43921572, alpha 1.0, hue 0.91525424, and saturation 0.5412843.
@@ -2991,7 +2747,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHERRY_SYRUP = -0x1.e11c66p125F;
-    static { NAMED.put("Cherry Syrup", -0x1.e11c66p125F); LIST.add(-0x1.e11c66p125F); }
 
     /**
      * This color constant "Plum Juice" has RGBA8888 code {@code A01982FF}, luma 0.34509805, warmth 0.5568628, mildness 0.29411766, alpha 1.0, hue 0.8696742, and saturation 0.7267758.
@@ -3003,7 +2758,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLUM_JUICE = -0x1.971cbp125F;
-    static { NAMED.put("Plum Juice", -0x1.971cbp125F); LIST.add(-0x1.971cbp125F); }
 
     /**
      * This color constant "Fruit Punch" has RGBA8888 code {@code C80078FF}, luma 0.3529412, warmth 0.654902, mildness 0.2627451, alpha 1.0, hue 0.9, and saturation 1.0.
@@ -3015,7 +2769,6 @@ public class Palette {
      * </pre>
      */
     public static final float FRUIT_PUNCH = -0x1.874eb4p125F;
-    static { NAMED.put("Fruit Punch", -0x1.874eb4p125F); LIST.add(-0x1.874eb4p125F); }
 
     /**
      * This color constant "Bubble Gum" has RGBA8888 code {@code FF50BFFF}, luma 0.62352943, warmth 0.62352943, mildness 0.28235295, alpha 1.0, hue 0.89463603, and saturation 0.98863655.
@@ -3027,7 +2780,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE_GUM = -0x1.913f3ep125F;
-    static { NAMED.put("Bubble Gum", -0x1.913f3ep125F); LIST.add(-0x1.913f3ep125F); }
 
     /**
      * This color constant "Pink Lemonade" has RGBA8888 code {@code FF6AC5FF}, luma 0.6784314, warmth 0.6117647, mildness 0.32156864, alpha 1.0, hue 0.8979592, and saturation 0.9865774.
@@ -3039,7 +2791,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_LEMONADE = -0x1.a5395ap125F;
-    static { NAMED.put("Pink Lemonade", -0x1.a5395ap125F); LIST.add(-0x1.a5395ap125F); }
 
     /**
      * This color constant "Shrimp" has RGBA8888 code {@code FAA0B9FF}, luma 0.7686275, warmth 0.627451, mildness 0.45098042, alpha 1.0, hue 0.9550562, and saturation 0.8811884.
@@ -3051,7 +2802,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHRIMP = -0x1.e74188p125F;
-    static { NAMED.put("Shrimp", -0x1.e74188p125F); LIST.add(-0x1.e74188p125F); }
 
     /**
      * This color constant "Flamingo" has RGBA8888 code {@code FC3A8CFF}, luma 0.5529412, warmth 0.7176471, mildness 0.3372549, alpha 1.0, hue 0.9295533, and saturation 0.97000015.
@@ -3063,7 +2813,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLAMINGO = -0x1.ad6f1ap125F;
-    static { NAMED.put("Flamingo", -0x1.ad6f1ap125F); LIST.add(-0x1.ad6f1ap125F); }
 
     /**
      * This color constant "Rose" has RGBA8888 code {@code E61E78FF}, luma 0.454902, warmth 0.7137255, mildness 0.32156864, alpha 1.0, hue 0.92462313, and saturation 0.7928288.
@@ -3075,7 +2824,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSE = -0x1.a56ce8p125F;
-    static { NAMED.put("Rose", -0x1.a56ce8p125F); LIST.add(-0x1.a56ce8p125F); }
 
     /**
      * This color constant "Carmine" has RGBA8888 code {@code BD1039FF}, luma 0.3372549, warmth 0.7568628, mildness 0.41960788, alpha 1.0, hue 0.9610136, and saturation 0.8341464.
@@ -3087,7 +2835,6 @@ public class Palette {
      * </pre>
      */
     public static final float CARMINE = -0x1.d782acp125F;
-    static { NAMED.put("Carmine", -0x1.d782acp125F); LIST.add(-0x1.d782acp125F); }
 
     /**
      * This color constant "Bologna" has RGBA8888 code {@code 98344DFF}, luma 0.36078432, warmth 0.64705884, mildness 0.45098042, alpha 1.0, hue 0.959596, and saturation 0.48768476.
@@ -3099,7 +2846,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOLOGNA = -0x1.e74ab8p125F;
-    static { NAMED.put("Bologna", -0x1.e74ab8p125F); LIST.add(-0x1.e74ab8p125F); }
 
     /**
      * This color constant "Raspberry" has RGBA8888 code {@code 911437FF}, luma 0.2784314, warmth 0.6745098, mildness 0.43137258, alpha 1.0, hue 0.95392954, and saturation 0.7454547.
@@ -3111,7 +2857,82 @@ public class Palette {
      * </pre>
      */
     public static final float RASPBERRY = -0x1.dd588ep125F;
-    static { NAMED.put("Raspberry", -0x1.dd588ep125F); LIST.add(-0x1.dd588ep125F); }
+
+    static {
+        // the names and colors are in the same order as the constants above
+        final String[] names = {
+                "Transparent", "Black", "Coal Black", "Shadow", "Graphite", "Dark Gray", "Lead", "Iron", "Gray",
+                "Chinchilla", "Greyhound", "Silver", "Light Gray", "Platinum", "Cloud", "White", "Seawater",
+                "Hospital Green", "Cyan", "Bubble", "Periwinkle", "Blue", "Faded Blue", "Ocean Blue", "Stygian Blue",
+                "Deep Purple", "Tyrian Purple", "Magenta", "Bubblegum Pink", "Pork Chop", "Raw Meat", "Red", "Putty",
+                "Sienna", "Seal Brown", "Mummy Brown", "Fawn", "Orange", "Peach", "Cream", "Yellow", "Earwax", "Umber",
+                "Ivy Green", "Jade", "Green", "Celadon", "Puce", "Beige", "Wet Stone", "Slow Creek", "Slate Gray",
+                "Light Skin 1", "Light Skin 2", "Light Skin 3", "Light Skin 4", "Light Skin 5", "Light Skin 6",
+                "Light Skin 7", "Light Skin 8", "Light Skin 9", "Dark Skin 1", "Dark Skin 2", "Dark Skin 3",
+                "Pink Skin 1", "Pink Skin 2", "Pink Skin 3", "Pink Skin 4", "Bronze Skin 4", "Bronze Skin 3",
+                "Bronze Skin 2", "Bronze Skin 1", "Taupe", "Drab Green", "Lizard Scales", "Cricket", "Olive Oil", "Dun",
+                "Corn Silk", "Tan", "Straw", "Honeydew", "Tarnish", "Pea Soup", "Marsh", "Asparagus", "Peat Bog",
+                "Deep Jungle", "Pine Green", "Olive Green", "Gray Green", "Maidenhair Fern", "Kelly Green",
+                "Dusty Green", "Garter Snake", "Silver Green", "Pistachio", "Angel Wing", "Sage Green", "Dried Sage",
+                "Artichoke", "Viridian", "Floral Foam", "Hunter Green", "Dark Teal", "Kyanite", "Spearmint",
+                "Amazonite", "Pastel Sky", "Aquamarine", "Dust Bunny", "Patina", "Chipped Granite", "Blue Smoke",
+                "Air Force Blue", "Cold Iron", "Dreary Blue", "Murk", "Ninja", "Watercolor Black", "Iolite",
+                "Boysenberry", "Watercolor Gray", "Blue Steel", "Twilight Cloud", "Smog", "Tropic Mist", "Feather Down",
+                "Mild Violet", "Violet Cushions", "Dull Violet", "Royal Violet", "Eminence", "Prune", "Dusty Grape",
+                "Pink Violet", "Ripe Plum", "Mauve", "Ham", "Cotton Candy", "Silver Pink", "Tea Rose", "Old Rose",
+                "Dusty Pink", "Roseate Spoonbill", "Thulian Pink", "Brown Velvet", "Nightshade", "Scribe Ink",
+                "Varnish", "Cedar Wood", "Hot Sauce", "Lurid Red", "Brick", "Bright Red", "Embers", "Salmon",
+                "Taxicab Yellow", "Apricot", "Burnt Yellow", "Dry Pepper", "Redwood", "Koa", "Ochre", "Dull Green",
+                "Army Green", "Driftwood", "Dry Brush", "Mush", "Banana Pudding", "Saffron", "Pencil Yellow",
+                "Chartreuse", "Absinthe", "Infection", "Frog Green", "Avocado", "Woodlands", "Dark Pine", "Moss Green",
+                "Fern Green", "Forest Glen", "Malachite", "Apple Green", "Celery", "Mint Green", "Emerald", "Prase",
+                "Eucalyptus", "Zucchini", "Soft Teal", "Medium Teal", "Spring Green", "Turquoise", "Seafoam",
+                "Variscite", "Refreshing Mist", "Shining Sky", "Steam", "Robin Egg Blue", "Denim Blue", "Deep Teal",
+                "Navy Blue", "Blueberry", "Prussian Blue", "Desert Rain", "Electric Blue", "Hidden Blue", "Dull Azure",
+                "Ripped Denim", "Calm Sky", "Vapor", "Powder Blue", "Suds", "Strong Cyan", "Sharp Azure", "Blue Eye",
+                "Subtlety", "Rough Sapphire", "Iris", "Cornflower Blue", "Polished Sapphire", "Royal Blue", "Indigo",
+                "Space Blue", "Thick Amethyst", "Juicy Grape", "Blacklight Glow", "Purple Freesia", "Thin Amethyst",
+                "Orchid", "Lavender", "Lilac", "Soap", "Pink Tutu", "Thistle", "Heliotrope", "Purple", "Wisteria",
+                "Medium Plum", "Violet", "Grape Lollipop", "Mulberry", "Grape Soda", "Eggplant", "Cherry Syrup",
+                "Plum Juice", "Fruit Punch", "Bubble Gum", "Pink Lemonade", "Shrimp", "Flamingo", "Rose", "Carmine",
+                "Bologna", "Raspberry"
+        };
+        final float[] colors = {
+                TRANSPARENT, BLACK, COAL_BLACK, SHADOW, GRAPHITE, DARK_GRAY, LEAD, IRON, GRAY, CHINCHILLA, GREYHOUND,
+                SILVER, LIGHT_GRAY, PLATINUM, CLOUD, WHITE, SEAWATER, HOSPITAL_GREEN, CYAN, BUBBLE, PERIWINKLE, BLUE,
+                FADED_BLUE, OCEAN_BLUE, STYGIAN_BLUE, DEEP_PURPLE, TYRIAN_PURPLE, MAGENTA, BUBBLEGUM_PINK, PORK_CHOP,
+                RAW_MEAT, RED, PUTTY, SIENNA, SEAL_BROWN, MUMMY_BROWN, FAWN, ORANGE, PEACH, CREAM, YELLOW, EARWAX,
+                UMBER, IVY_GREEN, JADE, GREEN, CELADON, PUCE, BEIGE, WET_STONE, SLOW_CREEK, SLATE_GRAY, LIGHT_SKIN_1,
+                LIGHT_SKIN_2, LIGHT_SKIN_3, LIGHT_SKIN_4, LIGHT_SKIN_5, LIGHT_SKIN_6, LIGHT_SKIN_7, LIGHT_SKIN_8,
+                LIGHT_SKIN_9, DARK_SKIN_1, DARK_SKIN_2, DARK_SKIN_3, PINK_SKIN_1, PINK_SKIN_2, PINK_SKIN_3, PINK_SKIN_4,
+                BRONZE_SKIN_4, BRONZE_SKIN_3, BRONZE_SKIN_2, BRONZE_SKIN_1, TAUPE, DRAB_GREEN, LIZARD_SCALES, CRICKET,
+                OLIVE_OIL, DUN, CORN_SILK, TAN, STRAW, HONEYDEW, TARNISH, PEA_SOUP, MARSH, ASPARAGUS, PEAT_BOG,
+                DEEP_JUNGLE, PINE_GREEN, OLIVE_GREEN, GRAY_GREEN, MAIDENHAIR_FERN, KELLY_GREEN, DUSTY_GREEN,
+                GARTER_SNAKE, SILVER_GREEN, PISTACHIO, ANGEL_WING, SAGE_GREEN, DRIED_SAGE, ARTICHOKE, VIRIDIAN,
+                FLORAL_FOAM, HUNTER_GREEN, DARK_TEAL, KYANITE, SPEARMINT, AMAZONITE, PASTEL_SKY, AQUAMARINE, DUST_BUNNY,
+                PATINA, CHIPPED_GRANITE, BLUE_SMOKE, AIR_FORCE_BLUE, COLD_IRON, DREARY_BLUE, MURK, NINJA,
+                WATERCOLOR_BLACK, IOLITE, BOYSENBERRY, WATERCOLOR_GRAY, BLUE_STEEL, TWILIGHT_CLOUD, SMOG, TROPIC_MIST,
+                FEATHER_DOWN, MILD_VIOLET, VIOLET_CUSHIONS, DULL_VIOLET, ROYAL_VIOLET, EMINENCE, PRUNE, DUSTY_GRAPE,
+                PINK_VIOLET, RIPE_PLUM, MAUVE, HAM, COTTON_CANDY, SILVER_PINK, TEA_ROSE, OLD_ROSE, DUSTY_PINK,
+                ROSEATE_SPOONBILL, THULIAN_PINK, BROWN_VELVET, NIGHTSHADE, SCRIBE_INK, VARNISH, CEDAR_WOOD, HOT_SAUCE,
+                LURID_RED, BRICK, BRIGHT_RED, EMBERS, SALMON, TAXICAB_YELLOW, APRICOT, BURNT_YELLOW, DRY_PEPPER,
+                REDWOOD, KOA, OCHRE, DULL_GREEN, ARMY_GREEN, DRIFTWOOD, DRY_BRUSH, MUSH, BANANA_PUDDING, SAFFRON,
+                PENCIL_YELLOW, CHARTREUSE, ABSINTHE, INFECTION, FROG_GREEN, AVOCADO, WOODLANDS, DARK_PINE, MOSS_GREEN,
+                FERN_GREEN, FOREST_GLEN, MALACHITE, APPLE_GREEN, CELERY, MINT_GREEN, EMERALD, PRASE, EUCALYPTUS,
+                ZUCCHINI, SOFT_TEAL, MEDIUM_TEAL, SPRING_GREEN, TURQUOISE, SEAFOAM, VARISCITE, REFRESHING_MIST,
+                SHINING_SKY, STEAM, ROBIN_EGG_BLUE, DENIM_BLUE, DEEP_TEAL, NAVY_BLUE, BLUEBERRY, PRUSSIAN_BLUE,
+                DESERT_RAIN, ELECTRIC_BLUE, HIDDEN_BLUE, DULL_AZURE, RIPPED_DENIM, CALM_SKY, VAPOR, POWDER_BLUE, SUDS,
+                STRONG_CYAN, SHARP_AZURE, BLUE_EYE, SUBTLETY, ROUGH_SAPPHIRE, IRIS, CORNFLOWER_BLUE, POLISHED_SAPPHIRE,
+                ROYAL_BLUE, INDIGO, SPACE_BLUE, THICK_AMETHYST, JUICY_GRAPE, BLACKLIGHT_GLOW, PURPLE_FREESIA,
+                THIN_AMETHYST, ORCHID, LAVENDER, LILAC, SOAP, PINK_TUTU, THISTLE, HELIOTROPE, PURPLE, WISTERIA,
+                MEDIUM_PLUM, VIOLET, GRAPE_LOLLIPOP, MULBERRY, GRAPE_SODA, EGGPLANT, CHERRY_SYRUP, PLUM_JUICE,
+                FRUIT_PUNCH, BUBBLE_GUM, PINK_LEMONADE, SHRIMP, FLAMINGO, ROSE, CARMINE, BOLOGNA, RASPBERRY
+        };
+        LIST.addAll(colors);
+        for (int i = 0; i < names.length; i++) {
+            NAMED.put(names[i], colors[i]);
+        }
+    }
 
     /**
      * All names for colors in this palette, in alphabetical order. You can fetch the corresponding packed float color
@@ -3133,25 +2954,73 @@ public class Palette {
      */
     public static final ObjectList<String> NAMES_BY_LIGHTNESS = new ObjectList<>(NAMES);
     static {
-        NAMES_BY_HUE.sort(new Comparator<String>() {
-            public int compare(String o1, String o2) {
-                final float c1 = NAMED.get(o1), c2 = NAMED.get(o2);
-                final float s1 = saturation(c1), s2 = saturation(c2);
-                if(s1 <= 0x1p-6f && s2 > 0x1p-6f)
-                    return -1000;
-                else if(s1 > 0x1p-6f && s2 <= 0x1p-6f)
-                    return 1000;
-                else if(s1 <= 0x1p-6f && s2 <= 0x1p-6f)
-                    return (int)Math.signum(luma(c1) - luma(c2));
-                else
-                    return 2 * (int)Math.signum(hue(c1) - hue(c2))
-                            + (int)Math.signum(luma(c1) - luma(c2));
-            }
-        });
-        NAMES_BY_LIGHTNESS.sort(new Comparator<String>() {
-            public int compare(String o1, String o2) {
-                return Float.compare(luma(NAMED.get(o1)), luma(NAMED.get(o2)));
-            }
+        // each color's sort keys are computed once here, instead of twice in every comparison
+        final int count = NAMES.size();
+        final ObjectIntMap<String> indices = new ObjectIntMap<>(count);
+        final float[] saturations = new float[count], hues = new float[count], lights = new float[count];
+        for (int i = 0; i < count; i++) {
+            final String name = NAMES.get(i);
+            final float color = NAMED.get(name);
+            indices.put(name, i);
+            saturations[i] = saturation(color);
+            hues[i] = hue(color);
+            lights[i] = luma(color);
+        }
+        NAMES_BY_HUE.sort((o1, o2) -> {
+            final int i1 = indices.get(o1), i2 = indices.get(o2);
+            final float s1 = saturations[i1], s2 = saturations[i2];
+            if(s1 <= 0x1p-6f && s2 > 0x1p-6f)
+                return -1000;
+            else if(s1 > 0x1p-6f && s2 <= 0x1p-6f)
+                return 1000;
+            else if(s1 <= 0x1p-6f && s2 <= 0x1p-6f)
+                return (int)Math.signum(lights[i1] - lights[i2]);
+            else
+                return 2 * (int)Math.signum(hues[i1] - hues[i2])
+                        + (int)Math.signum(lights[i1] - lights[i2]);
         });
+        NAMES_BY_LIGHTNESS.sort((o1, o2) -> Float.compare(lights[indices.get(o1)], lights[indices.get(o2)]));
+    }
+
+    /**
+     * A read-only copy of {@link #NAMED} that looks up names without regard to case, so "Ocean Blue" and "ocean blue"
+     * find the same color. It can look up a name in any region of a CharSequence without allocating, and can be shared
+     * freely between threads. NAMED is copied the first time this is used, and later changes to NAMED aren't seen here.
+     */
+    public static final ColorNameTable NAME_TABLE = new ColorNameTable(NAMED);
+
+    private static final NamedColorTree NEAREST = new NamedColorTree(NAMED,
+            color -> com.github.tommyettinger.colorful.pure.oklab.ColorTools.fromRGBA8888(ColorTools.toRGBA8888(color)));
+
+    /**
+     * Finds the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. This searches an
+     * index of the named colors that is built the first time it is needed, and skips mostly-transparent colors.
+     * @param color a packed YCwCm float color
+     * @return the closest named color, as a packed YCwCm float
+     */
+    public static float nearest(final float color) {
+        return NEAREST.nearest(color);
+    }
+
+    /**
+     * Finds the name of the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. If
+     * two named colors are equally close, this returns the name that is first alphabetically.
+     * @param color a packed YCwCm float color
+     * @return the name of the closest named color, which can be looked up in {@link #NAMED}
+     */
+    public static String nearestName(final float color) {
+        return NEAREST.nearestName(color);
+    }
+
+    /**
+     * Finds the {@code k} colors in {@link #NAMED} that are closest to {@code color}, measuring distance in Oklab, and
+     * writes them into {@code out} with the closest first. This doesn't allocate once the index has been built.
+     * @param color a packed YCwCm float color
+     * @param k how many colors to find
+     * @param out will receive up to k packed YCwCm float colors, starting at index 0
+     * @return how many colors were written to out, which is less than k if out is shorter than k
+     */
+    public static int kNearest(final float color, final int k, final float[] out) {
+        return NEAREST.kNearest(color, k, out);
     }
 }
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.utils.NumberUtils;
+
+/**
+ * Holds many colors with each channel in its own float array, instead of one packed float per color. This is meant
+ * for editing many colors at once: unpacking a color once and then running several operations over whole arrays is
+ * much faster than unpacking and repacking each color for every operation, and simple loops over one float array at
+ * a time can be compiled to SIMD instructions by the JIT compiler.
+ * <br>
+ * The four arrays are public so they can be read and written directly; only the first {@link #size()} items of each
+ * array are used. Channels are stored as floats from 0 to 1, the same way the packed float colors in this library
+ * store them, but values outside that range are allowed while editing; {@link #clamp()}, {@link #pack(float[], int)},
+ * and {@link #limitToGamut()} bring them back into range. Which channel is which depends on the color space; each
+ * space has its own {@code ColorBuffer} subclass, such as {@link com.github.tommyettinger.colorful.oklab.ColorBuffer},
+ * that knows how to convert to and from RGBA8888 and how to keep colors in that space's gamut.
+ */
+public abstract class ChannelBuffer {
+    /**
+     * The first channel of each color, stored in the lowest byte of a packed float, such as L in Oklab.
+     */
+    public float[] c0;
+    /**
+     * The second channel of each color, stored in the second-lowest byte of a packed float, such as A in Oklab.
+     */
+    public float[] c1;
+    /**
+     * The third channel of each color, stored in the second-highest byte of a packed float, such as B in Oklab.
+     */
+    public float[] c2;
+    /**
+     * The alpha of each color, stored in the highest 7 bits of a packed float.
+     */
+    public float[] alpha;
+
+    /**
+     * What a channel from 0 to 1 is multiplied by to get its byte when packed; this is 255 for most color spaces, but
+     * slightly more for spaces that round channels that way in their own ColorTools.
+     */
+    protected final float encodeScale;
+
+    protected int size;
+
+    /**
+     * Creates an empty ChannelBuffer with room for {@code capacity} colors before it needs to grow.
+     * @param capacity how many colors this can hold at first; must be non-negative
+     * @param encodeScale what channels from 0 to 1 are multiplied by when packed, usually 255
+     */
+    protected ChannelBuffer(int capacity, float encodeScale) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity must be non-negative");
+        c0 = new float[capacity];
+        c1 = new float[capacity];
+        c2 = new float[capacity];
+        alpha = new float[capacity];
+        this.encodeScale = encodeScale;
+    }
+
+    /**
+     * Gets how many colors are currently in this buffer.
+     * @return the number of colors in use
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets how many colors this buffer can hold before its arrays need to grow.
+     * @return the length of each channel array
+     */
+    public int capacity() {
+        return c0.length;
+    }
+
+    /**
+     * Makes sure this buffer can hold at least {@code capacity} colors, growing each array if needed while keeping the
+     * colors already here.
+     * @param capacity the minimum capacity needed
+     * @return this, for chaining
+     */
+    public ChannelBuffer ensureCapacity(int capacity) {
+        if (capacity > c0.length) {
+            final int grown = Math.max(capacity, c0.length + (c0.length >>> 1) + 8);
+            c0 = copy(c0, grown);
+            c1 = copy(c1, grown);
+            c2 = copy(c2, grown);
+            alpha = copy(alpha, grown);
+        }
+        return this;
+    }
+
+    private float[] copy(float[] items, int capacity) {
+        final float[] next = new float[capacity];
+        System.arraycopy(items, 0, next, 0, size);
+        return next;
+    }
+
+    /**
+     * Sets how many colors are in this buffer, growing it if needed. Colors past the old size are not changed, so they
+     * may hold whatever was there before.
+     * @param size the new number of colors; must be non-negative
+     * @return this, for chaining
+     */
+    public ChannelBuffer setSize(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("size must be non-negative");
+        ensureCapacity(size);
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * Removes all colors from this buffer, keeping its capacity.
+     * @return this, for chaining
+     */
+    public ChannelBuffer clear() {
+        size = 0;
+        return this;
+    }
+
+    /**
+     * Replaces the contents of this buffer with {@code count} packed float colors from {@code packed}, starting at
+     * {@code offset}. The packed colors must all be in this buffer's color space.
+     * @param packed an array of packed float colors
+     * @param offset the first index in packed to read
+     * @param count how many colors to read
+     * @return this, for chaining
+     */
+    public ChannelBuffer unpack(float[] packed, int offset, int count) {
+        if (offset < 0 || count < 0 || offset + count > packed.length)
+            throw new IllegalArgumentException("offset and count must be within packed");
+        setSize(count);
+        final float[] c0 = this.c0, c1 = this.c1, c2 = this.c2, alpha = this.alpha;
+        for (int i = 0; i < count; i++) {
+            final int decoded = NumberUtils.floatToRawIntBits(packed[offset + i]);
+            c0[i] = (decoded & 0xff) * (1f / 255f);
+            c1[i] = (decoded >>> 8 & 0xff) * (1f / 255f);
+            c2[i] = (decoded >>> 16 & 0xff) * (1f / 255f);
+            alpha[i] = (decoded >>> 25) * (1f / 127f);
+        }
+        return this;
+    }
+
+    /**
+     * Writes every color in this buffer into {@code packed} as packed floats, starting at {@code offset}. Each channel
+     * is clamped to the 0 to 1 range first, but colors aren't otherwise kept in gamut; call {@link #limitToGamut()}
+     * before this if that matters.
+     * @param packed an array that will receive {@link #size()} packed float colors
+     * @param offset the first index in packed to write
+     * @return packed, after modifications
+     */
+    public float[] pack(float[] packed, int offset) {
+        if (offset < 0 || offset + size > packed.length)
+            throw new IllegalArgumentException("packed doesn't have room for every color after offset");
+        final float[] c0 = this.c0, c1 = this.c1, c2 = this.c2, alpha = this.alpha;
+        final float scale = encodeScale;
+        for (int i = 0, n = size; i < n; i++) {
+            packed[offset + i] = NumberUtils.intBitsToFloat(
+                    (int) (clamp(c0[i]) * scale)
+                            | (int) (clamp(c1[i]) * scale) << 8
+                            | (int) (clamp(c2[i]) * scale) << 16
+                            | ((int) (clamp(alpha[i]) * 255f) << 24 & 0xFE000000));
+        }
+        return packed;
+    }
+
+    /**
+     * Gets the color at {@code index} as a packed float, clamping each channel to the 0 to 1 range.
+     * @param index which color to get; should be less than {@link #size()}
+     * @return a packed float color in this buffer's color space
+     */
+    public float get(int index) {
+        return NumberUtils.intBitsToFloat(
+                (int) (clamp(c0[index]) * encodeScale)
+                        | (int) (clamp(c1[index]) * encodeScale) << 8
+                        | (int) (clamp(c2[index]) * encodeScale) << 16
+                        | ((int) (clamp(alpha[index]) * 255f) << 24 & 0xFE000000));
+    }
+
+    /**
+     * Sets the color at {@code index} from a packed float in this buffer's color space.
+     * @param index which color to set; should be less than {@link #size()}
+     * @param packed a packed float color in this buffer's color space
+     * @return this, for chaining
+     */
+    public ChannelBuffer set(int index, float packed) {
+        final int decoded = NumberUtils.floatToRawIntBits(packed);
+        c0[index] = (decoded & 0xff) * (1f / 255f);
+        c1[index] = (decoded >>> 8 & 0xff) * (1f / 255f);
+        c2[index] = (decoded >>> 16 & 0xff) * (1f / 255f);
+        alpha[index] = (decoded >>> 25) * (1f / 127f);
+        return this;
+    }
+
+    /**
+     * Clamps value between 0 and 1.
+     */
+    private static float clamp(final float value) {
+        return Math.min(Math.max(value, 0f), 1f);
+    }
+
+    /**
+     * Multiplies each channel of every color by the matching multiplier.
+     * @param m0 what to multiply the first channel by
+     * @param m1 what to multiply the second channel by
+     * @param m2 what to multiply the third channel by
+     * @param mAlpha what to multiply alpha by
+     * @return this, for chaining
+     */
+    public ChannelBuffer scale(float m0, float m1, float m2, float mAlpha) {
+        final int n = size;
+        final float[] c0 = this.c0, c1 = this.c1, c2 = this.c2, alpha = this.alpha;
+        for (int i = 0; i < n; i++) c0[i] *= m0;
+        for (int i = 0; i < n; i++) c1[i] *= m1;
+        for (int i = 0; i < n; i++) c2[i] *= m2;
+        for (int i = 0; i < n; i++) alpha[i] *= mAlpha;
+        return this;
+    }
+
+    /**
+     * Adds the matching amount to each channel of every color.
+     * @param a0 what to add to the first channel
+     * @param a1 what to add to the second channel
+     * @param a2 what to add to the third channel
+     * @param aAlpha what to add to alpha
+     * @return this, for chaining
+     */
+    public ChannelBuffer offset(float a0, float a1, float a2, float aAlpha) {
+        final int n = size;
+        final float[] c0 = this.c0, c1 = this.c1, c2 = this.c2, alpha = this.alpha;
+        for (int i = 0; i < n; i++) c0[i] += a0;
+        for (int i = 0; i < n; i++) c1[i] += a1;
+        for (int i = 0; i < n; i++) c2[i] += a2;
+        for (int i = 0; i < n; i++) alpha[i] += aAlpha;
+        return this;
+    }
+
+    /**
+     * Moves each channel of every color toward the matching target channel by {@code change}, as a fraction of the
+     * distance. This is a linear interpolation on each channel, so for a hue channel (as in HSLuv) it does not take
+     * the shortest way around the color wheel.
+     * @param t0 the target first channel
+     * @param t1 the target second channel
+     * @param t2 the target third channel
+     * @param tAlpha the target alpha
+     * @param change how far to move toward the target, from 0 (no change) to 1 (all the way)
+     * @return this, for chaining
+     */
+    public ChannelBuffer lerp(float t0, float t1, float t2, float tAlpha, float change) {
+        final float keep = 1f - change;
+        return scale(keep, keep, keep, keep).offset(t0 * change, t1 * change, t2 * change, tAlpha * change);
+    }
+
+    /**
+     * Moves every color toward {@code target}, a packed float in this buffer's color space, by {@code change}, as a
+     * fraction of the distance on each channel.
+     * @param target a packed float color in this buffer's color space
+     * @param change how far to move toward the target, from 0 (no change) to 1 (all the way)
+     * @return this, for chaining
+     */
+    public ChannelBuffer lerp(float target, float change) {
+        final int decoded = NumberUtils.floatToRawIntBits(target);
+        return lerp((decoded & 0xff) * (1f / 255f), (decoded >>> 8 & 0xff) * (1f / 255f),
+                (decoded >>> 16 & 0xff) * (1f / 255f), (decoded >>> 25) * (1f / 127f), change);
+    }
+
+    /**
+     * Moves each color in this buffer toward the color at the same index in {@code targets}, by {@code change}, as a
+     * fraction of the distance on each channel. Both buffers should use the same color space.
+     * @param targets a ChannelBuffer with at least as many colors as this one
+     * @param change how far to move toward each target, from 0 (no change) to 1 (all the way)
+     * @return this, for chaining
+     */
+    public ChannelBuffer lerp(ChannelBuffer targets, float change) {
+        if (targets.size < size)
+            throw new IllegalArgumentException("targets must have at least as many colors as this buffer");
+        lerp(c0, targets.c0, change);
+        lerp(c1, targets.c1, change);
+        lerp(c2, targets.c2, change);
+        lerp(alpha, targets.alpha, change);
+        return this;
+    }
+
+    private void lerp(final float[] items, final float[] targets, final float change) {
+        final int n = size;
+        for (int i = 0; i < n; i++) items[i] += (targets[i] - items[i]) * change;
+    }
+
+    /**
+     * Clamps every channel of every color to the 0 to 1 range. This doesn't keep colors in gamut for most color
+     * spaces; use {@link #limitToGamut()} for that.
+     * @return this, for chaining
+     */
+    public ChannelBuffer clamp() {
+        clamp(c0);
+        clamp(c1);
+        clamp(c2);
+        clamp(alpha);
+        return this;
+    }
+
+    /**
+     * Clamps the first {@link #size()} items of {@code items}, which should be one of this buffer's channel arrays, to
+     * the 0 to 1 range.
+     * @param items one of {@link #c0}, {@link #c1}, {@link #c2}, or {@link #alpha}
+     */
+    protected void clamp(final float[] items) {
+        final int n = size;
+        for (int i = 0; i < n; i++) items[i] = clamp(items[i]);
+    }
+
+    /**
+     * Replaces the contents of this buffer with {@code count} RGBA8888 ints from {@code rgba}, starting at
+     * {@code offset}, converted to this buffer's color space.
+     * @param rgba an array of RGBA8888 colors
+     * @param offset the first index in rgba to read
+     * @param count how many colors to read
+     * @return this, for chaining
+     */
+    public abstract ChannelBuffer fromRGBA8888(int[] rgba, int offset, int count);
+
+    /**
+     * Writes every color in this buffer into {@code rgba} as RGBA8888 ints, starting at {@code offset}.
+     * @param rgba an array that will receive {@link #size()} RGBA8888 colors
+     * @param offset the first index in rgba to write
+     * @return rgba, after modifications
+     */
+    public abstract int[] toRGBA8888(int[] rgba, int offset);
+
+    /**
+     * Brings every color in this buffer into this color space's gamut, the same way its ColorTools'
+     * {@code limitToGamut()} does, and clamps alpha to the 0 to 1 range. Other than alpha, the channels of colors
+     * that are already in gamut aren't changed.
+     * @return this, for chaining
+     */
+    public abstract ChannelBuffer limitToGamut();
+}
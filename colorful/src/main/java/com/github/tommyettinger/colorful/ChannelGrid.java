@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import java.util.Arrays;
+
+/**
+ * A spatial index over the three channel bytes of many packed float colors, which finds the color closest to a target
+ * using branch-and-bound over a 32x32x32 grid of cells. Each color is given as the low 24 bits of its packed int form,
+ * so channel 0 is the lowest byte (such as L in Oklab), channel 1 is the next byte, and channel 2 is the byte after
+ * that. Each color also has an int id, which breaks ties in favor of the smallest id.
+ * <br>
+ * The distance used by {@link #nearest(float[], float[], float[])} must be separable: it is given as three arrays of
+ * 256 costs, one per channel, and the distance to a color is {@code (cost0[c0] + cost1[c1]) + cost2[c2]}, added in that
+ * order. Because the costs are only ever added, the smallest cost of each channel within a cell gives a lower bound for
+ * every color in that cell, and cells that can't beat the best distance so far are skipped. This gives exactly the
+ * same result as checking every color, including which color wins a tie.
+ * <br>
+ * A ChannelGrid is never modified after construction, so it can be searched from multiple threads at once.
+ */
+public class ChannelGrid {
+    private final int[] channels, ids, cellStart, occupied;
+
+    /**
+     * Creates a ChannelGrid holding the first {@code count} colors in {@code channels}, with the matching ids in
+     * {@code ids}. If more than one color has the same channels, only the one with the smallest id is kept.
+     * @param channels colors as the low 24 bits of their packed int forms; higher bits are ignored
+     * @param ids an id for each color, used to break ties; should be non-negative
+     * @param count how many colors to read from channels and ids
+     */
+    public ChannelGrid(int[] channels, int[] ids, int count) {
+        if (count < 0 || count > channels.length || count > ids.length)
+            throw new IllegalArgumentException("count must be between 0 and the length of channels and ids");
+        final long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = (long) (channels[i] & 0xFFFFFF) << 32 | (ids[i] & 0xFFFFFFFFL);
+        }
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || sorted[i] >>> 32 != sorted[unique - 1] >>> 32)
+                sorted[unique++] = sorted[i];
+        }
+        this.channels = new int[unique];
+        this.ids = new int[unique];
+        cellStart = new int[32769];
+        for (int i = 0; i < unique; i++) {
+            cellStart[cell((int) (sorted[i] >>> 32)) + 1]++;
+        }
+        int filled = 0;
+        for (int c = 0; c < 32768; c++) {
+            if (cellStart[c + 1] != 0) filled++;
+            cellStart[c + 1] += cellStart[c];
+        }
+        occupied = new int[filled];
+        for (int c = 0, o = 0; c < 32768; c++) {
+            if (cellStart[c + 1] != cellStart[c]) occupied[o++] = c;
+        }
+        final int[] next = Arrays.copyOf(cellStart, 32768);
+        for (int i = 0; i < unique; i++) {
+            final int ch = (int) (sorted[i] >>> 32), at = next[cell(ch)]++;
+            this.channels[at] = ch;
+            this.ids[at] = (int) sorted[i];
+        }
+    }
+
+    private static int cell(final int channels) {
+        return (channels >>> 3 & 31) | (channels >>> 6 & 0x3E0) | (channels >>> 9 & 0x7C00);
+    }
+
+    /**
+     * Gets how many distinct colors this holds.
+     * @return the number of colors in this index
+     */
+    public int size() {
+        return channels.length;
+    }
+
+    /**
+     * Gets the channels of the color at the given position, as the low 24 bits of a packed int color.
+     * @param index a position returned by {@link #nearest(float[], float[], float[])}
+     * @return the channels of the color at index
+     */
+    public int channels(int index) {
+        return channels[index];
+    }
+
+    /**
+     * Gets the id of the color at the given position.
+     * @param index a position returned by {@link #nearest(float[], float[], float[])}
+     * @return the id of the color at index
+     */
+    public int id(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Finds the color with the smallest distance, where the distance to a color with channel bytes c0, c1, and c2 is
+     * {@code (cost0[c0] + cost1[c1]) + cost2[c2]}. The costs should be non-negative. If more than one color has the
+     * smallest distance, the one with the smallest id is chosen.
+     * @param cost0 256 costs for the lowest channel byte
+     * @param cost1 256 costs for the middle channel byte
+     * @param cost2 256 costs for the highest channel byte
+     * @return the position of the closest color, which can be given to {@link #id(int)}, or -1 if this is empty
+     */
+    public int nearest(final float[] cost0, final float[] cost1, final float[] cost2) {
+        final float[] min0 = cellMinimums(cost0), min1 = cellMinimums(cost1), min2 = cellMinimums(cost2);
+        float best = Float.POSITIVE_INFINITY, bound;
+        int bestIndex = -1, bestId = Integer.MAX_VALUE, first = -1;
+        // start with the cell with the lowest bound, which usually gives a close bound on the rest
+        for (int o = 0; o < occupied.length; o++) {
+            final int c = occupied[o];
+            if ((bound = (min0[c & 31] + min1[c >>> 5 & 31]) + min2[c >>> 10]) < best) {
+                best = bound;
+                first = c;
+            }
+        }
+        best = Float.POSITIVE_INFINITY;
+        for (int o = -1; o < occupied.length; o++) {
+            final int c = o < 0 ? first : occupied[o];
+            if (c < 0 || (o >= 0 && c == first) || (min0[c & 31] + min1[c >>> 5 & 31]) + min2[c >>> 10] > best)
+                continue;
+            for (int i = cellStart[c], n = cellStart[c + 1]; i < n; i++) {
+                final int ch = channels[i];
+                final float distance = (cost0[ch & 255] + cost1[ch >>> 8 & 255]) + cost2[ch >>> 16 & 255];
+                if (distance < best || (distance == best && ids[i] < bestId)) {
+                    best = distance;
+                    bestId = ids[i];
+                    bestIndex = i;
+                }
+            }
+        }
+        return bestIndex;
+    }
+
+    private static float[] cellMinimums(final float[] cost) {
+        final float[] min = new float[32];
+        for (int c = 0, b = 0; c < 32; c++) {
+            float m = cost[b++];
+            for (int j = 1; j < 8; j++) {
+                m = Math.min(m, cost[b++]);
+            }
+            min[c] = m;
+        }
+        return min;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/**
+ * Averages any number of packed float colors, optionally with weights, decoding each color only once and encoding the
+ * result only when it is requested with {@link #mean()}. This works with any of the color spaces this library uses,
+ * since it only averages each channel byte and the alpha bits; all colors added to one accumulator should use the
+ * same color space.
+ * <br>
+ * Mixing colors by repeatedly interpolating, as {@link FloatColors#lerpFloatColors(float, float, float)} does, rounds
+ * every channel down to a byte after each step, which costs time and makes the result drift darker and less opaque as
+ * more colors are mixed. This instead keeps sums of each channel, which are exact for any reasonable number of colors,
+ * and rounds only once. It never allocates after construction, so one ColorAccumulator can be reused with
+ * {@link #reset()} for each mix, or kept as a running mean, with colors {@link #add(float) added} and
+ * {@link #remove(float) removed} as they enter and leave a window. To mix one array of colors without allocating at
+ * all, the static {@link #meanOf(float[], int, int)} and {@link #weightedMeanOf(float[], int, int)} give the same
+ * results as an accumulator would.
+ * <br>
+ * A ColorAccumulator is not thread-safe.
+ */
+public class ColorAccumulator {
+    protected double sum0, sum1, sum2, sumAlpha, weight;
+
+    /**
+     * Creates an empty ColorAccumulator.
+     */
+    public ColorAccumulator() {
+    }
+
+    /**
+     * Creates a ColorAccumulator with the same sums as {@code other}.
+     * @param other another ColorAccumulator to copy
+     */
+    public ColorAccumulator(ColorAccumulator other) {
+        sum0 = other.sum0;
+        sum1 = other.sum1;
+        sum2 = other.sum2;
+        sumAlpha = other.sumAlpha;
+        weight = other.weight;
+    }
+
+    /**
+     * Removes every color from this accumulator.
+     * @return this, for chaining
+     */
+    public ColorAccumulator reset() {
+        sum0 = sum1 = sum2 = sumAlpha = weight = 0.0;
+        return this;
+    }
+
+    /**
+     * Adds one color with a weight of 1.
+     * @param color a packed float color
+     * @return this, for chaining
+     */
+    public ColorAccumulator add(float color) {
+        final int bits = NumberUtils.floatToRawIntBits(color);
+        sum0 += bits & 0xFF;
+        sum1 += bits >>> 8 & 0xFF;
+        sum2 += bits >>> 16 & 0xFF;
+        sumAlpha += bits >>> 25;
+        weight += 1.0;
+        return this;
+    }
+
+    /**
+     * Adds one color with the given weight. Weights are relative to each other, so a color with weight 2 counts as
+     * much as two colors with weight 1.
+     * @param color a packed float color
+     * @param weight how much this color counts; should be non-negative and finite
+     * @return this, for chaining
+     */
+    public ColorAccumulator add(float color, float weight) {
+        final int bits = NumberUtils.floatToRawIntBits(color);
+        sum0 += (bits & 0xFF) * weight;
+        sum1 += (bits >>> 8 & 0xFF) * weight;
+        sum2 += (bits >>> 16 & 0xFF) * weight;
+        sumAlpha += (bits >>> 25) * weight;
+        this.weight += weight;
+        return this;
+    }
+
+    /**
+     * Removes one color with a weight of 1, which should have been {@link #add(float) added} before. This lets a
+     * ColorAccumulator keep the mean of a sliding window of colors.
+     * @param color a packed float color that was added before
+     * @return this, for chaining
+     */
+    public ColorAccumulator remove(float color) {
+        return add(color, -1f);
+    }
+
+    /**
+     * Adds {@code size} colors from {@code colors}, starting at {@code offset}, each with a weight of 1.
+     * @param colors an array of packed float colors
+     * @param offset the first index in colors to read
+     * @param size how many colors to read
+     * @return this, for chaining
+     */
+    public ColorAccumulator addAll(float[] colors, int offset, int size) {
+        if (colors == null || offset < 0 || size < 0 || offset + size > colors.length)
+            throw new IllegalArgumentException("offset and size must be within colors");
+        // int sums can't overflow for fewer than 8 million colors, and are cheaper than adding doubles every time
+        for (int start = offset, end = offset + size; start < end; start += 0x400000) {
+            int s0 = 0, s1 = 0, s2 = 0, sa = 0;
+            for (int i = start, n = Math.min(end, start + 0x400000); i < n; i++) {
+                final int bits = NumberUtils.floatToRawIntBits(colors[i]);
+                s0 += bits & 0xFF;
+                s1 += bits >>> 8 & 0xFF;
+                s2 += bits >>> 16 & 0xFF;
+                sa += bits >>> 25;
+            }
+            sum0 += s0;
+            sum1 += s1;
+            sum2 += s2;
+            sumAlpha += sa;
+        }
+        weight += size;
+        return this;
+    }
+
+    /**
+     * Adds every color in {@code colors}, each with a weight of 1.
+     * @param colors a FloatArray of packed float colors
+     * @return this, for chaining
+     */
+    public ColorAccumulator addAll(FloatArray colors) {
+        return addAll(colors.items, 0, colors.size);
+    }
+
+    /**
+     * Adds colors with weights from {@code colorsAndWeights}, which holds alternating colors and weights, as with
+     * {@code color, weight, color, weight...}, starting at {@code offset} and continuing for {@code size} items. This is
+     * the layout {@link FloatColors#unevenMix(float[], int, int)} uses. If size is odd, the last item is ignored.
+     * @param colorsAndWeights alternating packed float colors and their non-negative weights
+     * @param offset the first index in colorsAndWeights to read; this should be a color
+     * @param size how many items to read, counting both colors and weights
+     * @return this, for chaining
+     */
+    public ColorAccumulator addAllWeighted(float[] colorsAndWeights, int offset, int size) {
+        if (colorsAndWeights == null || offset < 0 || size < 0 || offset + size > colorsAndWeights.length)
+            throw new IllegalArgumentException("offset and size must be within colorsAndWeights");
+        double s0 = 0.0, s1 = 0.0, s2 = 0.0, sa = 0.0, w = 0.0;
+        for (int i = offset, n = offset + (size & -2); i < n; i += 2) {
+            final int bits = NumberUtils.floatToRawIntBits(colorsAndWeights[i]);
+            final float wt = colorsAndWeights[i + 1];
+            s0 += (bits & 0xFF) * wt;
+            s1 += (bits >>> 8 & 0xFF) * wt;
+            s2 += (bits >>> 16 & 0xFF) * wt;
+            sa += (bits >>> 25) * wt;
+            w += wt;
+        }
+        sum0 += s0;
+        sum1 += s1;
+        sum2 += s2;
+        sumAlpha += sa;
+        weight += w;
+        return this;
+    }
+
+    /**
+     * Gets the total weight of every color added so far, minus any removed; this is the number of colors if every
+     * color was added with a weight of 1.
+     * @return the total weight of colors in this accumulator
+     */
+    public double weight() {
+        return weight;
+    }
+
+    /**
+     * Returns true if there are no colors in this accumulator, or if their total weight isn't positive.
+     * @return true if {@link #mean()} has nothing to average
+     */
+    public boolean isEmpty() {
+        return !(weight > 0.0);
+    }
+
+    /**
+     * Gets the weighted mean of every color in this accumulator, as a packed float in the same color space as the
+     * colors that were added. Each channel is rounded to the nearest byte, and alpha to the nearest value it can hold
+     * in a packed float. This doesn't change the accumulator, so it can be called again after adding more colors.
+     * @return the mean of all colors added, or 0f (usually transparent) if {@link #isEmpty()} is true
+     */
+    public float mean() {
+        return meanOf(sum0, sum1, sum2, sumAlpha, weight);
+    }
+
+    /**
+     * Encodes the weighted mean of some colors from the sums of their channels, the same way {@link #mean()} does. This
+     * lets code that keeps its own sums in local variables, such as a parser that finds colors one at a time, get the
+     * same result as a ColorAccumulator without allocating one. Each sum should add up a channel byte (or the alpha
+     * bits, shifted right by 25) of each color, times that color's weight as a float.
+     * @param sum0 the weighted sum of the lowest channel bytes
+     * @param sum1 the weighted sum of the second channel bytes
+     * @param sum2 the weighted sum of the third channel bytes
+     * @param sumAlpha the weighted sum of the alpha bits
+     * @param weight the total weight of all colors
+     * @return the mean color, or 0f (usually transparent) if weight isn't positive
+     */
+    public static float meanOf(double sum0, double sum1, double sum2, double sumAlpha, double weight) {
+        if (!(weight > 0.0))
+            return 0f;
+        final double inv = 1.0 / weight;
+        return NumberUtils.intBitsToFloat(
+                channel(sum0 * inv, 255)
+                        | channel(sum1 * inv, 255) << 8
+                        | channel(sum2 * inv, 255) << 16
+                        | channel(sumAlpha * inv, 127) << 25);
+    }
+
+    /**
+     * Gets the mean of {@code size} colors from {@code colors}, starting at {@code offset}, exactly as
+     * {@link #addAll(float[], int, int)} followed by {@link #mean()} would, but without allocating.
+     * @param colors an array of packed float colors
+     * @param offset the first index in colors to read
+     * @param size how many colors to read
+     * @return the mean color, or 0f (usually transparent) if size is 0
+     */
+    public static float meanOf(float[] colors, int offset, int size) {
+        if (colors == null || offset < 0 || size < 0 || offset + size > colors.length)
+            throw new IllegalArgumentException("offset and size must be within colors");
+        double sum0 = 0.0, sum1 = 0.0, sum2 = 0.0, sumAlpha = 0.0;
+        for (int start = offset, end = offset + size; start < end; start += 0x400000) {
+            int s0 = 0, s1 = 0, s2 = 0, sa = 0;
+            for (int i = start, n = Math.min(end, start + 0x400000); i < n; i++) {
+                final int bits = NumberUtils.floatToRawIntBits(colors[i]);
+                s0 += bits & 0xFF;
+                s1 += bits >>> 8 & 0xFF;
+                s2 += bits >>> 16 & 0xFF;
+                sa += bits >>> 25;
+            }
+            sum0 += s0;
+            sum1 += s1;
+            sum2 += s2;
+            sumAlpha += sa;
+        }
+        return meanOf(sum0, sum1, sum2, sumAlpha, size);
+    }
+
+    /**
+     * Gets the weighted mean of the alternating colors and weights in {@code colorsAndWeights}, exactly as
+     * {@link #addAllWeighted(float[], int, int)} followed by {@link #mean()} would, but without allocating. Unlike
+     * mean(), if the weights don't add up to a positive number, this returns the first color.
+     * @param colorsAndWeights alternating packed float colors and their non-negative weights
+     * @param offset the first index in colorsAndWeights to read; this should be a color
+     * @param size how many items to read, counting both colors and weights; must be at least 2
+     * @return the mean color, or the first color if the weights don't add up to a positive number
+     */
+    public static float weightedMeanOf(float[] colorsAndWeights, int offset, int size) {
+        if (colorsAndWeights == null || offset < 0 || size < 2 || offset + size > colorsAndWeights.length)
+            throw new IllegalArgumentException("offset and size must be within colorsAndWeights");
+        double s0 = 0.0, s1 = 0.0, s2 = 0.0, sa = 0.0, w = 0.0;
+        for (int i = offset, n = offset + (size & -2); i < n; i += 2) {
+            final int bits = NumberUtils.floatToRawIntBits(colorsAndWeights[i]);
+            final float wt = colorsAndWeights[i + 1];
+            s0 += (bits & 0xFF) * wt;
+            s1 += (bits >>> 8 & 0xFF) * wt;
+            s2 += (bits >>> 16 & 0xFF) * wt;
+            sa += (bits >>> 25) * wt;
+            w += wt;
+        }
+        return w > 0.0 ? meanOf(s0, s1, s2, sa, w) : colorsAndWeights[offset];
+    }
+
+    private static int channel(final double mean, final int max) {
+        final int rounded = (int) (mean + 0.5);
+        return rounded < 0 ? 0 : Math.min(rounded, max);
+    }
+}
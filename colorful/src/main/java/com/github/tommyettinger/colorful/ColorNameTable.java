@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.utils.ObjectFloatMap;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A read-only table of color names and their packed float colors, copied from a map such as a palette's
+ * {@code NAMED}. Names are looked up without regard to ASCII case, so "Ocean Blue", "ocean blue", and "OCEAN BLUE"
+ * all find the same color, and any region of a CharSequence can be looked up without creating a substring. Each
+ * Palette and SimplePalette has one of these as {@code NAME_TABLE}.
+ * <br>
+ * The table uses a minimal perfect hash: each name has its own slot, and there are exactly as many slots as names, so
+ * a lookup hashes the region once, checks one slot, and compares at most one name. Lookups never allocate. Because the
+ * table is never changed after it is built, it can be read from any number of threads at once.
+ * <br>
+ * The table is built from the map the first time it is used, and changes to the map after that are not seen by the
+ * table. If two names in the map differ only in ASCII case, only the one that comes first in
+ * {@link String#compareTo(String)} order is kept.
+ */
+public final class ColorNameTable {
+    private final ObjectFloatMap<String> named;
+    private volatile Table table;
+
+    /**
+     * Creates a ColorNameTable with the names and colors in the given map. The map is copied the first time this is
+     * used, not here, so creating a ColorNameTable is cheap even if it is never used.
+     * @param named a map from color names to packed float colors, such as {@code Palette.NAMED}
+     */
+    public ColorNameTable(ObjectFloatMap<String> named) {
+        if (named == null)
+            throw new IllegalArgumentException("named cannot be null");
+        this.named = named;
+    }
+
+    private Table table() {
+        Table t = table;
+        if (t == null) {
+            synchronized (this) {
+                if ((t = table) == null)
+                    table = t = new Table(named);
+            }
+        }
+        return t;
+    }
+
+    private static int compareIgnoreCase(final String a, final String b) {
+        final int len = Math.min(a.length(), b.length());
+        for (int i = 0; i < len; i++) {
+            final int c = fold(a.charAt(i)) - fold(b.charAt(i));
+            if (c != 0) return c;
+        }
+        return a.length() - b.length();
+    }
+
+    private static char fold(final char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c | 32) : c;
+    }
+
+    private static long hash(final CharSequence text, final int start, final int end, long h) {
+        for (int i = start; i < end; i++) {
+            h = (h ^ fold(text.charAt(i))) * 0x9E3779B97F4A7C15L;
+        }
+        h = (h ^ h >>> 27) * 0x3C79AC492BA7B653L;
+        return h ^ h >>> 33;
+    }
+
+    private static int bucket(final long hash, final int bucketCount) {
+        return (int) ((hash >>> 32) * bucketCount >>> 32);
+    }
+
+    private static int slot(final long hash, final int seed, final int count) {
+        int h = (int) hash ^ seed * 0x9E3779B9;
+        h = (h ^ h >>> 16) * 0x85EBCA6B;
+        h = (h ^ h >>> 13) * 0xC2B2AE35;
+        return (int) (((h ^ h >>> 16) & 0xFFFFFFFFL) * count >>> 32);
+    }
+
+    /**
+     * Gets how many names this table holds.
+     * @return the number of names
+     */
+    public int size() {
+        return table().names.length;
+    }
+
+    /**
+     * Finds the index of the name from {@code start} to {@code end} in {@code text}, ignoring ASCII case.
+     * @param text the text to read
+     * @param start the first char of the name
+     * @param end the index just after the last char of the name
+     * @return the index of the name, which can be given to {@link #nameAt(int)} or {@link #colorAt(int)}, or -1 if
+     * the name isn't in this table
+     */
+    public int indexOf(final CharSequence text, final int start, final int end) {
+        return table().indexOf(text, start, end);
+    }
+
+    /**
+     * Finds the index of {@code name}, ignoring ASCII case.
+     * @param name the name to look up
+     * @return the index of the name, which can be given to {@link #nameAt(int)} or {@link #colorAt(int)}, or -1 if
+     * the name isn't in this table
+     */
+    public int indexOf(final CharSequence name) {
+        return indexOf(name, 0, name.length());
+    }
+
+    /**
+     * Looks up the name from {@code start} to {@code end} in {@code text}, ignoring ASCII case, and returns its color.
+     * @param text the text to read
+     * @param start the first char of the name
+     * @param end the index just after the last char of the name
+     * @param defaultValue returned if the name isn't in this table
+     * @return the packed float color for the name, or defaultValue if it wasn't found
+     */
+    public float get(final CharSequence text, final int start, final int end, final float defaultValue) {
+        final Table t = table();
+        final int index = t.indexOf(text, start, end);
+        return index < 0 ? defaultValue : t.colors[index];
+    }
+
+    /**
+     * Looks up {@code name}, ignoring ASCII case, and returns its color.
+     * @param name the name to look up
+     * @param defaultValue returned if the name isn't in this table
+     * @return the packed float color for the name, or defaultValue if it wasn't found
+     */
+    public float get(final CharSequence name, final float defaultValue) {
+        return get(name, 0, name.length(), defaultValue);
+    }
+
+    /**
+     * Gets the name at the given index, with the case it had in the map this was constructed with.
+     * @param index an index returned by {@link #indexOf(CharSequence, int, int)}
+     * @return the name at that index
+     */
+    public String nameAt(final int index) {
+        return table().names[index];
+    }
+
+    /**
+     * Gets the packed float color at the given index.
+     * @param index an index returned by {@link #indexOf(CharSequence, int, int)}
+     * @return the packed float color at that index
+     */
+    public float colorAt(final int index) {
+        return table().colors[index];
+    }
+
+    /**
+     * A minimal perfect hash table of the names in a map. Once constructed, it is never modified.
+     */
+    private static final class Table {
+        final String[] names;
+        final float[] colors;
+        /**
+         * One seed per bucket; the seed for a name's bucket decides which slot that name hashes to.
+         */
+        final int[] seeds;
+        final long salt;
+
+        Table(ObjectFloatMap<String> named) {
+            final String[] sorted = new String[named.size];
+            int n = 0;
+            for (String key : new ObjectFloatMap.Keys<>(named)) {
+                sorted[n++] = key;
+            }
+            Arrays.sort(sorted, 0, n, new Comparator<String>() {
+                public int compare(String a, String b) {
+                    final int c = compareIgnoreCase(a, b);
+                    return c != 0 ? c : a.compareTo(b);
+                }
+            });
+            // names that only differ in case are next to each other now; keep only the first of each group
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                if (count == 0 || compareIgnoreCase(sorted[count - 1], sorted[i]) != 0)
+                    sorted[count++] = sorted[i];
+            }
+            names = new String[count];
+            colors = new float[count];
+            seeds = new int[count / 2 + 1];
+            long s = 0x9E3779B97F4A7C15L;
+            while (!place(sorted, count, s)) {
+                s = s * 0xD1342543DE82EF95L + 1L;
+            }
+            salt = s;
+            for (int i = 0; i < count; i++) {
+                colors[i] = named.get(names[i], 0f);
+            }
+        }
+
+        /**
+         * Tries to find a seed for every bucket so that all names get different slots, using the given salt. This
+         * only fails if two names hash to identical values, which a different salt will almost certainly fix.
+         */
+        private boolean place(final String[] sorted, final int count, final long salt) {
+            final int bucketCount = seeds.length;
+            final long[] hashes = new long[count];
+            final int[] sizes = new int[bucketCount], starts = new int[bucketCount + 1];
+            int largest = 0;
+            for (int i = 0; i < count; i++) {
+                hashes[i] = hash(sorted[i], 0, sorted[i].length(), salt);
+                largest = Math.max(largest, ++sizes[bucket(hashes[i], bucketCount)]);
+            }
+            // the names in each bucket are grouped together in members
+            for (int b = 0; b < bucketCount; b++) {
+                starts[b + 1] = starts[b] + sizes[b];
+            }
+            final int[] members = new int[count], filled = new int[bucketCount], slots = new int[largest];
+            for (int i = 0; i < count; i++) {
+                final int b = bucket(hashes[i], bucketCount);
+                members[starts[b] + filled[b]++] = i;
+            }
+            Arrays.fill(names, null);
+            final int maxSeed = Math.max(1 << 16, count << 4);
+            // larger buckets are harder to place, so they go first, while most slots are still free
+            for (int size = largest; size > 0; size--) {
+                for (int b = 0; b < bucketCount; b++) {
+                    if (sizes[b] != size) continue;
+                    final int start = starts[b];
+                    int seed = 0;
+                    search:
+                    for (; seed < maxSeed; seed++) {
+                        for (int m = 0; m < size; m++) {
+                            final int slot = slot(hashes[members[start + m]], seed, count);
+                            if (names[slot] != null) continue search;
+                            for (int p = 0; p < m; p++) {
+                                if (slots[p] == slot) continue search;
+                            }
+                            slots[m] = slot;
+                        }
+                        break;
+                    }
+                    if (seed == maxSeed) return false;
+                    seeds[b] = seed;
+                    for (int m = 0; m < size; m++) {
+                        names[slots[m]] = sorted[members[start + m]];
+                    }
+                }
+            }
+            return true;
+        }
+
+        int indexOf(final CharSequence text, final int start, final int end) {
+            final int count = names.length;
+            if (count == 0) return -1;
+            final long h = hash(text, start, end, salt);
+            final int slot = slot(h, seeds[bucket(h, seeds.length)], count);
+            final String name = names[slot];
+            final int len = end - start;
+            if (name.length() != len) return -1;
+            for (int i = 0; i < len; i++) {
+                if (fold(name.charAt(i)) != fold(text.charAt(start + i))) return -1;
+            }
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.utils.ObjectFloatMap;
+
+/**
+ * Reads the terms of a color description, as used by {@code parseDescription()} in each SimplePalette, directly from a
+ * CharSequence. A term is a run of ASCII letters, digits, {@code '_'}, and {@code '.'}, which is what
+ * {@code String.split("[^a-zA-Z0-9_.]+")} would keep, but no regex is used and no substrings are created. The static
+ * methods here find terms, recognize adjectives like "lighter" or "dullest", and read weights. An instance looks up
+ * color names in one palette's {@code NAMED} map, finding them with that palette's {@code NAME_TABLE} so no substring
+ * is needed.
+ * <br>
+ * Everything here can be used from multiple threads at once, as long as the {@code NAMED} map isn't being changed while
+ * it is in use. The map can be changed between uses; names added after the {@link ColorNameTable} was built are still
+ * found, but looking them up allocates a String.
+ */
+public final class DescriptionTerms {
+
+    private static final float[] POWERS_OF_TEN = {1f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private final ObjectFloatMap<String> named;
+    private final ColorNameTable names;
+
+    /**
+     * Creates a DescriptionTerms that looks up names in the given map, with its own {@link ColorNameTable} to find
+     * them. The map is not copied.
+     * @param named a map from color names to packed float colors, such as {@code SimplePalette.NAMED}
+     */
+    public DescriptionTerms(ObjectFloatMap<String> named) {
+        this(named, new ColorNameTable(named));
+    }
+
+    /**
+     * Creates a DescriptionTerms that looks up names in the given map, and finds them with the given table, which
+     * should have been made from the same map. This lets a palette share its {@code NAME_TABLE} instead of indexing
+     * its names twice. The map is not copied.
+     * @param named a map from color names to packed float colors, such as {@code SimplePalette.NAMED}
+     * @param names a table made from named, such as {@code SimplePalette.NAME_TABLE}
+     */
+    public DescriptionTerms(ObjectFloatMap<String> named, ColorNameTable names) {
+        if (named == null || names == null)
+            throw new IllegalArgumentException("named and names cannot be null");
+        this.named = named;
+        this.names = names;
+    }
+
+    /**
+     * Returns true if {@code c} can be part of a term: an ASCII letter or digit, {@code '_'}, or {@code '.'}.
+     * @param c any char
+     * @return true if c can be part of a term
+     */
+    public static boolean isTermChar(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '.';
+    }
+
+    /**
+     * Finds the start of the next term in {@code text}, starting at {@code index} and stopping before {@code end}.
+     * @param text the text to read
+     * @param index the first index to check
+     * @param end the index to stop before
+     * @return the index of the first char of the next term, or {@code end} if there are no more terms
+     */
+    public static int termStart(final CharSequence text, int index, final int end) {
+        while (index < end && !isTermChar(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the end of the term that starts at {@code index}, stopping at or before {@code end}.
+     * @param text the text to read
+     * @param index the first char of a term, usually as returned by {@link #termStart(CharSequence, int, int)}
+     * @param end the index to stop before
+     * @return the index just after the last char of the term
+     */
+    public static int termEnd(final CharSequence text, int index, final int end) {
+        while (index < end && isTermChar(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Checks if the term from {@code start} to {@code end} is one of the adjectives a description can use: "light",
+     * "dark", "rich", "dull", "bright", "pale", "deep", or "weak", optionally with one to four more chars appended, as
+     * in "lighter", "dullest", or "deepmost" ("pale" allows up to four). The case of an adjective doesn't matter. If the
+     * term is an adjective, this returns a non-zero code; pass that to {@link #lightnessSteps(int)} and
+     * {@link #saturationSteps(int)} to get how many steps it changes lightness and saturation by.
+     * @param text the text to read
+     * @param start the first char of the term
+     * @param end the index just after the last char of the term
+     * @return 0 if the term is not an adjective, or a non-zero code if it is one
+     */
+    public static int adjective(final CharSequence text, final int start, final int end) {
+        final int len = end - start;
+        int steps;
+        switch (text.charAt(start)) {
+            case 'L':
+            case 'l':
+                if (len > 2 && (text.charAt(start + 2) | 32) == 'g') { // light
+                    steps = len == 9 ? 4 : len == 8 ? 3 : len == 7 ? 2 : len == 5 ? 1 : 0;
+                    return steps == 0 ? 0 : adjustment(steps, 0);
+                }
+                return 0;
+            case 'B':
+            case 'b':
+                if (len > 3 && (text.charAt(start + 3) | 32) == 'g') { // bright
+                    steps = len == 10 ? 4 : len == 9 ? 3 : len == 8 ? 2 : len == 6 ? 1 : 0;
+                    return steps == 0 ? 0 : adjustment(steps, steps);
+                }
+                return 0;
+            case 'P':
+            case 'p':
+                if (len > 2 && (text.charAt(start + 2) | 32) == 'l') { // pale
+                    steps = len == 8 || len == 7 ? 4 : len == 6 ? 3 : len == 5 ? 2 : len == 4 ? 1 : 0;
+                    return steps == 0 ? 0 : adjustment(steps, -steps);
+                }
+                return 0;
+            case 'W':
+            case 'w':
+                if (len > 3 && (text.charAt(start + 3) | 32) == 'k') { // weak
+                    steps = len == 8 ? 4 : len == 7 ? 3 : len == 6 ? 2 : len == 4 ? 1 : 0;
+                    return steps == 0 ? 0 : adjustment(-steps, -steps);
+                }
+                return 0;
+            case 'R':
+            case 'r':
+                if (len > 1 && (text.charAt(start + 1) | 32) == 'i') { // rich
+                    steps = len == 8 ? 4 : len == 7 ? 3 : len == 6 ? 2 : len == 4 ? 1 : 0;
+                    return steps == 0 ? 0 : adjustment(0, steps);
+                }
+                return 0;
+            case 'D':
+            case 'd':
+                steps = len == 8 ? 4 : len == 7 ? 3 : len == 6 ? 2 : len == 4 ? 1 : 0;
+                if (len > 1 && (text.charAt(start + 1) | 32) == 'a') { // dark
+                    return steps == 0 ? 0 : adjustment(-steps, 0);
+                } else if (len > 1 && (text.charAt(start + 1) | 32) == 'u') { // dull
+                    return steps == 0 ? 0 : adjustment(0, -steps);
+                } else if (len > 3 && (text.charAt(start + 3) | 32) == 'p') { // deep
+                    return steps == 0 ? 0 : adjustment(-steps, steps);
+                }
+                return 0;
+            default:
+                return 0;
+        }
+    }
+
+    private static int adjustment(final int lightness, final int saturation) {
+        return 0x100 | (lightness & 15) | (saturation & 15) << 4;
+    }
+
+    /**
+     * Given a code returned by {@link #adjective(CharSequence, int, int)}, gets how many steps it changes lightness by.
+     * @param adjective a code returned by {@link #adjective(CharSequence, int, int)}
+     * @return the number of lightness steps, from -4 (darkest) to 4 (lightest)
+     */
+    public static int lightnessSteps(final int adjective) {
+        return adjective << 28 >> 28;
+    }
+
+    /**
+     * Given a code returned by {@link #adjective(CharSequence, int, int)}, gets how many steps it changes saturation by.
+     * @param adjective a code returned by {@link #adjective(CharSequence, int, int)}
+     * @return the number of saturation steps, from -4 (dullest) to 4 (richest)
+     */
+    public static int saturationSteps(final int adjective) {
+        return adjective << 24 >> 28;
+    }
+
+    /**
+     * Returns true if the term starting at {@code start} is a weight, which means it starts with a digit.
+     * @param text the text to read
+     * @param start the first char of the term
+     * @return true if the term is a weight
+     */
+    public static boolean isWeight(final CharSequence text, final int start) {
+        final char c = text.charAt(start);
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Reads the weight from {@code start} to {@code end}, getting the same result as {@link Float#parseFloat(String)},
+     * or 1 if that would throw an exception. Weights made only of digits and up to one decimal point, with at most 9
+     * digits and no more than 16777216 when the point is ignored, are read without allocating; anything else is passed
+     * to {@link Float#parseFloat(String)}.
+     * @param text the text to read
+     * @param start the first char of the term
+     * @param end the index just after the last char of the term
+     * @return the weight as a float, or 1 if it could not be read
+     */
+    public static float parseWeight(final CharSequence text, final int start, final int end) {
+        int mantissa = 0, point = -1;
+        if (end - start <= 10) {
+            for (int i = start; i < end; i++) {
+                final char c = text.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    mantissa = mantissa * 10 + (c - '0');
+                } else if (c == '.' && point < 0) {
+                    point = i;
+                } else {
+                    mantissa = -1;
+                    break;
+                }
+            }
+            // at most 9 digits, so an int mantissa is exact, and converting it to float rounds it correctly
+            if (mantissa >= 0 && point < 0 && end - start <= 9)
+                return (float) mantissa;
+            // a mantissa up to 2 to the 24 and a power of ten up to 1e10 are exact as floats, so dividing them rounds
+            // only once, which gives the same result as Float.parseFloat
+            if (mantissa >= 0 && mantissa <= 0x1000000 && point >= 0)
+                return mantissa / POWERS_OF_TEN[end - point - 1];
+        }
+        try {
+            return Float.parseFloat(text.subSequence(start, end).toString());
+        } catch (NumberFormatException ignored) {
+            return 1f;
+        }
+    }
+
+    /**
+     * Looks up the term from {@code start} to {@code end} in the map this was constructed with, and returns the color
+     * it is associated with, or {@code 0f} if the term isn't in the map. This doesn't allocate unless the term is a
+     * name that was added to the map after the table was built, or isn't a name in the map at all.
+     * @param text the text to read
+     * @param start the first char of the term
+     * @param end the index just after the last char of the term
+     * @return the packed float color associated with the term, or 0f if it wasn't found
+     */
+    public float get(final CharSequence text, final int start, final int end) {
+        // the table ignores case, but the map doesn't, so the name it finds must match exactly
+        final int index = names.indexOf(text, start, end);
+        if (index >= 0) {
+            final String name = names.nameAt(index);
+            int i = 0;
+            while (i < name.length() && name.charAt(i) == text.charAt(start + i)) i++;
+            if (i == name.length())
+                return named.get(name, 0f);
+        }
+        return named.get(text.subSequence(start, end).toString(), 0f);
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+
+import java.util.Arrays;
+
+/**
+ * Finds the named colors in a palette that are closest to any given color, using a k-d tree over the colors in a
+ * {@code NAMED} map. Distances are measured in Oklab, the same way as
+ * {@link com.github.tommyettinger.colorful.oklab.ColorTools#distanceSquared(float, float)}, so colors from any color
+ * space can be compared; a {@link Converter} changes the palette's packed floats to packed Oklab floats. Each Palette
+ * class has one of these, which its {@code nearest()}, {@code nearestName()}, and {@code kNearest()} methods use.
+ * <br>
+ * Only named colors with alpha of at least 0.5 are searched, so "Transparent" is never a result. If two named colors
+ * are the same distance from a query, the one whose name comes first alphabetically is treated as closer.
+ * <br>
+ * The tree is built the first time it is searched, and is rebuilt if the size of the map changes. Searches don't
+ * allocate anything once the tree is built, and can be done from multiple threads at once, as long as the map isn't
+ * being changed at the same time.
+ */
+public class NamedColorTree {
+    /**
+     * Changes a packed float color in some color space to a packed Oklab float color.
+     */
+    public interface Converter {
+        /**
+         * Converts {@code color} to a packed Oklab float color.
+         * @param color a packed float color in the color space a palette uses
+         * @return the same color as a packed Oklab float
+         */
+        float toOklab(float color);
+    }
+
+    private final ObjectFloatMap<String> named;
+    private final Converter converter;
+    private volatile Tree tree;
+
+    /**
+     * Creates a NamedColorTree that searches the colors in the given map, which is not copied.
+     * @param named a map from color names to packed float colors, such as {@code Palette.NAMED}
+     * @param converter changes the packed float colors in named to packed Oklab floats
+     */
+    public NamedColorTree(ObjectFloatMap<String> named, Converter converter) {
+        if (named == null || converter == null)
+            throw new IllegalArgumentException("named and converter cannot be null");
+        this.named = named;
+        this.converter = converter;
+    }
+
+    private Tree tree() {
+        Tree t = tree;
+        if (t == null || t.sourceSize != named.size) {
+            tree = t = new Tree(named, converter);
+        }
+        return t;
+    }
+
+    /**
+     * Gets how many named colors this can return, which excludes any that are mostly transparent.
+     * @return the number of searchable named colors
+     */
+    public int size() {
+        return tree().size;
+    }
+
+    /**
+     * Finds the named color closest to {@code color}.
+     * @param color a packed float color, in the color space of the map this searches
+     * @return the closest named color, in the same color space, or 0f if there are no named colors to search
+     */
+    public float nearest(final float color) {
+        final Tree t = tree();
+        final int index = t.find(converter.toOklab(color), -1f, -1);
+        return index < 0 ? 0f : t.colors[index];
+    }
+
+    /**
+     * Finds the name of the named color closest to {@code color}.
+     * @param color a packed float color, in the color space of the map this searches
+     * @return the name of the closest named color, or null if there are no named colors to search
+     */
+    public String nearestName(final float color) {
+        final Tree t = tree();
+        final int index = t.find(converter.toOklab(color), -1f, -1);
+        return index < 0 ? null : t.names[index];
+    }
+
+    /**
+     * Finds the {@code k} named colors closest to {@code color}, and writes them into {@code out} starting with the
+     * closest. Fewer than k colors are written if out is too short or if there aren't k named colors to search.
+     * @param color a packed float color, in the color space of the map this searches
+     * @param k how many colors to find
+     * @param out where the found colors are written, starting at index 0
+     * @return how many colors were written to out
+     */
+    public int kNearest(final float color, int k, final float[] out) {
+        final Tree t = tree();
+        final float oklab = converter.toOklab(color);
+        k = Math.min(k, out.length);
+        int count = 0;
+        float distance = -1f;
+        int rank = -1;
+        while (count < k) {
+            final int index = t.find(oklab, distance, rank);
+            if (index < 0) break;
+            out[count++] = t.colors[index];
+            distance = t.distance(index, oklab);
+            rank = t.rank[index];
+        }
+        return count;
+    }
+
+    /**
+     * An implicit k-d tree, where the root of each range of indices is in the middle of that range, and the points
+     * before and after it are its two subtrees. Once constructed, it is never modified.
+     */
+    private static final class Tree {
+        final int sourceSize, size;
+        final String[] names;
+        final float[] colors, l, a, b;
+        final int[] rank, axis;
+
+        // kept here, so that creating a NamedColorTree doesn't initialize the Oklab ColorTools
+        static final float[] LIGHT = new float[256];
+
+        static {
+            for (int i = 0; i < 256; i++) {
+                LIGHT[i] = com.github.tommyettinger.colorful.oklab.ColorTools.reverseLight(i / 255f);
+            }
+        }
+
+        Tree(ObjectFloatMap<String> map, Converter converter) {
+            sourceSize = map.size;
+            final String[] sorted = new String[sourceSize];
+            int n = 0;
+            for (String key : new ObjectFloatMap.Keys<>(map)) {
+                sorted[n++] = key;
+            }
+            Arrays.sort(sorted, 0, n);
+            final float[] pl = new float[n], pa = new float[n], pb = new float[n];
+            final int[] order = new int[n];
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                final int bits = NumberUtils.floatToRawIntBits(converter.toOklab(map.get(sorted[i], 0f)));
+                if ((bits >>> 24 & 0xFE) < 0x80) continue;
+                pl[i] = LIGHT[bits & 0xff];
+                pa[i] = ((bits >>> 8 & 0xff) - 127f) / 127f;
+                pb[i] = ((bits >>> 16 & 255) - 127f) / 127f;
+                order[count++] = i;
+            }
+            size = count;
+            axis = new int[count];
+            build(order, 0, count, pl, pa, pb);
+            names = new String[count];
+            colors = new float[count];
+            l = new float[count];
+            a = new float[count];
+            b = new float[count];
+            rank = new int[count];
+            for (int i = 0; i < count; i++) {
+                final int o = order[i];
+                names[i] = sorted[o];
+                colors[i] = map.get(sorted[o], 0f);
+                l[i] = pl[o];
+                a[i] = pa[o];
+                b[i] = pb[o];
+                rank[i] = o;
+            }
+        }
+
+        private void build(final int[] order, final int lo, final int hi, final float[] pl, final float[] pa,
+                           final float[] pb) {
+            if (hi - lo <= 1) return;
+            // split on whichever axis has the widest spread in this range
+            float minL = Float.POSITIVE_INFINITY, maxL = Float.NEGATIVE_INFINITY, minA = minL, maxA = maxL,
+                    minB = minL, maxB = maxL;
+            for (int i = lo; i < hi; i++) {
+                final int o = order[i];
+                minL = Math.min(minL, pl[o]); maxL = Math.max(maxL, pl[o]);
+                minA = Math.min(minA, pa[o]); maxA = Math.max(maxA, pa[o]);
+                minB = Math.min(minB, pb[o]); maxB = Math.max(maxB, pb[o]);
+            }
+            final float spreadL = maxL - minL, spreadA = maxA - minA, spreadB = maxB - minB;
+            final int ax = spreadL >= spreadA && spreadL >= spreadB ? 0 : spreadA >= spreadB ? 1 : 2;
+            final float[] key = ax == 0 ? pl : ax == 1 ? pa : pb;
+            // insertion sort is fine here; a palette only has a few hundred colors
+            for (int i = lo + 1; i < hi; i++) {
+                final int o = order[i];
+                int j = i - 1;
+                while (j >= lo && (key[order[j]] > key[o] || (key[order[j]] == key[o] && order[j] > o))) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = o;
+            }
+            final int mid = lo + hi >>> 1;
+            axis[mid] = ax;
+            build(order, lo, mid, pl, pa, pb);
+            build(order, mid + 1, hi, pl, pa, pb);
+        }
+
+        float distance(final int index, final float oklab) {
+            final int bits = NumberUtils.floatToRawIntBits(oklab);
+            final float dl = l[index] - LIGHT[bits & 0xff];
+            final float da = a[index] - ((bits >>> 8 & 0xff) - 127f) / 127f;
+            final float db = b[index] - ((bits >>> 16 & 255) - 127f) / 127f;
+            return dl * dl + da * da + db * db;
+        }
+
+        /**
+         * Finds the closest point that comes after the given distance and rank, in order of distance and then rank.
+         * Passing -1 for both finds the closest point overall.
+         */
+        int find(final float oklab, final float afterDistance, final int afterRank) {
+            final int bits = NumberUtils.floatToRawIntBits(oklab);
+            return search(0, size, LIGHT[bits & 0xff], ((bits >>> 8 & 0xff) - 127f) / 127f,
+                    ((bits >>> 16 & 255) - 127f) / 127f, -1, Float.POSITIVE_INFINITY, afterDistance, afterRank);
+        }
+
+        private int search(final int lo, final int hi, final float ql, final float qa, final float qb, int best,
+                           float bestDistance, final float afterDistance, final int afterRank) {
+            if (lo >= hi) return best;
+            final int mid = lo + hi >>> 1;
+            final float dl = l[mid] - ql, da = a[mid] - qa, db = b[mid] - qb;
+            final float distance = dl * dl + da * da + db * db;
+            if ((distance > afterDistance || (distance == afterDistance && rank[mid] > afterRank))
+                    && (distance < bestDistance || (distance == bestDistance && rank[mid] < rank[best]))) {
+                best = mid;
+                bestDistance = distance;
+            }
+            if (hi - lo == 1) return best;
+            final float split = axis[mid] == 0 ? dl : axis[mid] == 1 ? da : db;
+            // points before mid are at most the split value on its axis, and points after are at least that value
+            final boolean before = split > 0f;
+            best = before
+                    ? search(lo, mid, ql, qa, qb, best, bestDistance, afterDistance, afterRank)
+                    : search(mid + 1, hi, ql, qa, qb, best, bestDistance, afterDistance, afterRank);
+            if (best >= 0) bestDistance = distance(best, ql, qa, qb);
+            if (split * split <= bestDistance) {
+                best = before
+                        ? search(mid + 1, hi, ql, qa, qb, best, bestDistance, afterDistance, afterRank)
+                        : search(lo, mid, ql, qa, qb, best, bestDistance, afterDistance, afterRank);
+            }
+            return best;
+        }
+
+        private float distance(final int index, final float ql, final float qa, final float qb) {
+            final float dl = l[index] - ql, da = a[index] - qa, db = b[index] - qb;
+            return dl * dl + da * da + db * db;
+        }
+    }
+}
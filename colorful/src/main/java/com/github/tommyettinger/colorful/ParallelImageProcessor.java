@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.graphics.Pixmap;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Applies a per-pixel color operation to every pixel of a large image, splitting the image into stripes of rows and
+ * running those on a {@link ForkJoinPool}. The image can be an RGBA8888 {@link Pixmap} (which is edited in-place
+ * through {@link PixmapColorConverter#pixelView(Pixmap)}) or an int array of RGBA8888 colors. This is meant for
+ * offline or loading-time work on big images, like recoloring a texture atlas with
+ * {@link com.github.tommyettinger.colorful.oklab.ColorTools#toEditedFloat(float, float, float, float, float)} and
+ * {@link com.github.tommyettinger.colorful.oklab.ColorTools#limitToGamut(float)}; small images won't benefit.
+ * <br>
+ * The operation is a {@link PixelTransform}, which receives the position of a pixel as well as its color. As long as
+ * the PixelTransform only depends on its arguments (it doesn't need to store state, and shouldn't), the output is
+ * the same no matter how many threads are used or how the image gets split up. If you want randomness, derive a seed
+ * from x and y, such as to pass to {@link com.github.tommyettinger.colorful.oklab.ColorTools#randomEdit(float, long, float)}.
+ * <br>
+ * The threshold is the largest number of pixels one task will handle without splitting; it is rounded to a whole
+ * number of rows (at least one row). An image with no more pixels than the threshold is processed on the calling
+ * thread without using the pool at all.
+ * <br>
+ * This isn't available on GWT, which doesn't have threads.
+ */
+public class ParallelImageProcessor {
+    /**
+     * The default threshold, in pixels, used when none is specified: {@code 65536}, or a 256x256 block.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    /**
+     * A per-pixel operation that takes the position and RGBA8888 color of one pixel, and returns the RGBA8888 color
+     * that pixel should have. Implementations must be safe to call from multiple threads at once; the simplest way to
+     * do that is to only read the arguments and any final fields.
+     */
+    public interface PixelTransform {
+        /**
+         * Gets the new color for the pixel at x,y that currently has the color {@code rgba}.
+         * @param x the x-position of the pixel, from 0 (inclusive) to the image's width (exclusive)
+         * @param y the y-position of the pixel, from 0 (inclusive) to the image's height (exclusive)
+         * @param rgba the current RGBA8888 color of the pixel
+         * @return the RGBA8888 color the pixel should have after the transform
+         */
+        int transform(int x, int y, int rgba);
+    }
+
+    protected ForkJoinPool pool;
+    protected int threshold;
+
+    /**
+     * Uses {@link ForkJoinPool#commonPool()} and {@link #DEFAULT_THRESHOLD}.
+     */
+    public ParallelImageProcessor() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Uses {@link ForkJoinPool#commonPool()} and the given threshold.
+     * @param threshold the most pixels one task can process without splitting; at least one row is always processed
+     */
+    public ParallelImageProcessor(int threshold) {
+        this(ForkJoinPool.commonPool(), threshold);
+    }
+
+    /**
+     * Uses the given ForkJoinPool and threshold. This does not take ownership of the pool, so if you created it just
+     * for this, you are responsible for shutting it down.
+     * @param pool the ForkJoinPool that will run the tasks; if null, this uses {@link ForkJoinPool#commonPool()}
+     * @param threshold the most pixels one task can process without splitting; at least one row is always processed
+     */
+    public ParallelImageProcessor(ForkJoinPool pool, int threshold) {
+        this.pool = pool == null ? ForkJoinPool.commonPool() : pool;
+        this.threshold = Math.max(threshold, 1);
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public ParallelImageProcessor setPool(ForkJoinPool pool) {
+        this.pool = pool == null ? ForkJoinPool.commonPool() : pool;
+        return this;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public ParallelImageProcessor setThreshold(int threshold) {
+        this.threshold = Math.max(threshold, 1);
+        return this;
+    }
+
+    /**
+     * Applies {@code transform} to every pixel in {@code pixels}, which is treated as a row-major image with the given
+     * width and height (and no padding between rows), in-place.
+     * @param pixels an int array of RGBA8888 colors, with length at least {@code width * height}; will be modified
+     * @param width the width of the image in pixels
+     * @param height the height of the image in pixels
+     * @param transform the PixelTransform to apply to each pixel
+     * @return pixels, after modifications
+     */
+    public int[] apply(int[] pixels, int width, int height, PixelTransform transform) {
+        return apply(pixels, 0, width, width, height, transform);
+    }
+
+    /**
+     * Applies {@code transform} to every pixel in a row-major image stored in {@code pixels}, in-place. The first pixel
+     * is at index {@code offset}, and each row starts {@code stride} indices after the previous one, so a
+     * sub-rectangle of a larger image can be processed by using the larger image's width as the stride.
+     * @param pixels an int array of RGBA8888 colors; will be modified
+     * @param offset the index of the top-left pixel
+     * @param stride how many indices separate the starts of two adjacent rows; must be at least width
+     * @param width the width of the image in pixels
+     * @param height the height of the image in pixels
+     * @param transform the PixelTransform to apply to each pixel
+     * @return pixels, after modifications
+     */
+    public int[] apply(int[] pixels, int offset, int stride, int width, int height, PixelTransform transform) {
+        if (width <= 0 || height <= 0)
+            return pixels;
+        final int rows = rowsPerTask(width);
+        if (height <= rows)
+            transformRows(pixels, offset, stride, width, 0, height, transform);
+        else
+            pool.invoke(new ArrayTask(pixels, offset, stride, width, 0, height, rows, transform));
+        return pixels;
+    }
+
+    /**
+     * Applies {@code transform} to every pixel in an RGBA8888 Pixmap, in-place. This writes directly into the
+     * Pixmap's pixel buffer.
+     * @param pixmap a Pixmap that must use {@link Pixmap.Format#RGBA8888}; will be modified
+     * @param transform the PixelTransform to apply to each pixel
+     * @return pixmap, after modifications
+     * @throws IllegalArgumentException if pixmap does not use the RGBA8888 format
+     */
+    public Pixmap apply(Pixmap pixmap, PixelTransform transform) {
+        final IntBuffer pixels = PixmapColorConverter.pixelView(pixmap);
+        final int width = pixmap.getWidth(), height = pixmap.getHeight();
+        if (width <= 0 || height <= 0)
+            return pixmap;
+        final int rows = rowsPerTask(width);
+        if (height <= rows)
+            transformRows(pixels, width, 0, height, transform);
+        else
+            pool.invoke(new BufferTask(pixels, width, 0, height, rows, transform));
+        return pixmap;
+    }
+
+    /**
+     * Gets how many rows of the given width fit in one task without going over the threshold, but at least 1.
+     * @param width the width of an image in pixels
+     * @return how many rows one task can process without splitting
+     */
+    protected int rowsPerTask(int width) {
+        return Math.max(threshold / width, 1);
+    }
+
+    protected static void transformRows(int[] pixels, int offset, int stride, int width,
+                                        int startRow, int endRow, PixelTransform transform) {
+        for (int y = startRow; y < endRow; y++) {
+            for (int x = 0, i = offset + y * stride; x < width; x++, i++) {
+                pixels[i] = transform.transform(x, y, pixels[i]);
+            }
+        }
+    }
+
+    protected static void transformRows(IntBuffer pixels, int width,
+                                        int startRow, int endRow, PixelTransform transform) {
+        for (int y = startRow; y < endRow; y++) {
+            for (int x = 0, i = y * width; x < width; x++, i++) {
+                pixels.put(i, transform.transform(x, y, pixels.get(i)));
+            }
+        }
+    }
+
+    protected static class ArrayTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        protected final int[] pixels;
+        protected final int offset, stride, width, startRow, endRow, rows;
+        protected final PixelTransform transform;
+
+        protected ArrayTask(int[] pixels, int offset, int stride, int width, int startRow, int endRow, int rows,
+                            PixelTransform transform) {
+            this.pixels = pixels;
+            this.offset = offset;
+            this.stride = stride;
+            this.width = width;
+            this.startRow = startRow;
+            this.endRow = endRow;
+            this.rows = rows;
+            this.transform = transform;
+        }
+
+        @Override
+        protected void compute() {
+            if (endRow - startRow <= rows) {
+                transformRows(pixels, offset, stride, width, startRow, endRow, transform);
+            } else {
+                final int mid = startRow + endRow >>> 1;
+                invokeAll(new ArrayTask(pixels, offset, stride, width, startRow, mid, rows, transform),
+                        new ArrayTask(pixels, offset, stride, width, mid, endRow, rows, transform));
+            }
+        }
+    }
+
+    protected static class BufferTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        protected final IntBuffer pixels;
+        protected final int width, startRow, endRow, rows;
+        protected final PixelTransform transform;
+
+        protected BufferTask(IntBuffer pixels, int width, int startRow, int endRow, int rows,
+                             PixelTransform transform) {
+            this.pixels = pixels;
+            this.width = width;
+            this.startRow = startRow;
+            this.endRow = endRow;
+            this.rows = rows;
+            this.transform = transform;
+        }
+
+        @Override
+        protected void compute() {
+            if (endRow - startRow <= rows) {
+                transformRows(pixels, width, startRow, endRow, transform);
+            } else {
+                final int mid = startRow + endRow >>> 1;
+                invokeAll(new BufferTask(pixels, width, startRow, mid, rows, transform),
+                        new BufferTask(pixels, width, mid, endRow, rows, transform));
+            }
+        }
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.NumberUtils;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Converts every pixel in an RGBA8888 {@link Pixmap} between RGBA and one of the other color spaces this library
+ * supports, in-place. This works directly on the ByteBuffer from {@link Pixmap#getPixels()}, viewed as an IntBuffer,
+ * so it doesn't call {@link Pixmap#getPixel(int, int)} or {@link Pixmap#drawPixel(int, int, int)} for each pixel, and
+ * doesn't allocate a temporary Pixmap. The Pixmap must use {@link Pixmap.Format#RGBA8888}.
+ * <br>
+ * When a Pixmap is converted to some color space, like with {@link #toOklab(Pixmap)}, each pixel stores the channels
+ * of that color space's packed float in the order the packed float uses them: the first channel (L, I, or similar)
+ * goes where red was, the second channel (A, P, and so on) goes where green was, the third channel goes where blue
+ * was, and alpha stays where it was. This is the same order a shader sees the channels of a packed float color in, so
+ * a texture made from a converted Pixmap can be read by a shader that expects colors already in that color space.
+ * You can get a packed float from a converted pixel with {@link #pixelToPacked(int)}, and go the other way with
+ * {@link #packedToPixel(float)}. Alpha only has 7 bits of precision in a packed float, so converting a Pixmap to some
+ * color space and back can change its alpha by 1 (out of 255), and will change the RGB channels by a small amount as
+ * well.
+ * <br>
+ * The RGB color space isn't handled here, because {@link com.github.tommyettinger.colorful.rgb.ColorTools} already
+ * uses packed floats in the same channel order as RGBA8888.
+ */
+public final class PixmapColorConverter {
+    /**
+     * No need to instantiate.
+     */
+    private PixmapColorConverter() {
+    }
+
+    /**
+     * Gets an IntBuffer view over all pixels of the given RGBA8888 Pixmap, with each int in RGBA8888 format.
+     * Writing to the returned IntBuffer changes the Pixmap. This doesn't change the position, limit, or byte order of
+     * the Pixmap's own ByteBuffer.
+     * @param pixmap a Pixmap that must use {@link Pixmap.Format#RGBA8888}
+     * @return an IntBuffer view of pixmap's pixels, with position 0 and one int per pixel
+     * @throws IllegalArgumentException if pixmap does not use the RGBA8888 format
+     */
+    public static IntBuffer pixelView(Pixmap pixmap) {
+        if (pixmap.getFormat() != Pixmap.Format.RGBA8888)
+            throw new IllegalArgumentException("PixmapColorConverter requires an RGBA8888 Pixmap, but was given " + pixmap.getFormat());
+        final ByteBuffer bytes = pixmap.getPixels().duplicate();
+        ((Buffer) bytes).clear();
+        return bytes.order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+    }
+
+    /**
+     * Takes a packed float color in any color space and gets an int that stores its channels as a Pixmap pixel would,
+     * with the first channel of the packed float in the most significant byte, and alpha in the least significant
+     * byte. This is how converted pixels are stored by the {@code to} methods here, like {@link #toOklab(Pixmap)}.
+     * @param packed a packed float color in any color space
+     * @return an int with the channels of packed in RGBA8888 order
+     */
+    public static int packedToPixel(final float packed) {
+        final int bits = NumberUtils.floatToRawIntBits(packed);
+        return Integer.reverseBytes(bits) | bits >>> 31;
+    }
+
+    /**
+     * Takes an int storing a packed float color's channels as a Pixmap pixel would, as produced by
+     * {@link #packedToPixel(float)} or by the {@code to} methods here, like {@link #toOklab(Pixmap)}, and gets the
+     * packed float color back.
+     * @param pixel an int with the channels of a packed float color in RGBA8888 order
+     * @return a packed float color in whatever color space pixel was using
+     */
+    public static float pixelToPacked(final int pixel) {
+        return NumberUtils.intBitsToFloat(Integer.reverseBytes(pixel) & 0xFEFFFFFF);
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from RGBA to Oklab, in-place.
+     * @param pixmap an RGBA8888 Pixmap; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap toOklab(Pixmap pixmap) {
+        toOklab(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from Oklab (as produced by {@link #toOklab(Pixmap)}) to RGBA,
+     * in-place.
+     * @param pixmap an RGBA8888 Pixmap with Oklab pixels; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap fromOklab(Pixmap pixmap) {
+        fromOklab(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from RGBA8888 to Oklab, in-place.
+     * @param pixels an IntBuffer of RGBA8888 colors, such as one from {@link #pixelView(Pixmap)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer toOklab(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, packedToPixel(com.github.tommyettinger.colorful.oklab.ColorTools.fromRGBA8888(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from Oklab to RGBA8888, in-place.
+     * @param pixels an IntBuffer of Oklab colors, as produced by {@link #toOklab(IntBuffer)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer fromOklab(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, com.github.tommyettinger.colorful.oklab.ColorTools.toRGBA8888(pixelToPacked(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from RGBA to IPT, in-place.
+     * @param pixmap an RGBA8888 Pixmap; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap toIPT(Pixmap pixmap) {
+        toIPT(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from IPT (as produced by {@link #toIPT(Pixmap)}) to RGBA,
+     * in-place.
+     * @param pixmap an RGBA8888 Pixmap with IPT pixels; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap fromIPT(Pixmap pixmap) {
+        fromIPT(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from RGBA8888 to IPT, in-place.
+     * @param pixels an IntBuffer of RGBA8888 colors, such as one from {@link #pixelView(Pixmap)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer toIPT(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, packedToPixel(com.github.tommyettinger.colorful.ipt.ColorTools.fromRGBA8888(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from IPT to RGBA8888, in-place.
+     * @param pixels an IntBuffer of IPT colors, as produced by {@link #toIPT(IntBuffer)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer fromIPT(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, com.github.tommyettinger.colorful.ipt.ColorTools.toRGBA8888(pixelToPacked(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from RGBA to IPT_HQ, in-place.
+     * @param pixmap an RGBA8888 Pixmap; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap toIPTHQ(Pixmap pixmap) {
+        toIPTHQ(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from IPT_HQ (as produced by {@link #toIPTHQ(Pixmap)}) to
+     * RGBA, in-place.
+     * @param pixmap an RGBA8888 Pixmap with IPT_HQ pixels; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap fromIPTHQ(Pixmap pixmap) {
+        fromIPTHQ(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from RGBA8888 to IPT_HQ, in-place.
+     * @param pixels an IntBuffer of RGBA8888 colors, such as one from {@link #pixelView(Pixmap)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer toIPTHQ(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, packedToPixel(com.github.tommyettinger.colorful.ipt_hq.ColorTools.fromRGBA8888(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from IPT_HQ to RGBA8888, in-place.
+     * @param pixels an IntBuffer of IPT_HQ colors, as produced by {@link #toIPTHQ(IntBuffer)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer fromIPTHQ(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, com.github.tommyettinger.colorful.ipt_hq.ColorTools.toRGBA8888(pixelToPacked(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from RGBA to CIELAB, in-place.
+     * @param pixmap an RGBA8888 Pixmap; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap toCIELAB(Pixmap pixmap) {
+        toCIELAB(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from CIELAB (as produced by {@link #toCIELAB(Pixmap)}) to
+     * RGBA, in-place.
+     * @param pixmap an RGBA8888 Pixmap with CIELAB pixels; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap fromCIELAB(Pixmap pixmap) {
+        fromCIELAB(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from RGBA8888 to CIELAB, in-place.
+     * @param pixels an IntBuffer of RGBA8888 colors, such as one from {@link #pixelView(Pixmap)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer toCIELAB(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, packedToPixel(com.github.tommyettinger.colorful.cielab.ColorTools.fromRGBA8888(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from CIELAB to RGBA8888, in-place.
+     * @param pixels an IntBuffer of CIELAB colors, as produced by {@link #toCIELAB(IntBuffer)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer fromCIELAB(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, com.github.tommyettinger.colorful.cielab.ColorTools.toRGBA8888(pixelToPacked(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from RGBA to HSLuv, in-place.
+     * @param pixmap an RGBA8888 Pixmap; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap toHsluv(Pixmap pixmap) {
+        toHsluv(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from HSLuv (as produced by {@link #toHsluv(Pixmap)}) to RGBA,
+     * in-place.
+     * @param pixmap an RGBA8888 Pixmap with HSLuv pixels; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap fromHsluv(Pixmap pixmap) {
+        fromHsluv(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from RGBA8888 to HSLuv, in-place.
+     * @param pixels an IntBuffer of RGBA8888 colors, such as one from {@link #pixelView(Pixmap)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer toHsluv(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, packedToPixel(com.github.tommyettinger.colorful.hsluv.ColorTools.fromRGBA8888(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from HSLuv to RGBA8888, in-place.
+     * @param pixels an IntBuffer of HSLuv colors, as produced by {@link #toHsluv(IntBuffer)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer fromHsluv(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, com.github.tommyettinger.colorful.hsluv.ColorTools.toRGBA8888(pixelToPacked(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from RGBA to YCwCm, in-place.
+     * @param pixmap an RGBA8888 Pixmap; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap toYCwCm(Pixmap pixmap) {
+        toYCwCm(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every pixel in the given RGBA8888 Pixmap from YCwCm (as produced by {@link #toYCwCm(Pixmap)}) to RGBA,
+     * in-place.
+     * @param pixmap an RGBA8888 Pixmap with YCwCm pixels; will be modified
+     * @return pixmap, after modifications
+     */
+    public static Pixmap fromYCwCm(Pixmap pixmap) {
+        fromYCwCm(pixelView(pixmap));
+        return pixmap;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from RGBA8888 to YCwCm, in-place.
+     * @param pixels an IntBuffer of RGBA8888 colors, such as one from {@link #pixelView(Pixmap)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer toYCwCm(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, packedToPixel(com.github.tommyettinger.colorful.ycwcm.ColorTools.fromRGBA8888(pixels.get(i))));
+        }
+        return pixels;
+    }
+
+    /**
+     * Converts every int from index 0 up to the limit of {@code pixels} from YCwCm to RGBA8888, in-place.
+     * @param pixels an IntBuffer of YCwCm colors, as produced by {@link #toYCwCm(IntBuffer)}; will be modified
+     * @return pixels, after modifications
+     */
+    public static IntBuffer fromYCwCm(IntBuffer pixels) {
+        for (int i = 0, n = pixels.limit(); i < n; i++) {
+            pixels.put(i, com.github.tommyettinger.colorful.ycwcm.ColorTools.toRGBA8888(pixelToPacked(pixels.get(i))));
+        }
+        return pixels;
+    }
+}
@@ -2092,4 +2092,61 @@ void main()
         return new SpriteBatch(1000, shader);
     }
 
+    /**
+     * Maps the luminance of each pixel in the drawn texture through a 1D ramp texture, such as a gradient made with
+     * {@link ColorGradient#toPixmap(int, boolean)} with {@code rgb} set to true. This is meant for heatmaps and similar
+     * effects, where a grayscale texture holds some value per pixel and the gradient decides what color each value
+     * gets; the GPU does the lookup, so the gradient never needs to be applied to each vertex color on the CPU. Dark
+     * pixels get the left end of the ramp, and light pixels get the right end. The ramp's alpha is multiplied with the
+     * texture's alpha, and the result is multiplied by the batch color, which is RGBA as in SpriteBatch.
+     * <br>
+     * The ramp must be bound to texture unit 1, the {@code u_ramp} uniform set to 1, and the {@code u_rampSize}
+     * uniform set to the ramp's width in pixels, all after the batch begins, such as with {@code ramp.bind(1);
+     * Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0); batch.begin(); shader.setUniformi("u_ramp", 1);
+     * shader.setUniformf("u_rampSize", ramp.getWidth());} . The size is used to map black to the center of the ramp's
+     * first pixel and white to the center of its last pixel, so both ends get exactly the colors the gradient has at
+     * 0 and 1, and a ramp made with {@link ColorGradient#toPixmap(int, boolean)} is sampled where its pixels were
+     * calculated. If {@code u_rampSize} is never set, it is treated as 1, so every pixel gets the ramp's middle color
+     * instead of dividing by zero. The ramp texture should use {@code ClampToEdge} wrapping; with {@code Linear}
+     * filtering, values between two pixels of the ramp blend between their colors.
+     * <br>
+     * Meant for use with {@link #vertexShader}.
+     * @see #makeGradientRampShader() a helper that compiles this
+     */
+    public static final String fragmentShaderGradientRamp =
+            "#ifdef GL_ES\n" +
+                    "#define LOWP lowp\n" +
+                    "precision mediump float;\n" +
+                    "#else\n" +
+                    "#define LOWP \n" +
+                    "#endif\n" +
+                    "varying vec2 v_texCoords;\n" +
+                    "varying LOWP vec4 v_color;\n" +
+                    "uniform sampler2D u_texture;\n" +
+                    "uniform sampler2D u_ramp;\n" +
+                    "uniform float u_rampSize;\n" +
+                    "void main()\n" +
+                    "{\n" +
+                    "   vec4 tgt = texture2D(u_texture, v_texCoords);\n" +
+                    "   float luma = dot(tgt.rgb, vec3(0.2126, 0.7152, 0.0722));\n" +
+                    "   float size = max(u_rampSize, 1.0);\n" +
+                    "   vec4 ramp = texture2D(u_ramp, vec2((luma * (size - 1.0) + 0.5) / size, 0.5));\n" +
+                    "   gl_FragColor = vec4(ramp.rgb, ramp.a * tgt.a) * v_color;\n" +
+                    "}";
+
+    /**
+     * Builds a ShaderProgram that uses {@link #vertexShader} and {@link #fragmentShaderGradientRamp}, which colors
+     * each pixel by looking its luminance up in a ramp texture. You can assign the result to a SpriteBatch with its
+     * {@link SpriteBatch#setShader(ShaderProgram)} method; see {@link #fragmentShaderGradientRamp} for how to bind
+     * the ramp.
+     * @return a ShaderProgram that uses the gradient ramp shader {@link #fragmentShaderGradientRamp}
+     */
+    public static ShaderProgram makeGradientRampShader()
+    {
+        ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShaderGradientRamp);
+        if(!shader.isCompiled())
+            throw new GdxRuntimeException("Couldn't compile shader: " + shader.getLog());
+        return shader;
+    }
+
 }
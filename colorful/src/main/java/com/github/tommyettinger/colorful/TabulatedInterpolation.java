@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.math.Interpolation;
+
+/**
+ * An Interpolation that samples another Interpolation into a table once, when it is constructed, and afterward only
+ * looks values up in that table, linearly interpolating between the two nearest samples. Some Interpolations, such as
+ * {@link Interpolation#elasticOut}, {@link Interpolation#bounce}, {@link Interpolation#exp10}, and
+ * {@link Interpolation#circle}, call pow(), sin(), or sqrt() every time they are applied; wrapping one of those in a
+ * TabulatedInterpolation makes each call cost the same as a cheap one. Because this is an Interpolation, it can be
+ * passed to any method that takes one, including every {@code GradientTools} method and {@link ColorGradient}.
+ * <br>
+ * The result is only an approximation. Between two samples {@code h = 1 / (samples - 1)} apart, the error is at most
+ * {@code M * h * h / 8}, where M is the largest magnitude of the wrapped Interpolation's second derivative there; for
+ * {@link Interpolation#smooth} and the default of 256 samples, that is under 0.000012. For an Interpolation that is
+ * monotonic between two samples, the error there is also never more than the difference between those two samples,
+ * which is what limits it where the slope is infinite, as at the ends of {@link Interpolation#circle}.
+ * {@link #maxError(int)} measures the error for a particular Interpolation.
+ * <br>
+ * Inputs outside the range 0 to 1 are clamped to it, NaN is treated as 0, and {@code apply(0f)} and {@code apply(1f)}
+ * always return what the wrapped Interpolation returns for those exactly. A TabulatedInterpolation never changes after
+ * it is made, so it can be shared between threads.
+ */
+public class TabulatedInterpolation extends Interpolation {
+    /**
+     * The default number of samples, which is enough for the error to be invisible in 8-bit color channels for most
+     * Interpolations.
+     */
+    public static final int DEFAULT_SAMPLES = 256;
+
+    protected final Interpolation source;
+    protected final float[] table;
+    protected final float last;
+
+    /**
+     * Creates a TabulatedInterpolation that samples {@code source} {@link #DEFAULT_SAMPLES} times.
+     * @param source the Interpolation to approximate; must not be null
+     */
+    public TabulatedInterpolation(Interpolation source) {
+        this(source, DEFAULT_SAMPLES);
+    }
+
+    /**
+     * Creates a TabulatedInterpolation that samples {@code source} at {@code samples} evenly spaced points, from 0 to
+     * 1 inclusive. Quadrupling the samples divides the error by about 16 wherever source is smooth.
+     * @param source the Interpolation to approximate; must not be null
+     * @param samples how many points to sample; must be at least 2
+     */
+    public TabulatedInterpolation(Interpolation source, int samples) {
+        if (source == null)
+            throw new IllegalArgumentException("source must not be null");
+        if (samples < 2)
+            throw new IllegalArgumentException("samples must be at least 2");
+        this.source = source;
+        table = new float[samples];
+        last = samples - 1;
+        for (int i = 0; i < samples; i++) {
+            table[i] = source.apply(i / last);
+        }
+    }
+
+    /**
+     * Gets the Interpolation this approximates.
+     * @return the wrapped Interpolation
+     */
+    public Interpolation getSource() {
+        return source;
+    }
+
+    /**
+     * Gets how many points of the source Interpolation this sampled.
+     * @return the number of samples in the table
+     */
+    public int getSamples() {
+        return table.length;
+    }
+
+    @Override
+    public float apply(float a) {
+        final float pos = (a > 0f ? (a < 1f ? a : 1f) : 0f) * last;
+        final int i = (int) pos;
+        if (i >= table.length - 1)
+            return table[table.length - 1];
+        final float low = table[i];
+        return low + (table[i + 1] - low) * (pos - i);
+    }
+
+    /**
+     * Measures the largest difference between this and the source Interpolation at {@code checks} evenly spaced
+     * points from 0 to 1, which is usually the best way to find out if this has enough samples for some use. Checking
+     * several times as many points as {@link #getSamples()}, such as 16 times, is usually enough to find the worst
+     * error.
+     * @param checks how many points to compare at; must be at least 2
+     * @return the largest absolute difference found
+     */
+    public float maxError(int checks) {
+        if (checks < 2)
+            throw new IllegalArgumentException("checks must be at least 2");
+        final float lastCheck = checks - 1;
+        float worst = 0f;
+        for (int i = 0; i < checks; i++) {
+            final float a = i / lastCheck;
+            worst = Math.max(worst, Math.abs(apply(a) - source.apply(a)));
+        }
+        return worst;
+    }
+}
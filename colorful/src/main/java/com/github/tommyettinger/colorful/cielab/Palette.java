@@ -21,6 +21,9 @@ import com.badlogic.gdx.graphics.Colors;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.github.tommyettinger.colorful.ColorNameTable;
+import com.github.tommyettinger.colorful.NamedColorTree;
 import com.github.tommyettinger.colorful.oklab.ColorfulBatch;
 
 import java.util.Comparator;
@@ -53,7 +56,6 @@ public class Palette {
      * </pre>
      */
     public static final float TRANSPARENT = 0x0.fefep-126F;
-    static { NAMED.put("Transparent", 0x0.fefep-126F); LIST.add(0x0.fefep-126F); }
 
     /**
      * This color constant "Black" has RGBA8888 code {@code 000000FF}, L 0.0, A 0.49803922, B 0.49803922, alpha 1.0, hue 0.6666667, and saturation 6.5281347E-4.
@@ -65,7 +67,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACK = -0x1.fefep125F;
-    static { NAMED.put("Black", -0x1.fefep125F); LIST.add(-0x1.fefep125F); }
 
     /**
      * This color constant "Coal Black" has RGBA8888 code {@code 131313FF}, L 0.05882353, A 0.49019608, B 0.49411765, alpha 1.0, hue 0.5005653, and saturation 0.0079919025.
@@ -77,7 +78,6 @@ public class Palette {
      * </pre>
      */
     public static final float COAL_BLACK = -0x1.fcfa1ep125F;
-    static { NAMED.put("Coal Black", -0x1.fcfa1ep125F); LIST.add(-0x1.fcfa1ep125F); }
 
     /**
      * This color constant "Shadow" has RGBA8888 code {@code 252525FF}, L 0.14509805, A 0.4862745, B 0.49019608, alpha 1.0, hue 0.5318361, and saturation 0.0066634417.
@@ -89,7 +89,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHADOW = -0x1.faf84ap125F;
-    static { NAMED.put("Shadow", -0x1.faf84ap125F); LIST.add(-0x1.faf84ap125F); }
 
     /**
      * This color constant "Graphite" has RGBA8888 code {@code 373737FF}, L 0.23137255, A 0.48235294, B 0.49019608, alpha 1.0, hue 0.46325403, and saturation 0.0057797134.
@@ -101,7 +100,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPHITE = -0x1.faf676p125F;
-    static { NAMED.put("Graphite", -0x1.faf676p125F); LIST.add(-0x1.faf676p125F); }
 
     /**
      * This color constant "Dark Gray" has RGBA8888 code {@code 494949FF}, L 0.30980393, A 0.48235294, B 0.4862745, alpha 1.0, hue 0.57782483, and saturation 0.0044404566.
@@ -113,7 +111,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_GRAY = -0x1.f8f69ep125F;
-    static { NAMED.put("Dark Gray", -0x1.f8f69ep125F); LIST.add(-0x1.f8f69ep125F); }
 
     /**
      * This color constant "Lead" has RGBA8888 code {@code 5B5B5BFF}, L 0.38431373, A 0.47843137, B 0.4862745, alpha 1.0, hue 0.47383663, and saturation 0.0034715533.
@@ -125,7 +122,6 @@ public class Palette {
      * </pre>
      */
     public static final float LEAD = -0x1.f8f4c4p125F;
-    static { NAMED.put("Lead", -0x1.f8f4c4p125F); LIST.add(-0x1.f8f4c4p125F); }
 
     /**
      * This color constant "Iron" has RGBA8888 code {@code 6E6E6EFF}, L 0.4627451, A 0.4745098, B 0.48235294, alpha 1.0, hue 0.52736866, and saturation 0.008237869.
@@ -137,7 +133,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRON = -0x1.f6f2ecp125F;
-    static { NAMED.put("Iron", -0x1.f6f2ecp125F); LIST.add(-0x1.f6f2ecp125F); }
 
     /**
      * This color constant "Gray" has RGBA8888 code {@code 808080FF}, L 0.5372549, A 0.4745098, B 0.48235294, alpha 1.0, hue 0.55102354, and saturation 0.0010433793.
@@ -149,7 +144,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY = -0x1.f6f312p125F;
-    static { NAMED.put("Gray", -0x1.f6f312p125F); LIST.add(-0x1.f6f312p125F); }
 
     /**
      * This color constant "Chinchilla" has RGBA8888 code {@code 929292FF}, L 0.60784316, A 0.47058824, B 0.47843137, alpha 1.0, hue 0.55581576, and saturation 0.0073441863.
@@ -161,7 +155,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHINCHILLA = -0x1.f4f136p125F;
-    static { NAMED.put("Chinchilla", -0x1.f4f136p125F); LIST.add(-0x1.f4f136p125F); }
 
     /**
      * This color constant "Greyhound" has RGBA8888 code {@code A4A4A4FF}, L 0.6745098, A 0.46666667, B 0.47843137, alpha 1.0, hue 0.49094343, and saturation 0.0068182945.
@@ -173,7 +166,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREYHOUND = -0x1.f4ef58p125F;
-    static { NAMED.put("Greyhound", -0x1.f4ef58p125F); LIST.add(-0x1.f4ef58p125F); }
 
     /**
      * This color constant "Silver" has RGBA8888 code {@code B6B6B6FF}, L 0.7411765, A 0.46666667, B 0.4745098, alpha 1.0, hue 0.58471704, and saturation 0.007513225.
@@ -185,7 +177,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER = -0x1.f2ef7ap125F;
-    static { NAMED.put("Silver", -0x1.f2ef7ap125F); LIST.add(-0x1.f2ef7ap125F); }
 
     /**
      * This color constant "Light Gray" has RGBA8888 code {@code C9C9C9FF}, L 0.8117647, A 0.4627451, B 0.4745098, alpha 1.0, hue 0.5226856, and saturation 0.0061389804.
@@ -197,7 +188,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_GRAY = -0x1.f2ed9ep125F;
-    static { NAMED.put("Light Gray", -0x1.f2ed9ep125F); LIST.add(-0x1.f2ed9ep125F); }
 
     /**
      * This color constant "Platinum" has RGBA8888 code {@code DBDBDBFF}, L 0.8745098, A 0.45882353, B 0.47058824, alpha 1.0, hue 0.5393046, and saturation 0.013876796.
@@ -209,7 +199,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLATINUM = -0x1.f0ebbep125F;
-    static { NAMED.put("Platinum", -0x1.f0ebbep125F); LIST.add(-0x1.f0ebbep125F); }
 
     /**
      * This color constant "Cloud" has RGBA8888 code {@code EDEDEDFF}, L 0.9372549, A 0.45882353, B 0.47058824, alpha 1.0, hue 0.5544723, and saturation 0.00706774.
@@ -221,7 +210,6 @@ public class Palette {
      * </pre>
      */
     public static final float CLOUD = -0x1.f0ebdep125F;
-    static { NAMED.put("Cloud", -0x1.f0ebdep125F); LIST.add(-0x1.f0ebdep125F); }
 
     /**
      * This color constant "White" has RGBA8888 code {@code FFFFFFFF}, L 1.0, A 0.45490196, B 0.47058824, alpha 1.0, hue 0.5, and saturation 0.0.
@@ -233,7 +221,6 @@ public class Palette {
      * </pre>
      */
     public static final float WHITE = -0x1.f0e9fep125F;
-    static { NAMED.put("White", -0x1.f0e9fep125F); LIST.add(-0x1.f0e9fep125F); }
 
     /**
      * This color constant "Seawater" has RGBA8888 code {@code 007F7FFF}, L 0.47843137, A 0.33333334, B 0.4392157, alpha 1.0, hue 0.5003883, and saturation 0.49954557.
@@ -245,7 +232,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAWATER = -0x1.e0aaf4p125F;
-    static { NAMED.put("Seawater", -0x1.e0aaf4p125F); LIST.add(-0x1.e0aaf4p125F); }
 
     /**
      * This color constant "Hospital Green" has RGBA8888 code {@code 3FBFBFFF}, L 0.70980394, A 0.29803923, B 0.42352942, alpha 1.0, hue 0.50061226, and saturation 0.52873814.
@@ -257,7 +243,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOSPITAL_GREEN = -0x1.d8996ap125F;
-    static { NAMED.put("Hospital Green", -0x1.d8996ap125F); LIST.add(-0x1.d8996ap125F); }
 
     /**
      * This color constant "Cyan" has RGBA8888 code {@code 00FFFFFF}, L 0.9137255, A 0.22352941, B 0.4, alpha 1.0, hue 0.5, and saturation 0.99999994.
@@ -269,7 +254,6 @@ public class Palette {
      * </pre>
      */
     public static final float CYAN = -0x1.cc73d2p125F;
-    static { NAMED.put("Cyan", -0x1.cc73d2p125F); LIST.add(-0x1.cc73d2p125F); }
 
     /**
      * This color constant "Bubble" has RGBA8888 code {@code BFFFFFFF}, L 0.9607843, A 0.36078432, B 0.43529412, alpha 1.0, hue 0.5, and saturation 0.25591332.
@@ -281,7 +265,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE = -0x1.deb9eap125F;
-    static { NAMED.put("Bubble", -0x1.deb9eap125F); LIST.add(-0x1.deb9eap125F); }
 
     /**
      * This color constant "Periwinkle" has RGBA8888 code {@code 8181FFFF}, L 0.59607846, A 0.6313726, B 0.15294118, alpha 1.0, hue 0.6622741, and saturation 0.50457627.
@@ -293,7 +276,6 @@ public class Palette {
      * </pre>
      */
     public static final float PERIWINKLE = -0x1.4f433p125F;
-    static { NAMED.put("Periwinkle", -0x1.4f433p125F); LIST.add(-0x1.4f433p125F); }
 
     /**
      * This color constant "Blue" has RGBA8888 code {@code 0000FFFF}, L 0.32156864, A 0.87058824, B 0.0, alpha 1.0, hue 0.72662973, and saturation 0.90914845.
@@ -305,7 +287,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE = -0x1.01bca4p125F;
-    static { NAMED.put("Blue", -0x1.01bca4p125F); LIST.add(-0x1.01bca4p125F); }
 
     /**
      * This color constant "Faded Blue" has RGBA8888 code {@code 3F3FBFFF}, L 0.34509805, A 0.6784314, B 0.14117648, alpha 1.0, hue 0.6629409, and saturation 0.5133215.
@@ -317,7 +298,6 @@ public class Palette {
      * </pre>
      */
     public static final float FADED_BLUE = -0x1.495abp125F;
-    static { NAMED.put("Faded Blue", -0x1.495abp125F); LIST.add(-0x1.495abp125F); }
 
     /**
      * This color constant "Ocean Blue" has RGBA8888 code {@code 00007FFF}, L 0.1254902, A 0.72156864, B 0.15686275, alpha 1.0, hue 0.6661794, and saturation 0.5014115.
@@ -329,7 +309,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCEAN_BLUE = -0x1.51704p125F;
-    static { NAMED.put("Ocean Blue", -0x1.51704p125F); LIST.add(-0x1.51704p125F); }
 
     /**
      * This color constant "Stygian Blue" has RGBA8888 code {@code 0F0F50FF}, L 0.09019608, A 0.6117647, B 0.2901961, alpha 1.0, hue 0.6564784, and saturation 0.27040142.
@@ -341,7 +320,6 @@ public class Palette {
      * </pre>
      */
     public static final float STYGIAN_BLUE = -0x1.95382ep125F;
-    static { NAMED.put("Stygian Blue", -0x1.95382ep125F); LIST.add(-0x1.95382ep125F); }
 
     /**
      * This color constant "Deep Purple" has RGBA8888 code {@code 7F007FFF}, L 0.29411766, A 0.77254903, B 0.29803923, alpha 1.0, hue 0.83123416, and saturation 0.5017764.
@@ -353,7 +331,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_PURPLE = -0x1.998a96p125F;
-    static { NAMED.put("Deep Purple", -0x1.998a96p125F); LIST.add(-0x1.998a96p125F); }
 
     /**
      * This color constant "Tyrian Purple" has RGBA8888 code {@code BF3FBFFF}, L 0.49803922, A 0.8, B 0.26666668, alpha 1.0, hue 0.8316679, and saturation 0.5049265.
@@ -365,7 +342,6 @@ public class Palette {
      * </pre>
      */
     public static final float TYRIAN_PURPLE = -0x1.8998fep125F;
-    static { NAMED.put("Tyrian Purple", -0x1.8998fep125F); LIST.add(-0x1.8998fep125F); }
 
     /**
      * This color constant "Magenta" has RGBA8888 code {@code F500F5FF}, L 0.5803922, A 0.9411765, B 0.1764706, alpha 1.0, hue 0.8326544, and saturation 0.95546526.
@@ -377,7 +353,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAGENTA = -0x1.5be128p125F;
-    static { NAMED.put("Magenta", -0x1.5be128p125F); LIST.add(-0x1.5be128p125F); }
 
     /**
      * This color constant "Bubblegum Pink" has RGBA8888 code {@code FD81FFFF}, L 0.72156864, A 0.78039217, B 0.25882354, alpha 1.0, hue 0.82951903, and saturation 0.49131107.
@@ -389,7 +364,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLEGUM_PINK = -0x1.858f7p125F;
-    static { NAMED.put("Bubblegum Pink", -0x1.858f7p125F); LIST.add(-0x1.858f7p125F); }
 
     /**
      * This color constant "Pork Chop" has RGBA8888 code {@code FFC0CBFF}, L 0.8352941, A 0.5803922, B 0.49019608, alpha 1.0, hue 0.96911156, and saturation 0.24133235.
@@ -401,7 +375,6 @@ public class Palette {
      * </pre>
      */
     public static final float PORK_CHOP = -0x1.fb29aap125F;
-    static { NAMED.put("Pork Chop", -0x1.fb29aap125F); LIST.add(-0x1.fb29aap125F); }
 
     /**
      * This color constant "Raw Meat" has RGBA8888 code {@code FF8181FF}, L 0.6862745, A 0.7019608, B 0.5921569, alpha 1.0, hue 0.99975216, and saturation 0.489187.
@@ -413,7 +386,6 @@ public class Palette {
      * </pre>
      */
     public static final float RAW_MEAT = -0x1.2f675ep126F;
-    static { NAMED.put("Raw Meat", -0x1.2f675ep126F); LIST.add(-0x1.2f675ep126F); }
 
     /**
      * This color constant "Red" has RGBA8888 code {@code FF0000FF}, L 0.53333336, A 0.8666667, B 0.827451, alpha 1.0, hue 0.002985285, and saturation 0.9960583.
@@ -425,7 +397,6 @@ public class Palette {
      * </pre>
      */
     public static final float RED = -0x1.a7bb1p126F;
-    static { NAMED.put("Red", -0x1.a7bb1p126F); LIST.add(-0x1.a7bb1p126F); }
 
     /**
      * This color constant "Putty" has RGBA8888 code {@code BF3F3FFF}, L 0.45490196, A 0.7294118, B 0.6313726, alpha 1.0, hue 0.9991447, and saturation 0.50229543.
@@ -437,7 +408,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUTTY = -0x1.4374e8p126F;
-    static { NAMED.put("Putty", -0x1.4374e8p126F); LIST.add(-0x1.4374e8p126F); }
 
     /**
      * This color constant "Sienna" has RGBA8888 code {@code 7F0000FF}, L 0.2509804, A 0.7176471, B 0.68235296, alpha 1.0, hue 8.2867796E-4, and saturation 0.4925247.
@@ -449,7 +419,6 @@ public class Palette {
      * </pre>
      */
     public static final float SIENNA = -0x1.5d6e8p126F;
-    static { NAMED.put("Sienna", -0x1.5d6e8p126F); LIST.add(-0x1.5d6e8p126F); }
 
     /**
      * This color constant "Seal Brown" has RGBA8888 code {@code 551414FF}, L 0.1764706, A 0.6313726, B 0.5803922, alpha 1.0, hue 9.585006E-4, and saturation 0.25011185.
@@ -461,7 +430,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAL_BROWN = -0x1.29425ap126F;
-    static { NAMED.put("Seal Brown", -0x1.29425ap126F); LIST.add(-0x1.29425ap126F); }
 
     /**
      * This color constant "Mummy Brown" has RGBA8888 code {@code 7F3F00FF}, L 0.34117648, A 0.6, B 0.7137255, alpha 1.0, hue 0.081952356, and saturation 0.49228525.
@@ -473,7 +441,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUMMY_BROWN = -0x1.6d32aep126F;
-    static { NAMED.put("Mummy Brown", -0x1.6d32aep126F); LIST.add(-0x1.6d32aep126F); }
 
     /**
      * This color constant "Fawn" has RGBA8888 code {@code BF7F3FFF}, L 0.5882353, A 0.5647059, B 0.7058824, alpha 1.0, hue 0.08298266, and saturation 0.49908692.
@@ -485,7 +452,6 @@ public class Palette {
      * </pre>
      */
     public static final float FAWN = -0x1.69212cp126F;
-    static { NAMED.put("Fawn", -0x1.69212cp126F); LIST.add(-0x1.69212cp126F); }
 
     /**
      * This color constant "Orange" has RGBA8888 code {@code FF7F00FF}, L 0.67058825, A 0.68235296, B 0.85882354, alpha 1.0, hue 0.08276282, and saturation 0.9920771.
@@ -497,7 +463,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORANGE = -0x1.b75d56p126F;
-    static { NAMED.put("Orange", -0x1.b75d56p126F); LIST.add(-0x1.b75d56p126F); }
 
     /**
      * This color constant "Peach" has RGBA8888 code {@code FFBF81FF}, L 0.81960785, A 0.5411765, B 0.68235296, alpha 1.0, hue 0.0826942, and saturation 0.49301857.
@@ -509,7 +474,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEACH = -0x1.5d15a2p126F;
-    static { NAMED.put("Peach", -0x1.5d15a2p126F); LIST.add(-0x1.5d15a2p126F); }
 
     /**
      * This color constant "Cream" has RGBA8888 code {@code FFFFBFFF}, L 0.9882353, A 0.40784314, B 0.627451, alpha 1.0, hue 0.16844289, and saturation 0.24624157.
@@ -521,7 +485,6 @@ public class Palette {
      * </pre>
      */
     public static final float CREAM = -0x1.40d1f8p126F;
-    static { NAMED.put("Cream", -0x1.40d1f8p126F); LIST.add(-0x1.40d1f8p126F); }
 
     /**
      * This color constant "Yellow" has RGBA8888 code {@code FFFF00FF}, L 0.972549, A 0.34901962, B 0.95686275, alpha 1.0, hue 0.16744079, and saturation 0.9860547.
@@ -533,7 +496,6 @@ public class Palette {
      * </pre>
      */
     public static final float YELLOW = -0x1.e8b3fp126F;
-    static { NAMED.put("Yellow", -0x1.e8b3fp126F); LIST.add(-0x1.e8b3fp126F); }
 
     /**
      * This color constant "Earwax" has RGBA8888 code {@code BFBF3FFF}, L 0.7529412, A 0.3882353, B 0.7921569, alpha 1.0, hue 0.16825067, and saturation 0.49900118.
@@ -545,7 +507,6 @@ public class Palette {
      * </pre>
      */
     public static final float EARWAX = -0x1.94c78p126F;
-    static { NAMED.put("Earwax", -0x1.94c78p126F); LIST.add(-0x1.94c78p126F); }
 
     /**
      * This color constant "Umber" has RGBA8888 code {@code 7F7F00FF}, L 0.5137255, A 0.4117647, B 0.77254903, alpha 1.0, hue 0.1670915, and saturation 0.49683666.
@@ -557,7 +518,6 @@ public class Palette {
      * </pre>
      */
     public static final float UMBER = -0x1.8ad306p126F;
-    static { NAMED.put("Umber", -0x1.8ad306p126F); LIST.add(-0x1.8ad306p126F); }
 
     /**
      * This color constant "Ivy Green" has RGBA8888 code {@code 007F00FF}, L 0.45882353, A 0.22352941, B 0.7372549, alpha 1.0, hue 0.3364038, and saturation 0.49843544.
@@ -569,7 +529,6 @@ public class Palette {
      * </pre>
      */
     public static final float IVY_GREEN = -0x1.7872eap126F;
-    static { NAMED.put("Ivy Green", -0x1.7872eap126F); LIST.add(-0x1.7872eap126F); }
 
     /**
      * This color constant "Jade" has RGBA8888 code {@code 3FBF3FFF}, L 0.6862745, A 0.1764706, B 0.7490196, alpha 1.0, hue 0.33490378, and saturation 0.5073583.
@@ -581,7 +540,6 @@ public class Palette {
      * </pre>
      */
     public static final float JADE = -0x1.7e5b5ep126F;
-    static { NAMED.put("Jade", -0x1.7e5b5ep126F); LIST.add(-0x1.7e5b5ep126F); }
 
     /**
      * This color constant "Green" has RGBA8888 code {@code 00FF00FF}, L 0.8784314, A 0.03529412, B 0.9019608, alpha 1.0, hue 0.3340969, and saturation 0.99999994.
@@ -593,7 +551,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREEN = -0x1.cc13cp126F;
-    static { NAMED.put("Green", -0x1.cc13cp126F); LIST.add(-0x1.cc13cp126F); }
 
     /**
      * This color constant "Celadon" has RGBA8888 code {@code AFFFAFFF}, L 0.93333334, A 0.2627451, B 0.627451, alpha 1.0, hue 0.3404787, and saturation 0.3226456.
@@ -605,7 +562,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELADON = -0x1.4087dcp126F;
-    static { NAMED.put("Celadon", -0x1.4087dcp126F); LIST.add(-0x1.4087dcp126F); }
 
     /**
      * This color constant "Puce" has RGBA8888 code {@code BCAFC0FF}, L 0.7294118, A 0.5058824, B 0.4392157, alpha 1.0, hue 0.7817103, and saturation 0.07039714.
@@ -617,7 +573,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUCE = -0x1.e10374p125F;
-    static { NAMED.put("Puce", -0x1.e10374p125F); LIST.add(-0x1.e10374p125F); }
 
     /**
      * This color constant "Beige" has RGBA8888 code {@code CBAA89FF}, L 0.7176471, A 0.5019608, B 0.5882353, alpha 1.0, hue 0.084582105, and saturation 0.25518757.
@@ -629,7 +584,6 @@ public class Palette {
      * </pre>
      */
     public static final float BEIGE = -0x1.2d016ep126F;
-    static { NAMED.put("Beige", -0x1.2d016ep126F); LIST.add(-0x1.2d016ep126F); }
 
     /**
      * This color constant "Wet Stone" has RGBA8888 code {@code A6A090FF}, L 0.65882355, A 0.46666667, B 0.5254902, alpha 1.0, hue 0.122833565, and saturation 0.08347142.
@@ -641,7 +595,6 @@ public class Palette {
      * </pre>
      */
     public static final float WET_STONE = -0x1.0cef5p126F;
-    static { NAMED.put("Wet Stone", -0x1.0cef5p126F); LIST.add(-0x1.0cef5p126F); }
 
     /**
      * This color constant "Slow Creek" has RGBA8888 code {@code 7E9494FF}, L 0.59607846, A 0.43137255, B 0.46666667, alpha 1.0, hue 0.5001565, and saturation 0.09369117.
@@ -653,7 +606,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLOW_CREEK = -0x1.eedd3p125F;
-    static { NAMED.put("Slow Creek", -0x1.eedd3p125F); LIST.add(-0x1.eedd3p125F); }
 
     /**
      * This color constant "Slate Gray" has RGBA8888 code {@code 6E8287FF}, L 0.5294118, A 0.44313726, B 0.45490196, alpha 1.0, hue 0.53309107, and saturation 0.10474232.
@@ -665,7 +617,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLATE_GRAY = -0x1.e8e30ep125F;
-    static { NAMED.put("Slate Gray", -0x1.e8e30ep125F); LIST.add(-0x1.e8e30ep125F); }
 
     /**
      * This color constant "Light Skin 1" has RGBA8888 code {@code 7E6E60FF}, L 0.4745098, A 0.49411765, B 0.53333336, alpha 1.0, hue 0.07901129, and saturation 0.110036016.
@@ -677,7 +628,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_1 = -0x1.10fcf2p126F;
-    static { NAMED.put("Light Skin 1", -0x1.10fcf2p126F); LIST.add(-0x1.10fcf2p126F); }
 
     /**
      * This color constant "Light Skin 2" has RGBA8888 code {@code A0695FFF}, L 0.49803922, A 0.5764706, B 0.5568628, alpha 1.0, hue 0.02506659, and saturation 0.24884006.
@@ -689,7 +639,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_2 = -0x1.1d26fep126F;
-    static { NAMED.put("Light Skin 2", -0x1.1d26fep126F); LIST.add(-0x1.1d26fep126F); }
 
     /**
      * This color constant "Light Skin 3" has RGBA8888 code {@code C07872FF}, L 0.5803922, A 0.60784316, B 0.5568628, alpha 1.0, hue 0.011202749, and saturation 0.30115217.
@@ -701,7 +650,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_3 = -0x1.1d3728p126F;
-    static { NAMED.put("Light Skin 3", -0x1.1d3728p126F); LIST.add(-0x1.1d3728p126F); }
 
     /**
      * This color constant "Light Skin 4" has RGBA8888 code {@code D08A74FF}, L 0.6392157, A 0.5882353, B 0.59607846, alpha 1.0, hue 0.040118434, and saturation 0.35704803.
@@ -713,7 +661,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_4 = -0x1.312d46p126F;
-    static { NAMED.put("Light Skin 4", -0x1.312d46p126F); LIST.add(-0x1.312d46p126F); }
 
     /**
      * This color constant "Light Skin 5" has RGBA8888 code {@code E19B7DFF}, L 0.7019608, A 0.5803922, B 0.6117647, alpha 1.0, hue 0.04920972, and saturation 0.38903868.
@@ -725,7 +672,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_5 = -0x1.392966p126F;
-    static { NAMED.put("Light Skin 5", -0x1.392966p126F); LIST.add(-0x1.392966p126F); }
 
     /**
      * This color constant "Light Skin 6" has RGBA8888 code {@code EBAA8CFF}, L 0.7529412, A 0.5647059, B 0.6039216, alpha 1.0, hue 0.05271327, and saturation 0.36843997.
@@ -737,7 +683,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_6 = -0x1.35218p126F;
-    static { NAMED.put("Light Skin 6", -0x1.35218p126F); LIST.add(-0x1.35218p126F); }
 
     /**
      * This color constant "Light Skin 7" has RGBA8888 code {@code F5B99BFF}, L 0.8, A 0.5529412, B 0.59607846, alpha 1.0, hue 0.054814965, and saturation 0.3500806.
@@ -749,7 +694,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_7 = -0x1.311b98p126F;
-    static { NAMED.put("Light Skin 7", -0x1.311b98p126F); LIST.add(-0x1.311b98p126F); }
 
     /**
      * This color constant "Light Skin 8" has RGBA8888 code {@code F6C8AFFF}, L 0.8392157, A 0.5254902, B 0.5686275, alpha 1.0, hue 0.058241084, and saturation 0.27202863.
@@ -761,7 +705,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_8 = -0x1.230dacp126F;
-    static { NAMED.put("Light Skin 8", -0x1.230dacp126F); LIST.add(-0x1.230dacp126F); }
 
     /**
      * This color constant "Light Skin 9" has RGBA8888 code {@code F5E1D2FF}, L 0.9098039, A 0.48235294, B 0.52156866, alpha 1.0, hue 0.070821844, and saturation 0.13164735.
@@ -773,7 +716,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_9 = -0x1.0af7dp126F;
-    static { NAMED.put("Light Skin 9", -0x1.0af7dp126F); LIST.add(-0x1.0af7dp126F); }
 
     /**
      * This color constant "Dark Skin 1" has RGBA8888 code {@code 573B3BFF}, L 0.2784314, A 0.5411765, B 0.5137255, alpha 1.0, hue 0.0014675944, and saturation 0.10427603.
@@ -785,7 +727,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_1 = -0x1.07148ep126F;
-    static { NAMED.put("Dark Skin 1", -0x1.07148ep126F); LIST.add(-0x1.07148ep126F); }
 
     /**
      * This color constant "Dark Skin 2" has RGBA8888 code {@code 73413CFF}, L 0.33333334, A 0.58431375, B 0.54901963, alpha 1.0, hue 0.013674069, and saturation 0.20997846.
@@ -797,7 +738,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_2 = -0x1.192aaap126F;
-    static { NAMED.put("Dark Skin 2", -0x1.192aaap126F); LIST.add(-0x1.192aaap126F); }
 
     /**
      * This color constant "Dark Skin 3" has RGBA8888 code {@code 8E5555FF}, L 0.42745098, A 0.5921569, B 0.5372549, alpha 1.0, hue 0.0012205773, and saturation 0.22028232.
@@ -809,7 +749,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_3 = -0x1.132edap126F;
-    static { NAMED.put("Dark Skin 3", -0x1.132edap126F); LIST.add(-0x1.132edap126F); }
 
     /**
      * This color constant "Pink Skin 1" has RGBA8888 code {@code AB7373FF}, L 0.5411765, A 0.5803922, B 0.5254902, alpha 1.0, hue 0.9979268, and saturation 0.21301508.
@@ -821,7 +760,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_1 = -0x1.0d2914p126F;
-    static { NAMED.put("Pink Skin 1", -0x1.0d2914p126F); LIST.add(-0x1.0d2914p126F); }
 
     /**
      * This color constant "Pink Skin 2" has RGBA8888 code {@code C78F8FFF}, L 0.64705884, A 0.57254905, B 0.52156866, alpha 1.0, hue 0.9993521, and saturation 0.21396852.
@@ -833,7 +771,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_2 = -0x1.0b254ap126F;
-    static { NAMED.put("Pink Skin 2", -0x1.0b254ap126F); LIST.add(-0x1.0b254ap126F); }
 
     /**
      * This color constant "Pink Skin 3" has RGBA8888 code {@code E3ABABFF}, L 0.7529412, A 0.5647059, B 0.5176471, alpha 1.0, hue 4.9771264E-4, and saturation 0.21418566.
@@ -845,7 +782,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_3 = -0x1.09218p126F;
-    static { NAMED.put("Pink Skin 3", -0x1.09218p126F); LIST.add(-0x1.09218p126F); }
 
     /**
      * This color constant "Pink Skin 4" has RGBA8888 code {@code F8D2DAFF}, L 0.8784314, A 0.53333336, B 0.47843137, alpha 1.0, hue 0.9632954, and saturation 0.14742082.
@@ -857,7 +793,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_4 = -0x1.f511cp125F;
-    static { NAMED.put("Pink Skin 4", -0x1.f511cp125F); LIST.add(-0x1.f511cp125F); }
 
     /**
      * This color constant "Bronze Skin 4" has RGBA8888 code {@code E3C7ABFF}, L 0.81960785, A 0.49019608, B 0.5647059, alpha 1.0, hue 0.08458405, and saturation 0.2135241.
@@ -869,7 +804,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_4 = -0x1.20fba2p126F;
-    static { NAMED.put("Bronze Skin 4", -0x1.20fba2p126F); LIST.add(-0x1.20fba2p126F); }
 
     /**
      * This color constant "Bronze Skin 3" has RGBA8888 code {@code C49E73FF}, L 0.6784314, A 0.50980395, B 0.61960787, alpha 1.0, hue 0.08824855, and saturation 0.31279624.
@@ -881,7 +815,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_3 = -0x1.3d055ap126F;
-    static { NAMED.put("Bronze Skin 3", -0x1.3d055ap126F); LIST.add(-0x1.3d055ap126F); }
 
     /**
      * This color constant "Bronze Skin 2" has RGBA8888 code {@code 8F7357FF}, L 0.5058824, A 0.50980395, B 0.58431375, alpha 1.0, hue 0.083191454, and saturation 0.21936014.
@@ -893,7 +826,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_2 = -0x1.2b0502p126F;
-    static { NAMED.put("Bronze Skin 2", -0x1.2b0502p126F); LIST.add(-0x1.2b0502p126F); }
 
     /**
      * This color constant "Bronze Skin 1" has RGBA8888 code {@code 73573BFF}, L 0.39215687, A 0.5176471, B 0.5921569, alpha 1.0, hue 0.083222, and saturation 0.21854076.
@@ -905,7 +837,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_1 = -0x1.2f08c8p126F;
-    static { NAMED.put("Bronze Skin 1", -0x1.2f08c8p126F); LIST.add(-0x1.2f08c8p126F); }
 
     /**
      * This color constant "Taupe" has RGBA8888 code {@code 3B2D1FFF}, L 0.19607843, A 0.5058824, B 0.54901963, alpha 1.0, hue 0.08465999, and saturation 0.10646134.
@@ -917,7 +848,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAUPE = -0x1.190264p126F;
-    static { NAMED.put("Taupe", -0x1.190264p126F); LIST.add(-0x1.190264p126F); }
 
     /**
      * This color constant "Drab Green" has RGBA8888 code {@code 414123FF}, L 0.26666668, A 0.45490196, B 0.5803922, alpha 1.0, hue 0.17570335, and saturation 0.115170866.
@@ -929,7 +859,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRAB_GREEN = -0x1.28e888p126F;
-    static { NAMED.put("Drab Green", -0x1.28e888p126F); LIST.add(-0x1.28e888p126F); }
 
     /**
      * This color constant "Lizard Scales" has RGBA8888 code {@code 73733BFF}, L 0.47058824, A 0.43137255, B 0.6431373, alpha 1.0, hue 0.17048627, and saturation 0.22138038.
@@ -941,7 +870,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIZARD_SCALES = -0x1.48dcfp126F;
-    static { NAMED.put("Lizard Scales", -0x1.48dcfp126F); LIST.add(-0x1.48dcfp126F); }
 
     /**
      * This color constant "Cricket" has RGBA8888 code {@code 8F8F57FF}, L 0.5803922, A 0.42745098, B 0.63529414, alpha 1.0, hue 0.16965419, and saturation 0.22105274.
@@ -953,7 +881,6 @@ public class Palette {
      * </pre>
      */
     public static final float CRICKET = -0x1.44db28p126F;
-    static { NAMED.put("Cricket", -0x1.44db28p126F); LIST.add(-0x1.44db28p126F); }
 
     /**
      * This color constant "Olive Oil" has RGBA8888 code {@code A2A255FF}, L 0.6509804, A 0.4117647, B 0.68235296, alpha 1.0, hue 0.17082757, and saturation 0.30063894.
@@ -965,7 +892,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_OIL = -0x1.5cd34cp126F;
-    static { NAMED.put("Olive Oil", -0x1.5cd34cp126F); LIST.add(-0x1.5cd34cp126F); }
 
     /**
      * This color constant "Dun" has RGBA8888 code {@code B5B572FF}, L 0.7254902, A 0.41568628, B 0.6509804, alpha 1.0, hue 0.16979377, and saturation 0.25987643.
@@ -977,7 +903,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUN = -0x1.4cd572p126F;
-    static { NAMED.put("Dun", -0x1.4cd572p126F); LIST.add(-0x1.4cd572p126F); }
 
     /**
      * This color constant "Corn Silk" has RGBA8888 code {@code C7C78FFF}, L 0.7921569, A 0.41960785, B 0.61960787, alpha 1.0, hue 0.17071593, and saturation 0.21877933.
@@ -989,7 +914,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORN_SILK = -0x1.3cd794p126F;
-    static { NAMED.put("Corn Silk", -0x1.3cd794p126F); LIST.add(-0x1.3cd794p126F); }
 
     /**
      * This color constant "Tan" has RGBA8888 code {@code DADAABFF}, L 0.8627451, A 0.42352942, B 0.5921569, alpha 1.0, hue 0.17150933, and saturation 0.18283755.
@@ -1001,7 +925,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAN = -0x1.2ed9b8p126F;
-    static { NAMED.put("Tan", -0x1.2ed9b8p126F); LIST.add(-0x1.2ed9b8p126F); }
 
     /**
      * This color constant "Straw" has RGBA8888 code {@code EDEDC7FF}, L 0.92941177, A 0.42745098, B 0.5647059, alpha 1.0, hue 0.17480753, and saturation 0.14572793.
@@ -1013,7 +936,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRAW = -0x1.20dbdap126F;
-    static { NAMED.put("Straw", -0x1.20dbdap126F); LIST.add(-0x1.20dbdap126F); }
 
     /**
      * This color constant "Honeydew" has RGBA8888 code {@code C7E3ABFF}, L 0.87058824, A 0.36862746, B 0.6, alpha 1.0, hue 0.25081336, and saturation 0.22021955.
@@ -1025,7 +947,6 @@ public class Palette {
      * </pre>
      */
     public static final float HONEYDEW = -0x1.32bdbcp126F;
-    static { NAMED.put("Honeydew", -0x1.32bdbcp126F); LIST.add(-0x1.32bdbcp126F); }
 
     /**
      * This color constant "Tarnish" has RGBA8888 code {@code ABC78FFF}, L 0.77254903, A 0.36862746, B 0.6039216, alpha 1.0, hue 0.25481564, and saturation 0.21851319.
@@ -1037,7 +958,6 @@ public class Palette {
      * </pre>
      */
     public static final float TARNISH = -0x1.34bd8ap126F;
-    static { NAMED.put("Tarnish", -0x1.34bd8ap126F); LIST.add(-0x1.34bd8ap126F); }
 
     /**
      * This color constant "Pea Soup" has RGBA8888 code {@code 8EBE55FF}, L 0.7176471, A 0.3019608, B 0.72156864, alpha 1.0, hue 0.24531142, and saturation 0.41349465.
@@ -1049,7 +969,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEA_SOUP = -0x1.709b6ep126F;
-    static { NAMED.put("Pea Soup", -0x1.709b6ep126F); LIST.add(-0x1.709b6ep126F); }
 
     /**
      * This color constant "Marsh" has RGBA8888 code {@code 738F57FF}, L 0.56078434, A 0.37254903, B 0.6156863, alpha 1.0, hue 0.25536707, and saturation 0.21567279.
@@ -1061,7 +980,6 @@ public class Palette {
      * </pre>
      */
     public static final float MARSH = -0x1.3abf1ep126F;
-    static { NAMED.put("Marsh", -0x1.3abf1ep126F); LIST.add(-0x1.3abf1ep126F); }
 
     /**
      * This color constant "Asparagus" has RGBA8888 code {@code 587D3EFF}, L 0.48235294, A 0.34901962, B 0.6392157, alpha 1.0, hue 0.269498, and saturation 0.24923694.
@@ -1073,7 +991,6 @@ public class Palette {
      * </pre>
      */
     public static final float ASPARAGUS = -0x1.46b2f6p126F;
-    static { NAMED.put("Asparagus", -0x1.46b2f6p126F); LIST.add(-0x1.46b2f6p126F); }
 
     /**
      * This color constant "Peat Bog" has RGBA8888 code {@code 465032FF}, L 0.32156864, A 0.43137255, B 0.57254905, alpha 1.0, hue 0.2274144, and saturation 0.11854035.
@@ -1085,7 +1002,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEAT_BOG = -0x1.24dca4p126F;
-    static { NAMED.put("Peat Bog", -0x1.24dca4p126F); LIST.add(-0x1.24dca4p126F); }
 
     /**
      * This color constant "Deep Jungle" has RGBA8888 code {@code 191E0FFF}, L 0.101960786, A 0.45882353, B 0.5372549, alpha 1.0, hue 0.23785749, and saturation 0.058613665.
@@ -1097,7 +1013,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_JUNGLE = -0x1.12ea34p126F;
-    static { NAMED.put("Deep Jungle", -0x1.12ea34p126F); LIST.add(-0x1.12ea34p126F); }
 
     /**
      * This color constant "Pine Green" has RGBA8888 code {@code 235037FF}, L 0.3019608, A 0.37254903, B 0.5372549, alpha 1.0, hue 0.41434157, and saturation 0.18384695.
@@ -1109,7 +1024,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINE_GREEN = -0x1.12be9ap126F;
-    static { NAMED.put("Pine Green", -0x1.12be9ap126F); LIST.add(-0x1.12be9ap126F); }
 
     /**
      * This color constant "Olive Green" has RGBA8888 code {@code 3B573BFF}, L 0.34117648, A 0.39607844, B 0.5529412, alpha 1.0, hue 0.34385017, and saturation 0.11609873.
@@ -1121,7 +1035,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_GREEN = -0x1.1acaaep126F;
-    static { NAMED.put("Olive Green", -0x1.1acaaep126F); LIST.add(-0x1.1acaaep126F); }
 
     /**
      * This color constant "Gray Green" has RGBA8888 code {@code 506450FF}, L 0.40392157, A 0.41960785, B 0.5294118, alpha 1.0, hue 0.3463987, and saturation 0.08258155.
@@ -1133,7 +1046,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY_GREEN = -0x1.0ed6cep126F;
-    static { NAMED.put("Gray Green", -0x1.0ed6cep126F); LIST.add(-0x1.0ed6cep126F); }
 
     /**
      * This color constant "Maidenhair Fern" has RGBA8888 code {@code 3B7349FF}, L 0.4392157, A 0.3372549, B 0.5764706, alpha 1.0, hue 0.3753206, and saturation 0.22124135.
@@ -1145,7 +1057,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAIDENHAIR_FERN = -0x1.26acep126F;
-    static { NAMED.put("Maidenhair Fern", -0x1.26acep126F); LIST.add(-0x1.26acep126F); }
 
     /**
      * This color constant "Kelly Green" has RGBA8888 code {@code 578F57FF}, L 0.54509807, A 0.32156864, B 0.6039216, alpha 1.0, hue 0.34188524, and saturation 0.22877207.
@@ -1157,7 +1068,6 @@ public class Palette {
      * </pre>
      */
     public static final float KELLY_GREEN = -0x1.34a516p126F;
-    static { NAMED.put("Kelly Green", -0x1.34a516p126F); LIST.add(-0x1.34a516p126F); }
 
     /**
      * This color constant "Dusty Green" has RGBA8888 code {@code 73AB73FF}, L 0.6509804, A 0.32156864, B 0.59607846, alpha 1.0, hue 0.3413313, and saturation 0.22741342.
@@ -1169,7 +1079,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GREEN = -0x1.30a54cp126F;
-    static { NAMED.put("Dusty Green", -0x1.30a54cp126F); LIST.add(-0x1.30a54cp126F); }
 
     /**
      * This color constant "Garter Snake" has RGBA8888 code {@code 64C082FF}, L 0.70980394, A 0.2627451, B 0.59607846, alpha 1.0, hue 0.39024237, and saturation 0.3693678.
@@ -1181,7 +1090,6 @@ public class Palette {
      * </pre>
      */
     public static final float GARTER_SNAKE = -0x1.30876ap126F;
-    static { NAMED.put("Garter Snake", -0x1.30876ap126F); LIST.add(-0x1.30876ap126F); }
 
     /**
      * This color constant "Silver Green" has RGBA8888 code {@code 8FC78FFF}, L 0.7529412, A 0.32156864, B 0.5921569, alpha 1.0, hue 0.33648974, and saturation 0.22422355.
@@ -1193,7 +1101,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_GREEN = -0x1.2ea58p126F;
-    static { NAMED.put("Silver Green", -0x1.2ea58p126F); LIST.add(-0x1.2ea58p126F); }
 
     /**
      * This color constant "Pistachio" has RGBA8888 code {@code A2D8A2FF}, L 0.8156863, A 0.3254902, B 0.58431375, alpha 1.0, hue 0.3371498, and saturation 0.21747965.
@@ -1205,7 +1112,6 @@ public class Palette {
      * </pre>
      */
     public static final float PISTACHIO = -0x1.2aa7ap126F;
-    static { NAMED.put("Pistachio", -0x1.2aa7ap126F); LIST.add(-0x1.2aa7ap126F); }
 
     /**
      * This color constant "Angel Wing" has RGBA8888 code {@code E1F8FAFF}, L 0.9607843, A 0.42352942, B 0.4509804, alpha 1.0, hue 0.5182749, and saturation 0.10704899.
@@ -1217,7 +1123,6 @@ public class Palette {
      * </pre>
      */
     public static final float ANGEL_WING = -0x1.e6d9eap125F;
-    static { NAMED.put("Angel Wing", -0x1.e6d9eap125F); LIST.add(-0x1.e6d9eap125F); }
 
     /**
      * This color constant "Sage Green" has RGBA8888 code {@code B4EECAFF}, L 0.89411765, A 0.33333334, B 0.5294118, alpha 1.0, hue 0.40397736, and saturation 0.23841178.
@@ -1229,7 +1134,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAGE_GREEN = -0x1.0eabc8p126F;
-    static { NAMED.put("Sage Green", -0x1.0eabc8p126F); LIST.add(-0x1.0eabc8p126F); }
 
     /**
      * This color constant "Dried Sage" has RGBA8888 code {@code ABE3C5FF}, L 0.85882354, A 0.34117648, B 0.5176471, alpha 1.0, hue 0.41712296, and saturation 0.23258007.
@@ -1241,7 +1145,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIED_SAGE = -0x1.08afb6p126F;
-    static { NAMED.put("Dried Sage", -0x1.08afb6p126F); LIST.add(-0x1.08afb6p126F); }
 
     /**
      * This color constant "Artichoke" has RGBA8888 code {@code 87B48EFF}, L 0.69411767, A 0.3529412, B 0.5529412, alpha 1.0, hue 0.36675483, and saturation 0.18692434.
@@ -1253,7 +1156,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARTICHOKE = -0x1.1ab562p126F;
-    static { NAMED.put("Artichoke", -0x1.1ab562p126F); LIST.add(-0x1.1ab562p126F); }
 
     /**
      * This color constant "Viridian" has RGBA8888 code {@code 507D5FFF}, L 0.4862745, A 0.3647059, B 0.5411765, alpha 1.0, hue 0.39441696, and saturation 0.18236366.
@@ -1265,7 +1167,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIRIDIAN = -0x1.14baf8p126F;
-    static { NAMED.put("Viridian", -0x1.14baf8p126F); LIST.add(-0x1.14baf8p126F); }
 
     /**
      * This color constant "Floral Foam" has RGBA8888 code {@code 0F6946FF}, L 0.3882353, A 0.30980393, B 0.54901963, alpha 1.0, hue 0.4421389, and saturation 0.38668638.
@@ -1277,7 +1178,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLORAL_FOAM = -0x1.189ec6p126F;
-    static { NAMED.put("Floral Foam", -0x1.189ec6p126F); LIST.add(-0x1.189ec6p126F); }
 
     /**
      * This color constant "Hunter Green" has RGBA8888 code {@code 1E2D23FF}, L 0.16862746, A 0.44313726, B 0.5137255, alpha 1.0, hue 0.39568073, and saturation 0.061253496.
@@ -1289,7 +1189,6 @@ public class Palette {
      * </pre>
      */
     public static final float HUNTER_GREEN = -0x1.06e256p126F;
-    static { NAMED.put("Hunter Green", -0x1.06e256p126F); LIST.add(-0x1.06e256p126F); }
 
     /**
      * This color constant "Dark Teal" has RGBA8888 code {@code 234146FF}, L 0.25490198, A 0.43529412, B 0.45490196, alpha 1.0, hue 0.5230659, and saturation 0.14506906.
@@ -1301,7 +1200,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_TEAL = -0x1.e8de82p125F;
-    static { NAMED.put("Dark Teal", -0x1.e8de82p125F); LIST.add(-0x1.e8de82p125F); }
 
     /**
      * This color constant "Kyanite" has RGBA8888 code {@code 3B7373FF}, L 0.44705883, A 0.38431373, B 0.45490196, alpha 1.0, hue 0.4997253, and saturation 0.23004797.
@@ -1313,7 +1211,6 @@ public class Palette {
      * </pre>
      */
     public static final float KYANITE = -0x1.e8c4e4p125F;
-    static { NAMED.put("Kyanite", -0x1.e8c4e4p125F); LIST.add(-0x1.e8c4e4p125F); }
 
     /**
      * This color constant "Spearmint" has RGBA8888 code {@code 64ABABFF}, L 0.654902, A 0.35686275, B 0.44313726, alpha 1.0, hue 0.4995515, and saturation 0.29123807.
@@ -1325,7 +1222,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPEARMINT = -0x1.e2b74ep125F;
-    static { NAMED.put("Spearmint", -0x1.e2b74ep125F); LIST.add(-0x1.e2b74ep125F); }
 
     /**
      * This color constant "Amazonite" has RGBA8888 code {@code 8FC7C7FF}, L 0.7647059, A 0.3764706, B 0.44313726, alpha 1.0, hue 0.50325, and saturation 0.23261356.
@@ -1337,7 +1233,6 @@ public class Palette {
      * </pre>
      */
     public static final float AMAZONITE = -0x1.e2c186p125F;
-    static { NAMED.put("Amazonite", -0x1.e2c186p125F); LIST.add(-0x1.e2c186p125F); }
 
     /**
      * This color constant "Pastel Sky" has RGBA8888 code {@code ABE3E3FF}, L 0.8666667, A 0.37254903, B 0.44313726, alpha 1.0, hue 0.5005263, and saturation 0.22968787.
@@ -1349,7 +1244,6 @@ public class Palette {
      * </pre>
      */
     public static final float PASTEL_SKY = -0x1.e2bfbap125F;
-    static { NAMED.put("Pastel Sky", -0x1.e2bfbap125F); LIST.add(-0x1.e2bfbap125F); }
 
     /**
      * This color constant "Aquamarine" has RGBA8888 code {@code C7F1F1FF}, L 0.9254902, A 0.39215687, B 0.44705883, alpha 1.0, hue 0.5027518, and saturation 0.1763438.
@@ -1361,7 +1255,6 @@ public class Palette {
      * </pre>
      */
     public static final float AQUAMARINE = -0x1.e4c9d8p125F;
-    static { NAMED.put("Aquamarine", -0x1.e4c9d8p125F); LIST.add(-0x1.e4c9d8p125F); }
 
     /**
      * This color constant "Dust Bunny" has RGBA8888 code {@code BED2F0FF}, L 0.8392157, A 0.45882353, B 0.38431373, alpha 1.0, hue 0.5963712, and saturation 0.20967531.
@@ -1373,7 +1266,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUST_BUNNY = -0x1.c4ebacp125F;
-    static { NAMED.put("Dust Bunny", -0x1.c4ebacp125F); LIST.add(-0x1.c4ebacp125F); }
 
     /**
      * This color constant "Patina" has RGBA8888 code {@code ABC7E3FF}, L 0.7921569, A 0.44705883, B 0.3882353, alpha 1.0, hue 0.5809585, and saturation 0.22570068.
@@ -1385,7 +1277,6 @@ public class Palette {
      * </pre>
      */
     public static final float PATINA = -0x1.c6e594p125F;
-    static { NAMED.put("Patina", -0x1.c6e594p125F); LIST.add(-0x1.c6e594p125F); }
 
     /**
      * This color constant "Chipped Granite" has RGBA8888 code {@code A8B9DCFF}, L 0.7490196, A 0.4745098, B 0.3764706, alpha 1.0, hue 0.61052597, and saturation 0.20770329.
@@ -1397,7 +1288,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHIPPED_GRANITE = -0x1.c0f37ep125F;
-    static { NAMED.put("Chipped Granite", -0x1.c0f37ep125F); LIST.add(-0x1.c0f37ep125F); }
 
     /**
      * This color constant "Blue Smoke" has RGBA8888 code {@code 8FABC7FF}, L 0.6901961, A 0.4509804, B 0.3882353, alpha 1.0, hue 0.5807009, and saturation 0.22714442.
@@ -1409,7 +1299,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_SMOKE = -0x1.c6e76p125F;
-    static { NAMED.put("Blue Smoke", -0x1.c6e76p125F); LIST.add(-0x1.c6e76p125F); }
 
     /**
      * This color constant "Air Force Blue" has RGBA8888 code {@code 578FC7FF}, L 0.5803922, A 0.4627451, B 0.3019608, alpha 1.0, hue 0.58274615, and saturation 0.44677776.
@@ -1421,7 +1310,6 @@ public class Palette {
      * </pre>
      */
     public static final float AIR_FORCE_BLUE = -0x1.9aed28p125F;
-    static { NAMED.put("Air Force Blue", -0x1.9aed28p125F); LIST.add(-0x1.9aed28p125F); }
 
     /**
      * This color constant "Cold Iron" has RGBA8888 code {@code 57738FFF}, L 0.4745098, A 0.4627451, B 0.3882353, alpha 1.0, hue 0.5820939, and saturation 0.224127.
@@ -1433,7 +1321,6 @@ public class Palette {
      * </pre>
      */
     public static final float COLD_IRON = -0x1.c6ecf2p125F;
-    static { NAMED.put("Cold Iron", -0x1.c6ecf2p125F); LIST.add(-0x1.c6ecf2p125F); }
 
     /**
      * This color constant "Dreary Blue" has RGBA8888 code {@code 3B5773FF}, L 0.36078432, A 0.47058824, B 0.38431373, alpha 1.0, hue 0.5825955, and saturation 0.23075047.
@@ -1445,7 +1332,6 @@ public class Palette {
      * </pre>
      */
     public static final float DREARY_BLUE = -0x1.c4f0b8p125F;
-    static { NAMED.put("Dreary Blue", -0x1.c4f0b8p125F); LIST.add(-0x1.c4f0b8p125F); }
 
     /**
      * This color constant "Murk" has RGBA8888 code {@code 0F192DFF}, L 0.08627451, A 0.5019608, B 0.41568628, alpha 1.0, hue 0.6010393, and saturation 0.12966588.
@@ -1457,7 +1343,6 @@ public class Palette {
      * </pre>
      */
     public static final float MURK = -0x1.d5002cp125F;
-    static { NAMED.put("Murk", -0x1.d5002cp125F); LIST.add(-0x1.d5002cp125F); }
 
     /**
      * This color constant "Ninja" has RGBA8888 code {@code 1F1F3BFF}, L 0.12941177, A 0.5294118, B 0.39607844, alpha 1.0, hue 0.6530699, and saturation 0.121895544.
@@ -1469,7 +1354,6 @@ public class Palette {
      * </pre>
      */
     public static final float NINJA = -0x1.cb0e42p125F;
-    static { NAMED.put("Ninja", -0x1.cb0e42p125F); LIST.add(-0x1.cb0e42p125F); }
 
     /**
      * This color constant "Watercolor Black" has RGBA8888 code {@code 3B3B57FF}, L 0.25882354, A 0.5176471, B 0.4, alpha 1.0, hue 0.6529578, and saturation 0.12157443.
@@ -1481,7 +1365,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_BLACK = -0x1.cd0884p125F;
-    static { NAMED.put("Watercolor Black", -0x1.cd0884p125F); LIST.add(-0x1.cd0884p125F); }
 
     /**
      * This color constant "Iolite" has RGBA8888 code {@code 494973FF}, L 0.3254902, A 0.53333336, B 0.36078432, alpha 1.0, hue 0.65668565, and saturation 0.17706078.
@@ -1493,7 +1376,6 @@ public class Palette {
      * </pre>
      */
     public static final float IOLITE = -0x1.b910a6p125F;
-    static { NAMED.put("Iolite", -0x1.b910a6p125F); LIST.add(-0x1.b910a6p125F); }
 
     /**
      * This color constant "Boysenberry" has RGBA8888 code {@code 57578FFF}, L 0.39215687, A 0.54901963, B 0.3254902, alpha 1.0, hue 0.66113645, and saturation 0.22738734.
@@ -1505,7 +1387,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOYSENBERRY = -0x1.a718c8p125F;
-    static { NAMED.put("Boysenberry", -0x1.a718c8p125F); LIST.add(-0x1.a718c8p125F); }
 
     /**
      * This color constant "Watercolor Gray" has RGBA8888 code {@code 736EAAFF}, L 0.49019608, A 0.5529412, B 0.31764707, alpha 1.0, hue 0.6721188, and saturation 0.23919156.
@@ -1517,7 +1398,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_GRAY = -0x1.a31afap125F;
-    static { NAMED.put("Watercolor Gray", -0x1.a31afap125F); LIST.add(-0x1.a31afap125F); }
 
     /**
      * This color constant "Blue Steel" has RGBA8888 code {@code 7676CAFF}, L 0.5294118, A 0.5764706, B 0.25490198, alpha 1.0, hue 0.6615988, and saturation 0.34223336.
@@ -1529,7 +1409,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_STEEL = -0x1.83270ep125F;
-    static { NAMED.put("Blue Steel", -0x1.83270ep125F); LIST.add(-0x1.83270ep125F); }
 
     /**
      * This color constant "Twilight Cloud" has RGBA8888 code {@code 8F8FC7FF}, L 0.6117647, A 0.53333336, B 0.32941177, alpha 1.0, hue 0.6633386, and saturation 0.22720528.
@@ -1541,7 +1420,6 @@ public class Palette {
      * </pre>
      */
     public static final float TWILIGHT_CLOUD = -0x1.a91138p125F;
-    static { NAMED.put("Twilight Cloud", -0x1.a91138p125F); LIST.add(-0x1.a91138p125F); }
 
     /**
      * This color constant "Smog" has RGBA8888 code {@code ABABE3FF}, L 0.7176471, A 0.5254902, B 0.32941177, alpha 1.0, hue 0.660892, and saturation 0.23237026.
@@ -1553,7 +1431,6 @@ public class Palette {
      * </pre>
      */
     public static final float SMOG = -0x1.a90d6ep125F;
-    static { NAMED.put("Smog", -0x1.a90d6ep125F); LIST.add(-0x1.a90d6ep125F); }
 
     /**
      * This color constant "Tropic Mist" has RGBA8888 code {@code D0DAF8FF}, L 0.8745098, A 0.4745098, B 0.39215687, alpha 1.0, hue 0.6230844, and saturation 0.1609804.
@@ -1565,7 +1442,6 @@ public class Palette {
      * </pre>
      */
     public static final float TROPIC_MIST = -0x1.c8f3bep125F;
-    static { NAMED.put("Tropic Mist", -0x1.c8f3bep125F); LIST.add(-0x1.c8f3bep125F); }
 
     /**
      * This color constant "Feather Down" has RGBA8888 code {@code E3E3FFFF}, L 0.9098039, A 0.4862745, B 0.4, alpha 1.0, hue 0.65865546, and saturation 0.114815235.
@@ -1577,7 +1453,6 @@ public class Palette {
      * </pre>
      */
     public static final float FEATHER_DOWN = -0x1.ccf9dp125F;
-    static { NAMED.put("Feather Down", -0x1.ccf9dp125F); LIST.add(-0x1.ccf9dp125F); }
 
     /**
      * This color constant "Mild Violet" has RGBA8888 code {@code AB8FC7FF}, L 0.6392157, A 0.57254905, B 0.34901962, alpha 1.0, hue 0.7428567, and saturation 0.22083193.
@@ -1589,7 +1464,6 @@ public class Palette {
      * </pre>
      */
     public static final float MILD_VIOLET = -0x1.b32546p125F;
-    static { NAMED.put("Mild Violet", -0x1.b32546p125F); LIST.add(-0x1.b32546p125F); }
 
     /**
      * This color constant "Violet Cushions" has RGBA8888 code {@code 8F57C7FF}, L 0.47843137, A 0.69411767, B 0.22352941, alpha 1.0, hue 0.7453996, and saturation 0.44155237.
@@ -1601,7 +1475,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET_CUSHIONS = -0x1.7362f4p125F;
-    static { NAMED.put("Violet Cushions", -0x1.7362f4p125F); LIST.add(-0x1.7362f4p125F); }
 
     /**
      * This color constant "Dull Violet" has RGBA8888 code {@code 73578FFF}, L 0.41960785, A 0.5921569, B 0.34509805, alpha 1.0, hue 0.7454952, and saturation 0.22305179.
@@ -1613,7 +1486,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_VIOLET = -0x1.b12ed6p125F;
-    static { NAMED.put("Dull Violet", -0x1.b12ed6p125F); LIST.add(-0x1.b12ed6p125F); }
 
     /**
      * This color constant "Royal Violet" has RGBA8888 code {@code 573B73FF}, L 0.3019608, A 0.6, B 0.34509805, alpha 1.0, hue 0.74472535, and saturation 0.2181657.
@@ -1625,7 +1497,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_VIOLET = -0x1.b1329ap125F;
-    static { NAMED.put("Royal Violet", -0x1.b1329ap125F); LIST.add(-0x1.b1329ap125F); }
 
     /**
      * This color constant "Eminence" has RGBA8888 code {@code 3C233CFF}, L 0.1764706, A 0.5686275, B 0.43137255, alpha 1.0, hue 0.822559, and saturation 0.099752545.
@@ -1637,7 +1508,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMINENCE = -0x1.dd225ap125F;
-    static { NAMED.put("Eminence", -0x1.dd225ap125F); LIST.add(-0x1.dd225ap125F); }
 
     /**
      * This color constant "Prune" has RGBA8888 code {@code 463246FF}, L 0.23529412, A 0.54901963, B 0.44313726, alpha 1.0, hue 0.8261648, and saturation 0.07923028.
@@ -1649,7 +1519,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUNE = -0x1.e31878p125F;
-    static { NAMED.put("Prune", -0x1.e31878p125F); LIST.add(-0x1.e31878p125F); }
 
     /**
      * This color constant "Dusty Grape" has RGBA8888 code {@code 724072FF}, L 0.34901962, A 0.627451, B 0.38431373, alpha 1.0, hue 0.8294563, and saturation 0.19656438.
@@ -1661,7 +1530,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GRAPE = -0x1.c540b2p125F;
-    static { NAMED.put("Dusty Grape", -0x1.c540b2p125F); LIST.add(-0x1.c540b2p125F); }
 
     /**
      * This color constant "Pink Violet" has RGBA8888 code {@code 8F578FFF}, L 0.4509804, A 0.63529414, B 0.37254903, alpha 1.0, hue 0.8289244, and saturation 0.22090358.
@@ -1673,7 +1541,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_VIOLET = -0x1.bf44e6p125F;
-    static { NAMED.put("Pink Violet", -0x1.bf44e6p125F); LIST.add(-0x1.bf44e6p125F); }
 
     /**
      * This color constant "Ripe Plum" has RGBA8888 code {@code AB57ABFF}, L 0.49803922, A 0.7019608, B 0.3254902, alpha 1.0, hue 0.828989, and saturation 0.33048835.
@@ -1685,7 +1552,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPE_PLUM = -0x1.a766fep125F;
-    static { NAMED.put("Ripe Plum", -0x1.a766fep125F); LIST.add(-0x1.a766fep125F); }
 
     /**
      * This color constant "Mauve" has RGBA8888 code {@code AB73ABFF}, L 0.56078434, A 0.627451, B 0.37254903, alpha 1.0, hue 0.830498, and saturation 0.22121865.
@@ -1697,7 +1563,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAUVE = -0x1.bf411ep125F;
-    static { NAMED.put("Mauve", -0x1.bf411ep125F); LIST.add(-0x1.bf411ep125F); }
 
     /**
      * This color constant "Ham" has RGBA8888 code {@code EBACE1FF}, L 0.7764706, A 0.61960787, B 0.38431373, alpha 1.0, hue 0.8563732, and saturation 0.24375772.
@@ -1709,7 +1574,6 @@ public class Palette {
      * </pre>
      */
     public static final float HAM = -0x1.c53d8cp125F;
-    static { NAMED.put("Ham", -0x1.c53d8cp125F); LIST.add(-0x1.c53d8cp125F); }
 
     /**
      * This color constant "Cotton Candy" has RGBA8888 code {@code FFDCF5FF}, L 0.9137255, A 0.5372549, B 0.43137255, alpha 1.0, hue 0.8705908, and saturation 0.12802953.
@@ -1721,7 +1585,6 @@ public class Palette {
      * </pre>
      */
     public static final float COTTON_CANDY = -0x1.dd13d2p125F;
-    static { NAMED.put("Cotton Candy", -0x1.dd13d2p125F); LIST.add(-0x1.dd13d2p125F); }
 
     /**
      * This color constant "Silver Pink" has RGBA8888 code {@code E3C7E3FF}, L 0.8352941, A 0.53333336, B 0.41960785, alpha 1.0, hue 0.8176108, and saturation 0.11242038.
@@ -1733,7 +1596,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_PINK = -0x1.d711aap125F;
-    static { NAMED.put("Silver Pink", -0x1.d711aap125F); LIST.add(-0x1.d711aap125F); }
 
     /**
      * This color constant "Tea Rose" has RGBA8888 code {@code E1B9D2FF}, L 0.7921569, A 0.5529412, B 0.4392157, alpha 1.0, hue 0.89253867, and saturation 0.15004355.
@@ -1745,7 +1607,6 @@ public class Palette {
      * </pre>
      */
     public static final float TEA_ROSE = -0x1.e11b94p125F;
-    static { NAMED.put("Tea Rose", -0x1.e11b94p125F); LIST.add(-0x1.e11b94p125F); }
 
     /**
      * This color constant "Old Rose" has RGBA8888 code {@code D7A0BEFF}, L 0.7176471, A 0.5882353, B 0.4392157, alpha 1.0, hue 0.90689003, and saturation 0.20916885.
@@ -1757,7 +1618,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLD_ROSE = -0x1.e12d6ep125F;
-    static { NAMED.put("Old Rose", -0x1.e12d6ep125F); LIST.add(-0x1.e12d6ep125F); }
 
     /**
      * This color constant "Dusty Pink" has RGBA8888 code {@code C78FB9FF}, L 0.65882355, A 0.60784316, B 0.40784314, alpha 1.0, hue 0.87167776, and saturation 0.21848041.
@@ -1769,7 +1629,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_PINK = -0x1.d1375p125F;
-    static { NAMED.put("Dusty Pink", -0x1.d1375p125F); LIST.add(-0x1.d1375p125F); }
 
     /**
      * This color constant "Roseate Spoonbill" has RGBA8888 code {@code C87DA0FF}, L 0.6117647, A 0.6392157, B 0.44705883, alpha 1.0, hue 0.92153716, and saturation 0.2943886.
@@ -1781,7 +1640,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSEATE_SPOONBILL = -0x1.e54738p125F;
-    static { NAMED.put("Roseate Spoonbill", -0x1.e54738p125F); LIST.add(-0x1.e54738p125F); }
 
     /**
      * This color constant "Thulian Pink" has RGBA8888 code {@code C35A91FF}, L 0.5294118, A 0.70980394, B 0.42745098, alpha 1.0, hue 0.9106306, and saturation 0.4060107.
@@ -1793,7 +1651,6 @@ public class Palette {
      * </pre>
      */
     public static final float THULIAN_PINK = -0x1.db6b0ep125F;
-    static { NAMED.put("Thulian Pink", -0x1.db6b0ep125F); LIST.add(-0x1.db6b0ep125F); }
 
     /**
      * This color constant "Brown Velvet" has RGBA8888 code {@code 4B2837FF}, L 0.21176471, A 0.5764706, B 0.4745098, alpha 1.0, hue 0.92330307, and saturation 0.13306814.
@@ -1805,7 +1662,6 @@ public class Palette {
      * </pre>
      */
     public static final float BROWN_VELVET = -0x1.f3266cp125F;
-    static { NAMED.put("Brown Velvet", -0x1.f3266cp125F); LIST.add(-0x1.f3266cp125F); }
 
     /**
      * This color constant "Nightshade" has RGBA8888 code {@code 321623FF}, L 0.11764706, A 0.5686275, B 0.47843137, alpha 1.0, hue 0.9204483, and saturation 0.108633704.
@@ -1817,7 +1673,6 @@ public class Palette {
      * </pre>
      */
     public static final float NIGHTSHADE = -0x1.f5223cp125F;
-    static { NAMED.put("Nightshade", -0x1.f5223cp125F); LIST.add(-0x1.f5223cp125F); }
 
     /**
      * This color constant "Scribe Ink" has RGBA8888 code {@code 280A1EFF}, L 0.07058824, A 0.5764706, B 0.4627451, alpha 1.0, hue 0.887476, and saturation 0.11574733.
@@ -1829,7 +1684,6 @@ public class Palette {
      * </pre>
      */
     public static final float SCRIBE_INK = -0x1.ed2624p125F;
-    static { NAMED.put("Scribe Ink", -0x1.ed2624p125F); LIST.add(-0x1.ed2624p125F); }
 
     /**
      * This color constant "Varnish" has RGBA8888 code {@code 401811FF}, L 0.14117648, A 0.5803922, B 0.56078434, alpha 1.0, hue 0.023265265, and saturation 0.17859365.
@@ -1841,7 +1695,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARNISH = -0x1.1f2848p126F;
-    static { NAMED.put("Varnish", -0x1.1f2848p126F); LIST.add(-0x1.1f2848p126F); }
 
     /**
      * This color constant "Cedar Wood" has RGBA8888 code {@code 621800FF}, L 0.20784314, A 0.6431373, B 0.6509804, alpha 1.0, hue 0.041198842, and saturation 0.38004038.
@@ -1853,7 +1706,6 @@ public class Palette {
      * </pre>
      */
     public static final float CEDAR_WOOD = -0x1.4d486ap126F;
-    static { NAMED.put("Cedar Wood", -0x1.4d486ap126F); LIST.add(-0x1.4d486ap126F); }
 
     /**
      * This color constant "Hot Sauce" has RGBA8888 code {@code A5140AFF}, L 0.34901962, A 0.7529412, B 0.7176471, alpha 1.0, hue 0.0095765805, and saturation 0.6078041.
@@ -1865,7 +1717,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOT_SAUCE = -0x1.6f80b2p126F;
-    static { NAMED.put("Hot Sauce", -0x1.6f80b2p126F); LIST.add(-0x1.6f80b2p126F); }
 
     /**
      * This color constant "Lurid Red" has RGBA8888 code {@code DA2010FF}, L 0.47058824, A 0.80784315, B 0.76862746, alpha 1.0, hue 0.012791938, and saturation 0.788507.
@@ -1877,7 +1728,6 @@ public class Palette {
      * </pre>
      */
     public static final float LURID_RED = -0x1.899cfp126F;
-    static { NAMED.put("Lurid Red", -0x1.899cfp126F); LIST.add(-0x1.899cfp126F); }
 
     /**
      * This color constant "Brick" has RGBA8888 code {@code D5524AFF}, L 0.5254902, A 0.7254902, B 0.64705884, alpha 1.0, hue 0.009993541, and saturation 0.54500836.
@@ -1889,7 +1739,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRICK = -0x1.4b730cp126F;
-    static { NAMED.put("Brick", -0x1.4b730cp126F); LIST.add(-0x1.4b730cp126F); }
 
     /**
      * This color constant "Bright Red" has RGBA8888 code {@code FF3C0AFF}, L 0.5647059, A 0.81960785, B 0.8235294, alpha 1.0, hue 0.034547824, and saturation 0.9598639.
@@ -1901,7 +1750,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRIGHT_RED = -0x1.a5a32p126F;
-    static { NAMED.put("Bright Red", -0x1.a5a32p126F); LIST.add(-0x1.a5a32p126F); }
 
     /**
      * This color constant "Embers" has RGBA8888 code {@code F55A32FF}, L 0.5882353, A 0.7529412, B 0.7529412, alpha 1.0, hue 0.034633268, and saturation 0.75976604.
@@ -1913,7 +1761,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMBERS = -0x1.81812cp126F;
-    static { NAMED.put("Embers", -0x1.81812cp126F); LIST.add(-0x1.81812cp126F); }
 
     /**
      * This color constant "Salmon" has RGBA8888 code {@code FF6262FF}, L 0.62352943, A 0.7647059, B 0.6431373, alpha 1.0, hue 0.99956286, and saturation 0.61439264.
@@ -1925,7 +1772,6 @@ public class Palette {
      * </pre>
      */
     public static final float SALMON = -0x1.49873ep126F;
-    static { NAMED.put("Salmon", -0x1.49873ep126F); LIST.add(-0x1.49873ep126F); }
 
     /**
      * This color constant "Taxicab Yellow" has RGBA8888 code {@code F6BD31FF}, L 0.8, A 0.5058824, B 0.84705883, alpha 1.0, hue 0.11827641, and saturation 0.76550186.
@@ -1937,7 +1783,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAXICAB_YELLOW = -0x1.b10398p126F;
-    static { NAMED.put("Taxicab Yellow", -0x1.b10398p126F); LIST.add(-0x1.b10398p126F); }
 
     /**
      * This color constant "Apricot" has RGBA8888 code {@code FFA53CFF}, L 0.7529412, A 0.5882353, B 0.8117647, alpha 1.0, hue 0.09048785, and saturation 0.7648521.
@@ -1949,7 +1794,6 @@ public class Palette {
      * </pre>
      */
     public static final float APRICOT = -0x1.9f2d8p126F;
-    static { NAMED.put("Apricot", -0x1.9f2d8p126F); LIST.add(-0x1.9f2d8p126F); }
 
     /**
      * This color constant "Burnt Yellow" has RGBA8888 code {@code D79B0FFF}, L 0.6784314, A 0.5294118, B 0.8392157, alpha 1.0, hue 0.11682384, and saturation 0.783231.
@@ -1961,7 +1805,6 @@ public class Palette {
      * </pre>
      */
     public static final float BURNT_YELLOW = -0x1.ad0f5ap126F;
-    static { NAMED.put("Burnt Yellow", -0x1.ad0f5ap126F); LIST.add(-0x1.ad0f5ap126F); }
 
     /**
      * This color constant "Dry Pepper" has RGBA8888 code {@code DA6E0AFF}, L 0.5803922, A 0.654902, B 0.8117647, alpha 1.0, hue 0.08081995, and saturation 0.8150328.
@@ -1973,7 +1816,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_PEPPER = -0x1.9f4f28p126F;
-    static { NAMED.put("Dry Pepper", -0x1.9f4f28p126F); LIST.add(-0x1.9f4f28p126F); }
 
     /**
      * This color constant "Redwood" has RGBA8888 code {@code B45A00FF}, L 0.48235294, A 0.6313726, B 0.7764706, alpha 1.0, hue 0.08382458, and saturation 0.697993.
@@ -1985,7 +1827,6 @@ public class Palette {
      * </pre>
      */
     public static final float REDWOOD = -0x1.8d42f6p126F;
-    static { NAMED.put("Redwood", -0x1.8d42f6p126F); LIST.add(-0x1.8d42f6p126F); }
 
     /**
      * This color constant "Koa" has RGBA8888 code {@code A04B05FF}, L 0.41960785, A 0.63529414, B 0.74509805, alpha 1.0, hue 0.0753949, and saturation 0.6079006.
@@ -1997,7 +1838,6 @@ public class Palette {
      * </pre>
      */
     public static final float KOA = -0x1.7d44d6p126F;
-    static { NAMED.put("Koa", -0x1.7d44d6p126F); LIST.add(-0x1.7d44d6p126F); }
 
     /**
      * This color constant "Ochre" has RGBA8888 code {@code 5F3214FF}, L 0.25882354, A 0.5686275, B 0.627451, alpha 1.0, hue 0.06759023, and saturation 0.28809953.
@@ -2009,7 +1849,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCHRE = -0x1.412284p126F;
-    static { NAMED.put("Ochre", -0x1.412284p126F); LIST.add(-0x1.412284p126F); }
 
     /**
      * This color constant "Dull Green" has RGBA8888 code {@code 53500AFF}, L 0.32941177, A 0.44313726, B 0.68235296, alpha 1.0, hue 0.16226538, and saturation 0.28495333.
@@ -2021,7 +1860,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_GREEN = -0x1.5ce2a8p126F;
-    static { NAMED.put("Dull Green", -0x1.5ce2a8p126F); LIST.add(-0x1.5ce2a8p126F); }
 
     /**
      * This color constant "Army Green" has RGBA8888 code {@code 626200FF}, L 0.4, A 0.42352942, B 0.7254902, alpha 1.0, hue 0.169322, and saturation 0.38188314.
@@ -2033,7 +1871,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARMY_GREEN = -0x1.72d8ccp126F;
-    static { NAMED.put("Army Green", -0x1.72d8ccp126F); LIST.add(-0x1.72d8ccp126F); }
 
     /**
      * This color constant "Driftwood" has RGBA8888 code {@code 8C805AFF}, L 0.5372549, A 0.46666667, B 0.59607846, alpha 1.0, hue 0.12794223, and saturation 0.19231537.
@@ -2045,7 +1882,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIFTWOOD = -0x1.30ef12p126F;
-    static { NAMED.put("Driftwood", -0x1.30ef12p126F); LIST.add(-0x1.30ef12p126F); }
 
     /**
      * This color constant "Dry Brush" has RGBA8888 code {@code AC9400FF}, L 0.6156863, A 0.45490196, B 0.8156863, alpha 1.0, hue 0.14319153, and saturation 0.66269845.
@@ -2057,7 +1893,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_BRUSH = -0x1.a0e93ap126F;
-    static { NAMED.put("Dry Brush", -0x1.a0e93ap126F); LIST.add(-0x1.a0e93ap126F); }
 
     /**
      * This color constant "Mush" has RGBA8888 code {@code B1B10AFF}, L 0.7019608, A 0.3882353, B 0.84313726, alpha 1.0, hue 0.16686177, and saturation 0.65884864.
@@ -2069,7 +1904,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUSH = -0x1.aec766p126F;
-    static { NAMED.put("Mush", -0x1.aec766p126F); LIST.add(-0x1.aec766p126F); }
 
     /**
      * This color constant "Banana Pudding" has RGBA8888 code {@code E6D55AFF}, L 0.84705883, A 0.41960785, B 0.7882353, alpha 1.0, hue 0.14705113, and saturation 0.5436313.
@@ -2081,7 +1915,6 @@ public class Palette {
      * </pre>
      */
     public static final float BANANA_PUDDING = -0x1.92d7bp126F;
-    static { NAMED.put("Banana Pudding", -0x1.92d7bp126F); LIST.add(-0x1.92d7bp126F); }
 
     /**
      * This color constant "Saffron" has RGBA8888 code {@code FFD510FF}, L 0.8666667, A 0.45882353, B 0.9137255, alpha 1.0, hue 0.13766392, and saturation 0.9323539.
@@ -2093,7 +1926,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAFFRON = -0x1.d2ebbap126F;
-    static { NAMED.put("Saffron", -0x1.d2ebbap126F); LIST.add(-0x1.d2ebbap126F); }
 
     /**
      * This color constant "Pencil Yellow" has RGBA8888 code {@code FFEA4AFF}, L 0.92156863, A 0.4117647, B 0.8627451, alpha 1.0, hue 0.1478982, and saturation 0.7061774.
@@ -2105,7 +1937,6 @@ public class Palette {
      * </pre>
      */
     public static final float PENCIL_YELLOW = -0x1.b8d3d6p126F;
-    static { NAMED.put("Pencil Yellow", -0x1.b8d3d6p126F); LIST.add(-0x1.b8d3d6p126F); }
 
     /**
      * This color constant "Chartreuse" has RGBA8888 code {@code C8FF41FF}, L 0.9372549, A 0.2509804, B 0.8784314, alpha 1.0, hue 0.21587668, and saturation 0.741719.
@@ -2117,7 +1948,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHARTREUSE = -0x1.c081dep126F;
-    static { NAMED.put("Chartreuse", -0x1.c081dep126F); LIST.add(-0x1.c081dep126F); }
 
     /**
      * This color constant "Absinthe" has RGBA8888 code {@code 9BF046FF}, L 0.87058824, A 0.20784314, B 0.8352941, alpha 1.0, hue 0.25074324, and saturation 0.66915554.
@@ -2129,7 +1959,6 @@ public class Palette {
      * </pre>
      */
     public static final float ABSINTHE = -0x1.aa6bbcp126F;
-    static { NAMED.put("Absinthe", -0x1.aa6bbcp126F); LIST.add(-0x1.aa6bbcp126F); }
 
     /**
      * This color constant "Infection" has RGBA8888 code {@code 96DC19FF}, L 0.80784315, A 0.23137255, B 0.8666667, alpha 1.0, hue 0.22839671, and saturation 0.7596666.
@@ -2141,7 +1970,6 @@ public class Palette {
      * </pre>
      */
     public static final float INFECTION = -0x1.ba779cp126F;
-    static { NAMED.put("Infection", -0x1.ba779cp126F); LIST.add(-0x1.ba779cp126F); }
 
     /**
      * This color constant "Frog Green" has RGBA8888 code {@code 73C805FF}, L 0.7294118, A 0.21176471, B 0.84705883, alpha 1.0, hue 0.24104258, and saturation 0.7659978.
@@ -2153,7 +1981,6 @@ public class Palette {
      * </pre>
      */
     public static final float FROG_GREEN = -0x1.b06d74p126F;
-    static { NAMED.put("Frog Green", -0x1.b06d74p126F); LIST.add(-0x1.b06d74p126F); }
 
     /**
      * This color constant "Avocado" has RGBA8888 code {@code 6AA805FF}, L 0.627451, A 0.26666668, B 0.80784315, alpha 1.0, hue 0.23017362, and saturation 0.6438126.
@@ -2165,7 +1992,6 @@ public class Palette {
      * </pre>
      */
     public static final float AVOCADO = -0x1.9c894p126F;
-    static { NAMED.put("Avocado", -0x1.9c894p126F); LIST.add(-0x1.9c894p126F); }
 
     /**
      * This color constant "Woodlands" has RGBA8888 code {@code 3C6E14FF}, L 0.41568628, A 0.31764707, B 0.69803923, alpha 1.0, hue 0.2607753, and saturation 0.35154983.
@@ -2177,7 +2003,6 @@ public class Palette {
      * </pre>
      */
     public static final float WOODLANDS = -0x1.64a2d4p126F;
-    static { NAMED.put("Woodlands", -0x1.64a2d4p126F); LIST.add(-0x1.64a2d4p126F); }
 
     /**
      * This color constant "Dark Pine" has RGBA8888 code {@code 283405FF}, L 0.19607843, A 0.41960785, B 0.61960787, alpha 1.0, hue 0.21571764, and saturation 0.18189907.
@@ -2189,7 +2014,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_PINE = -0x1.3cd664p126F;
-    static { NAMED.put("Dark Pine", -0x1.3cd664p126F); LIST.add(-0x1.3cd664p126F); }
 
     /**
      * This color constant "Moss Green" has RGBA8888 code {@code 204608FF}, L 0.25882354, A 0.35686275, B 0.6431373, alpha 1.0, hue 0.27569005, and saturation 0.23775262.
@@ -2201,7 +2025,6 @@ public class Palette {
      * </pre>
      */
     public static final float MOSS_GREEN = -0x1.48b684p126F;
-    static { NAMED.put("Moss Green", -0x1.48b684p126F); LIST.add(-0x1.48b684p126F); }
 
     /**
      * This color constant "Fern Green" has RGBA8888 code {@code 0C5C0CFF}, L 0.33333334, A 0.2901961, B 0.67058825, alpha 1.0, hue 0.34307897, and saturation 0.32846346.
@@ -2213,7 +2036,6 @@ public class Palette {
      * </pre>
      */
     public static final float FERN_GREEN = -0x1.5694aap126F;
-    static { NAMED.put("Fern Green", -0x1.5694aap126F); LIST.add(-0x1.5694aap126F); }
 
     /**
      * This color constant "Forest Glen" has RGBA8888 code {@code 149605FF}, L 0.5411765, A 0.19607843, B 0.7647059, alpha 1.0, hue 0.32301676, and saturation 0.5553477.
@@ -2225,7 +2047,6 @@ public class Palette {
      * </pre>
      */
     public static final float FOREST_GLEN = -0x1.866514p126F;
-    static { NAMED.put("Forest Glen", -0x1.866514p126F); LIST.add(-0x1.866514p126F); }
 
     /**
      * This color constant "Malachite" has RGBA8888 code {@code 0AD70AFF}, L 0.7529412, A 0.09411765, B 0.84705883, alpha 1.0, hue 0.3436411, and saturation 0.84437627.
@@ -2237,7 +2058,6 @@ public class Palette {
      * </pre>
      */
     public static final float MALACHITE = -0x1.b0318p126F;
-    static { NAMED.put("Malachite", -0x1.b0318p126F); LIST.add(-0x1.b0318p126F); }
 
     /**
      * This color constant "Apple Green" has RGBA8888 code {@code 14E60AFF}, L 0.8, A 0.07450981, B 0.8666667, alpha 1.0, hue 0.34085843, and saturation 0.8955814.
@@ -2249,7 +2069,6 @@ public class Palette {
      * </pre>
      */
     public static final float APPLE_GREEN = -0x1.ba2798p126F;
-    static { NAMED.put("Apple Green", -0x1.ba2798p126F); LIST.add(-0x1.ba2798p126F); }
 
     /**
      * This color constant "Celery" has RGBA8888 code {@code 7DFF73FF}, L 0.90588236, A 0.15294118, B 0.75686276, alpha 1.0, hue 0.32405376, and saturation 0.5448559.
@@ -2261,7 +2080,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELERY = -0x1.824fcep126F;
-    static { NAMED.put("Celery", -0x1.824fcep126F); LIST.add(-0x1.824fcep126F); }
 
     /**
      * This color constant "Mint Green" has RGBA8888 code {@code 4BF05AFF}, L 0.84313726, A 0.11372549, B 0.7764706, alpha 1.0, hue 0.35123524, and saturation 0.65875006.
@@ -2273,7 +2091,6 @@ public class Palette {
      * </pre>
      */
     public static final float MINT_GREEN = -0x1.8c3baep126F;
-    static { NAMED.put("Mint Green", -0x1.8c3baep126F); LIST.add(-0x1.8c3baep126F); }
 
     /**
      * This color constant "Emerald" has RGBA8888 code {@code 00C514FF}, L 0.69411767, A 0.11764706, B 0.81960785, alpha 1.0, hue 0.34863964, and saturation 0.77324146.
@@ -2285,7 +2102,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMERALD = -0x1.a23d62p126F;
-    static { NAMED.put("Emerald", -0x1.a23d62p126F); LIST.add(-0x1.a23d62p126F); }
 
     /**
      * This color constant "Prase" has RGBA8888 code {@code 05B450FF}, L 0.6431373, A 0.17254902, B 0.68235296, alpha 1.0, hue 0.40835688, and saturation 0.7060582.
@@ -2297,7 +2113,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRASE = -0x1.5c5948p126F;
-    static { NAMED.put("Prase", -0x1.5c5948p126F); LIST.add(-0x1.5c5948p126F); }
 
     /**
      * This color constant "Eucalyptus" has RGBA8888 code {@code 1C8C4EFF}, L 0.5137255, A 0.2509804, B 0.60784316, alpha 1.0, hue 0.414704, and saturation 0.4710296.
@@ -2309,7 +2124,6 @@ public class Palette {
      * </pre>
      */
     public static final float EUCALYPTUS = -0x1.368106p126F;
-    static { NAMED.put("Eucalyptus", -0x1.368106p126F); LIST.add(-0x1.368106p126F); }
 
     /**
      * This color constant "Zucchini" has RGBA8888 code {@code 123832FF}, L 0.20784314, A 0.40784314, B 0.4862745, alpha 1.0, hue 0.4788686, and saturation 0.16744024.
@@ -2321,7 +2135,6 @@ public class Palette {
      * </pre>
      */
     public static final float ZUCCHINI = -0x1.f8d06ap125F;
-    static { NAMED.put("Zucchini", -0x1.f8d06ap125F); LIST.add(-0x1.f8d06ap125F); }
 
     /**
      * This color constant "Soft Teal" has RGBA8888 code {@code 129880FF}, L 0.56078434, A 0.2784314, B 0.49803922, alpha 1.0, hue 0.47340828, and saturation 0.59005183.
@@ -2333,7 +2146,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOFT_TEAL = -0x1.fe8f1ep125F;
-    static { NAMED.put("Soft Teal", -0x1.fe8f1ep125F); LIST.add(-0x1.fe8f1ep125F); }
 
     /**
      * This color constant "Medium Teal" has RGBA8888 code {@code 06C491FF}, L 0.7058824, A 0.20392157, B 0.54901963, alpha 1.0, hue 0.45728317, and saturation 0.7700313.
@@ -2345,7 +2157,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_TEAL = -0x1.186968p126F;
-    static { NAMED.put("Medium Teal", -0x1.186968p126F); LIST.add(-0x1.186968p126F); }
 
     /**
      * This color constant "Spring Green" has RGBA8888 code {@code 00DE6AFF}, L 0.78039217, A 0.11764706, B 0.7019608, alpha 1.0, hue 0.4131677, and saturation 0.87196785.
@@ -2357,7 +2168,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPRING_GREEN = -0x1.663d8ep126F;
-    static { NAMED.put("Spring Green", -0x1.663d8ep126F); LIST.add(-0x1.663d8ep126F); }
 
     /**
      * This color constant "Turquoise" has RGBA8888 code {@code 2DEBA8FF}, L 0.8352941, A 0.16470589, B 0.5764706, alpha 1.0, hue 0.44345468, and saturation 0.77170014.
@@ -2369,7 +2179,6 @@ public class Palette {
      * </pre>
      */
     public static final float TURQUOISE = -0x1.2655aap126F;
-    static { NAMED.put("Turquoise", -0x1.2655aap126F); LIST.add(-0x1.2655aap126F); }
 
     /**
      * This color constant "Seafoam" has RGBA8888 code {@code 3CFEA5FF}, L 0.89411765, A 0.13333334, B 0.62352943, alpha 1.0, hue 0.42592606, and saturation 0.78078395.
@@ -2381,7 +2190,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAFOAM = -0x1.3e45c8p126F;
-    static { NAMED.put("Seafoam", -0x1.3e45c8p126F); LIST.add(-0x1.3e45c8p126F); }
 
     /**
      * This color constant "Variscite" has RGBA8888 code {@code 6AFFCDFF}, L 0.9137255, A 0.20392157, B 0.53333336, alpha 1.0, hue 0.4470678, and saturation 0.6025887.
@@ -2393,7 +2201,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARISCITE = -0x1.1069d2p126F;
-    static { NAMED.put("Variscite", -0x1.1069d2p126F); LIST.add(-0x1.1069d2p126F); }
 
     /**
      * This color constant "Refreshing Mist" has RGBA8888 code {@code 91EBFFFF}, L 0.88235295, A 0.3529412, B 0.38039216, alpha 1.0, hue 0.5298902, and saturation 0.43663204.
@@ -2405,7 +2212,6 @@ public class Palette {
      * </pre>
      */
     public static final float REFRESHING_MIST = -0x1.c2b5c2p125F;
-    static { NAMED.put("Refreshing Mist", -0x1.c2b5c2p125F); LIST.add(-0x1.c2b5c2p125F); }
 
     /**
      * This color constant "Shining Sky" has RGBA8888 code {@code 55E6FFFF}, L 0.8509804, A 0.30980393, B 0.3529412, alpha 1.0, hue 0.5234004, and saturation 0.67438775.
@@ -2417,7 +2223,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHINING_SKY = -0x1.b49fb2p125F;
-    static { NAMED.put("Shining Sky", -0x1.b49fb2p125F); LIST.add(-0x1.b49fb2p125F); }
 
     /**
      * This color constant "Steam" has RGBA8888 code {@code 7DD7F0FF}, L 0.8156863, A 0.36078432, B 0.36862746, alpha 1.0, hue 0.5353217, and saturation 0.4632638.
@@ -2429,7 +2234,6 @@ public class Palette {
      * </pre>
      */
     public static final float STEAM = -0x1.bcb9ap125F;
-    static { NAMED.put("Steam", -0x1.bcb9ap125F); LIST.add(-0x1.bcb9ap125F); }
 
     /**
      * This color constant "Robin Egg Blue" has RGBA8888 code {@code 08DED5FF}, L 0.8039216, A 0.23921569, B 0.43137255, alpha 1.0, hue 0.49373448, and saturation 0.8728682.
@@ -2441,7 +2245,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROBIN_EGG_BLUE = -0x1.dc7b9ap125F;
-    static { NAMED.put("Robin Egg Blue", -0x1.dc7b9ap125F); LIST.add(-0x1.dc7b9ap125F); }
 
     /**
      * This color constant "Denim Blue" has RGBA8888 code {@code 109CDEFF}, L 0.60784316, A 0.41960785, B 0.25882354, alpha 1.0, hue 0.54973745, and saturation 0.87217.
@@ -2453,7 +2256,6 @@ public class Palette {
      * </pre>
      */
     public static final float DENIM_BLUE = -0x1.84d736p125F;
-    static { NAMED.put("Denim Blue", -0x1.84d736p125F); LIST.add(-0x1.84d736p125F); }
 
     /**
      * This color constant "Deep Teal" has RGBA8888 code {@code 055A5CFF}, L 0.34117648, A 0.37254903, B 0.44705883, alpha 1.0, hue 0.50365025, and saturation 0.36111856.
@@ -2465,7 +2267,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_TEAL = -0x1.e4beaep125F;
-    static { NAMED.put("Deep Teal", -0x1.e4beaep125F); LIST.add(-0x1.e4beaep125F); }
 
     /**
      * This color constant "Navy Blue" has RGBA8888 code {@code 162C52FF}, L 0.18039216, A 0.5137255, B 0.35686275, alpha 1.0, hue 0.6001138, and saturation 0.2492347.
@@ -2477,7 +2278,6 @@ public class Palette {
      * </pre>
      */
     public static final float NAVY_BLUE = -0x1.b7065cp125F;
-    static { NAMED.put("Navy Blue", -0x1.b7065cp125F); LIST.add(-0x1.b7065cp125F); }
 
     /**
      * This color constant "Blueberry" has RGBA8888 code {@code 0F377DFF}, L 0.24705882, A 0.5568628, B 0.2627451, alpha 1.0, hue 0.59627354, and saturation 0.47927895.
@@ -2489,7 +2289,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUEBERRY = -0x1.871c7ep125F;
-    static { NAMED.put("Blueberry", -0x1.871c7ep125F); LIST.add(-0x1.871c7ep125F); }
 
     /**
      * This color constant "Prussian Blue" has RGBA8888 code {@code 004A9CFF}, L 0.3254902, A 0.54901963, B 0.22745098, alpha 1.0, hue 0.58756274, and saturation 0.616922.
@@ -2501,7 +2300,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUSSIAN_BLUE = -0x1.7518a6p125F;
-    static { NAMED.put("Prussian Blue", -0x1.7518a6p125F); LIST.add(-0x1.7518a6p125F); }
 
     /**
      * This color constant "Desert Rain" has RGBA8888 code {@code 326496FF}, L 0.4117647, A 0.4745098, B 0.31764707, alpha 1.0, hue 0.57967246, and saturation 0.41145146.
@@ -2513,7 +2311,6 @@ public class Palette {
      * </pre>
      */
     public static final float DESERT_RAIN = -0x1.a2f2d2p125F;
-    static { NAMED.put("Desert Rain", -0x1.a2f2d2p125F); LIST.add(-0x1.a2f2d2p125F); }
 
     /**
      * This color constant "Electric Blue" has RGBA8888 code {@code 0052F6FF}, L 0.42352942, A 0.69411767, B 0.039215688, alpha 1.0, hue 0.6107855, and saturation 0.9692734.
@@ -2525,7 +2322,6 @@ public class Palette {
      * </pre>
      */
     public static final float ELECTRIC_BLUE = -0x1.1562d8p125F;
-    static { NAMED.put("Electric Blue", -0x1.1562d8p125F); LIST.add(-0x1.1562d8p125F); }
 
     /**
      * This color constant "Hidden Blue" has RGBA8888 code {@code 186ABDFF}, L 0.44313726, A 0.5137255, B 0.22352941, alpha 1.0, hue 0.5764638, and saturation 0.7160662.
@@ -2537,7 +2333,6 @@ public class Palette {
      * </pre>
      */
     public static final float HIDDEN_BLUE = -0x1.7306e2p125F;
-    static { NAMED.put("Hidden Blue", -0x1.7306e2p125F); LIST.add(-0x1.7306e2p125F); }
 
     /**
      * This color constant "Dull Azure" has RGBA8888 code {@code 2378DCFF}, L 0.5058824, A 0.53333336, B 0.18039216, alpha 1.0, hue 0.5863323, and saturation 0.7682454.
@@ -2549,7 +2344,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_AZURE = -0x1.5d1102p125F;
-    static { NAMED.put("Dull Azure", -0x1.5d1102p125F); LIST.add(-0x1.5d1102p125F); }
 
     /**
      * This color constant "Ripped Denim" has RGBA8888 code {@code 699DC3FF}, L 0.627451, A 0.43529412, B 0.34901962, alpha 1.0, hue 0.5693548, and saturation 0.36598355.
@@ -2561,7 +2355,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPPED_DENIM = -0x1.b2df4p125F;
-    static { NAMED.put("Ripped Denim", -0x1.b2df4p125F); LIST.add(-0x1.b2df4p125F); }
 
     /**
      * This color constant "Calm Sky" has RGBA8888 code {@code 4AA4FFFF}, L 0.65882355, A 0.47843137, B 0.20392157, alpha 1.0, hue 0.58040386, and saturation 0.73675936.
@@ -2573,7 +2366,6 @@ public class Palette {
      * </pre>
      */
     public static final float CALM_SKY = -0x1.68f55p125F;
-    static { NAMED.put("Calm Sky", -0x1.68f55p125F); LIST.add(-0x1.68f55p125F); }
 
     /**
      * This color constant "Vapor" has RGBA8888 code {@code 90B0FFFF}, L 0.7254902, A 0.50980395, B 0.25490198, alpha 1.0, hue 0.6147095, and saturation 0.44482845.
@@ -2585,7 +2377,6 @@ public class Palette {
      * </pre>
      */
     public static final float VAPOR = -0x1.830572p125F;
-    static { NAMED.put("Vapor", -0x1.830572p125F); LIST.add(-0x1.830572p125F); }
 
     /**
      * This color constant "Powder Blue" has RGBA8888 code {@code 5AC5FFFF}, L 0.75686276, A 0.39607844, B 0.28235295, alpha 1.0, hue 0.55633545, and saturation 0.66638416.
@@ -2597,7 +2388,6 @@ public class Palette {
      * </pre>
      */
     public static final float POWDER_BLUE = -0x1.90cb82p125F;
-    static { NAMED.put("Powder Blue", -0x1.90cb82p125F); LIST.add(-0x1.90cb82p125F); }
 
     /**
      * This color constant "Suds" has RGBA8888 code {@code BEB9FAFF}, L 0.7764706, A 0.5411765, B 0.3137255, alpha 1.0, hue 0.678534, and saturation 0.25648886.
@@ -2609,7 +2399,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUDS = -0x1.a1158cp125F;
-    static { NAMED.put("Suds", -0x1.a1158cp125F); LIST.add(-0x1.a1158cp125F); }
 
     /**
      * This color constant "Strong Cyan" has RGBA8888 code {@code 00BFFFFF}, L 0.7254902, A 0.38039216, B 0.25490198, alpha 1.0, hue 0.5417181, and saturation 0.99999994.
@@ -2621,7 +2410,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRONG_CYAN = -0x1.82c372p125F;
-    static { NAMED.put("Strong Cyan", -0x1.82c372p125F); LIST.add(-0x1.82c372p125F); }
 
     /**
      * This color constant "Sharp Azure" has RGBA8888 code {@code 007FFFFF}, L 0.54509807, A 0.5686275, B 0.11372549, alpha 1.0, hue 0.58340895, and saturation 0.99999994.
@@ -2633,7 +2421,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHARP_AZURE = -0x1.3b2316p125F;
-    static { NAMED.put("Sharp Azure", -0x1.3b2316p125F); LIST.add(-0x1.3b2316p125F); }
 
     /**
      * This color constant "Blue Eye" has RGBA8888 code {@code 4B7DC8FF}, L 0.52156866, A 0.5058824, B 0.25490198, alpha 1.0, hue 0.5980649, and saturation 0.50186205.
@@ -2645,7 +2432,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_EYE = -0x1.83030ap125F;
-    static { NAMED.put("Blue Eye", -0x1.83030ap125F); LIST.add(-0x1.83030ap125F); }
 
     /**
      * This color constant "Subtlety" has RGBA8888 code {@code 786EF0FF}, L 0.53333336, A 0.65882355, B 0.14901961, alpha 1.0, hue 0.67761904, and saturation 0.5117388.
@@ -2657,7 +2443,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUBTLETY = -0x1.4d511p125F;
-    static { NAMED.put("Subtlety", -0x1.4d511p125F); LIST.add(-0x1.4d511p125F); }
 
     /**
      * This color constant "Rough Sapphire" has RGBA8888 code {@code 4A5AFFFF}, L 0.47058824, A 0.7058824, B 0.050980393, alpha 1.0, hue 0.6474276, and saturation 0.7276903.
@@ -2669,7 +2454,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROUGH_SAPPHIRE = -0x1.1b68fp125F;
-    static { NAMED.put("Rough Sapphire", -0x1.1b68fp125F); LIST.add(-0x1.1b68fp125F); }
 
     /**
      * This color constant "Iris" has RGBA8888 code {@code 6241F6FF}, L 0.42745098, A 0.7764706, B 0.043137256, alpha 1.0, hue 0.69452715, and saturation 0.71376014.
@@ -2681,7 +2465,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRIS = -0x1.178cdap125F;
-    static { NAMED.put("Iris", -0x1.178cdap125F); LIST.add(-0x1.178cdap125F); }
 
     /**
      * This color constant "Cornflower Blue" has RGBA8888 code {@code 3C3CF5FF}, L 0.39215687, A 0.76862746, B 0.015686275, alpha 1.0, hue 0.6602655, and saturation 0.756387.
@@ -2693,7 +2476,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORNFLOWER_BLUE = -0x1.0988c8p125F;
-    static { NAMED.put("Cornflower Blue", -0x1.0988c8p125F); LIST.add(-0x1.0988c8p125F); }
 
     /**
      * This color constant "Polished Sapphire" has RGBA8888 code {@code 101CDAFF}, L 0.29411766, A 0.79607844, B 0.011764706, alpha 1.0, hue 0.64462763, and saturation 0.8623255.
@@ -2705,7 +2487,6 @@ public class Palette {
      * </pre>
      */
     public static final float POLISHED_SAPPHIRE = -0x1.079696p125F;
-    static { NAMED.put("Polished Sapphire", -0x1.079696p125F); LIST.add(-0x1.079696p125F); }
 
     /**
      * This color constant "Royal Blue" has RGBA8888 code {@code 0010BDFF}, L 0.23529412, A 0.7764706, B 0.05490196, alpha 1.0, hue 0.65236634, and saturation 0.7420104.
@@ -2717,7 +2498,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_BLUE = -0x1.1d8c78p125F;
-    static { NAMED.put("Royal Blue", -0x1.1d8c78p125F); LIST.add(-0x1.1d8c78p125F); }
 
     /**
      * This color constant "Indigo" has RGBA8888 code {@code 231094FF}, L 0.19215687, A 0.7254902, B 0.14509805, alpha 1.0, hue 0.6834298, and saturation 0.52079034.
@@ -2729,7 +2509,6 @@ public class Palette {
      * </pre>
      */
     public static final float INDIGO = -0x1.4b7262p125F;
-    static { NAMED.put("Indigo", -0x1.4b7262p125F); LIST.add(-0x1.4b7262p125F); }
 
     /**
      * This color constant "Space Blue" has RGBA8888 code {@code 0C2148FF}, L 0.13333334, A 0.5254902, B 0.3529412, alpha 1.0, hue 0.60048485, and saturation 0.25444847.
@@ -2741,7 +2520,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPACE_BLUE = -0x1.b50c44p125F;
-    static { NAMED.put("Space Blue", -0x1.b50c44p125F); LIST.add(-0x1.b50c44p125F); }
 
     /**
      * This color constant "Thick Amethyst" has RGBA8888 code {@code 5010B0FF}, L 0.27058825, A 0.7764706, B 0.1254902, alpha 1.0, hue 0.73230356, and saturation 0.6312746.
@@ -2753,7 +2531,6 @@ public class Palette {
      * </pre>
      */
     public static final float THICK_AMETHYST = -0x1.418c8ap125F;
-    static { NAMED.put("Thick Amethyst", -0x1.418c8ap125F); LIST.add(-0x1.418c8ap125F); }
 
     /**
      * This color constant "Juicy Grape" has RGBA8888 code {@code 6010D0FF}, L 0.3254902, A 0.8156863, B 0.07058824, alpha 1.0, hue 0.73120856, and saturation 0.74884105.
@@ -2765,7 +2542,6 @@ public class Palette {
      * </pre>
      */
     public static final float JUICY_GRAPE = -0x1.25a0a6p125F;
-    static { NAMED.put("Juicy Grape", -0x1.25a0a6p125F); LIST.add(-0x1.25a0a6p125F); }
 
     /**
      * This color constant "Blacklight Glow" has RGBA8888 code {@code 8732D2FF}, L 0.4117647, A 0.7882353, B 0.13725491, alpha 1.0, hue 0.75183916, and saturation 0.6284052.
@@ -2777,7 +2553,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACKLIGHT_GLOW = -0x1.4792d2p125F;
-    static { NAMED.put("Blacklight Glow", -0x1.4792d2p125F); LIST.add(-0x1.4792d2p125F); }
 
     /**
      * This color constant "Purple Freesia" has RGBA8888 code {@code 9C41FFFF}, L 0.49411765, A 0.8235294, B 0.07450981, alpha 1.0, hue 0.7441961, and saturation 0.7432656.
@@ -2789,7 +2564,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE_FREESIA = -0x1.27a4fcp125F;
-    static { NAMED.put("Purple Freesia", -0x1.27a4fcp125F); LIST.add(-0x1.27a4fcp125F); }
 
     /**
      * This color constant "Thin Amethyst" has RGBA8888 code {@code 7F00FFFF}, L 0.40784314, A 0.8862745, B 0.0, alpha 1.0, hue 0.7462625, and saturation 0.9817991.
@@ -2801,7 +2575,6 @@ public class Palette {
      * </pre>
      */
     public static final float THIN_AMETHYST = -0x1.01c4dp125F;
-    static { NAMED.put("Thin Amethyst", -0x1.01c4dp125F); LIST.add(-0x1.01c4dp125F); }
 
     /**
      * This color constant "Orchid" has RGBA8888 code {@code BD62FFFF}, L 0.5882353, A 0.78039217, B 0.14901961, alpha 1.0, hue 0.7617038, and saturation 0.6132724.
@@ -2813,7 +2586,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORCHID = -0x1.4d8f2cp125F;
-    static { NAMED.put("Orchid", -0x1.4d8f2cp125F); LIST.add(-0x1.4d8f2cp125F); }
 
     /**
      * This color constant "Lavender" has RGBA8888 code {@code B991FFFF}, L 0.6784314, A 0.6509804, B 0.22352941, alpha 1.0, hue 0.7253736, and saturation 0.43038362.
@@ -2825,7 +2597,6 @@ public class Palette {
      * </pre>
      */
     public static final float LAVENDER = -0x1.734d5ap125F;
-    static { NAMED.put("Lavender", -0x1.734d5ap125F); LIST.add(-0x1.734d5ap125F); }
 
     /**
      * This color constant "Lilac" has RGBA8888 code {@code D7A5FFFF}, L 0.7529412, A 0.63529414, B 0.28235295, alpha 1.0, hue 0.75710464, and saturation 0.35017365.
@@ -2837,7 +2608,6 @@ public class Palette {
      * </pre>
      */
     public static final float LILAC = -0x1.91458p125F;
-    static { NAMED.put("Lilac", -0x1.91458p125F); LIST.add(-0x1.91458p125F); }
 
     /**
      * This color constant "Soap" has RGBA8888 code {@code D7C3FAFF}, L 0.8235294, A 0.54901963, B 0.34901962, alpha 1.0, hue 0.7249754, and saturation 0.21598804.
@@ -2849,7 +2619,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOAP = -0x1.b319a4p125F;
-    static { NAMED.put("Soap", -0x1.b319a4p125F); LIST.add(-0x1.b319a4p125F); }
 
     /**
      * This color constant "Pink Tutu" has RGBA8888 code {@code F8C6FCFF}, L 0.85882354, A 0.5921569, B 0.37254903, alpha 1.0, hue 0.81735027, and saturation 0.2111888.
@@ -2861,7 +2630,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_TUTU = -0x1.bf2fb6p125F;
-    static { NAMED.put("Pink Tutu", -0x1.bf2fb6p125F); LIST.add(-0x1.bf2fb6p125F); }
 
     /**
      * This color constant "Thistle" has RGBA8888 code {@code E673FFFF}, L 0.6666667, A 0.78431374, B 0.21568628, alpha 1.0, hue 0.80145264, and saturation 0.54688895.
@@ -2873,7 +2641,6 @@ public class Palette {
      * </pre>
      */
     public static final float THISTLE = -0x1.6f9154p125F;
-    static { NAMED.put("Thistle", -0x1.6f9154p125F); LIST.add(-0x1.6f9154p125F); }
 
     /**
      * This color constant "Heliotrope" has RGBA8888 code {@code FF52FFFF}, L 0.654902, A 0.88235295, B 0.20392157, alpha 1.0, hue 0.8332463, and saturation 0.67724425.
@@ -2885,7 +2652,6 @@ public class Palette {
      * </pre>
      */
     public static final float HELIOTROPE = -0x1.69c34ep125F;
-    static { NAMED.put("Heliotrope", -0x1.69c34ep125F); LIST.add(-0x1.69c34ep125F); }
 
     /**
      * This color constant "Purple" has RGBA8888 code {@code DA20E0FF}, L 0.53333336, A 0.8901961, B 0.19607843, alpha 1.0, hue 0.8261538, and saturation 0.7505698.
@@ -2897,7 +2663,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE = -0x1.65c71p125F;
-    static { NAMED.put("Purple", -0x1.65c71p125F); LIST.add(-0x1.65c71p125F); }
 
     /**
      * This color constant "Wisteria" has RGBA8888 code {@code BD29FFFF}, L 0.5137255, A 0.8862745, B 0.09019608, alpha 1.0, hue 0.781, and saturation 0.83751845.
@@ -2909,7 +2674,6 @@ public class Palette {
      * </pre>
      */
     public static final float WISTERIA = -0x1.2fc506p125F;
-    static { NAMED.put("Wisteria", -0x1.2fc506p125F); LIST.add(-0x1.2fc506p125F); }
 
     /**
      * This color constant "Medium Plum" has RGBA8888 code {@code BD10C5FF}, L 0.45882353, A 0.8627451, B 0.21568628, alpha 1.0, hue 0.82479155, and saturation 0.7183889.
@@ -2921,7 +2685,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_PLUM = -0x1.6fb8eap125F;
-    static { NAMED.put("Medium Plum", -0x1.6fb8eap125F); LIST.add(-0x1.6fb8eap125F); }
 
     /**
      * This color constant "Violet" has RGBA8888 code {@code 8C14BEFF}, L 0.37254903, A 0.8156863, B 0.16470589, alpha 1.0, hue 0.78036857, and saturation 0.66359895.
@@ -2933,7 +2696,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET = -0x1.55a0bep125F;
-    static { NAMED.put("Violet", -0x1.55a0bep125F); LIST.add(-0x1.55a0bep125F); }
 
     /**
      * This color constant "Grape Lollipop" has RGBA8888 code {@code 5A187BFF}, L 0.24313726, A 0.70980394, B 0.27058825, alpha 1.0, hue 0.77615, and saturation 0.39097723.
@@ -2945,7 +2707,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_LOLLIPOP = -0x1.8b6a7cp125F;
-    static { NAMED.put("Grape Lollipop", -0x1.8b6a7cp125F); LIST.add(-0x1.8b6a7cp125F); }
 
     /**
      * This color constant "Mulberry" has RGBA8888 code {@code 641464FF}, L 0.23921569, A 0.7019608, B 0.34509805, alpha 1.0, hue 0.8307047, and saturation 0.311518.
@@ -2957,7 +2718,6 @@ public class Palette {
      * </pre>
      */
     public static final float MULBERRY = -0x1.b1667ap125F;
-    static { NAMED.put("Mulberry", -0x1.b1667ap125F); LIST.add(-0x1.b1667ap125F); }
 
     /**
      * This color constant "Grape Soda" has RGBA8888 code {@code 410062FF}, L 0.15294118, A 0.7019608, B 0.2784314, alpha 1.0, hue 0.7737419, and saturation 0.38671696.
@@ -2969,7 +2729,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_SODA = -0x1.8f664ep125F;
-    static { NAMED.put("Grape Soda", -0x1.8f664ep125F); LIST.add(-0x1.8f664ep125F); }
 
     /**
      * This color constant "Eggplant" has RGBA8888 code {@code 320A46FF}, L 0.11372549, A 0.6392157, B 0.34509805, alpha 1.0, hue 0.77355516, and saturation 0.23597795.
@@ -2981,7 +2740,6 @@ public class Palette {
      * </pre>
      */
     public static final float EGGPLANT = -0x1.b1463ap125F;
-    static { NAMED.put("Eggplant", -0x1.b1463ap125F); LIST.add(-0x1.b1463ap125F); }
 
     /**
      * This color constant "Cherry Syrup" has RGBA8888 code {@code 551937FF}, L 0.19607843, A 0.6392157, B 0.46666667, alpha 1.0, hue 0.9158594, and saturation 0.23491046.
@@ -2993,7 +2751,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHERRY_SYRUP = -0x1.ef4664p125F;
-    static { NAMED.put("Cherry Syrup", -0x1.ef4664p125F); LIST.add(-0x1.ef4664p125F); }
 
     /**
      * This color constant "Plum Juice" has RGBA8888 code {@code A01982FF}, L 0.37254903, A 0.78039217, B 0.3529412, alpha 1.0, hue 0.8681184, and saturation 0.5210962.
@@ -3005,7 +2762,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLUM_JUICE = -0x1.b58ebep125F;
-    static { NAMED.put("Plum Juice", -0x1.b58ebep125F); LIST.add(-0x1.b58ebep125F); }
 
     /**
      * This color constant "Fruit Punch" has RGBA8888 code {@code C80078FF}, L 0.43529412, A 0.83137256, B 0.4392157, alpha 1.0, hue 0.9000437, and saturation 0.77450126.
@@ -3017,7 +2773,6 @@ public class Palette {
      * </pre>
      */
     public static final float FRUIT_PUNCH = -0x1.e1a8dep125F;
-    static { NAMED.put("Fruit Punch", -0x1.e1a8dep125F); LIST.add(-0x1.e1a8dep125F); }
 
     /**
      * This color constant "Bubble Gum" has RGBA8888 code {@code FF50BFFF}, L 0.62352943, A 0.84313726, B 0.3647059, alpha 1.0, hue 0.89278346, and saturation 0.68673277.
@@ -3029,7 +2784,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE_GUM = -0x1.bbaf3ep125F;
-    static { NAMED.put("Bubble Gum", -0x1.bbaf3ep125F); LIST.add(-0x1.bbaf3ep125F); }
 
     /**
      * This color constant "Pink Lemonade" has RGBA8888 code {@code FF6AC5FF}, L 0.6627451, A 0.7921569, B 0.38039216, alpha 1.0, hue 0.8977584, and saturation 0.5787196.
@@ -3041,7 +2795,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_LEMONADE = -0x1.c39552p125F;
-    static { NAMED.put("Pink Lemonade", -0x1.c39552p125F); LIST.add(-0x1.c39552p125F); }
 
     /**
      * This color constant "Shrimp" has RGBA8888 code {@code FAA0B9FF}, L 0.75686276, A 0.64705884, B 0.48235294, alpha 1.0, hue 0.95306575, and saturation 0.3533805.
@@ -3053,7 +2806,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHRIMP = -0x1.f74b82p125F;
-    static { NAMED.put("Shrimp", -0x1.f74b82p125F); LIST.add(-0x1.f74b82p125F); }
 
     /**
      * This color constant "Flamingo" has RGBA8888 code {@code FC3A8CFF}, L 0.5764706, A 0.84705883, B 0.4862745, alpha 1.0, hue 0.9295814, and saturation 0.7593678.
@@ -3065,7 +2817,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLAMINGO = -0x1.f9b126p125F;
-    static { NAMED.put("Flamingo", -0x1.f9b126p125F); LIST.add(-0x1.f9b126p125F); }
 
     /**
      * This color constant "Rose" has RGBA8888 code {@code E61E78FF}, L 0.50980395, A 0.84705883, B 0.49411765, alpha 1.0, hue 0.9246218, and saturation 0.7849794.
@@ -3077,7 +2828,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSE = -0x1.fdb104p125F;
-    static { NAMED.put("Rose", -0x1.fdb104p125F); LIST.add(-0x1.fdb104p125F); }
 
     /**
      * This color constant "Carmine" has RGBA8888 code {@code BD1039FF}, L 0.40392157, A 0.7921569, B 0.61960787, alpha 1.0, hue 0.96037096, and saturation 0.67988026.
@@ -3089,7 +2839,6 @@ public class Palette {
      * </pre>
      */
     public static final float CARMINE = -0x1.3d94cep126F;
-    static { NAMED.put("Carmine", -0x1.3d94cep126F); LIST.add(-0x1.3d94cep126F); }
 
     /**
      * This color constant "Bologna" has RGBA8888 code {@code 98344DFF}, L 0.37254903, A 0.69411767, B 0.5254902, alpha 1.0, hue 0.9581031, and saturation 0.387994.
@@ -3101,7 +2850,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOLOGNA = -0x1.0d62bep126F;
-    static { NAMED.put("Bologna", -0x1.0d62bep126F); LIST.add(-0x1.0d62bep126F); }
 
     /**
      * This color constant "Raspberry" has RGBA8888 code {@code 911437FF}, L 0.3137255, A 0.73333335, B 0.5568628, alpha 1.0, hue 0.9527958, and saturation 0.48860472.
@@ -3113,7 +2861,82 @@ public class Palette {
      * </pre>
      */
     public static final float RASPBERRY = -0x1.1d76ap126F;
-    static { NAMED.put("Raspberry", -0x1.1d76ap126F); LIST.add(-0x1.1d76ap126F); }
+
+    static {
+        // the names and colors are in the same order as the constants above
+        final String[] names = {
+                "Transparent", "Black", "Coal Black", "Shadow", "Graphite", "Dark Gray", "Lead", "Iron", "Gray",
+                "Chinchilla", "Greyhound", "Silver", "Light Gray", "Platinum", "Cloud", "White", "Seawater",
+                "Hospital Green", "Cyan", "Bubble", "Periwinkle", "Blue", "Faded Blue", "Ocean Blue", "Stygian Blue",
+                "Deep Purple", "Tyrian Purple", "Magenta", "Bubblegum Pink", "Pork Chop", "Raw Meat", "Red", "Putty",
+                "Sienna", "Seal Brown", "Mummy Brown", "Fawn", "Orange", "Peach", "Cream", "Yellow", "Earwax", "Umber",
+                "Ivy Green", "Jade", "Green", "Celadon", "Puce", "Beige", "Wet Stone", "Slow Creek", "Slate Gray",
+                "Light Skin 1", "Light Skin 2", "Light Skin 3", "Light Skin 4", "Light Skin 5", "Light Skin 6",
+                "Light Skin 7", "Light Skin 8", "Light Skin 9", "Dark Skin 1", "Dark Skin 2", "Dark Skin 3",
+                "Pink Skin 1", "Pink Skin 2", "Pink Skin 3", "Pink Skin 4", "Bronze Skin 4", "Bronze Skin 3",
+                "Bronze Skin 2", "Bronze Skin 1", "Taupe", "Drab Green", "Lizard Scales", "Cricket", "Olive Oil", "Dun",
+                "Corn Silk", "Tan", "Straw", "Honeydew", "Tarnish", "Pea Soup", "Marsh", "Asparagus", "Peat Bog",
+                "Deep Jungle", "Pine Green", "Olive Green", "Gray Green", "Maidenhair Fern", "Kelly Green",
+                "Dusty Green", "Garter Snake", "Silver Green", "Pistachio", "Angel Wing", "Sage Green", "Dried Sage",
+                "Artichoke", "Viridian", "Floral Foam", "Hunter Green", "Dark Teal", "Kyanite", "Spearmint",
+                "Amazonite", "Pastel Sky", "Aquamarine", "Dust Bunny", "Patina", "Chipped Granite", "Blue Smoke",
+                "Air Force Blue", "Cold Iron", "Dreary Blue", "Murk", "Ninja", "Watercolor Black", "Iolite",
+                "Boysenberry", "Watercolor Gray", "Blue Steel", "Twilight Cloud", "Smog", "Tropic Mist", "Feather Down",
+                "Mild Violet", "Violet Cushions", "Dull Violet", "Royal Violet", "Eminence", "Prune", "Dusty Grape",
+                "Pink Violet", "Ripe Plum", "Mauve", "Ham", "Cotton Candy", "Silver Pink", "Tea Rose", "Old Rose",
+                "Dusty Pink", "Roseate Spoonbill", "Thulian Pink", "Brown Velvet", "Nightshade", "Scribe Ink",
+                "Varnish", "Cedar Wood", "Hot Sauce", "Lurid Red", "Brick", "Bright Red", "Embers", "Salmon",
+                "Taxicab Yellow", "Apricot", "Burnt Yellow", "Dry Pepper", "Redwood", "Koa", "Ochre", "Dull Green",
+                "Army Green", "Driftwood", "Dry Brush", "Mush", "Banana Pudding", "Saffron", "Pencil Yellow",
+                "Chartreuse", "Absinthe", "Infection", "Frog Green", "Avocado", "Woodlands", "Dark Pine", "Moss Green",
+                "Fern Green", "Forest Glen", "Malachite", "Apple Green", "Celery", "Mint Green", "Emerald", "Prase",
+                "Eucalyptus", "Zucchini", "Soft Teal", "Medium Teal", "Spring Green", "Turquoise", "Seafoam",
+                "Variscite", "Refreshing Mist", "Shining Sky", "Steam", "Robin Egg Blue", "Denim Blue", "Deep Teal",
+                "Navy Blue", "Blueberry", "Prussian Blue", "Desert Rain", "Electric Blue", "Hidden Blue", "Dull Azure",
+                "Ripped Denim", "Calm Sky", "Vapor", "Powder Blue", "Suds", "Strong Cyan", "Sharp Azure", "Blue Eye",
+                "Subtlety", "Rough Sapphire", "Iris", "Cornflower Blue", "Polished Sapphire", "Royal Blue", "Indigo",
+                "Space Blue", "Thick Amethyst", "Juicy Grape", "Blacklight Glow", "Purple Freesia", "Thin Amethyst",
+                "Orchid", "Lavender", "Lilac", "Soap", "Pink Tutu", "Thistle", "Heliotrope", "Purple", "Wisteria",
+                "Medium Plum", "Violet", "Grape Lollipop", "Mulberry", "Grape Soda", "Eggplant", "Cherry Syrup",
+                "Plum Juice", "Fruit Punch", "Bubble Gum", "Pink Lemonade", "Shrimp", "Flamingo", "Rose", "Carmine",
+                "Bologna", "Raspberry"
+        };
+        final float[] colors = {
+                TRANSPARENT, BLACK, COAL_BLACK, SHADOW, GRAPHITE, DARK_GRAY, LEAD, IRON, GRAY, CHINCHILLA, GREYHOUND,
+                SILVER, LIGHT_GRAY, PLATINUM, CLOUD, WHITE, SEAWATER, HOSPITAL_GREEN, CYAN, BUBBLE, PERIWINKLE, BLUE,
+                FADED_BLUE, OCEAN_BLUE, STYGIAN_BLUE, DEEP_PURPLE, TYRIAN_PURPLE, MAGENTA, BUBBLEGUM_PINK, PORK_CHOP,
+                RAW_MEAT, RED, PUTTY, SIENNA, SEAL_BROWN, MUMMY_BROWN, FAWN, ORANGE, PEACH, CREAM, YELLOW, EARWAX,
+                UMBER, IVY_GREEN, JADE, GREEN, CELADON, PUCE, BEIGE, WET_STONE, SLOW_CREEK, SLATE_GRAY, LIGHT_SKIN_1,
+                LIGHT_SKIN_2, LIGHT_SKIN_3, LIGHT_SKIN_4, LIGHT_SKIN_5, LIGHT_SKIN_6, LIGHT_SKIN_7, LIGHT_SKIN_8,
+                LIGHT_SKIN_9, DARK_SKIN_1, DARK_SKIN_2, DARK_SKIN_3, PINK_SKIN_1, PINK_SKIN_2, PINK_SKIN_3, PINK_SKIN_4,
+                BRONZE_SKIN_4, BRONZE_SKIN_3, BRONZE_SKIN_2, BRONZE_SKIN_1, TAUPE, DRAB_GREEN, LIZARD_SCALES, CRICKET,
+                OLIVE_OIL, DUN, CORN_SILK, TAN, STRAW, HONEYDEW, TARNISH, PEA_SOUP, MARSH, ASPARAGUS, PEAT_BOG,
+                DEEP_JUNGLE, PINE_GREEN, OLIVE_GREEN, GRAY_GREEN, MAIDENHAIR_FERN, KELLY_GREEN, DUSTY_GREEN,
+                GARTER_SNAKE, SILVER_GREEN, PISTACHIO, ANGEL_WING, SAGE_GREEN, DRIED_SAGE, ARTICHOKE, VIRIDIAN,
+                FLORAL_FOAM, HUNTER_GREEN, DARK_TEAL, KYANITE, SPEARMINT, AMAZONITE, PASTEL_SKY, AQUAMARINE, DUST_BUNNY,
+                PATINA, CHIPPED_GRANITE, BLUE_SMOKE, AIR_FORCE_BLUE, COLD_IRON, DREARY_BLUE, MURK, NINJA,
+                WATERCOLOR_BLACK, IOLITE, BOYSENBERRY, WATERCOLOR_GRAY, BLUE_STEEL, TWILIGHT_CLOUD, SMOG, TROPIC_MIST,
+                FEATHER_DOWN, MILD_VIOLET, VIOLET_CUSHIONS, DULL_VIOLET, ROYAL_VIOLET, EMINENCE, PRUNE, DUSTY_GRAPE,
+                PINK_VIOLET, RIPE_PLUM, MAUVE, HAM, COTTON_CANDY, SILVER_PINK, TEA_ROSE, OLD_ROSE, DUSTY_PINK,
+                ROSEATE_SPOONBILL, THULIAN_PINK, BROWN_VELVET, NIGHTSHADE, SCRIBE_INK, VARNISH, CEDAR_WOOD, HOT_SAUCE,
+                LURID_RED, BRICK, BRIGHT_RED, EMBERS, SALMON, TAXICAB_YELLOW, APRICOT, BURNT_YELLOW, DRY_PEPPER,
+                REDWOOD, KOA, OCHRE, DULL_GREEN, ARMY_GREEN, DRIFTWOOD, DRY_BRUSH, MUSH, BANANA_PUDDING, SAFFRON,
+                PENCIL_YELLOW, CHARTREUSE, ABSINTHE, INFECTION, FROG_GREEN, AVOCADO, WOODLANDS, DARK_PINE, MOSS_GREEN,
+                FERN_GREEN, FOREST_GLEN, MALACHITE, APPLE_GREEN, CELERY, MINT_GREEN, EMERALD, PRASE, EUCALYPTUS,
+                ZUCCHINI, SOFT_TEAL, MEDIUM_TEAL, SPRING_GREEN, TURQUOISE, SEAFOAM, VARISCITE, REFRESHING_MIST,
+                SHINING_SKY, STEAM, ROBIN_EGG_BLUE, DENIM_BLUE, DEEP_TEAL, NAVY_BLUE, BLUEBERRY, PRUSSIAN_BLUE,
+                DESERT_RAIN, ELECTRIC_BLUE, HIDDEN_BLUE, DULL_AZURE, RIPPED_DENIM, CALM_SKY, VAPOR, POWDER_BLUE, SUDS,
+                STRONG_CYAN, SHARP_AZURE, BLUE_EYE, SUBTLETY, ROUGH_SAPPHIRE, IRIS, CORNFLOWER_BLUE, POLISHED_SAPPHIRE,
+                ROYAL_BLUE, INDIGO, SPACE_BLUE, THICK_AMETHYST, JUICY_GRAPE, BLACKLIGHT_GLOW, PURPLE_FREESIA,
+                THIN_AMETHYST, ORCHID, LAVENDER, LILAC, SOAP, PINK_TUTU, THISTLE, HELIOTROPE, PURPLE, WISTERIA,
+                MEDIUM_PLUM, VIOLET, GRAPE_LOLLIPOP, MULBERRY, GRAPE_SODA, EGGPLANT, CHERRY_SYRUP, PLUM_JUICE,
+                FRUIT_PUNCH, BUBBLE_GUM, PINK_LEMONADE, SHRIMP, FLAMINGO, ROSE, CARMINE, BOLOGNA, RASPBERRY
+        };
+        LIST.addAll(colors);
+        for (int i = 0; i < names.length; i++) {
+            NAMED.put(names[i], colors[i]);
+        }
+    }
 
     /**
      * All names for colors in this palette, in alphabetical order. You can fetch the corresponding packed float color
@@ -3133,30 +2956,89 @@ public class Palette {
      */
     public static final Array<String> NAMES_BY_LIGHTNESS = new Array<>(NAMES);
     static {
+        // each color's sort keys are computed once here, instead of twice in every comparison
+        final int count = NAMES.size;
+        final ObjectIntMap<String> indices = new ObjectIntMap<>(count);
+        final int[] alphas = new int[count];
+        final float[] saturations = new float[count], hues = new float[count], lights = new float[count];
+        for (int i = 0; i < count; i++) {
+            final String name = NAMES.get(i);
+            final float color = NAMED.get(name, TRANSPARENT);
+            indices.put(name, i);
+            alphas[i] = ColorTools.alphaInt(color);
+            saturations[i] = ColorTools.saturation(color);
+            hues[i] = ColorTools.hue(color);
+            lights[i] = ColorTools.channelL(color);
+        }
         NAMES_BY_HUE.sort(new Comparator<String>() {
             public int compare(String o1, String o2) {
-                final float c1 = NAMED.get(o1, TRANSPARENT), c2 = NAMED.get(o2, TRANSPARENT);
-                if(ColorTools.alphaInt(c1) < 128) return -10000;
-                else if(ColorTools.alphaInt(c2) < 128) return 10000;
-                final float s1 = ColorTools.saturation(c1), s2 = ColorTools.saturation(c2);
+                final int i1 = indices.get(o1, 0), i2 = indices.get(o2, 0);
+                if(alphas[i1] < 128) return -10000;
+                else if(alphas[i2] < 128) return 10000;
+                final float s1 = saturations[i1], s2 = saturations[i2];
                 if(s1 <= 0.05f && s2 > 0.05f)
                     return -1000;
                 else if(s1 > 0.05f && s2 <= 0.05f)
                     return 1000;
                 else if(s1 <= 0.05f && s2 <= 0.05f)
-                    return (int)Math.signum(ColorTools.channelL(c1) - ColorTools.channelL(c2));
+                    return (int)Math.signum(lights[i1] - lights[i2]);
                 else
-                    return 2 * (int)Math.signum(ColorTools.hue(c1) - ColorTools.hue(c2))
-                            + (int)Math.signum(ColorTools.channelL(c1) - ColorTools.channelL(c2));
+                    return 2 * (int)Math.signum(hues[i1] - hues[i2])
+                            + (int)Math.signum(lights[i1] - lights[i2]);
             }
         });
         NAMES_BY_LIGHTNESS.sort(new Comparator<String>() {
             public int compare(String o1, String o2) {
-                return Float.compare(ColorTools.channelL(NAMED.get(o1, TRANSPARENT)), ColorTools.channelL(NAMED.get(o2, TRANSPARENT)));
+                return Float.compare(lights[indices.get(o1, 0)], lights[indices.get(o2, 0)]);
             }
         });
     }
 
+    /**
+     * A read-only copy of {@link #NAMED} that looks up names without regard to case, so "Ocean Blue" and "ocean blue"
+     * find the same color. It can look up a name in any region of a CharSequence without allocating, and can be shared
+     * freely between threads. NAMED is copied the first time this is used, and later changes to NAMED aren't seen here.
+     */
+    public static final ColorNameTable NAME_TABLE = new ColorNameTable(NAMED);
+
+    private static final NamedColorTree NEAREST = new NamedColorTree(NAMED, new NamedColorTree.Converter() {
+        public float toOklab(float color) {
+            return com.github.tommyettinger.colorful.oklab.ColorTools.fromRGBA8888(ColorTools.toRGBA8888(color));
+        }
+    });
+
+    /**
+     * Finds the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. This searches an
+     * index of the named colors that is built the first time it is needed, and skips mostly-transparent colors.
+     * @param color a packed CIELAB float color
+     * @return the closest named color, as a packed CIELAB float
+     */
+    public static float nearest(final float color) {
+        return NEAREST.nearest(color);
+    }
+
+    /**
+     * Finds the name of the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. If
+     * two named colors are equally close, this returns the name that is first alphabetically.
+     * @param color a packed CIELAB float color
+     * @return the name of the closest named color, which can be looked up in {@link #NAMED}
+     */
+    public static String nearestName(final float color) {
+        return NEAREST.nearestName(color);
+    }
+
+    /**
+     * Finds the {@code k} colors in {@link #NAMED} that are closest to {@code color}, measuring distance in Oklab, and
+     * writes them into {@code out} with the closest first. This doesn't allocate once the index has been built.
+     * @param color a packed CIELAB float color
+     * @param k how many colors to find
+     * @param out will receive up to k packed CIELAB float colors, starting at index 0
+     * @return how many colors were written to out, which is less than k if out is shorter than k
+     */
+    public static int kNearest(final float color, final int k, final float[] out) {
+        return NEAREST.kNearest(color, k, out);
+    }
+
     /**
      * Changes the existing RGBA Color instances in {@link Colors} to use CIELAB and so be able to be shown normally by
      * {@link ColorfulBatch} or a Batch using {@link com.github.tommyettinger.colorful.Shaders#fragmentShaderCielab}.
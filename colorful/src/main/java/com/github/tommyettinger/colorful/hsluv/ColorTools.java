@@ -174,6 +174,24 @@ public class ColorTools {
             return (turning * L) / (1e-20f + (L + shape * d));
     }
 
+    /**
+     * {@link #forwardGamma(float)} of each possible 8-bit RGB channel value, scaled to the 0 to 1 range the same way
+     * {@link #fromRGBA8888(int)} scales it.
+     */
+    private static final float[] FORWARD_GAMMA = new float[256];
+    /**
+     * {@link #reverseLight(float)} of each possible 8-bit lightness channel value of a packed HSLuv color, divided by
+     * 255.
+     */
+    private static final float[] REVERSE_LIGHT = new float[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            FORWARD_GAMMA[i] = forwardGamma(i * 0x1.010101010101p-8f);
+            REVERSE_LIGHT[i] = reverseLight(i / 255f);
+        }
+    }
+
     private static final float[][] m = new float[][] {
             new float[] {+3.2404542f, -1.5371385f, -0.4985314f},
             new float[] {-0.9692660f, +1.8760108f, +0.0415560f},
@@ -193,7 +211,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(packed);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -204,7 +222,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -247,7 +265,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(packed);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -258,7 +276,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -301,7 +319,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(packed);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -312,7 +330,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -369,9 +387,9 @@ public class ColorTools {
      * @return a packed float as HSLuv, which this class can use
      */
     public static float fromRGBA8888(final int rgba) {
-        final float r = forwardGamma((rgba >>> 24) * 0x1.010101010101p-8f);
-        final float g = forwardGamma((rgba >>> 16 & 0xFF) * 0x1.010101010101p-8f);
-        final float b = forwardGamma((rgba >>> 8 & 0xFF) * 0x1.010101010101p-8f);
+        final float r = FORWARD_GAMMA[rgba >>> 24];
+        final float g = FORWARD_GAMMA[rgba >>> 16 & 0xFF];
+        final float b = FORWARD_GAMMA[rgba >>> 8 & 0xFF];
 
         final float x = /* forwardXYZ */(0.4124564f * r  + 0.3575761f * g + 0.1804375f * b);
         final float y = /* forwardXYZ */(0.2126729f * r  + 0.7151522f * g + 0.0721750f * b);
@@ -417,9 +435,9 @@ public class ColorTools {
      */
     public static float fromRGBA(final float packed) {
         final int abgr = NumberUtils.floatToRawIntBits(packed);
-        final float r = forwardGamma((abgr & 0xFF) * 0x1.010101010101p-8f);
-        final float g = forwardGamma((abgr >>> 8 & 0xFF) * 0x1.010101010101p-8f);
-        final float b = forwardGamma((abgr >>> 16 & 0xFF) * 0x1.010101010101p-8f);
+        final float r = FORWARD_GAMMA[abgr & 0xFF];
+        final float g = FORWARD_GAMMA[abgr >>> 8 & 0xFF];
+        final float b = FORWARD_GAMMA[abgr >>> 16 & 0xFF];
 
         final float x = /* forwardXYZ */(0.4124564f * r  + 0.3575761f * g + 0.1804375f * b);
         final float y = /* forwardXYZ */(0.2126729f * r  + 0.7151522f * g + 0.0721750f * b);
@@ -568,7 +586,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -579,7 +597,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -617,7 +635,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -628,7 +646,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -666,7 +684,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -677,7 +695,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -725,7 +743,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -736,7 +754,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -774,7 +792,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -785,7 +803,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -823,7 +841,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -834,7 +852,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -889,7 +907,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         if (L > 0.99999f) {
@@ -897,7 +915,7 @@ public class ColorTools {
         } else if (L < 0.00001f) {
             return 0f;
         } else
-            return chromaLimit(H, L) * S;
+            return packedChromaLimit(decoded) * S;
     }
     /**
      * Given a hue and lightness, this gets the (exact) maximum chroma possible for that hue-lightness
@@ -934,6 +952,34 @@ public class ColorTools {
         return line2 / (sin - line1 * cos);
     }
 
+    /**
+     * Holds {@link #chromaLimit(float, float)} for every H byte and L byte of a packed HSLuv color, indexed by
+     * {@code L << 8 | H}, using the same H and L a packed color decodes to (H divided by 255, and L passed through
+     * {@link #reverseLight(float)}). This is only built the first time it is needed, which takes a few milliseconds.
+     */
+    private static final class ChromaLimits {
+        static final float[] TABLE = new float[65536];
+
+        static {
+            for (int l = 0; l < 256; l++) {
+                final float L = REVERSE_LIGHT[l];
+                for (int h = 0; h < 256; h++) {
+                    TABLE[l << 8 | h] = chromaLimit(h / 255f, L);
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks up the chroma limit for the H and L of a packed HSLuv color, given as its raw int bits. This is the same as
+     * calling {@link #chromaLimit(float, float)} with the H and L that the packed color decodes to, but faster.
+     * @param decoded the raw int bits of a packed HSLuv color
+     * @return the maximum possible chroma for the hue and lightness of the given color
+     */
+    private static float packedChromaLimit(final int decoded) {
+        return ChromaLimits.TABLE[decoded >>> 8 & 0xFF00 | decoded & 0xFF];
+    }
+
     /**
      * Gets the color with the same L as the HSLuv color stored in the given packed float, but the furthest A
      * B from gray possible for that lightness while keeping the same hue as the given color. This is very
@@ -1023,7 +1069,8 @@ public class ColorTools {
         alpha = Math.min(Math.max(alpha, 0f), 1f);
         if(lightness <= 0f) return hsluv(hue, 0f, 0f, alpha);
         if(lightness >= 1f) return hsluv(hue, 0f, 1f, alpha);
-        return hsluv(hue, Math.max(chroma, 0f) / (chromaLimit(hue, lightness) + 0.0001f), lightness, alpha);
+        final float limit = ChromaLimits.TABLE[(int) (lightness * 255.999f) << 8 | (int) (hue * 255.999f)];
+        return hsluv(hue, Math.max(chroma, 0f) / (limit + 0.0001f), lightness, alpha);
     }
 
     /**
@@ -1064,7 +1111,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -1075,7 +1122,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -1133,7 +1180,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -1144,7 +1191,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -1204,7 +1251,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = ((decoded & 0xff) / 255f);
         float S = ((decoded >>> 8 & 0xff) / 255f);
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
 
         // HSLuv to Lch
         float C;
@@ -1215,7 +1262,7 @@ public class ColorTools {
             L = 0;
             C = 0;
         } else
-            C = chromaLimit(H, L) * S;
+            C = packedChromaLimit(decoded) * S;
 
         // Lch to Luv
         float U = TrigTools.cosTurns(H) * C;
@@ -1291,7 +1338,7 @@ public class ColorTools {
      */
     public static float toEditedFloat(float basis, float hue, float saturation, float light, float opacity) {
         final int decoded = NumberUtils.floatToRawIntBits(basis);
-        final float li = Math.min(Math.max(light + reverseLight((decoded >>> 16 & 0xff) / 255f), 0f), 1f);
+        final float li = Math.min(Math.max(light + REVERSE_LIGHT[decoded >>> 16 & 0xff], 0f), 1f);
         opacity = Math.min(Math.max(opacity + (decoded >>> 25) / 127f, 0f), 1f);
         if (li <= 0.001f)
             return NumberUtils.intBitsToFloat((((int) (opacity * 255f) << 24) & 0xFE000000));
@@ -1397,7 +1444,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(encoded);
         float H = (decoded & 0xff) / 255f;
         float S = (decoded >>> 8 & 0xff) / 255f;
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
         float alpha = (decoded >>> 25) / 127f;
 
         H = H * mulH + addH;
@@ -1706,7 +1753,7 @@ public class ColorTools {
         final int decoded = NumberUtils.floatToRawIntBits(color);
         float H = (decoded & 0xff) / 255f;
         float S = (decoded >>> 8 & 0xff) / 255f;
-        float L = reverseLight((decoded >>> 16 & 0xff) / 255f);
+        float L = REVERSE_LIGHT[decoded >>> 16 & 0xff];
         final float limit = variance * variance;
         float dist, x, y, z;
         for (int j = 0; j < 50; j++) {
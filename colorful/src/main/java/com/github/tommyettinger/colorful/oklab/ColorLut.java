@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.oklab;
+
+import com.badlogic.gdx.utils.NumberUtils;
+
+/**
+ * An optional lookup table that converts RGBA8888 colors to packed float Oklab colors without doing the full math of
+ * {@link ColorTools#fromRGBA8888(int)} for each color. There are two kinds of table:
+ * <ul>
+ *     <li>{@link #trilinear(int)} samples the conversion on a cube grid (typically 33 or 65 points per side) and
+ *     uses trilinear interpolation between the 8 nearest grid points. This is small (about 431 KB for 33 points per
+ *     side, or 3.3 MB for 65) and approximate.</li>
+ *     <li>{@link #direct(int)} stores one packed result for every RGB color with the given number of bits per channel
+ *     (5 for RGB555, 6 for RGB666), and does no interpolation. This is exact for any color that can be represented
+ *     with that many bits per channel (where each 8-bit channel is the smaller channel with its high bits repeated,
+ *     as is usual), and for other colors, it gets the result for the nearest such color.</li>
+ * </ul>
+ * Building a table takes some time (up to 274,625 conversions for 65 points per side), so you should share tables;
+ * {@link #getTrilinear33()}, {@link #getTrilinear65()}, {@link #getDirect555()}, and {@link #getDirect666()} each
+ * build their table the first time they are called and return the same one after that. The tables are never
+ * modified after being built, so they can be shared between threads.
+ * <br>
+ * The maximum error, measured over all 16,777,216 opaque RGB colors and given as the largest difference in any one
+ * channel (L, A, or B, each from 0 to 255) from what {@link ColorTools#fromRGBA8888(int)} returns, is:
+ * <ul>
+ *     <li>trilinear, 33 points per side: 2 (1 color off by more than 1)</li>
+ *     <li>trilinear, 65 points per side: 1 (no colors off by more than 1)</li>
+ *     <li>direct, RGB555: 5 (exact for RGB555 colors)</li>
+ *     <li>direct, RGB666: 3 (exact for RGB666 colors)</li>
+ * </ul>
+ * Alpha is never changed beyond the usual loss of its lowest bit.
+ */
+public class ColorLut {
+    /**
+     * For trilinear tables, the number of grid points per side; for direct tables, 0.
+     */
+    public final int size;
+    /**
+     * For direct tables, the number of bits used per RGB channel; for trilinear tables, 0.
+     */
+    public final int bits;
+    /**
+     * For trilinear tables, this holds 3 floats for each grid point, with the L, A, and B channels (each from 0 to
+     * 255) of the Oklab color at that point. For direct tables, this holds one packed float Oklab color (with full
+     * alpha) for each RGB color with {@link #bits} bits per channel. Must not be modified.
+     */
+    protected final float[] table;
+    /**
+     * For direct tables, this holds the index of the nearest stored channel value for each 8-bit channel value; for
+     * trilinear tables, null. Must not be modified.
+     */
+    protected final int[] nearest;
+
+    protected ColorLut(int size, int bits, float[] table) {
+        this.size = size;
+        this.bits = bits;
+        this.table = table;
+        this.nearest = bits == 0 ? null : nearest(bits);
+    }
+
+    /**
+     * Creates a new table that samples the conversion on a cube grid with {@code size} points per side, and uses
+     * trilinear interpolation between them. Usually, size is 33 or 65; larger sizes are more accurate, but use more
+     * memory. Consider using {@link #getTrilinear33()} or {@link #getTrilinear65()} to share one table.
+     * @param size how many grid points to use per side of the cube; will be clamped between 2 and 256
+     * @return a new trilinear ColorLut
+     */
+    public static ColorLut trilinear(int size) {
+        size = Math.min(Math.max(size, 2), 256);
+        final float[] table = new float[size * size * size * 3];
+        final float inv = 1f / (size - 1);
+        for (int r = 0, t = 0; r < size; r++) {
+            for (int g = 0; g < size; g++) {
+                for (int b = 0; b < size; b++) {
+                    final int packed = NumberUtils.floatToRawIntBits(ColorTools.fromRGBA(r * inv, g * inv, b * inv, 1f));
+                    table[t++] = packed & 0xFF;
+                    table[t++] = packed >>> 8 & 0xFF;
+                    table[t++] = packed >>> 16 & 0xFF;
+                }
+            }
+        }
+        return new ColorLut(size, 0, table);
+    }
+
+    /**
+     * Creates a new table that stores the exact conversion for every RGB color with {@code bits} bits per channel,
+     * and looks up the nearest one of those without interpolating, rounding each channel to its closest stored value.
+     * Usually, bits is 5 (RGB555, 32768 entries) or 6 (RGB666, 262144 entries). Consider using
+     * {@link #getDirect555()} or {@link #getDirect666()} to share one table.
+     * @param bits how many bits to use per RGB channel; will be clamped between 1 and 8
+     * @return a new direct ColorLut
+     */
+    public static ColorLut direct(int bits) {
+        bits = Math.min(Math.max(bits, 1), 8);
+        final int side = 1 << bits, shift = 8 - bits;
+        final float[] table = new float[side * side * side];
+        for (int r = 0, t = 0; r < side; r++) {
+            for (int g = 0; g < side; g++) {
+                for (int b = 0; b < side; b++) {
+                    table[t++] = ColorTools.fromRGBA8888(expand(r, bits, shift) << 24 | expand(g, bits, shift) << 16
+                            | expand(b, bits, shift) << 8 | 0xFF);
+                }
+            }
+        }
+        return new ColorLut(0, bits, table);
+    }
+
+    /**
+     * Repeats the high bits of a channel with fewer than 8 bits to fill the low bits, so the channel ranges from 0 to
+     * 255 inclusive.
+     */
+    private static int expand(int channel, int bits, int shift) {
+        int result = channel << shift;
+        for (int s = bits; s < 8; s += bits) {
+            result |= result >>> s;
+        }
+        return result & 0xFF;
+    }
+
+    /**
+     * Finds, for each 8-bit channel value, the index of the closest channel value that {@link #expand(int, int, int)}
+     * can produce with the given bits. Ties go to the lower index.
+     */
+    private static int[] nearest(int bits) {
+        final int side = 1 << bits, shift = 8 - bits;
+        final int[] nearest = new int[256];
+        for (int c = 0, k = 0; c < 256; c++) {
+            while (k + 1 < side && expand(k + 1, bits, shift) - c < c - expand(k, bits, shift)) k++;
+            nearest[c] = k;
+        }
+        return nearest;
+    }
+
+    private static final class Trilinear33 {
+        static final ColorLut INSTANCE = trilinear(33);
+    }
+
+    private static final class Trilinear65 {
+        static final ColorLut INSTANCE = trilinear(65);
+    }
+
+    private static final class Direct555 {
+        static final ColorLut INSTANCE = direct(5);
+    }
+
+    private static final class Direct666 {
+        static final ColorLut INSTANCE = direct(6);
+    }
+
+    /**
+     * Gets a shared trilinear table with 33 points per side, building it the first time this is called.
+     * @return a shared ColorLut, as produced by {@code trilinear(33)}
+     */
+    public static ColorLut getTrilinear33() {
+        return Trilinear33.INSTANCE;
+    }
+
+    /**
+     * Gets a shared trilinear table with 65 points per side, building it the first time this is called.
+     * @return a shared ColorLut, as produced by {@code trilinear(65)}
+     */
+    public static ColorLut getTrilinear65() {
+        return Trilinear65.INSTANCE;
+    }
+
+    /**
+     * Gets a shared direct table for RGB555, building it the first time this is called.
+     * @return a shared ColorLut, as produced by {@code direct(5)}
+     */
+    public static ColorLut getDirect555() {
+        return Direct555.INSTANCE;
+    }
+
+    /**
+     * Gets a shared direct table for RGB666, building it the first time this is called.
+     * @return a shared ColorLut, as produced by {@code direct(6)}
+     */
+    public static ColorLut getDirect666() {
+        return Direct666.INSTANCE;
+    }
+
+    /**
+     * Takes a color encoded as an RGBA8888 int and converts to a packed float in the Oklab format, using this table.
+     * The result is close to, but not always the same as, {@link ColorTools#fromRGBA8888(int)}.
+     * @param rgba an int with the channels (in order) red, green, blue, alpha; should have 8 bits per channel
+     * @return a packed float as Oklab, which {@link ColorTools} can use
+     */
+    public float fromRGBA8888(final int rgba) {
+        if (bits != 0) {
+            final int[] n = nearest;
+            return NumberUtils.intBitsToFloat(NumberUtils.floatToRawIntBits(
+                    table[(n[rgba >>> 24] << bits | n[rgba >>> 16 & 0xFF]) << bits | n[rgba >>> 8 & 0xFF]])
+                    & 0x00FFFFFF | (rgba & 0xFE) << 24);
+        }
+        final int last = size - 1;
+        final float scale = last / 255f;
+        final float rf = (rgba >>> 24) * scale, gf = (rgba >>> 16 & 0xFF) * scale, bf = (rgba >>> 8 & 0xFF) * scale;
+        final int ri = Math.min((int) rf, last - 1), gi = Math.min((int) gf, last - 1), bi = Math.min((int) bf, last - 1);
+        final float rt = rf - ri, gt = gf - gi, bt = bf - bi;
+        final int sb = 3, sg = size * 3, sr = size * size * 3;
+        final int i000 = ri * sr + gi * sg + bi * sb, i001 = i000 + sb, i010 = i000 + sg, i011 = i010 + sb,
+                i100 = i000 + sr, i101 = i100 + sb, i110 = i100 + sg, i111 = i110 + sb;
+        final float[] t = table;
+        int result = (rgba & 0xFE) << 24;
+        for (int c = 0; c < 3; c++) {
+            final float c00 = t[i000 + c] + (t[i001 + c] - t[i000 + c]) * bt;
+            final float c01 = t[i010 + c] + (t[i011 + c] - t[i010 + c]) * bt;
+            final float c10 = t[i100 + c] + (t[i101 + c] - t[i100 + c]) * bt;
+            final float c11 = t[i110 + c] + (t[i111 + c] - t[i110 + c]) * bt;
+            final float c0 = c00 + (c01 - c00) * gt;
+            final float c1 = c10 + (c11 - c10) * gt;
+            result |= (int) (c0 + (c1 - c0) * rt + 0.5f) << (c << 3);
+        }
+        return NumberUtils.intBitsToFloat(result);
+    }
+
+    /**
+     * Takes a color encoded as an RGBA8888 packed float and converts to a packed float in the Oklab format, using this
+     * table. The result is close to, but not always the same as, {@link ColorTools#fromRGBA(float)}.
+     * @param packed a packed float in RGBA8888 format, with A in the MSB and R in the LSB
+     * @return a packed float as Oklab, which {@link ColorTools} can use
+     */
+    public float fromRGBA(final float packed) {
+        return fromRGBA8888(Integer.reverseBytes(NumberUtils.floatToRawIntBits(packed)));
+    }
+
+    /**
+     * Converts {@code len} RGBA8888 int colors from {@code src}, starting at {@code srcOff}, to packed float Oklab
+     * colors using this table, writing them into {@code dst} starting at {@code dstOff}.
+     * @param src an array of RGBA8888 int colors
+     * @param srcOff the first index in src to read from
+     * @param dst an array of floats that will receive packed Oklab colors; will be modified
+     * @param dstOff the first index in dst to write to
+     * @param len how many colors to convert
+     * @return dst, after modifications
+     */
+    public float[] fromRGBA8888(final int[] src, final int srcOff, final float[] dst, final int dstOff, final int len) {
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = fromRGBA8888(src[srcOff + i]);
+        }
+        return dst;
+    }
+}
@@ -187,6 +187,23 @@ public class ColorTools {
 		return L * L;
 	}
 
+	/**
+	 * {@link #forwardGamma(float)} of each possible 8-bit RGB channel value, scaled to the 0 to 1 range the same way
+	 * {@link #fromRGBA8888(int)} scales it.
+	 */
+	private static final float[] FORWARD_GAMMA = new float[256];
+	/**
+	 * {@link #reverseLight(float)} of each possible 8-bit L channel value of a packed Oklab color, divided by 255.
+	 */
+	private static final float[] REVERSE_LIGHT = new float[256];
+
+	static {
+		for (int i = 0; i < 256; i++) {
+			FORWARD_GAMMA[i] = forwardGamma(i * 0x1.010101010101p-8f);
+			REVERSE_LIGHT[i] = reverseLight(i / 255f);
+		}
+	}
+
 //    public static float forwardLight(final float L) {
 //        final float shape = 0.6578947368421053f, turning = 0.963f;
 //        final float d = turning - L;
@@ -227,7 +244,7 @@ public class ColorTools {
 	public static int toRGBA8888(final float packed)
 	{
 		final int decoded = NumberUtils.floatToRawIntBits(packed);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -249,7 +266,7 @@ public class ColorTools {
 	public static float toRGBA(final float packed)
 	{
 		final int decoded = NumberUtils.floatToRawIntBits(packed);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -271,7 +288,7 @@ public class ColorTools {
 	public static Color toColor(Color editing, final float packed)
 	{
 		final int decoded = NumberUtils.floatToRawIntBits(packed);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -305,9 +322,9 @@ public class ColorTools {
 	 * @return a packed float as Oklab, which this class can use
 	 */
 	public static float fromRGBA8888(final int rgba) {
-		final float r = forwardGamma((rgba >>> 24) * 0x1.010101010101p-8f);
-		final float g = forwardGamma((rgba >>> 16 & 0xFF) * 0x1.010101010101p-8f);
-		final float b = forwardGamma((rgba >>> 8 & 0xFF) * 0x1.010101010101p-8f);
+		final float r = FORWARD_GAMMA[rgba >>> 24];
+		final float g = FORWARD_GAMMA[rgba >>> 16 & 0xFF];
+		final float b = FORWARD_GAMMA[rgba >>> 8 & 0xFF];
 
 		final float l = cbrtPositive(0.4121656120f * r + 0.5362752080f * g + 0.0514575653f * b);
 		final float m = cbrtPositive(0.2118591070f * r + 0.6807189584f * g + 0.1074065790f * b);
@@ -328,9 +345,9 @@ public class ColorTools {
 	 */
 	public static float fromRGBA(final float packed) {
 		final int abgr = NumberUtils.floatToRawIntBits(packed);
-		final float r = forwardGamma((abgr & 0xFF) * 0x1.010101010101p-8f);
-		final float g = forwardGamma((abgr >>> 8 & 0xFF) * 0x1.010101010101p-8f);
-		final float b = forwardGamma((abgr >>> 16 & 0xFF) * 0x1.010101010101p-8f);
+		final float r = FORWARD_GAMMA[abgr & 0xFF];
+		final float g = FORWARD_GAMMA[abgr >>> 8 & 0xFF];
+		final float b = FORWARD_GAMMA[abgr >>> 16 & 0xFF];
 		final float l = cbrtPositive(0.4121656120f * r + 0.5362752080f * g + 0.0514575653f * b);
 		final float m = cbrtPositive(0.2118591070f * r + 0.6807189584f * g + 0.1074065790f * b);
 		final float s = cbrtPositive(0.0883097947f * r + 0.2818474174f * g + 0.6302613616f * b);
@@ -395,6 +412,138 @@ public class ColorTools {
 						| ((int)(a * 255) << 24 & 0xFE000000));
 	}
 
+	/**
+	 * Converts {@code len} RGBA8888 int colors from {@code src}, starting at {@code srcOff}, to packed float Oklab colors,
+	 * writing them into {@code dst} starting at {@code dstOff}. Each result is identical to what
+	 * {@link #fromRGBA8888(int)} would produce for the same input, but this avoids the per-call overhead when converting
+	 * many colors at once, such as all pixels in a Pixmap. The loop body has no branches (clamping uses
+	 * {@link Math#min(int, int)} and {@link Math#max(int, int)}, which are intrinsics), gamma is looked up in a table,
+	 * and the only calls it makes are to {@link #cbrtPositive(float)} and {@link Math#sqrt(double)}, which the JIT
+	 * inlines.
+	 * @param src an array of RGBA8888 int colors
+	 * @param srcOff the first index in src to read from
+	 * @param dst an array of floats that will receive packed Oklab colors; will be modified
+	 * @param dstOff the first index in dst to write to
+	 * @param len how many colors to convert
+	 * @return dst, after modifications
+	 */
+	public static float[] fromRGBA8888(final int[] src, final int srcOff, final float[] dst, final int dstOff, final int len) {
+		for (int i = 0; i < len; i++) {
+			final int rgba = src[srcOff + i];
+			final float r = FORWARD_GAMMA[rgba >>> 24];
+			final float g = FORWARD_GAMMA[rgba >>> 16 & 0xFF];
+			final float b = FORWARD_GAMMA[rgba >>> 8 & 0xFF];
+
+			final float l = cbrtPositive(0.4121656120f * r + 0.5362752080f * g + 0.0514575653f * b);
+			final float m = cbrtPositive(0.2118591070f * r + 0.6807189584f * g + 0.1074065790f * b);
+			final float s = cbrtPositive(0.0883097947f * r + 0.2818474174f * g + 0.6302613616f * b);
+			final float L = 0.2104542553f * l + 0.7936177850f * m - 0.0040720468f * s;
+
+			dst[dstOff + i] = NumberUtils.intBitsToFloat(
+					  Math.min(Math.max((int)((float) Math.sqrt(L * L * L) * 255.999f), 0), 255)
+					| Math.min(Math.max((int)((1.9779984951f * l - 2.4285922050f * m + 0.4505937099f * s) * 127.5f + 127.5f), 0), 255) << 8
+					| Math.min(Math.max((int)((0.0259040371f * l + 0.7827717662f * m - 0.8086757660f * s) * 127.5f + 127.5f), 0), 255) << 16
+					| (rgba & 0xFE) << 24);
+		}
+		return dst;
+	}
+
+	/**
+	 * Converts {@code len} RGBA8888 int colors from {@code src}, starting at {@code srcOff}, to Oklab colors, writing
+	 * the raw int bits of each packed float Oklab color into {@code dst} starting at {@code dstOff}. You can get the
+	 * packed float from one of these ints with {@link NumberUtils#intBitsToFloat(int)}. Each result is identical to
+	 * the bits of what {@link #fromRGBA8888(int)} would produce for the same input. Because this only deals with int
+	 * arrays, src and dst may be the same array, and the conversion can be done in-place if srcOff and dstOff are equal.
+	 * @param src an array of RGBA8888 int colors
+	 * @param srcOff the first index in src to read from
+	 * @param dst an array of ints that will receive the bits of packed Oklab colors; will be modified
+	 * @param dstOff the first index in dst to write to
+	 * @param len how many colors to convert
+	 * @return dst, after modifications
+	 */
+	public static int[] fromRGBA8888(final int[] src, final int srcOff, final int[] dst, final int dstOff, final int len) {
+		for (int i = 0; i < len; i++) {
+			final int rgba = src[srcOff + i];
+			final float r = FORWARD_GAMMA[rgba >>> 24];
+			final float g = FORWARD_GAMMA[rgba >>> 16 & 0xFF];
+			final float b = FORWARD_GAMMA[rgba >>> 8 & 0xFF];
+
+			final float l = cbrtPositive(0.4121656120f * r + 0.5362752080f * g + 0.0514575653f * b);
+			final float m = cbrtPositive(0.2118591070f * r + 0.6807189584f * g + 0.1074065790f * b);
+			final float s = cbrtPositive(0.0883097947f * r + 0.2818474174f * g + 0.6302613616f * b);
+			final float L = 0.2104542553f * l + 0.7936177850f * m - 0.0040720468f * s;
+
+			dst[dstOff + i] =
+					  Math.min(Math.max((int)((float) Math.sqrt(L * L * L) * 255.999f), 0), 255)
+					| Math.min(Math.max((int)((1.9779984951f * l - 2.4285922050f * m + 0.4505937099f * s) * 127.5f + 127.5f), 0), 255) << 8
+					| Math.min(Math.max((int)((0.0259040371f * l + 0.7827717662f * m - 0.8086757660f * s) * 127.5f + 127.5f), 0), 255) << 16
+					| (rgba & 0xFE) << 24;
+		}
+		return dst;
+	}
+
+	/**
+	 * Converts {@code len} packed float Oklab colors from {@code src}, starting at {@code srcOff}, to RGBA8888 ints,
+	 * writing them into {@code dst} starting at {@code dstOff}. Each result is identical to what
+	 * {@link #toRGBA8888(float)} would produce for the same input, but this avoids the per-call overhead when converting
+	 * many colors at once. Like {@link #fromRGBA8888(int[], int, float[], int, int)}, the loop body has no branches.
+	 * @param src an array of packed float Oklab colors
+	 * @param srcOff the first index in src to read from
+	 * @param dst an array of ints that will receive RGBA8888 colors; will be modified
+	 * @param dstOff the first index in dst to write to
+	 * @param len how many colors to convert
+	 * @return dst, after modifications
+	 */
+	public static int[] toRGBA8888(final float[] src, final int srcOff, final int[] dst, final int dstOff, final int len) {
+		for (int i = 0; i < len; i++) {
+			final int decoded = NumberUtils.floatToRawIntBits(src[srcOff + i]);
+			final float L = REVERSE_LIGHT[decoded & 0xff];
+			final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
+			final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
+			final float l0 = L + 0.3963377774f * A + 0.2158037573f * B;
+			final float m0 = L - 0.1055613458f * A - 0.0638541728f * B;
+			final float s0 = L - 0.0894841775f * A - 1.2914855480f * B;
+			final float l = l0 * l0 * l0, m = m0 * m0 * m0, s = s0 * s0 * s0;
+			final int r = (int)((float)Math.sqrt(Math.min(Math.max(+4.0767245293f * l - 3.3072168827f * m + 0.2307590544f * s, 0f), 1f)) * 255.999f);
+			final int g = (int)((float)Math.sqrt(Math.min(Math.max(-1.2681437731f * l + 2.6093323231f * m - 0.3411344290f * s, 0f), 1f)) * 255.999f);
+			final int b = (int)((float)Math.sqrt(Math.min(Math.max(-0.0041119885f * l - 0.7034763098f * m + 1.7068625689f * s, 0f), 1f)) * 255.999f);
+			dst[dstOff + i] = r << 24 | g << 16 | b << 8 | (decoded & 0xfe000000) >>> 24 | decoded >>> 31;
+		}
+		return dst;
+	}
+
+	/**
+	 * Converts {@code len} Oklab colors from {@code src}, starting at {@code srcOff}, to RGBA8888 ints, writing them
+	 * into {@code dst} starting at {@code dstOff}. The Oklab colors in src are the raw int bits of packed float Oklab
+	 * colors, as produced by {@link #fromRGBA8888(int[], int, int[], int, int)} or by
+	 * {@link NumberUtils#floatToRawIntBits(float)}. Each result is identical to what {@link #toRGBA8888(float)} would
+	 * produce for the same color. Because this only deals with int arrays, src and dst may be the same array, and the
+	 * conversion can be done in-place if srcOff and dstOff are equal.
+	 * @param src an array of the int bits of packed float Oklab colors
+	 * @param srcOff the first index in src to read from
+	 * @param dst an array of ints that will receive RGBA8888 colors; will be modified
+	 * @param dstOff the first index in dst to write to
+	 * @param len how many colors to convert
+	 * @return dst, after modifications
+	 */
+	public static int[] toRGBA8888(final int[] src, final int srcOff, final int[] dst, final int dstOff, final int len) {
+		for (int i = 0; i < len; i++) {
+			final int decoded = src[srcOff + i];
+			final float L = REVERSE_LIGHT[decoded & 0xff];
+			final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
+			final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
+			final float l0 = L + 0.3963377774f * A + 0.2158037573f * B;
+			final float m0 = L - 0.1055613458f * A - 0.0638541728f * B;
+			final float s0 = L - 0.0894841775f * A - 1.2914855480f * B;
+			final float l = l0 * l0 * l0, m = m0 * m0 * m0, s = s0 * s0 * s0;
+			final int r = (int)((float)Math.sqrt(Math.min(Math.max(+4.0767245293f * l - 3.3072168827f * m + 0.2307590544f * s, 0f), 1f)) * 255.999f);
+			final int g = (int)((float)Math.sqrt(Math.min(Math.max(-1.2681437731f * l + 2.6093323231f * m - 0.3411344290f * s, 0f), 1f)) * 255.999f);
+			final int b = (int)((float)Math.sqrt(Math.min(Math.max(-0.0041119885f * l - 0.7034763098f * m + 1.7068625689f * s, 0f), 1f)) * 255.999f);
+			dst[dstOff + i] = r << 24 | g << 16 | b << 8 | (decoded & 0xfe000000) >>> 24 | decoded >>> 31;
+		}
+		return dst;
+	}
+
 	/**
 	 * Gets the red channel value of the given encoded color, as an int ranging from 0 to 255, inclusive.
 	 * @param encoded a color as a packed float that can be obtained by {@link #oklab(float, float, float, float)}
@@ -403,7 +552,7 @@ public class ColorTools {
 	public static int redInt(final float encoded)
 	{
 		final int decoded = NumberUtils.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -420,7 +569,7 @@ public class ColorTools {
 	public static int greenInt(final float encoded)
 	{
 		final int decoded = NumberUtils.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -437,7 +586,7 @@ public class ColorTools {
 	public static int blueInt(final float encoded)
 	{
 		final int decoded = NumberUtils.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -465,7 +614,7 @@ public class ColorTools {
 	public static float red(final float encoded)
 	{
 		final int decoded = NumberUtils.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -482,7 +631,7 @@ public class ColorTools {
 	public static float green(final float encoded)
 	{
 		final int decoded = NumberUtils.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -499,7 +648,7 @@ public class ColorTools {
 	public static float blue(final float encoded)
 	{
 		final int decoded = NumberUtils.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -594,7 +743,7 @@ public class ColorTools {
 	 */
 	public static float saturation(final float encoded) {
 		final int decoded = NumberUtils.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		if(Math.abs(L - 0.5) > 0.495f) return 0f;
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
@@ -633,7 +782,7 @@ public class ColorTools {
 	 */
 	public static float lightness(final float encoded) {
 		final int decoded = NumberUtils.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -674,7 +823,7 @@ public class ColorTools {
 	 */
 	public static float hue(final float encoded) {
 		final int decoded = NumberUtils.floatToRawIntBits(encoded);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
@@ -773,7 +922,7 @@ public class ColorTools {
 	 */
 	public static float toEditedFloat(float basis, float hue, float saturation, float light, float opacity) {
 		final int decoded = NumberUtils.floatToRawIntBits(basis);
-		final float L = Math.min(Math.max(light + reverseLight((decoded & 0xff) / 255f), 0f), 1f);
+		final float L = Math.min(Math.max(light + REVERSE_LIGHT[decoded & 0xff], 0f), 1f);
 		opacity = Math.min(Math.max(opacity + (decoded >>> 25) * (1f / 127f), 0f), 1f);
 		if (L <= 0.001f)
 			return NumberUtils.intBitsToFloat((((int) (opacity * 255f) << 24) & 0xFE000000) | 0x808000);
@@ -1081,7 +1230,7 @@ public class ColorTools {
 	 */
 	public static float randomEdit(final float color, long seed, final float variance) {
 		final int decoded = NumberUtils.floatToRawIntBits(color);
-		final float L = reverseLight((decoded & 0xff) / 255f);
+		final float L = REVERSE_LIGHT[decoded & 0xff];
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
 		final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
 		final float limit = variance * variance;
@@ -1128,6 +1277,22 @@ public class ColorTools {
 		return GAMUT_DATA[index];
 	}
 
+	/**
+	 * The hue byte that the gamut data is indexed with, for every pair of A and B channel bytes in a packed Oklab
+	 * color. The index is {@code (A << 8 | B)}, and each entry is
+	 * {@code (int)(256f * TrigTools.atan2Turns(B - 127f, A - 127f))}, so the gamut checks on packed colors only need
+	 * two array lookups instead of an atan2 call.
+	 */
+	static final byte[] GAMUT_HUE = new byte[65536];
+
+	static {
+		for (int a = 0, i = 0; a < 256; a++) {
+			for (int b = 0; b < 256; b++) {
+				GAMUT_HUE[i++] = (byte) (int) (256f * TrigTools.atan2Turns(b - 127f, a - 127f));
+			}
+		}
+	}
+
 	/**
 	 * Returns true if the given packed float color, as Oklab, is valid to convert losslessly back to RGBA.
 	 * @param packed a packed float color as Oklab
@@ -1138,7 +1303,7 @@ public class ColorTools {
 		final int decoded = NumberUtils.floatToRawIntBits(packed);
 		final float A = ((decoded >>> 8 & 0xff) - 127f) / 255f;
 		final float B = ((decoded >>> 16 & 0xff) - 127f) / 255f;
-		final float g = GAMUT_DATA[(decoded & 0xff) << 8 | (int)(256f * TrigTools.atan2Turns(B, A))];
+		final float g = GAMUT_DATA[(decoded & 0xff) << 8 | (GAMUT_HUE[decoded & 0xff00 | decoded >>> 16 & 0xff] & 0xff)];
 		return g * g * 0x1p-18 + 0x1p-14 >= (A * A + B * B);
 	}
 
@@ -1151,9 +1316,11 @@ public class ColorTools {
 	 */
 	public static boolean inGamut(float L, float A, float B)
 	{
-		A = ((int) (A * 255) - 127f) / 255f;
-		B = ((int) (B * 255) - 127f) / 255f;
-		final float g = GAMUT_DATA[((int) (L * 255) & 0xFF) << 8 | (int)(256f * TrigTools.atan2Turns(B, A))];
+		final int a = (int) (A * 255), b = (int) (B * 255);
+		A = (a - 127f) / 255f;
+		B = (b - 127f) / 255f;
+		final int hue = ((a | b) & 0xFFFFFF00) == 0 ? GAMUT_HUE[a << 8 | b] & 0xff : (int)(256f * TrigTools.atan2Turns(B, A));
+		final float g = GAMUT_DATA[((int) (L * 255) & 0xFF) << 8 | hue];
 		return L >= 0f && L <= 1f && g * g * 0x1p-18 + 0x1p-14 >= (A * A + B * B);
 
 		////This was the old code for this inGamut(), which was subtly different from the other inGamut() when called
@@ -1241,8 +1408,7 @@ public class ColorTools {
 		final int decoded = NumberUtils.floatToRawIntBits(packed);
 		final float A = ((decoded >>> 8 & 0xff) - 127f);
 		final float B = ((decoded >>> 16 & 255) - 127f);
-		final float hue = TrigTools.atan2Turns(B, A);
-		final int idx = (decoded & 0xff) << 8 | (int) (256f * hue);
+		final int idx = (decoded & 0xff) << 8 | (GAMUT_HUE[decoded & 0xff00 | decoded >>> 16 & 0xff] & 0xff);
 		final float dist = GAMUT_DATA[idx];
 		return dist <= 2.5f ? 0f : (float) Math.sqrt(A * A + B * B) * 2f / (dist);
 	}
@@ -1342,11 +1508,11 @@ public class ColorTools {
 		final int decoded = NumberUtils.floatToRawIntBits(packed);
 		final float A = ((decoded >>> 8 & 0xff) - 127f);
 		final float B = ((decoded >>> 16 & 255) - 127f);
-		final float hue = TrigTools.atan2Turns(B, A);
-		final int idx = (decoded & 0xff) << 8 | (int) (256f * hue);
+		final int idx = (decoded & 0xff) << 8 | (GAMUT_HUE[decoded & 0xff00 | decoded >>> 16 & 0xff] & 0xff);
 		final float dist = GAMUT_DATA[idx] * 0.5f;
 		if (dist * dist >= (A * A + B * B))
 			return packed;
+		final float hue = TrigTools.atan2Turns(B, A);
 		return NumberUtils.intBitsToFloat(
 				(decoded & 0xFE0000FF) |
 						(int) (TrigTools.sinTurns(hue) * dist + 127.5f) << 16 |
@@ -1382,13 +1548,14 @@ public class ColorTools {
 		A = Math.min(Math.max(A, 0f), 1f);
 		B = Math.min(Math.max(B, 0f), 1f);
 		alpha = Math.min(Math.max(alpha, 0f), 1f);
-		final float A2 = ((int) (A * 255) - 127f) / 255f;
-		final float B2 = ((int) (B * 255) - 127f) / 255f;
-		final float hue = TrigTools.atan2Turns(B2, A2);
-		final int idx = (int) (L * 255f) << 8 | (int)(256f * hue);
+		final int a = (int) (A * 255), b = (int) (B * 255);
+		final float A2 = (a - 127f) / 255f;
+		final float B2 = (b - 127f) / 255f;
+		final int idx = (int) (L * 255f) << 8 | (GAMUT_HUE[a << 8 | b] & 0xff);
 		final float dist = GAMUT_DATA[idx] * 0.5f;
 		if(dist * dist * 0x1p-16f >= (A2 * A2 + B2 * B2))
 			return oklab(L, A, B, alpha);
+		final float hue = TrigTools.atan2Turns(B2, A2);
 		return NumberUtils.intBitsToFloat(
 				(int) (alpha * 127.999f) << 25 |
 						(int) (TrigTools.sinTurns(hue) * dist + 127.5f) << 16 |
@@ -1515,11 +1682,11 @@ public class ColorTools {
 	 */
 	public static float distanceSquared(final float encodedA, final float encodedB) {
 		final int decodedA = NumberUtils.floatToRawIntBits(encodedA);
-		final float LA = reverseLight((decodedA & 0xff) / 255f);
+		final float LA = REVERSE_LIGHT[decodedA & 0xff];
 		final float AA = ((decodedA >>> 8 & 0xff) - 127f) / 127f;
 		final float BA = ((decodedA >>> 16 & 255) - 127f) / 127f;
 		final int decodedB = NumberUtils.floatToRawIntBits(encodedB);
-		final float LDiff = reverseLight((decodedB & 0xff) / 255f) - LA;
+		final float LDiff = REVERSE_LIGHT[decodedB & 0xff] - LA;
 		final float ADiff = ((decodedB >>> 8 & 0xff) - 127f) / 127f - AA;
 		final float BDiff = ((decodedB >>> 16 & 255) - 127f) / 127f - BA;
 		return LDiff * LDiff + ADiff * ADiff + BDiff * BDiff;
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.oklab;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.utils.FloatArray;
+import com.github.tommyettinger.colorful.ColorGradient;
+import com.github.tommyettinger.colorful.FloatColors;
+
+/**
+ * A {@link ColorGradient} through packed float Oklab colors, which samples the same colors as
+ * {@link GradientTools#appendGradientChain(FloatArray, int, Interpolation, float...)} without storing every step. Each
+ * sample is limited to the Oklab gamut, as GradientTools does.
+ */
+public class Gradient extends ColorGradient {
+    /**
+     * Creates a gradient that moves linearly through the given stops.
+     * @param stops packed float Oklab colors to pass through in order; must not be empty
+     */
+    public Gradient(float... stops) {
+        super(Interpolation.linear, stops);
+    }
+
+    /**
+     * Creates a gradient through the given stops, using the given Interpolation to adjust each point before sampling.
+     * @param interpolation applied to each point before sampling; must not be null
+     * @param stops packed float Oklab colors to pass through in order; must not be empty
+     */
+    public Gradient(Interpolation interpolation, float... stops) {
+        super(interpolation, stops);
+    }
+
+    /**
+     * Creates a gradient through the colors in a FloatArray, using the given Interpolation to adjust each point before
+     * sampling.
+     * @param interpolation applied to each point before sampling; must not be null
+     * @param stops a FloatArray of packed float Oklab colors to pass through in order; must not be empty
+     */
+    public Gradient(Interpolation interpolation, FloatArray stops) {
+        super(interpolation, stops == null ? null : stops.toArray());
+    }
+
+    @Override
+    protected float blend(float start, float end, float change) {
+        return ColorTools.limitToGamut(FloatColors.lerpFloatColors(start, end, change));
+    }
+
+    @Override
+    protected int toRGBA8888(float color) {
+        return ColorTools.toRGBA8888(color);
+    }
+
+    @Override
+    public Gradient bake(int resolution) {
+        super.bake(resolution);
+        return this;
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.oklab;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.github.tommyettinger.colorful.ParallelImageProcessor;
+import com.github.tommyettinger.colorful.PixmapColorConverter;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Reduces RGBA8888 images to the colors of a palette of packed Oklab floats, such as {@link Palette#LIST} or
+ * {@link SimplePalette#LIST}, choosing the palette color closest to each pixel as measured by
+ * {@link ColorTools#distanceSquared(float, float)}. The closest palette color is found ahead of time for each of the
+ * 32,768 RGB555 colors, so reducing a pixel is one table lookup using the top 5 bits of each of its RGB channels.
+ * <br>
+ * There are three ways to reduce an image:
+ * <ul>
+ *     <li>{@link #reduceSolid(int[], int, int)} changes each pixel to its closest palette color, without
+ *     dithering.</li>
+ *     <li>{@link #reduceOrdered(int[], int, int)} adds an 8x8 Bayer matrix to each pixel before it is looked up, which
+ *     keeps a regular pattern and doesn't shimmer when only part of an image changes.</li>
+ *     <li>{@link #reduceDiffusion(int[], int, int)} uses Floyd-Steinberg error diffusion, which passes the difference
+ *     between each pixel and its palette color on to the pixels right and below it. This usually looks best for
+ *     still images.</li>
+ * </ul>
+ * Solid and ordered reduction only depend on each pixel and its position, so they run on a
+ * {@link ParallelImageProcessor}, in stripes of rows. Error diffusion can't be split up that way, because each row
+ * needs the error from the row above it, so it processes one row at a time on the calling thread. The amount of
+ * dithering for both kinds of dither can be changed with {@link #setDitherStrength(float)}.
+ * <br>
+ * Pixels with alpha below 128 become fully transparent (0); other pixels get the alpha of their palette color. Palette
+ * colors with alpha below 0.5 are never chosen, so the transparent color at the start of {@link Palette#LIST} is fine.
+ * <br>
+ * This isn't available on GWT, which doesn't have threads.
+ */
+public class PaletteReducer {
+    /**
+     * The 8x8 Bayer matrix, as 64 values from 0 to 63, with the value for x,y at index {@code (y & 7) << 3 | (x & 7)}.
+     */
+    private static final int[] BAYER = new int[64];
+
+    static {
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                // reversed bit-interleave of (x XOR y) and y, which is the usual way to build a Bayer matrix
+                int v = 0;
+                for (int bit = 0; bit < 3; bit++) {
+                    v = v << 2 | ((x ^ y) >>> bit & 1) << 1 | (y >>> bit & 1);
+                }
+                BAYER[y << 3 | x] = v;
+            }
+        }
+    }
+
+    /**
+     * The packed Oklab colors this reduces to, in the order they were given.
+     */
+    protected final float[] colors;
+    /**
+     * The RGBA8888 version of each color in {@link #colors}.
+     */
+    protected final int[] rgba;
+    /**
+     * For each RGB555 color, the index in {@link #colors} of the closest palette color.
+     */
+    protected final char[] table;
+    protected ParallelImageProcessor processor;
+    protected float ditherStrength = 1f;
+    /**
+     * The amount added to each RGB channel by ordered dithering, for each of the 64 cells of {@link #BAYER}.
+     */
+    protected int[] orderedOffsets;
+
+    protected final ParallelImageProcessor.PixelTransform solid = new ParallelImageProcessor.PixelTransform() {
+        @Override
+        public int transform(int x, int y, int rgba) {
+            return reduce(rgba);
+        }
+    };
+
+    protected final ParallelImageProcessor.PixelTransform ordered = new ParallelImageProcessor.PixelTransform() {
+        @Override
+        public int transform(int x, int y, int rgba) {
+            if ((rgba & 0x80) == 0) return 0;
+            final int offset = orderedOffsets[(y & 7) << 3 | (x & 7)];
+            final int r = Math.min(Math.max((rgba >>> 24) + offset, 0), 255);
+            final int g = Math.min(Math.max((rgba >>> 16 & 255) + offset, 0), 255);
+            final int b = Math.min(Math.max((rgba >>> 8 & 255) + offset, 0), 255);
+            return PaletteReducer.this.rgba[table[(r << 7 & 0x7C00) | (g << 2 & 0x3E0) | (b >>> 3)]];
+        }
+    };
+
+    /**
+     * Reduces to the colors in {@link Palette#LIST}, using a {@link ParallelImageProcessor} with default settings.
+     */
+    public PaletteReducer() {
+        this(Palette.LIST, null);
+    }
+
+    /**
+     * Reduces to the given colors, using a {@link ParallelImageProcessor} with default settings.
+     * @param palette packed Oklab float colors, such as {@link SimplePalette#LIST}; at least one must have alpha of at
+     *                least 0.5
+     */
+    public PaletteReducer(FloatArray palette) {
+        this(palette, null);
+    }
+
+    /**
+     * Reduces to the given colors, running solid and ordered reduction on the given ParallelImageProcessor.
+     * @param palette packed Oklab float colors, such as {@link SimplePalette#LIST}; at least one must have alpha of at
+     *                least 0.5, and there can be at most 65536 colors
+     * @param processor runs solid and ordered reduction; if null, a new ParallelImageProcessor with default settings
+     *                  is used
+     * @throws IllegalArgumentException if palette is null, has no colors with alpha of at least 0.5, or is too large
+     */
+    public PaletteReducer(FloatArray palette, ParallelImageProcessor processor) {
+        if (palette == null)
+            throw new IllegalArgumentException("palette cannot be null");
+        if (palette.size > 65536)
+            throw new IllegalArgumentException("palette can have at most 65536 colors, but has " + palette.size);
+        this.processor = processor == null ? new ParallelImageProcessor() : processor;
+        colors = palette.toArray();
+        rgba = new int[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            rgba[i] = ColorTools.toRGBA8888(colors[i]);
+        }
+        table = buildTable(colors);
+        setDitherStrength(1f);
+    }
+
+    /**
+     * Finds the closest opaque palette color to each RGB555 color. The palette is sorted by lightness, so each search
+     * can start at the palette colors with the closest lightness and stop once lightness alone is too different.
+     */
+    private static char[] buildTable(final float[] colors) {
+        final float[] light = new float[256];
+        for (int i = 0; i < 256; i++) {
+            light[i] = ColorTools.reverseLight(i / 255f);
+        }
+        int count = 0;
+        final long[] sorted = new long[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            final int bits = NumberUtils.floatToRawIntBits(colors[i]);
+            // sorts by the L byte, then by index, which keeps the lowest index first among equal colors
+            if ((bits >>> 24 & 0xFE) >= 0x80)
+                sorted[count++] = (long) (bits & 255) << 32 | i;
+        }
+        if (count == 0)
+            throw new IllegalArgumentException("palette must have at least one color with alpha of at least 0.5");
+        Arrays.sort(sorted, 0, count);
+        final float[] pl = new float[count], pa = new float[count], pb = new float[count];
+        final int[] index = new int[count];
+        for (int i = 0; i < count; i++) {
+            index[i] = (int) sorted[i];
+            final int bits = NumberUtils.floatToRawIntBits(colors[index[i]]);
+            pl[i] = light[bits & 255];
+            pa[i] = ((bits >>> 8 & 255) - 127f) / 127f;
+            pb[i] = ((bits >>> 16 & 255) - 127f) / 127f;
+        }
+        final char[] table = new char[32768];
+        for (int c = 0; c < 32768; c++) {
+            final int r = c >>> 10, g = c >>> 5 & 31, b = c & 31;
+            final int bits = NumberUtils.floatToRawIntBits(ColorTools.fromRGBA8888(
+                    (r << 3 | r >>> 2) << 24 | (g << 3 | g >>> 2) << 16 | (b << 3 | b >>> 2) << 8 | 255));
+            final float ql = light[bits & 255], qa = ((bits >>> 8 & 255) - 127f) / 127f,
+                    qb = ((bits >>> 16 & 255) - 127f) / 127f;
+            // start at the first palette color that is at least as light as the query
+            int lo = 0, hi = count;
+            while (lo < hi) {
+                final int mid = lo + hi >>> 1;
+                if (pl[mid] < ql) lo = mid + 1;
+                else hi = mid;
+            }
+            int best = -1;
+            float bestDistance = Float.POSITIVE_INFINITY;
+            for (int up = lo, down = lo - 1; up < count || down >= 0; ) {
+                final float dUp = up < count ? pl[up] - ql : Float.POSITIVE_INFINITY;
+                final float dDown = down >= 0 ? ql - pl[down] : Float.POSITIVE_INFINITY;
+                final int i;
+                if (dUp <= dDown) {
+                    if (dUp * dUp > bestDistance) break;
+                    i = up++;
+                } else {
+                    if (dDown * dDown > bestDistance) break;
+                    i = down--;
+                }
+                final float dl = pl[i] - ql, da = pa[i] - qa, db = pb[i] - qb;
+                final float distance = dl * dl + da * da + db * db;
+                if (distance < bestDistance || (distance == bestDistance && index[i] < best)) {
+                    best = index[i];
+                    bestDistance = distance;
+                }
+            }
+            table[c] = (char) best;
+        }
+        return table;
+    }
+
+    /**
+     * Gets how many colors were in the palette this was constructed with, including any mostly-transparent ones.
+     * @return the number of colors in the palette
+     */
+    public int getPaletteSize() {
+        return colors.length;
+    }
+
+    /**
+     * Gets the packed Oklab color at the given index in the palette this was constructed with.
+     * @param index an index in the palette, such as one returned by {@link #paletteIndex(int)}
+     * @return the packed Oklab color at that index
+     */
+    public float getPaletteColor(int index) {
+        return colors[index];
+    }
+
+    public ParallelImageProcessor getProcessor() {
+        return processor;
+    }
+
+    public PaletteReducer setProcessor(ParallelImageProcessor processor) {
+        this.processor = processor == null ? new ParallelImageProcessor() : processor;
+        return this;
+    }
+
+    public float getDitherStrength() {
+        return ditherStrength;
+    }
+
+    /**
+     * Sets how strongly ordered and error-diffusion dithering are applied. At 1, the default, ordered dithering adds
+     * from -16 to 16 to each RGB channel (out of 255), and error diffusion passes on all the error it finds; 0 turns
+     * dithering off, and values above 1 make it stronger.
+     * @param ditherStrength how strong dithering should be; will be clamped to at least 0
+     * @return this, for chaining
+     */
+    public PaletteReducer setDitherStrength(float ditherStrength) {
+        this.ditherStrength = Math.max(ditherStrength, 0f);
+        final int[] offsets = new int[64];
+        for (int i = 0; i < 64; i++) {
+            offsets[i] = Math.round((BAYER[i] - 31.5f) * 0.5f * this.ditherStrength);
+        }
+        orderedOffsets = offsets;
+        return this;
+    }
+
+    /**
+     * Gets the index in the palette of the color closest to the given RGBA8888 color.
+     * @param rgba an RGBA8888 color
+     * @return the index of the closest palette color, or -1 if rgba has alpha below 128
+     */
+    public int paletteIndex(final int rgba) {
+        if ((rgba & 0x80) == 0) return -1;
+        return table[(rgba >>> 17 & 0x7C00) | (rgba >>> 14 & 0x3E0) | (rgba >>> 11 & 0x1F)];
+    }
+
+    /**
+     * Gets the palette color closest to the given RGBA8888 color, as RGBA8888.
+     * @param rgba an RGBA8888 color
+     * @return the closest palette color as RGBA8888, or 0 if rgba has alpha below 128
+     */
+    public int reduce(final int rgba) {
+        if ((rgba & 0x80) == 0) return 0;
+        return this.rgba[table[(rgba >>> 17 & 0x7C00) | (rgba >>> 14 & 0x3E0) | (rgba >>> 11 & 0x1F)]];
+    }
+
+    /**
+     * Changes each pixel in {@code pixels} to its closest palette color, without dithering, in-place.
+     * @param pixels an int array of RGBA8888 colors, with length at least {@code width * height}; will be modified
+     * @param width the width of the image in pixels
+     * @param height the height of the image in pixels
+     * @return pixels, after modifications
+     */
+    public int[] reduceSolid(int[] pixels, int width, int height) {
+        return processor.apply(pixels, width, height, solid);
+    }
+
+    /**
+     * Changes each pixel in an RGBA8888 Pixmap to its closest palette color, without dithering, in-place.
+     * @param pixmap a Pixmap that must use {@link Pixmap.Format#RGBA8888}; will be modified
+     * @return pixmap, after modifications
+     * @throws IllegalArgumentException if pixmap does not use the RGBA8888 format
+     */
+    public Pixmap reduceSolid(Pixmap pixmap) {
+        return processor.apply(pixmap, solid);
+    }
+
+    /**
+     * Changes each pixel in {@code pixels} to a palette color, using ordered dithering with an 8x8 Bayer matrix,
+     * in-place.
+     * @param pixels an int array of RGBA8888 colors, with length at least {@code width * height}; will be modified
+     * @param width the width of the image in pixels
+     * @param height the height of the image in pixels
+     * @return pixels, after modifications
+     */
+    public int[] reduceOrdered(int[] pixels, int width, int height) {
+        return processor.apply(pixels, width, height, ordered);
+    }
+
+    /**
+     * Changes each pixel in an RGBA8888 Pixmap to a palette color, using ordered dithering with an 8x8 Bayer matrix,
+     * in-place.
+     * @param pixmap a Pixmap that must use {@link Pixmap.Format#RGBA8888}; will be modified
+     * @return pixmap, after modifications
+     * @throws IllegalArgumentException if pixmap does not use the RGBA8888 format
+     */
+    public Pixmap reduceOrdered(Pixmap pixmap) {
+        return processor.apply(pixmap, ordered);
+    }
+
+    /**
+     * Changes each pixel in {@code pixels} to a palette color, using Floyd-Steinberg error diffusion, in-place. This
+     * runs on the calling thread.
+     * @param pixels an int array of RGBA8888 colors, with length at least {@code width * height}; will be modified
+     * @param width the width of the image in pixels
+     * @param height the height of the image in pixels
+     * @return pixels, after modifications
+     */
+    public int[] reduceDiffusion(int[] pixels, int width, int height) {
+        if (width <= 0 || height <= 0)
+            return pixels;
+        float[] current = new float[(width + 2) * 3], next = new float[(width + 2) * 3];
+        for (int y = 0; y < height; y++) {
+            diffuseRow(pixels, y * width, width, current, next);
+            final float[] t = current;
+            current = next;
+            next = t;
+        }
+        return pixels;
+    }
+
+    /**
+     * Changes each pixel in an RGBA8888 Pixmap to a palette color, using Floyd-Steinberg error diffusion, in-place.
+     * This runs on the calling thread.
+     * @param pixmap a Pixmap that must use {@link Pixmap.Format#RGBA8888}; will be modified
+     * @return pixmap, after modifications
+     * @throws IllegalArgumentException if pixmap does not use the RGBA8888 format
+     */
+    public Pixmap reduceDiffusion(Pixmap pixmap) {
+        final IntBuffer pixels = PixmapColorConverter.pixelView(pixmap);
+        final int width = pixmap.getWidth(), height = pixmap.getHeight();
+        if (width <= 0 || height <= 0)
+            return pixmap;
+        final int[] row = new int[width];
+        float[] current = new float[(width + 2) * 3], next = new float[(width + 2) * 3];
+        for (int y = 0; y < height; y++) {
+            pixels.position(y * width);
+            pixels.get(row);
+            diffuseRow(row, 0, width, current, next);
+            pixels.position(y * width);
+            pixels.put(row);
+            final float[] t = current;
+            current = next;
+            next = t;
+        }
+        return pixmap;
+    }
+
+    /**
+     * Reduces one row with Floyd-Steinberg error diffusion. The error for pixel x of this row is in {@code current} at
+     * {@code (x + 1) * 3}, as R, G, and B; error for the next row is added to {@code next}, which should be all zeros
+     * when this is called. When this returns, current has been cleared so it can be used as the next row's next.
+     */
+    protected void diffuseRow(final int[] pixels, final int offset, final int width, final float[] current,
+                              final float[] next) {
+        final float strength = ditherStrength;
+        for (int x = 0, e = 3; x < width; x++, e += 3) {
+            final int color = pixels[offset + x];
+            if ((color & 0x80) == 0) {
+                pixels[offset + x] = 0;
+                current[e] = current[e + 1] = current[e + 2] = 0f;
+                continue;
+            }
+            final float r = Math.min(Math.max((color >>> 24) + current[e], 0f), 255f);
+            final float g = Math.min(Math.max((color >>> 16 & 255) + current[e + 1], 0f), 255f);
+            final float b = Math.min(Math.max((color >>> 8 & 255) + current[e + 2], 0f), 255f);
+            current[e] = current[e + 1] = current[e + 2] = 0f;
+            final int used = rgba[table[((int) (r + 0.5f) << 7 & 0x7C00) | ((int) (g + 0.5f) << 2 & 0x3E0)
+                    | ((int) (b + 0.5f) >>> 3)]];
+            pixels[offset + x] = used;
+            final float er = (r - (used >>> 24)) * strength, eg = (g - (used >>> 16 & 255)) * strength,
+                    eb = (b - (used >>> 8 & 255)) * strength;
+            // 7/16 to the right, 3/16 below-left, 5/16 below, 1/16 below-right
+            current[e + 3] += er * 0x7p-4f;
+            current[e + 4] += eg * 0x7p-4f;
+            current[e + 5] += eb * 0x7p-4f;
+            next[e - 3] += er * 0x3p-4f;
+            next[e - 2] += eg * 0x3p-4f;
+            next[e - 1] += eb * 0x3p-4f;
+            next[e] += er * 0x5p-4f;
+            next[e + 1] += eg * 0x5p-4f;
+            next[e + 2] += eb * 0x5p-4f;
+            next[e + 3] += er * 0x1p-4f;
+            next[e + 4] += eg * 0x1p-4f;
+            next[e + 5] += eb * 0x1p-4f;
+        }
+        // the padding cells can collect error, but it is never used
+        current[0] = current[1] = current[2] = 0f;
+        final int last = (width + 1) * 3;
+        current[last] = current[last + 1] = current[last + 2] = 0f;
+    }
+}
@@ -21,6 +21,9 @@ import com.badlogic.gdx.graphics.Colors;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.github.tommyettinger.colorful.ColorNameTable;
+import com.github.tommyettinger.colorful.NamedColorTree;
 
 import java.util.Comparator;
 
@@ -52,7 +55,6 @@ public class Palette {
      * </pre>
      */
     public static final float TRANSPARENT = 0x0.0p0F;
-    static { NAMED.put("Transparent", 0x0.0p0F); LIST.add(0x0.0p0F); }
 
     /**
      * This color constant "Black" has RGBA8888 code {@code 000000FF}, hue 0.0, saturation 0.0, lightness 0.0, and alpha 1.0.
@@ -64,7 +66,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACK = -0x1.0p125F;
-    static { NAMED.put("Black", -0x1.0p125F); LIST.add(-0x1.0p125F); }
 
     /**
      * This color constant "Coal Black" has RGBA8888 code {@code 131313FF}, hue 0.0, saturation 0.0, lightness 0.07450981, and alpha 1.0.
@@ -76,7 +77,6 @@ public class Palette {
      * </pre>
      */
     public static final float COAL_BLACK = -0x1.262626p125F;
-    static { NAMED.put("Coal Black", -0x1.262626p125F); LIST.add(-0x1.262626p125F); }
 
     /**
      * This color constant "Shadow" has RGBA8888 code {@code 252525FF}, hue 0.0, saturation 0.0, lightness 0.14509805, and alpha 1.0.
@@ -88,7 +88,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHADOW = -0x1.4a4a4ap125F;
-    static { NAMED.put("Shadow", -0x1.4a4a4ap125F); LIST.add(-0x1.4a4a4ap125F); }
 
     /**
      * This color constant "Graphite" has RGBA8888 code {@code 373737FF}, hue 0.0, saturation 0.0, lightness 0.21568628, and alpha 1.0.
@@ -100,7 +99,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPHITE = -0x1.6e6e6ep125F;
-    static { NAMED.put("Graphite", -0x1.6e6e6ep125F); LIST.add(-0x1.6e6e6ep125F); }
 
     /**
      * This color constant "Dark Gray" has RGBA8888 code {@code 494949FF}, hue 0.0, saturation 0.0, lightness 0.28627452, and alpha 1.0.
@@ -112,7 +110,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_GRAY = -0x1.929292p125F;
-    static { NAMED.put("Dark Gray", -0x1.929292p125F); LIST.add(-0x1.929292p125F); }
 
     /**
      * This color constant "Lead" has RGBA8888 code {@code 5B5B5BFF}, hue 0.0, saturation 0.0, lightness 0.35686275, and alpha 1.0.
@@ -124,7 +121,6 @@ public class Palette {
      * </pre>
      */
     public static final float LEAD = -0x1.b6b6b6p125F;
-    static { NAMED.put("Lead", -0x1.b6b6b6p125F); LIST.add(-0x1.b6b6b6p125F); }
 
     /**
      * This color constant "Iron" has RGBA8888 code {@code 6E6E6EFF}, hue 0.0, saturation 0.0, lightness 0.43137255, and alpha 1.0.
@@ -136,7 +132,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRON = -0x1.dcdcdcp125F;
-    static { NAMED.put("Iron", -0x1.dcdcdcp125F); LIST.add(-0x1.dcdcdcp125F); }
 
     /**
      * This color constant "Gray" has RGBA8888 code {@code 808080FF}, hue 0.0, saturation 0.0, lightness 0.5019608, and alpha 1.0.
@@ -148,7 +143,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY = -0x1.0101p126F;
-    static { NAMED.put("Gray", -0x1.0101p126F); LIST.add(-0x1.0101p126F); }
 
     /**
      * This color constant "Chinchilla" has RGBA8888 code {@code 929292FF}, hue 0.0, saturation 0.0, lightness 0.57254905, and alpha 1.0.
@@ -160,7 +154,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHINCHILLA = -0x1.252524p126F;
-    static { NAMED.put("Chinchilla", -0x1.252524p126F); LIST.add(-0x1.252524p126F); }
 
     /**
      * This color constant "Greyhound" has RGBA8888 code {@code A4A4A4FF}, hue 0.0, saturation 0.0, lightness 0.6431373, and alpha 1.0.
@@ -172,7 +165,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREYHOUND = -0x1.494948p126F;
-    static { NAMED.put("Greyhound", -0x1.494948p126F); LIST.add(-0x1.494948p126F); }
 
     /**
      * This color constant "Silver" has RGBA8888 code {@code B6B6B6FF}, hue 0.0, saturation 0.0, lightness 0.7137255, and alpha 1.0.
@@ -184,7 +176,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER = -0x1.6d6d6cp126F;
-    static { NAMED.put("Silver", -0x1.6d6d6cp126F); LIST.add(-0x1.6d6d6cp126F); }
 
     /**
      * This color constant "Light Gray" has RGBA8888 code {@code C9C9C9FF}, hue 0.0, saturation 0.0, lightness 0.7882353, and alpha 1.0.
@@ -196,7 +187,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_GRAY = -0x1.939392p126F;
-    static { NAMED.put("Light Gray", -0x1.939392p126F); LIST.add(-0x1.939392p126F); }
 
     /**
      * This color constant "Platinum" has RGBA8888 code {@code DBDBDBFF}, hue 0.0, saturation 0.0, lightness 0.85882354, and alpha 1.0.
@@ -208,7 +198,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLATINUM = -0x1.b7b7b6p126F;
-    static { NAMED.put("Platinum", -0x1.b7b7b6p126F); LIST.add(-0x1.b7b7b6p126F); }
 
     /**
      * This color constant "Cloud" has RGBA8888 code {@code EDEDEDFF}, hue 0.0, saturation 0.0, lightness 0.92941177, and alpha 1.0.
@@ -220,7 +209,6 @@ public class Palette {
      * </pre>
      */
     public static final float CLOUD = -0x1.dbdbdap126F;
-    static { NAMED.put("Cloud", -0x1.dbdbdap126F); LIST.add(-0x1.dbdbdap126F); }
 
     /**
      * This color constant "White" has RGBA8888 code {@code FFFFFFFF}, hue 0.0, saturation 0.0, lightness 1.0, and alpha 1.0.
@@ -232,7 +220,6 @@ public class Palette {
      * </pre>
      */
     public static final float WHITE = -0x1.fffffep126F;
-    static { NAMED.put("White", -0x1.fffffep126F); LIST.add(-0x1.fffffep126F); }
 
     /**
      * This color constant "Seawater" has RGBA8888 code {@code 007F7FFF}, hue 0.5, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -244,7 +231,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAWATER = -0x1.fefep125F;
-    static { NAMED.put("Seawater", -0x1.fefep125F); LIST.add(-0x1.fefep125F); }
 
     /**
      * This color constant "Hospital Green" has RGBA8888 code {@code 3FBFBFFF}, hue 0.5, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -256,7 +242,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOSPITAL_GREEN = -0x1.7f7e7ep126F;
-    static { NAMED.put("Hospital Green", -0x1.7f7e7ep126F); LIST.add(-0x1.7f7e7ep126F); }
 
     /**
      * This color constant "Cyan" has RGBA8888 code {@code 00FFFFFF}, hue 0.5, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -268,7 +253,6 @@ public class Palette {
      * </pre>
      */
     public static final float CYAN = -0x1.fffep126F;
-    static { NAMED.put("Cyan", -0x1.fffep126F); LIST.add(-0x1.fffep126F); }
 
     /**
      * This color constant "Bubble" has RGBA8888 code {@code BFFFFFFF}, hue 0.5, saturation 0.25098038, lightness 0.8745098, and alpha 1.0.
@@ -280,7 +264,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE = -0x1.ffff7ep126F;
-    static { NAMED.put("Bubble", -0x1.ffff7ep126F); LIST.add(-0x1.ffff7ep126F); }
 
     /**
      * This color constant "Periwinkle" has RGBA8888 code {@code 8181FFFF}, hue 0.6666667, saturation 0.49411762, lightness 0.7529412, and alpha 1.0.
@@ -292,7 +275,6 @@ public class Palette {
      * </pre>
      */
     public static final float PERIWINKLE = -0x1.ff0302p126F;
-    static { NAMED.put("Periwinkle", -0x1.ff0302p126F); LIST.add(-0x1.ff0302p126F); }
 
     /**
      * This color constant "Blue" has RGBA8888 code {@code 0000FFFF}, hue 0.6666667, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -304,7 +286,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE = -0x1.fep126F;
-    static { NAMED.put("Blue", -0x1.fep126F); LIST.add(-0x1.fep126F); }
 
     /**
      * This color constant "Faded Blue" has RGBA8888 code {@code 3F3FBFFF}, hue 0.6666667, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -316,7 +297,6 @@ public class Palette {
      * </pre>
      */
     public static final float FADED_BLUE = -0x1.7e7e7ep126F;
-    static { NAMED.put("Faded Blue", -0x1.7e7e7ep126F); LIST.add(-0x1.7e7e7ep126F); }
 
     /**
      * This color constant "Ocean Blue" has RGBA8888 code {@code 00007FFF}, hue 0.6666667, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -328,7 +308,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCEAN_BLUE = -0x1.fep125F;
-    static { NAMED.put("Ocean Blue", -0x1.fep125F); LIST.add(-0x1.fep125F); }
 
     /**
      * This color constant "Stygian Blue" has RGBA8888 code {@code 0F0F50FF}, hue 0.6666667, saturation 0.25490198, lightness 0.18627451, and alpha 1.0.
@@ -340,7 +319,6 @@ public class Palette {
      * </pre>
      */
     public static final float STYGIAN_BLUE = -0x1.a01e1ep125F;
-    static { NAMED.put("Stygian Blue", -0x1.a01e1ep125F); LIST.add(-0x1.a01e1ep125F); }
 
     /**
      * This color constant "Deep Purple" has RGBA8888 code {@code 7F007FFF}, hue 0.8333333, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -352,7 +330,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_PURPLE = -0x1.fe00fep125F;
-    static { NAMED.put("Deep Purple", -0x1.fe00fep125F); LIST.add(-0x1.fe00fep125F); }
 
     /**
      * This color constant "Tyrian Purple" has RGBA8888 code {@code BF3FBFFF}, hue 0.8333334, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -364,7 +341,6 @@ public class Palette {
      * </pre>
      */
     public static final float TYRIAN_PURPLE = -0x1.7e7f7ep126F;
-    static { NAMED.put("Tyrian Purple", -0x1.7e7f7ep126F); LIST.add(-0x1.7e7f7ep126F); }
 
     /**
      * This color constant "Magenta" has RGBA8888 code {@code F500F5FF}, hue 0.8333333, saturation 0.9607843, lightness 0.48039216, and alpha 1.0.
@@ -376,7 +352,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAGENTA = -0x1.ea01eap126F;
-    static { NAMED.put("Magenta", -0x1.ea01eap126F); LIST.add(-0x1.ea01eap126F); }
 
     /**
      * This color constant "Bubblegum Pink" has RGBA8888 code {@code FD81FFFF}, hue 0.8306879, saturation 0.49411762, lightness 0.7529412, and alpha 1.0.
@@ -388,7 +363,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLEGUM_PINK = -0x1.ff03fap126F;
-    static { NAMED.put("Bubblegum Pink", -0x1.ff03fap126F); LIST.add(-0x1.ff03fap126F); }
 
     /**
      * This color constant "Pork Chop" has RGBA8888 code {@code FFC0CBFF}, hue 0.97089946, saturation 0.24705881, lightness 0.87647057, and alpha 1.0.
@@ -400,7 +374,6 @@ public class Palette {
      * </pre>
      */
     public static final float PORK_CHOP = -0x1.9781fep126F;
-    static { NAMED.put("Pork Chop", -0x1.9781fep126F); LIST.add(-0x1.9781fep126F); }
 
     /**
      * This color constant "Raw Meat" has RGBA8888 code {@code FF8181FF}, hue 0.0, saturation 0.49411762, lightness 0.7529412, and alpha 1.0.
@@ -412,7 +385,6 @@ public class Palette {
      * </pre>
      */
     public static final float RAW_MEAT = -0x1.0303fep126F;
-    static { NAMED.put("Raw Meat", -0x1.0303fep126F); LIST.add(-0x1.0303fep126F); }
 
     /**
      * This color constant "Red" has RGBA8888 code {@code FF0000FF}, hue 0.0, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -424,7 +396,6 @@ public class Palette {
      * </pre>
      */
     public static final float RED = -0x1.0001fep125F;
-    static { NAMED.put("Red", -0x1.0001fep125F); LIST.add(-0x1.0001fep125F); }
 
     /**
      * This color constant "Putty" has RGBA8888 code {@code BF3F3FFF}, hue 0.0, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -436,7 +407,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUTTY = -0x1.7e7f7ep125F;
-    static { NAMED.put("Putty", -0x1.7e7f7ep125F); LIST.add(-0x1.7e7f7ep125F); }
 
     /**
      * This color constant "Sienna" has RGBA8888 code {@code 7F0000FF}, hue 0.0, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -448,7 +418,6 @@ public class Palette {
      * </pre>
      */
     public static final float SIENNA = -0x1.0000fep125F;
-    static { NAMED.put("Sienna", -0x1.0000fep125F); LIST.add(-0x1.0000fep125F); }
 
     /**
      * This color constant "Seal Brown" has RGBA8888 code {@code 551414FF}, hue 0.0, saturation 0.25490198, lightness 0.20588236, and alpha 1.0.
@@ -460,7 +429,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAL_BROWN = -0x1.2828aap125F;
-    static { NAMED.put("Seal Brown", -0x1.2828aap125F); LIST.add(-0x1.2828aap125F); }
 
     /**
      * This color constant "Mummy Brown" has RGBA8888 code {@code 7F3F00FF}, hue 0.08267717, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -472,7 +440,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUMMY_BROWN = -0x1.007efep125F;
-    static { NAMED.put("Mummy Brown", -0x1.007efep125F); LIST.add(-0x1.007efep125F); }
 
     /**
      * This color constant "Fawn" has RGBA8888 code {@code BF7F3FFF}, hue 0.08333332, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -484,7 +451,6 @@ public class Palette {
      * </pre>
      */
     public static final float FAWN = -0x1.7eff7ep125F;
-    static { NAMED.put("Fawn", -0x1.7eff7ep125F); LIST.add(-0x1.7eff7ep125F); }
 
     /**
      * This color constant "Orange" has RGBA8888 code {@code FF7F00FF}, hue 0.08300654, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -496,7 +462,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORANGE = -0x1.00fffep125F;
-    static { NAMED.put("Orange", -0x1.00fffep125F); LIST.add(-0x1.00fffep125F); }
 
     /**
      * This color constant "Peach" has RGBA8888 code {@code FFBF81FF}, hue 0.08201058, saturation 0.49411762, lightness 0.7529412, and alpha 1.0.
@@ -508,7 +473,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEACH = -0x1.037ffep126F;
-    static { NAMED.put("Peach", -0x1.037ffep126F); LIST.add(-0x1.037ffep126F); }
 
     /**
      * This color constant "Cream" has RGBA8888 code {@code FFFFBFFF}, hue 0.16666667, saturation 0.25098038, lightness 0.8745098, and alpha 1.0.
@@ -520,7 +484,6 @@ public class Palette {
      * </pre>
      */
     public static final float CREAM = -0x1.7ffffep126F;
-    static { NAMED.put("Cream", -0x1.7ffffep126F); LIST.add(-0x1.7ffffep126F); }
 
     /**
      * This color constant "Yellow" has RGBA8888 code {@code FFFF00FF}, hue 0.16666667, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -532,7 +495,6 @@ public class Palette {
      * </pre>
      */
     public static final float YELLOW = -0x1.01fffep125F;
-    static { NAMED.put("Yellow", -0x1.01fffep125F); LIST.add(-0x1.01fffep125F); }
 
     /**
      * This color constant "Earwax" has RGBA8888 code {@code BFBF3FFF}, hue 0.16666666, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -544,7 +506,6 @@ public class Palette {
      * </pre>
      */
     public static final float EARWAX = -0x1.7f7f7ep125F;
-    static { NAMED.put("Earwax", -0x1.7f7f7ep125F); LIST.add(-0x1.7f7f7ep125F); }
 
     /**
      * This color constant "Umber" has RGBA8888 code {@code 7F7F00FF}, hue 0.16666667, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -556,7 +517,6 @@ public class Palette {
      * </pre>
      */
     public static final float UMBER = -0x1.00fefep125F;
-    static { NAMED.put("Umber", -0x1.00fefep125F); LIST.add(-0x1.00fefep125F); }
 
     /**
      * This color constant "Ivy Green" has RGBA8888 code {@code 007F00FF}, hue 0.33333334, saturation 0.49803922, lightness 0.24901961, and alpha 1.0.
@@ -568,7 +528,6 @@ public class Palette {
      * </pre>
      */
     public static final float IVY_GREEN = -0x1.00fep125F;
-    static { NAMED.put("Ivy Green", -0x1.00fep125F); LIST.add(-0x1.00fep125F); }
 
     /**
      * This color constant "Jade" has RGBA8888 code {@code 3FBF3FFF}, hue 0.33333334, saturation 0.5019608, lightness 0.49803922, and alpha 1.0.
@@ -580,7 +539,6 @@ public class Palette {
      * </pre>
      */
     public static final float JADE = -0x1.7f7e7ep125F;
-    static { NAMED.put("Jade", -0x1.7f7e7ep125F); LIST.add(-0x1.7f7e7ep125F); }
 
     /**
      * This color constant "Green" has RGBA8888 code {@code 00FF00FF}, hue 0.33333334, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -592,7 +550,6 @@ public class Palette {
      * </pre>
      */
     public static final float GREEN = -0x1.01fep125F;
-    static { NAMED.put("Green", -0x1.01fep125F); LIST.add(-0x1.01fep125F); }
 
     /**
      * This color constant "Celadon" has RGBA8888 code {@code AFFFAFFF}, hue 0.33333334, saturation 0.31372547, lightness 0.84313726, and alpha 1.0.
@@ -604,7 +561,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELADON = -0x1.5fff5ep126F;
-    static { NAMED.put("Celadon", -0x1.5fff5ep126F); LIST.add(-0x1.5fff5ep126F); }
 
     /**
      * This color constant "Puce" has RGBA8888 code {@code BCAFC0FF}, hue 0.7941177, saturation 0.06666666, lightness 0.7196079, and alpha 1.0.
@@ -616,7 +572,6 @@ public class Palette {
      * </pre>
      */
     public static final float PUCE = -0x1.815f78p126F;
-    static { NAMED.put("Puce", -0x1.815f78p126F); LIST.add(-0x1.815f78p126F); }
 
     /**
      * This color constant "Beige" has RGBA8888 code {@code CBAA89FF}, hue 0.083333336, saturation 0.2588235, lightness 0.6666667, and alpha 1.0.
@@ -628,7 +583,6 @@ public class Palette {
      * </pre>
      */
     public static final float BEIGE = -0x1.135596p126F;
-    static { NAMED.put("Beige", -0x1.135596p126F); LIST.add(-0x1.135596p126F); }
 
     /**
      * This color constant "Wet Stone" has RGBA8888 code {@code A6A090FF}, hue 0.121212125, saturation 0.086274505, lightness 0.60784316, and alpha 1.0.
@@ -640,7 +594,6 @@ public class Palette {
      * </pre>
      */
     public static final float WET_STONE = -0x1.21414cp126F;
-    static { NAMED.put("Wet Stone", -0x1.21414cp126F); LIST.add(-0x1.21414cp126F); }
 
     /**
      * This color constant "Slow Creek" has RGBA8888 code {@code 7E9494FF}, hue 0.5, saturation 0.086274534, lightness 0.53725487, and alpha 1.0.
@@ -652,7 +605,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLOW_CREEK = -0x1.2928fcp126F;
-    static { NAMED.put("Slow Creek", -0x1.2928fcp126F); LIST.add(-0x1.2928fcp126F); }
 
     /**
      * This color constant "Slate Gray" has RGBA8888 code {@code 6E8287FF}, hue 0.53333336, saturation 0.09803924, lightness 0.4803922, and alpha 1.0.
@@ -664,7 +616,6 @@ public class Palette {
      * </pre>
      */
     public static final float SLATE_GRAY = -0x1.0f04dcp126F;
-    static { NAMED.put("Slate Gray", -0x1.0f04dcp126F); LIST.add(-0x1.0f04dcp126F); }
 
     /**
      * This color constant "Light Skin 1" has RGBA8888 code {@code 7E6E60FF}, hue 0.07777778, saturation 0.11764705, lightness 0.43529412, and alpha 1.0.
@@ -676,7 +627,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_1 = -0x1.c0dcfcp125F;
-    static { NAMED.put("Light Skin 1", -0x1.c0dcfcp125F); LIST.add(-0x1.c0dcfcp125F); }
 
     /**
      * This color constant "Light Skin 2" has RGBA8888 code {@code A0695FFF}, hue 0.025641024, saturation 0.25490198, lightness 0.5, and alpha 1.0.
@@ -688,7 +638,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_2 = -0x1.bed34p125F;
-    static { NAMED.put("Light Skin 2", -0x1.bed34p125F); LIST.add(-0x1.bed34p125F); }
 
     /**
      * This color constant "Light Skin 3" has RGBA8888 code {@code C07872FF}, hue 0.012820511, saturation 0.30588236, lightness 0.6, and alpha 1.0.
@@ -700,7 +649,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_3 = -0x1.e4f18p125F;
-    static { NAMED.put("Light Skin 3", -0x1.e4f18p125F); LIST.add(-0x1.e4f18p125F); }
 
     /**
      * This color constant "Light Skin 4" has RGBA8888 code {@code D08A74FF}, hue 0.03985508, saturation 0.36078432, lightness 0.63529414, and alpha 1.0.
@@ -712,7 +660,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_4 = -0x1.e915ap125F;
-    static { NAMED.put("Light Skin 4", -0x1.e915ap125F); LIST.add(-0x1.e915ap125F); }
 
     /**
      * This color constant "Light Skin 5" has RGBA8888 code {@code E19B7DFF}, hue 0.05000001, saturation 0.39215687, lightness 0.6862745, and alpha 1.0.
@@ -724,7 +671,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_5 = -0x1.fb37c2p125F;
-    static { NAMED.put("Light Skin 5", -0x1.fb37c2p125F); LIST.add(-0x1.fb37c2p125F); }
 
     /**
      * This color constant "Light Skin 6" has RGBA8888 code {@code EBAA8CFF}, hue 0.052631583, saturation 0.372549, lightness 0.73529416, and alpha 1.0.
@@ -736,7 +682,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_6 = -0x1.1955d6p126F;
-    static { NAMED.put("Light Skin 6", -0x1.1955d6p126F); LIST.add(-0x1.1955d6p126F); }
 
     /**
      * This color constant "Light Skin 7" has RGBA8888 code {@code F5B99BFF}, hue 0.055555556, saturation 0.35294116, lightness 0.78431374, and alpha 1.0.
@@ -748,7 +693,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_7 = -0x1.3773eap126F;
-    static { NAMED.put("Light Skin 7", -0x1.3773eap126F); LIST.add(-0x1.3773eap126F); }
 
     /**
      * This color constant "Light Skin 8" has RGBA8888 code {@code F6C8AFFF}, hue 0.058685444, saturation 0.27843136, lightness 0.82549024, and alpha 1.0.
@@ -760,7 +704,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_8 = -0x1.5f91ecp126F;
-    static { NAMED.put("Light Skin 8", -0x1.5f91ecp126F); LIST.add(-0x1.5f91ecp126F); }
 
     /**
      * This color constant "Light Skin 9" has RGBA8888 code {@code F5E1D2FF}, hue 0.071428575, saturation 0.1372549, lightness 0.8921569, and alpha 1.0.
@@ -772,7 +715,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIGHT_SKIN_9 = -0x1.a5c3eap126F;
-    static { NAMED.put("Light Skin 9", -0x1.a5c3eap126F); LIST.add(-0x1.a5c3eap126F); }
 
     /**
      * This color constant "Dark Skin 1" has RGBA8888 code {@code 573B3BFF}, hue 0.0, saturation 0.10980393, lightness 0.28627452, and alpha 1.0.
@@ -784,7 +726,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_1 = -0x1.7676aep125F;
-    static { NAMED.put("Dark Skin 1", -0x1.7676aep125F); LIST.add(-0x1.7676aep125F); }
 
     /**
      * This color constant "Dark Skin 2" has RGBA8888 code {@code 73413CFF}, hue 0.015151525, saturation 0.21568628, lightness 0.34313726, and alpha 1.0.
@@ -796,7 +737,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_2 = -0x1.7882e6p125F;
-    static { NAMED.put("Dark Skin 2", -0x1.7882e6p125F); LIST.add(-0x1.7882e6p125F); }
 
     /**
      * This color constant "Dark Skin 3" has RGBA8888 code {@code 8E5555FF}, hue 0.0, saturation 0.22352943, lightness 0.44509807, and alpha 1.0.
@@ -808,7 +748,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_SKIN_3 = -0x1.aaab1cp125F;
-    static { NAMED.put("Dark Skin 3", -0x1.aaab1cp125F); LIST.add(-0x1.aaab1cp125F); }
 
     /**
      * This color constant "Pink Skin 1" has RGBA8888 code {@code AB7373FF}, hue 0.0, saturation 0.21960786, lightness 0.56078434, and alpha 1.0.
@@ -820,7 +759,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_1 = -0x1.e6e756p125F;
-    static { NAMED.put("Pink Skin 1", -0x1.e6e756p125F); LIST.add(-0x1.e6e756p125F); }
 
     /**
      * This color constant "Pink Skin 2" has RGBA8888 code {@code C78F8FFF}, hue 0.0, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -832,7 +770,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_2 = -0x1.1f1f8ep126F;
-    static { NAMED.put("Pink Skin 2", -0x1.1f1f8ep126F); LIST.add(-0x1.1f1f8ep126F); }
 
     /**
      * This color constant "Pink Skin 3" has RGBA8888 code {@code E3ABABFF}, hue 0.0, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -844,7 +781,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_3 = -0x1.5757c6p126F;
-    static { NAMED.put("Pink Skin 3", -0x1.5757c6p126F); LIST.add(-0x1.5757c6p126F); }
 
     /**
      * This color constant "Pink Skin 4" has RGBA8888 code {@code F8D2DAFF}, hue 0.9649123, saturation 0.1490196, lightness 0.8980392, and alpha 1.0.
@@ -856,7 +792,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_SKIN_4 = -0x1.b5a5fp126F;
-    static { NAMED.put("Pink Skin 4", -0x1.b5a5fp126F); LIST.add(-0x1.b5a5fp126F); }
 
     /**
      * This color constant "Bronze Skin 4" has RGBA8888 code {@code E3C7ABFF}, hue 0.083333336, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -868,7 +803,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_4 = -0x1.578fc6p126F;
-    static { NAMED.put("Bronze Skin 4", -0x1.578fc6p126F); LIST.add(-0x1.578fc6p126F); }
 
     /**
      * This color constant "Bronze Skin 3" has RGBA8888 code {@code C49E73FF}, hue 0.08847737, saturation 0.31764707, lightness 0.6098039, and alpha 1.0.
@@ -880,7 +814,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_3 = -0x1.e73d88p125F;
-    static { NAMED.put("Bronze Skin 3", -0x1.e73d88p125F); LIST.add(-0x1.e73d88p125F); }
 
     /**
      * This color constant "Bronze Skin 2" has RGBA8888 code {@code 8F7357FF}, hue 0.08333332, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -892,7 +825,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_2 = -0x1.aee71ep125F;
-    static { NAMED.put("Bronze Skin 2", -0x1.aee71ep125F); LIST.add(-0x1.aee71ep125F); }
 
     /**
      * This color constant "Bronze Skin 1" has RGBA8888 code {@code 73573BFF}, hue 0.083333336, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -904,7 +836,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRONZE_SKIN_1 = -0x1.76aee6p125F;
-    static { NAMED.put("Bronze Skin 1", -0x1.76aee6p125F); LIST.add(-0x1.76aee6p125F); }
 
     /**
      * This color constant "Taupe" has RGBA8888 code {@code 3B2D1FFF}, hue 0.083333336, saturation 0.10980392, lightness 0.1764706, and alpha 1.0.
@@ -916,7 +847,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAUPE = -0x1.3e5a76p125F;
-    static { NAMED.put("Taupe", -0x1.3e5a76p125F); LIST.add(-0x1.3e5a76p125F); }
 
     /**
      * This color constant "Drab Green" has RGBA8888 code {@code 414123FF}, hue 0.16666666, saturation 0.11764707, lightness 0.19607845, and alpha 1.0.
@@ -928,7 +858,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRAB_GREEN = -0x1.468282p125F;
-    static { NAMED.put("Drab Green", -0x1.468282p125F); LIST.add(-0x1.468282p125F); }
 
     /**
      * This color constant "Lizard Scales" has RGBA8888 code {@code 73733BFF}, hue 0.16666666, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -940,7 +869,6 @@ public class Palette {
      * </pre>
      */
     public static final float LIZARD_SCALES = -0x1.76e6e6p125F;
-    static { NAMED.put("Lizard Scales", -0x1.76e6e6p125F); LIST.add(-0x1.76e6e6p125F); }
 
     /**
      * This color constant "Cricket" has RGBA8888 code {@code 8F8F57FF}, hue 0.16666666, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -952,7 +880,6 @@ public class Palette {
      * </pre>
      */
     public static final float CRICKET = -0x1.af1f1ep125F;
-    static { NAMED.put("Cricket", -0x1.af1f1ep125F); LIST.add(-0x1.af1f1ep125F); }
 
     /**
      * This color constant "Olive Oil" has RGBA8888 code {@code A2A255FF}, hue 0.16666667, saturation 0.3019608, lightness 0.48431373, and alpha 1.0.
@@ -964,7 +891,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_OIL = -0x1.ab4544p125F;
-    static { NAMED.put("Olive Oil", -0x1.ab4544p125F); LIST.add(-0x1.ab4544p125F); }
 
     /**
      * This color constant "Dun" has RGBA8888 code {@code B5B572FF}, hue 0.16666667, saturation 0.2627451, lightness 0.57843137, and alpha 1.0.
@@ -976,7 +902,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUN = -0x1.e56b6ap125F;
-    static { NAMED.put("Dun", -0x1.e56b6ap125F); LIST.add(-0x1.e56b6ap125F); }
 
     /**
      * This color constant "Corn Silk" has RGBA8888 code {@code C7C78FFF}, hue 0.16666667, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -988,7 +913,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORN_SILK = -0x1.1f8f8ep126F;
-    static { NAMED.put("Corn Silk", -0x1.1f8f8ep126F); LIST.add(-0x1.1f8f8ep126F); }
 
     /**
      * This color constant "Tan" has RGBA8888 code {@code DADAABFF}, hue 0.16666667, saturation 0.18431371, lightness 0.7627451, and alpha 1.0.
@@ -1000,7 +924,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAN = -0x1.57b5b4p126F;
-    static { NAMED.put("Tan", -0x1.57b5b4p126F); LIST.add(-0x1.57b5b4p126F); }
 
     /**
      * This color constant "Straw" has RGBA8888 code {@code EDEDC7FF}, hue 0.16666667, saturation 0.1490196, lightness 0.85490197, and alpha 1.0.
@@ -1012,7 +935,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRAW = -0x1.8fdbdap126F;
-    static { NAMED.put("Straw", -0x1.8fdbdap126F); LIST.add(-0x1.8fdbdap126F); }
 
     /**
      * This color constant "Honeydew" has RGBA8888 code {@code C7E3ABFF}, hue 0.25, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -1024,7 +946,6 @@ public class Palette {
      * </pre>
      */
     public static final float HONEYDEW = -0x1.57c78ep126F;
-    static { NAMED.put("Honeydew", -0x1.57c78ep126F); LIST.add(-0x1.57c78ep126F); }
 
     /**
      * This color constant "Tarnish" has RGBA8888 code {@code ABC78FFF}, hue 0.25, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1036,7 +957,6 @@ public class Palette {
      * </pre>
      */
     public static final float TARNISH = -0x1.1f8f56p126F;
-    static { NAMED.put("Tarnish", -0x1.1f8f56p126F); LIST.add(-0x1.1f8f56p126F); }
 
     /**
      * This color constant "Pea Soup" has RGBA8888 code {@code 8EBE55FF}, hue 0.24285714, saturation 0.4117647, lightness 0.5392157, and alpha 1.0.
@@ -1048,7 +968,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEA_SOUP = -0x1.ab7d1cp125F;
-    static { NAMED.put("Pea Soup", -0x1.ab7d1cp125F); LIST.add(-0x1.ab7d1cp125F); }
 
     /**
      * This color constant "Marsh" has RGBA8888 code {@code 738F57FF}, hue 0.25000003, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1060,7 +979,6 @@ public class Palette {
      * </pre>
      */
     public static final float MARSH = -0x1.af1ee6p125F;
-    static { NAMED.put("Marsh", -0x1.af1ee6p125F); LIST.add(-0x1.af1ee6p125F); }
 
     /**
      * This color constant "Asparagus" has RGBA8888 code {@code 587D3EFF}, hue 0.26455027, saturation 0.24705882, lightness 0.36666667, and alpha 1.0.
@@ -1072,7 +990,6 @@ public class Palette {
      * </pre>
      */
     public static final float ASPARAGUS = -0x1.7cfabp125F;
-    static { NAMED.put("Asparagus", -0x1.7cfabp125F); LIST.add(-0x1.7cfabp125F); }
 
     /**
      * This color constant "Peat Bog" has RGBA8888 code {@code 465032FF}, hue 0.22222224, saturation 0.11764707, lightness 0.25490198, and alpha 1.0.
@@ -1084,7 +1001,6 @@ public class Palette {
      * </pre>
      */
     public static final float PEAT_BOG = -0x1.64a08cp125F;
-    static { NAMED.put("Peat Bog", -0x1.64a08cp125F); LIST.add(-0x1.64a08cp125F); }
 
     /**
      * This color constant "Deep Jungle" has RGBA8888 code {@code 191E0FFF}, hue 0.22222224, saturation 0.05882353, lightness 0.0882353, and alpha 1.0.
@@ -1096,7 +1012,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_JUNGLE = -0x1.1e3c32p125F;
-    static { NAMED.put("Deep Jungle", -0x1.1e3c32p125F); LIST.add(-0x1.1e3c32p125F); }
 
     /**
      * This color constant "Pine Green" has RGBA8888 code {@code 235037FF}, hue 0.4074074, saturation 0.1764706, lightness 0.2254902, and alpha 1.0.
@@ -1108,7 +1023,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINE_GREEN = -0x1.6ea046p125F;
-    static { NAMED.put("Pine Green", -0x1.6ea046p125F); LIST.add(-0x1.6ea046p125F); }
 
     /**
      * This color constant "Olive Green" has RGBA8888 code {@code 3B573BFF}, hue 0.33333334, saturation 0.10980393, lightness 0.28627452, and alpha 1.0.
@@ -1120,7 +1034,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLIVE_GREEN = -0x1.76ae76p125F;
-    static { NAMED.put("Olive Green", -0x1.76ae76p125F); LIST.add(-0x1.76ae76p125F); }
 
     /**
      * This color constant "Gray Green" has RGBA8888 code {@code 506450FF}, hue 0.33333334, saturation 0.07843137, lightness 0.3529412, and alpha 1.0.
@@ -1132,7 +1045,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAY_GREEN = -0x1.a0c8ap125F;
-    static { NAMED.put("Gray Green", -0x1.a0c8ap125F); LIST.add(-0x1.a0c8ap125F); }
 
     /**
      * This color constant "Maidenhair Fern" has RGBA8888 code {@code 3B7349FF}, hue 0.37500003, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -1144,7 +1056,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAIDENHAIR_FERN = -0x1.92e676p125F;
-    static { NAMED.put("Maidenhair Fern", -0x1.92e676p125F); LIST.add(-0x1.92e676p125F); }
 
     /**
      * This color constant "Kelly Green" has RGBA8888 code {@code 578F57FF}, hue 0.33333334, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1156,7 +1067,6 @@ public class Palette {
      * </pre>
      */
     public static final float KELLY_GREEN = -0x1.af1eaep125F;
-    static { NAMED.put("Kelly Green", -0x1.af1eaep125F); LIST.add(-0x1.af1eaep125F); }
 
     /**
      * This color constant "Dusty Green" has RGBA8888 code {@code 73AB73FF}, hue 0.33333334, saturation 0.21960786, lightness 0.56078434, and alpha 1.0.
@@ -1168,7 +1078,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GREEN = -0x1.e756e6p125F;
-    static { NAMED.put("Dusty Green", -0x1.e756e6p125F); LIST.add(-0x1.e756e6p125F); }
 
     /**
      * This color constant "Garter Snake" has RGBA8888 code {@code 64C082FF}, hue 0.3876812, saturation 0.36078432, lightness 0.57254905, and alpha 1.0.
@@ -1180,7 +1089,6 @@ public class Palette {
      * </pre>
      */
     public static final float GARTER_SNAKE = -0x1.0580c8p126F;
-    static { NAMED.put("Garter Snake", -0x1.0580c8p126F); LIST.add(-0x1.0580c8p126F); }
 
     /**
      * This color constant "Silver Green" has RGBA8888 code {@code 8FC78FFF}, hue 0.33333334, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1192,7 +1100,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_GREEN = -0x1.1f8f1ep126F;
-    static { NAMED.put("Silver Green", -0x1.1f8f1ep126F); LIST.add(-0x1.1f8f1ep126F); }
 
     /**
      * This color constant "Pistachio" has RGBA8888 code {@code A2D8A2FF}, hue 0.33333334, saturation 0.2117647, lightness 0.7411765, and alpha 1.0.
@@ -1204,7 +1111,6 @@ public class Palette {
      * </pre>
      */
     public static final float PISTACHIO = -0x1.45b144p126F;
-    static { NAMED.put("Pistachio", -0x1.45b144p126F); LIST.add(-0x1.45b144p126F); }
 
     /**
      * This color constant "Angel Wing" has RGBA8888 code {@code E1F8FAFF}, hue 0.5133333, saturation 0.09803921, lightness 0.9313725, and alpha 1.0.
@@ -1216,7 +1122,6 @@ public class Palette {
      * </pre>
      */
     public static final float ANGEL_WING = -0x1.f5f1c2p126F;
-    static { NAMED.put("Angel Wing", -0x1.f5f1c2p126F); LIST.add(-0x1.f5f1c2p126F); }
 
     /**
      * This color constant "Sage Green" has RGBA8888 code {@code B4EECAFF}, hue 0.39655173, saturation 0.22745097, lightness 0.81960785, and alpha 1.0.
@@ -1228,7 +1133,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAGE_GREEN = -0x1.95dd68p126F;
-    static { NAMED.put("Sage Green", -0x1.95dd68p126F); LIST.add(-0x1.95dd68p126F); }
 
     /**
      * This color constant "Dried Sage" has RGBA8888 code {@code ABE3C5FF}, hue 0.4107143, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -1240,7 +1144,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIED_SAGE = -0x1.8bc756p126F;
-    static { NAMED.put("Dried Sage", -0x1.8bc756p126F); LIST.add(-0x1.8bc756p126F); }
 
     /**
      * This color constant "Artichoke" has RGBA8888 code {@code 87B48EFF}, hue 0.35925928, saturation 0.17647058, lightness 0.61764705, and alpha 1.0.
@@ -1252,7 +1155,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARTICHOKE = -0x1.1d690ep126F;
-    static { NAMED.put("Artichoke", -0x1.1d690ep126F); LIST.add(-0x1.1d690ep126F); }
 
     /**
      * This color constant "Viridian" has RGBA8888 code {@code 507D5FFF}, hue 0.3888889, saturation 0.17647058, lightness 0.4019608, and alpha 1.0.
@@ -1264,7 +1166,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIRIDIAN = -0x1.befaap125F;
-    static { NAMED.put("Viridian", -0x1.befaap125F); LIST.add(-0x1.befaap125F); }
 
     /**
      * This color constant "Floral Foam" has RGBA8888 code {@code 0F6946FF}, hue 0.4351852, saturation 0.3529412, lightness 0.2352941, and alpha 1.0.
@@ -1276,7 +1177,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLORAL_FOAM = -0x1.8cd21ep125F;
-    static { NAMED.put("Floral Foam", -0x1.8cd21ep125F); LIST.add(-0x1.8cd21ep125F); }
 
     /**
      * This color constant "Hunter Green" has RGBA8888 code {@code 1E2D23FF}, hue 0.3888889, saturation 0.058823533, lightness 0.14705883, and alpha 1.0.
@@ -1288,7 +1188,6 @@ public class Palette {
      * </pre>
      */
     public static final float HUNTER_GREEN = -0x1.465a3cp125F;
-    static { NAMED.put("Hunter Green", -0x1.465a3cp125F); LIST.add(-0x1.465a3cp125F); }
 
     /**
      * This color constant "Dark Teal" has RGBA8888 code {@code 234146FF}, hue 0.52380955, saturation 0.13725491, lightness 0.20588237, and alpha 1.0.
@@ -1300,7 +1199,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_TEAL = -0x1.8c8246p125F;
-    static { NAMED.put("Dark Teal", -0x1.8c8246p125F); LIST.add(-0x1.8c8246p125F); }
 
     /**
      * This color constant "Kyanite" has RGBA8888 code {@code 3B7373FF}, hue 0.5, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -1312,7 +1210,6 @@ public class Palette {
      * </pre>
      */
     public static final float KYANITE = -0x1.e6e676p125F;
-    static { NAMED.put("Kyanite", -0x1.e6e676p125F); LIST.add(-0x1.e6e676p125F); }
 
     /**
      * This color constant "Spearmint" has RGBA8888 code {@code 64ABABFF}, hue 0.5, saturation 0.2784314, lightness 0.53137255, and alpha 1.0.
@@ -1324,7 +1221,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPEARMINT = -0x1.5756c8p126F;
-    static { NAMED.put("Spearmint", -0x1.5756c8p126F); LIST.add(-0x1.5756c8p126F); }
 
     /**
      * This color constant "Amazonite" has RGBA8888 code {@code 8FC7C7FF}, hue 0.5, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1336,7 +1232,6 @@ public class Palette {
      * </pre>
      */
     public static final float AMAZONITE = -0x1.8f8f1ep126F;
-    static { NAMED.put("Amazonite", -0x1.8f8f1ep126F); LIST.add(-0x1.8f8f1ep126F); }
 
     /**
      * This color constant "Pastel Sky" has RGBA8888 code {@code ABE3E3FF}, hue 0.5, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -1348,7 +1243,6 @@ public class Palette {
      * </pre>
      */
     public static final float PASTEL_SKY = -0x1.c7c756p126F;
-    static { NAMED.put("Pastel Sky", -0x1.c7c756p126F); LIST.add(-0x1.c7c756p126F); }
 
     /**
      * This color constant "Aquamarine" has RGBA8888 code {@code C7F1F1FF}, hue 0.5, saturation 0.16470587, lightness 0.8627451, and alpha 1.0.
@@ -1360,7 +1254,6 @@ public class Palette {
      * </pre>
      */
     public static final float AQUAMARINE = -0x1.e3e38ep126F;
-    static { NAMED.put("Aquamarine", -0x1.e3e38ep126F); LIST.add(-0x1.e3e38ep126F); }
 
     /**
      * This color constant "Dust Bunny" has RGBA8888 code {@code BED2F0FF}, hue 0.6, saturation 0.19607842, lightness 0.8431373, and alpha 1.0.
@@ -1372,7 +1265,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUST_BUNNY = -0x1.e1a57cp126F;
-    static { NAMED.put("Dust Bunny", -0x1.e1a57cp126F); LIST.add(-0x1.e1a57cp126F); }
 
     /**
      * This color constant "Patina" has RGBA8888 code {@code ABC7E3FF}, hue 0.5833334, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -1384,7 +1276,6 @@ public class Palette {
      * </pre>
      */
     public static final float PATINA = -0x1.c78f56p126F;
-    static { NAMED.put("Patina", -0x1.c78f56p126F); LIST.add(-0x1.c78f56p126F); }
 
     /**
      * This color constant "Chipped Granite" has RGBA8888 code {@code A8B9DCFF}, hue 0.6121795, saturation 0.20392156, lightness 0.7607843, and alpha 1.0.
@@ -1396,7 +1287,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHIPPED_GRANITE = -0x1.b9735p126F;
-    static { NAMED.put("Chipped Granite", -0x1.b9735p126F); LIST.add(-0x1.b9735p126F); }
 
     /**
      * This color constant "Blue Smoke" has RGBA8888 code {@code 8FABC7FF}, hue 0.5833334, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1408,7 +1298,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_SMOKE = -0x1.8f571ep126F;
-    static { NAMED.put("Blue Smoke", -0x1.8f571ep126F); LIST.add(-0x1.8f571ep126F); }
 
     /**
      * This color constant "Air Force Blue" has RGBA8888 code {@code 578FC7FF}, hue 0.5833334, saturation 0.4392157, lightness 0.56078434, and alpha 1.0.
@@ -1420,7 +1309,6 @@ public class Palette {
      * </pre>
      */
     public static final float AIR_FORCE_BLUE = -0x1.8f1eaep126F;
-    static { NAMED.put("Air Force Blue", -0x1.8f1eaep126F); LIST.add(-0x1.8f1eaep126F); }
 
     /**
      * This color constant "Cold Iron" has RGBA8888 code {@code 57738FFF}, hue 0.5833334, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1432,7 +1320,6 @@ public class Palette {
      * </pre>
      */
     public static final float COLD_IRON = -0x1.1ee6aep126F;
-    static { NAMED.put("Cold Iron", -0x1.1ee6aep126F); LIST.add(-0x1.1ee6aep126F); }
 
     /**
      * This color constant "Dreary Blue" has RGBA8888 code {@code 3B5773FF}, hue 0.5833334, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -1444,7 +1331,6 @@ public class Palette {
      * </pre>
      */
     public static final float DREARY_BLUE = -0x1.e6ae76p125F;
-    static { NAMED.put("Dreary Blue", -0x1.e6ae76p125F); LIST.add(-0x1.e6ae76p125F); }
 
     /**
      * This color constant "Murk" has RGBA8888 code {@code 0F192DFF}, hue 0.61111116, saturation 0.11764707, lightness 0.11764705, and alpha 1.0.
@@ -1456,7 +1342,6 @@ public class Palette {
      * </pre>
      */
     public static final float MURK = -0x1.5a321ep125F;
-    static { NAMED.put("Murk", -0x1.5a321ep125F); LIST.add(-0x1.5a321ep125F); }
 
     /**
      * This color constant "Ninja" has RGBA8888 code {@code 1F1F3BFF}, hue 0.6666667, saturation 0.10980392, lightness 0.1764706, and alpha 1.0.
@@ -1468,7 +1353,6 @@ public class Palette {
      * </pre>
      */
     public static final float NINJA = -0x1.763e3ep125F;
-    static { NAMED.put("Ninja", -0x1.763e3ep125F); LIST.add(-0x1.763e3ep125F); }
 
     /**
      * This color constant "Watercolor Black" has RGBA8888 code {@code 3B3B57FF}, hue 0.6666667, saturation 0.10980393, lightness 0.28627452, and alpha 1.0.
@@ -1480,7 +1364,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_BLACK = -0x1.ae7676p125F;
-    static { NAMED.put("Watercolor Black", -0x1.ae7676p125F); LIST.add(-0x1.ae7676p125F); }
 
     /**
      * This color constant "Iolite" has RGBA8888 code {@code 494973FF}, hue 0.6666667, saturation 0.16470587, lightness 0.36862746, and alpha 1.0.
@@ -1492,7 +1375,6 @@ public class Palette {
      * </pre>
      */
     public static final float IOLITE = -0x1.e69292p125F;
-    static { NAMED.put("Iolite", -0x1.e69292p125F); LIST.add(-0x1.e69292p125F); }
 
     /**
      * This color constant "Boysenberry" has RGBA8888 code {@code 57578FFF}, hue 0.6666667, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1504,7 +1386,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOYSENBERRY = -0x1.1eaeaep126F;
-    static { NAMED.put("Boysenberry", -0x1.1eaeaep126F); LIST.add(-0x1.1eaeaep126F); }
 
     /**
      * This color constant "Watercolor Gray" has RGBA8888 code {@code 736EAAFF}, hue 0.6805556, saturation 0.23529413, lightness 0.54901963, and alpha 1.0.
@@ -1516,7 +1397,6 @@ public class Palette {
      * </pre>
      */
     public static final float WATERCOLOR_GRAY = -0x1.54dce6p126F;
-    static { NAMED.put("Watercolor Gray", -0x1.54dce6p126F); LIST.add(-0x1.54dce6p126F); }
 
     /**
      * This color constant "Blue Steel" has RGBA8888 code {@code 7676CAFF}, hue 0.6666667, saturation 0.32941177, lightness 0.627451, and alpha 1.0.
@@ -1528,7 +1408,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_STEEL = -0x1.94ececp126F;
-    static { NAMED.put("Blue Steel", -0x1.94ececp126F); LIST.add(-0x1.94ececp126F); }
 
     /**
      * This color constant "Twilight Cloud" has RGBA8888 code {@code 8F8FC7FF}, hue 0.6666667, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1540,7 +1419,6 @@ public class Palette {
      * </pre>
      */
     public static final float TWILIGHT_CLOUD = -0x1.8f1f1ep126F;
-    static { NAMED.put("Twilight Cloud", -0x1.8f1f1ep126F); LIST.add(-0x1.8f1f1ep126F); }
 
     /**
      * This color constant "Smog" has RGBA8888 code {@code ABABE3FF}, hue 0.6666667, saturation 0.21960783, lightness 0.78039217, and alpha 1.0.
@@ -1552,7 +1430,6 @@ public class Palette {
      * </pre>
      */
     public static final float SMOG = -0x1.c75756p126F;
-    static { NAMED.put("Smog", -0x1.c75756p126F); LIST.add(-0x1.c75756p126F); }
 
     /**
      * This color constant "Tropic Mist" has RGBA8888 code {@code D0DAF8FF}, hue 0.625, saturation 0.15686274, lightness 0.89411765, and alpha 1.0.
@@ -1564,7 +1441,6 @@ public class Palette {
      * </pre>
      */
     public static final float TROPIC_MIST = -0x1.f1b5ap126F;
-    static { NAMED.put("Tropic Mist", -0x1.f1b5ap126F); LIST.add(-0x1.f1b5ap126F); }
 
     /**
      * This color constant "Feather Down" has RGBA8888 code {@code E3E3FFFF}, hue 0.6666667, saturation 0.109803915, lightness 0.94509804, and alpha 1.0.
@@ -1576,7 +1452,6 @@ public class Palette {
      * </pre>
      */
     public static final float FEATHER_DOWN = -0x1.ffc7c6p126F;
-    static { NAMED.put("Feather Down", -0x1.ffc7c6p126F); LIST.add(-0x1.ffc7c6p126F); }
 
     /**
      * This color constant "Mild Violet" has RGBA8888 code {@code AB8FC7FF}, hue 0.75, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1588,7 +1463,6 @@ public class Palette {
      * </pre>
      */
     public static final float MILD_VIOLET = -0x1.8f1f56p126F;
-    static { NAMED.put("Mild Violet", -0x1.8f1f56p126F); LIST.add(-0x1.8f1f56p126F); }
 
     /**
      * This color constant "Violet Cushions" has RGBA8888 code {@code 8F57C7FF}, hue 0.75, saturation 0.4392157, lightness 0.56078434, and alpha 1.0.
@@ -1600,7 +1474,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET_CUSHIONS = -0x1.8eaf1ep126F;
-    static { NAMED.put("Violet Cushions", -0x1.8eaf1ep126F); LIST.add(-0x1.8eaf1ep126F); }
 
     /**
      * This color constant "Dull Violet" has RGBA8888 code {@code 73578FFF}, hue 0.75, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1612,7 +1485,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_VIOLET = -0x1.1eaee6p126F;
-    static { NAMED.put("Dull Violet", -0x1.1eaee6p126F); LIST.add(-0x1.1eaee6p126F); }
 
     /**
      * This color constant "Royal Violet" has RGBA8888 code {@code 573B73FF}, hue 0.75, saturation 0.21960784, lightness 0.34117645, and alpha 1.0.
@@ -1624,7 +1496,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_VIOLET = -0x1.e676aep125F;
-    static { NAMED.put("Royal Violet", -0x1.e676aep125F); LIST.add(-0x1.e676aep125F); }
 
     /**
      * This color constant "Eminence" has RGBA8888 code {@code 3C233CFF}, hue 0.8333333, saturation 0.09803921, lightness 0.18627451, and alpha 1.0.
@@ -1636,7 +1507,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMINENCE = -0x1.784678p125F;
-    static { NAMED.put("Eminence", -0x1.784678p125F); LIST.add(-0x1.784678p125F); }
 
     /**
      * This color constant "Prune" has RGBA8888 code {@code 463246FF}, hue 0.8333333, saturation 0.07843138, lightness 0.23529413, and alpha 1.0.
@@ -1648,7 +1518,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUNE = -0x1.8c648cp125F;
-    static { NAMED.put("Prune", -0x1.8c648cp125F); LIST.add(-0x1.8c648cp125F); }
 
     /**
      * This color constant "Dusty Grape" has RGBA8888 code {@code 724072FF}, hue 0.8333333, saturation 0.19607842, lightness 0.34901962, and alpha 1.0.
@@ -1660,7 +1529,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_GRAPE = -0x1.e480e4p125F;
-    static { NAMED.put("Dusty Grape", -0x1.e480e4p125F); LIST.add(-0x1.e480e4p125F); }
 
     /**
      * This color constant "Pink Violet" has RGBA8888 code {@code 8F578FFF}, hue 0.8333334, saturation 0.21960786, lightness 0.4509804, and alpha 1.0.
@@ -1672,7 +1540,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_VIOLET = -0x1.1eaf1ep126F;
-    static { NAMED.put("Pink Violet", -0x1.1eaf1ep126F); LIST.add(-0x1.1eaf1ep126F); }
 
     /**
      * This color constant "Ripe Plum" has RGBA8888 code {@code AB57ABFF}, hue 0.8333334, saturation 0.32941177, lightness 0.5058824, and alpha 1.0.
@@ -1684,7 +1551,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPE_PLUM = -0x1.56af56p126F;
-    static { NAMED.put("Ripe Plum", -0x1.56af56p126F); LIST.add(-0x1.56af56p126F); }
 
     /**
      * This color constant "Mauve" has RGBA8888 code {@code AB73ABFF}, hue 0.8333334, saturation 0.21960786, lightness 0.56078434, and alpha 1.0.
@@ -1696,7 +1562,6 @@ public class Palette {
      * </pre>
      */
     public static final float MAUVE = -0x1.56e756p126F;
-    static { NAMED.put("Mauve", -0x1.56e756p126F); LIST.add(-0x1.56e756p126F); }
 
     /**
      * This color constant "Ham" has RGBA8888 code {@code EBACE1FF}, hue 0.85978836, saturation 0.24705881, lightness 0.7980392, and alpha 1.0.
@@ -1708,7 +1573,6 @@ public class Palette {
      * </pre>
      */
     public static final float HAM = -0x1.c359d6p126F;
-    static { NAMED.put("Ham", -0x1.c359d6p126F); LIST.add(-0x1.c359d6p126F); }
 
     /**
      * This color constant "Cotton Candy" has RGBA8888 code {@code FFDCF5FF}, hue 0.88095236, saturation 0.1372549, lightness 0.9313725, and alpha 1.0.
@@ -1720,7 +1584,6 @@ public class Palette {
      * </pre>
      */
     public static final float COTTON_CANDY = -0x1.ebb9fep126F;
-    static { NAMED.put("Cotton Candy", -0x1.ebb9fep126F); LIST.add(-0x1.ebb9fep126F); }
 
     /**
      * This color constant "Silver Pink" has RGBA8888 code {@code E3C7E3FF}, hue 0.8333333, saturation 0.109803915, lightness 0.8352941, and alpha 1.0.
@@ -1732,7 +1595,6 @@ public class Palette {
      * </pre>
      */
     public static final float SILVER_PINK = -0x1.c78fc6p126F;
-    static { NAMED.put("Silver Pink", -0x1.c78fc6p126F); LIST.add(-0x1.c78fc6p126F); }
 
     /**
      * This color constant "Tea Rose" has RGBA8888 code {@code E1B9D2FF}, hue 0.8958333, saturation 0.15686274, lightness 0.8039216, and alpha 1.0.
@@ -1744,7 +1606,6 @@ public class Palette {
      * </pre>
      */
     public static final float TEA_ROSE = -0x1.a573c2p126F;
-    static { NAMED.put("Tea Rose", -0x1.a573c2p126F); LIST.add(-0x1.a573c2p126F); }
 
     /**
      * This color constant "Old Rose" has RGBA8888 code {@code D7A0BEFF}, hue 0.9090909, saturation 0.21568626, lightness 0.7352941, and alpha 1.0.
@@ -1756,7 +1617,6 @@ public class Palette {
      * </pre>
      */
     public static final float OLD_ROSE = -0x1.7d41aep126F;
-    static { NAMED.put("Old Rose", -0x1.7d41aep126F); LIST.add(-0x1.7d41aep126F); }
 
     /**
      * This color constant "Dusty Pink" has RGBA8888 code {@code C78FB9FF}, hue 0.875, saturation 0.21960783, lightness 0.67058825, and alpha 1.0.
@@ -1768,7 +1628,6 @@ public class Palette {
      * </pre>
      */
     public static final float DUSTY_PINK = -0x1.731f8ep126F;
-    static { NAMED.put("Dusty Pink", -0x1.731f8ep126F); LIST.add(-0x1.731f8ep126F); }
 
     /**
      * This color constant "Roseate Spoonbill" has RGBA8888 code {@code C87DA0FF}, hue 0.9222222, saturation 0.29411766, lightness 0.6372549, and alpha 1.0.
@@ -1780,7 +1639,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSEATE_SPOONBILL = -0x1.40fb9p126F;
-    static { NAMED.put("Roseate Spoonbill", -0x1.40fb9p126F); LIST.add(-0x1.40fb9p126F); }
 
     /**
      * This color constant "Thulian Pink" has RGBA8888 code {@code C35A91FF}, hue 0.9126984, saturation 0.4117647, lightness 0.5588236, and alpha 1.0.
@@ -1792,7 +1650,6 @@ public class Palette {
      * </pre>
      */
     public static final float THULIAN_PINK = -0x1.22b586p126F;
-    static { NAMED.put("Thulian Pink", -0x1.22b586p126F); LIST.add(-0x1.22b586p126F); }
 
     /**
      * This color constant "Brown Velvet" has RGBA8888 code {@code 4B2837FF}, hue 0.92857146, saturation 0.13725491, lightness 0.2254902, and alpha 1.0.
@@ -1804,7 +1661,6 @@ public class Palette {
      * </pre>
      */
     public static final float BROWN_VELVET = -0x1.6e5096p125F;
-    static { NAMED.put("Brown Velvet", -0x1.6e5096p125F); LIST.add(-0x1.6e5096p125F); }
 
     /**
      * This color constant "Nightshade" has RGBA8888 code {@code 321623FF}, hue 0.92261904, saturation 0.10980392, lightness 0.14117648, and alpha 1.0.
@@ -1816,7 +1672,6 @@ public class Palette {
      * </pre>
      */
     public static final float NIGHTSHADE = -0x1.462c64p125F;
-    static { NAMED.put("Nightshade", -0x1.462c64p125F); LIST.add(-0x1.462c64p125F); }
 
     /**
      * This color constant "Scribe Ink" has RGBA8888 code {@code 280A1EFF}, hue 0.8888889, saturation 0.11764707, lightness 0.09803922, and alpha 1.0.
@@ -1828,7 +1683,6 @@ public class Palette {
      * </pre>
      */
     public static final float SCRIBE_INK = -0x1.3c145p125F;
-    static { NAMED.put("Scribe Ink", -0x1.3c145p125F); LIST.add(-0x1.3c145p125F); }
 
     /**
      * This color constant "Varnish" has RGBA8888 code {@code 401811FF}, hue 0.024822691, saturation 0.18431374, lightness 0.15882353, and alpha 1.0.
@@ -1840,7 +1694,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARNISH = -0x1.22308p125F;
-    static { NAMED.put("Varnish", -0x1.22308p125F); LIST.add(-0x1.22308p125F); }
 
     /**
      * This color constant "Cedar Wood" has RGBA8888 code {@code 621800FF}, hue 0.040816326, saturation 0.38431373, lightness 0.19215687, and alpha 1.0.
@@ -1852,7 +1705,6 @@ public class Palette {
      * </pre>
      */
     public static final float CEDAR_WOOD = -0x1.0030c4p125F;
-    static { NAMED.put("Cedar Wood", -0x1.0030c4p125F); LIST.add(-0x1.0030c4p125F); }
 
     /**
      * This color constant "Hot Sauce" has RGBA8888 code {@code A5140AFF}, hue 0.010752688, saturation 0.60784316, lightness 0.34313723, and alpha 1.0.
@@ -1864,7 +1716,6 @@ public class Palette {
      * </pre>
      */
     public static final float HOT_SAUCE = -0x1.14294ap125F;
-    static { NAMED.put("Hot Sauce", -0x1.14294ap125F); LIST.add(-0x1.14294ap125F); }
 
     /**
      * This color constant "Lurid Red" has RGBA8888 code {@code DA2010FF}, hue 0.0132013215, saturation 0.7921569, lightness 0.45882356, and alpha 1.0.
@@ -1876,7 +1727,6 @@ public class Palette {
      * </pre>
      */
     public static final float LURID_RED = -0x1.2041b4p125F;
-    static { NAMED.put("Lurid Red", -0x1.2041b4p125F); LIST.add(-0x1.2041b4p125F); }
 
     /**
      * This color constant "Brick" has RGBA8888 code {@code D5524AFF}, hue 0.009592325, saturation 0.54509807, lightness 0.5627451, and alpha 1.0.
@@ -1888,7 +1738,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRICK = -0x1.94a5aap125F;
-    static { NAMED.put("Brick", -0x1.94a5aap125F); LIST.add(-0x1.94a5aap125F); }
 
     /**
      * This color constant "Bright Red" has RGBA8888 code {@code FF3C0AFF}, hue 0.034013607, saturation 0.9607843, lightness 0.51960784, and alpha 1.0.
@@ -1900,7 +1749,6 @@ public class Palette {
      * </pre>
      */
     public static final float BRIGHT_RED = -0x1.1479fep125F;
-    static { NAMED.put("Bright Red", -0x1.1479fep125F); LIST.add(-0x1.1479fep125F); }
 
     /**
      * This color constant "Embers" has RGBA8888 code {@code F55A32FF}, hue 0.034188036, saturation 0.7647059, lightness 0.5784313, and alpha 1.0.
@@ -1912,7 +1760,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMBERS = -0x1.64b5eap125F;
-    static { NAMED.put("Embers", -0x1.64b5eap125F); LIST.add(-0x1.64b5eap125F); }
 
     /**
      * This color constant "Salmon" has RGBA8888 code {@code FF6262FF}, hue 0.0, saturation 0.6156863, lightness 0.69215685, and alpha 1.0.
@@ -1924,7 +1771,6 @@ public class Palette {
      * </pre>
      */
     public static final float SALMON = -0x1.c4c5fep125F;
-    static { NAMED.put("Salmon", -0x1.c4c5fep125F); LIST.add(-0x1.c4c5fep125F); }
 
     /**
      * This color constant "Taxicab Yellow" has RGBA8888 code {@code F6BD31FF}, hue 0.118443325, saturation 0.77254903, lightness 0.57843137, and alpha 1.0.
@@ -1936,7 +1782,6 @@ public class Palette {
      * </pre>
      */
     public static final float TAXICAB_YELLOW = -0x1.637becp125F;
-    static { NAMED.put("Taxicab Yellow", -0x1.637becp125F); LIST.add(-0x1.637becp125F); }
 
     /**
      * This color constant "Apricot" has RGBA8888 code {@code FFA53CFF}, hue 0.0897436, saturation 0.7647059, lightness 0.61764705, and alpha 1.0.
@@ -1948,7 +1793,6 @@ public class Palette {
      * </pre>
      */
     public static final float APRICOT = -0x1.794bfep125F;
-    static { NAMED.put("Apricot", -0x1.794bfep125F); LIST.add(-0x1.794bfep125F); }
 
     /**
      * This color constant "Burnt Yellow" has RGBA8888 code {@code D79B0FFF}, hue 0.11666667, saturation 0.78431374, lightness 0.45098042, and alpha 1.0.
@@ -1960,7 +1804,6 @@ public class Palette {
      * </pre>
      */
     public static final float BURNT_YELLOW = -0x1.1f37aep125F;
-    static { NAMED.put("Burnt Yellow", -0x1.1f37aep125F); LIST.add(-0x1.1f37aep125F); }
 
     /**
      * This color constant "Dry Pepper" has RGBA8888 code {@code DA6E0AFF}, hue 0.0801282, saturation 0.8156863, lightness 0.4470588, and alpha 1.0.
@@ -1972,7 +1815,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_PEPPER = -0x1.14ddb4p125F;
-    static { NAMED.put("Dry Pepper", -0x1.14ddb4p125F); LIST.add(-0x1.14ddb4p125F); }
 
     /**
      * This color constant "Redwood" has RGBA8888 code {@code B45A00FF}, hue 0.08333333, saturation 0.7058824, lightness 0.3529412, and alpha 1.0.
@@ -1984,7 +1826,6 @@ public class Palette {
      * </pre>
      */
     public static final float REDWOOD = -0x1.00b568p125F;
-    static { NAMED.put("Redwood", -0x1.00b568p125F); LIST.add(-0x1.00b568p125F); }
 
     /**
      * This color constant "Koa" has RGBA8888 code {@code A04B05FF}, hue 0.07526882, saturation 0.60784316, lightness 0.32352942, and alpha 1.0.
@@ -1996,7 +1837,6 @@ public class Palette {
      * </pre>
      */
     public static final float KOA = -0x1.0a974p125F;
-    static { NAMED.put("Koa", -0x1.0a974p125F); LIST.add(-0x1.0a974p125F); }
 
     /**
      * This color constant "Ochre" has RGBA8888 code {@code 5F3214FF}, hue 0.06666666, saturation 0.29411766, lightness 0.22549018, and alpha 1.0.
@@ -2008,7 +1848,6 @@ public class Palette {
      * </pre>
      */
     public static final float OCHRE = -0x1.2864bep125F;
-    static { NAMED.put("Ochre", -0x1.2864bep125F); LIST.add(-0x1.2864bep125F); }
 
     /**
      * This color constant "Dull Green" has RGBA8888 code {@code 53500AFF}, hue 0.15981735, saturation 0.28627452, lightness 0.18235296, and alpha 1.0.
@@ -2020,7 +1859,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_GREEN = -0x1.14a0a6p125F;
-    static { NAMED.put("Dull Green", -0x1.14a0a6p125F); LIST.add(-0x1.14a0a6p125F); }
 
     /**
      * This color constant "Army Green" has RGBA8888 code {@code 626200FF}, hue 0.16666666, saturation 0.38431373, lightness 0.19215687, and alpha 1.0.
@@ -2032,7 +1870,6 @@ public class Palette {
      * </pre>
      */
     public static final float ARMY_GREEN = -0x1.00c4c4p125F;
-    static { NAMED.put("Army Green", -0x1.00c4c4p125F); LIST.add(-0x1.00c4c4p125F); }
 
     /**
      * This color constant "Driftwood" has RGBA8888 code {@code 8C805AFF}, hue 0.12666667, saturation 0.19607845, lightness 0.4509804, and alpha 1.0.
@@ -2044,7 +1881,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRIFTWOOD = -0x1.b50118p125F;
-    static { NAMED.put("Driftwood", -0x1.b50118p125F); LIST.add(-0x1.b50118p125F); }
 
     /**
      * This color constant "Dry Brush" has RGBA8888 code {@code AC9400FF}, hue 0.14341085, saturation 0.6745098, lightness 0.3372549, and alpha 1.0.
@@ -2056,7 +1892,6 @@ public class Palette {
      * </pre>
      */
     public static final float DRY_BRUSH = -0x1.012958p125F;
-    static { NAMED.put("Dry Brush", -0x1.012958p125F); LIST.add(-0x1.012958p125F); }
 
     /**
      * This color constant "Mush" has RGBA8888 code {@code B1B10AFF}, hue 0.16666667, saturation 0.654902, lightness 0.36666664, and alpha 1.0.
@@ -2068,7 +1903,6 @@ public class Palette {
      * </pre>
      */
     public static final float MUSH = -0x1.156362p125F;
-    static { NAMED.put("Mush", -0x1.156362p125F); LIST.add(-0x1.156362p125F); }
 
     /**
      * This color constant "Banana Pudding" has RGBA8888 code {@code E6D55AFF}, hue 0.14642859, saturation 0.5490196, lightness 0.627451, and alpha 1.0.
@@ -2080,7 +1914,6 @@ public class Palette {
      * </pre>
      */
     public static final float BANANA_PUDDING = -0x1.b5abccp125F;
-    static { NAMED.put("Banana Pudding", -0x1.b5abccp125F); LIST.add(-0x1.b5abccp125F); }
 
     /**
      * This color constant "Saffron" has RGBA8888 code {@code FFD510FF}, hue 0.13737796, saturation 0.9372549, lightness 0.53137255, and alpha 1.0.
@@ -2092,7 +1925,6 @@ public class Palette {
      * </pre>
      */
     public static final float SAFFRON = -0x1.21abfep125F;
-    static { NAMED.put("Saffron", -0x1.21abfep125F); LIST.add(-0x1.21abfep125F); }
 
     /**
      * This color constant "Pencil Yellow" has RGBA8888 code {@code FFEA4AFF}, hue 0.14732964, saturation 0.70980394, lightness 0.64509803, and alpha 1.0.
@@ -2104,7 +1936,6 @@ public class Palette {
      * </pre>
      */
     public static final float PENCIL_YELLOW = -0x1.95d5fep125F;
-    static { NAMED.put("Pencil Yellow", -0x1.95d5fep125F); LIST.add(-0x1.95d5fep125F); }
 
     /**
      * This color constant "Chartreuse" has RGBA8888 code {@code C8FF41FF}, hue 0.21491227, saturation 0.745098, lightness 0.627451, and alpha 1.0.
@@ -2116,7 +1947,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHARTREUSE = -0x1.83ff9p125F;
-    static { NAMED.put("Chartreuse", -0x1.83ff9p125F); LIST.add(-0x1.83ff9p125F); }
 
     /**
      * This color constant "Absinthe" has RGBA8888 code {@code 9BF046FF}, hue 0.25, saturation 0.6666666, lightness 0.60784316, and alpha 1.0.
@@ -2128,7 +1958,6 @@ public class Palette {
      * </pre>
      */
     public static final float ABSINTHE = -0x1.8de136p125F;
-    static { NAMED.put("Absinthe", -0x1.8de136p125F); LIST.add(-0x1.8de136p125F); }
 
     /**
      * This color constant "Infection" has RGBA8888 code {@code 96DC19FF}, hue 0.22649574, saturation 0.7647059, lightness 0.48039216, and alpha 1.0.
@@ -2140,7 +1969,6 @@ public class Palette {
      * </pre>
      */
     public static final float INFECTION = -0x1.33b92cp125F;
-    static { NAMED.put("Infection", -0x1.33b92cp125F); LIST.add(-0x1.33b92cp125F); }
 
     /**
      * This color constant "Frog Green" has RGBA8888 code {@code 73C805FF}, hue 0.23931625, saturation 0.7647059, lightness 0.4019608, and alpha 1.0.
@@ -2152,7 +1980,6 @@ public class Palette {
      * </pre>
      */
     public static final float FROG_GREEN = -0x1.0b90e6p125F;
-    static { NAMED.put("Frog Green", -0x1.0b90e6p125F); LIST.add(-0x1.0b90e6p125F); }
 
     /**
      * This color constant "Avocado" has RGBA8888 code {@code 6AA805FF}, hue 0.23006135, saturation 0.6392157, lightness 0.3392157, and alpha 1.0.
@@ -2164,7 +1991,6 @@ public class Palette {
      * </pre>
      */
     public static final float AVOCADO = -0x1.0b50d4p125F;
-    static { NAMED.put("Avocado", -0x1.0b50d4p125F); LIST.add(-0x1.0b50d4p125F); }
 
     /**
      * This color constant "Woodlands" has RGBA8888 code {@code 3C6E14FF}, hue 0.25925928, saturation 0.3529412, lightness 0.25490198, and alpha 1.0.
@@ -2176,7 +2002,6 @@ public class Palette {
      * </pre>
      */
     public static final float WOODLANDS = -0x1.28dc78p125F;
-    static { NAMED.put("Woodlands", -0x1.28dc78p125F); LIST.add(-0x1.28dc78p125F); }
 
     /**
      * This color constant "Dark Pine" has RGBA8888 code {@code 283405FF}, hue 0.20921987, saturation 0.18431373, lightness 0.11176471, and alpha 1.0.
@@ -2188,7 +2013,6 @@ public class Palette {
      * </pre>
      */
     public static final float DARK_PINE = -0x1.0a685p125F;
-    static { NAMED.put("Dark Pine", -0x1.0a685p125F); LIST.add(-0x1.0a685p125F); }
 
     /**
      * This color constant "Moss Green" has RGBA8888 code {@code 204608FF}, hue 0.26881722, saturation 0.24313727, lightness 0.15294118, and alpha 1.0.
@@ -2200,7 +2024,6 @@ public class Palette {
      * </pre>
      */
     public static final float MOSS_GREEN = -0x1.108c4p125F;
-    static { NAMED.put("Moss Green", -0x1.108c4p125F); LIST.add(-0x1.108c4p125F); }
 
     /**
      * This color constant "Fern Green" has RGBA8888 code {@code 0C5C0CFF}, hue 0.33333334, saturation 0.3137255, lightness 0.20392157, and alpha 1.0.
@@ -2212,7 +2035,6 @@ public class Palette {
      * </pre>
      */
     public static final float FERN_GREEN = -0x1.18b818p125F;
-    static { NAMED.put("Fern Green", -0x1.18b818p125F); LIST.add(-0x1.18b818p125F); }
 
     /**
      * This color constant "Forest Glen" has RGBA8888 code {@code 149605FF}, hue 0.31609195, saturation 0.5686275, lightness 0.30392158, and alpha 1.0.
@@ -2224,7 +2046,6 @@ public class Palette {
      * </pre>
      */
     public static final float FOREST_GLEN = -0x1.0b2c28p125F;
-    static { NAMED.put("Forest Glen", -0x1.0b2c28p125F); LIST.add(-0x1.0b2c28p125F); }
 
     /**
      * This color constant "Malachite" has RGBA8888 code {@code 0AD70AFF}, hue 0.33333334, saturation 0.8039216, lightness 0.44117647, and alpha 1.0.
@@ -2236,7 +2057,6 @@ public class Palette {
      * </pre>
      */
     public static final float MALACHITE = -0x1.15ae14p125F;
-    static { NAMED.put("Malachite", -0x1.15ae14p125F); LIST.add(-0x1.15ae14p125F); }
 
     /**
      * This color constant "Apple Green" has RGBA8888 code {@code 14E60AFF}, hue 0.3257576, saturation 0.8627451, lightness 0.47058824, and alpha 1.0.
@@ -2248,7 +2068,6 @@ public class Palette {
      * </pre>
      */
     public static final float APPLE_GREEN = -0x1.15cc28p125F;
-    static { NAMED.put("Apple Green", -0x1.15cc28p125F); LIST.add(-0x1.15cc28p125F); }
 
     /**
      * This color constant "Celery" has RGBA8888 code {@code 7DFF73FF}, hue 0.32142857, saturation 0.5490196, lightness 0.7254902, and alpha 1.0.
@@ -2260,7 +2079,6 @@ public class Palette {
      * </pre>
      */
     public static final float CELERY = -0x1.e7fefap125F;
-    static { NAMED.put("Celery", -0x1.e7fefap125F); LIST.add(-0x1.e7fefap125F); }
 
     /**
      * This color constant "Mint Green" has RGBA8888 code {@code 4BF05AFF}, hue 0.34848484, saturation 0.64705884, lightness 0.61764705, and alpha 1.0.
@@ -2272,7 +2090,6 @@ public class Palette {
      * </pre>
      */
     public static final float MINT_GREEN = -0x1.b5e096p125F;
-    static { NAMED.put("Mint Green", -0x1.b5e096p125F); LIST.add(-0x1.b5e096p125F); }
 
     /**
      * This color constant "Emerald" has RGBA8888 code {@code 00C514FF}, hue 0.35025382, saturation 0.77254903, lightness 0.38627452, and alpha 1.0.
@@ -2284,7 +2101,6 @@ public class Palette {
      * </pre>
      */
     public static final float EMERALD = -0x1.298ap125F;
-    static { NAMED.put("Emerald", -0x1.298ap125F); LIST.add(-0x1.298ap125F); }
 
     /**
      * This color constant "Prase" has RGBA8888 code {@code 05B450FF}, hue 0.4047619, saturation 0.6862745, lightness 0.3627451, and alpha 1.0.
@@ -2296,7 +2112,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRASE = -0x1.a1680ap125F;
-    static { NAMED.put("Prase", -0x1.a1680ap125F); LIST.add(-0x1.a1680ap125F); }
 
     /**
      * This color constant "Eucalyptus" has RGBA8888 code {@code 1C8C4EFF}, hue 0.4077381, saturation 0.43921572, lightness 0.3294118, and alpha 1.0.
@@ -2308,7 +2123,6 @@ public class Palette {
      * </pre>
      */
     public static final float EUCALYPTUS = -0x1.9d1838p125F;
-    static { NAMED.put("Eucalyptus", -0x1.9d1838p125F); LIST.add(-0x1.9d1838p125F); }
 
     /**
      * This color constant "Zucchini" has RGBA8888 code {@code 123832FF}, hue 0.47368422, saturation 0.1490196, lightness 0.14509803, and alpha 1.0.
@@ -2320,7 +2134,6 @@ public class Palette {
      * </pre>
      */
     public static final float ZUCCHINI = -0x1.647024p125F;
-    static { NAMED.put("Zucchini", -0x1.647024p125F); LIST.add(-0x1.647024p125F); }
 
     /**
      * This color constant "Soft Teal" has RGBA8888 code {@code 129880FF}, hue 0.47014928, saturation 0.5254902, lightness 0.33333334, and alpha 1.0.
@@ -2332,7 +2145,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOFT_TEAL = -0x1.013024p126F;
-    static { NAMED.put("Soft Teal", -0x1.013024p126F); LIST.add(-0x1.013024p126F); }
 
     /**
      * This color constant "Medium Teal" has RGBA8888 code {@code 06C491FF}, hue 0.45526317, saturation 0.74509805, lightness 0.39607844, and alpha 1.0.
@@ -2344,7 +2156,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_TEAL = -0x1.23880cp126F;
-    static { NAMED.put("Medium Teal", -0x1.23880cp126F); LIST.add(-0x1.23880cp126F); }
 
     /**
      * This color constant "Spring Green" has RGBA8888 code {@code 00DE6AFF}, hue 0.41291294, saturation 0.87058824, lightness 0.43529412, and alpha 1.0.
@@ -2356,7 +2167,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPRING_GREEN = -0x1.d5bcp125F;
-    static { NAMED.put("Spring Green", -0x1.d5bcp125F); LIST.add(-0x1.d5bcp125F); }
 
     /**
      * This color constant "Turquoise" has RGBA8888 code {@code 2DEBA8FF}, hue 0.4412281, saturation 0.74509805, lightness 0.5490196, and alpha 1.0.
@@ -2368,7 +2178,6 @@ public class Palette {
      * </pre>
      */
     public static final float TURQUOISE = -0x1.51d65ap126F;
-    static { NAMED.put("Turquoise", -0x1.51d65ap126F); LIST.add(-0x1.51d65ap126F); }
 
     /**
      * This color constant "Seafoam" has RGBA8888 code {@code 3CFEA5FF}, hue 0.42353952, saturation 0.7607843, lightness 0.6156863, and alpha 1.0.
@@ -2380,7 +2189,6 @@ public class Palette {
      * </pre>
      */
     public static final float SEAFOAM = -0x1.4bfc78p126F;
-    static { NAMED.put("Seafoam", -0x1.4bfc78p126F); LIST.add(-0x1.4bfc78p126F); }
 
     /**
      * This color constant "Variscite" has RGBA8888 code {@code 6AFFCDFF}, hue 0.4440716, saturation 0.58431375, lightness 0.7078431, and alpha 1.0.
@@ -2392,7 +2200,6 @@ public class Palette {
      * </pre>
      */
     public static final float VARISCITE = -0x1.9bfed4p126F;
-    static { NAMED.put("Variscite", -0x1.9bfed4p126F); LIST.add(-0x1.9bfed4p126F); }
 
     /**
      * This color constant "Refreshing Mist" has RGBA8888 code {@code 91EBFFFF}, hue 0.53030306, saturation 0.43137252, lightness 0.78431374, and alpha 1.0.
@@ -2404,7 +2211,6 @@ public class Palette {
      * </pre>
      */
     public static final float REFRESHING_MIST = -0x1.ffd722p126F;
-    static { NAMED.put("Refreshing Mist", -0x1.ffd722p126F); LIST.add(-0x1.ffd722p126F); }
 
     /**
      * This color constant "Shining Sky" has RGBA8888 code {@code 55E6FFFF}, hue 0.5245098, saturation 0.6666666, lightness 0.6666667, and alpha 1.0.
@@ -2416,7 +2222,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHINING_SKY = -0x1.ffccaap126F;
-    static { NAMED.put("Shining Sky", -0x1.ffccaap126F); LIST.add(-0x1.ffccaap126F); }
 
     /**
      * This color constant "Steam" has RGBA8888 code {@code 7DD7F0FF}, hue 0.5362319, saturation 0.4509804, lightness 0.7156863, and alpha 1.0.
@@ -2428,7 +2233,6 @@ public class Palette {
      * </pre>
      */
     public static final float STEAM = -0x1.e1aefap126F;
-    static { NAMED.put("Steam", -0x1.e1aefap126F); LIST.add(-0x1.e1aefap126F); }
 
     /**
      * This color constant "Robin Egg Blue" has RGBA8888 code {@code 08DED5FF}, hue 0.49299067, saturation 0.8392157, lightness 0.4509804, and alpha 1.0.
@@ -2440,7 +2244,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROBIN_EGG_BLUE = -0x1.abbc1p126F;
-    static { NAMED.put("Robin Egg Blue", -0x1.abbc1p126F); LIST.add(-0x1.abbc1p126F); }
 
     /**
      * This color constant "Denim Blue" has RGBA8888 code {@code 109CDEFF}, hue 0.5533981, saturation 0.80784315, lightness 0.46666664, and alpha 1.0.
@@ -2452,7 +2255,6 @@ public class Palette {
      * </pre>
      */
     public static final float DENIM_BLUE = -0x1.bd382p126F;
-    static { NAMED.put("Denim Blue", -0x1.bd382p126F); LIST.add(-0x1.bd382p126F); }
 
     /**
      * This color constant "Deep Teal" has RGBA8888 code {@code 055A5CFF}, hue 0.50383145, saturation 0.34117648, lightness 0.19019607, and alpha 1.0.
@@ -2464,7 +2266,6 @@ public class Palette {
      * </pre>
      */
     public static final float DEEP_TEAL = -0x1.b8b40ap125F;
-    static { NAMED.put("Deep Teal", -0x1.b8b40ap125F); LIST.add(-0x1.b8b40ap125F); }
 
     /**
      * This color constant "Navy Blue" has RGBA8888 code {@code 162C52FF}, hue 0.6055556, saturation 0.23529413, lightness 0.20392157, and alpha 1.0.
@@ -2476,7 +2277,6 @@ public class Palette {
      * </pre>
      */
     public static final float NAVY_BLUE = -0x1.a4582cp125F;
-    static { NAMED.put("Navy Blue", -0x1.a4582cp125F); LIST.add(-0x1.a4582cp125F); }
 
     /**
      * This color constant "Blueberry" has RGBA8888 code {@code 0F377DFF}, hue 0.6060606, saturation 0.43137255, lightness 0.27450982, and alpha 1.0.
@@ -2488,7 +2288,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUEBERRY = -0x1.fa6e1ep125F;
-    static { NAMED.put("Blueberry", -0x1.fa6e1ep125F); LIST.add(-0x1.fa6e1ep125F); }
 
     /**
      * This color constant "Prussian Blue" has RGBA8888 code {@code 004A9CFF}, hue 0.58760685, saturation 0.6117647, lightness 0.30588236, and alpha 1.0.
@@ -2500,7 +2299,6 @@ public class Palette {
      * </pre>
      */
     public static final float PRUSSIAN_BLUE = -0x1.3894p126F;
-    static { NAMED.put("Prussian Blue", -0x1.3894p126F); LIST.add(-0x1.3894p126F); }
 
     /**
      * This color constant "Desert Rain" has RGBA8888 code {@code 326496FF}, hue 0.5833334, saturation 0.3921569, lightness 0.39215687, and alpha 1.0.
@@ -2512,7 +2310,6 @@ public class Palette {
      * </pre>
      */
     public static final float DESERT_RAIN = -0x1.2cc864p126F;
-    static { NAMED.put("Desert Rain", -0x1.2cc864p126F); LIST.add(-0x1.2cc864p126F); }
 
     /**
      * This color constant "Electric Blue" has RGBA8888 code {@code 0052F6FF}, hue 0.6111111, saturation 0.9647059, lightness 0.48235294, and alpha 1.0.
@@ -2524,7 +2321,6 @@ public class Palette {
      * </pre>
      */
     public static final float ELECTRIC_BLUE = -0x1.eca4p126F;
-    static { NAMED.put("Electric Blue", -0x1.eca4p126F); LIST.add(-0x1.eca4p126F); }
 
     /**
      * This color constant "Hidden Blue" has RGBA8888 code {@code 186ABDFF}, hue 0.5838384, saturation 0.64705884, lightness 0.41764706, and alpha 1.0.
@@ -2536,7 +2332,6 @@ public class Palette {
      * </pre>
      */
     public static final float HIDDEN_BLUE = -0x1.7ad43p126F;
-    static { NAMED.put("Hidden Blue", -0x1.7ad43p126F); LIST.add(-0x1.7ad43p126F); }
 
     /**
      * This color constant "Dull Azure" has RGBA8888 code {@code 2378DCFF}, hue 0.5900901, saturation 0.7254902, lightness 0.5, and alpha 1.0.
@@ -2548,7 +2343,6 @@ public class Palette {
      * </pre>
      */
     public static final float DULL_AZURE = -0x1.b8f046p126F;
-    static { NAMED.put("Dull Azure", -0x1.b8f046p126F); LIST.add(-0x1.b8f046p126F); }
 
     /**
      * This color constant "Ripped Denim" has RGBA8888 code {@code 699DC3FF}, hue 0.5703704, saturation 0.3529412, lightness 0.5882353, and alpha 1.0.
@@ -2560,7 +2354,6 @@ public class Palette {
      * </pre>
      */
     public static final float RIPPED_DENIM = -0x1.873ad2p126F;
-    static { NAMED.put("Ripped Denim", -0x1.873ad2p126F); LIST.add(-0x1.873ad2p126F); }
 
     /**
      * This color constant "Calm Sky" has RGBA8888 code {@code 4AA4FFFF}, hue 0.58379376, saturation 0.70980394, lightness 0.64509803, and alpha 1.0.
@@ -2572,7 +2365,6 @@ public class Palette {
      * </pre>
      */
     public static final float CALM_SKY = -0x1.ff4894p126F;
-    static { NAMED.put("Calm Sky", -0x1.ff4894p126F); LIST.add(-0x1.ff4894p126F); }
 
     /**
      * This color constant "Vapor" has RGBA8888 code {@code 90B0FFFF}, hue 0.6186186, saturation 0.4352941, lightness 0.7823529, and alpha 1.0.
@@ -2584,7 +2376,6 @@ public class Palette {
      * </pre>
      */
     public static final float VAPOR = -0x1.ff612p126F;
-    static { NAMED.put("Vapor", -0x1.ff612p126F); LIST.add(-0x1.ff612p126F); }
 
     /**
      * This color constant "Powder Blue" has RGBA8888 code {@code 5AC5FFFF}, hue 0.5585859, saturation 0.64705884, lightness 0.6764706, and alpha 1.0.
@@ -2596,7 +2387,6 @@ public class Palette {
      * </pre>
      */
     public static final float POWDER_BLUE = -0x1.ff8ab4p126F;
-    static { NAMED.put("Powder Blue", -0x1.ff8ab4p126F); LIST.add(-0x1.ff8ab4p126F); }
 
     /**
      * This color constant "Suds" has RGBA8888 code {@code BEB9FAFF}, hue 0.6794872, saturation 0.25490195, lightness 0.85294116, and alpha 1.0.
@@ -2608,7 +2398,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUDS = -0x1.f5737cp126F;
-    static { NAMED.put("Suds", -0x1.f5737cp126F); LIST.add(-0x1.f5737cp126F); }
 
     /**
      * This color constant "Strong Cyan" has RGBA8888 code {@code 00BFFFFF}, hue 0.54183006, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -2620,7 +2409,6 @@ public class Palette {
      * </pre>
      */
     public static final float STRONG_CYAN = -0x1.ff7ep126F;
-    static { NAMED.put("Strong Cyan", -0x1.ff7ep126F); LIST.add(-0x1.ff7ep126F); }
 
     /**
      * This color constant "Sharp Azure" has RGBA8888 code {@code 007FFFFF}, hue 0.5836601, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -2632,7 +2420,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHARP_AZURE = -0x1.fefep126F;
-    static { NAMED.put("Sharp Azure", -0x1.fefep126F); LIST.add(-0x1.fefep126F); }
 
     /**
      * This color constant "Blue Eye" has RGBA8888 code {@code 4B7DC8FF}, hue 0.6, saturation 0.49019608, lightness 0.5392157, and alpha 1.0.
@@ -2644,7 +2431,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLUE_EYE = -0x1.90fa96p126F;
-    static { NAMED.put("Blue Eye", -0x1.90fa96p126F); LIST.add(-0x1.90fa96p126F); }
 
     /**
      * This color constant "Subtlety" has RGBA8888 code {@code 786EF0FF}, hue 0.6794872, saturation 0.5098039, lightness 0.6862745, and alpha 1.0.
@@ -2656,7 +2442,6 @@ public class Palette {
      * </pre>
      */
     public static final float SUBTLETY = -0x1.e0dcfp126F;
-    static { NAMED.put("Subtlety", -0x1.e0dcfp126F); LIST.add(-0x1.e0dcfp126F); }
 
     /**
      * This color constant "Rough Sapphire" has RGBA8888 code {@code 4A5AFFFF}, hue 0.6519337, saturation 0.70980394, lightness 0.64509803, and alpha 1.0.
@@ -2668,7 +2453,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROUGH_SAPPHIRE = -0x1.feb494p126F;
-    static { NAMED.put("Rough Sapphire", -0x1.feb494p126F); LIST.add(-0x1.feb494p126F); }
 
     /**
      * This color constant "Iris" has RGBA8888 code {@code 6241F6FF}, hue 0.69705343, saturation 0.70980394, lightness 0.6098039, and alpha 1.0.
@@ -2680,7 +2464,6 @@ public class Palette {
      * </pre>
      */
     public static final float IRIS = -0x1.ec82c4p126F;
-    static { NAMED.put("Iris", -0x1.ec82c4p126F); LIST.add(-0x1.ec82c4p126F); }
 
     /**
      * This color constant "Cornflower Blue" has RGBA8888 code {@code 3C3CF5FF}, hue 0.6666667, saturation 0.7254902, lightness 0.5980392, and alpha 1.0.
@@ -2692,7 +2475,6 @@ public class Palette {
      * </pre>
      */
     public static final float CORNFLOWER_BLUE = -0x1.ea7878p126F;
-    static { NAMED.put("Cornflower Blue", -0x1.ea7878p126F); LIST.add(-0x1.ea7878p126F); }
 
     /**
      * This color constant "Polished Sapphire" has RGBA8888 code {@code 101CDAFF}, hue 0.6567657, saturation 0.7921569, lightness 0.45882356, and alpha 1.0.
@@ -2704,7 +2486,6 @@ public class Palette {
      * </pre>
      */
     public static final float POLISHED_SAPPHIRE = -0x1.b4382p126F;
-    static { NAMED.put("Polished Sapphire", -0x1.b4382p126F); LIST.add(-0x1.b4382p126F); }
 
     /**
      * This color constant "Royal Blue" has RGBA8888 code {@code 0010BDFF}, hue 0.6525573, saturation 0.7411765, lightness 0.37058824, and alpha 1.0.
@@ -2716,7 +2497,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROYAL_BLUE = -0x1.7a2p126F;
-    static { NAMED.put("Royal Blue", -0x1.7a2p126F); LIST.add(-0x1.7a2p126F); }
 
     /**
      * This color constant "Indigo" has RGBA8888 code {@code 231094FF}, hue 0.6906566, saturation 0.5176471, lightness 0.3215686, and alpha 1.0.
@@ -2728,7 +2508,6 @@ public class Palette {
      * </pre>
      */
     public static final float INDIGO = -0x1.282046p126F;
-    static { NAMED.put("Indigo", -0x1.282046p126F); LIST.add(-0x1.282046p126F); }
 
     /**
      * This color constant "Space Blue" has RGBA8888 code {@code 0C2148FF}, hue 0.60833335, saturation 0.23529413, lightness 0.16470589, and alpha 1.0.
@@ -2740,7 +2519,6 @@ public class Palette {
      * </pre>
      */
     public static final float SPACE_BLUE = -0x1.904218p125F;
-    static { NAMED.put("Space Blue", -0x1.904218p125F); LIST.add(-0x1.904218p125F); }
 
     /**
      * This color constant "Thick Amethyst" has RGBA8888 code {@code 5010B0FF}, hue 0.73333335, saturation 0.627451, lightness 0.37647057, and alpha 1.0.
@@ -2752,7 +2530,6 @@ public class Palette {
      * </pre>
      */
     public static final float THICK_AMETHYST = -0x1.6020ap126F;
-    static { NAMED.put("Thick Amethyst", -0x1.6020ap126F); LIST.add(-0x1.6020ap126F); }
 
     /**
      * This color constant "Juicy Grape" has RGBA8888 code {@code 6010D0FF}, hue 0.7361111, saturation 0.7529412, lightness 0.43921572, and alpha 1.0.
@@ -2764,7 +2541,6 @@ public class Palette {
      * </pre>
      */
     public static final float JUICY_GRAPE = -0x1.a020cp126F;
-    static { NAMED.put("Juicy Grape", -0x1.a020cp126F); LIST.add(-0x1.a020cp126F); }
 
     /**
      * This color constant "Blacklight Glow" has RGBA8888 code {@code 8732D2FF}, hue 0.7552084, saturation 0.627451, lightness 0.50980395, and alpha 1.0.
@@ -2776,7 +2552,6 @@ public class Palette {
      * </pre>
      */
     public static final float BLACKLIGHT_GLOW = -0x1.a4650ep126F;
-    static { NAMED.put("Blacklight Glow", -0x1.a4650ep126F); LIST.add(-0x1.a4650ep126F); }
 
     /**
      * This color constant "Purple Freesia" has RGBA8888 code {@code 9C41FFFF}, hue 0.74649125, saturation 0.745098, lightness 0.627451, and alpha 1.0.
@@ -2788,7 +2563,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE_FREESIA = -0x1.fe8338p126F;
-    static { NAMED.put("Purple Freesia", -0x1.fe8338p126F); LIST.add(-0x1.fe8338p126F); }
 
     /**
      * This color constant "Thin Amethyst" has RGBA8888 code {@code 7F00FFFF}, hue 0.74967325, saturation 1.0, lightness 0.5, and alpha 1.0.
@@ -2800,7 +2574,6 @@ public class Palette {
      * </pre>
      */
     public static final float THIN_AMETHYST = -0x1.fe00fep126F;
-    static { NAMED.put("Thin Amethyst", -0x1.fe00fep126F); LIST.add(-0x1.fe00fep126F); }
 
     /**
      * This color constant "Orchid" has RGBA8888 code {@code BD62FFFF}, hue 0.76326966, saturation 0.6156863, lightness 0.69215685, and alpha 1.0.
@@ -2812,7 +2585,6 @@ public class Palette {
      * </pre>
      */
     public static final float ORCHID = -0x1.fec57ap126F;
-    static { NAMED.put("Orchid", -0x1.fec57ap126F); LIST.add(-0x1.fec57ap126F); }
 
     /**
      * This color constant "Lavender" has RGBA8888 code {@code B991FFFF}, hue 0.72727275, saturation 0.43137252, lightness 0.78431374, and alpha 1.0.
@@ -2824,7 +2596,6 @@ public class Palette {
      * </pre>
      */
     public static final float LAVENDER = -0x1.ff2372p126F;
-    static { NAMED.put("Lavender", -0x1.ff2372p126F); LIST.add(-0x1.ff2372p126F); }
 
     /**
      * This color constant "Lilac" has RGBA8888 code {@code D7A5FFFF}, hue 0.7592593, saturation 0.35294116, lightness 0.8235294, and alpha 1.0.
@@ -2836,7 +2607,6 @@ public class Palette {
      * </pre>
      */
     public static final float LILAC = -0x1.ff4baep126F;
-    static { NAMED.put("Lilac", -0x1.ff4baep126F); LIST.add(-0x1.ff4baep126F); }
 
     /**
      * This color constant "Soap" has RGBA8888 code {@code D7C3FAFF}, hue 0.72727275, saturation 0.21568626, lightness 0.872549, and alpha 1.0.
@@ -2848,7 +2618,6 @@ public class Palette {
      * </pre>
      */
     public static final float SOAP = -0x1.f587aep126F;
-    static { NAMED.put("Soap", -0x1.f587aep126F); LIST.add(-0x1.f587aep126F); }
 
     /**
      * This color constant "Pink Tutu" has RGBA8888 code {@code F8C6FCFF}, hue 0.8209877, saturation 0.2117647, lightness 0.88235295, and alpha 1.0.
@@ -2860,7 +2629,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_TUTU = -0x1.f98dfp126F;
-    static { NAMED.put("Pink Tutu", -0x1.f98dfp126F); LIST.add(-0x1.f98dfp126F); }
 
     /**
      * This color constant "Thistle" has RGBA8888 code {@code E673FFFF}, hue 0.80357146, saturation 0.5490196, lightness 0.7254902, and alpha 1.0.
@@ -2872,7 +2640,6 @@ public class Palette {
      * </pre>
      */
     public static final float THISTLE = -0x1.fee7ccp126F;
-    static { NAMED.put("Thistle", -0x1.fee7ccp126F); LIST.add(-0x1.fee7ccp126F); }
 
     /**
      * This color constant "Heliotrope" has RGBA8888 code {@code FF52FFFF}, hue 0.8333333, saturation 0.6784314, lightness 0.6607843, and alpha 1.0.
@@ -2884,7 +2651,6 @@ public class Palette {
      * </pre>
      */
     public static final float HELIOTROPE = -0x1.fea5fep126F;
-    static { NAMED.put("Heliotrope", -0x1.fea5fep126F); LIST.add(-0x1.fea5fep126F); }
 
     /**
      * This color constant "Purple" has RGBA8888 code {@code DA20E0FF}, hue 0.828125, saturation 0.7529412, lightness 0.50196075, and alpha 1.0.
@@ -2896,7 +2662,6 @@ public class Palette {
      * </pre>
      */
     public static final float PURPLE = -0x1.c041b4p126F;
-    static { NAMED.put("Purple", -0x1.c041b4p126F); LIST.add(-0x1.c041b4p126F); }
 
     /**
      * This color constant "Wisteria" has RGBA8888 code {@code BD29FFFF}, hue 0.7819315, saturation 0.8392157, lightness 0.5803921, and alpha 1.0.
@@ -2908,7 +2673,6 @@ public class Palette {
      * </pre>
      */
     public static final float WISTERIA = -0x1.fe537ap126F;
-    static { NAMED.put("Wisteria", -0x1.fe537ap126F); LIST.add(-0x1.fe537ap126F); }
 
     /**
      * This color constant "Medium Plum" has RGBA8888 code {@code BD10C5FF}, hue 0.8259669, saturation 0.70980394, lightness 0.41764706, and alpha 1.0.
@@ -2920,7 +2684,6 @@ public class Palette {
      * </pre>
      */
     public static final float MEDIUM_PLUM = -0x1.8a217ap126F;
-    static { NAMED.put("Medium Plum", -0x1.8a217ap126F); LIST.add(-0x1.8a217ap126F); }
 
     /**
      * This color constant "Violet" has RGBA8888 code {@code 8C14BEFF}, hue 0.78431374, saturation 0.6666667, lightness 0.41176474, and alpha 1.0.
@@ -2932,7 +2695,6 @@ public class Palette {
      * </pre>
      */
     public static final float VIOLET = -0x1.7c2918p126F;
-    static { NAMED.put("Violet", -0x1.7c2918p126F); LIST.add(-0x1.7c2918p126F); }
 
     /**
      * This color constant "Grape Lollipop" has RGBA8888 code {@code 5A187BFF}, hue 0.7777778, saturation 0.3882353, lightness 0.2882353, and alpha 1.0.
@@ -2944,7 +2706,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_LOLLIPOP = -0x1.f630b4p125F;
-    static { NAMED.put("Grape Lollipop", -0x1.f630b4p125F); LIST.add(-0x1.f630b4p125F); }
 
     /**
      * This color constant "Mulberry" has RGBA8888 code {@code 641464FF}, hue 0.8333334, saturation 0.3137255, lightness 0.23529413, and alpha 1.0.
@@ -2956,7 +2717,6 @@ public class Palette {
      * </pre>
      */
     public static final float MULBERRY = -0x1.c828c8p125F;
-    static { NAMED.put("Mulberry", -0x1.c828c8p125F); LIST.add(-0x1.c828c8p125F); }
 
     /**
      * This color constant "Grape Soda" has RGBA8888 code {@code 410062FF}, hue 0.7772109, saturation 0.38431373, lightness 0.19215687, and alpha 1.0.
@@ -2968,7 +2728,6 @@ public class Palette {
      * </pre>
      */
     public static final float GRAPE_SODA = -0x1.c40082p125F;
-    static { NAMED.put("Grape Soda", -0x1.c40082p125F); LIST.add(-0x1.c40082p125F); }
 
     /**
      * This color constant "Eggplant" has RGBA8888 code {@code 320A46FF}, hue 0.7777778, saturation 0.23529413, lightness 0.15686275, and alpha 1.0.
@@ -2980,7 +2739,6 @@ public class Palette {
      * </pre>
      */
     public static final float EGGPLANT = -0x1.8c1464p125F;
-    static { NAMED.put("Eggplant", -0x1.8c1464p125F); LIST.add(-0x1.8c1464p125F); }
 
     /**
      * This color constant "Cherry Syrup" has RGBA8888 code {@code 551937FF}, hue 0.9166667, saturation 0.23529413, lightness 0.21568629, and alpha 1.0.
@@ -2992,7 +2750,6 @@ public class Palette {
      * </pre>
      */
     public static final float CHERRY_SYRUP = -0x1.6e32aap125F;
-    static { NAMED.put("Cherry Syrup", -0x1.6e32aap125F); LIST.add(-0x1.6e32aap125F); }
 
     /**
      * This color constant "Plum Juice" has RGBA8888 code {@code A01982FF}, hue 0.8703704, saturation 0.5294118, lightness 0.3627451, and alpha 1.0.
@@ -3004,7 +2761,6 @@ public class Palette {
      * </pre>
      */
     public static final float PLUM_JUICE = -0x1.04334p126F;
-    static { NAMED.put("Plum Juice", -0x1.04334p126F); LIST.add(-0x1.04334p126F); }
 
     /**
      * This color constant "Fruit Punch" has RGBA8888 code {@code C80078FF}, hue 0.9, saturation 0.78431374, lightness 0.39215687, and alpha 1.0.
@@ -3016,7 +2772,6 @@ public class Palette {
      * </pre>
      */
     public static final float FRUIT_PUNCH = -0x1.f0019p125F;
-    static { NAMED.put("Fruit Punch", -0x1.f0019p125F); LIST.add(-0x1.f0019p125F); }
 
     /**
      * This color constant "Bubble Gum" has RGBA8888 code {@code FF50BFFF}, hue 0.89428574, saturation 0.6862745, lightness 0.65686274, and alpha 1.0.
@@ -3028,7 +2783,6 @@ public class Palette {
      * </pre>
      */
     public static final float BUBBLE_GUM = -0x1.7ea1fep126F;
-    static { NAMED.put("Bubble Gum", -0x1.7ea1fep126F); LIST.add(-0x1.7ea1fep126F); }
 
     /**
      * This color constant "Pink Lemonade" has RGBA8888 code {@code FF6AC5FF}, hue 0.8982103, saturation 0.58431375, lightness 0.7078431, and alpha 1.0.
@@ -3040,7 +2794,6 @@ public class Palette {
      * </pre>
      */
     public static final float PINK_LEMONADE = -0x1.8ad5fep126F;
-    static { NAMED.put("Pink Lemonade", -0x1.8ad5fep126F); LIST.add(-0x1.8ad5fep126F); }
 
     /**
      * This color constant "Shrimp" has RGBA8888 code {@code FAA0B9FF}, hue 0.9537037, saturation 0.35294116, lightness 0.8039216, and alpha 1.0.
@@ -3052,7 +2805,6 @@ public class Palette {
      * </pre>
      */
     public static final float SHRIMP = -0x1.7341f4p126F;
-    static { NAMED.put("Shrimp", -0x1.7341f4p126F); LIST.add(-0x1.7341f4p126F); }
 
     /**
      * This color constant "Flamingo" has RGBA8888 code {@code FC3A8CFF}, hue 0.9295533, saturation 0.7607843, lightness 0.6078431, and alpha 1.0.
@@ -3064,7 +2816,6 @@ public class Palette {
      * </pre>
      */
     public static final float FLAMINGO = -0x1.1875f8p126F;
-    static { NAMED.put("Flamingo", -0x1.1875f8p126F); LIST.add(-0x1.1875f8p126F); }
 
     /**
      * This color constant "Rose" has RGBA8888 code {@code E61E78FF}, hue 0.925, saturation 0.78431374, lightness 0.5098039, and alpha 1.0.
@@ -3076,7 +2827,6 @@ public class Palette {
      * </pre>
      */
     public static final float ROSE = -0x1.f03dccp125F;
-    static { NAMED.put("Rose", -0x1.f03dccp125F); LIST.add(-0x1.f03dccp125F); }
 
     /**
      * This color constant "Carmine" has RGBA8888 code {@code BD1039FF}, hue 0.96050096, saturation 0.6784314, lightness 0.40196076, and alpha 1.0.
@@ -3088,7 +2838,6 @@ public class Palette {
      * </pre>
      */
     public static final float CARMINE = -0x1.72217ap125F;
-    static { NAMED.put("Carmine", -0x1.72217ap125F); LIST.add(-0x1.72217ap125F); }
 
     /**
      * This color constant "Bologna" has RGBA8888 code {@code 98344DFF}, hue 0.9583333, saturation 0.3921569, lightness 0.39999998, and alpha 1.0.
@@ -3100,7 +2849,6 @@ public class Palette {
      * </pre>
      */
     public static final float BOLOGNA = -0x1.9a693p125F;
-    static { NAMED.put("Bologna", -0x1.9a693p125F); LIST.add(-0x1.9a693p125F); }
 
     /**
      * This color constant "Raspberry" has RGBA8888 code {@code 911437FF}, hue 0.9533333, saturation 0.4901961, lightness 0.32352945, and alpha 1.0.
@@ -3112,8 +2860,83 @@ public class Palette {
      * </pre>
      */
     public static final float RASPBERRY = -0x1.6e2922p125F;
-    static { NAMED.put("Raspberry", -0x1.6e2922p125F); LIST.add(-0x1.6e2922p125F); }
     
+    static {
+        // the names and colors are in the same order as the constants above
+        final String[] names = {
+                "Transparent", "Black", "Coal Black", "Shadow", "Graphite", "Dark Gray", "Lead", "Iron", "Gray",
+                "Chinchilla", "Greyhound", "Silver", "Light Gray", "Platinum", "Cloud", "White", "Seawater",
+                "Hospital Green", "Cyan", "Bubble", "Periwinkle", "Blue", "Faded Blue", "Ocean Blue", "Stygian Blue",
+                "Deep Purple", "Tyrian Purple", "Magenta", "Bubblegum Pink", "Pork Chop", "Raw Meat", "Red", "Putty",
+                "Sienna", "Seal Brown", "Mummy Brown", "Fawn", "Orange", "Peach", "Cream", "Yellow", "Earwax", "Umber",
+                "Ivy Green", "Jade", "Green", "Celadon", "Puce", "Beige", "Wet Stone", "Slow Creek", "Slate Gray",
+                "Light Skin 1", "Light Skin 2", "Light Skin 3", "Light Skin 4", "Light Skin 5", "Light Skin 6",
+                "Light Skin 7", "Light Skin 8", "Light Skin 9", "Dark Skin 1", "Dark Skin 2", "Dark Skin 3",
+                "Pink Skin 1", "Pink Skin 2", "Pink Skin 3", "Pink Skin 4", "Bronze Skin 4", "Bronze Skin 3",
+                "Bronze Skin 2", "Bronze Skin 1", "Taupe", "Drab Green", "Lizard Scales", "Cricket", "Olive Oil", "Dun",
+                "Corn Silk", "Tan", "Straw", "Honeydew", "Tarnish", "Pea Soup", "Marsh", "Asparagus", "Peat Bog",
+                "Deep Jungle", "Pine Green", "Olive Green", "Gray Green", "Maidenhair Fern", "Kelly Green",
+                "Dusty Green", "Garter Snake", "Silver Green", "Pistachio", "Angel Wing", "Sage Green", "Dried Sage",
+                "Artichoke", "Viridian", "Floral Foam", "Hunter Green", "Dark Teal", "Kyanite", "Spearmint",
+                "Amazonite", "Pastel Sky", "Aquamarine", "Dust Bunny", "Patina", "Chipped Granite", "Blue Smoke",
+                "Air Force Blue", "Cold Iron", "Dreary Blue", "Murk", "Ninja", "Watercolor Black", "Iolite",
+                "Boysenberry", "Watercolor Gray", "Blue Steel", "Twilight Cloud", "Smog", "Tropic Mist", "Feather Down",
+                "Mild Violet", "Violet Cushions", "Dull Violet", "Royal Violet", "Eminence", "Prune", "Dusty Grape",
+                "Pink Violet", "Ripe Plum", "Mauve", "Ham", "Cotton Candy", "Silver Pink", "Tea Rose", "Old Rose",
+                "Dusty Pink", "Roseate Spoonbill", "Thulian Pink", "Brown Velvet", "Nightshade", "Scribe Ink",
+                "Varnish", "Cedar Wood", "Hot Sauce", "Lurid Red", "Brick", "Bright Red", "Embers", "Salmon",
+                "Taxicab Yellow", "Apricot", "Burnt Yellow", "Dry Pepper", "Redwood", "Koa", "Ochre", "Dull Green",
+                "Army Green", "Driftwood", "Dry Brush", "Mush", "Banana Pudding", "Saffron", "Pencil Yellow",
+                "Chartreuse", "Absinthe", "Infection", "Frog Green", "Avocado", "Woodlands", "Dark Pine", "Moss Green",
+                "Fern Green", "Forest Glen", "Malachite", "Apple Green", "Celery", "Mint Green", "Emerald", "Prase",
+                "Eucalyptus", "Zucchini", "Soft Teal", "Medium Teal", "Spring Green", "Turquoise", "Seafoam",
+                "Variscite", "Refreshing Mist", "Shining Sky", "Steam", "Robin Egg Blue", "Denim Blue", "Deep Teal",
+                "Navy Blue", "Blueberry", "Prussian Blue", "Desert Rain", "Electric Blue", "Hidden Blue", "Dull Azure",
+                "Ripped Denim", "Calm Sky", "Vapor", "Powder Blue", "Suds", "Strong Cyan", "Sharp Azure", "Blue Eye",
+                "Subtlety", "Rough Sapphire", "Iris", "Cornflower Blue", "Polished Sapphire", "Royal Blue", "Indigo",
+                "Space Blue", "Thick Amethyst", "Juicy Grape", "Blacklight Glow", "Purple Freesia", "Thin Amethyst",
+                "Orchid", "Lavender", "Lilac", "Soap", "Pink Tutu", "Thistle", "Heliotrope", "Purple", "Wisteria",
+                "Medium Plum", "Violet", "Grape Lollipop", "Mulberry", "Grape Soda", "Eggplant", "Cherry Syrup",
+                "Plum Juice", "Fruit Punch", "Bubble Gum", "Pink Lemonade", "Shrimp", "Flamingo", "Rose", "Carmine",
+                "Bologna", "Raspberry"
+        };
+        final float[] colors = {
+                TRANSPARENT, BLACK, COAL_BLACK, SHADOW, GRAPHITE, DARK_GRAY, LEAD, IRON, GRAY, CHINCHILLA, GREYHOUND,
+                SILVER, LIGHT_GRAY, PLATINUM, CLOUD, WHITE, SEAWATER, HOSPITAL_GREEN, CYAN, BUBBLE, PERIWINKLE, BLUE,
+                FADED_BLUE, OCEAN_BLUE, STYGIAN_BLUE, DEEP_PURPLE, TYRIAN_PURPLE, MAGENTA, BUBBLEGUM_PINK, PORK_CHOP,
+                RAW_MEAT, RED, PUTTY, SIENNA, SEAL_BROWN, MUMMY_BROWN, FAWN, ORANGE, PEACH, CREAM, YELLOW, EARWAX,
+                UMBER, IVY_GREEN, JADE, GREEN, CELADON, PUCE, BEIGE, WET_STONE, SLOW_CREEK, SLATE_GRAY, LIGHT_SKIN_1,
+                LIGHT_SKIN_2, LIGHT_SKIN_3, LIGHT_SKIN_4, LIGHT_SKIN_5, LIGHT_SKIN_6, LIGHT_SKIN_7, LIGHT_SKIN_8,
+                LIGHT_SKIN_9, DARK_SKIN_1, DARK_SKIN_2, DARK_SKIN_3, PINK_SKIN_1, PINK_SKIN_2, PINK_SKIN_3, PINK_SKIN_4,
+                BRONZE_SKIN_4, BRONZE_SKIN_3, BRONZE_SKIN_2, BRONZE_SKIN_1, TAUPE, DRAB_GREEN, LIZARD_SCALES, CRICKET,
+                OLIVE_OIL, DUN, CORN_SILK, TAN, STRAW, HONEYDEW, TARNISH, PEA_SOUP, MARSH, ASPARAGUS, PEAT_BOG,
+                DEEP_JUNGLE, PINE_GREEN, OLIVE_GREEN, GRAY_GREEN, MAIDENHAIR_FERN, KELLY_GREEN, DUSTY_GREEN,
+                GARTER_SNAKE, SILVER_GREEN, PISTACHIO, ANGEL_WING, SAGE_GREEN, DRIED_SAGE, ARTICHOKE, VIRIDIAN,
+                FLORAL_FOAM, HUNTER_GREEN, DARK_TEAL, KYANITE, SPEARMINT, AMAZONITE, PASTEL_SKY, AQUAMARINE, DUST_BUNNY,
+                PATINA, CHIPPED_GRANITE, BLUE_SMOKE, AIR_FORCE_BLUE, COLD_IRON, DREARY_BLUE, MURK, NINJA,
+                WATERCOLOR_BLACK, IOLITE, BOYSENBERRY, WATERCOLOR_GRAY, BLUE_STEEL, TWILIGHT_CLOUD, SMOG, TROPIC_MIST,
+                FEATHER_DOWN, MILD_VIOLET, VIOLET_CUSHIONS, DULL_VIOLET, ROYAL_VIOLET, EMINENCE, PRUNE, DUSTY_GRAPE,
+                PINK_VIOLET, RIPE_PLUM, MAUVE, HAM, COTTON_CANDY, SILVER_PINK, TEA_ROSE, OLD_ROSE, DUSTY_PINK,
+                ROSEATE_SPOONBILL, THULIAN_PINK, BROWN_VELVET, NIGHTSHADE, SCRIBE_INK, VARNISH, CEDAR_WOOD, HOT_SAUCE,
+                LURID_RED, BRICK, BRIGHT_RED, EMBERS, SALMON, TAXICAB_YELLOW, APRICOT, BURNT_YELLOW, DRY_PEPPER,
+                REDWOOD, KOA, OCHRE, DULL_GREEN, ARMY_GREEN, DRIFTWOOD, DRY_BRUSH, MUSH, BANANA_PUDDING, SAFFRON,
+                PENCIL_YELLOW, CHARTREUSE, ABSINTHE, INFECTION, FROG_GREEN, AVOCADO, WOODLANDS, DARK_PINE, MOSS_GREEN,
+                FERN_GREEN, FOREST_GLEN, MALACHITE, APPLE_GREEN, CELERY, MINT_GREEN, EMERALD, PRASE, EUCALYPTUS,
+                ZUCCHINI, SOFT_TEAL, MEDIUM_TEAL, SPRING_GREEN, TURQUOISE, SEAFOAM, VARISCITE, REFRESHING_MIST,
+                SHINING_SKY, STEAM, ROBIN_EGG_BLUE, DENIM_BLUE, DEEP_TEAL, NAVY_BLUE, BLUEBERRY, PRUSSIAN_BLUE,
+                DESERT_RAIN, ELECTRIC_BLUE, HIDDEN_BLUE, DULL_AZURE, RIPPED_DENIM, CALM_SKY, VAPOR, POWDER_BLUE, SUDS,
+                STRONG_CYAN, SHARP_AZURE, BLUE_EYE, SUBTLETY, ROUGH_SAPPHIRE, IRIS, CORNFLOWER_BLUE, POLISHED_SAPPHIRE,
+                ROYAL_BLUE, INDIGO, SPACE_BLUE, THICK_AMETHYST, JUICY_GRAPE, BLACKLIGHT_GLOW, PURPLE_FREESIA,
+                THIN_AMETHYST, ORCHID, LAVENDER, LILAC, SOAP, PINK_TUTU, THISTLE, HELIOTROPE, PURPLE, WISTERIA,
+                MEDIUM_PLUM, VIOLET, GRAPE_LOLLIPOP, MULBERRY, GRAPE_SODA, EGGPLANT, CHERRY_SYRUP, PLUM_JUICE,
+                FRUIT_PUNCH, BUBBLE_GUM, PINK_LEMONADE, SHRIMP, FLAMINGO, ROSE, CARMINE, BOLOGNA, RASPBERRY
+        };
+        LIST.addAll(colors);
+        for (int i = 0; i < names.length; i++) {
+            NAMED.put(names[i], colors[i]);
+        }
+    }
+
     /**
      * All names for colors in this palette, in alphabetical order. You can fetch the corresponding packed float color
      * by looking up a name in {@link #NAMED}.
@@ -3131,29 +2954,88 @@ public class Palette {
      */
     public static final Array<String> NAMES_BY_LIGHTNESS = new Array<>(NAMES);
     static {
+        // each color's sort keys are computed once here, instead of twice in every comparison
+        final int count = NAMES.size;
+        final ObjectIntMap<String> indices = new ObjectIntMap<>(count);
+        final int[] alphas = new int[count];
+        final float[] saturations = new float[count], hues = new float[count], lights = new float[count];
+        for (int i = 0; i < count; i++) {
+            final String name = NAMES.get(i);
+            final float color = NAMED.get(name, TRANSPARENT);
+            indices.put(name, i);
+            alphas[i] = ColorTools.alphaInt(color);
+            saturations[i] = ColorTools.saturation(color);
+            hues[i] = ColorTools.hue(color);
+            lights[i] = ColorTools.lightness(color);
+        }
         NAMES_BY_HUE.sort(new Comparator<String>() {
             public int compare(String o1, String o2) {
-                final float c1 = NAMED.get(o1, TRANSPARENT), c2 = NAMED.get(o2, TRANSPARENT);
-                if(ColorTools.alphaInt(c1) < 128) return -10000;
-                else if(ColorTools.alphaInt(c2) < 128) return 10000;
-                final float s1 = ColorTools.saturation(c1), s2 = ColorTools.saturation(c2);
+                final int i1 = indices.get(o1, 0), i2 = indices.get(o2, 0);
+                if(alphas[i1] < 128) return -10000;
+                else if(alphas[i2] < 128) return 10000;
+                final float s1 = saturations[i1], s2 = saturations[i2];
                 if(s1 <= 0x1p-6f && s2 > 0x1p-6f)
                     return -1000;
                 else if(s1 > 0x1p-6f && s2 <= 0x1p-6f)
                     return 1000;
                 else if(s1 <= 0x1p-6f && s2 <= 0x1p-6f)
-                    return (int)Math.signum(ColorTools.lightness(c1) - ColorTools.lightness(c2));
+                    return (int)Math.signum(lights[i1] - lights[i2]);
                 else
-                    return 2 * (int)Math.signum(ColorTools.hue(c1) - ColorTools.hue(c2))
-                            + (int)Math.signum(ColorTools.lightness(c1) - ColorTools.lightness(c2));
+                    return 2 * (int)Math.signum(hues[i1] - hues[i2])
+                            + (int)Math.signum(lights[i1] - lights[i2]);
             }
         });
         NAMES_BY_LIGHTNESS.sort(new Comparator<String>() {
             public int compare(String o1, String o2) {
-                return Float.compare(lightness(NAMED.get(o1, TRANSPARENT)), lightness(NAMED.get(o2, TRANSPARENT)));
+                return Float.compare(lights[indices.get(o1, 0)], lights[indices.get(o2, 0)]);
             }
         });
     }
+
+    /**
+     * A read-only copy of {@link #NAMED} that looks up names without regard to case, so "Ocean Blue" and "ocean blue"
+     * find the same color. It can look up a name in any region of a CharSequence without allocating, and can be shared
+     * freely between threads. NAMED is copied the first time this is used, and later changes to NAMED aren't seen here.
+     */
+    public static final ColorNameTable NAME_TABLE = new ColorNameTable(NAMED);
+
+    private static final NamedColorTree NEAREST = new NamedColorTree(NAMED, new NamedColorTree.Converter() {
+        public float toOklab(float color) {
+            return com.github.tommyettinger.colorful.oklab.ColorTools.fromRGBA(color);
+        }
+    });
+
+    /**
+     * Finds the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. This searches an
+     * index of the named colors that is built the first time it is needed, and skips mostly-transparent colors.
+     * @param color a packed RGBA float color
+     * @return the closest named color, as a packed RGBA float
+     */
+    public static float nearest(final float color) {
+        return NEAREST.nearest(color);
+    }
+
+    /**
+     * Finds the name of the color in {@link #NAMED} that is closest to {@code color}, measuring distance in Oklab. If
+     * two named colors are equally close, this returns the name that is first alphabetically.
+     * @param color a packed RGBA float color
+     * @return the name of the closest named color, which can be looked up in {@link #NAMED}
+     */
+    public static String nearestName(final float color) {
+        return NEAREST.nearestName(color);
+    }
+
+    /**
+     * Finds the {@code k} colors in {@link #NAMED} that are closest to {@code color}, measuring distance in Oklab, and
+     * writes them into {@code out} with the closest first. This doesn't allocate once the index has been built.
+     * @param color a packed RGBA float color
+     * @param k how many colors to find
+     * @param out will receive up to k packed RGBA float colors, starting at index 0
+     * @return how many colors were written to out, which is less than k if out is shorter than k
+     */
+    public static int kNearest(final float color, final int k, final float[] out) {
+        return NEAREST.kNearest(color, k, out);
+    }
     /**
      * Appends standard RGBA Color instances to the map in {@link Colors}, using the names in {@link #NAMES} (which
      * are "Title Cased" instead of "ALL UPPER CASE"). This doesn't need any changes to be made to Colors in order for
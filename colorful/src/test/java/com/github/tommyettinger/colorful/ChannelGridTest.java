@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class ChannelGridTest {
+    @Test
+    public void testMatchesBruteForce() {
+        Random random = new Random(123456789L);
+        int[] channels = new int[3000], ids = new int[3000];
+        for (int i = 0; i < channels.length; i++) {
+            // few distinct bytes, so there are duplicate colors and many tied distances
+            channels[i] = random.nextInt(16) * 17 | random.nextInt(16) * 17 << 8 | random.nextInt(16) * 17 << 16;
+            ids[i] = random.nextInt(100000);
+        }
+        ChannelGrid grid = new ChannelGrid(channels, ids, channels.length);
+        float[] cost0 = new float[256], cost1 = new float[256], cost2 = new float[256];
+        for (int t = 0; t < 500; t++) {
+            float target0 = random.nextFloat(), target1 = random.nextFloat(), target2 = random.nextFloat();
+            for (int i = 0; i < 256; i++) {
+                float d0 = i / 255f - target0, d1 = i / 255f - target1, d2 = Math.abs(i / 255f - target2);
+                cost0[i] = d0 * d0;
+                cost1[i] = d1 * d1 * 3f;
+                cost2[i] = t % 2 == 0 ? d2 * d2 : Math.round(d2 * 4f);
+            }
+            float bestDistance = Float.POSITIVE_INFINITY;
+            int bestId = -1;
+            for (int i = 0; i < channels.length; i++) {
+                int ch = channels[i];
+                float distance = (cost0[ch & 255] + cost1[ch >>> 8 & 255]) + cost2[ch >>> 16 & 255];
+                if (distance < bestDistance || (distance == bestDistance && ids[i] < bestId)) {
+                    bestDistance = distance;
+                    bestId = ids[i];
+                }
+            }
+            Assert.assertEquals(bestId, grid.id(grid.nearest(cost0, cost1, cost2)));
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        ChannelGrid grid = new ChannelGrid(new int[0], new int[0], 0);
+        Assert.assertEquals(0, grid.size());
+        Assert.assertEquals(-1, grid.nearest(new float[256], new float[256], new float[256]));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class ColorAccumulatorTest {
+    @Test
+    public void testMean() {
+        Random random = new Random(123L);
+        float[] colors = new float[5000];
+        long s0 = 0, s1 = 0, s2 = 0, sa = 0;
+        for (int i = 0; i < colors.length; i++) {
+            final int bits = random.nextInt();
+            colors[i] = NumberUtils.intBitsToFloat(bits & 0xFEFFFFFF);
+            s0 += bits & 255;
+            s1 += bits >>> 8 & 255;
+            s2 += bits >>> 16 & 255;
+            sa += bits >>> 25;
+        }
+        final int n = colors.length;
+        final float expected = NumberUtils.intBitsToFloat((int) ((s0 + n / 2) / n) | (int) ((s1 + n / 2) / n) << 8
+                | (int) ((s2 + n / 2) / n) << 16 | (int) ((sa + n / 2) / n) << 25);
+        Assert.assertEquals(expected, FloatColors.mix(colors, 0, n), 0f);
+        Assert.assertEquals(expected, FloatColors.mix(new FloatArray(colors)), 0f);
+
+        ColorAccumulator running = new ColorAccumulator();
+        for (int i = 0; i < n; i++) {
+            running.add(colors[i]);
+        }
+        Assert.assertEquals(n, running.weight(), 0.0);
+        Assert.assertEquals(expected, running.mean(), 0f);
+        // the repeated-lerp approach rounds down at every step, so it drifts away from the mean
+        float lerped = colors[0];
+        for (int i = 1; i < n; i++) {
+            lerped = FloatColors.lerpFloatColors(lerped, colors[i], 1f / (i + 1f));
+        }
+        Assert.assertTrue(expected != lerped);
+    }
+
+    @Test
+    public void testRunningWindow() {
+        Random random = new Random(456L);
+        float[] colors = new float[200];
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = ColorTools.fromRGBA8888(random.nextInt());
+        }
+        ColorAccumulator window = new ColorAccumulator();
+        ColorAccumulator fresh = new ColorAccumulator();
+        for (int i = 0; i < colors.length; i++) {
+            window.add(colors[i]);
+            if (i >= 16) {
+                window.remove(colors[i - 16]);
+                Assert.assertEquals(fresh.reset().addAll(colors, i - 15, 16).mean(), window.mean(), 0f);
+            }
+        }
+        Assert.assertEquals(window.mean(), new ColorAccumulator(window).mean(), 0f);
+        Assert.assertTrue(window.reset().isEmpty());
+        Assert.assertEquals(0f, window.mean(), 0f);
+    }
+
+    @Test
+    public void testWeighted() {
+        final float black = ColorTools.oklab(0f, 0.5f, 0.5f, 1f), white = ColorTools.oklab(1f, 0.5f, 0.5f, 1f);
+        final float mixed = FloatColors.unevenMix(black, 3f, white, 1f);
+        Assert.assertEquals(64, NumberUtils.floatToRawIntBits(mixed) & 255);
+        Assert.assertEquals(mixed, new ColorAccumulator().add(black, 0.75f).add(white, 0.25f).mean(), 0f);
+        Assert.assertEquals(mixed, FloatColors.unevenMix(new FloatArray(new float[]{black, 3f, white, 1f})), 0f);
+        Assert.assertEquals(black, FloatColors.unevenMix(black, 0f, white, 0f), 0f);
+        final float[] weighted = {black, 2.5f, white, 0.3f, black, 1f};
+        Assert.assertEquals(new ColorAccumulator().addAllWeighted(weighted, 0, 6).mean(),
+                ColorAccumulator.weightedMeanOf(weighted, 0, 6), 0f);
+        Assert.assertEquals(new ColorAccumulator().addAll(weighted, 0, 5).mean(),
+                ColorAccumulator.meanOf(weighted, 0, 5), 0f);
+        try {
+            new ColorAccumulator().addAll(new float[4], 2, 4);
+            Assert.fail("Reading past the end of colors should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.github.tommyettinger.colorful.oklab.ColorBuffer;
+import com.github.tommyettinger.colorful.oklab.ColorPipeline;
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class ColorBufferTest {
+    private static float[] randomColors(long seed, int count) {
+        Random random = new Random(seed);
+        float[] colors = new float[count];
+        for (int i = 0; i < count; i++) {
+            colors[i] = ColorTools.fromRGBA8888(random.nextInt());
+        }
+        return colors;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        float[] colors = randomColors(1L, 300);
+        ColorBuffer buffer = new ColorBuffer(colors);
+        Assert.assertEquals(300, buffer.size());
+        Assert.assertArrayEquals(colors, buffer.pack(new float[300], 0), 0f);
+
+        int[] rgba = new int[310];
+        Random random = new Random(2L);
+        for (int i = 0; i < rgba.length; i++) {
+            rgba[i] = random.nextInt();
+        }
+        int[] expected = new int[300], actual = new int[300];
+        buffer.fromRGBA8888(rgba, 10, 300).toRGBA8888(actual, 0);
+        for (int i = 0; i < 300; i++) {
+            expected[i] = ColorTools.toRGBA8888(ColorTools.fromRGBA8888(rgba[i + 10]));
+        }
+        Assert.assertArrayEquals(expected, actual);
+
+        com.github.tommyettinger.colorful.rgb.ColorBuffer rgb = new com.github.tommyettinger.colorful.rgb.ColorBuffer();
+        rgb.fromRGBA8888(rgba, 0, rgba.length);
+        int[] back = rgb.toRGBA8888(new int[rgba.length], 0);
+        for (int i = 0; i < rgba.length; i++) {
+            Assert.assertEquals(rgba[i] | 1, back[i] | 1);
+        }
+    }
+
+    @Test
+    public void testBulkOperations() {
+        float[] colors = randomColors(3L, 200);
+        ColorBuffer buffer = new ColorBuffer(colors);
+        buffer.scale(0.5f, 1f, 1f, 1f).offset(0.25f, 0f, 0f, 0f);
+        for (int i = 0; i < colors.length; i++) {
+            Assert.assertEquals(ColorTools.channelL(colors[i]) * 0.5f + 0.25f, buffer.c0[i], 1e-6f);
+        }
+        final float target = ColorTools.oklab(1f, 0.5f, 0.5f, 1f);
+        buffer.unpack(colors, 0, colors.length).lerp(target, 1f);
+        for (int i = 0; i < colors.length; i++) {
+            Assert.assertEquals(target, buffer.get(i), 0f);
+        }
+        ColorBuffer other = new ColorBuffer(colors);
+        buffer.lerp(other, 0.5f);
+        for (int i = 0; i < colors.length; i++) {
+            Assert.assertEquals((1f + ColorTools.channelL(colors[i])) * 0.5f, buffer.c0[i], 1e-6f);
+        }
+        buffer.offset(2f, -2f, 0f, 0f).clamp();
+        for (int i = 0; i < colors.length; i++) {
+            Assert.assertEquals(1f, buffer.c0[i], 0f);
+            Assert.assertEquals(0f, buffer.c1[i], 0f);
+        }
+    }
+
+    @Test
+    public void testLimitToGamut() {
+        Random random = new Random(4L);
+        ColorBuffer buffer = new ColorBuffer(500);
+        buffer.setSize(500);
+        for (int i = 0; i < 500; i++) {
+            buffer.c0[i] = random.nextFloat();
+            buffer.c1[i] = random.nextFloat() * 1.2f - 0.1f;
+            buffer.c2[i] = random.nextFloat() * 1.2f - 0.1f;
+            buffer.alpha[i] = random.nextFloat() * 1.2f - 0.1f;
+        }
+        ColorBuffer copy = new ColorBuffer(buffer.pack(new float[500], 0));
+        buffer.limitToGamut();
+        for (int i = 0; i < 500; i++) {
+            final float color = buffer.get(i);
+            Assert.assertTrue(ColorTools.inGamut(color));
+            if (ColorTools.inGamut(copy.get(i)))
+                Assert.assertEquals(copy.get(i), color, 0f);
+            Assert.assertTrue(buffer.alpha[i] >= 0f && buffer.alpha[i] <= 1f);
+        }
+    }
+
+    @Test
+    public void testPipeline() {
+        float[] colors = randomColors(5L, 1000);
+        ColorPipeline pipeline = new ColorPipeline().lighten(0.2f).enrich(0.4f).fade(0.25f).lowerB(0.1f)
+                .limitToGamut();
+        float[] piped = pipeline.apply(new ColorBuffer(colors)).pack(new float[1000], 0);
+        for (int i = 0; i < colors.length; i++) {
+            Assert.assertEquals(pipeline.apply(colors[i]), piped[i], 0f);
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        ColorBuffer buffer = new ColorBuffer();
+        try {
+            buffer.unpack(new float[4], 2, 4);
+            Assert.fail("Reading past the end of packed should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        buffer.setSize(8);
+        try {
+            buffer.pack(new float[4], 0);
+            Assert.fail("Writing past the end of packed should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            buffer.lerp(new ColorBuffer(), 0.5f);
+            Assert.fail("Too few targets should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
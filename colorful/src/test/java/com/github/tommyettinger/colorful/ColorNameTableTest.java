@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.github.tommyettinger.colorful.oklab.Palette;
+import com.github.tommyettinger.colorful.oklab.SimplePalette;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ColorNameTableTest {
+    @Test
+    public void testPaletteNames() {
+        Assert.assertEquals(Palette.NAMED.size, Palette.NAME_TABLE.size());
+        for (String name : Palette.NAMES) {
+            float color = Palette.NAMED.get(name, 0f);
+            Assert.assertEquals(name, color, Palette.NAME_TABLE.get(name, -1f), 0f);
+            Assert.assertEquals(name, color, Palette.NAME_TABLE.get(name.toUpperCase(), -1f), 0f);
+            Assert.assertEquals(name, color, Palette.NAME_TABLE.get(name.toLowerCase(), -1f), 0f);
+            Assert.assertEquals(name, Palette.NAME_TABLE.nameAt(Palette.NAME_TABLE.indexOf(name.toLowerCase())));
+        }
+        for (String name : SimplePalette.NAMES) {
+            Assert.assertEquals(name, SimplePalette.NAMED.get(name, 0f), SimplePalette.NAME_TABLE.get(name, -1f), 0f);
+        }
+        Assert.assertEquals(SimplePalette.GRAY, SimplePalette.NAME_TABLE.get("Grey", -1f), 0f);
+    }
+
+    @Test
+    public void testRegions() {
+        String text = "[Ocean Blue]hot SAUCE;nope";
+        Assert.assertEquals(Palette.OCEAN_BLUE, Palette.NAME_TABLE.get(text, 1, 11, -1f), 0f);
+        Assert.assertEquals(Palette.HOT_SAUCE, Palette.NAME_TABLE.get(new StringBuilder(text), 12, 21, -1f), 0f);
+        Assert.assertEquals(-1, Palette.NAME_TABLE.indexOf(text, 22, 26));
+        Assert.assertEquals(-1, Palette.NAME_TABLE.indexOf(text, 1, 10));
+        Assert.assertEquals(-1, Palette.NAME_TABLE.indexOf(text, 1, 1));
+        Assert.assertEquals(-1, Palette.NAME_TABLE.indexOf("Ocean_Blue"));
+    }
+
+    @Test
+    public void testCaseDuplicates() {
+        ObjectFloatMap<String> named = new ObjectFloatMap<>();
+        named.put("red", 1f);
+        named.put("RED", 2f);
+        named.put("Red", 3f);
+        named.put("blue", 4f);
+        ColorNameTable table = new ColorNameTable(named);
+        Assert.assertEquals(2, table.size());
+        Assert.assertEquals(2f, table.get("rEd", -1f), 0f);
+        Assert.assertEquals("RED", table.nameAt(table.indexOf("red")));
+        Assert.assertEquals(4f, table.get("BLUE", -1f), 0f);
+
+        ColorNameTable empty = new ColorNameTable(new ObjectFloatMap<String>());
+        Assert.assertEquals(0, empty.size());
+        Assert.assertEquals(-1f, empty.get("red", -1f), 0f);
+    }
+
+    @Test
+    public void testManyNames() {
+        ObjectFloatMap<String> named = new ObjectFloatMap<>();
+        for (int i = 0; i < 5000; i++) {
+            named.put("color" + i, i);
+        }
+        ColorNameTable table = new ColorNameTable(named);
+        Assert.assertEquals(5000, table.size());
+        for (int i = 0; i < 5000; i++) {
+            Assert.assertEquals(i, table.get("COLOR" + i, -1f), 0f);
+        }
+        Assert.assertEquals(-1f, table.get("color5000", -1f), 0f);
+    }
+}
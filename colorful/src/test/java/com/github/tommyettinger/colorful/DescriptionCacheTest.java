@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.github.tommyettinger.colorful.oklab.SimplePalette;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DescriptionCacheTest {
+    @Test
+    public void testHitsAndMisses() {
+        DescriptionCache cache = new DescriptionCache(16, SimplePalette::parseDescription);
+        Assert.assertEquals(SimplePalette.parseDescription("dark rich cobalt"), cache.parseDescription("dark rich cobalt"), 0f);
+        Assert.assertEquals(0L, cache.getHits());
+        Assert.assertEquals(1L, cache.getMisses());
+        StringBuilder sb = new StringBuilder("[dark rich cobalt]");
+        Assert.assertEquals(SimplePalette.parseDescription("dark rich cobalt"), cache.parseDescription(sb, 1, 16), 0f);
+        Assert.assertEquals(1L, cache.getHits());
+        Assert.assertEquals(1L, cache.getMisses());
+        Assert.assertEquals(1, cache.size());
+        cache.resetStatistics();
+        Assert.assertEquals(0L, cache.getHits() + cache.getMisses());
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        final AtomicInteger parses = new AtomicInteger();
+        DescriptionCache cache = new DescriptionCache(4, (description, start, length) -> {
+            parses.incrementAndGet();
+            return SimplePalette.parseDescription(description, start, length);
+        });
+        String[] descriptions = {"red", "green", "blue", "cyan", "magenta"};
+        for (int i = 0; i < 4; i++) {
+            cache.parseDescription(descriptions[i]);
+        }
+        cache.parseDescription("red"); // "green" is now the least-recently used
+        cache.parseDescription("magenta");
+        Assert.assertEquals(4, cache.size());
+        Assert.assertEquals(5, parses.get());
+        cache.parseDescription("red");
+        Assert.assertEquals(5, parses.get());
+        cache.parseDescription("green");
+        Assert.assertEquals(6, parses.get());
+    }
+
+    @Test
+    public void testThreads() throws InterruptedException {
+        final String[] descriptions = {"dark deep blue^7 cyan^3", "lightest richer apricot-olive", "red^3 orange",
+                "palest cyan blue", "weakmost celery", "indigo purple mauve", "lighter sage 2 moss"};
+        final DescriptionCache cache = new DescriptionCache(4, SimplePalette::parseDescription);
+        final AtomicInteger wrong = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    String d = descriptions[i % descriptions.length];
+                    if (cache.parseDescription(d) != SimplePalette.parseDescription(d))
+                        wrong.incrementAndGet();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(0, wrong.get());
+        Assert.assertEquals(80000L, cache.getHits() + cache.getMisses());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.github.tommyettinger.colorful.oklab.SimplePalette;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class DescriptionTermsTest {
+    @Test
+    public void testAdjectives() {
+        String[] words = {"light", "LIGHTER", "lightest", "lightmost", "dark", "duller", "richest", "brightmost",
+                "pale", "palest", "palemost", "weaker", "deep", "lighthouse", "dartboard", "red"};
+        int[][] steps = {{1, 0}, {2, 0}, {3, 0}, {4, 0}, {-1, 0}, {0, -2}, {0, 3}, {4, 4},
+                {1, -1}, {3, -3}, {4, -4}, {-2, -2}, {-1, 1}, {0, 0}, {0, 0}, {0, 0}};
+        for (int i = 0; i < words.length; i++) {
+            int adjective = DescriptionTerms.adjective(words[i], 0, words[i].length());
+            Assert.assertEquals(words[i], steps[i][0], DescriptionTerms.lightnessSteps(adjective));
+            Assert.assertEquals(words[i], steps[i][1], DescriptionTerms.saturationSteps(adjective));
+        }
+    }
+
+    @Test
+    public void testNames() {
+        ObjectFloatMap<String> named = new ObjectFloatMap<>();
+        named.put("red", 1f);
+        named.put("Blue", 2f);
+        ColorNameTable table = new ColorNameTable(named);
+        DescriptionTerms terms = new DescriptionTerms(named, table);
+        String text = "dark red, Blue, blue, RED";
+        Assert.assertEquals(1f, terms.get(text, 5, 8), 0f);
+        Assert.assertEquals(2f, terms.get(text, 10, 14), 0f);
+        // the table ignores case, but the map doesn't
+        Assert.assertEquals(0f, terms.get(text, 16, 20), 0f);
+        Assert.assertEquals(0f, terms.get(text, 22, 25), 0f);
+        Assert.assertEquals(2, table.size());
+        // names added after the table was built are still found
+        named.put("blue", 3f);
+        Assert.assertEquals(3f, terms.get(text, 16, 20), 0f);
+        Assert.assertEquals(2f, terms.get(text, 10, 14), 0f);
+    }
+
+    @Test
+    public void testWeights() {
+        String[] weights = {"3", "0", "007", "2.5", "0.125", "1.", "123456789", "1234567890", "99999999.9", "1e2",
+                "0x10", "3.5.2", "2x"};
+        for (String w : weights) {
+            float expected;
+            try {
+                expected = Float.parseFloat(w);
+            } catch (NumberFormatException e) {
+                expected = 1f;
+            }
+            Assert.assertEquals(w, expected, DescriptionTerms.parseWeight("^" + w + " ", 1, w.length() + 1), 0f);
+        }
+    }
+
+    @Test
+    public void testWeightsMatchParseFloat() {
+        Random random = new Random(789L);
+        StringBuilder sb = new StringBuilder();
+        for (int n = 0; n < 200000; n++) {
+            sb.setLength(0);
+            final int digits = 1 + random.nextInt(10);
+            sb.append((char) ('0' + random.nextInt(10)));
+            for (int i = 1; i < digits; i++) {
+                sb.append((char) ('0' + random.nextInt(10)));
+            }
+            if (random.nextInt(4) != 0)
+                sb.insert(1 + random.nextInt(digits), '.');
+            final String w = sb.toString();
+            Assert.assertEquals(w, Float.floatToIntBits(Float.parseFloat(w)),
+                    Float.floatToIntBits(DescriptionTerms.parseWeight(w, 0, w.length())));
+        }
+    }
+
+    @Test
+    public void testWindow() {
+        String[] descriptions = {"dark deep blue^7 cyan^3", "lightest richer apricot-olive", "red^3 orange",
+                "palest cyan blue", "weakmost celery", "indigo purple mauve", "", "nothing here", "2 blue"};
+        for (String d : descriptions) {
+            StringBuilder sb = new StringBuilder("gray ").append(d).append(" black");
+            Assert.assertEquals(d, SimplePalette.parseDescription(d),
+                    SimplePalette.parseDescription(sb, 5, d.length()), 0f);
+        }
+        Assert.assertEquals(SimplePalette.parseDescription("cyan"), SimplePalette.parseDescription("blue cyan", 5, -1), 0f);
+    }
+
+    @Test
+    public void testMixMatchesUnevenMix() {
+        Assert.assertEquals(FloatColors.mix(new float[]{SimplePalette.RED, SimplePalette.CYAN}),
+                SimplePalette.parseDescription("red cyan"), 0f);
+        float[] colors = {SimplePalette.INDIGO, SimplePalette.PURPLE, SimplePalette.MAUVE};
+        Assert.assertEquals(FloatColors.mix(colors), SimplePalette.parseDescription("indigo purple mauve"), 0f);
+        Assert.assertEquals(FloatColors.unevenMix(SimplePalette.BLUE, 7f, SimplePalette.CYAN, 3f),
+                SimplePalette.parseDescription("blue^7 cyan^3"), 0f);
+        colors = new float[]{SimplePalette.RED, 3f, SimplePalette.ORANGE, 1f, SimplePalette.RED, 0.5f};
+        Assert.assertEquals(FloatColors.unevenMix(colors), SimplePalette.parseDescription("red^3 orange red^0.5"), 0f);
+        // zero weights fall back to the first color, as unevenMix() does
+        Assert.assertEquals(SimplePalette.BLUE, SimplePalette.parseDescription("blue^0 cyan^0"), 0f);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.utils.Array;
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import com.github.tommyettinger.colorful.oklab.Palette;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class NamedColorTreeTest {
+    /**
+     * Sorts the opaque names in {@link Palette#NAMES} by their distance from oklab, breaking ties alphabetically.
+     */
+    private static Array<String> bruteForce(final float oklab) {
+        Array<String> names = new Array<>();
+        for (String name : Palette.NAMES) {
+            if (ColorTools.alphaInt(Palette.NAMED.get(name, 0f)) >= 128)
+                names.add(name);
+        }
+        names.sort((a, b) -> {
+            int c = Float.compare(ColorTools.distanceSquared(oklab, Palette.NAMED.get(a, 0f)),
+                    ColorTools.distanceSquared(oklab, Palette.NAMED.get(b, 0f)));
+            return c != 0 ? c : a.compareTo(b);
+        });
+        return names;
+    }
+
+    @Test
+    public void testNearest() {
+        Random random = new Random(1234L);
+        for (int i = 0; i < 1000; i++) {
+            float oklab = ColorTools.fromRGBA8888(random.nextInt() | 0xFF);
+            String expected = bruteForce(oklab).first();
+            Assert.assertEquals(expected, Palette.nearestName(oklab));
+            Assert.assertEquals(Palette.NAMED.get(expected, 0f), Palette.nearest(oklab), 0f);
+        }
+        for (String name : Palette.NAMES) {
+            float color = Palette.NAMED.get(name, 0f);
+            if (ColorTools.alphaInt(color) >= 128)
+                Assert.assertEquals(0f, ColorTools.distanceSquared(color, Palette.nearest(color)), 0f);
+        }
+    }
+
+    @Test
+    public void testKNearest() {
+        Random random = new Random(5678L);
+        float[] out = new float[12];
+        for (int i = 0; i < 300; i++) {
+            float oklab = ColorTools.fromRGBA8888(random.nextInt() | 0xFF);
+            Array<String> expected = bruteForce(oklab);
+            int k = random.nextInt(out.length + 1);
+            Assert.assertEquals(k, Palette.kNearest(oklab, k, out));
+            for (int j = 0; j < k; j++) {
+                Assert.assertEquals(Palette.NAMED.get(expected.get(j), 0f), out[j], 0f);
+            }
+        }
+        Assert.assertEquals(out.length, Palette.kNearest(0f, 100, out));
+    }
+}
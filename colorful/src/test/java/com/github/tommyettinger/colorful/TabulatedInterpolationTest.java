@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.github.tommyettinger.colorful.oklab.ColorTools;
+import com.github.tommyettinger.colorful.oklab.GradientTools;
+import com.github.tommyettinger.colorful.oklab.Palette;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TabulatedInterpolationTest {
+    @Test
+    public void testErrorBound() {
+        TabulatedInterpolation smooth = new TabulatedInterpolation(Interpolation.smooth);
+        Assert.assertEquals(TabulatedInterpolation.DEFAULT_SAMPLES, smooth.getSamples());
+        // the documented bound for smooth, whose second derivative is at most 6, is 6 / (8 * 255 * 255)
+        Assert.assertTrue(smooth.maxError(4096) <= 6f / (8 * 255 * 255) + 1e-6f);
+        Assert.assertEquals(0f, smooth.apply(0f), 0f);
+        Assert.assertEquals(1f, smooth.apply(1f), 0f);
+        Assert.assertEquals(0f, smooth.apply(-5f), 0f);
+        Assert.assertEquals(1f, smooth.apply(5f), 0f);
+        Assert.assertEquals(0f, smooth.apply(Float.NaN), 0f);
+        Assert.assertEquals(1f, smooth.apply(Float.POSITIVE_INFINITY), 0f);
+        Assert.assertEquals(0f, smooth.apply(Float.NEGATIVE_INFINITY), 0f);
+
+        TabulatedInterpolation coarse = new TabulatedInterpolation(Interpolation.circle, 64);
+        TabulatedInterpolation fine = new TabulatedInterpolation(Interpolation.circle, 1024);
+        Assert.assertTrue(fine.maxError(16384) < coarse.maxError(16384));
+        Assert.assertSame(Interpolation.circle, fine.getSource());
+
+        TabulatedInterpolation line = new TabulatedInterpolation(Interpolation.linear, 2);
+        for (int i = 0; i <= 100; i++) {
+            Assert.assertEquals(i / 100f, line.apply(i / 100f), 1e-6f);
+        }
+    }
+
+    @Test
+    public void testGradientTools() {
+        final float[] stops = {Palette.BLACK, Palette.PURPLE, Palette.RED, Palette.YELLOW, Palette.WHITE};
+        float[] exact = new float[256], tabulated = new float[256];
+        GradientTools.appendGradientChain(exact, 0, 256, Interpolation.circle, stops);
+        GradientTools.appendGradientChain(tabulated, 0, 256, new TabulatedInterpolation(Interpolation.circle, 4096),
+                stops);
+        Assert.assertEquals(exact[0], tabulated[0], 0f);
+        Assert.assertEquals(exact[255], tabulated[255], 0f);
+        for (int i = 0; i < 256; i++) {
+            Assert.assertTrue(ColorTools.distanceSquared(exact[i], tabulated[i]) < 0.0005f);
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        try {
+            new TabulatedInterpolation(null);
+            Assert.fail("A null source should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new TabulatedInterpolation(Interpolation.smooth, 1);
+            Assert.fail("Fewer than 2 samples should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful;
+
+import com.badlogic.gdx.utils.NumberUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static com.github.tommyettinger.colorful.oklab.ColorTools.cbrtPositive;
+
+/**
+ * Checks every RGB color (for conversions from RGBA8888) and every packed color with opaque alpha (for conversions to
+ * RGBA8888) against copies of the conversions as they were before the byte-indexed transfer functions were replaced by
+ * lookup tables. The tables must not change a single bit of any result.
+ */
+public class TransferTableTest {
+
+    // Reference versions, computing each transfer function directly.
+
+    private static float oklabFromRGBA8888(final int rgba) {
+        final float r = com.github.tommyettinger.colorful.oklab.ColorTools.forwardGamma((rgba >>> 24) * 0x1.010101010101p-8f);
+        final float g = com.github.tommyettinger.colorful.oklab.ColorTools.forwardGamma((rgba >>> 16 & 0xFF) * 0x1.010101010101p-8f);
+        final float b = com.github.tommyettinger.colorful.oklab.ColorTools.forwardGamma((rgba >>> 8 & 0xFF) * 0x1.010101010101p-8f);
+
+        final float l = cbrtPositive(0.4121656120f * r + 0.5362752080f * g + 0.0514575653f * b);
+        final float m = cbrtPositive(0.2118591070f * r + 0.6807189584f * g + 0.1074065790f * b);
+        final float s = cbrtPositive(0.0883097947f * r + 0.2818474174f * g + 0.6302613616f * b);
+
+        return NumberUtils.intBitsToFloat(
+                Math.min(Math.max((int)(com.github.tommyettinger.colorful.oklab.ColorTools.forwardLight
+                        (0.2104542553f * l + 0.7936177850f * m - 0.0040720468f * s) * 255.999f       ), 0), 255)
+                        | Math.min(Math.max((int)((1.9779984951f * l - 2.4285922050f * m + 0.4505937099f * s) * 127.5f + 127.5f), 0), 255) << 8
+                        | Math.min(Math.max((int)((0.0259040371f * l + 0.7827717662f * m - 0.8086757660f * s) * 127.5f + 127.5f), 0), 255) << 16
+                        | (rgba & 0xFE) << 24);
+    }
+
+    private static int oklabToRGBA8888(final float packed) {
+        final int decoded = NumberUtils.floatToRawIntBits(packed);
+        final float L = com.github.tommyettinger.colorful.oklab.ColorTools.reverseLight((decoded & 0xff) / 255f);
+        final float A = ((decoded >>> 8 & 0xff) - 127f) / 127f;
+        final float B = ((decoded >>> 16 & 255) - 127f) / 127f;
+        final float l = cube(L + 0.3963377774f * A + 0.2158037573f * B);
+        final float m = cube(L - 0.1055613458f * A - 0.0638541728f * B);
+        final float s = cube(L - 0.0894841775f * A - 1.2914855480f * B);
+        final int r = (int)((float)Math.sqrt(Math.min(Math.max(+4.0767245293f * l - 3.3072168827f * m + 0.2307590544f * s, 0f), 1f)) * 255.999f);
+        final int g = (int)((float)Math.sqrt(Math.min(Math.max(-1.2681437731f * l + 2.6093323231f * m - 0.3411344290f * s, 0f), 1f)) * 255.999f);
+        final int b = (int)((float)Math.sqrt(Math.min(Math.max(-0.0041119885f * l - 0.7034763098f * m + 1.7068625689f * s, 0f), 1f)) * 255.999f);
+        return r << 24 | g << 16 | b << 8 | (decoded & 0xfe000000) >>> 24 | decoded >>> 31;
+    }
+
+    private static float cielabFromRGBA8888(final int rgba) {
+        final float r = srgbForwardGamma((rgba >>> 24) * 0x1.010101010101p-8f);
+        final float g = srgbForwardGamma((rgba >>> 16 & 0xFF) * 0x1.010101010101p-8f);
+        final float b = srgbForwardGamma((rgba >>> 8 & 0xFF) * 0x1.010101010101p-8f);
+
+        final float x = forwardXYZ(0.4124564f * r  + 0.3575761f * g + 0.1804375f * b);
+        final float y = forwardXYZ(0.2126729f * r  + 0.7151522f * g + 0.0721750f * b);
+        final float z = forwardXYZ(0.0193339f * r  + 0.1191920f * g + 0.9503041f * b);
+
+        return NumberUtils.intBitsToFloat(
+                Math.min(Math.max((int)((1.16f*y - 0.16f) * 255.999f    ), 0), 255)
+                        | Math.min(Math.max((int)((x - y) * (127.999f * 5f) + 127.5f), 0), 255) << 8
+                        | Math.min(Math.max((int)((y - z) * (127.999f * 2f) + 127.5f), 0), 255) << 16
+                        | (rgba & 0xFE) << 24);
+    }
+
+    private static int cielabToRGBA8888(final float packed) {
+        final int decoded = NumberUtils.floatToRawIntBits(packed);
+        final float L = (1f/1.16f)*((decoded & 0xff) / 255f + 0.16f);
+        final float A = ((decoded >>> 8 & 0xff) - 127.5f) * (0.2f / 127.5f);
+        final float B = ((decoded >>> 16 & 0xff) - 127.5f) * (0.5f / 127.5f);
+        final float x = reverseXYZ(L + A);
+        final float y = reverseXYZ(L);
+        final float z = reverseXYZ(L - B);
+        final int r = (int)(srgbReverseGamma(Math.min(Math.max(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z, 0f), 1f)) * 255.999f);
+        final int g = (int)(srgbReverseGamma(Math.min(Math.max(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z, 0f), 1f)) * 255.999f);
+        final int b = (int)(srgbReverseGamma(Math.min(Math.max(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z, 0f), 1f)) * 255.999f);
+        return r << 24 | g << 16 | b << 8 | (decoded & 0xfe000000) >>> 24 | decoded >>> 31;
+    }
+
+    private static float iptHqFromRGBA8888(final int rgba) {
+        final float r0 = (rgba >>> 24) * 0x1.010101010101p-8f;
+        final float g0 = (rgba >>> 16 & 0xFF) * 0x1.010101010101p-8f;
+        final float b0 = (rgba >>> 8 & 0xFF) * 0x1.010101010101p-8f;
+        final float r = r0 * r0, g = g0 * g0, b = b0 * b0;
+        final float l = (float)Math.pow(0.313921f * r + 0.639468f * g + 0.0465970f * b, 0.43f);
+        final float m = (float)Math.pow(0.151693f * r + 0.748209f * g + 0.1000044f * b, 0.43f);
+        final float s = (float)Math.pow(0.017753f * r + 0.109468f * g + 0.8729690f * b, 0.43f);
+        return NumberUtils.intBitsToFloat(
+                Math.min(Math.max((int)((0.4000f * l + 0.4000f * m + 0.2000f * s       ) * 255.999f), 0), 255)
+                        | Math.min(Math.max((int)((2.2275f * l - 2.4255f * m + 0.1980f * s + 0.5f) * 255.999f), 0), 255) << 8
+                        | Math.min(Math.max((int)((0.4028f * l + 0.1786f * m - 0.5814f * s + 0.5f) * 255.999f), 0), 255) << 16
+                        | (rgba & 0xFE) << 24);
+    }
+
+    private static final float refU = 0.19783000664283f, refV = 0.46831999493879f;
+    private static final float kappa = 9.032962962f;
+
+    private static float hsluvFromRGBA8888(final int rgba) {
+        final float r = srgbForwardGamma((rgba >>> 24) * 0x1.010101010101p-8f);
+        final float g = srgbForwardGamma((rgba >>> 16 & 0xFF) * 0x1.010101010101p-8f);
+        final float b = srgbForwardGamma((rgba >>> 8 & 0xFF) * 0x1.010101010101p-8f);
+
+        final float x = (0.4124564f * r  + 0.3575761f * g + 0.1804375f * b);
+        final float y = (0.2126729f * r  + 0.7151522f * g + 0.0721750f * b);
+        final float z = (0.0193339f * r  + 0.1191920f * g + 0.9503041f * b);
+
+        float L = 1.16f * cbrtPositive(y) - 0.16f, U, V, h, s, l;
+        if (L < 0.00001f) {
+            L = 0;
+            U = 0;
+            V = 0;
+        } else {
+            U = 13 * L * (4 * x / (x + 15 * y + 3 * z) - refU);
+            V = 13 * L * (9 * y / (x + 15 * y + 3 * z) - refV);
+        }
+
+        float C = (float)Math.sqrt(U * U + V * V);
+        h = TrigTools.atan2Turns(V, U);
+
+        if (L > 0.99999f) {
+            s = 0;
+            l = 1;
+        } else if (L < 0.00001f) {
+            s = 0;
+            l = 0;
+        } else {
+            l = com.github.tommyettinger.colorful.hsluv.ColorTools.forwardLight(L);
+            s = Math.min(C / com.github.tommyettinger.colorful.hsluv.ColorTools.chromaLimit(h, l), 1);
+        }
+        return NumberUtils.intBitsToFloat(
+                Math.min(Math.max((int)(h * 255.999f    ), 0), 255)
+                        | Math.min(Math.max((int)(s * 255.999f    ), 0), 255) << 8
+                        | Math.min(Math.max((int)(l * 255.999f    ), 0), 255) << 16
+                        | (rgba & 0xFE) << 24);
+    }
+
+    private static int hsluvToRGBA8888(final float packed) {
+        final int decoded = NumberUtils.floatToRawIntBits(packed);
+        float H = ((decoded & 0xff) / 255f);
+        float S = ((decoded >>> 8 & 0xff) / 255f);
+        float L = com.github.tommyettinger.colorful.hsluv.ColorTools.reverseLight((decoded >>> 16 & 0xff) / 255f);
+
+        float C;
+        if (L > 0.99999f) {
+            L = 1;
+            C = 0;
+        } else if (L < 0.00001f) {
+            L = 0;
+            C = 0;
+        } else
+            C = com.github.tommyettinger.colorful.hsluv.ColorTools.chromaLimit(H, L) * S;
+
+        float U = TrigTools.cosTurns(H) * C;
+        float V = TrigTools.sinTurns(H) * C;
+
+        float x, y, z;
+        if (L < 0.00001f) {
+            return (decoded & 0xfe000000) >>> 24 | decoded >>> 31;
+        } else if(L > 0.9999f) {
+            return 0xFFFFFF00 | (decoded & 0xfe000000) >>> 24 | decoded >>> 31;
+        }else {
+            if (L <= 0.08f)
+                y = L / kappa;
+            else {
+                y = (L + 0.16f) / 1.16f;
+                y *= y * y;
+            }
+            float iL = 1f / (13f * L);
+            float varU = U * iL + refU;
+            float varV = V * iL + refV;
+            x = 9 * varU * y / (4 * varV);
+            z = (3 * y / varV) - x / 3 - 5 * y;
+        }
+        final int r = (int)(srgbReverseGamma(+3.2404542f * x + -1.5371385f * y + -0.4985314f * z) * 255.999f);
+        final int g = (int)(srgbReverseGamma(-0.9692660f * x + +1.8760108f * y + +0.0415560f * z) * 255.999f);
+        final int b = (int)(srgbReverseGamma(+0.0556434f * x + -0.2040259f * y + +1.0572252f * z) * 255.999f);
+        return r << 24 | g << 16 | b << 8 | (decoded & 0xfe000000) >>> 24 | decoded >>> 31;
+    }
+
+    private static float cube(final float x) {
+        return x * x * x;
+    }
+
+    private static float srgbForwardGamma(final float component) {
+        return component < 0.04045f ? component * (1f/12.92f) : (float)Math.pow((component + 0.055f) * (1f/1.055f), 2.4f);
+    }
+
+    private static float srgbReverseGamma(final float component) {
+        return component < 0.0031308f ? component * 12.92f : (float)Math.pow(component, 1f/2.4f) * 1.055f - 0.055f;
+    }
+
+    private static float forwardXYZ(final float t) {
+        return (t < 0.00885645f) ? 7.787037f * t + 0.139731f : cbrtPositive(t);
+    }
+
+    private static float reverseXYZ(final float t) {
+        return (t < 0.20689655f) ? 0.1284185f * (t - 0.139731f) : t * t * t;
+    }
+
+    // Exhaustive checks.
+
+    @Test
+    public void testOklab() {
+        for (int i = 0; i < 0x1000000; i++) {
+            final int rgba = i << 8 | 0xFF;
+            final int expected = NumberUtils.floatToRawIntBits(oklabFromRGBA8888(rgba));
+            final int actual = NumberUtils.floatToRawIntBits(com.github.tommyettinger.colorful.oklab.ColorTools.fromRGBA8888(rgba));
+            if (expected != actual)
+                Assert.fail("fromRGBA8888 differs for " + Integer.toHexString(rgba));
+            final float packed = NumberUtils.intBitsToFloat(0xFE000000 | i);
+            if (oklabToRGBA8888(packed) != com.github.tommyettinger.colorful.oklab.ColorTools.toRGBA8888(packed))
+                Assert.fail("toRGBA8888 differs for " + Integer.toHexString(0xFE000000 | i));
+        }
+    }
+
+    @Test
+    public void testCielab() {
+        for (int i = 0; i < 0x1000000; i++) {
+            final int rgba = i << 8 | 0xFF;
+            final int expected = NumberUtils.floatToRawIntBits(cielabFromRGBA8888(rgba));
+            final int actual = NumberUtils.floatToRawIntBits(com.github.tommyettinger.colorful.cielab.ColorTools.fromRGBA8888(rgba));
+            if (expected != actual)
+                Assert.fail("fromRGBA8888 differs for " + Integer.toHexString(rgba));
+            final float packed = NumberUtils.intBitsToFloat(0xFE000000 | i);
+            if (cielabToRGBA8888(packed) != com.github.tommyettinger.colorful.cielab.ColorTools.toRGBA8888(packed))
+                Assert.fail("toRGBA8888 differs for " + Integer.toHexString(0xFE000000 | i));
+        }
+    }
+
+    @Test
+    public void testIptHq() {
+        for (int i = 0; i < 0x1000000; i++) {
+            final int rgba = i << 8 | 0xFF;
+            final int expected = NumberUtils.floatToRawIntBits(iptHqFromRGBA8888(rgba));
+            final int actual = NumberUtils.floatToRawIntBits(com.github.tommyettinger.colorful.ipt_hq.ColorTools.fromRGBA8888(rgba));
+            if (expected != actual)
+                Assert.fail("fromRGBA8888 differs for " + Integer.toHexString(rgba));
+        }
+    }
+
+    @Test
+    public void testHsluv() {
+        for (int i = 0; i < 0x1000000; i++) {
+            final int rgba = i << 8 | 0xFF;
+            final int expected = NumberUtils.floatToRawIntBits(hsluvFromRGBA8888(rgba));
+            final int actual = NumberUtils.floatToRawIntBits(com.github.tommyettinger.colorful.hsluv.ColorTools.fromRGBA8888(rgba));
+            if (expected != actual)
+                Assert.fail("fromRGBA8888 differs for " + Integer.toHexString(rgba));
+            final float packed = NumberUtils.intBitsToFloat(0xFE000000 | i);
+            if (hsluvToRGBA8888(packed) != com.github.tommyettinger.colorful.hsluv.ColorTools.toRGBA8888(packed))
+                Assert.fail("toRGBA8888 differs for " + Integer.toHexString(0xFE000000 | i));
+        }
+    }
+}
@@ -18,12 +18,12 @@ package com.github.tommyettinger.colorful.cielab;
 
 import com.badlogic.gdx.utils.NumberUtils;
 import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.github.tommyettinger.colorful.TrigTools;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 
 public class BasicChecks {
-    @Ignore
     @Test
     public void testLimitToGamut(){
         Assert.assertEquals(NumberUtils.floatToRawIntBits(ColorTools.limitToGamut(0.5f, 0f, 0f, 1f)),
@@ -37,6 +37,51 @@ public class BasicChecks {
         Assert.assertEquals(NumberUtils.floatToRawIntBits(ColorTools.limitToGamut(0.5f, 0.126f, 0f, 1f)),
                 NumberUtils.floatToRawIntBits(ColorTools.limitToGamut(ColorTools.cielab(0.5f, 0.126f, 0f, 1f))));
     }
+    @Test
+    public void testLimitToGamutTable(){
+        for (int i = 0; i < 0x1000000; i += 3) {
+            final float color = NumberUtils.intBitsToFloat(0xFE000000 | i);
+            final float limited = ColorTools.limitToGamut(color);
+            if(ColorTools.inGamut(color))
+                Assert.assertEquals(NumberUtils.floatToRawIntBits(color), NumberUtils.floatToRawIntBits(limited));
+            else {
+                final int bits = NumberUtils.floatToRawIntBits(color), limitedBits = NumberUtils.floatToRawIntBits(limited);
+                Assert.assertTrue(ColorTools.inGamut(limited));
+                Assert.assertTrue(ColorTools.chroma(limited) <= ColorTools.chroma(color));
+                Assert.assertEquals(bits & 0xFE000000, limitedBits & 0xFE000000);
+                // only in the lightest rows, where gray itself is out of gamut, can L need to go down
+                Assert.assertTrue((limitedBits & 0xFF) <= (bits & 0xFF));
+                if(ColorTools.inGamut(NumberUtils.intBitsToFloat(0xFE7F7F00 | (i & 0xFF))))
+                    Assert.assertEquals(bits & 0xFF, limitedBits & 0xFF);
+            }
+        }
+    }
+
+    @Test
+    public void testLightChromatic(){
+        // gray is out of gamut at this L, but this color, with chroma about 0.42, is in gamut
+        final float bright = NumberUtils.intBitsToFloat(0xFE6C4DEF);
+        Assert.assertTrue(ColorTools.inGamut(bright));
+        Assert.assertFalse(ColorTools.inGamut(NumberUtils.intBitsToFloat(0xFE7F7FEF)));
+        final float maximized = ColorTools.maximizeSaturation(bright);
+        Assert.assertTrue(ColorTools.inGamut(maximized));
+        Assert.assertTrue(ColorTools.chroma(maximized) > 0.4f);
+        Assert.assertEquals(NumberUtils.floatToRawIntBits(bright), NumberUtils.floatToRawIntBits(ColorTools.limitToGamut(bright)));
+        final float hue = TrigTools.atan2Turns((0x6C - 127.5f) * (0.5f / 127.5f), (0x4D - 127.5f) * (0.2f / 127.5f));
+        Assert.assertTrue(ColorTools.chromaLimit(hue, 0xEF / 255f) > 0.1f);
+
+        for (int L = 0xEF; L <= 0xFF; L++) {
+            for (int ab = 0; ab < 0x10000; ab++) {
+                final float color = NumberUtils.intBitsToFloat(0xFE000000 | ab << 8 | L);
+                final float maximized2 = ColorTools.maximizeSaturation(color);
+                Assert.assertTrue(ColorTools.inGamut(maximized2));
+                // an in-gamut color always has some in-gamut color on its hue at its own L
+                if(ColorTools.inGamut(color))
+                    Assert.assertEquals(L, NumberUtils.floatToRawIntBits(maximized2) & 0xFF);
+            }
+        }
+    }
+
     @Ignore
     @Test
     public void testInGamut(){
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.cielab.internal;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.github.tommyettinger.colorful.TrigTools;
+
+/**
+ * A tool, not a demo, used to generate the CIELAB Gamut class, which holds the maximum chroma for each L byte and hue
+ * byte. Each byte of the data is a chroma in units of {@code 0x1.2p-9f} (so 255 would be 0.560302734375), which is as
+ * far as a color can go from gray in the direction of that hue before it leaves the gamut, using the internal A and B
+ * scales of {@code cielab.ColorTools.chromaLimit()}. The limit is found by searching inward from the largest chroma,
+ * because in the lightest rows gray itself is out of gamut while more colorful colors are not. The limit is checked at
+ * both edges of each hue's range and the smaller one is kept, unless one edge has no in-gamut chroma at all. After
+ * rounding down, any entry that would still make {@code limitToGamut()} or {@code maximizeSaturation()} place a color
+ * just outside the gamut, because of rounding its A and B channels, is lowered until it doesn't.
+ */
+public class GamutWriter extends ApplicationAdapter {
+    /**
+     * The chroma that one unit of a raw gamut value represents.
+     */
+    public static final float UNIT = 0x1.2p-9f;
+    /**
+     * The largest chroma this considers, which is the largest the data can hold; it is larger than any chroma the A
+     * and B channels can reach.
+     */
+    public static final float MAX_CHROMA = 255 * UNIT;
+
+    public static void main(String[] arg) {
+        Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
+        config.setTitle("Gamut Data Generator");
+        config.setWindowedMode(320, 320);
+        config.setIdleFPS(1);
+        config.setResizable(false);
+        new Lwjgl3Application(new GamutWriter(), config);
+    }
+
+    public void create() {
+        byte[] all = generate();
+        int largest = 0;
+        for (byte b : all) {
+            largest = Math.max(largest, b & 255);
+        }
+        System.out.println("largest raw value: " + largest + ", or chroma " + largest * UNIT);
+        Gdx.files.local("CIELABGamut.dat").writeBytes(all, false);
+        Gdx.files.local("CIELABGamut.txt").writeString(generateByteString(all), false, "UTF-8");
+        System.out.println("Wrote code snippet to CIELABGamut.txt");
+        Gdx.app.exit();
+    }
+
+    /**
+     * Calculates the gamut data, indexed by {@code L << 8 | hue}.
+     * @return a new 65536-element byte array
+     */
+    public static byte[] generate() {
+        final byte[] all = new byte[65536];
+        final float[] edges = new float[257];
+        for (int light = 0; light < 256; light++) {
+            final float L = (1f/1.16f)*(light / 255f + 0.16f);
+            for (int angle = 0; angle <= 256; angle++) {
+                final double theta = angle * 0x1p-7 * Math.PI;
+                edges[angle] = limit(L, (float) Math.cos(theta), (float) Math.sin(theta));
+            }
+            for (int angle = 0; angle < 256; angle++) {
+                all[light << 8 | angle] = (byte) Math.min((int) (edgeLimit(edges[angle], edges[angle + 1]) / UNIT), 255);
+            }
+        }
+        settle(all);
+        return all;
+    }
+
+    /**
+     * Gets the smaller of two edge limits, unless one of them is 0, meaning that no chroma is in gamut along that edge;
+     * then the other is used, since gray would be out of gamut anyway.
+     */
+    private static float edgeLimit(final float a, final float b) {
+        return a == 0f ? b : b == 0f ? a : Math.min(a, b);
+    }
+
+    /**
+     * Lowers entries in the gamut data until every color that ColorTools would place at the limit, using the same
+     * hue calculation and rounding toward gray that it uses, is in gamut, as long as some lower entry makes it so.
+     * Entries only go down, so this stops once a pass changes nothing.
+     */
+    public static void settle(final byte[] all) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int light = 0; light < 256; light++) {
+                for (int b = 0; b < 256; b++) {
+                    for (int a = 0; a < 256; a++) {
+                        final float hue = TrigTools.atan2Turns((b - 127.5f) * (0.5f / 127.5f),
+                                (a - 127.5f) * (0.2f / 127.5f));
+                        final int idx = light << 8 | ((int) (256f * hue) & 255);
+                        final int raw = all[idx] & 255;
+                        if (placedInGamut(light, hue, raw))
+                            continue;
+                        for (int lower = raw - 1; lower >= 0; lower--) {
+                            if (placedInGamut(light, hue, lower)) {
+                                all[idx] = (byte) lower;
+                                changed = true;
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the color with the given L byte, placed at the chroma {@code raw * UNIT} in the direction of hue the way
+     * {@code cielab.ColorTools.limitToGamut()} places it, is in gamut by the packed {@code inGamut()} check.
+     */
+    private static boolean placedInGamut(final int light, final float hue, final int raw) {
+        final float dist = raw * UNIT;
+        final int a = towardGray(TrigTools.cosTurns(hue) * dist * (127.5f / 0.2f));
+        final int b = towardGray(TrigTools.sinTurns(hue) * dist * (127.5f / 0.5f));
+        final float L = (1f/1.16f)*(light / 255f + 0.16f);
+        final float x = reverseXYZ(L + (a - 127.5f) * (0.2f / 127.5f));
+        final float y = reverseXYZ(L);
+        final float z = reverseXYZ(L - (b - 127.5f) * (0.5f / 127.5f));
+        final float r = +3.2404542f * x + -1.5371385f * y + -0.4985314f * z;
+        if (r <= -0x1p-8f || r >= 0x1.01p0f) return false;
+        final float g = -0.9692660f * x + +1.8760108f * y + +0.0415560f * z;
+        if (g <= -0x1p-8f || g >= 0x1.01p0f) return false;
+        final float bl = +0.0556434f * x + -0.2040259f * y + +1.0572252f * z;
+        return bl > -0x1p-8f && bl < 0x1.01p0f;
+    }
+
+    /**
+     * The same as {@code towardGray()} in ColorTools.
+     */
+    private static int towardGray(final float offset) {
+        return offset >= 0f
+                ? Math.min((int) (offset + 127.5f), 255)
+                : Math.max(255 - (int) (127.5f - offset), 0);
+    }
+
+    /**
+     * Finds how far from gray a color with the adjusted lightness L can go in the direction given by cos and sin
+     * while staying in the gamut. Steps inward from {@link #MAX_CHROMA} in 128 steps until it reaches an in-gamut
+     * color, like the iterative gamut checks in ColorTools used to, then narrows down the boundary by bisection.
+     * Returns 0 if no chroma along this direction is in gamut, which only happens where gray is out of gamut too.
+     */
+    public static float limit(final float L, final float cos, final float sin) {
+        if (inGamut(L, cos * MAX_CHROMA, sin * MAX_CHROMA))
+            return MAX_CHROMA;
+        final float step = MAX_CHROMA * 0x1p-7f;
+        float low = MAX_CHROMA, high;
+        do {
+            high = low;
+            if ((low -= step) <= 0f)
+                return 0f;
+        } while (!inGamut(L, cos * low, sin * low));
+        for (int i = 0; i < 20; i++) {
+            final float mid = (low + high) * 0.5f;
+            if (inGamut(L, cos * mid, sin * mid)) low = mid;
+            else high = mid;
+        }
+        return low;
+    }
+
+    public static float reverseXYZ(final float t) {
+        return (t < 0.20689655f) ? 0.1284185f * (t - 0.139731f) : t * t * t;
+    }
+
+    /**
+     * Like {@code cielab.ColorTools.inGamut(float)}, but with adjusted L and internal A and B, and with no tolerance.
+     */
+    public static boolean inGamut(final float L, final float A, final float B) {
+        final float x = reverseXYZ(L + A);
+        final float y = reverseXYZ(L);
+        final float z = reverseXYZ(L - B);
+        final float r = +3.2404542f * x + -1.5371385f * y + -0.4985314f * z;
+        if (r < 0f || r > 1f) return false;
+        final float g = -0.9692660f * x + +1.8760108f * y + +0.0415560f * z;
+        if (g < 0f || g > 1f) return false;
+        final float b = +0.0556434f * x + -0.2040259f * y + +1.0572252f * z;
+        return b >= 0f && b <= 1f;
+    }
+
+    /**
+     * Given a byte array, this makes the source of a Java class that holds that data in a String, and converts it to
+     * a byte array when loaded. Control characters are written as octal escapes, and other bytes are written as the
+     * Latin-1 char with the same value, so the source should be saved and compiled as UTF-8.
+     * @param data the bytes to use as data
+     * @return the source code of the Gamut class
+     */
+    public static String generateByteString(final byte[] data) {
+        StringBuilder sb = new StringBuilder(data.length * 2 + 2000);
+        sb.append("/*\n" +
+                " * Copyright (c) 2025 See AUTHORS file.\n" +
+                " *\n" +
+                " * Licensed under the Apache License, Version 2.0 (the \"License\");\n" +
+                " * you may not use this file except in compliance with the License.\n" +
+                " * You may obtain a copy of the License at\n" +
+                " *\n" +
+                " *   http://www.apache.org/licenses/LICENSE-2.0\n" +
+                " *\n" +
+                " * Unless required by applicable law or agreed to in writing, software\n" +
+                " * distributed under the License is distributed on an \"AS IS\" BASIS,\n" +
+                " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n" +
+                " * See the License for the specific language governing permissions and\n" +
+                " * limitations under the License.\n" +
+                " */\n" +
+                "\n" +
+                "package com.github.tommyettinger.colorful.cielab;\n" +
+                "\n" +
+                "import java.io.UnsupportedEncodingException;\n" +
+                "\n" +
+                "/**\n" +
+                " * Generated by {@code cielab.internal.GamutWriter} in the tests; each byte is the maximum chroma for an L byte\n" +
+                " * and hue byte, indexed by {@code L << 8 | hue}, in units of {@code 0x1.2p-9f}.\n" +
+                " */\n" +
+                "final class Gamut {\n" +
+                "    private Gamut(){}\n" +
+                "    static byte[] GAMUT_DATA;\n" +
+                "    static {\n" +
+                "        try {\n" +
+                "            //noinspection StringBufferReplaceableByString,CharsetObjectCanBeUsed\n" +
+                "            GAMUT_DATA = new StringBuilder().append(\"");
+        for (int i = 0; i < data.length; ) {
+            final int b = data[i++] & 255;
+            if (b == '\"' || b == '\\')
+                sb.append('\\').append((char) b);
+            else if (b < 32 || (b >= 127 && b < 160))
+                sb.append('\\').append((char) ('0' + (b >>> 6))).append((char) ('0' + (b >>> 3 & 7))).append((char) ('0' + (b & 7)));
+            else
+                sb.append((char) b);
+            if ((i & 0x3FFF) == 0 && i < data.length)
+                sb.append("\").append(\"");
+        }
+        sb.append("\").toString()\n" +
+                "                    .getBytes(\"ISO-8859-1\");\n" +
+                "        } catch (UnsupportedEncodingException ignored) {\n" +
+                "            System.out.println(\"You may ask yourself, 'How did I get here?' Well, there's an encoding problem.\");\n" +
+                "            GAMUT_DATA = new byte[65536];\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n");
+        return sb.toString();
+    }
+}
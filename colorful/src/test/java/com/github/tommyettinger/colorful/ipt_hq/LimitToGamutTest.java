@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.ipt_hq;
+
+import com.badlogic.gdx.utils.NumberUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LimitToGamutTest {
+    @Test
+    public void testLimitToGamut() {
+        for (int i = 0; i < 0x1000000; i += 3) {
+            final float color = NumberUtils.intBitsToFloat(0xFE000000 | i);
+            final float limited = ColorTools.limitToGamut(color);
+            Assert.assertTrue(ColorTools.inGamut(limited));
+            if (ColorTools.inGamut(color))
+                Assert.assertEquals(NumberUtils.floatToRawIntBits(color), NumberUtils.floatToRawIntBits(limited));
+            else {
+                final int bits = NumberUtils.floatToRawIntBits(color), limitedBits = NumberUtils.floatToRawIntBits(limited);
+                Assert.assertEquals(bits & 0xFE000000, limitedBits & 0xFE000000);
+                // only where gray itself is out of gamut, at the darkest and brightest intensities, can intensity move
+                if (ColorTools.inGamut(NumberUtils.intBitsToFloat(0xFE7F7F00 | (bits & 0xFF))))
+                    Assert.assertEquals(bits & 0xFF, limitedBits & 0xFF);
+                final float p = (bits >>> 8 & 0xFF) - 127.5f, t = (bits >>> 16 & 0xFF) - 127.5f;
+                final float lp = (limitedBits >>> 8 & 0xFF) - 127.5f, lt = (limitedBits >>> 16 & 0xFF) - 127.5f;
+                Assert.assertTrue(lp * lp + lt * lt <= p * p + t * t);
+            }
+        }
+    }
+
+    @Test
+    public void testRandomEdit() {
+        for (int i = 0; i < 0x1000000; i += 97) {
+            final float color = ColorTools.limitToGamut(NumberUtils.intBitsToFloat(0xFE000000 | i));
+            final float edited = ColorTools.randomEdit(color, i + 1L, 0.2f);
+            Assert.assertTrue(ColorTools.inGamut(edited));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.ipt_hq.internal;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+
+/**
+ * A tool, not a demo, used to generate the IPT_HQ Gamut class, which holds the maximum chroma for each I byte and hue
+ * byte. Each byte of the data is a chroma in units of {@code 0x1p-8f} (so 255 would be 0.99609375), which is as far as
+ * a color can go from gray in the direction of that hue before it leaves the gamut, with P and T each going from -1 to
+ * 1. The limit is checked at both edges of each hue's range, the smaller one is kept, and then it is rounded down, so
+ * the data should never place a color out of gamut.
+ */
+public class GamutWriter extends ApplicationAdapter {
+    /**
+     * The chroma that one unit of a raw gamut value represents.
+     */
+    public static final float UNIT = 0x1p-8f;
+    /**
+     * The largest chroma this considers; it is larger than any in-gamut chroma.
+     */
+    public static final float MAX_CHROMA = 1.5f;
+
+    public static void main(String[] arg) {
+        Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
+        config.setTitle("Gamut Data Generator");
+        config.setWindowedMode(320, 320);
+        config.setIdleFPS(1);
+        config.setResizable(false);
+        new Lwjgl3Application(new GamutWriter(), config);
+    }
+
+    public void create() {
+        byte[] all = generate();
+        int largest = 0;
+        for (byte b : all) {
+            largest = Math.max(largest, b & 255);
+        }
+        System.out.println("largest raw value: " + largest + ", or chroma " + largest * UNIT);
+        Gdx.files.local("IPTHQGamut.dat").writeBytes(all, false);
+        Gdx.files.local("IPTHQGamut.txt").writeString(generateByteString(all), false, "UTF-8");
+        System.out.println("Wrote code snippet to IPTHQGamut.txt");
+        Gdx.app.exit();
+    }
+
+    /**
+     * Calculates the gamut data, indexed by {@code I << 8 | hue}.
+     * @return a new 65536-element byte array
+     */
+    public static byte[] generate() {
+        final byte[] all = new byte[65536];
+        final float[] edges = new float[257];
+        for (int light = 0; light < 256; light++) {
+            final float L = light / 255f;
+            for (int angle = 0; angle <= 256; angle++) {
+                final double theta = angle * 0x1p-7 * Math.PI;
+                edges[angle] = limit(L, (float) Math.cos(theta), (float) Math.sin(theta));
+            }
+            for (int angle = 0; angle < 256; angle++) {
+                all[light << 8 | angle] = (byte) Math.min((int) (Math.min(edges[angle], edges[angle + 1]) / UNIT), 255);
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Finds how far from gray a color with the intensity L can go in the direction given by cos and sin,
+     * stopping at the first point where it leaves the gamut. Steps outward in 128 steps, like the iterative gamut
+     * checks in ColorTools took 32, then narrows down the boundary by bisection.
+     */
+    public static float limit(final float L, final float cos, final float sin) {
+        if (!inGamut(L, 0f, 0f))
+            return 0f;
+        final float step = MAX_CHROMA * 0x1p-7f;
+        float low = 0f, high = step;
+        while (inGamut(L, cos * high, sin * high)) {
+            low = high;
+            if ((high += step) > MAX_CHROMA)
+                return MAX_CHROMA;
+        }
+        for (int i = 0; i < 20; i++) {
+            final float mid = (low + high) * 0.5f;
+            if (inGamut(L, cos * mid, sin * mid)) low = mid;
+            else high = mid;
+        }
+        return low;
+    }
+
+    public static float reverseTransform(final float component) {
+        return Math.copySign((float)Math.pow(Math.abs(component), 2.3256f), component);
+    }
+
+    /**
+     * The same as {@code ipt_hq.ColorTools.inGamut(float)}, but with P and T from -1 to 1.
+     */
+    public static boolean inGamut(final float i, final float p, final float t) {
+        final float l = reverseTransform(i + 0.097569f * p + 0.205226f * t);
+        final float m = reverseTransform(i + -0.11388f * p + 0.133217f * t);
+        final float s = reverseTransform(i + 0.032615f * p + -0.67689f * t);
+        final float r = 5.432622f * l + -4.67910f * m + 0.246257f * s;
+        if (r < 0f || r > 1f) return false;
+        final float g = -1.10517f * l + 2.311198f * m + -0.20588f * s;
+        if (g < 0f || g > 1f) return false;
+        final float b = 0.028104f * l + -0.19466f * m + 1.166325f * s;
+        return b >= 0f && b <= 1f;
+    }
+
+    /**
+     * Given a byte array, this makes the source of a Java class that holds that data in a String, and converts it to
+     * a byte array when loaded. Control characters are written as octal escapes, and other bytes are written as the
+     * Latin-1 char with the same value, so the source should be saved and compiled as UTF-8.
+     * @param data the bytes to use as data
+     * @return the source code of the Gamut class
+     */
+    public static String generateByteString(final byte[] data) {
+        StringBuilder sb = new StringBuilder(data.length * 2 + 2000);
+        sb.append("/*\n" +
+                " * Copyright (c) 2025 See AUTHORS file.\n" +
+                " *\n" +
+                " * Licensed under the Apache License, Version 2.0 (the \"License\");\n" +
+                " * you may not use this file except in compliance with the License.\n" +
+                " * You may obtain a copy of the License at\n" +
+                " *\n" +
+                " *   http://www.apache.org/licenses/LICENSE-2.0\n" +
+                " *\n" +
+                " * Unless required by applicable law or agreed to in writing, software\n" +
+                " * distributed under the License is distributed on an \"AS IS\" BASIS,\n" +
+                " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n" +
+                " * See the License for the specific language governing permissions and\n" +
+                " * limitations under the License.\n" +
+                " */\n" +
+                "\n" +
+                "package com.github.tommyettinger.colorful.ipt_hq;\n" +
+                "\n" +
+                "import java.io.UnsupportedEncodingException;\n" +
+                "\n" +
+                "/**\n" +
+                " * Generated by {@code ipt_hq.internal.GamutWriter} in the tests; each byte is the maximum chroma for an I byte\n" +
+                " * and hue byte, indexed by {@code I << 8 | hue}, in units of {@code 0x1p-8f}.\n" +
+                " */\n" +
+                "final class Gamut {\n" +
+                "    private Gamut(){}\n" +
+                "    static byte[] GAMUT_DATA;\n" +
+                "    static {\n" +
+                "        try {\n" +
+                "            //noinspection StringBufferReplaceableByString,CharsetObjectCanBeUsed\n" +
+                "            GAMUT_DATA = new StringBuilder().append(\"");
+        for (int i = 0; i < data.length; ) {
+            final int b = data[i++] & 255;
+            if (b == '\"' || b == '\\')
+                sb.append('\\').append((char) b);
+            else if (b < 32 || (b >= 127 && b < 160))
+                sb.append('\\').append((char) ('0' + (b >>> 6))).append((char) ('0' + (b >>> 3 & 7))).append((char) ('0' + (b & 7)));
+            else
+                sb.append((char) b);
+            if ((i & 0x3FFF) == 0 && i < data.length)
+                sb.append("\").append(\"");
+        }
+        sb.append("\").toString()\n" +
+                "                    .getBytes(\"ISO-8859-1\");\n" +
+                "        } catch (UnsupportedEncodingException ignored) {\n" +
+                "            System.out.println(\"You may ask yourself, 'How did I get here?' Well, there's an encoding problem.\");\n" +
+                "            GAMUT_DATA = new byte[65536];\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.oklab;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.NumberUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class ColorPipelineTest {
+    /**
+     * Checks that each byte channel of expected and actual differs by at most tolerance, with alpha compared in its
+     * 7-bit form.
+     */
+    private static void assertClose(float expected, float actual, int tolerance) {
+        final int e = NumberUtils.floatToRawIntBits(expected), a = NumberUtils.floatToRawIntBits(actual);
+        for (int shift = 0; shift < 24; shift += 8) {
+            Assert.assertEquals(Integer.toHexString(e) + " vs. " + Integer.toHexString(a),
+                    e >>> shift & 255, a >>> shift & 255, tolerance);
+        }
+        Assert.assertEquals(e >>> 25, a >>> 25, tolerance);
+    }
+
+    private static float randomInGamut(Random random) {
+        float color;
+        do {
+            color = ColorTools.oklab(random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat());
+        } while (!ColorTools.inGamut(color));
+        return color;
+    }
+
+    @Test
+    public void testSingleEdits() {
+        Random random = new Random(1234L);
+        for (int i = 0; i < 1000; i++) {
+            final float color = randomInGamut(random), change = random.nextFloat();
+            assertClose(ColorTools.lighten(color, change), new ColorPipeline().lighten(change).apply(color), 1);
+            assertClose(ColorTools.darken(color, change), new ColorPipeline().darken(change).apply(color), 1);
+            assertClose(ColorTools.raiseA(color, change), new ColorPipeline().raiseA(change).apply(color), 1);
+            assertClose(ColorTools.lowerA(color, change), new ColorPipeline().lowerA(change).apply(color), 1);
+            assertClose(ColorTools.raiseB(color, change), new ColorPipeline().raiseB(change).apply(color), 1);
+            assertClose(ColorTools.lowerB(color, change), new ColorPipeline().lowerB(change).apply(color), 1);
+            assertClose(ColorTools.blot(color, change), new ColorPipeline().blot(change).apply(color), 1);
+            assertClose(ColorTools.fade(color, change), new ColorPipeline().fade(change).apply(color), 1);
+            assertClose(ColorTools.dullen(color, change), new ColorPipeline().dullen(change).apply(color), 1);
+            assertClose(ColorTools.enrich(color, change), new ColorPipeline().enrich(change).apply(color), 2);
+            Assert.assertEquals(color, new ColorPipeline().limitToGamut().apply(color), 0f);
+            Assert.assertEquals(color, new ColorPipeline().apply(color), 0f);
+        }
+    }
+
+    @Test
+    public void testChains() {
+        Random random = new Random(5678L);
+        ColorPipeline pipeline = new ColorPipeline().lighten(0.2f).raiseA(0.1f).dullen(0.3f).fade(0.25f)
+                .enrich(0.4f).darken(0.1f).lowerB(0.05f).limitToGamut();
+        for (int i = 0; i < 1000; i++) {
+            final float color = randomInGamut(random);
+            final float chained = ColorTools.limitToGamut(ColorTools.lowerB(ColorTools.darken(ColorTools.enrich(
+                    ColorTools.fade(ColorTools.dullen(ColorTools.raiseA(ColorTools.lighten(color, 0.2f), 0.1f),
+                            0.3f), 0.25f), 0.4f), 0.1f), 0.05f));
+            final float piped = pipeline.apply(color);
+            Assert.assertTrue(ColorTools.inGamut(piped));
+            assertClose(chained, piped, 3);
+        }
+    }
+
+    @Test
+    public void testBulk() {
+        Random random = new Random(9012L);
+        ColorPipeline pipeline = new ColorPipeline().enrich(0.5f).lighten(0.1f).blot(0.5f);
+        float[] colors = new float[500];
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = randomInGamut(random);
+        }
+        float[] edited = pipeline.apply(colors.clone(), 100, 300);
+        FloatArray array = pipeline.apply(new FloatArray(colors));
+        for (int i = 0; i < colors.length; i++) {
+            final float expected = pipeline.apply(colors[i]);
+            Assert.assertEquals(i >= 100 && i < 400 ? expected : colors[i], edited[i], 0f);
+            Assert.assertEquals(expected, array.get(i), 0f);
+        }
+
+        ColorPipeline copy = new ColorPipeline(pipeline).darken(0.5f);
+        Assert.assertEquals(colors[0], pipeline.clear().apply(colors[0]), 0f);
+        Assert.assertEquals(ColorTools.darken(array.get(0), 0.5f), copy.apply(colors[0]), 0f);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.oklab;
+
+import com.badlogic.gdx.utils.NumberUtils;
+import com.github.tommyettinger.colorful.TrigTools;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static com.github.tommyettinger.colorful.oklab.ColorTools.getRawGamutValue;
+import static com.github.tommyettinger.colorful.oklab.ColorTools.oklab;
+
+/**
+ * Checks the gamut methods that look up their hue in a table against copies that call
+ * {@link TrigTools#atan2Turns(float, float)}, as they did before, for every L, A, and B byte.
+ */
+public class GamutHueTableTest {
+
+    private static boolean inGamut(final float packed) {
+        final int decoded = NumberUtils.floatToRawIntBits(packed);
+        final float A = ((decoded >>> 8 & 0xff) - 127f) / 255f;
+        final float B = ((decoded >>> 16 & 0xff) - 127f) / 255f;
+        final float g = getRawGamutValue((decoded & 0xff) << 8 | (int)(256f * TrigTools.atan2Turns(B, A)));
+        return g * g * 0x1p-18 + 0x1p-14 >= (A * A + B * B);
+    }
+
+    private static boolean inGamut(float L, float A, float B) {
+        A = ((int) (A * 255) - 127f) / 255f;
+        B = ((int) (B * 255) - 127f) / 255f;
+        final float g = getRawGamutValue(((int) (L * 255) & 0xFF) << 8 | (int)(256f * TrigTools.atan2Turns(B, A)));
+        return L >= 0f && L <= 1f && g * g * 0x1p-18 + 0x1p-14 >= (A * A + B * B);
+    }
+
+    private static float limitToGamut(final float packed) {
+        final int decoded = NumberUtils.floatToRawIntBits(packed);
+        final float A = ((decoded >>> 8 & 0xff) - 127f);
+        final float B = ((decoded >>> 16 & 255) - 127f);
+        final float hue = TrigTools.atan2Turns(B, A);
+        final int idx = (decoded & 0xff) << 8 | (int) (256f * hue);
+        final float dist = getRawGamutValue(idx) * 0.5f;
+        if (dist * dist >= (A * A + B * B))
+            return packed;
+        return NumberUtils.intBitsToFloat(
+                (decoded & 0xFE0000FF) |
+                        (int) (TrigTools.sinTurns(hue) * dist + 127.5f) << 16 |
+                        (int) (TrigTools.cosTurns(hue) * dist + 127.5f) << 8
+        );
+    }
+
+    private static float limitToGamut(float L, float A, float B, float alpha) {
+        L = Math.min(Math.max(L, 0f), 1f);
+        A = Math.min(Math.max(A, 0f), 1f);
+        B = Math.min(Math.max(B, 0f), 1f);
+        alpha = Math.min(Math.max(alpha, 0f), 1f);
+        final float A2 = ((int) (A * 255) - 127f) / 255f;
+        final float B2 = ((int) (B * 255) - 127f) / 255f;
+        final float hue = TrigTools.atan2Turns(B2, A2);
+        final int idx = (int) (L * 255f) << 8 | (int)(256f * hue);
+        final float dist = getRawGamutValue(idx) * 0.5f;
+        if(dist * dist * 0x1p-16f >= (A2 * A2 + B2 * B2))
+            return oklab(L, A, B, alpha);
+        return NumberUtils.intBitsToFloat(
+                (int) (alpha * 127.999f) << 25 |
+                        (int) (TrigTools.sinTurns(hue) * dist + 127.5f) << 16 |
+                        (int) (TrigTools.cosTurns(hue) * dist + 127.5f) << 8 |
+                        (int) (L * 255f));
+    }
+
+    private static float oklabSaturation(final float packed) {
+        final int decoded = NumberUtils.floatToRawIntBits(packed);
+        final float A = ((decoded >>> 8 & 0xff) - 127f);
+        final float B = ((decoded >>> 16 & 255) - 127f);
+        final float hue = TrigTools.atan2Turns(B, A);
+        final int idx = (decoded & 0xff) << 8 | (int) (256f * hue);
+        final float dist = getRawGamutValue(idx);
+        return dist <= 2.5f ? 0f : (float) Math.sqrt(A * A + B * B) * 2f / (dist);
+    }
+
+    @Test
+    public void testPacked() {
+        for (int i = 0; i < 0x1000000; i++) {
+            final float packed = NumberUtils.intBitsToFloat(0xFE000000 | i);
+            if (inGamut(packed) != ColorTools.inGamut(packed))
+                Assert.fail("inGamut differs for " + Integer.toHexString(0xFE000000 | i));
+            if (NumberUtils.floatToRawIntBits(limitToGamut(packed))
+                    != NumberUtils.floatToRawIntBits(ColorTools.limitToGamut(packed)))
+                Assert.fail("limitToGamut differs for " + Integer.toHexString(0xFE000000 | i));
+            if (NumberUtils.floatToRawIntBits(oklabSaturation(packed))
+                    != NumberUtils.floatToRawIntBits(ColorTools.oklabSaturation(packed)))
+                Assert.fail("oklabSaturation differs for " + Integer.toHexString(0xFE000000 | i));
+        }
+    }
+
+    @Test
+    public void testChannels() {
+        for (int i = 0; i < 0x1000000; i++) {
+            final float L = (i & 0xff) / 255f, A = (i >>> 8 & 0xff) / 255f, B = (i >>> 16) / 255f;
+            if (inGamut(L, A, B) != ColorTools.inGamut(L, A, B))
+                Assert.fail("inGamut differs for " + L + ", " + A + ", " + B);
+            if (NumberUtils.floatToRawIntBits(limitToGamut(L, A, B, 1f))
+                    != NumberUtils.floatToRawIntBits(ColorTools.limitToGamut(L, A, B, 1f)))
+                Assert.fail("limitToGamut differs for " + L + ", " + A + ", " + B);
+        }
+        // values outside the 0 to 1 range take the slower path in inGamut(), but must still agree
+        for (int i = -300; i <= 300; i++) {
+            final float A = i / 255f;
+            for (int j = -300; j <= 300; j += 3) {
+                final float B = j / 255f;
+                if (inGamut(0.5f, A, B) != ColorTools.inGamut(0.5f, A, B))
+                    Assert.fail("inGamut differs for 0.5, " + A + ", " + B);
+                if (NumberUtils.floatToRawIntBits(limitToGamut(0.5f, A, B, 1f))
+                        != NumberUtils.floatToRawIntBits(ColorTools.limitToGamut(0.5f, A, B, 1f)))
+                    Assert.fail("limitToGamut differs for 0.5, " + A + ", " + B);
+            }
+        }
+    }
+}
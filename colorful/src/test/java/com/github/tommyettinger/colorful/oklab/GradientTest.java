@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.oklab;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.github.tommyettinger.colorful.PixmapColorConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class GradientTest {
+    private static final float[] STOPS = {Palette.RED, Palette.YELLOW, Palette.CYAN, Palette.PURPLE, Palette.BLACK};
+
+    @Test
+    public void testMatchesGradientTools() {
+        final int steps = 500;
+        // this reaches the last stop halfway through, where GradientTools still blends just short of it
+        final Interpolation early = new Interpolation() {
+            @Override
+            public float apply(float a) {
+                return Math.min(a * 2f, 1f);
+            }
+        };
+        for (Interpolation interpolation : new Interpolation[]{Interpolation.linear, Interpolation.smooth,
+                Interpolation.circle, early}) {
+            FloatArray chain = GradientTools.appendGradientChain(new FloatArray(), steps, interpolation, STOPS);
+            Gradient gradient = new Gradient(interpolation, STOPS);
+            // GradientTools adds 1f / steps each time, so this does the same to sample at the same points
+            float change = 0f;
+            for (int i = 0; i < steps - 1; i++) {
+                Assert.assertEquals(chain.get(i), gradient.sample(change), 0f);
+                change += 1f / steps;
+            }
+            Assert.assertEquals(chain.peek(), gradient.sample(1f), 0f);
+        }
+        Assert.assertEquals(STOPS[0], new Gradient(STOPS).sample(-1f), 0f);
+        Assert.assertEquals(STOPS[4], new Gradient(STOPS).sample(2f), 0f);
+        Assert.assertEquals(Palette.GREEN, new Gradient(Palette.GREEN).sample(0.5f), 0f);
+        Assert.assertEquals(new Gradient(STOPS).sample(0f), new Gradient(STOPS).sample(Float.NaN), 0f);
+    }
+
+    @Test
+    public void testBaked() {
+        Gradient gradient = new Gradient(Interpolation.smooth, new FloatArray(STOPS)).bake(1024);
+        Assert.assertEquals(1024, gradient.getResolution());
+        Random random = new Random(123L);
+        float[] ts = new float[2000], bulk = new float[2000];
+        for (int i = 0; i < ts.length; i++) {
+            ts[i] = random.nextFloat();
+        }
+        gradient.sample(ts, bulk);
+        for (int i = 0; i < ts.length; i++) {
+            final float baked = gradient.sample(ts[i]);
+            Assert.assertEquals(baked, bulk[i], 0f);
+            // nearest-sample lookup is never more than half a table step from the exact color
+            Assert.assertTrue(ColorTools.distanceSquared(baked, gradient.calculate(ts[i])) < 0.002f);
+        }
+        Assert.assertEquals(STOPS[0], gradient.sample(0f), 0f);
+        Assert.assertEquals(STOPS[4], gradient.sample(1f), 0f);
+
+        gradient.bake(0);
+        Assert.assertEquals(0, gradient.getResolution());
+        gradient.sample(ts, 100, bulk, 0, 50);
+        for (int i = 0; i < 50; i++) {
+            Assert.assertEquals(gradient.calculate(ts[i + 100]), bulk[i], 0f);
+        }
+    }
+
+    @Test
+    public void testRamp() {
+        Gradient gradient = new Gradient(Interpolation.smooth, STOPS);
+        int[] rgba = gradient.toRGBA8888(new int[260], 4, 256);
+        int[] packed = gradient.toPackedPixels(new int[256], 0, 256);
+        for (int i = 0; i < 256; i++) {
+            final float color = gradient.sample(i / 255f);
+            Assert.assertEquals(ColorTools.toRGBA8888(color), rgba[i + 4]);
+            Assert.assertEquals(color, PixmapColorConverter.pixelToPacked(packed[i]), 0f);
+        }
+        Assert.assertEquals(ColorTools.toRGBA8888(STOPS[0]), rgba[4]);
+        Assert.assertEquals(ColorTools.toRGBA8888(STOPS[4]), rgba[259]);
+
+        Assert.assertEquals(PixmapColorConverter.packedToPixel(STOPS[0]),
+                new Gradient(STOPS).toPackedPixels(new int[1], 0, 1)[0]);
+    }
+
+    @Test
+    public void testPixmap() {
+        // Pixmap stores its pixels in native memory, so this needs the desktop natives but no application
+        GdxNativesLoader.load();
+        Gradient gradient = new Gradient(Interpolation.smooth, STOPS);
+        int[] rgba = gradient.toRGBA8888(new int[256], 0, 256);
+        int[] packed = gradient.toPackedPixels(new int[256], 0, 256);
+        Pixmap pixmap = gradient.toPixmap(256, true);
+        Pixmap packedPixmap = gradient.toPixmap(256, false);
+        Assert.assertEquals(256, pixmap.getWidth());
+        Assert.assertEquals(1, pixmap.getHeight());
+        Assert.assertEquals(Pixmap.Format.RGBA8888, pixmap.getFormat());
+        for (int i = 0; i < 256; i++) {
+            Assert.assertEquals(rgba[i], pixmap.getPixel(i, 0));
+            Assert.assertEquals(packed[i], packedPixmap.getPixel(i, 0));
+            Assert.assertEquals(packed[i], PixmapColorConverter.pixelView(packedPixmap).get(i));
+        }
+        // the view must not move the Pixmap's own buffer
+        Assert.assertEquals(0, pixmap.getPixels().position());
+        pixmap.dispose();
+        packedPixmap.dispose();
+    }
+
+    @Test
+    public void testInvalid() {
+        try {
+            new Gradient();
+            Assert.fail("A gradient with no stops should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new Gradient(null, STOPS);
+            Assert.fail("A null Interpolation should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new Gradient(STOPS).bake(1);
+            Assert.fail("A resolution of 1 should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new Gradient(STOPS).sample(new float[10], new float[5]);
+            Assert.fail("Too small an output array should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new Gradient(STOPS).toRGBA8888(new int[10], 5, 6);
+            Assert.fail("Too small a pixel array should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.oklab;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.utils.FloatArray;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GradientToolsTest {
+    private static final float[] STOPS = {Palette.RED, Palette.YELLOW, Palette.CYAN, Palette.PURPLE, Palette.BLACK};
+
+    @Test
+    public void testArrayMatchesFloatArray() {
+        for (int steps : new int[]{0, 1, 2, 7, 300}) {
+            FloatArray expected = GradientTools.appendGradientChain(new FloatArray(), steps, Interpolation.smooth,
+                    STOPS);
+            float[] actual = new float[steps + 3];
+            Assert.assertEquals(3 + expected.size,
+                    GradientTools.appendGradientChain(actual, 3, steps, Interpolation.smooth, STOPS));
+            for (int i = 0; i < expected.size; i++) {
+                Assert.assertEquals(expected.get(i), actual[i + 3], 0f);
+            }
+
+            expected = GradientTools.appendGradient(new FloatArray(), Palette.RED, Palette.BLUE, steps);
+            actual = new float[steps];
+            Assert.assertEquals(expected.size,
+                    GradientTools.appendGradient(actual, 0, Palette.RED, Palette.BLUE, steps));
+            for (int i = 0; i < expected.size; i++) {
+                Assert.assertEquals(expected.get(i), actual[i], 0f);
+            }
+        }
+    }
+
+    @Test
+    public void testRGBA8888() {
+        final int steps = 64;
+        float[] floats = new float[steps];
+        int[] ints = new int[steps];
+        int end = GradientTools.appendGradientChain(floats, 0, steps, Interpolation.circle, STOPS);
+        Assert.assertEquals(end, GradientTools.appendGradientChain(ints, 0, steps, Interpolation.circle, STOPS));
+        for (int i = 0; i < steps; i++) {
+            Assert.assertEquals(ColorTools.toRGBA8888(floats[i]), ints[i]);
+        }
+        end = GradientTools.appendGradient(floats, 0, Palette.WHITE, Palette.RED, steps, Interpolation.smooth);
+        Assert.assertEquals(end,
+                GradientTools.appendGradient(ints, 0, Palette.WHITE, Palette.RED, steps, Interpolation.smooth));
+        for (int i = 0; i < steps; i++) {
+            Assert.assertEquals(ColorTools.toRGBA8888(floats[i]), ints[i]);
+        }
+    }
+
+    @Test
+    public void testNoRoom() {
+        try {
+            GradientTools.appendGradientChain(new float[10], 5, 6, Interpolation.linear, STOPS);
+            Assert.fail("Writing past the end of appending should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            GradientTools.appendGradient(new int[10], -1, Palette.RED, Palette.BLUE, 4, Interpolation.linear);
+            Assert.fail("A negative offset should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.oklab;
+
+import com.badlogic.gdx.utils.FloatArray;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class PaletteBuilderTest {
+    private static float minimumDistance(FloatArray palette, int start) {
+        float min = Float.POSITIVE_INFINITY;
+        for (int i = start; i < palette.size; i++) {
+            for (int j = 0; j < i; j++) {
+                min = Math.min(min, ColorTools.distanceSquared(palette.get(i), palette.get(j)));
+            }
+        }
+        return min;
+    }
+
+    @Test
+    public void testReproducible() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            FloatArray a = new PaletteBuilder(123L).build(300);
+            FloatArray b = new PaletteBuilder(123L, single).build(300);
+            FloatArray c = new PaletteBuilder(123L).setCandidates(16).build(300);
+            FloatArray d = new PaletteBuilder(123L, single).setCandidates(16).build(300);
+            Assert.assertEquals(300, a.size);
+            Assert.assertArrayEquals(a.toArray(), b.toArray(), 0f);
+            Assert.assertArrayEquals(c.toArray(), d.toArray(), 0f);
+            Assert.assertFalse(Arrays.equals(a.toArray(), new PaletteBuilder(124L).build(300).toArray()));
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    public void testDistinct() {
+        final int count = 200;
+        FloatArray palette = new PaletteBuilder(-1L).build(count);
+        for (int i = 0; i < count; i++) {
+            final float color = palette.get(i);
+            Assert.assertTrue(ColorTools.inGamut(color));
+            Assert.assertEquals(254, ColorTools.alphaInt(color));
+        }
+        // the same number of random in-gamut colors should be much closer together
+        Random random = new Random(-1L);
+        FloatArray randomPalette = new FloatArray(count);
+        while (randomPalette.size < count) {
+            final float color = ColorTools.oklab(random.nextFloat(), random.nextFloat(), random.nextFloat(), 1f);
+            if (ColorTools.inGamut(color))
+                randomPalette.add(color);
+        }
+        Assert.assertTrue(minimumDistance(palette, 1) > 4f * minimumDistance(randomPalette, 1));
+    }
+
+    @Test
+    public void testExtend() {
+        FloatArray palette = new FloatArray(SimplePalette.LIST);
+        final int existing = palette.size;
+        new PaletteBuilder().setLightnessRange(0.25f, 0.75f).extend(palette, 50);
+        Assert.assertEquals(existing + 50, palette.size);
+        for (int i = 0; i < existing; i++) {
+            Assert.assertEquals(SimplePalette.LIST.get(i), palette.get(i), 0f);
+        }
+        for (int i = existing; i < palette.size; i++) {
+            final float L = ColorTools.channelL(palette.get(i));
+            Assert.assertTrue(L >= 0.25f && L <= 0.75f);
+        }
+        // new colors are kept away from the existing ones, not just from each other
+        Assert.assertTrue(minimumDistance(palette, existing) > 0.0005f);
+    }
+
+    @Test
+    public void testInvalid() {
+        PaletteBuilder builder = new PaletteBuilder();
+        try {
+            builder.build(-1);
+            Assert.fail("A negative count should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            builder.extend(null, 1);
+            Assert.fail("A null palette should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            builder.setCandidates(0);
+            Assert.fail("Fewer than 1 candidate should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            builder.setLightnessRange(0.6f, 0.4f);
+            Assert.fail("An empty lightness range should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+        Assert.assertEquals(0, builder.build(0).size);
+    }
+}
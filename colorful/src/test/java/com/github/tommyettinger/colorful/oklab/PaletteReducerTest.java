@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.colorful.oklab;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.github.tommyettinger.colorful.ParallelImageProcessor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+
+public class PaletteReducerTest {
+    /**
+     * Finds the index of the opaque color in Palette.LIST closest to rgba, with ties going to the lower index.
+     */
+    private static int bruteForce(int rgba) {
+        final float oklab = ColorTools.fromRGBA8888(rgba);
+        int best = -1;
+        float bestDistance = Float.POSITIVE_INFINITY;
+        for (int i = 0; i < Palette.LIST.size; i++) {
+            final float color = Palette.LIST.get(i);
+            if (ColorTools.alphaInt(color) < 128) continue;
+            final float distance = ColorTools.distanceSquared(oklab, color);
+            if (distance < bestDistance) {
+                best = i;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    @Test
+    public void testTable() {
+        PaletteReducer reducer = new PaletteReducer();
+        for (int c = 0; c < 32768; c++) {
+            final int r = c >>> 10, g = c >>> 5 & 31, b = c & 31;
+            final int rgba = (r << 3 | r >>> 2) << 24 | (g << 3 | g >>> 2) << 16 | (b << 3 | b >>> 2) << 8 | 255;
+            Assert.assertEquals(Integer.toHexString(rgba), bruteForce(rgba), reducer.paletteIndex(rgba));
+        }
+        Assert.assertEquals(-1, reducer.paletteIndex(0xFFFFFF7F));
+        Assert.assertEquals(0, reducer.reduce(0xFFFFFF7F));
+    }
+
+    @Test
+    public void testReduce() {
+        PaletteReducer reducer = new PaletteReducer(Palette.LIST, new ParallelImageProcessor(1000));
+        Random random = new Random(123L);
+        final int width = 123, height = 77;
+        int[] pixels = new int[width * height];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+        HashSet<Integer> colors = new HashSet<>();
+        for (int i = 0; i < Palette.LIST.size; i++) {
+            colors.add(ColorTools.toRGBA8888(Palette.LIST.get(i)));
+        }
+        int[] solid = reducer.reduceSolid(pixels.clone(), width, height);
+        int[] ordered = reducer.reduceOrdered(pixels.clone(), width, height);
+        int[] diffused = reducer.reduceDiffusion(pixels.clone(), width, height);
+        for (int i = 0; i < pixels.length; i++) {
+            Assert.assertEquals(reducer.reduce(pixels[i]), solid[i]);
+            if ((pixels[i] & 0x80) == 0) {
+                Assert.assertEquals(0, ordered[i]);
+                Assert.assertEquals(0, diffused[i]);
+            } else {
+                Assert.assertTrue(colors.contains(ordered[i]));
+                Assert.assertTrue(colors.contains(diffused[i]));
+            }
+        }
+
+        // with no dithering, both kinds of dither give the same result as solid reduction
+        reducer.setDitherStrength(0f);
+        Assert.assertArrayEquals(solid, reducer.reduceOrdered(pixels.clone(), width, height));
+        Assert.assertArrayEquals(solid, reducer.reduceDiffusion(pixels.clone(), width, height));
+    }
+
+    @Test
+    public void testDiffusionKeepsAverage() {
+        // a flat gray that isn't in the palette should be dithered between palette colors, keeping its average
+        PaletteReducer reducer = new PaletteReducer(Palette.LIST);
+        final int width = 64, height = 64, gray = 0x6B6B6BFF;
+        int[] pixels = new int[width * height];
+        Arrays.fill(pixels, gray);
+        reducer.reduceDiffusion(pixels, width, height);
+        long sum = 0;
+        for (int p : pixels) {
+            sum += (p >>> 24) + (p >>> 16 & 255) + (p >>> 8 & 255);
+        }
+        Assert.assertEquals(0x6B, sum / (3.0 * pixels.length), 2.0);
+    }
+
+    @Test
+    public void testNoOpaqueColors() {
+        try {
+            new PaletteReducer(new FloatArray(new float[]{Palette.TRANSPARENT}));
+            Assert.fail("A palette with no opaque colors should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}